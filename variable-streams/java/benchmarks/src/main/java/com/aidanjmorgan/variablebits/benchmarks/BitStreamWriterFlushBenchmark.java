@@ -0,0 +1,59 @@
+package com.aidanjmorgan.variablebits.benchmarks;
+
+import com.aidanjmorgan.variablebits.BitStreamWriter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures small messages that are written and flushed one at a time, as a request/response
+ * encoder does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BitStreamWriterFlushBenchmark {
+
+    /**
+     * The writer buffer capacity in bytes.
+     */
+    @Param({"4096", "1048576"})
+    public int capacity;
+
+    /**
+     * The number of 12-bit fields in each message.
+     */
+    @Param({"8", "64"})
+    public int fieldsPerMessage;
+
+    private BitStreamWriter writer;
+
+    @Setup
+    public void setUp() {
+        writer = new BitStreamWriter(OutputStream.nullOutputStream(), capacity);
+    }
+
+    @Benchmark
+    public BitStreamWriter writeAndFlushMessage() {
+        for (int i = 0; i < fieldsPerMessage; i++) {
+            writer.writeBits(i, (byte)12);
+        }
+        writer.flush();
+        return writer;
+    }
+}
@@ -0,0 +1,92 @@
+package com.aidanjmorgan.variablebits.benchmarks;
+
+import com.aidanjmorgan.variablebits.BitStream;
+import com.aidanjmorgan.variablebits.BitStreamReader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures decoding a column of fixed-width values, one value per call and in bulk.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkDecodeBenchmark {
+
+    /**
+     * The number of values in the column.
+     */
+    private static final int VALUE_COUNT = 65536;
+
+    /**
+     * The width of each value in bits.
+     */
+    @Param({"3", "12", "27"})
+    public byte bitCount;
+
+    private BitStream bitStream;
+
+    private byte[] data;
+
+    private int[] values;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        bitStream = new BitStream();
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            bitStream.writeBits(random.nextLong(), bitCount);
+        }
+        data = bitStream.toByteArray();
+        values = new int[VALUE_COUNT];
+    }
+
+    @Benchmark
+    public int[] bitStreamSingleReads() {
+        bitStream.setPosition(0);
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            values[i] = (int) bitStream.readBits(bitCount);
+        }
+        return values;
+    }
+
+    @Benchmark
+    public int[] bitStreamBulkRead() {
+        bitStream.setPosition(0);
+        bitStream.readBits(values, 0, VALUE_COUNT, bitCount);
+        return values;
+    }
+
+    @Benchmark
+    public int[] readerSingleReads() {
+        BitStreamReader reader = new BitStreamReader(new ByteArrayInputStream(data), 65536);
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            values[i] = (int) reader.readBits(bitCount);
+        }
+        return values;
+    }
+
+    @Benchmark
+    public int[] readerBulkRead() {
+        BitStreamReader reader = new BitStreamReader(new ByteArrayInputStream(data), 65536);
+        reader.readBits(values, 0, VALUE_COUNT, bitCount);
+        return values;
+    }
+}
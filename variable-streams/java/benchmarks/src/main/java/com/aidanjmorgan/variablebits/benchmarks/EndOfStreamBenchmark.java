@@ -0,0 +1,75 @@
+package com.aidanjmorgan.variablebits.benchmarks;
+
+import com.aidanjmorgan.variablebits.BitStream;
+import com.aidanjmorgan.variablebits.BitStreamException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures short messages that are decoded by reading fields until the end of stream exception,
+ * with and without the shared, stackless exceptions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EndOfStreamBenchmark {
+
+    /**
+     * The number of 12-bit fields in each message.
+     */
+    @Param({"4", "32"})
+    public int fieldsPerMessage;
+
+    private BitStream message;
+
+    @Setup
+    public void setUp() {
+        message = new BitStream();
+        for (int i = 0; i < fieldsPerMessage; i++) {
+            message.writeBits(i, (byte)12);
+        }
+    }
+
+    @Benchmark
+    @Fork(1)
+    public long readUntilEndOfStream() {
+        return readMessage();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-D" + BitStreamException.STACKLESS_PROPERTY + "=true")
+    public long readUntilEndOfStreamStackless() {
+        return readMessage();
+    }
+
+    /**
+     * Reads the message one field at a time until the stream runs out.
+     *
+     * @return The sum of the fields.
+     */
+    private long readMessage() {
+        message.setPosition(0);
+        long sum = 0;
+        try {
+            while (true) {
+                sum += message.readBits((byte)12);
+            }
+        } catch (BitStreamException e) {
+            return sum + e.getErrorType().ordinal();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.aidanjmorgan.variablebits;
+
+/**
+ * The order in which the bits of values are packed into bytes.
+ */
+public enum BitOrder {
+    /**
+     * The first bit of the stream is the least significant bit of the first byte, and each value
+     * is written least significant bit first. This is the default.
+     */
+    LSB_FIRST,
+
+    /**
+     * The first bit of the stream is the most significant bit of the first byte, and each value
+     * is written most significant bit first, as in H.264, JPEG, MPEG-TS and most network
+     * protocol headers.
+     */
+    MSB_FIRST
+}
@@ -0,0 +1,12657 @@
+// This file has been automatically generated by src/main/python/gen_bit_packing.py, DO NOT EDIT
+
+package com.aidanjmorgan.variablebits;
+
+/**
+ * Width-specialised kernels that pack and unpack blocks of 64 values in the LSB-first layout.
+ * A block of 64 values that are each {@code bitCount} bits wide occupies exactly
+ * {@code bitCount} 64-bit words, value {@code j} in bits {@code [j * bitCount, (j + 1) * bitCount)}.
+ */
+final class BitPacking {
+
+    /**
+     * The number of values in a block.
+     */
+    static final int BLOCK_SIZE = 64;
+
+    private BitPacking() {
+    }
+
+    /**
+     * Unpacks a block of 64 values.
+     *
+     * @param words The packed block, {@code bitCount} words starting at {@code wordOffset}.
+     * @param wordOffset The index of the first packed word.
+     * @param values The array to unpack into, 64 values starting at {@code valueOffset}.
+     * @param valueOffset The index of the first value.
+     * @param bitCount The number of bits in each value (1-64).
+     */
+    static void unpack(long[] words, int wordOffset, long[] values, int valueOffset, int bitCount) {
+        switch (bitCount) {
+            case 1: unpack1(words, wordOffset, values, valueOffset); break;
+            case 2: unpack2(words, wordOffset, values, valueOffset); break;
+            case 3: unpack3(words, wordOffset, values, valueOffset); break;
+            case 4: unpack4(words, wordOffset, values, valueOffset); break;
+            case 5: unpack5(words, wordOffset, values, valueOffset); break;
+            case 6: unpack6(words, wordOffset, values, valueOffset); break;
+            case 7: unpack7(words, wordOffset, values, valueOffset); break;
+            case 8: unpack8(words, wordOffset, values, valueOffset); break;
+            case 9: unpack9(words, wordOffset, values, valueOffset); break;
+            case 10: unpack10(words, wordOffset, values, valueOffset); break;
+            case 11: unpack11(words, wordOffset, values, valueOffset); break;
+            case 12: unpack12(words, wordOffset, values, valueOffset); break;
+            case 13: unpack13(words, wordOffset, values, valueOffset); break;
+            case 14: unpack14(words, wordOffset, values, valueOffset); break;
+            case 15: unpack15(words, wordOffset, values, valueOffset); break;
+            case 16: unpack16(words, wordOffset, values, valueOffset); break;
+            case 17: unpack17(words, wordOffset, values, valueOffset); break;
+            case 18: unpack18(words, wordOffset, values, valueOffset); break;
+            case 19: unpack19(words, wordOffset, values, valueOffset); break;
+            case 20: unpack20(words, wordOffset, values, valueOffset); break;
+            case 21: unpack21(words, wordOffset, values, valueOffset); break;
+            case 22: unpack22(words, wordOffset, values, valueOffset); break;
+            case 23: unpack23(words, wordOffset, values, valueOffset); break;
+            case 24: unpack24(words, wordOffset, values, valueOffset); break;
+            case 25: unpack25(words, wordOffset, values, valueOffset); break;
+            case 26: unpack26(words, wordOffset, values, valueOffset); break;
+            case 27: unpack27(words, wordOffset, values, valueOffset); break;
+            case 28: unpack28(words, wordOffset, values, valueOffset); break;
+            case 29: unpack29(words, wordOffset, values, valueOffset); break;
+            case 30: unpack30(words, wordOffset, values, valueOffset); break;
+            case 31: unpack31(words, wordOffset, values, valueOffset); break;
+            case 32: unpack32(words, wordOffset, values, valueOffset); break;
+            case 33: unpack33(words, wordOffset, values, valueOffset); break;
+            case 34: unpack34(words, wordOffset, values, valueOffset); break;
+            case 35: unpack35(words, wordOffset, values, valueOffset); break;
+            case 36: unpack36(words, wordOffset, values, valueOffset); break;
+            case 37: unpack37(words, wordOffset, values, valueOffset); break;
+            case 38: unpack38(words, wordOffset, values, valueOffset); break;
+            case 39: unpack39(words, wordOffset, values, valueOffset); break;
+            case 40: unpack40(words, wordOffset, values, valueOffset); break;
+            case 41: unpack41(words, wordOffset, values, valueOffset); break;
+            case 42: unpack42(words, wordOffset, values, valueOffset); break;
+            case 43: unpack43(words, wordOffset, values, valueOffset); break;
+            case 44: unpack44(words, wordOffset, values, valueOffset); break;
+            case 45: unpack45(words, wordOffset, values, valueOffset); break;
+            case 46: unpack46(words, wordOffset, values, valueOffset); break;
+            case 47: unpack47(words, wordOffset, values, valueOffset); break;
+            case 48: unpack48(words, wordOffset, values, valueOffset); break;
+            case 49: unpack49(words, wordOffset, values, valueOffset); break;
+            case 50: unpack50(words, wordOffset, values, valueOffset); break;
+            case 51: unpack51(words, wordOffset, values, valueOffset); break;
+            case 52: unpack52(words, wordOffset, values, valueOffset); break;
+            case 53: unpack53(words, wordOffset, values, valueOffset); break;
+            case 54: unpack54(words, wordOffset, values, valueOffset); break;
+            case 55: unpack55(words, wordOffset, values, valueOffset); break;
+            case 56: unpack56(words, wordOffset, values, valueOffset); break;
+            case 57: unpack57(words, wordOffset, values, valueOffset); break;
+            case 58: unpack58(words, wordOffset, values, valueOffset); break;
+            case 59: unpack59(words, wordOffset, values, valueOffset); break;
+            case 60: unpack60(words, wordOffset, values, valueOffset); break;
+            case 61: unpack61(words, wordOffset, values, valueOffset); break;
+            case 62: unpack62(words, wordOffset, values, valueOffset); break;
+            case 63: unpack63(words, wordOffset, values, valueOffset); break;
+            case 64: unpack64(words, wordOffset, values, valueOffset); break;
+            default: throw BitStreamException.invalidBitCount();
+        }
+    }
+
+    /**
+     * Packs a block of 64 values. Bits above {@code bitCount} in each value are ignored.
+     *
+     * @param values The values to pack, 64 values starting at {@code valueOffset}.
+     * @param valueOffset The index of the first value.
+     * @param words The array to pack into, {@code bitCount} words starting at {@code wordOffset}.
+     * @param wordOffset The index of the first packed word.
+     * @param bitCount The number of bits in each value (1-64).
+     */
+    static void pack(long[] values, int valueOffset, long[] words, int wordOffset, int bitCount) {
+        switch (bitCount) {
+            case 1: pack1(values, valueOffset, words, wordOffset); break;
+            case 2: pack2(values, valueOffset, words, wordOffset); break;
+            case 3: pack3(values, valueOffset, words, wordOffset); break;
+            case 4: pack4(values, valueOffset, words, wordOffset); break;
+            case 5: pack5(values, valueOffset, words, wordOffset); break;
+            case 6: pack6(values, valueOffset, words, wordOffset); break;
+            case 7: pack7(values, valueOffset, words, wordOffset); break;
+            case 8: pack8(values, valueOffset, words, wordOffset); break;
+            case 9: pack9(values, valueOffset, words, wordOffset); break;
+            case 10: pack10(values, valueOffset, words, wordOffset); break;
+            case 11: pack11(values, valueOffset, words, wordOffset); break;
+            case 12: pack12(values, valueOffset, words, wordOffset); break;
+            case 13: pack13(values, valueOffset, words, wordOffset); break;
+            case 14: pack14(values, valueOffset, words, wordOffset); break;
+            case 15: pack15(values, valueOffset, words, wordOffset); break;
+            case 16: pack16(values, valueOffset, words, wordOffset); break;
+            case 17: pack17(values, valueOffset, words, wordOffset); break;
+            case 18: pack18(values, valueOffset, words, wordOffset); break;
+            case 19: pack19(values, valueOffset, words, wordOffset); break;
+            case 20: pack20(values, valueOffset, words, wordOffset); break;
+            case 21: pack21(values, valueOffset, words, wordOffset); break;
+            case 22: pack22(values, valueOffset, words, wordOffset); break;
+            case 23: pack23(values, valueOffset, words, wordOffset); break;
+            case 24: pack24(values, valueOffset, words, wordOffset); break;
+            case 25: pack25(values, valueOffset, words, wordOffset); break;
+            case 26: pack26(values, valueOffset, words, wordOffset); break;
+            case 27: pack27(values, valueOffset, words, wordOffset); break;
+            case 28: pack28(values, valueOffset, words, wordOffset); break;
+            case 29: pack29(values, valueOffset, words, wordOffset); break;
+            case 30: pack30(values, valueOffset, words, wordOffset); break;
+            case 31: pack31(values, valueOffset, words, wordOffset); break;
+            case 32: pack32(values, valueOffset, words, wordOffset); break;
+            case 33: pack33(values, valueOffset, words, wordOffset); break;
+            case 34: pack34(values, valueOffset, words, wordOffset); break;
+            case 35: pack35(values, valueOffset, words, wordOffset); break;
+            case 36: pack36(values, valueOffset, words, wordOffset); break;
+            case 37: pack37(values, valueOffset, words, wordOffset); break;
+            case 38: pack38(values, valueOffset, words, wordOffset); break;
+            case 39: pack39(values, valueOffset, words, wordOffset); break;
+            case 40: pack40(values, valueOffset, words, wordOffset); break;
+            case 41: pack41(values, valueOffset, words, wordOffset); break;
+            case 42: pack42(values, valueOffset, words, wordOffset); break;
+            case 43: pack43(values, valueOffset, words, wordOffset); break;
+            case 44: pack44(values, valueOffset, words, wordOffset); break;
+            case 45: pack45(values, valueOffset, words, wordOffset); break;
+            case 46: pack46(values, valueOffset, words, wordOffset); break;
+            case 47: pack47(values, valueOffset, words, wordOffset); break;
+            case 48: pack48(values, valueOffset, words, wordOffset); break;
+            case 49: pack49(values, valueOffset, words, wordOffset); break;
+            case 50: pack50(values, valueOffset, words, wordOffset); break;
+            case 51: pack51(values, valueOffset, words, wordOffset); break;
+            case 52: pack52(values, valueOffset, words, wordOffset); break;
+            case 53: pack53(values, valueOffset, words, wordOffset); break;
+            case 54: pack54(values, valueOffset, words, wordOffset); break;
+            case 55: pack55(values, valueOffset, words, wordOffset); break;
+            case 56: pack56(values, valueOffset, words, wordOffset); break;
+            case 57: pack57(values, valueOffset, words, wordOffset); break;
+            case 58: pack58(values, valueOffset, words, wordOffset); break;
+            case 59: pack59(values, valueOffset, words, wordOffset); break;
+            case 60: pack60(values, valueOffset, words, wordOffset); break;
+            case 61: pack61(values, valueOffset, words, wordOffset); break;
+            case 62: pack62(values, valueOffset, words, wordOffset); break;
+            case 63: pack63(values, valueOffset, words, wordOffset); break;
+            case 64: pack64(values, valueOffset, words, wordOffset); break;
+            default: throw BitStreamException.invalidBitCount();
+        }
+    }
+
+    private static void unpack1(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        values[valueOffset + 0] = w0 & 0x1L;
+        values[valueOffset + 1] = (w0 >>> 1) & 0x1L;
+        values[valueOffset + 2] = (w0 >>> 2) & 0x1L;
+        values[valueOffset + 3] = (w0 >>> 3) & 0x1L;
+        values[valueOffset + 4] = (w0 >>> 4) & 0x1L;
+        values[valueOffset + 5] = (w0 >>> 5) & 0x1L;
+        values[valueOffset + 6] = (w0 >>> 6) & 0x1L;
+        values[valueOffset + 7] = (w0 >>> 7) & 0x1L;
+        values[valueOffset + 8] = (w0 >>> 8) & 0x1L;
+        values[valueOffset + 9] = (w0 >>> 9) & 0x1L;
+        values[valueOffset + 10] = (w0 >>> 10) & 0x1L;
+        values[valueOffset + 11] = (w0 >>> 11) & 0x1L;
+        values[valueOffset + 12] = (w0 >>> 12) & 0x1L;
+        values[valueOffset + 13] = (w0 >>> 13) & 0x1L;
+        values[valueOffset + 14] = (w0 >>> 14) & 0x1L;
+        values[valueOffset + 15] = (w0 >>> 15) & 0x1L;
+        values[valueOffset + 16] = (w0 >>> 16) & 0x1L;
+        values[valueOffset + 17] = (w0 >>> 17) & 0x1L;
+        values[valueOffset + 18] = (w0 >>> 18) & 0x1L;
+        values[valueOffset + 19] = (w0 >>> 19) & 0x1L;
+        values[valueOffset + 20] = (w0 >>> 20) & 0x1L;
+        values[valueOffset + 21] = (w0 >>> 21) & 0x1L;
+        values[valueOffset + 22] = (w0 >>> 22) & 0x1L;
+        values[valueOffset + 23] = (w0 >>> 23) & 0x1L;
+        values[valueOffset + 24] = (w0 >>> 24) & 0x1L;
+        values[valueOffset + 25] = (w0 >>> 25) & 0x1L;
+        values[valueOffset + 26] = (w0 >>> 26) & 0x1L;
+        values[valueOffset + 27] = (w0 >>> 27) & 0x1L;
+        values[valueOffset + 28] = (w0 >>> 28) & 0x1L;
+        values[valueOffset + 29] = (w0 >>> 29) & 0x1L;
+        values[valueOffset + 30] = (w0 >>> 30) & 0x1L;
+        values[valueOffset + 31] = (w0 >>> 31) & 0x1L;
+        values[valueOffset + 32] = (w0 >>> 32) & 0x1L;
+        values[valueOffset + 33] = (w0 >>> 33) & 0x1L;
+        values[valueOffset + 34] = (w0 >>> 34) & 0x1L;
+        values[valueOffset + 35] = (w0 >>> 35) & 0x1L;
+        values[valueOffset + 36] = (w0 >>> 36) & 0x1L;
+        values[valueOffset + 37] = (w0 >>> 37) & 0x1L;
+        values[valueOffset + 38] = (w0 >>> 38) & 0x1L;
+        values[valueOffset + 39] = (w0 >>> 39) & 0x1L;
+        values[valueOffset + 40] = (w0 >>> 40) & 0x1L;
+        values[valueOffset + 41] = (w0 >>> 41) & 0x1L;
+        values[valueOffset + 42] = (w0 >>> 42) & 0x1L;
+        values[valueOffset + 43] = (w0 >>> 43) & 0x1L;
+        values[valueOffset + 44] = (w0 >>> 44) & 0x1L;
+        values[valueOffset + 45] = (w0 >>> 45) & 0x1L;
+        values[valueOffset + 46] = (w0 >>> 46) & 0x1L;
+        values[valueOffset + 47] = (w0 >>> 47) & 0x1L;
+        values[valueOffset + 48] = (w0 >>> 48) & 0x1L;
+        values[valueOffset + 49] = (w0 >>> 49) & 0x1L;
+        values[valueOffset + 50] = (w0 >>> 50) & 0x1L;
+        values[valueOffset + 51] = (w0 >>> 51) & 0x1L;
+        values[valueOffset + 52] = (w0 >>> 52) & 0x1L;
+        values[valueOffset + 53] = (w0 >>> 53) & 0x1L;
+        values[valueOffset + 54] = (w0 >>> 54) & 0x1L;
+        values[valueOffset + 55] = (w0 >>> 55) & 0x1L;
+        values[valueOffset + 56] = (w0 >>> 56) & 0x1L;
+        values[valueOffset + 57] = (w0 >>> 57) & 0x1L;
+        values[valueOffset + 58] = (w0 >>> 58) & 0x1L;
+        values[valueOffset + 59] = (w0 >>> 59) & 0x1L;
+        values[valueOffset + 60] = (w0 >>> 60) & 0x1L;
+        values[valueOffset + 61] = (w0 >>> 61) & 0x1L;
+        values[valueOffset + 62] = (w0 >>> 62) & 0x1L;
+        values[valueOffset + 63] = w0 >>> 63;
+    }
+
+    private static void unpack2(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        values[valueOffset + 0] = w0 & 0x3L;
+        values[valueOffset + 1] = (w0 >>> 2) & 0x3L;
+        values[valueOffset + 2] = (w0 >>> 4) & 0x3L;
+        values[valueOffset + 3] = (w0 >>> 6) & 0x3L;
+        values[valueOffset + 4] = (w0 >>> 8) & 0x3L;
+        values[valueOffset + 5] = (w0 >>> 10) & 0x3L;
+        values[valueOffset + 6] = (w0 >>> 12) & 0x3L;
+        values[valueOffset + 7] = (w0 >>> 14) & 0x3L;
+        values[valueOffset + 8] = (w0 >>> 16) & 0x3L;
+        values[valueOffset + 9] = (w0 >>> 18) & 0x3L;
+        values[valueOffset + 10] = (w0 >>> 20) & 0x3L;
+        values[valueOffset + 11] = (w0 >>> 22) & 0x3L;
+        values[valueOffset + 12] = (w0 >>> 24) & 0x3L;
+        values[valueOffset + 13] = (w0 >>> 26) & 0x3L;
+        values[valueOffset + 14] = (w0 >>> 28) & 0x3L;
+        values[valueOffset + 15] = (w0 >>> 30) & 0x3L;
+        values[valueOffset + 16] = (w0 >>> 32) & 0x3L;
+        values[valueOffset + 17] = (w0 >>> 34) & 0x3L;
+        values[valueOffset + 18] = (w0 >>> 36) & 0x3L;
+        values[valueOffset + 19] = (w0 >>> 38) & 0x3L;
+        values[valueOffset + 20] = (w0 >>> 40) & 0x3L;
+        values[valueOffset + 21] = (w0 >>> 42) & 0x3L;
+        values[valueOffset + 22] = (w0 >>> 44) & 0x3L;
+        values[valueOffset + 23] = (w0 >>> 46) & 0x3L;
+        values[valueOffset + 24] = (w0 >>> 48) & 0x3L;
+        values[valueOffset + 25] = (w0 >>> 50) & 0x3L;
+        values[valueOffset + 26] = (w0 >>> 52) & 0x3L;
+        values[valueOffset + 27] = (w0 >>> 54) & 0x3L;
+        values[valueOffset + 28] = (w0 >>> 56) & 0x3L;
+        values[valueOffset + 29] = (w0 >>> 58) & 0x3L;
+        values[valueOffset + 30] = (w0 >>> 60) & 0x3L;
+        values[valueOffset + 31] = w0 >>> 62;
+        values[valueOffset + 32] = w1 & 0x3L;
+        values[valueOffset + 33] = (w1 >>> 2) & 0x3L;
+        values[valueOffset + 34] = (w1 >>> 4) & 0x3L;
+        values[valueOffset + 35] = (w1 >>> 6) & 0x3L;
+        values[valueOffset + 36] = (w1 >>> 8) & 0x3L;
+        values[valueOffset + 37] = (w1 >>> 10) & 0x3L;
+        values[valueOffset + 38] = (w1 >>> 12) & 0x3L;
+        values[valueOffset + 39] = (w1 >>> 14) & 0x3L;
+        values[valueOffset + 40] = (w1 >>> 16) & 0x3L;
+        values[valueOffset + 41] = (w1 >>> 18) & 0x3L;
+        values[valueOffset + 42] = (w1 >>> 20) & 0x3L;
+        values[valueOffset + 43] = (w1 >>> 22) & 0x3L;
+        values[valueOffset + 44] = (w1 >>> 24) & 0x3L;
+        values[valueOffset + 45] = (w1 >>> 26) & 0x3L;
+        values[valueOffset + 46] = (w1 >>> 28) & 0x3L;
+        values[valueOffset + 47] = (w1 >>> 30) & 0x3L;
+        values[valueOffset + 48] = (w1 >>> 32) & 0x3L;
+        values[valueOffset + 49] = (w1 >>> 34) & 0x3L;
+        values[valueOffset + 50] = (w1 >>> 36) & 0x3L;
+        values[valueOffset + 51] = (w1 >>> 38) & 0x3L;
+        values[valueOffset + 52] = (w1 >>> 40) & 0x3L;
+        values[valueOffset + 53] = (w1 >>> 42) & 0x3L;
+        values[valueOffset + 54] = (w1 >>> 44) & 0x3L;
+        values[valueOffset + 55] = (w1 >>> 46) & 0x3L;
+        values[valueOffset + 56] = (w1 >>> 48) & 0x3L;
+        values[valueOffset + 57] = (w1 >>> 50) & 0x3L;
+        values[valueOffset + 58] = (w1 >>> 52) & 0x3L;
+        values[valueOffset + 59] = (w1 >>> 54) & 0x3L;
+        values[valueOffset + 60] = (w1 >>> 56) & 0x3L;
+        values[valueOffset + 61] = (w1 >>> 58) & 0x3L;
+        values[valueOffset + 62] = (w1 >>> 60) & 0x3L;
+        values[valueOffset + 63] = w1 >>> 62;
+    }
+
+    private static void unpack3(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        values[valueOffset + 0] = w0 & 0x7L;
+        values[valueOffset + 1] = (w0 >>> 3) & 0x7L;
+        values[valueOffset + 2] = (w0 >>> 6) & 0x7L;
+        values[valueOffset + 3] = (w0 >>> 9) & 0x7L;
+        values[valueOffset + 4] = (w0 >>> 12) & 0x7L;
+        values[valueOffset + 5] = (w0 >>> 15) & 0x7L;
+        values[valueOffset + 6] = (w0 >>> 18) & 0x7L;
+        values[valueOffset + 7] = (w0 >>> 21) & 0x7L;
+        values[valueOffset + 8] = (w0 >>> 24) & 0x7L;
+        values[valueOffset + 9] = (w0 >>> 27) & 0x7L;
+        values[valueOffset + 10] = (w0 >>> 30) & 0x7L;
+        values[valueOffset + 11] = (w0 >>> 33) & 0x7L;
+        values[valueOffset + 12] = (w0 >>> 36) & 0x7L;
+        values[valueOffset + 13] = (w0 >>> 39) & 0x7L;
+        values[valueOffset + 14] = (w0 >>> 42) & 0x7L;
+        values[valueOffset + 15] = (w0 >>> 45) & 0x7L;
+        values[valueOffset + 16] = (w0 >>> 48) & 0x7L;
+        values[valueOffset + 17] = (w0 >>> 51) & 0x7L;
+        values[valueOffset + 18] = (w0 >>> 54) & 0x7L;
+        values[valueOffset + 19] = (w0 >>> 57) & 0x7L;
+        values[valueOffset + 20] = (w0 >>> 60) & 0x7L;
+        values[valueOffset + 21] = ((w0 >>> 63) | (w1 << 1)) & 0x7L;
+        values[valueOffset + 22] = (w1 >>> 2) & 0x7L;
+        values[valueOffset + 23] = (w1 >>> 5) & 0x7L;
+        values[valueOffset + 24] = (w1 >>> 8) & 0x7L;
+        values[valueOffset + 25] = (w1 >>> 11) & 0x7L;
+        values[valueOffset + 26] = (w1 >>> 14) & 0x7L;
+        values[valueOffset + 27] = (w1 >>> 17) & 0x7L;
+        values[valueOffset + 28] = (w1 >>> 20) & 0x7L;
+        values[valueOffset + 29] = (w1 >>> 23) & 0x7L;
+        values[valueOffset + 30] = (w1 >>> 26) & 0x7L;
+        values[valueOffset + 31] = (w1 >>> 29) & 0x7L;
+        values[valueOffset + 32] = (w1 >>> 32) & 0x7L;
+        values[valueOffset + 33] = (w1 >>> 35) & 0x7L;
+        values[valueOffset + 34] = (w1 >>> 38) & 0x7L;
+        values[valueOffset + 35] = (w1 >>> 41) & 0x7L;
+        values[valueOffset + 36] = (w1 >>> 44) & 0x7L;
+        values[valueOffset + 37] = (w1 >>> 47) & 0x7L;
+        values[valueOffset + 38] = (w1 >>> 50) & 0x7L;
+        values[valueOffset + 39] = (w1 >>> 53) & 0x7L;
+        values[valueOffset + 40] = (w1 >>> 56) & 0x7L;
+        values[valueOffset + 41] = (w1 >>> 59) & 0x7L;
+        values[valueOffset + 42] = ((w1 >>> 62) | (w2 << 2)) & 0x7L;
+        values[valueOffset + 43] = (w2 >>> 1) & 0x7L;
+        values[valueOffset + 44] = (w2 >>> 4) & 0x7L;
+        values[valueOffset + 45] = (w2 >>> 7) & 0x7L;
+        values[valueOffset + 46] = (w2 >>> 10) & 0x7L;
+        values[valueOffset + 47] = (w2 >>> 13) & 0x7L;
+        values[valueOffset + 48] = (w2 >>> 16) & 0x7L;
+        values[valueOffset + 49] = (w2 >>> 19) & 0x7L;
+        values[valueOffset + 50] = (w2 >>> 22) & 0x7L;
+        values[valueOffset + 51] = (w2 >>> 25) & 0x7L;
+        values[valueOffset + 52] = (w2 >>> 28) & 0x7L;
+        values[valueOffset + 53] = (w2 >>> 31) & 0x7L;
+        values[valueOffset + 54] = (w2 >>> 34) & 0x7L;
+        values[valueOffset + 55] = (w2 >>> 37) & 0x7L;
+        values[valueOffset + 56] = (w2 >>> 40) & 0x7L;
+        values[valueOffset + 57] = (w2 >>> 43) & 0x7L;
+        values[valueOffset + 58] = (w2 >>> 46) & 0x7L;
+        values[valueOffset + 59] = (w2 >>> 49) & 0x7L;
+        values[valueOffset + 60] = (w2 >>> 52) & 0x7L;
+        values[valueOffset + 61] = (w2 >>> 55) & 0x7L;
+        values[valueOffset + 62] = (w2 >>> 58) & 0x7L;
+        values[valueOffset + 63] = w2 >>> 61;
+    }
+
+    private static void unpack4(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        values[valueOffset + 0] = w0 & 0xFL;
+        values[valueOffset + 1] = (w0 >>> 4) & 0xFL;
+        values[valueOffset + 2] = (w0 >>> 8) & 0xFL;
+        values[valueOffset + 3] = (w0 >>> 12) & 0xFL;
+        values[valueOffset + 4] = (w0 >>> 16) & 0xFL;
+        values[valueOffset + 5] = (w0 >>> 20) & 0xFL;
+        values[valueOffset + 6] = (w0 >>> 24) & 0xFL;
+        values[valueOffset + 7] = (w0 >>> 28) & 0xFL;
+        values[valueOffset + 8] = (w0 >>> 32) & 0xFL;
+        values[valueOffset + 9] = (w0 >>> 36) & 0xFL;
+        values[valueOffset + 10] = (w0 >>> 40) & 0xFL;
+        values[valueOffset + 11] = (w0 >>> 44) & 0xFL;
+        values[valueOffset + 12] = (w0 >>> 48) & 0xFL;
+        values[valueOffset + 13] = (w0 >>> 52) & 0xFL;
+        values[valueOffset + 14] = (w0 >>> 56) & 0xFL;
+        values[valueOffset + 15] = w0 >>> 60;
+        values[valueOffset + 16] = w1 & 0xFL;
+        values[valueOffset + 17] = (w1 >>> 4) & 0xFL;
+        values[valueOffset + 18] = (w1 >>> 8) & 0xFL;
+        values[valueOffset + 19] = (w1 >>> 12) & 0xFL;
+        values[valueOffset + 20] = (w1 >>> 16) & 0xFL;
+        values[valueOffset + 21] = (w1 >>> 20) & 0xFL;
+        values[valueOffset + 22] = (w1 >>> 24) & 0xFL;
+        values[valueOffset + 23] = (w1 >>> 28) & 0xFL;
+        values[valueOffset + 24] = (w1 >>> 32) & 0xFL;
+        values[valueOffset + 25] = (w1 >>> 36) & 0xFL;
+        values[valueOffset + 26] = (w1 >>> 40) & 0xFL;
+        values[valueOffset + 27] = (w1 >>> 44) & 0xFL;
+        values[valueOffset + 28] = (w1 >>> 48) & 0xFL;
+        values[valueOffset + 29] = (w1 >>> 52) & 0xFL;
+        values[valueOffset + 30] = (w1 >>> 56) & 0xFL;
+        values[valueOffset + 31] = w1 >>> 60;
+        values[valueOffset + 32] = w2 & 0xFL;
+        values[valueOffset + 33] = (w2 >>> 4) & 0xFL;
+        values[valueOffset + 34] = (w2 >>> 8) & 0xFL;
+        values[valueOffset + 35] = (w2 >>> 12) & 0xFL;
+        values[valueOffset + 36] = (w2 >>> 16) & 0xFL;
+        values[valueOffset + 37] = (w2 >>> 20) & 0xFL;
+        values[valueOffset + 38] = (w2 >>> 24) & 0xFL;
+        values[valueOffset + 39] = (w2 >>> 28) & 0xFL;
+        values[valueOffset + 40] = (w2 >>> 32) & 0xFL;
+        values[valueOffset + 41] = (w2 >>> 36) & 0xFL;
+        values[valueOffset + 42] = (w2 >>> 40) & 0xFL;
+        values[valueOffset + 43] = (w2 >>> 44) & 0xFL;
+        values[valueOffset + 44] = (w2 >>> 48) & 0xFL;
+        values[valueOffset + 45] = (w2 >>> 52) & 0xFL;
+        values[valueOffset + 46] = (w2 >>> 56) & 0xFL;
+        values[valueOffset + 47] = w2 >>> 60;
+        values[valueOffset + 48] = w3 & 0xFL;
+        values[valueOffset + 49] = (w3 >>> 4) & 0xFL;
+        values[valueOffset + 50] = (w3 >>> 8) & 0xFL;
+        values[valueOffset + 51] = (w3 >>> 12) & 0xFL;
+        values[valueOffset + 52] = (w3 >>> 16) & 0xFL;
+        values[valueOffset + 53] = (w3 >>> 20) & 0xFL;
+        values[valueOffset + 54] = (w3 >>> 24) & 0xFL;
+        values[valueOffset + 55] = (w3 >>> 28) & 0xFL;
+        values[valueOffset + 56] = (w3 >>> 32) & 0xFL;
+        values[valueOffset + 57] = (w3 >>> 36) & 0xFL;
+        values[valueOffset + 58] = (w3 >>> 40) & 0xFL;
+        values[valueOffset + 59] = (w3 >>> 44) & 0xFL;
+        values[valueOffset + 60] = (w3 >>> 48) & 0xFL;
+        values[valueOffset + 61] = (w3 >>> 52) & 0xFL;
+        values[valueOffset + 62] = (w3 >>> 56) & 0xFL;
+        values[valueOffset + 63] = w3 >>> 60;
+    }
+
+    private static void unpack5(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        values[valueOffset + 0] = w0 & 0x1FL;
+        values[valueOffset + 1] = (w0 >>> 5) & 0x1FL;
+        values[valueOffset + 2] = (w0 >>> 10) & 0x1FL;
+        values[valueOffset + 3] = (w0 >>> 15) & 0x1FL;
+        values[valueOffset + 4] = (w0 >>> 20) & 0x1FL;
+        values[valueOffset + 5] = (w0 >>> 25) & 0x1FL;
+        values[valueOffset + 6] = (w0 >>> 30) & 0x1FL;
+        values[valueOffset + 7] = (w0 >>> 35) & 0x1FL;
+        values[valueOffset + 8] = (w0 >>> 40) & 0x1FL;
+        values[valueOffset + 9] = (w0 >>> 45) & 0x1FL;
+        values[valueOffset + 10] = (w0 >>> 50) & 0x1FL;
+        values[valueOffset + 11] = (w0 >>> 55) & 0x1FL;
+        values[valueOffset + 12] = ((w0 >>> 60) | (w1 << 4)) & 0x1FL;
+        values[valueOffset + 13] = (w1 >>> 1) & 0x1FL;
+        values[valueOffset + 14] = (w1 >>> 6) & 0x1FL;
+        values[valueOffset + 15] = (w1 >>> 11) & 0x1FL;
+        values[valueOffset + 16] = (w1 >>> 16) & 0x1FL;
+        values[valueOffset + 17] = (w1 >>> 21) & 0x1FL;
+        values[valueOffset + 18] = (w1 >>> 26) & 0x1FL;
+        values[valueOffset + 19] = (w1 >>> 31) & 0x1FL;
+        values[valueOffset + 20] = (w1 >>> 36) & 0x1FL;
+        values[valueOffset + 21] = (w1 >>> 41) & 0x1FL;
+        values[valueOffset + 22] = (w1 >>> 46) & 0x1FL;
+        values[valueOffset + 23] = (w1 >>> 51) & 0x1FL;
+        values[valueOffset + 24] = (w1 >>> 56) & 0x1FL;
+        values[valueOffset + 25] = ((w1 >>> 61) | (w2 << 3)) & 0x1FL;
+        values[valueOffset + 26] = (w2 >>> 2) & 0x1FL;
+        values[valueOffset + 27] = (w2 >>> 7) & 0x1FL;
+        values[valueOffset + 28] = (w2 >>> 12) & 0x1FL;
+        values[valueOffset + 29] = (w2 >>> 17) & 0x1FL;
+        values[valueOffset + 30] = (w2 >>> 22) & 0x1FL;
+        values[valueOffset + 31] = (w2 >>> 27) & 0x1FL;
+        values[valueOffset + 32] = (w2 >>> 32) & 0x1FL;
+        values[valueOffset + 33] = (w2 >>> 37) & 0x1FL;
+        values[valueOffset + 34] = (w2 >>> 42) & 0x1FL;
+        values[valueOffset + 35] = (w2 >>> 47) & 0x1FL;
+        values[valueOffset + 36] = (w2 >>> 52) & 0x1FL;
+        values[valueOffset + 37] = (w2 >>> 57) & 0x1FL;
+        values[valueOffset + 38] = ((w2 >>> 62) | (w3 << 2)) & 0x1FL;
+        values[valueOffset + 39] = (w3 >>> 3) & 0x1FL;
+        values[valueOffset + 40] = (w3 >>> 8) & 0x1FL;
+        values[valueOffset + 41] = (w3 >>> 13) & 0x1FL;
+        values[valueOffset + 42] = (w3 >>> 18) & 0x1FL;
+        values[valueOffset + 43] = (w3 >>> 23) & 0x1FL;
+        values[valueOffset + 44] = (w3 >>> 28) & 0x1FL;
+        values[valueOffset + 45] = (w3 >>> 33) & 0x1FL;
+        values[valueOffset + 46] = (w3 >>> 38) & 0x1FL;
+        values[valueOffset + 47] = (w3 >>> 43) & 0x1FL;
+        values[valueOffset + 48] = (w3 >>> 48) & 0x1FL;
+        values[valueOffset + 49] = (w3 >>> 53) & 0x1FL;
+        values[valueOffset + 50] = (w3 >>> 58) & 0x1FL;
+        values[valueOffset + 51] = ((w3 >>> 63) | (w4 << 1)) & 0x1FL;
+        values[valueOffset + 52] = (w4 >>> 4) & 0x1FL;
+        values[valueOffset + 53] = (w4 >>> 9) & 0x1FL;
+        values[valueOffset + 54] = (w4 >>> 14) & 0x1FL;
+        values[valueOffset + 55] = (w4 >>> 19) & 0x1FL;
+        values[valueOffset + 56] = (w4 >>> 24) & 0x1FL;
+        values[valueOffset + 57] = (w4 >>> 29) & 0x1FL;
+        values[valueOffset + 58] = (w4 >>> 34) & 0x1FL;
+        values[valueOffset + 59] = (w4 >>> 39) & 0x1FL;
+        values[valueOffset + 60] = (w4 >>> 44) & 0x1FL;
+        values[valueOffset + 61] = (w4 >>> 49) & 0x1FL;
+        values[valueOffset + 62] = (w4 >>> 54) & 0x1FL;
+        values[valueOffset + 63] = w4 >>> 59;
+    }
+
+    private static void unpack6(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        values[valueOffset + 0] = w0 & 0x3FL;
+        values[valueOffset + 1] = (w0 >>> 6) & 0x3FL;
+        values[valueOffset + 2] = (w0 >>> 12) & 0x3FL;
+        values[valueOffset + 3] = (w0 >>> 18) & 0x3FL;
+        values[valueOffset + 4] = (w0 >>> 24) & 0x3FL;
+        values[valueOffset + 5] = (w0 >>> 30) & 0x3FL;
+        values[valueOffset + 6] = (w0 >>> 36) & 0x3FL;
+        values[valueOffset + 7] = (w0 >>> 42) & 0x3FL;
+        values[valueOffset + 8] = (w0 >>> 48) & 0x3FL;
+        values[valueOffset + 9] = (w0 >>> 54) & 0x3FL;
+        values[valueOffset + 10] = ((w0 >>> 60) | (w1 << 4)) & 0x3FL;
+        values[valueOffset + 11] = (w1 >>> 2) & 0x3FL;
+        values[valueOffset + 12] = (w1 >>> 8) & 0x3FL;
+        values[valueOffset + 13] = (w1 >>> 14) & 0x3FL;
+        values[valueOffset + 14] = (w1 >>> 20) & 0x3FL;
+        values[valueOffset + 15] = (w1 >>> 26) & 0x3FL;
+        values[valueOffset + 16] = (w1 >>> 32) & 0x3FL;
+        values[valueOffset + 17] = (w1 >>> 38) & 0x3FL;
+        values[valueOffset + 18] = (w1 >>> 44) & 0x3FL;
+        values[valueOffset + 19] = (w1 >>> 50) & 0x3FL;
+        values[valueOffset + 20] = (w1 >>> 56) & 0x3FL;
+        values[valueOffset + 21] = ((w1 >>> 62) | (w2 << 2)) & 0x3FL;
+        values[valueOffset + 22] = (w2 >>> 4) & 0x3FL;
+        values[valueOffset + 23] = (w2 >>> 10) & 0x3FL;
+        values[valueOffset + 24] = (w2 >>> 16) & 0x3FL;
+        values[valueOffset + 25] = (w2 >>> 22) & 0x3FL;
+        values[valueOffset + 26] = (w2 >>> 28) & 0x3FL;
+        values[valueOffset + 27] = (w2 >>> 34) & 0x3FL;
+        values[valueOffset + 28] = (w2 >>> 40) & 0x3FL;
+        values[valueOffset + 29] = (w2 >>> 46) & 0x3FL;
+        values[valueOffset + 30] = (w2 >>> 52) & 0x3FL;
+        values[valueOffset + 31] = w2 >>> 58;
+        values[valueOffset + 32] = w3 & 0x3FL;
+        values[valueOffset + 33] = (w3 >>> 6) & 0x3FL;
+        values[valueOffset + 34] = (w3 >>> 12) & 0x3FL;
+        values[valueOffset + 35] = (w3 >>> 18) & 0x3FL;
+        values[valueOffset + 36] = (w3 >>> 24) & 0x3FL;
+        values[valueOffset + 37] = (w3 >>> 30) & 0x3FL;
+        values[valueOffset + 38] = (w3 >>> 36) & 0x3FL;
+        values[valueOffset + 39] = (w3 >>> 42) & 0x3FL;
+        values[valueOffset + 40] = (w3 >>> 48) & 0x3FL;
+        values[valueOffset + 41] = (w3 >>> 54) & 0x3FL;
+        values[valueOffset + 42] = ((w3 >>> 60) | (w4 << 4)) & 0x3FL;
+        values[valueOffset + 43] = (w4 >>> 2) & 0x3FL;
+        values[valueOffset + 44] = (w4 >>> 8) & 0x3FL;
+        values[valueOffset + 45] = (w4 >>> 14) & 0x3FL;
+        values[valueOffset + 46] = (w4 >>> 20) & 0x3FL;
+        values[valueOffset + 47] = (w4 >>> 26) & 0x3FL;
+        values[valueOffset + 48] = (w4 >>> 32) & 0x3FL;
+        values[valueOffset + 49] = (w4 >>> 38) & 0x3FL;
+        values[valueOffset + 50] = (w4 >>> 44) & 0x3FL;
+        values[valueOffset + 51] = (w4 >>> 50) & 0x3FL;
+        values[valueOffset + 52] = (w4 >>> 56) & 0x3FL;
+        values[valueOffset + 53] = ((w4 >>> 62) | (w5 << 2)) & 0x3FL;
+        values[valueOffset + 54] = (w5 >>> 4) & 0x3FL;
+        values[valueOffset + 55] = (w5 >>> 10) & 0x3FL;
+        values[valueOffset + 56] = (w5 >>> 16) & 0x3FL;
+        values[valueOffset + 57] = (w5 >>> 22) & 0x3FL;
+        values[valueOffset + 58] = (w5 >>> 28) & 0x3FL;
+        values[valueOffset + 59] = (w5 >>> 34) & 0x3FL;
+        values[valueOffset + 60] = (w5 >>> 40) & 0x3FL;
+        values[valueOffset + 61] = (w5 >>> 46) & 0x3FL;
+        values[valueOffset + 62] = (w5 >>> 52) & 0x3FL;
+        values[valueOffset + 63] = w5 >>> 58;
+    }
+
+    private static void unpack7(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        values[valueOffset + 0] = w0 & 0x7FL;
+        values[valueOffset + 1] = (w0 >>> 7) & 0x7FL;
+        values[valueOffset + 2] = (w0 >>> 14) & 0x7FL;
+        values[valueOffset + 3] = (w0 >>> 21) & 0x7FL;
+        values[valueOffset + 4] = (w0 >>> 28) & 0x7FL;
+        values[valueOffset + 5] = (w0 >>> 35) & 0x7FL;
+        values[valueOffset + 6] = (w0 >>> 42) & 0x7FL;
+        values[valueOffset + 7] = (w0 >>> 49) & 0x7FL;
+        values[valueOffset + 8] = (w0 >>> 56) & 0x7FL;
+        values[valueOffset + 9] = ((w0 >>> 63) | (w1 << 1)) & 0x7FL;
+        values[valueOffset + 10] = (w1 >>> 6) & 0x7FL;
+        values[valueOffset + 11] = (w1 >>> 13) & 0x7FL;
+        values[valueOffset + 12] = (w1 >>> 20) & 0x7FL;
+        values[valueOffset + 13] = (w1 >>> 27) & 0x7FL;
+        values[valueOffset + 14] = (w1 >>> 34) & 0x7FL;
+        values[valueOffset + 15] = (w1 >>> 41) & 0x7FL;
+        values[valueOffset + 16] = (w1 >>> 48) & 0x7FL;
+        values[valueOffset + 17] = (w1 >>> 55) & 0x7FL;
+        values[valueOffset + 18] = ((w1 >>> 62) | (w2 << 2)) & 0x7FL;
+        values[valueOffset + 19] = (w2 >>> 5) & 0x7FL;
+        values[valueOffset + 20] = (w2 >>> 12) & 0x7FL;
+        values[valueOffset + 21] = (w2 >>> 19) & 0x7FL;
+        values[valueOffset + 22] = (w2 >>> 26) & 0x7FL;
+        values[valueOffset + 23] = (w2 >>> 33) & 0x7FL;
+        values[valueOffset + 24] = (w2 >>> 40) & 0x7FL;
+        values[valueOffset + 25] = (w2 >>> 47) & 0x7FL;
+        values[valueOffset + 26] = (w2 >>> 54) & 0x7FL;
+        values[valueOffset + 27] = ((w2 >>> 61) | (w3 << 3)) & 0x7FL;
+        values[valueOffset + 28] = (w3 >>> 4) & 0x7FL;
+        values[valueOffset + 29] = (w3 >>> 11) & 0x7FL;
+        values[valueOffset + 30] = (w3 >>> 18) & 0x7FL;
+        values[valueOffset + 31] = (w3 >>> 25) & 0x7FL;
+        values[valueOffset + 32] = (w3 >>> 32) & 0x7FL;
+        values[valueOffset + 33] = (w3 >>> 39) & 0x7FL;
+        values[valueOffset + 34] = (w3 >>> 46) & 0x7FL;
+        values[valueOffset + 35] = (w3 >>> 53) & 0x7FL;
+        values[valueOffset + 36] = ((w3 >>> 60) | (w4 << 4)) & 0x7FL;
+        values[valueOffset + 37] = (w4 >>> 3) & 0x7FL;
+        values[valueOffset + 38] = (w4 >>> 10) & 0x7FL;
+        values[valueOffset + 39] = (w4 >>> 17) & 0x7FL;
+        values[valueOffset + 40] = (w4 >>> 24) & 0x7FL;
+        values[valueOffset + 41] = (w4 >>> 31) & 0x7FL;
+        values[valueOffset + 42] = (w4 >>> 38) & 0x7FL;
+        values[valueOffset + 43] = (w4 >>> 45) & 0x7FL;
+        values[valueOffset + 44] = (w4 >>> 52) & 0x7FL;
+        values[valueOffset + 45] = ((w4 >>> 59) | (w5 << 5)) & 0x7FL;
+        values[valueOffset + 46] = (w5 >>> 2) & 0x7FL;
+        values[valueOffset + 47] = (w5 >>> 9) & 0x7FL;
+        values[valueOffset + 48] = (w5 >>> 16) & 0x7FL;
+        values[valueOffset + 49] = (w5 >>> 23) & 0x7FL;
+        values[valueOffset + 50] = (w5 >>> 30) & 0x7FL;
+        values[valueOffset + 51] = (w5 >>> 37) & 0x7FL;
+        values[valueOffset + 52] = (w5 >>> 44) & 0x7FL;
+        values[valueOffset + 53] = (w5 >>> 51) & 0x7FL;
+        values[valueOffset + 54] = ((w5 >>> 58) | (w6 << 6)) & 0x7FL;
+        values[valueOffset + 55] = (w6 >>> 1) & 0x7FL;
+        values[valueOffset + 56] = (w6 >>> 8) & 0x7FL;
+        values[valueOffset + 57] = (w6 >>> 15) & 0x7FL;
+        values[valueOffset + 58] = (w6 >>> 22) & 0x7FL;
+        values[valueOffset + 59] = (w6 >>> 29) & 0x7FL;
+        values[valueOffset + 60] = (w6 >>> 36) & 0x7FL;
+        values[valueOffset + 61] = (w6 >>> 43) & 0x7FL;
+        values[valueOffset + 62] = (w6 >>> 50) & 0x7FL;
+        values[valueOffset + 63] = w6 >>> 57;
+    }
+
+    private static void unpack8(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        values[valueOffset + 0] = w0 & 0xFFL;
+        values[valueOffset + 1] = (w0 >>> 8) & 0xFFL;
+        values[valueOffset + 2] = (w0 >>> 16) & 0xFFL;
+        values[valueOffset + 3] = (w0 >>> 24) & 0xFFL;
+        values[valueOffset + 4] = (w0 >>> 32) & 0xFFL;
+        values[valueOffset + 5] = (w0 >>> 40) & 0xFFL;
+        values[valueOffset + 6] = (w0 >>> 48) & 0xFFL;
+        values[valueOffset + 7] = w0 >>> 56;
+        values[valueOffset + 8] = w1 & 0xFFL;
+        values[valueOffset + 9] = (w1 >>> 8) & 0xFFL;
+        values[valueOffset + 10] = (w1 >>> 16) & 0xFFL;
+        values[valueOffset + 11] = (w1 >>> 24) & 0xFFL;
+        values[valueOffset + 12] = (w1 >>> 32) & 0xFFL;
+        values[valueOffset + 13] = (w1 >>> 40) & 0xFFL;
+        values[valueOffset + 14] = (w1 >>> 48) & 0xFFL;
+        values[valueOffset + 15] = w1 >>> 56;
+        values[valueOffset + 16] = w2 & 0xFFL;
+        values[valueOffset + 17] = (w2 >>> 8) & 0xFFL;
+        values[valueOffset + 18] = (w2 >>> 16) & 0xFFL;
+        values[valueOffset + 19] = (w2 >>> 24) & 0xFFL;
+        values[valueOffset + 20] = (w2 >>> 32) & 0xFFL;
+        values[valueOffset + 21] = (w2 >>> 40) & 0xFFL;
+        values[valueOffset + 22] = (w2 >>> 48) & 0xFFL;
+        values[valueOffset + 23] = w2 >>> 56;
+        values[valueOffset + 24] = w3 & 0xFFL;
+        values[valueOffset + 25] = (w3 >>> 8) & 0xFFL;
+        values[valueOffset + 26] = (w3 >>> 16) & 0xFFL;
+        values[valueOffset + 27] = (w3 >>> 24) & 0xFFL;
+        values[valueOffset + 28] = (w3 >>> 32) & 0xFFL;
+        values[valueOffset + 29] = (w3 >>> 40) & 0xFFL;
+        values[valueOffset + 30] = (w3 >>> 48) & 0xFFL;
+        values[valueOffset + 31] = w3 >>> 56;
+        values[valueOffset + 32] = w4 & 0xFFL;
+        values[valueOffset + 33] = (w4 >>> 8) & 0xFFL;
+        values[valueOffset + 34] = (w4 >>> 16) & 0xFFL;
+        values[valueOffset + 35] = (w4 >>> 24) & 0xFFL;
+        values[valueOffset + 36] = (w4 >>> 32) & 0xFFL;
+        values[valueOffset + 37] = (w4 >>> 40) & 0xFFL;
+        values[valueOffset + 38] = (w4 >>> 48) & 0xFFL;
+        values[valueOffset + 39] = w4 >>> 56;
+        values[valueOffset + 40] = w5 & 0xFFL;
+        values[valueOffset + 41] = (w5 >>> 8) & 0xFFL;
+        values[valueOffset + 42] = (w5 >>> 16) & 0xFFL;
+        values[valueOffset + 43] = (w5 >>> 24) & 0xFFL;
+        values[valueOffset + 44] = (w5 >>> 32) & 0xFFL;
+        values[valueOffset + 45] = (w5 >>> 40) & 0xFFL;
+        values[valueOffset + 46] = (w5 >>> 48) & 0xFFL;
+        values[valueOffset + 47] = w5 >>> 56;
+        values[valueOffset + 48] = w6 & 0xFFL;
+        values[valueOffset + 49] = (w6 >>> 8) & 0xFFL;
+        values[valueOffset + 50] = (w6 >>> 16) & 0xFFL;
+        values[valueOffset + 51] = (w6 >>> 24) & 0xFFL;
+        values[valueOffset + 52] = (w6 >>> 32) & 0xFFL;
+        values[valueOffset + 53] = (w6 >>> 40) & 0xFFL;
+        values[valueOffset + 54] = (w6 >>> 48) & 0xFFL;
+        values[valueOffset + 55] = w6 >>> 56;
+        values[valueOffset + 56] = w7 & 0xFFL;
+        values[valueOffset + 57] = (w7 >>> 8) & 0xFFL;
+        values[valueOffset + 58] = (w7 >>> 16) & 0xFFL;
+        values[valueOffset + 59] = (w7 >>> 24) & 0xFFL;
+        values[valueOffset + 60] = (w7 >>> 32) & 0xFFL;
+        values[valueOffset + 61] = (w7 >>> 40) & 0xFFL;
+        values[valueOffset + 62] = (w7 >>> 48) & 0xFFL;
+        values[valueOffset + 63] = w7 >>> 56;
+    }
+
+    private static void unpack9(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        values[valueOffset + 0] = w0 & 0x1FFL;
+        values[valueOffset + 1] = (w0 >>> 9) & 0x1FFL;
+        values[valueOffset + 2] = (w0 >>> 18) & 0x1FFL;
+        values[valueOffset + 3] = (w0 >>> 27) & 0x1FFL;
+        values[valueOffset + 4] = (w0 >>> 36) & 0x1FFL;
+        values[valueOffset + 5] = (w0 >>> 45) & 0x1FFL;
+        values[valueOffset + 6] = (w0 >>> 54) & 0x1FFL;
+        values[valueOffset + 7] = ((w0 >>> 63) | (w1 << 1)) & 0x1FFL;
+        values[valueOffset + 8] = (w1 >>> 8) & 0x1FFL;
+        values[valueOffset + 9] = (w1 >>> 17) & 0x1FFL;
+        values[valueOffset + 10] = (w1 >>> 26) & 0x1FFL;
+        values[valueOffset + 11] = (w1 >>> 35) & 0x1FFL;
+        values[valueOffset + 12] = (w1 >>> 44) & 0x1FFL;
+        values[valueOffset + 13] = (w1 >>> 53) & 0x1FFL;
+        values[valueOffset + 14] = ((w1 >>> 62) | (w2 << 2)) & 0x1FFL;
+        values[valueOffset + 15] = (w2 >>> 7) & 0x1FFL;
+        values[valueOffset + 16] = (w2 >>> 16) & 0x1FFL;
+        values[valueOffset + 17] = (w2 >>> 25) & 0x1FFL;
+        values[valueOffset + 18] = (w2 >>> 34) & 0x1FFL;
+        values[valueOffset + 19] = (w2 >>> 43) & 0x1FFL;
+        values[valueOffset + 20] = (w2 >>> 52) & 0x1FFL;
+        values[valueOffset + 21] = ((w2 >>> 61) | (w3 << 3)) & 0x1FFL;
+        values[valueOffset + 22] = (w3 >>> 6) & 0x1FFL;
+        values[valueOffset + 23] = (w3 >>> 15) & 0x1FFL;
+        values[valueOffset + 24] = (w3 >>> 24) & 0x1FFL;
+        values[valueOffset + 25] = (w3 >>> 33) & 0x1FFL;
+        values[valueOffset + 26] = (w3 >>> 42) & 0x1FFL;
+        values[valueOffset + 27] = (w3 >>> 51) & 0x1FFL;
+        values[valueOffset + 28] = ((w3 >>> 60) | (w4 << 4)) & 0x1FFL;
+        values[valueOffset + 29] = (w4 >>> 5) & 0x1FFL;
+        values[valueOffset + 30] = (w4 >>> 14) & 0x1FFL;
+        values[valueOffset + 31] = (w4 >>> 23) & 0x1FFL;
+        values[valueOffset + 32] = (w4 >>> 32) & 0x1FFL;
+        values[valueOffset + 33] = (w4 >>> 41) & 0x1FFL;
+        values[valueOffset + 34] = (w4 >>> 50) & 0x1FFL;
+        values[valueOffset + 35] = ((w4 >>> 59) | (w5 << 5)) & 0x1FFL;
+        values[valueOffset + 36] = (w5 >>> 4) & 0x1FFL;
+        values[valueOffset + 37] = (w5 >>> 13) & 0x1FFL;
+        values[valueOffset + 38] = (w5 >>> 22) & 0x1FFL;
+        values[valueOffset + 39] = (w5 >>> 31) & 0x1FFL;
+        values[valueOffset + 40] = (w5 >>> 40) & 0x1FFL;
+        values[valueOffset + 41] = (w5 >>> 49) & 0x1FFL;
+        values[valueOffset + 42] = ((w5 >>> 58) | (w6 << 6)) & 0x1FFL;
+        values[valueOffset + 43] = (w6 >>> 3) & 0x1FFL;
+        values[valueOffset + 44] = (w6 >>> 12) & 0x1FFL;
+        values[valueOffset + 45] = (w6 >>> 21) & 0x1FFL;
+        values[valueOffset + 46] = (w6 >>> 30) & 0x1FFL;
+        values[valueOffset + 47] = (w6 >>> 39) & 0x1FFL;
+        values[valueOffset + 48] = (w6 >>> 48) & 0x1FFL;
+        values[valueOffset + 49] = ((w6 >>> 57) | (w7 << 7)) & 0x1FFL;
+        values[valueOffset + 50] = (w7 >>> 2) & 0x1FFL;
+        values[valueOffset + 51] = (w7 >>> 11) & 0x1FFL;
+        values[valueOffset + 52] = (w7 >>> 20) & 0x1FFL;
+        values[valueOffset + 53] = (w7 >>> 29) & 0x1FFL;
+        values[valueOffset + 54] = (w7 >>> 38) & 0x1FFL;
+        values[valueOffset + 55] = (w7 >>> 47) & 0x1FFL;
+        values[valueOffset + 56] = ((w7 >>> 56) | (w8 << 8)) & 0x1FFL;
+        values[valueOffset + 57] = (w8 >>> 1) & 0x1FFL;
+        values[valueOffset + 58] = (w8 >>> 10) & 0x1FFL;
+        values[valueOffset + 59] = (w8 >>> 19) & 0x1FFL;
+        values[valueOffset + 60] = (w8 >>> 28) & 0x1FFL;
+        values[valueOffset + 61] = (w8 >>> 37) & 0x1FFL;
+        values[valueOffset + 62] = (w8 >>> 46) & 0x1FFL;
+        values[valueOffset + 63] = w8 >>> 55;
+    }
+
+    private static void unpack10(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        values[valueOffset + 0] = w0 & 0x3FFL;
+        values[valueOffset + 1] = (w0 >>> 10) & 0x3FFL;
+        values[valueOffset + 2] = (w0 >>> 20) & 0x3FFL;
+        values[valueOffset + 3] = (w0 >>> 30) & 0x3FFL;
+        values[valueOffset + 4] = (w0 >>> 40) & 0x3FFL;
+        values[valueOffset + 5] = (w0 >>> 50) & 0x3FFL;
+        values[valueOffset + 6] = ((w0 >>> 60) | (w1 << 4)) & 0x3FFL;
+        values[valueOffset + 7] = (w1 >>> 6) & 0x3FFL;
+        values[valueOffset + 8] = (w1 >>> 16) & 0x3FFL;
+        values[valueOffset + 9] = (w1 >>> 26) & 0x3FFL;
+        values[valueOffset + 10] = (w1 >>> 36) & 0x3FFL;
+        values[valueOffset + 11] = (w1 >>> 46) & 0x3FFL;
+        values[valueOffset + 12] = ((w1 >>> 56) | (w2 << 8)) & 0x3FFL;
+        values[valueOffset + 13] = (w2 >>> 2) & 0x3FFL;
+        values[valueOffset + 14] = (w2 >>> 12) & 0x3FFL;
+        values[valueOffset + 15] = (w2 >>> 22) & 0x3FFL;
+        values[valueOffset + 16] = (w2 >>> 32) & 0x3FFL;
+        values[valueOffset + 17] = (w2 >>> 42) & 0x3FFL;
+        values[valueOffset + 18] = (w2 >>> 52) & 0x3FFL;
+        values[valueOffset + 19] = ((w2 >>> 62) | (w3 << 2)) & 0x3FFL;
+        values[valueOffset + 20] = (w3 >>> 8) & 0x3FFL;
+        values[valueOffset + 21] = (w3 >>> 18) & 0x3FFL;
+        values[valueOffset + 22] = (w3 >>> 28) & 0x3FFL;
+        values[valueOffset + 23] = (w3 >>> 38) & 0x3FFL;
+        values[valueOffset + 24] = (w3 >>> 48) & 0x3FFL;
+        values[valueOffset + 25] = ((w3 >>> 58) | (w4 << 6)) & 0x3FFL;
+        values[valueOffset + 26] = (w4 >>> 4) & 0x3FFL;
+        values[valueOffset + 27] = (w4 >>> 14) & 0x3FFL;
+        values[valueOffset + 28] = (w4 >>> 24) & 0x3FFL;
+        values[valueOffset + 29] = (w4 >>> 34) & 0x3FFL;
+        values[valueOffset + 30] = (w4 >>> 44) & 0x3FFL;
+        values[valueOffset + 31] = w4 >>> 54;
+        values[valueOffset + 32] = w5 & 0x3FFL;
+        values[valueOffset + 33] = (w5 >>> 10) & 0x3FFL;
+        values[valueOffset + 34] = (w5 >>> 20) & 0x3FFL;
+        values[valueOffset + 35] = (w5 >>> 30) & 0x3FFL;
+        values[valueOffset + 36] = (w5 >>> 40) & 0x3FFL;
+        values[valueOffset + 37] = (w5 >>> 50) & 0x3FFL;
+        values[valueOffset + 38] = ((w5 >>> 60) | (w6 << 4)) & 0x3FFL;
+        values[valueOffset + 39] = (w6 >>> 6) & 0x3FFL;
+        values[valueOffset + 40] = (w6 >>> 16) & 0x3FFL;
+        values[valueOffset + 41] = (w6 >>> 26) & 0x3FFL;
+        values[valueOffset + 42] = (w6 >>> 36) & 0x3FFL;
+        values[valueOffset + 43] = (w6 >>> 46) & 0x3FFL;
+        values[valueOffset + 44] = ((w6 >>> 56) | (w7 << 8)) & 0x3FFL;
+        values[valueOffset + 45] = (w7 >>> 2) & 0x3FFL;
+        values[valueOffset + 46] = (w7 >>> 12) & 0x3FFL;
+        values[valueOffset + 47] = (w7 >>> 22) & 0x3FFL;
+        values[valueOffset + 48] = (w7 >>> 32) & 0x3FFL;
+        values[valueOffset + 49] = (w7 >>> 42) & 0x3FFL;
+        values[valueOffset + 50] = (w7 >>> 52) & 0x3FFL;
+        values[valueOffset + 51] = ((w7 >>> 62) | (w8 << 2)) & 0x3FFL;
+        values[valueOffset + 52] = (w8 >>> 8) & 0x3FFL;
+        values[valueOffset + 53] = (w8 >>> 18) & 0x3FFL;
+        values[valueOffset + 54] = (w8 >>> 28) & 0x3FFL;
+        values[valueOffset + 55] = (w8 >>> 38) & 0x3FFL;
+        values[valueOffset + 56] = (w8 >>> 48) & 0x3FFL;
+        values[valueOffset + 57] = ((w8 >>> 58) | (w9 << 6)) & 0x3FFL;
+        values[valueOffset + 58] = (w9 >>> 4) & 0x3FFL;
+        values[valueOffset + 59] = (w9 >>> 14) & 0x3FFL;
+        values[valueOffset + 60] = (w9 >>> 24) & 0x3FFL;
+        values[valueOffset + 61] = (w9 >>> 34) & 0x3FFL;
+        values[valueOffset + 62] = (w9 >>> 44) & 0x3FFL;
+        values[valueOffset + 63] = w9 >>> 54;
+    }
+
+    private static void unpack11(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        values[valueOffset + 0] = w0 & 0x7FFL;
+        values[valueOffset + 1] = (w0 >>> 11) & 0x7FFL;
+        values[valueOffset + 2] = (w0 >>> 22) & 0x7FFL;
+        values[valueOffset + 3] = (w0 >>> 33) & 0x7FFL;
+        values[valueOffset + 4] = (w0 >>> 44) & 0x7FFL;
+        values[valueOffset + 5] = ((w0 >>> 55) | (w1 << 9)) & 0x7FFL;
+        values[valueOffset + 6] = (w1 >>> 2) & 0x7FFL;
+        values[valueOffset + 7] = (w1 >>> 13) & 0x7FFL;
+        values[valueOffset + 8] = (w1 >>> 24) & 0x7FFL;
+        values[valueOffset + 9] = (w1 >>> 35) & 0x7FFL;
+        values[valueOffset + 10] = (w1 >>> 46) & 0x7FFL;
+        values[valueOffset + 11] = ((w1 >>> 57) | (w2 << 7)) & 0x7FFL;
+        values[valueOffset + 12] = (w2 >>> 4) & 0x7FFL;
+        values[valueOffset + 13] = (w2 >>> 15) & 0x7FFL;
+        values[valueOffset + 14] = (w2 >>> 26) & 0x7FFL;
+        values[valueOffset + 15] = (w2 >>> 37) & 0x7FFL;
+        values[valueOffset + 16] = (w2 >>> 48) & 0x7FFL;
+        values[valueOffset + 17] = ((w2 >>> 59) | (w3 << 5)) & 0x7FFL;
+        values[valueOffset + 18] = (w3 >>> 6) & 0x7FFL;
+        values[valueOffset + 19] = (w3 >>> 17) & 0x7FFL;
+        values[valueOffset + 20] = (w3 >>> 28) & 0x7FFL;
+        values[valueOffset + 21] = (w3 >>> 39) & 0x7FFL;
+        values[valueOffset + 22] = (w3 >>> 50) & 0x7FFL;
+        values[valueOffset + 23] = ((w3 >>> 61) | (w4 << 3)) & 0x7FFL;
+        values[valueOffset + 24] = (w4 >>> 8) & 0x7FFL;
+        values[valueOffset + 25] = (w4 >>> 19) & 0x7FFL;
+        values[valueOffset + 26] = (w4 >>> 30) & 0x7FFL;
+        values[valueOffset + 27] = (w4 >>> 41) & 0x7FFL;
+        values[valueOffset + 28] = (w4 >>> 52) & 0x7FFL;
+        values[valueOffset + 29] = ((w4 >>> 63) | (w5 << 1)) & 0x7FFL;
+        values[valueOffset + 30] = (w5 >>> 10) & 0x7FFL;
+        values[valueOffset + 31] = (w5 >>> 21) & 0x7FFL;
+        values[valueOffset + 32] = (w5 >>> 32) & 0x7FFL;
+        values[valueOffset + 33] = (w5 >>> 43) & 0x7FFL;
+        values[valueOffset + 34] = ((w5 >>> 54) | (w6 << 10)) & 0x7FFL;
+        values[valueOffset + 35] = (w6 >>> 1) & 0x7FFL;
+        values[valueOffset + 36] = (w6 >>> 12) & 0x7FFL;
+        values[valueOffset + 37] = (w6 >>> 23) & 0x7FFL;
+        values[valueOffset + 38] = (w6 >>> 34) & 0x7FFL;
+        values[valueOffset + 39] = (w6 >>> 45) & 0x7FFL;
+        values[valueOffset + 40] = ((w6 >>> 56) | (w7 << 8)) & 0x7FFL;
+        values[valueOffset + 41] = (w7 >>> 3) & 0x7FFL;
+        values[valueOffset + 42] = (w7 >>> 14) & 0x7FFL;
+        values[valueOffset + 43] = (w7 >>> 25) & 0x7FFL;
+        values[valueOffset + 44] = (w7 >>> 36) & 0x7FFL;
+        values[valueOffset + 45] = (w7 >>> 47) & 0x7FFL;
+        values[valueOffset + 46] = ((w7 >>> 58) | (w8 << 6)) & 0x7FFL;
+        values[valueOffset + 47] = (w8 >>> 5) & 0x7FFL;
+        values[valueOffset + 48] = (w8 >>> 16) & 0x7FFL;
+        values[valueOffset + 49] = (w8 >>> 27) & 0x7FFL;
+        values[valueOffset + 50] = (w8 >>> 38) & 0x7FFL;
+        values[valueOffset + 51] = (w8 >>> 49) & 0x7FFL;
+        values[valueOffset + 52] = ((w8 >>> 60) | (w9 << 4)) & 0x7FFL;
+        values[valueOffset + 53] = (w9 >>> 7) & 0x7FFL;
+        values[valueOffset + 54] = (w9 >>> 18) & 0x7FFL;
+        values[valueOffset + 55] = (w9 >>> 29) & 0x7FFL;
+        values[valueOffset + 56] = (w9 >>> 40) & 0x7FFL;
+        values[valueOffset + 57] = (w9 >>> 51) & 0x7FFL;
+        values[valueOffset + 58] = ((w9 >>> 62) | (w10 << 2)) & 0x7FFL;
+        values[valueOffset + 59] = (w10 >>> 9) & 0x7FFL;
+        values[valueOffset + 60] = (w10 >>> 20) & 0x7FFL;
+        values[valueOffset + 61] = (w10 >>> 31) & 0x7FFL;
+        values[valueOffset + 62] = (w10 >>> 42) & 0x7FFL;
+        values[valueOffset + 63] = w10 >>> 53;
+    }
+
+    private static void unpack12(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        values[valueOffset + 0] = w0 & 0xFFFL;
+        values[valueOffset + 1] = (w0 >>> 12) & 0xFFFL;
+        values[valueOffset + 2] = (w0 >>> 24) & 0xFFFL;
+        values[valueOffset + 3] = (w0 >>> 36) & 0xFFFL;
+        values[valueOffset + 4] = (w0 >>> 48) & 0xFFFL;
+        values[valueOffset + 5] = ((w0 >>> 60) | (w1 << 4)) & 0xFFFL;
+        values[valueOffset + 6] = (w1 >>> 8) & 0xFFFL;
+        values[valueOffset + 7] = (w1 >>> 20) & 0xFFFL;
+        values[valueOffset + 8] = (w1 >>> 32) & 0xFFFL;
+        values[valueOffset + 9] = (w1 >>> 44) & 0xFFFL;
+        values[valueOffset + 10] = ((w1 >>> 56) | (w2 << 8)) & 0xFFFL;
+        values[valueOffset + 11] = (w2 >>> 4) & 0xFFFL;
+        values[valueOffset + 12] = (w2 >>> 16) & 0xFFFL;
+        values[valueOffset + 13] = (w2 >>> 28) & 0xFFFL;
+        values[valueOffset + 14] = (w2 >>> 40) & 0xFFFL;
+        values[valueOffset + 15] = w2 >>> 52;
+        values[valueOffset + 16] = w3 & 0xFFFL;
+        values[valueOffset + 17] = (w3 >>> 12) & 0xFFFL;
+        values[valueOffset + 18] = (w3 >>> 24) & 0xFFFL;
+        values[valueOffset + 19] = (w3 >>> 36) & 0xFFFL;
+        values[valueOffset + 20] = (w3 >>> 48) & 0xFFFL;
+        values[valueOffset + 21] = ((w3 >>> 60) | (w4 << 4)) & 0xFFFL;
+        values[valueOffset + 22] = (w4 >>> 8) & 0xFFFL;
+        values[valueOffset + 23] = (w4 >>> 20) & 0xFFFL;
+        values[valueOffset + 24] = (w4 >>> 32) & 0xFFFL;
+        values[valueOffset + 25] = (w4 >>> 44) & 0xFFFL;
+        values[valueOffset + 26] = ((w4 >>> 56) | (w5 << 8)) & 0xFFFL;
+        values[valueOffset + 27] = (w5 >>> 4) & 0xFFFL;
+        values[valueOffset + 28] = (w5 >>> 16) & 0xFFFL;
+        values[valueOffset + 29] = (w5 >>> 28) & 0xFFFL;
+        values[valueOffset + 30] = (w5 >>> 40) & 0xFFFL;
+        values[valueOffset + 31] = w5 >>> 52;
+        values[valueOffset + 32] = w6 & 0xFFFL;
+        values[valueOffset + 33] = (w6 >>> 12) & 0xFFFL;
+        values[valueOffset + 34] = (w6 >>> 24) & 0xFFFL;
+        values[valueOffset + 35] = (w6 >>> 36) & 0xFFFL;
+        values[valueOffset + 36] = (w6 >>> 48) & 0xFFFL;
+        values[valueOffset + 37] = ((w6 >>> 60) | (w7 << 4)) & 0xFFFL;
+        values[valueOffset + 38] = (w7 >>> 8) & 0xFFFL;
+        values[valueOffset + 39] = (w7 >>> 20) & 0xFFFL;
+        values[valueOffset + 40] = (w7 >>> 32) & 0xFFFL;
+        values[valueOffset + 41] = (w7 >>> 44) & 0xFFFL;
+        values[valueOffset + 42] = ((w7 >>> 56) | (w8 << 8)) & 0xFFFL;
+        values[valueOffset + 43] = (w8 >>> 4) & 0xFFFL;
+        values[valueOffset + 44] = (w8 >>> 16) & 0xFFFL;
+        values[valueOffset + 45] = (w8 >>> 28) & 0xFFFL;
+        values[valueOffset + 46] = (w8 >>> 40) & 0xFFFL;
+        values[valueOffset + 47] = w8 >>> 52;
+        values[valueOffset + 48] = w9 & 0xFFFL;
+        values[valueOffset + 49] = (w9 >>> 12) & 0xFFFL;
+        values[valueOffset + 50] = (w9 >>> 24) & 0xFFFL;
+        values[valueOffset + 51] = (w9 >>> 36) & 0xFFFL;
+        values[valueOffset + 52] = (w9 >>> 48) & 0xFFFL;
+        values[valueOffset + 53] = ((w9 >>> 60) | (w10 << 4)) & 0xFFFL;
+        values[valueOffset + 54] = (w10 >>> 8) & 0xFFFL;
+        values[valueOffset + 55] = (w10 >>> 20) & 0xFFFL;
+        values[valueOffset + 56] = (w10 >>> 32) & 0xFFFL;
+        values[valueOffset + 57] = (w10 >>> 44) & 0xFFFL;
+        values[valueOffset + 58] = ((w10 >>> 56) | (w11 << 8)) & 0xFFFL;
+        values[valueOffset + 59] = (w11 >>> 4) & 0xFFFL;
+        values[valueOffset + 60] = (w11 >>> 16) & 0xFFFL;
+        values[valueOffset + 61] = (w11 >>> 28) & 0xFFFL;
+        values[valueOffset + 62] = (w11 >>> 40) & 0xFFFL;
+        values[valueOffset + 63] = w11 >>> 52;
+    }
+
+    private static void unpack13(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        values[valueOffset + 0] = w0 & 0x1FFFL;
+        values[valueOffset + 1] = (w0 >>> 13) & 0x1FFFL;
+        values[valueOffset + 2] = (w0 >>> 26) & 0x1FFFL;
+        values[valueOffset + 3] = (w0 >>> 39) & 0x1FFFL;
+        values[valueOffset + 4] = ((w0 >>> 52) | (w1 << 12)) & 0x1FFFL;
+        values[valueOffset + 5] = (w1 >>> 1) & 0x1FFFL;
+        values[valueOffset + 6] = (w1 >>> 14) & 0x1FFFL;
+        values[valueOffset + 7] = (w1 >>> 27) & 0x1FFFL;
+        values[valueOffset + 8] = (w1 >>> 40) & 0x1FFFL;
+        values[valueOffset + 9] = ((w1 >>> 53) | (w2 << 11)) & 0x1FFFL;
+        values[valueOffset + 10] = (w2 >>> 2) & 0x1FFFL;
+        values[valueOffset + 11] = (w2 >>> 15) & 0x1FFFL;
+        values[valueOffset + 12] = (w2 >>> 28) & 0x1FFFL;
+        values[valueOffset + 13] = (w2 >>> 41) & 0x1FFFL;
+        values[valueOffset + 14] = ((w2 >>> 54) | (w3 << 10)) & 0x1FFFL;
+        values[valueOffset + 15] = (w3 >>> 3) & 0x1FFFL;
+        values[valueOffset + 16] = (w3 >>> 16) & 0x1FFFL;
+        values[valueOffset + 17] = (w3 >>> 29) & 0x1FFFL;
+        values[valueOffset + 18] = (w3 >>> 42) & 0x1FFFL;
+        values[valueOffset + 19] = ((w3 >>> 55) | (w4 << 9)) & 0x1FFFL;
+        values[valueOffset + 20] = (w4 >>> 4) & 0x1FFFL;
+        values[valueOffset + 21] = (w4 >>> 17) & 0x1FFFL;
+        values[valueOffset + 22] = (w4 >>> 30) & 0x1FFFL;
+        values[valueOffset + 23] = (w4 >>> 43) & 0x1FFFL;
+        values[valueOffset + 24] = ((w4 >>> 56) | (w5 << 8)) & 0x1FFFL;
+        values[valueOffset + 25] = (w5 >>> 5) & 0x1FFFL;
+        values[valueOffset + 26] = (w5 >>> 18) & 0x1FFFL;
+        values[valueOffset + 27] = (w5 >>> 31) & 0x1FFFL;
+        values[valueOffset + 28] = (w5 >>> 44) & 0x1FFFL;
+        values[valueOffset + 29] = ((w5 >>> 57) | (w6 << 7)) & 0x1FFFL;
+        values[valueOffset + 30] = (w6 >>> 6) & 0x1FFFL;
+        values[valueOffset + 31] = (w6 >>> 19) & 0x1FFFL;
+        values[valueOffset + 32] = (w6 >>> 32) & 0x1FFFL;
+        values[valueOffset + 33] = (w6 >>> 45) & 0x1FFFL;
+        values[valueOffset + 34] = ((w6 >>> 58) | (w7 << 6)) & 0x1FFFL;
+        values[valueOffset + 35] = (w7 >>> 7) & 0x1FFFL;
+        values[valueOffset + 36] = (w7 >>> 20) & 0x1FFFL;
+        values[valueOffset + 37] = (w7 >>> 33) & 0x1FFFL;
+        values[valueOffset + 38] = (w7 >>> 46) & 0x1FFFL;
+        values[valueOffset + 39] = ((w7 >>> 59) | (w8 << 5)) & 0x1FFFL;
+        values[valueOffset + 40] = (w8 >>> 8) & 0x1FFFL;
+        values[valueOffset + 41] = (w8 >>> 21) & 0x1FFFL;
+        values[valueOffset + 42] = (w8 >>> 34) & 0x1FFFL;
+        values[valueOffset + 43] = (w8 >>> 47) & 0x1FFFL;
+        values[valueOffset + 44] = ((w8 >>> 60) | (w9 << 4)) & 0x1FFFL;
+        values[valueOffset + 45] = (w9 >>> 9) & 0x1FFFL;
+        values[valueOffset + 46] = (w9 >>> 22) & 0x1FFFL;
+        values[valueOffset + 47] = (w9 >>> 35) & 0x1FFFL;
+        values[valueOffset + 48] = (w9 >>> 48) & 0x1FFFL;
+        values[valueOffset + 49] = ((w9 >>> 61) | (w10 << 3)) & 0x1FFFL;
+        values[valueOffset + 50] = (w10 >>> 10) & 0x1FFFL;
+        values[valueOffset + 51] = (w10 >>> 23) & 0x1FFFL;
+        values[valueOffset + 52] = (w10 >>> 36) & 0x1FFFL;
+        values[valueOffset + 53] = (w10 >>> 49) & 0x1FFFL;
+        values[valueOffset + 54] = ((w10 >>> 62) | (w11 << 2)) & 0x1FFFL;
+        values[valueOffset + 55] = (w11 >>> 11) & 0x1FFFL;
+        values[valueOffset + 56] = (w11 >>> 24) & 0x1FFFL;
+        values[valueOffset + 57] = (w11 >>> 37) & 0x1FFFL;
+        values[valueOffset + 58] = (w11 >>> 50) & 0x1FFFL;
+        values[valueOffset + 59] = ((w11 >>> 63) | (w12 << 1)) & 0x1FFFL;
+        values[valueOffset + 60] = (w12 >>> 12) & 0x1FFFL;
+        values[valueOffset + 61] = (w12 >>> 25) & 0x1FFFL;
+        values[valueOffset + 62] = (w12 >>> 38) & 0x1FFFL;
+        values[valueOffset + 63] = w12 >>> 51;
+    }
+
+    private static void unpack14(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        values[valueOffset + 0] = w0 & 0x3FFFL;
+        values[valueOffset + 1] = (w0 >>> 14) & 0x3FFFL;
+        values[valueOffset + 2] = (w0 >>> 28) & 0x3FFFL;
+        values[valueOffset + 3] = (w0 >>> 42) & 0x3FFFL;
+        values[valueOffset + 4] = ((w0 >>> 56) | (w1 << 8)) & 0x3FFFL;
+        values[valueOffset + 5] = (w1 >>> 6) & 0x3FFFL;
+        values[valueOffset + 6] = (w1 >>> 20) & 0x3FFFL;
+        values[valueOffset + 7] = (w1 >>> 34) & 0x3FFFL;
+        values[valueOffset + 8] = (w1 >>> 48) & 0x3FFFL;
+        values[valueOffset + 9] = ((w1 >>> 62) | (w2 << 2)) & 0x3FFFL;
+        values[valueOffset + 10] = (w2 >>> 12) & 0x3FFFL;
+        values[valueOffset + 11] = (w2 >>> 26) & 0x3FFFL;
+        values[valueOffset + 12] = (w2 >>> 40) & 0x3FFFL;
+        values[valueOffset + 13] = ((w2 >>> 54) | (w3 << 10)) & 0x3FFFL;
+        values[valueOffset + 14] = (w3 >>> 4) & 0x3FFFL;
+        values[valueOffset + 15] = (w3 >>> 18) & 0x3FFFL;
+        values[valueOffset + 16] = (w3 >>> 32) & 0x3FFFL;
+        values[valueOffset + 17] = (w3 >>> 46) & 0x3FFFL;
+        values[valueOffset + 18] = ((w3 >>> 60) | (w4 << 4)) & 0x3FFFL;
+        values[valueOffset + 19] = (w4 >>> 10) & 0x3FFFL;
+        values[valueOffset + 20] = (w4 >>> 24) & 0x3FFFL;
+        values[valueOffset + 21] = (w4 >>> 38) & 0x3FFFL;
+        values[valueOffset + 22] = ((w4 >>> 52) | (w5 << 12)) & 0x3FFFL;
+        values[valueOffset + 23] = (w5 >>> 2) & 0x3FFFL;
+        values[valueOffset + 24] = (w5 >>> 16) & 0x3FFFL;
+        values[valueOffset + 25] = (w5 >>> 30) & 0x3FFFL;
+        values[valueOffset + 26] = (w5 >>> 44) & 0x3FFFL;
+        values[valueOffset + 27] = ((w5 >>> 58) | (w6 << 6)) & 0x3FFFL;
+        values[valueOffset + 28] = (w6 >>> 8) & 0x3FFFL;
+        values[valueOffset + 29] = (w6 >>> 22) & 0x3FFFL;
+        values[valueOffset + 30] = (w6 >>> 36) & 0x3FFFL;
+        values[valueOffset + 31] = w6 >>> 50;
+        values[valueOffset + 32] = w7 & 0x3FFFL;
+        values[valueOffset + 33] = (w7 >>> 14) & 0x3FFFL;
+        values[valueOffset + 34] = (w7 >>> 28) & 0x3FFFL;
+        values[valueOffset + 35] = (w7 >>> 42) & 0x3FFFL;
+        values[valueOffset + 36] = ((w7 >>> 56) | (w8 << 8)) & 0x3FFFL;
+        values[valueOffset + 37] = (w8 >>> 6) & 0x3FFFL;
+        values[valueOffset + 38] = (w8 >>> 20) & 0x3FFFL;
+        values[valueOffset + 39] = (w8 >>> 34) & 0x3FFFL;
+        values[valueOffset + 40] = (w8 >>> 48) & 0x3FFFL;
+        values[valueOffset + 41] = ((w8 >>> 62) | (w9 << 2)) & 0x3FFFL;
+        values[valueOffset + 42] = (w9 >>> 12) & 0x3FFFL;
+        values[valueOffset + 43] = (w9 >>> 26) & 0x3FFFL;
+        values[valueOffset + 44] = (w9 >>> 40) & 0x3FFFL;
+        values[valueOffset + 45] = ((w9 >>> 54) | (w10 << 10)) & 0x3FFFL;
+        values[valueOffset + 46] = (w10 >>> 4) & 0x3FFFL;
+        values[valueOffset + 47] = (w10 >>> 18) & 0x3FFFL;
+        values[valueOffset + 48] = (w10 >>> 32) & 0x3FFFL;
+        values[valueOffset + 49] = (w10 >>> 46) & 0x3FFFL;
+        values[valueOffset + 50] = ((w10 >>> 60) | (w11 << 4)) & 0x3FFFL;
+        values[valueOffset + 51] = (w11 >>> 10) & 0x3FFFL;
+        values[valueOffset + 52] = (w11 >>> 24) & 0x3FFFL;
+        values[valueOffset + 53] = (w11 >>> 38) & 0x3FFFL;
+        values[valueOffset + 54] = ((w11 >>> 52) | (w12 << 12)) & 0x3FFFL;
+        values[valueOffset + 55] = (w12 >>> 2) & 0x3FFFL;
+        values[valueOffset + 56] = (w12 >>> 16) & 0x3FFFL;
+        values[valueOffset + 57] = (w12 >>> 30) & 0x3FFFL;
+        values[valueOffset + 58] = (w12 >>> 44) & 0x3FFFL;
+        values[valueOffset + 59] = ((w12 >>> 58) | (w13 << 6)) & 0x3FFFL;
+        values[valueOffset + 60] = (w13 >>> 8) & 0x3FFFL;
+        values[valueOffset + 61] = (w13 >>> 22) & 0x3FFFL;
+        values[valueOffset + 62] = (w13 >>> 36) & 0x3FFFL;
+        values[valueOffset + 63] = w13 >>> 50;
+    }
+
+    private static void unpack15(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        values[valueOffset + 0] = w0 & 0x7FFFL;
+        values[valueOffset + 1] = (w0 >>> 15) & 0x7FFFL;
+        values[valueOffset + 2] = (w0 >>> 30) & 0x7FFFL;
+        values[valueOffset + 3] = (w0 >>> 45) & 0x7FFFL;
+        values[valueOffset + 4] = ((w0 >>> 60) | (w1 << 4)) & 0x7FFFL;
+        values[valueOffset + 5] = (w1 >>> 11) & 0x7FFFL;
+        values[valueOffset + 6] = (w1 >>> 26) & 0x7FFFL;
+        values[valueOffset + 7] = (w1 >>> 41) & 0x7FFFL;
+        values[valueOffset + 8] = ((w1 >>> 56) | (w2 << 8)) & 0x7FFFL;
+        values[valueOffset + 9] = (w2 >>> 7) & 0x7FFFL;
+        values[valueOffset + 10] = (w2 >>> 22) & 0x7FFFL;
+        values[valueOffset + 11] = (w2 >>> 37) & 0x7FFFL;
+        values[valueOffset + 12] = ((w2 >>> 52) | (w3 << 12)) & 0x7FFFL;
+        values[valueOffset + 13] = (w3 >>> 3) & 0x7FFFL;
+        values[valueOffset + 14] = (w3 >>> 18) & 0x7FFFL;
+        values[valueOffset + 15] = (w3 >>> 33) & 0x7FFFL;
+        values[valueOffset + 16] = (w3 >>> 48) & 0x7FFFL;
+        values[valueOffset + 17] = ((w3 >>> 63) | (w4 << 1)) & 0x7FFFL;
+        values[valueOffset + 18] = (w4 >>> 14) & 0x7FFFL;
+        values[valueOffset + 19] = (w4 >>> 29) & 0x7FFFL;
+        values[valueOffset + 20] = (w4 >>> 44) & 0x7FFFL;
+        values[valueOffset + 21] = ((w4 >>> 59) | (w5 << 5)) & 0x7FFFL;
+        values[valueOffset + 22] = (w5 >>> 10) & 0x7FFFL;
+        values[valueOffset + 23] = (w5 >>> 25) & 0x7FFFL;
+        values[valueOffset + 24] = (w5 >>> 40) & 0x7FFFL;
+        values[valueOffset + 25] = ((w5 >>> 55) | (w6 << 9)) & 0x7FFFL;
+        values[valueOffset + 26] = (w6 >>> 6) & 0x7FFFL;
+        values[valueOffset + 27] = (w6 >>> 21) & 0x7FFFL;
+        values[valueOffset + 28] = (w6 >>> 36) & 0x7FFFL;
+        values[valueOffset + 29] = ((w6 >>> 51) | (w7 << 13)) & 0x7FFFL;
+        values[valueOffset + 30] = (w7 >>> 2) & 0x7FFFL;
+        values[valueOffset + 31] = (w7 >>> 17) & 0x7FFFL;
+        values[valueOffset + 32] = (w7 >>> 32) & 0x7FFFL;
+        values[valueOffset + 33] = (w7 >>> 47) & 0x7FFFL;
+        values[valueOffset + 34] = ((w7 >>> 62) | (w8 << 2)) & 0x7FFFL;
+        values[valueOffset + 35] = (w8 >>> 13) & 0x7FFFL;
+        values[valueOffset + 36] = (w8 >>> 28) & 0x7FFFL;
+        values[valueOffset + 37] = (w8 >>> 43) & 0x7FFFL;
+        values[valueOffset + 38] = ((w8 >>> 58) | (w9 << 6)) & 0x7FFFL;
+        values[valueOffset + 39] = (w9 >>> 9) & 0x7FFFL;
+        values[valueOffset + 40] = (w9 >>> 24) & 0x7FFFL;
+        values[valueOffset + 41] = (w9 >>> 39) & 0x7FFFL;
+        values[valueOffset + 42] = ((w9 >>> 54) | (w10 << 10)) & 0x7FFFL;
+        values[valueOffset + 43] = (w10 >>> 5) & 0x7FFFL;
+        values[valueOffset + 44] = (w10 >>> 20) & 0x7FFFL;
+        values[valueOffset + 45] = (w10 >>> 35) & 0x7FFFL;
+        values[valueOffset + 46] = ((w10 >>> 50) | (w11 << 14)) & 0x7FFFL;
+        values[valueOffset + 47] = (w11 >>> 1) & 0x7FFFL;
+        values[valueOffset + 48] = (w11 >>> 16) & 0x7FFFL;
+        values[valueOffset + 49] = (w11 >>> 31) & 0x7FFFL;
+        values[valueOffset + 50] = (w11 >>> 46) & 0x7FFFL;
+        values[valueOffset + 51] = ((w11 >>> 61) | (w12 << 3)) & 0x7FFFL;
+        values[valueOffset + 52] = (w12 >>> 12) & 0x7FFFL;
+        values[valueOffset + 53] = (w12 >>> 27) & 0x7FFFL;
+        values[valueOffset + 54] = (w12 >>> 42) & 0x7FFFL;
+        values[valueOffset + 55] = ((w12 >>> 57) | (w13 << 7)) & 0x7FFFL;
+        values[valueOffset + 56] = (w13 >>> 8) & 0x7FFFL;
+        values[valueOffset + 57] = (w13 >>> 23) & 0x7FFFL;
+        values[valueOffset + 58] = (w13 >>> 38) & 0x7FFFL;
+        values[valueOffset + 59] = ((w13 >>> 53) | (w14 << 11)) & 0x7FFFL;
+        values[valueOffset + 60] = (w14 >>> 4) & 0x7FFFL;
+        values[valueOffset + 61] = (w14 >>> 19) & 0x7FFFL;
+        values[valueOffset + 62] = (w14 >>> 34) & 0x7FFFL;
+        values[valueOffset + 63] = w14 >>> 49;
+    }
+
+    private static void unpack16(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        values[valueOffset + 0] = w0 & 0xFFFFL;
+        values[valueOffset + 1] = (w0 >>> 16) & 0xFFFFL;
+        values[valueOffset + 2] = (w0 >>> 32) & 0xFFFFL;
+        values[valueOffset + 3] = w0 >>> 48;
+        values[valueOffset + 4] = w1 & 0xFFFFL;
+        values[valueOffset + 5] = (w1 >>> 16) & 0xFFFFL;
+        values[valueOffset + 6] = (w1 >>> 32) & 0xFFFFL;
+        values[valueOffset + 7] = w1 >>> 48;
+        values[valueOffset + 8] = w2 & 0xFFFFL;
+        values[valueOffset + 9] = (w2 >>> 16) & 0xFFFFL;
+        values[valueOffset + 10] = (w2 >>> 32) & 0xFFFFL;
+        values[valueOffset + 11] = w2 >>> 48;
+        values[valueOffset + 12] = w3 & 0xFFFFL;
+        values[valueOffset + 13] = (w3 >>> 16) & 0xFFFFL;
+        values[valueOffset + 14] = (w3 >>> 32) & 0xFFFFL;
+        values[valueOffset + 15] = w3 >>> 48;
+        values[valueOffset + 16] = w4 & 0xFFFFL;
+        values[valueOffset + 17] = (w4 >>> 16) & 0xFFFFL;
+        values[valueOffset + 18] = (w4 >>> 32) & 0xFFFFL;
+        values[valueOffset + 19] = w4 >>> 48;
+        values[valueOffset + 20] = w5 & 0xFFFFL;
+        values[valueOffset + 21] = (w5 >>> 16) & 0xFFFFL;
+        values[valueOffset + 22] = (w5 >>> 32) & 0xFFFFL;
+        values[valueOffset + 23] = w5 >>> 48;
+        values[valueOffset + 24] = w6 & 0xFFFFL;
+        values[valueOffset + 25] = (w6 >>> 16) & 0xFFFFL;
+        values[valueOffset + 26] = (w6 >>> 32) & 0xFFFFL;
+        values[valueOffset + 27] = w6 >>> 48;
+        values[valueOffset + 28] = w7 & 0xFFFFL;
+        values[valueOffset + 29] = (w7 >>> 16) & 0xFFFFL;
+        values[valueOffset + 30] = (w7 >>> 32) & 0xFFFFL;
+        values[valueOffset + 31] = w7 >>> 48;
+        values[valueOffset + 32] = w8 & 0xFFFFL;
+        values[valueOffset + 33] = (w8 >>> 16) & 0xFFFFL;
+        values[valueOffset + 34] = (w8 >>> 32) & 0xFFFFL;
+        values[valueOffset + 35] = w8 >>> 48;
+        values[valueOffset + 36] = w9 & 0xFFFFL;
+        values[valueOffset + 37] = (w9 >>> 16) & 0xFFFFL;
+        values[valueOffset + 38] = (w9 >>> 32) & 0xFFFFL;
+        values[valueOffset + 39] = w9 >>> 48;
+        values[valueOffset + 40] = w10 & 0xFFFFL;
+        values[valueOffset + 41] = (w10 >>> 16) & 0xFFFFL;
+        values[valueOffset + 42] = (w10 >>> 32) & 0xFFFFL;
+        values[valueOffset + 43] = w10 >>> 48;
+        values[valueOffset + 44] = w11 & 0xFFFFL;
+        values[valueOffset + 45] = (w11 >>> 16) & 0xFFFFL;
+        values[valueOffset + 46] = (w11 >>> 32) & 0xFFFFL;
+        values[valueOffset + 47] = w11 >>> 48;
+        values[valueOffset + 48] = w12 & 0xFFFFL;
+        values[valueOffset + 49] = (w12 >>> 16) & 0xFFFFL;
+        values[valueOffset + 50] = (w12 >>> 32) & 0xFFFFL;
+        values[valueOffset + 51] = w12 >>> 48;
+        values[valueOffset + 52] = w13 & 0xFFFFL;
+        values[valueOffset + 53] = (w13 >>> 16) & 0xFFFFL;
+        values[valueOffset + 54] = (w13 >>> 32) & 0xFFFFL;
+        values[valueOffset + 55] = w13 >>> 48;
+        values[valueOffset + 56] = w14 & 0xFFFFL;
+        values[valueOffset + 57] = (w14 >>> 16) & 0xFFFFL;
+        values[valueOffset + 58] = (w14 >>> 32) & 0xFFFFL;
+        values[valueOffset + 59] = w14 >>> 48;
+        values[valueOffset + 60] = w15 & 0xFFFFL;
+        values[valueOffset + 61] = (w15 >>> 16) & 0xFFFFL;
+        values[valueOffset + 62] = (w15 >>> 32) & 0xFFFFL;
+        values[valueOffset + 63] = w15 >>> 48;
+    }
+
+    private static void unpack17(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        values[valueOffset + 0] = w0 & 0x1FFFFL;
+        values[valueOffset + 1] = (w0 >>> 17) & 0x1FFFFL;
+        values[valueOffset + 2] = (w0 >>> 34) & 0x1FFFFL;
+        values[valueOffset + 3] = ((w0 >>> 51) | (w1 << 13)) & 0x1FFFFL;
+        values[valueOffset + 4] = (w1 >>> 4) & 0x1FFFFL;
+        values[valueOffset + 5] = (w1 >>> 21) & 0x1FFFFL;
+        values[valueOffset + 6] = (w1 >>> 38) & 0x1FFFFL;
+        values[valueOffset + 7] = ((w1 >>> 55) | (w2 << 9)) & 0x1FFFFL;
+        values[valueOffset + 8] = (w2 >>> 8) & 0x1FFFFL;
+        values[valueOffset + 9] = (w2 >>> 25) & 0x1FFFFL;
+        values[valueOffset + 10] = (w2 >>> 42) & 0x1FFFFL;
+        values[valueOffset + 11] = ((w2 >>> 59) | (w3 << 5)) & 0x1FFFFL;
+        values[valueOffset + 12] = (w3 >>> 12) & 0x1FFFFL;
+        values[valueOffset + 13] = (w3 >>> 29) & 0x1FFFFL;
+        values[valueOffset + 14] = (w3 >>> 46) & 0x1FFFFL;
+        values[valueOffset + 15] = ((w3 >>> 63) | (w4 << 1)) & 0x1FFFFL;
+        values[valueOffset + 16] = (w4 >>> 16) & 0x1FFFFL;
+        values[valueOffset + 17] = (w4 >>> 33) & 0x1FFFFL;
+        values[valueOffset + 18] = ((w4 >>> 50) | (w5 << 14)) & 0x1FFFFL;
+        values[valueOffset + 19] = (w5 >>> 3) & 0x1FFFFL;
+        values[valueOffset + 20] = (w5 >>> 20) & 0x1FFFFL;
+        values[valueOffset + 21] = (w5 >>> 37) & 0x1FFFFL;
+        values[valueOffset + 22] = ((w5 >>> 54) | (w6 << 10)) & 0x1FFFFL;
+        values[valueOffset + 23] = (w6 >>> 7) & 0x1FFFFL;
+        values[valueOffset + 24] = (w6 >>> 24) & 0x1FFFFL;
+        values[valueOffset + 25] = (w6 >>> 41) & 0x1FFFFL;
+        values[valueOffset + 26] = ((w6 >>> 58) | (w7 << 6)) & 0x1FFFFL;
+        values[valueOffset + 27] = (w7 >>> 11) & 0x1FFFFL;
+        values[valueOffset + 28] = (w7 >>> 28) & 0x1FFFFL;
+        values[valueOffset + 29] = (w7 >>> 45) & 0x1FFFFL;
+        values[valueOffset + 30] = ((w7 >>> 62) | (w8 << 2)) & 0x1FFFFL;
+        values[valueOffset + 31] = (w8 >>> 15) & 0x1FFFFL;
+        values[valueOffset + 32] = (w8 >>> 32) & 0x1FFFFL;
+        values[valueOffset + 33] = ((w8 >>> 49) | (w9 << 15)) & 0x1FFFFL;
+        values[valueOffset + 34] = (w9 >>> 2) & 0x1FFFFL;
+        values[valueOffset + 35] = (w9 >>> 19) & 0x1FFFFL;
+        values[valueOffset + 36] = (w9 >>> 36) & 0x1FFFFL;
+        values[valueOffset + 37] = ((w9 >>> 53) | (w10 << 11)) & 0x1FFFFL;
+        values[valueOffset + 38] = (w10 >>> 6) & 0x1FFFFL;
+        values[valueOffset + 39] = (w10 >>> 23) & 0x1FFFFL;
+        values[valueOffset + 40] = (w10 >>> 40) & 0x1FFFFL;
+        values[valueOffset + 41] = ((w10 >>> 57) | (w11 << 7)) & 0x1FFFFL;
+        values[valueOffset + 42] = (w11 >>> 10) & 0x1FFFFL;
+        values[valueOffset + 43] = (w11 >>> 27) & 0x1FFFFL;
+        values[valueOffset + 44] = (w11 >>> 44) & 0x1FFFFL;
+        values[valueOffset + 45] = ((w11 >>> 61) | (w12 << 3)) & 0x1FFFFL;
+        values[valueOffset + 46] = (w12 >>> 14) & 0x1FFFFL;
+        values[valueOffset + 47] = (w12 >>> 31) & 0x1FFFFL;
+        values[valueOffset + 48] = ((w12 >>> 48) | (w13 << 16)) & 0x1FFFFL;
+        values[valueOffset + 49] = (w13 >>> 1) & 0x1FFFFL;
+        values[valueOffset + 50] = (w13 >>> 18) & 0x1FFFFL;
+        values[valueOffset + 51] = (w13 >>> 35) & 0x1FFFFL;
+        values[valueOffset + 52] = ((w13 >>> 52) | (w14 << 12)) & 0x1FFFFL;
+        values[valueOffset + 53] = (w14 >>> 5) & 0x1FFFFL;
+        values[valueOffset + 54] = (w14 >>> 22) & 0x1FFFFL;
+        values[valueOffset + 55] = (w14 >>> 39) & 0x1FFFFL;
+        values[valueOffset + 56] = ((w14 >>> 56) | (w15 << 8)) & 0x1FFFFL;
+        values[valueOffset + 57] = (w15 >>> 9) & 0x1FFFFL;
+        values[valueOffset + 58] = (w15 >>> 26) & 0x1FFFFL;
+        values[valueOffset + 59] = (w15 >>> 43) & 0x1FFFFL;
+        values[valueOffset + 60] = ((w15 >>> 60) | (w16 << 4)) & 0x1FFFFL;
+        values[valueOffset + 61] = (w16 >>> 13) & 0x1FFFFL;
+        values[valueOffset + 62] = (w16 >>> 30) & 0x1FFFFL;
+        values[valueOffset + 63] = w16 >>> 47;
+    }
+
+    private static void unpack18(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        values[valueOffset + 0] = w0 & 0x3FFFFL;
+        values[valueOffset + 1] = (w0 >>> 18) & 0x3FFFFL;
+        values[valueOffset + 2] = (w0 >>> 36) & 0x3FFFFL;
+        values[valueOffset + 3] = ((w0 >>> 54) | (w1 << 10)) & 0x3FFFFL;
+        values[valueOffset + 4] = (w1 >>> 8) & 0x3FFFFL;
+        values[valueOffset + 5] = (w1 >>> 26) & 0x3FFFFL;
+        values[valueOffset + 6] = (w1 >>> 44) & 0x3FFFFL;
+        values[valueOffset + 7] = ((w1 >>> 62) | (w2 << 2)) & 0x3FFFFL;
+        values[valueOffset + 8] = (w2 >>> 16) & 0x3FFFFL;
+        values[valueOffset + 9] = (w2 >>> 34) & 0x3FFFFL;
+        values[valueOffset + 10] = ((w2 >>> 52) | (w3 << 12)) & 0x3FFFFL;
+        values[valueOffset + 11] = (w3 >>> 6) & 0x3FFFFL;
+        values[valueOffset + 12] = (w3 >>> 24) & 0x3FFFFL;
+        values[valueOffset + 13] = (w3 >>> 42) & 0x3FFFFL;
+        values[valueOffset + 14] = ((w3 >>> 60) | (w4 << 4)) & 0x3FFFFL;
+        values[valueOffset + 15] = (w4 >>> 14) & 0x3FFFFL;
+        values[valueOffset + 16] = (w4 >>> 32) & 0x3FFFFL;
+        values[valueOffset + 17] = ((w4 >>> 50) | (w5 << 14)) & 0x3FFFFL;
+        values[valueOffset + 18] = (w5 >>> 4) & 0x3FFFFL;
+        values[valueOffset + 19] = (w5 >>> 22) & 0x3FFFFL;
+        values[valueOffset + 20] = (w5 >>> 40) & 0x3FFFFL;
+        values[valueOffset + 21] = ((w5 >>> 58) | (w6 << 6)) & 0x3FFFFL;
+        values[valueOffset + 22] = (w6 >>> 12) & 0x3FFFFL;
+        values[valueOffset + 23] = (w6 >>> 30) & 0x3FFFFL;
+        values[valueOffset + 24] = ((w6 >>> 48) | (w7 << 16)) & 0x3FFFFL;
+        values[valueOffset + 25] = (w7 >>> 2) & 0x3FFFFL;
+        values[valueOffset + 26] = (w7 >>> 20) & 0x3FFFFL;
+        values[valueOffset + 27] = (w7 >>> 38) & 0x3FFFFL;
+        values[valueOffset + 28] = ((w7 >>> 56) | (w8 << 8)) & 0x3FFFFL;
+        values[valueOffset + 29] = (w8 >>> 10) & 0x3FFFFL;
+        values[valueOffset + 30] = (w8 >>> 28) & 0x3FFFFL;
+        values[valueOffset + 31] = w8 >>> 46;
+        values[valueOffset + 32] = w9 & 0x3FFFFL;
+        values[valueOffset + 33] = (w9 >>> 18) & 0x3FFFFL;
+        values[valueOffset + 34] = (w9 >>> 36) & 0x3FFFFL;
+        values[valueOffset + 35] = ((w9 >>> 54) | (w10 << 10)) & 0x3FFFFL;
+        values[valueOffset + 36] = (w10 >>> 8) & 0x3FFFFL;
+        values[valueOffset + 37] = (w10 >>> 26) & 0x3FFFFL;
+        values[valueOffset + 38] = (w10 >>> 44) & 0x3FFFFL;
+        values[valueOffset + 39] = ((w10 >>> 62) | (w11 << 2)) & 0x3FFFFL;
+        values[valueOffset + 40] = (w11 >>> 16) & 0x3FFFFL;
+        values[valueOffset + 41] = (w11 >>> 34) & 0x3FFFFL;
+        values[valueOffset + 42] = ((w11 >>> 52) | (w12 << 12)) & 0x3FFFFL;
+        values[valueOffset + 43] = (w12 >>> 6) & 0x3FFFFL;
+        values[valueOffset + 44] = (w12 >>> 24) & 0x3FFFFL;
+        values[valueOffset + 45] = (w12 >>> 42) & 0x3FFFFL;
+        values[valueOffset + 46] = ((w12 >>> 60) | (w13 << 4)) & 0x3FFFFL;
+        values[valueOffset + 47] = (w13 >>> 14) & 0x3FFFFL;
+        values[valueOffset + 48] = (w13 >>> 32) & 0x3FFFFL;
+        values[valueOffset + 49] = ((w13 >>> 50) | (w14 << 14)) & 0x3FFFFL;
+        values[valueOffset + 50] = (w14 >>> 4) & 0x3FFFFL;
+        values[valueOffset + 51] = (w14 >>> 22) & 0x3FFFFL;
+        values[valueOffset + 52] = (w14 >>> 40) & 0x3FFFFL;
+        values[valueOffset + 53] = ((w14 >>> 58) | (w15 << 6)) & 0x3FFFFL;
+        values[valueOffset + 54] = (w15 >>> 12) & 0x3FFFFL;
+        values[valueOffset + 55] = (w15 >>> 30) & 0x3FFFFL;
+        values[valueOffset + 56] = ((w15 >>> 48) | (w16 << 16)) & 0x3FFFFL;
+        values[valueOffset + 57] = (w16 >>> 2) & 0x3FFFFL;
+        values[valueOffset + 58] = (w16 >>> 20) & 0x3FFFFL;
+        values[valueOffset + 59] = (w16 >>> 38) & 0x3FFFFL;
+        values[valueOffset + 60] = ((w16 >>> 56) | (w17 << 8)) & 0x3FFFFL;
+        values[valueOffset + 61] = (w17 >>> 10) & 0x3FFFFL;
+        values[valueOffset + 62] = (w17 >>> 28) & 0x3FFFFL;
+        values[valueOffset + 63] = w17 >>> 46;
+    }
+
+    private static void unpack19(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        values[valueOffset + 0] = w0 & 0x7FFFFL;
+        values[valueOffset + 1] = (w0 >>> 19) & 0x7FFFFL;
+        values[valueOffset + 2] = (w0 >>> 38) & 0x7FFFFL;
+        values[valueOffset + 3] = ((w0 >>> 57) | (w1 << 7)) & 0x7FFFFL;
+        values[valueOffset + 4] = (w1 >>> 12) & 0x7FFFFL;
+        values[valueOffset + 5] = (w1 >>> 31) & 0x7FFFFL;
+        values[valueOffset + 6] = ((w1 >>> 50) | (w2 << 14)) & 0x7FFFFL;
+        values[valueOffset + 7] = (w2 >>> 5) & 0x7FFFFL;
+        values[valueOffset + 8] = (w2 >>> 24) & 0x7FFFFL;
+        values[valueOffset + 9] = (w2 >>> 43) & 0x7FFFFL;
+        values[valueOffset + 10] = ((w2 >>> 62) | (w3 << 2)) & 0x7FFFFL;
+        values[valueOffset + 11] = (w3 >>> 17) & 0x7FFFFL;
+        values[valueOffset + 12] = (w3 >>> 36) & 0x7FFFFL;
+        values[valueOffset + 13] = ((w3 >>> 55) | (w4 << 9)) & 0x7FFFFL;
+        values[valueOffset + 14] = (w4 >>> 10) & 0x7FFFFL;
+        values[valueOffset + 15] = (w4 >>> 29) & 0x7FFFFL;
+        values[valueOffset + 16] = ((w4 >>> 48) | (w5 << 16)) & 0x7FFFFL;
+        values[valueOffset + 17] = (w5 >>> 3) & 0x7FFFFL;
+        values[valueOffset + 18] = (w5 >>> 22) & 0x7FFFFL;
+        values[valueOffset + 19] = (w5 >>> 41) & 0x7FFFFL;
+        values[valueOffset + 20] = ((w5 >>> 60) | (w6 << 4)) & 0x7FFFFL;
+        values[valueOffset + 21] = (w6 >>> 15) & 0x7FFFFL;
+        values[valueOffset + 22] = (w6 >>> 34) & 0x7FFFFL;
+        values[valueOffset + 23] = ((w6 >>> 53) | (w7 << 11)) & 0x7FFFFL;
+        values[valueOffset + 24] = (w7 >>> 8) & 0x7FFFFL;
+        values[valueOffset + 25] = (w7 >>> 27) & 0x7FFFFL;
+        values[valueOffset + 26] = ((w7 >>> 46) | (w8 << 18)) & 0x7FFFFL;
+        values[valueOffset + 27] = (w8 >>> 1) & 0x7FFFFL;
+        values[valueOffset + 28] = (w8 >>> 20) & 0x7FFFFL;
+        values[valueOffset + 29] = (w8 >>> 39) & 0x7FFFFL;
+        values[valueOffset + 30] = ((w8 >>> 58) | (w9 << 6)) & 0x7FFFFL;
+        values[valueOffset + 31] = (w9 >>> 13) & 0x7FFFFL;
+        values[valueOffset + 32] = (w9 >>> 32) & 0x7FFFFL;
+        values[valueOffset + 33] = ((w9 >>> 51) | (w10 << 13)) & 0x7FFFFL;
+        values[valueOffset + 34] = (w10 >>> 6) & 0x7FFFFL;
+        values[valueOffset + 35] = (w10 >>> 25) & 0x7FFFFL;
+        values[valueOffset + 36] = (w10 >>> 44) & 0x7FFFFL;
+        values[valueOffset + 37] = ((w10 >>> 63) | (w11 << 1)) & 0x7FFFFL;
+        values[valueOffset + 38] = (w11 >>> 18) & 0x7FFFFL;
+        values[valueOffset + 39] = (w11 >>> 37) & 0x7FFFFL;
+        values[valueOffset + 40] = ((w11 >>> 56) | (w12 << 8)) & 0x7FFFFL;
+        values[valueOffset + 41] = (w12 >>> 11) & 0x7FFFFL;
+        values[valueOffset + 42] = (w12 >>> 30) & 0x7FFFFL;
+        values[valueOffset + 43] = ((w12 >>> 49) | (w13 << 15)) & 0x7FFFFL;
+        values[valueOffset + 44] = (w13 >>> 4) & 0x7FFFFL;
+        values[valueOffset + 45] = (w13 >>> 23) & 0x7FFFFL;
+        values[valueOffset + 46] = (w13 >>> 42) & 0x7FFFFL;
+        values[valueOffset + 47] = ((w13 >>> 61) | (w14 << 3)) & 0x7FFFFL;
+        values[valueOffset + 48] = (w14 >>> 16) & 0x7FFFFL;
+        values[valueOffset + 49] = (w14 >>> 35) & 0x7FFFFL;
+        values[valueOffset + 50] = ((w14 >>> 54) | (w15 << 10)) & 0x7FFFFL;
+        values[valueOffset + 51] = (w15 >>> 9) & 0x7FFFFL;
+        values[valueOffset + 52] = (w15 >>> 28) & 0x7FFFFL;
+        values[valueOffset + 53] = ((w15 >>> 47) | (w16 << 17)) & 0x7FFFFL;
+        values[valueOffset + 54] = (w16 >>> 2) & 0x7FFFFL;
+        values[valueOffset + 55] = (w16 >>> 21) & 0x7FFFFL;
+        values[valueOffset + 56] = (w16 >>> 40) & 0x7FFFFL;
+        values[valueOffset + 57] = ((w16 >>> 59) | (w17 << 5)) & 0x7FFFFL;
+        values[valueOffset + 58] = (w17 >>> 14) & 0x7FFFFL;
+        values[valueOffset + 59] = (w17 >>> 33) & 0x7FFFFL;
+        values[valueOffset + 60] = ((w17 >>> 52) | (w18 << 12)) & 0x7FFFFL;
+        values[valueOffset + 61] = (w18 >>> 7) & 0x7FFFFL;
+        values[valueOffset + 62] = (w18 >>> 26) & 0x7FFFFL;
+        values[valueOffset + 63] = w18 >>> 45;
+    }
+
+    private static void unpack20(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        values[valueOffset + 0] = w0 & 0xFFFFFL;
+        values[valueOffset + 1] = (w0 >>> 20) & 0xFFFFFL;
+        values[valueOffset + 2] = (w0 >>> 40) & 0xFFFFFL;
+        values[valueOffset + 3] = ((w0 >>> 60) | (w1 << 4)) & 0xFFFFFL;
+        values[valueOffset + 4] = (w1 >>> 16) & 0xFFFFFL;
+        values[valueOffset + 5] = (w1 >>> 36) & 0xFFFFFL;
+        values[valueOffset + 6] = ((w1 >>> 56) | (w2 << 8)) & 0xFFFFFL;
+        values[valueOffset + 7] = (w2 >>> 12) & 0xFFFFFL;
+        values[valueOffset + 8] = (w2 >>> 32) & 0xFFFFFL;
+        values[valueOffset + 9] = ((w2 >>> 52) | (w3 << 12)) & 0xFFFFFL;
+        values[valueOffset + 10] = (w3 >>> 8) & 0xFFFFFL;
+        values[valueOffset + 11] = (w3 >>> 28) & 0xFFFFFL;
+        values[valueOffset + 12] = ((w3 >>> 48) | (w4 << 16)) & 0xFFFFFL;
+        values[valueOffset + 13] = (w4 >>> 4) & 0xFFFFFL;
+        values[valueOffset + 14] = (w4 >>> 24) & 0xFFFFFL;
+        values[valueOffset + 15] = w4 >>> 44;
+        values[valueOffset + 16] = w5 & 0xFFFFFL;
+        values[valueOffset + 17] = (w5 >>> 20) & 0xFFFFFL;
+        values[valueOffset + 18] = (w5 >>> 40) & 0xFFFFFL;
+        values[valueOffset + 19] = ((w5 >>> 60) | (w6 << 4)) & 0xFFFFFL;
+        values[valueOffset + 20] = (w6 >>> 16) & 0xFFFFFL;
+        values[valueOffset + 21] = (w6 >>> 36) & 0xFFFFFL;
+        values[valueOffset + 22] = ((w6 >>> 56) | (w7 << 8)) & 0xFFFFFL;
+        values[valueOffset + 23] = (w7 >>> 12) & 0xFFFFFL;
+        values[valueOffset + 24] = (w7 >>> 32) & 0xFFFFFL;
+        values[valueOffset + 25] = ((w7 >>> 52) | (w8 << 12)) & 0xFFFFFL;
+        values[valueOffset + 26] = (w8 >>> 8) & 0xFFFFFL;
+        values[valueOffset + 27] = (w8 >>> 28) & 0xFFFFFL;
+        values[valueOffset + 28] = ((w8 >>> 48) | (w9 << 16)) & 0xFFFFFL;
+        values[valueOffset + 29] = (w9 >>> 4) & 0xFFFFFL;
+        values[valueOffset + 30] = (w9 >>> 24) & 0xFFFFFL;
+        values[valueOffset + 31] = w9 >>> 44;
+        values[valueOffset + 32] = w10 & 0xFFFFFL;
+        values[valueOffset + 33] = (w10 >>> 20) & 0xFFFFFL;
+        values[valueOffset + 34] = (w10 >>> 40) & 0xFFFFFL;
+        values[valueOffset + 35] = ((w10 >>> 60) | (w11 << 4)) & 0xFFFFFL;
+        values[valueOffset + 36] = (w11 >>> 16) & 0xFFFFFL;
+        values[valueOffset + 37] = (w11 >>> 36) & 0xFFFFFL;
+        values[valueOffset + 38] = ((w11 >>> 56) | (w12 << 8)) & 0xFFFFFL;
+        values[valueOffset + 39] = (w12 >>> 12) & 0xFFFFFL;
+        values[valueOffset + 40] = (w12 >>> 32) & 0xFFFFFL;
+        values[valueOffset + 41] = ((w12 >>> 52) | (w13 << 12)) & 0xFFFFFL;
+        values[valueOffset + 42] = (w13 >>> 8) & 0xFFFFFL;
+        values[valueOffset + 43] = (w13 >>> 28) & 0xFFFFFL;
+        values[valueOffset + 44] = ((w13 >>> 48) | (w14 << 16)) & 0xFFFFFL;
+        values[valueOffset + 45] = (w14 >>> 4) & 0xFFFFFL;
+        values[valueOffset + 46] = (w14 >>> 24) & 0xFFFFFL;
+        values[valueOffset + 47] = w14 >>> 44;
+        values[valueOffset + 48] = w15 & 0xFFFFFL;
+        values[valueOffset + 49] = (w15 >>> 20) & 0xFFFFFL;
+        values[valueOffset + 50] = (w15 >>> 40) & 0xFFFFFL;
+        values[valueOffset + 51] = ((w15 >>> 60) | (w16 << 4)) & 0xFFFFFL;
+        values[valueOffset + 52] = (w16 >>> 16) & 0xFFFFFL;
+        values[valueOffset + 53] = (w16 >>> 36) & 0xFFFFFL;
+        values[valueOffset + 54] = ((w16 >>> 56) | (w17 << 8)) & 0xFFFFFL;
+        values[valueOffset + 55] = (w17 >>> 12) & 0xFFFFFL;
+        values[valueOffset + 56] = (w17 >>> 32) & 0xFFFFFL;
+        values[valueOffset + 57] = ((w17 >>> 52) | (w18 << 12)) & 0xFFFFFL;
+        values[valueOffset + 58] = (w18 >>> 8) & 0xFFFFFL;
+        values[valueOffset + 59] = (w18 >>> 28) & 0xFFFFFL;
+        values[valueOffset + 60] = ((w18 >>> 48) | (w19 << 16)) & 0xFFFFFL;
+        values[valueOffset + 61] = (w19 >>> 4) & 0xFFFFFL;
+        values[valueOffset + 62] = (w19 >>> 24) & 0xFFFFFL;
+        values[valueOffset + 63] = w19 >>> 44;
+    }
+
+    private static void unpack21(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        values[valueOffset + 0] = w0 & 0x1FFFFFL;
+        values[valueOffset + 1] = (w0 >>> 21) & 0x1FFFFFL;
+        values[valueOffset + 2] = (w0 >>> 42) & 0x1FFFFFL;
+        values[valueOffset + 3] = ((w0 >>> 63) | (w1 << 1)) & 0x1FFFFFL;
+        values[valueOffset + 4] = (w1 >>> 20) & 0x1FFFFFL;
+        values[valueOffset + 5] = (w1 >>> 41) & 0x1FFFFFL;
+        values[valueOffset + 6] = ((w1 >>> 62) | (w2 << 2)) & 0x1FFFFFL;
+        values[valueOffset + 7] = (w2 >>> 19) & 0x1FFFFFL;
+        values[valueOffset + 8] = (w2 >>> 40) & 0x1FFFFFL;
+        values[valueOffset + 9] = ((w2 >>> 61) | (w3 << 3)) & 0x1FFFFFL;
+        values[valueOffset + 10] = (w3 >>> 18) & 0x1FFFFFL;
+        values[valueOffset + 11] = (w3 >>> 39) & 0x1FFFFFL;
+        values[valueOffset + 12] = ((w3 >>> 60) | (w4 << 4)) & 0x1FFFFFL;
+        values[valueOffset + 13] = (w4 >>> 17) & 0x1FFFFFL;
+        values[valueOffset + 14] = (w4 >>> 38) & 0x1FFFFFL;
+        values[valueOffset + 15] = ((w4 >>> 59) | (w5 << 5)) & 0x1FFFFFL;
+        values[valueOffset + 16] = (w5 >>> 16) & 0x1FFFFFL;
+        values[valueOffset + 17] = (w5 >>> 37) & 0x1FFFFFL;
+        values[valueOffset + 18] = ((w5 >>> 58) | (w6 << 6)) & 0x1FFFFFL;
+        values[valueOffset + 19] = (w6 >>> 15) & 0x1FFFFFL;
+        values[valueOffset + 20] = (w6 >>> 36) & 0x1FFFFFL;
+        values[valueOffset + 21] = ((w6 >>> 57) | (w7 << 7)) & 0x1FFFFFL;
+        values[valueOffset + 22] = (w7 >>> 14) & 0x1FFFFFL;
+        values[valueOffset + 23] = (w7 >>> 35) & 0x1FFFFFL;
+        values[valueOffset + 24] = ((w7 >>> 56) | (w8 << 8)) & 0x1FFFFFL;
+        values[valueOffset + 25] = (w8 >>> 13) & 0x1FFFFFL;
+        values[valueOffset + 26] = (w8 >>> 34) & 0x1FFFFFL;
+        values[valueOffset + 27] = ((w8 >>> 55) | (w9 << 9)) & 0x1FFFFFL;
+        values[valueOffset + 28] = (w9 >>> 12) & 0x1FFFFFL;
+        values[valueOffset + 29] = (w9 >>> 33) & 0x1FFFFFL;
+        values[valueOffset + 30] = ((w9 >>> 54) | (w10 << 10)) & 0x1FFFFFL;
+        values[valueOffset + 31] = (w10 >>> 11) & 0x1FFFFFL;
+        values[valueOffset + 32] = (w10 >>> 32) & 0x1FFFFFL;
+        values[valueOffset + 33] = ((w10 >>> 53) | (w11 << 11)) & 0x1FFFFFL;
+        values[valueOffset + 34] = (w11 >>> 10) & 0x1FFFFFL;
+        values[valueOffset + 35] = (w11 >>> 31) & 0x1FFFFFL;
+        values[valueOffset + 36] = ((w11 >>> 52) | (w12 << 12)) & 0x1FFFFFL;
+        values[valueOffset + 37] = (w12 >>> 9) & 0x1FFFFFL;
+        values[valueOffset + 38] = (w12 >>> 30) & 0x1FFFFFL;
+        values[valueOffset + 39] = ((w12 >>> 51) | (w13 << 13)) & 0x1FFFFFL;
+        values[valueOffset + 40] = (w13 >>> 8) & 0x1FFFFFL;
+        values[valueOffset + 41] = (w13 >>> 29) & 0x1FFFFFL;
+        values[valueOffset + 42] = ((w13 >>> 50) | (w14 << 14)) & 0x1FFFFFL;
+        values[valueOffset + 43] = (w14 >>> 7) & 0x1FFFFFL;
+        values[valueOffset + 44] = (w14 >>> 28) & 0x1FFFFFL;
+        values[valueOffset + 45] = ((w14 >>> 49) | (w15 << 15)) & 0x1FFFFFL;
+        values[valueOffset + 46] = (w15 >>> 6) & 0x1FFFFFL;
+        values[valueOffset + 47] = (w15 >>> 27) & 0x1FFFFFL;
+        values[valueOffset + 48] = ((w15 >>> 48) | (w16 << 16)) & 0x1FFFFFL;
+        values[valueOffset + 49] = (w16 >>> 5) & 0x1FFFFFL;
+        values[valueOffset + 50] = (w16 >>> 26) & 0x1FFFFFL;
+        values[valueOffset + 51] = ((w16 >>> 47) | (w17 << 17)) & 0x1FFFFFL;
+        values[valueOffset + 52] = (w17 >>> 4) & 0x1FFFFFL;
+        values[valueOffset + 53] = (w17 >>> 25) & 0x1FFFFFL;
+        values[valueOffset + 54] = ((w17 >>> 46) | (w18 << 18)) & 0x1FFFFFL;
+        values[valueOffset + 55] = (w18 >>> 3) & 0x1FFFFFL;
+        values[valueOffset + 56] = (w18 >>> 24) & 0x1FFFFFL;
+        values[valueOffset + 57] = ((w18 >>> 45) | (w19 << 19)) & 0x1FFFFFL;
+        values[valueOffset + 58] = (w19 >>> 2) & 0x1FFFFFL;
+        values[valueOffset + 59] = (w19 >>> 23) & 0x1FFFFFL;
+        values[valueOffset + 60] = ((w19 >>> 44) | (w20 << 20)) & 0x1FFFFFL;
+        values[valueOffset + 61] = (w20 >>> 1) & 0x1FFFFFL;
+        values[valueOffset + 62] = (w20 >>> 22) & 0x1FFFFFL;
+        values[valueOffset + 63] = w20 >>> 43;
+    }
+
+    private static void unpack22(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        values[valueOffset + 0] = w0 & 0x3FFFFFL;
+        values[valueOffset + 1] = (w0 >>> 22) & 0x3FFFFFL;
+        values[valueOffset + 2] = ((w0 >>> 44) | (w1 << 20)) & 0x3FFFFFL;
+        values[valueOffset + 3] = (w1 >>> 2) & 0x3FFFFFL;
+        values[valueOffset + 4] = (w1 >>> 24) & 0x3FFFFFL;
+        values[valueOffset + 5] = ((w1 >>> 46) | (w2 << 18)) & 0x3FFFFFL;
+        values[valueOffset + 6] = (w2 >>> 4) & 0x3FFFFFL;
+        values[valueOffset + 7] = (w2 >>> 26) & 0x3FFFFFL;
+        values[valueOffset + 8] = ((w2 >>> 48) | (w3 << 16)) & 0x3FFFFFL;
+        values[valueOffset + 9] = (w3 >>> 6) & 0x3FFFFFL;
+        values[valueOffset + 10] = (w3 >>> 28) & 0x3FFFFFL;
+        values[valueOffset + 11] = ((w3 >>> 50) | (w4 << 14)) & 0x3FFFFFL;
+        values[valueOffset + 12] = (w4 >>> 8) & 0x3FFFFFL;
+        values[valueOffset + 13] = (w4 >>> 30) & 0x3FFFFFL;
+        values[valueOffset + 14] = ((w4 >>> 52) | (w5 << 12)) & 0x3FFFFFL;
+        values[valueOffset + 15] = (w5 >>> 10) & 0x3FFFFFL;
+        values[valueOffset + 16] = (w5 >>> 32) & 0x3FFFFFL;
+        values[valueOffset + 17] = ((w5 >>> 54) | (w6 << 10)) & 0x3FFFFFL;
+        values[valueOffset + 18] = (w6 >>> 12) & 0x3FFFFFL;
+        values[valueOffset + 19] = (w6 >>> 34) & 0x3FFFFFL;
+        values[valueOffset + 20] = ((w6 >>> 56) | (w7 << 8)) & 0x3FFFFFL;
+        values[valueOffset + 21] = (w7 >>> 14) & 0x3FFFFFL;
+        values[valueOffset + 22] = (w7 >>> 36) & 0x3FFFFFL;
+        values[valueOffset + 23] = ((w7 >>> 58) | (w8 << 6)) & 0x3FFFFFL;
+        values[valueOffset + 24] = (w8 >>> 16) & 0x3FFFFFL;
+        values[valueOffset + 25] = (w8 >>> 38) & 0x3FFFFFL;
+        values[valueOffset + 26] = ((w8 >>> 60) | (w9 << 4)) & 0x3FFFFFL;
+        values[valueOffset + 27] = (w9 >>> 18) & 0x3FFFFFL;
+        values[valueOffset + 28] = (w9 >>> 40) & 0x3FFFFFL;
+        values[valueOffset + 29] = ((w9 >>> 62) | (w10 << 2)) & 0x3FFFFFL;
+        values[valueOffset + 30] = (w10 >>> 20) & 0x3FFFFFL;
+        values[valueOffset + 31] = w10 >>> 42;
+        values[valueOffset + 32] = w11 & 0x3FFFFFL;
+        values[valueOffset + 33] = (w11 >>> 22) & 0x3FFFFFL;
+        values[valueOffset + 34] = ((w11 >>> 44) | (w12 << 20)) & 0x3FFFFFL;
+        values[valueOffset + 35] = (w12 >>> 2) & 0x3FFFFFL;
+        values[valueOffset + 36] = (w12 >>> 24) & 0x3FFFFFL;
+        values[valueOffset + 37] = ((w12 >>> 46) | (w13 << 18)) & 0x3FFFFFL;
+        values[valueOffset + 38] = (w13 >>> 4) & 0x3FFFFFL;
+        values[valueOffset + 39] = (w13 >>> 26) & 0x3FFFFFL;
+        values[valueOffset + 40] = ((w13 >>> 48) | (w14 << 16)) & 0x3FFFFFL;
+        values[valueOffset + 41] = (w14 >>> 6) & 0x3FFFFFL;
+        values[valueOffset + 42] = (w14 >>> 28) & 0x3FFFFFL;
+        values[valueOffset + 43] = ((w14 >>> 50) | (w15 << 14)) & 0x3FFFFFL;
+        values[valueOffset + 44] = (w15 >>> 8) & 0x3FFFFFL;
+        values[valueOffset + 45] = (w15 >>> 30) & 0x3FFFFFL;
+        values[valueOffset + 46] = ((w15 >>> 52) | (w16 << 12)) & 0x3FFFFFL;
+        values[valueOffset + 47] = (w16 >>> 10) & 0x3FFFFFL;
+        values[valueOffset + 48] = (w16 >>> 32) & 0x3FFFFFL;
+        values[valueOffset + 49] = ((w16 >>> 54) | (w17 << 10)) & 0x3FFFFFL;
+        values[valueOffset + 50] = (w17 >>> 12) & 0x3FFFFFL;
+        values[valueOffset + 51] = (w17 >>> 34) & 0x3FFFFFL;
+        values[valueOffset + 52] = ((w17 >>> 56) | (w18 << 8)) & 0x3FFFFFL;
+        values[valueOffset + 53] = (w18 >>> 14) & 0x3FFFFFL;
+        values[valueOffset + 54] = (w18 >>> 36) & 0x3FFFFFL;
+        values[valueOffset + 55] = ((w18 >>> 58) | (w19 << 6)) & 0x3FFFFFL;
+        values[valueOffset + 56] = (w19 >>> 16) & 0x3FFFFFL;
+        values[valueOffset + 57] = (w19 >>> 38) & 0x3FFFFFL;
+        values[valueOffset + 58] = ((w19 >>> 60) | (w20 << 4)) & 0x3FFFFFL;
+        values[valueOffset + 59] = (w20 >>> 18) & 0x3FFFFFL;
+        values[valueOffset + 60] = (w20 >>> 40) & 0x3FFFFFL;
+        values[valueOffset + 61] = ((w20 >>> 62) | (w21 << 2)) & 0x3FFFFFL;
+        values[valueOffset + 62] = (w21 >>> 20) & 0x3FFFFFL;
+        values[valueOffset + 63] = w21 >>> 42;
+    }
+
+    private static void unpack23(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        values[valueOffset + 0] = w0 & 0x7FFFFFL;
+        values[valueOffset + 1] = (w0 >>> 23) & 0x7FFFFFL;
+        values[valueOffset + 2] = ((w0 >>> 46) | (w1 << 18)) & 0x7FFFFFL;
+        values[valueOffset + 3] = (w1 >>> 5) & 0x7FFFFFL;
+        values[valueOffset + 4] = (w1 >>> 28) & 0x7FFFFFL;
+        values[valueOffset + 5] = ((w1 >>> 51) | (w2 << 13)) & 0x7FFFFFL;
+        values[valueOffset + 6] = (w2 >>> 10) & 0x7FFFFFL;
+        values[valueOffset + 7] = (w2 >>> 33) & 0x7FFFFFL;
+        values[valueOffset + 8] = ((w2 >>> 56) | (w3 << 8)) & 0x7FFFFFL;
+        values[valueOffset + 9] = (w3 >>> 15) & 0x7FFFFFL;
+        values[valueOffset + 10] = (w3 >>> 38) & 0x7FFFFFL;
+        values[valueOffset + 11] = ((w3 >>> 61) | (w4 << 3)) & 0x7FFFFFL;
+        values[valueOffset + 12] = (w4 >>> 20) & 0x7FFFFFL;
+        values[valueOffset + 13] = ((w4 >>> 43) | (w5 << 21)) & 0x7FFFFFL;
+        values[valueOffset + 14] = (w5 >>> 2) & 0x7FFFFFL;
+        values[valueOffset + 15] = (w5 >>> 25) & 0x7FFFFFL;
+        values[valueOffset + 16] = ((w5 >>> 48) | (w6 << 16)) & 0x7FFFFFL;
+        values[valueOffset + 17] = (w6 >>> 7) & 0x7FFFFFL;
+        values[valueOffset + 18] = (w6 >>> 30) & 0x7FFFFFL;
+        values[valueOffset + 19] = ((w6 >>> 53) | (w7 << 11)) & 0x7FFFFFL;
+        values[valueOffset + 20] = (w7 >>> 12) & 0x7FFFFFL;
+        values[valueOffset + 21] = (w7 >>> 35) & 0x7FFFFFL;
+        values[valueOffset + 22] = ((w7 >>> 58) | (w8 << 6)) & 0x7FFFFFL;
+        values[valueOffset + 23] = (w8 >>> 17) & 0x7FFFFFL;
+        values[valueOffset + 24] = (w8 >>> 40) & 0x7FFFFFL;
+        values[valueOffset + 25] = ((w8 >>> 63) | (w9 << 1)) & 0x7FFFFFL;
+        values[valueOffset + 26] = (w9 >>> 22) & 0x7FFFFFL;
+        values[valueOffset + 27] = ((w9 >>> 45) | (w10 << 19)) & 0x7FFFFFL;
+        values[valueOffset + 28] = (w10 >>> 4) & 0x7FFFFFL;
+        values[valueOffset + 29] = (w10 >>> 27) & 0x7FFFFFL;
+        values[valueOffset + 30] = ((w10 >>> 50) | (w11 << 14)) & 0x7FFFFFL;
+        values[valueOffset + 31] = (w11 >>> 9) & 0x7FFFFFL;
+        values[valueOffset + 32] = (w11 >>> 32) & 0x7FFFFFL;
+        values[valueOffset + 33] = ((w11 >>> 55) | (w12 << 9)) & 0x7FFFFFL;
+        values[valueOffset + 34] = (w12 >>> 14) & 0x7FFFFFL;
+        values[valueOffset + 35] = (w12 >>> 37) & 0x7FFFFFL;
+        values[valueOffset + 36] = ((w12 >>> 60) | (w13 << 4)) & 0x7FFFFFL;
+        values[valueOffset + 37] = (w13 >>> 19) & 0x7FFFFFL;
+        values[valueOffset + 38] = ((w13 >>> 42) | (w14 << 22)) & 0x7FFFFFL;
+        values[valueOffset + 39] = (w14 >>> 1) & 0x7FFFFFL;
+        values[valueOffset + 40] = (w14 >>> 24) & 0x7FFFFFL;
+        values[valueOffset + 41] = ((w14 >>> 47) | (w15 << 17)) & 0x7FFFFFL;
+        values[valueOffset + 42] = (w15 >>> 6) & 0x7FFFFFL;
+        values[valueOffset + 43] = (w15 >>> 29) & 0x7FFFFFL;
+        values[valueOffset + 44] = ((w15 >>> 52) | (w16 << 12)) & 0x7FFFFFL;
+        values[valueOffset + 45] = (w16 >>> 11) & 0x7FFFFFL;
+        values[valueOffset + 46] = (w16 >>> 34) & 0x7FFFFFL;
+        values[valueOffset + 47] = ((w16 >>> 57) | (w17 << 7)) & 0x7FFFFFL;
+        values[valueOffset + 48] = (w17 >>> 16) & 0x7FFFFFL;
+        values[valueOffset + 49] = (w17 >>> 39) & 0x7FFFFFL;
+        values[valueOffset + 50] = ((w17 >>> 62) | (w18 << 2)) & 0x7FFFFFL;
+        values[valueOffset + 51] = (w18 >>> 21) & 0x7FFFFFL;
+        values[valueOffset + 52] = ((w18 >>> 44) | (w19 << 20)) & 0x7FFFFFL;
+        values[valueOffset + 53] = (w19 >>> 3) & 0x7FFFFFL;
+        values[valueOffset + 54] = (w19 >>> 26) & 0x7FFFFFL;
+        values[valueOffset + 55] = ((w19 >>> 49) | (w20 << 15)) & 0x7FFFFFL;
+        values[valueOffset + 56] = (w20 >>> 8) & 0x7FFFFFL;
+        values[valueOffset + 57] = (w20 >>> 31) & 0x7FFFFFL;
+        values[valueOffset + 58] = ((w20 >>> 54) | (w21 << 10)) & 0x7FFFFFL;
+        values[valueOffset + 59] = (w21 >>> 13) & 0x7FFFFFL;
+        values[valueOffset + 60] = (w21 >>> 36) & 0x7FFFFFL;
+        values[valueOffset + 61] = ((w21 >>> 59) | (w22 << 5)) & 0x7FFFFFL;
+        values[valueOffset + 62] = (w22 >>> 18) & 0x7FFFFFL;
+        values[valueOffset + 63] = w22 >>> 41;
+    }
+
+    private static void unpack24(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        values[valueOffset + 0] = w0 & 0xFFFFFFL;
+        values[valueOffset + 1] = (w0 >>> 24) & 0xFFFFFFL;
+        values[valueOffset + 2] = ((w0 >>> 48) | (w1 << 16)) & 0xFFFFFFL;
+        values[valueOffset + 3] = (w1 >>> 8) & 0xFFFFFFL;
+        values[valueOffset + 4] = (w1 >>> 32) & 0xFFFFFFL;
+        values[valueOffset + 5] = ((w1 >>> 56) | (w2 << 8)) & 0xFFFFFFL;
+        values[valueOffset + 6] = (w2 >>> 16) & 0xFFFFFFL;
+        values[valueOffset + 7] = w2 >>> 40;
+        values[valueOffset + 8] = w3 & 0xFFFFFFL;
+        values[valueOffset + 9] = (w3 >>> 24) & 0xFFFFFFL;
+        values[valueOffset + 10] = ((w3 >>> 48) | (w4 << 16)) & 0xFFFFFFL;
+        values[valueOffset + 11] = (w4 >>> 8) & 0xFFFFFFL;
+        values[valueOffset + 12] = (w4 >>> 32) & 0xFFFFFFL;
+        values[valueOffset + 13] = ((w4 >>> 56) | (w5 << 8)) & 0xFFFFFFL;
+        values[valueOffset + 14] = (w5 >>> 16) & 0xFFFFFFL;
+        values[valueOffset + 15] = w5 >>> 40;
+        values[valueOffset + 16] = w6 & 0xFFFFFFL;
+        values[valueOffset + 17] = (w6 >>> 24) & 0xFFFFFFL;
+        values[valueOffset + 18] = ((w6 >>> 48) | (w7 << 16)) & 0xFFFFFFL;
+        values[valueOffset + 19] = (w7 >>> 8) & 0xFFFFFFL;
+        values[valueOffset + 20] = (w7 >>> 32) & 0xFFFFFFL;
+        values[valueOffset + 21] = ((w7 >>> 56) | (w8 << 8)) & 0xFFFFFFL;
+        values[valueOffset + 22] = (w8 >>> 16) & 0xFFFFFFL;
+        values[valueOffset + 23] = w8 >>> 40;
+        values[valueOffset + 24] = w9 & 0xFFFFFFL;
+        values[valueOffset + 25] = (w9 >>> 24) & 0xFFFFFFL;
+        values[valueOffset + 26] = ((w9 >>> 48) | (w10 << 16)) & 0xFFFFFFL;
+        values[valueOffset + 27] = (w10 >>> 8) & 0xFFFFFFL;
+        values[valueOffset + 28] = (w10 >>> 32) & 0xFFFFFFL;
+        values[valueOffset + 29] = ((w10 >>> 56) | (w11 << 8)) & 0xFFFFFFL;
+        values[valueOffset + 30] = (w11 >>> 16) & 0xFFFFFFL;
+        values[valueOffset + 31] = w11 >>> 40;
+        values[valueOffset + 32] = w12 & 0xFFFFFFL;
+        values[valueOffset + 33] = (w12 >>> 24) & 0xFFFFFFL;
+        values[valueOffset + 34] = ((w12 >>> 48) | (w13 << 16)) & 0xFFFFFFL;
+        values[valueOffset + 35] = (w13 >>> 8) & 0xFFFFFFL;
+        values[valueOffset + 36] = (w13 >>> 32) & 0xFFFFFFL;
+        values[valueOffset + 37] = ((w13 >>> 56) | (w14 << 8)) & 0xFFFFFFL;
+        values[valueOffset + 38] = (w14 >>> 16) & 0xFFFFFFL;
+        values[valueOffset + 39] = w14 >>> 40;
+        values[valueOffset + 40] = w15 & 0xFFFFFFL;
+        values[valueOffset + 41] = (w15 >>> 24) & 0xFFFFFFL;
+        values[valueOffset + 42] = ((w15 >>> 48) | (w16 << 16)) & 0xFFFFFFL;
+        values[valueOffset + 43] = (w16 >>> 8) & 0xFFFFFFL;
+        values[valueOffset + 44] = (w16 >>> 32) & 0xFFFFFFL;
+        values[valueOffset + 45] = ((w16 >>> 56) | (w17 << 8)) & 0xFFFFFFL;
+        values[valueOffset + 46] = (w17 >>> 16) & 0xFFFFFFL;
+        values[valueOffset + 47] = w17 >>> 40;
+        values[valueOffset + 48] = w18 & 0xFFFFFFL;
+        values[valueOffset + 49] = (w18 >>> 24) & 0xFFFFFFL;
+        values[valueOffset + 50] = ((w18 >>> 48) | (w19 << 16)) & 0xFFFFFFL;
+        values[valueOffset + 51] = (w19 >>> 8) & 0xFFFFFFL;
+        values[valueOffset + 52] = (w19 >>> 32) & 0xFFFFFFL;
+        values[valueOffset + 53] = ((w19 >>> 56) | (w20 << 8)) & 0xFFFFFFL;
+        values[valueOffset + 54] = (w20 >>> 16) & 0xFFFFFFL;
+        values[valueOffset + 55] = w20 >>> 40;
+        values[valueOffset + 56] = w21 & 0xFFFFFFL;
+        values[valueOffset + 57] = (w21 >>> 24) & 0xFFFFFFL;
+        values[valueOffset + 58] = ((w21 >>> 48) | (w22 << 16)) & 0xFFFFFFL;
+        values[valueOffset + 59] = (w22 >>> 8) & 0xFFFFFFL;
+        values[valueOffset + 60] = (w22 >>> 32) & 0xFFFFFFL;
+        values[valueOffset + 61] = ((w22 >>> 56) | (w23 << 8)) & 0xFFFFFFL;
+        values[valueOffset + 62] = (w23 >>> 16) & 0xFFFFFFL;
+        values[valueOffset + 63] = w23 >>> 40;
+    }
+
+    private static void unpack25(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        values[valueOffset + 0] = w0 & 0x1FFFFFFL;
+        values[valueOffset + 1] = (w0 >>> 25) & 0x1FFFFFFL;
+        values[valueOffset + 2] = ((w0 >>> 50) | (w1 << 14)) & 0x1FFFFFFL;
+        values[valueOffset + 3] = (w1 >>> 11) & 0x1FFFFFFL;
+        values[valueOffset + 4] = (w1 >>> 36) & 0x1FFFFFFL;
+        values[valueOffset + 5] = ((w1 >>> 61) | (w2 << 3)) & 0x1FFFFFFL;
+        values[valueOffset + 6] = (w2 >>> 22) & 0x1FFFFFFL;
+        values[valueOffset + 7] = ((w2 >>> 47) | (w3 << 17)) & 0x1FFFFFFL;
+        values[valueOffset + 8] = (w3 >>> 8) & 0x1FFFFFFL;
+        values[valueOffset + 9] = (w3 >>> 33) & 0x1FFFFFFL;
+        values[valueOffset + 10] = ((w3 >>> 58) | (w4 << 6)) & 0x1FFFFFFL;
+        values[valueOffset + 11] = (w4 >>> 19) & 0x1FFFFFFL;
+        values[valueOffset + 12] = ((w4 >>> 44) | (w5 << 20)) & 0x1FFFFFFL;
+        values[valueOffset + 13] = (w5 >>> 5) & 0x1FFFFFFL;
+        values[valueOffset + 14] = (w5 >>> 30) & 0x1FFFFFFL;
+        values[valueOffset + 15] = ((w5 >>> 55) | (w6 << 9)) & 0x1FFFFFFL;
+        values[valueOffset + 16] = (w6 >>> 16) & 0x1FFFFFFL;
+        values[valueOffset + 17] = ((w6 >>> 41) | (w7 << 23)) & 0x1FFFFFFL;
+        values[valueOffset + 18] = (w7 >>> 2) & 0x1FFFFFFL;
+        values[valueOffset + 19] = (w7 >>> 27) & 0x1FFFFFFL;
+        values[valueOffset + 20] = ((w7 >>> 52) | (w8 << 12)) & 0x1FFFFFFL;
+        values[valueOffset + 21] = (w8 >>> 13) & 0x1FFFFFFL;
+        values[valueOffset + 22] = (w8 >>> 38) & 0x1FFFFFFL;
+        values[valueOffset + 23] = ((w8 >>> 63) | (w9 << 1)) & 0x1FFFFFFL;
+        values[valueOffset + 24] = (w9 >>> 24) & 0x1FFFFFFL;
+        values[valueOffset + 25] = ((w9 >>> 49) | (w10 << 15)) & 0x1FFFFFFL;
+        values[valueOffset + 26] = (w10 >>> 10) & 0x1FFFFFFL;
+        values[valueOffset + 27] = (w10 >>> 35) & 0x1FFFFFFL;
+        values[valueOffset + 28] = ((w10 >>> 60) | (w11 << 4)) & 0x1FFFFFFL;
+        values[valueOffset + 29] = (w11 >>> 21) & 0x1FFFFFFL;
+        values[valueOffset + 30] = ((w11 >>> 46) | (w12 << 18)) & 0x1FFFFFFL;
+        values[valueOffset + 31] = (w12 >>> 7) & 0x1FFFFFFL;
+        values[valueOffset + 32] = (w12 >>> 32) & 0x1FFFFFFL;
+        values[valueOffset + 33] = ((w12 >>> 57) | (w13 << 7)) & 0x1FFFFFFL;
+        values[valueOffset + 34] = (w13 >>> 18) & 0x1FFFFFFL;
+        values[valueOffset + 35] = ((w13 >>> 43) | (w14 << 21)) & 0x1FFFFFFL;
+        values[valueOffset + 36] = (w14 >>> 4) & 0x1FFFFFFL;
+        values[valueOffset + 37] = (w14 >>> 29) & 0x1FFFFFFL;
+        values[valueOffset + 38] = ((w14 >>> 54) | (w15 << 10)) & 0x1FFFFFFL;
+        values[valueOffset + 39] = (w15 >>> 15) & 0x1FFFFFFL;
+        values[valueOffset + 40] = ((w15 >>> 40) | (w16 << 24)) & 0x1FFFFFFL;
+        values[valueOffset + 41] = (w16 >>> 1) & 0x1FFFFFFL;
+        values[valueOffset + 42] = (w16 >>> 26) & 0x1FFFFFFL;
+        values[valueOffset + 43] = ((w16 >>> 51) | (w17 << 13)) & 0x1FFFFFFL;
+        values[valueOffset + 44] = (w17 >>> 12) & 0x1FFFFFFL;
+        values[valueOffset + 45] = (w17 >>> 37) & 0x1FFFFFFL;
+        values[valueOffset + 46] = ((w17 >>> 62) | (w18 << 2)) & 0x1FFFFFFL;
+        values[valueOffset + 47] = (w18 >>> 23) & 0x1FFFFFFL;
+        values[valueOffset + 48] = ((w18 >>> 48) | (w19 << 16)) & 0x1FFFFFFL;
+        values[valueOffset + 49] = (w19 >>> 9) & 0x1FFFFFFL;
+        values[valueOffset + 50] = (w19 >>> 34) & 0x1FFFFFFL;
+        values[valueOffset + 51] = ((w19 >>> 59) | (w20 << 5)) & 0x1FFFFFFL;
+        values[valueOffset + 52] = (w20 >>> 20) & 0x1FFFFFFL;
+        values[valueOffset + 53] = ((w20 >>> 45) | (w21 << 19)) & 0x1FFFFFFL;
+        values[valueOffset + 54] = (w21 >>> 6) & 0x1FFFFFFL;
+        values[valueOffset + 55] = (w21 >>> 31) & 0x1FFFFFFL;
+        values[valueOffset + 56] = ((w21 >>> 56) | (w22 << 8)) & 0x1FFFFFFL;
+        values[valueOffset + 57] = (w22 >>> 17) & 0x1FFFFFFL;
+        values[valueOffset + 58] = ((w22 >>> 42) | (w23 << 22)) & 0x1FFFFFFL;
+        values[valueOffset + 59] = (w23 >>> 3) & 0x1FFFFFFL;
+        values[valueOffset + 60] = (w23 >>> 28) & 0x1FFFFFFL;
+        values[valueOffset + 61] = ((w23 >>> 53) | (w24 << 11)) & 0x1FFFFFFL;
+        values[valueOffset + 62] = (w24 >>> 14) & 0x1FFFFFFL;
+        values[valueOffset + 63] = w24 >>> 39;
+    }
+
+    private static void unpack26(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        values[valueOffset + 0] = w0 & 0x3FFFFFFL;
+        values[valueOffset + 1] = (w0 >>> 26) & 0x3FFFFFFL;
+        values[valueOffset + 2] = ((w0 >>> 52) | (w1 << 12)) & 0x3FFFFFFL;
+        values[valueOffset + 3] = (w1 >>> 14) & 0x3FFFFFFL;
+        values[valueOffset + 4] = ((w1 >>> 40) | (w2 << 24)) & 0x3FFFFFFL;
+        values[valueOffset + 5] = (w2 >>> 2) & 0x3FFFFFFL;
+        values[valueOffset + 6] = (w2 >>> 28) & 0x3FFFFFFL;
+        values[valueOffset + 7] = ((w2 >>> 54) | (w3 << 10)) & 0x3FFFFFFL;
+        values[valueOffset + 8] = (w3 >>> 16) & 0x3FFFFFFL;
+        values[valueOffset + 9] = ((w3 >>> 42) | (w4 << 22)) & 0x3FFFFFFL;
+        values[valueOffset + 10] = (w4 >>> 4) & 0x3FFFFFFL;
+        values[valueOffset + 11] = (w4 >>> 30) & 0x3FFFFFFL;
+        values[valueOffset + 12] = ((w4 >>> 56) | (w5 << 8)) & 0x3FFFFFFL;
+        values[valueOffset + 13] = (w5 >>> 18) & 0x3FFFFFFL;
+        values[valueOffset + 14] = ((w5 >>> 44) | (w6 << 20)) & 0x3FFFFFFL;
+        values[valueOffset + 15] = (w6 >>> 6) & 0x3FFFFFFL;
+        values[valueOffset + 16] = (w6 >>> 32) & 0x3FFFFFFL;
+        values[valueOffset + 17] = ((w6 >>> 58) | (w7 << 6)) & 0x3FFFFFFL;
+        values[valueOffset + 18] = (w7 >>> 20) & 0x3FFFFFFL;
+        values[valueOffset + 19] = ((w7 >>> 46) | (w8 << 18)) & 0x3FFFFFFL;
+        values[valueOffset + 20] = (w8 >>> 8) & 0x3FFFFFFL;
+        values[valueOffset + 21] = (w8 >>> 34) & 0x3FFFFFFL;
+        values[valueOffset + 22] = ((w8 >>> 60) | (w9 << 4)) & 0x3FFFFFFL;
+        values[valueOffset + 23] = (w9 >>> 22) & 0x3FFFFFFL;
+        values[valueOffset + 24] = ((w9 >>> 48) | (w10 << 16)) & 0x3FFFFFFL;
+        values[valueOffset + 25] = (w10 >>> 10) & 0x3FFFFFFL;
+        values[valueOffset + 26] = (w10 >>> 36) & 0x3FFFFFFL;
+        values[valueOffset + 27] = ((w10 >>> 62) | (w11 << 2)) & 0x3FFFFFFL;
+        values[valueOffset + 28] = (w11 >>> 24) & 0x3FFFFFFL;
+        values[valueOffset + 29] = ((w11 >>> 50) | (w12 << 14)) & 0x3FFFFFFL;
+        values[valueOffset + 30] = (w12 >>> 12) & 0x3FFFFFFL;
+        values[valueOffset + 31] = w12 >>> 38;
+        values[valueOffset + 32] = w13 & 0x3FFFFFFL;
+        values[valueOffset + 33] = (w13 >>> 26) & 0x3FFFFFFL;
+        values[valueOffset + 34] = ((w13 >>> 52) | (w14 << 12)) & 0x3FFFFFFL;
+        values[valueOffset + 35] = (w14 >>> 14) & 0x3FFFFFFL;
+        values[valueOffset + 36] = ((w14 >>> 40) | (w15 << 24)) & 0x3FFFFFFL;
+        values[valueOffset + 37] = (w15 >>> 2) & 0x3FFFFFFL;
+        values[valueOffset + 38] = (w15 >>> 28) & 0x3FFFFFFL;
+        values[valueOffset + 39] = ((w15 >>> 54) | (w16 << 10)) & 0x3FFFFFFL;
+        values[valueOffset + 40] = (w16 >>> 16) & 0x3FFFFFFL;
+        values[valueOffset + 41] = ((w16 >>> 42) | (w17 << 22)) & 0x3FFFFFFL;
+        values[valueOffset + 42] = (w17 >>> 4) & 0x3FFFFFFL;
+        values[valueOffset + 43] = (w17 >>> 30) & 0x3FFFFFFL;
+        values[valueOffset + 44] = ((w17 >>> 56) | (w18 << 8)) & 0x3FFFFFFL;
+        values[valueOffset + 45] = (w18 >>> 18) & 0x3FFFFFFL;
+        values[valueOffset + 46] = ((w18 >>> 44) | (w19 << 20)) & 0x3FFFFFFL;
+        values[valueOffset + 47] = (w19 >>> 6) & 0x3FFFFFFL;
+        values[valueOffset + 48] = (w19 >>> 32) & 0x3FFFFFFL;
+        values[valueOffset + 49] = ((w19 >>> 58) | (w20 << 6)) & 0x3FFFFFFL;
+        values[valueOffset + 50] = (w20 >>> 20) & 0x3FFFFFFL;
+        values[valueOffset + 51] = ((w20 >>> 46) | (w21 << 18)) & 0x3FFFFFFL;
+        values[valueOffset + 52] = (w21 >>> 8) & 0x3FFFFFFL;
+        values[valueOffset + 53] = (w21 >>> 34) & 0x3FFFFFFL;
+        values[valueOffset + 54] = ((w21 >>> 60) | (w22 << 4)) & 0x3FFFFFFL;
+        values[valueOffset + 55] = (w22 >>> 22) & 0x3FFFFFFL;
+        values[valueOffset + 56] = ((w22 >>> 48) | (w23 << 16)) & 0x3FFFFFFL;
+        values[valueOffset + 57] = (w23 >>> 10) & 0x3FFFFFFL;
+        values[valueOffset + 58] = (w23 >>> 36) & 0x3FFFFFFL;
+        values[valueOffset + 59] = ((w23 >>> 62) | (w24 << 2)) & 0x3FFFFFFL;
+        values[valueOffset + 60] = (w24 >>> 24) & 0x3FFFFFFL;
+        values[valueOffset + 61] = ((w24 >>> 50) | (w25 << 14)) & 0x3FFFFFFL;
+        values[valueOffset + 62] = (w25 >>> 12) & 0x3FFFFFFL;
+        values[valueOffset + 63] = w25 >>> 38;
+    }
+
+    private static void unpack27(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        values[valueOffset + 0] = w0 & 0x7FFFFFFL;
+        values[valueOffset + 1] = (w0 >>> 27) & 0x7FFFFFFL;
+        values[valueOffset + 2] = ((w0 >>> 54) | (w1 << 10)) & 0x7FFFFFFL;
+        values[valueOffset + 3] = (w1 >>> 17) & 0x7FFFFFFL;
+        values[valueOffset + 4] = ((w1 >>> 44) | (w2 << 20)) & 0x7FFFFFFL;
+        values[valueOffset + 5] = (w2 >>> 7) & 0x7FFFFFFL;
+        values[valueOffset + 6] = (w2 >>> 34) & 0x7FFFFFFL;
+        values[valueOffset + 7] = ((w2 >>> 61) | (w3 << 3)) & 0x7FFFFFFL;
+        values[valueOffset + 8] = (w3 >>> 24) & 0x7FFFFFFL;
+        values[valueOffset + 9] = ((w3 >>> 51) | (w4 << 13)) & 0x7FFFFFFL;
+        values[valueOffset + 10] = (w4 >>> 14) & 0x7FFFFFFL;
+        values[valueOffset + 11] = ((w4 >>> 41) | (w5 << 23)) & 0x7FFFFFFL;
+        values[valueOffset + 12] = (w5 >>> 4) & 0x7FFFFFFL;
+        values[valueOffset + 13] = (w5 >>> 31) & 0x7FFFFFFL;
+        values[valueOffset + 14] = ((w5 >>> 58) | (w6 << 6)) & 0x7FFFFFFL;
+        values[valueOffset + 15] = (w6 >>> 21) & 0x7FFFFFFL;
+        values[valueOffset + 16] = ((w6 >>> 48) | (w7 << 16)) & 0x7FFFFFFL;
+        values[valueOffset + 17] = (w7 >>> 11) & 0x7FFFFFFL;
+        values[valueOffset + 18] = ((w7 >>> 38) | (w8 << 26)) & 0x7FFFFFFL;
+        values[valueOffset + 19] = (w8 >>> 1) & 0x7FFFFFFL;
+        values[valueOffset + 20] = (w8 >>> 28) & 0x7FFFFFFL;
+        values[valueOffset + 21] = ((w8 >>> 55) | (w9 << 9)) & 0x7FFFFFFL;
+        values[valueOffset + 22] = (w9 >>> 18) & 0x7FFFFFFL;
+        values[valueOffset + 23] = ((w9 >>> 45) | (w10 << 19)) & 0x7FFFFFFL;
+        values[valueOffset + 24] = (w10 >>> 8) & 0x7FFFFFFL;
+        values[valueOffset + 25] = (w10 >>> 35) & 0x7FFFFFFL;
+        values[valueOffset + 26] = ((w10 >>> 62) | (w11 << 2)) & 0x7FFFFFFL;
+        values[valueOffset + 27] = (w11 >>> 25) & 0x7FFFFFFL;
+        values[valueOffset + 28] = ((w11 >>> 52) | (w12 << 12)) & 0x7FFFFFFL;
+        values[valueOffset + 29] = (w12 >>> 15) & 0x7FFFFFFL;
+        values[valueOffset + 30] = ((w12 >>> 42) | (w13 << 22)) & 0x7FFFFFFL;
+        values[valueOffset + 31] = (w13 >>> 5) & 0x7FFFFFFL;
+        values[valueOffset + 32] = (w13 >>> 32) & 0x7FFFFFFL;
+        values[valueOffset + 33] = ((w13 >>> 59) | (w14 << 5)) & 0x7FFFFFFL;
+        values[valueOffset + 34] = (w14 >>> 22) & 0x7FFFFFFL;
+        values[valueOffset + 35] = ((w14 >>> 49) | (w15 << 15)) & 0x7FFFFFFL;
+        values[valueOffset + 36] = (w15 >>> 12) & 0x7FFFFFFL;
+        values[valueOffset + 37] = ((w15 >>> 39) | (w16 << 25)) & 0x7FFFFFFL;
+        values[valueOffset + 38] = (w16 >>> 2) & 0x7FFFFFFL;
+        values[valueOffset + 39] = (w16 >>> 29) & 0x7FFFFFFL;
+        values[valueOffset + 40] = ((w16 >>> 56) | (w17 << 8)) & 0x7FFFFFFL;
+        values[valueOffset + 41] = (w17 >>> 19) & 0x7FFFFFFL;
+        values[valueOffset + 42] = ((w17 >>> 46) | (w18 << 18)) & 0x7FFFFFFL;
+        values[valueOffset + 43] = (w18 >>> 9) & 0x7FFFFFFL;
+        values[valueOffset + 44] = (w18 >>> 36) & 0x7FFFFFFL;
+        values[valueOffset + 45] = ((w18 >>> 63) | (w19 << 1)) & 0x7FFFFFFL;
+        values[valueOffset + 46] = (w19 >>> 26) & 0x7FFFFFFL;
+        values[valueOffset + 47] = ((w19 >>> 53) | (w20 << 11)) & 0x7FFFFFFL;
+        values[valueOffset + 48] = (w20 >>> 16) & 0x7FFFFFFL;
+        values[valueOffset + 49] = ((w20 >>> 43) | (w21 << 21)) & 0x7FFFFFFL;
+        values[valueOffset + 50] = (w21 >>> 6) & 0x7FFFFFFL;
+        values[valueOffset + 51] = (w21 >>> 33) & 0x7FFFFFFL;
+        values[valueOffset + 52] = ((w21 >>> 60) | (w22 << 4)) & 0x7FFFFFFL;
+        values[valueOffset + 53] = (w22 >>> 23) & 0x7FFFFFFL;
+        values[valueOffset + 54] = ((w22 >>> 50) | (w23 << 14)) & 0x7FFFFFFL;
+        values[valueOffset + 55] = (w23 >>> 13) & 0x7FFFFFFL;
+        values[valueOffset + 56] = ((w23 >>> 40) | (w24 << 24)) & 0x7FFFFFFL;
+        values[valueOffset + 57] = (w24 >>> 3) & 0x7FFFFFFL;
+        values[valueOffset + 58] = (w24 >>> 30) & 0x7FFFFFFL;
+        values[valueOffset + 59] = ((w24 >>> 57) | (w25 << 7)) & 0x7FFFFFFL;
+        values[valueOffset + 60] = (w25 >>> 20) & 0x7FFFFFFL;
+        values[valueOffset + 61] = ((w25 >>> 47) | (w26 << 17)) & 0x7FFFFFFL;
+        values[valueOffset + 62] = (w26 >>> 10) & 0x7FFFFFFL;
+        values[valueOffset + 63] = w26 >>> 37;
+    }
+
+    private static void unpack28(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        values[valueOffset + 0] = w0 & 0xFFFFFFFL;
+        values[valueOffset + 1] = (w0 >>> 28) & 0xFFFFFFFL;
+        values[valueOffset + 2] = ((w0 >>> 56) | (w1 << 8)) & 0xFFFFFFFL;
+        values[valueOffset + 3] = (w1 >>> 20) & 0xFFFFFFFL;
+        values[valueOffset + 4] = ((w1 >>> 48) | (w2 << 16)) & 0xFFFFFFFL;
+        values[valueOffset + 5] = (w2 >>> 12) & 0xFFFFFFFL;
+        values[valueOffset + 6] = ((w2 >>> 40) | (w3 << 24)) & 0xFFFFFFFL;
+        values[valueOffset + 7] = (w3 >>> 4) & 0xFFFFFFFL;
+        values[valueOffset + 8] = (w3 >>> 32) & 0xFFFFFFFL;
+        values[valueOffset + 9] = ((w3 >>> 60) | (w4 << 4)) & 0xFFFFFFFL;
+        values[valueOffset + 10] = (w4 >>> 24) & 0xFFFFFFFL;
+        values[valueOffset + 11] = ((w4 >>> 52) | (w5 << 12)) & 0xFFFFFFFL;
+        values[valueOffset + 12] = (w5 >>> 16) & 0xFFFFFFFL;
+        values[valueOffset + 13] = ((w5 >>> 44) | (w6 << 20)) & 0xFFFFFFFL;
+        values[valueOffset + 14] = (w6 >>> 8) & 0xFFFFFFFL;
+        values[valueOffset + 15] = w6 >>> 36;
+        values[valueOffset + 16] = w7 & 0xFFFFFFFL;
+        values[valueOffset + 17] = (w7 >>> 28) & 0xFFFFFFFL;
+        values[valueOffset + 18] = ((w7 >>> 56) | (w8 << 8)) & 0xFFFFFFFL;
+        values[valueOffset + 19] = (w8 >>> 20) & 0xFFFFFFFL;
+        values[valueOffset + 20] = ((w8 >>> 48) | (w9 << 16)) & 0xFFFFFFFL;
+        values[valueOffset + 21] = (w9 >>> 12) & 0xFFFFFFFL;
+        values[valueOffset + 22] = ((w9 >>> 40) | (w10 << 24)) & 0xFFFFFFFL;
+        values[valueOffset + 23] = (w10 >>> 4) & 0xFFFFFFFL;
+        values[valueOffset + 24] = (w10 >>> 32) & 0xFFFFFFFL;
+        values[valueOffset + 25] = ((w10 >>> 60) | (w11 << 4)) & 0xFFFFFFFL;
+        values[valueOffset + 26] = (w11 >>> 24) & 0xFFFFFFFL;
+        values[valueOffset + 27] = ((w11 >>> 52) | (w12 << 12)) & 0xFFFFFFFL;
+        values[valueOffset + 28] = (w12 >>> 16) & 0xFFFFFFFL;
+        values[valueOffset + 29] = ((w12 >>> 44) | (w13 << 20)) & 0xFFFFFFFL;
+        values[valueOffset + 30] = (w13 >>> 8) & 0xFFFFFFFL;
+        values[valueOffset + 31] = w13 >>> 36;
+        values[valueOffset + 32] = w14 & 0xFFFFFFFL;
+        values[valueOffset + 33] = (w14 >>> 28) & 0xFFFFFFFL;
+        values[valueOffset + 34] = ((w14 >>> 56) | (w15 << 8)) & 0xFFFFFFFL;
+        values[valueOffset + 35] = (w15 >>> 20) & 0xFFFFFFFL;
+        values[valueOffset + 36] = ((w15 >>> 48) | (w16 << 16)) & 0xFFFFFFFL;
+        values[valueOffset + 37] = (w16 >>> 12) & 0xFFFFFFFL;
+        values[valueOffset + 38] = ((w16 >>> 40) | (w17 << 24)) & 0xFFFFFFFL;
+        values[valueOffset + 39] = (w17 >>> 4) & 0xFFFFFFFL;
+        values[valueOffset + 40] = (w17 >>> 32) & 0xFFFFFFFL;
+        values[valueOffset + 41] = ((w17 >>> 60) | (w18 << 4)) & 0xFFFFFFFL;
+        values[valueOffset + 42] = (w18 >>> 24) & 0xFFFFFFFL;
+        values[valueOffset + 43] = ((w18 >>> 52) | (w19 << 12)) & 0xFFFFFFFL;
+        values[valueOffset + 44] = (w19 >>> 16) & 0xFFFFFFFL;
+        values[valueOffset + 45] = ((w19 >>> 44) | (w20 << 20)) & 0xFFFFFFFL;
+        values[valueOffset + 46] = (w20 >>> 8) & 0xFFFFFFFL;
+        values[valueOffset + 47] = w20 >>> 36;
+        values[valueOffset + 48] = w21 & 0xFFFFFFFL;
+        values[valueOffset + 49] = (w21 >>> 28) & 0xFFFFFFFL;
+        values[valueOffset + 50] = ((w21 >>> 56) | (w22 << 8)) & 0xFFFFFFFL;
+        values[valueOffset + 51] = (w22 >>> 20) & 0xFFFFFFFL;
+        values[valueOffset + 52] = ((w22 >>> 48) | (w23 << 16)) & 0xFFFFFFFL;
+        values[valueOffset + 53] = (w23 >>> 12) & 0xFFFFFFFL;
+        values[valueOffset + 54] = ((w23 >>> 40) | (w24 << 24)) & 0xFFFFFFFL;
+        values[valueOffset + 55] = (w24 >>> 4) & 0xFFFFFFFL;
+        values[valueOffset + 56] = (w24 >>> 32) & 0xFFFFFFFL;
+        values[valueOffset + 57] = ((w24 >>> 60) | (w25 << 4)) & 0xFFFFFFFL;
+        values[valueOffset + 58] = (w25 >>> 24) & 0xFFFFFFFL;
+        values[valueOffset + 59] = ((w25 >>> 52) | (w26 << 12)) & 0xFFFFFFFL;
+        values[valueOffset + 60] = (w26 >>> 16) & 0xFFFFFFFL;
+        values[valueOffset + 61] = ((w26 >>> 44) | (w27 << 20)) & 0xFFFFFFFL;
+        values[valueOffset + 62] = (w27 >>> 8) & 0xFFFFFFFL;
+        values[valueOffset + 63] = w27 >>> 36;
+    }
+
+    private static void unpack29(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        values[valueOffset + 0] = w0 & 0x1FFFFFFFL;
+        values[valueOffset + 1] = (w0 >>> 29) & 0x1FFFFFFFL;
+        values[valueOffset + 2] = ((w0 >>> 58) | (w1 << 6)) & 0x1FFFFFFFL;
+        values[valueOffset + 3] = (w1 >>> 23) & 0x1FFFFFFFL;
+        values[valueOffset + 4] = ((w1 >>> 52) | (w2 << 12)) & 0x1FFFFFFFL;
+        values[valueOffset + 5] = (w2 >>> 17) & 0x1FFFFFFFL;
+        values[valueOffset + 6] = ((w2 >>> 46) | (w3 << 18)) & 0x1FFFFFFFL;
+        values[valueOffset + 7] = (w3 >>> 11) & 0x1FFFFFFFL;
+        values[valueOffset + 8] = ((w3 >>> 40) | (w4 << 24)) & 0x1FFFFFFFL;
+        values[valueOffset + 9] = (w4 >>> 5) & 0x1FFFFFFFL;
+        values[valueOffset + 10] = (w4 >>> 34) & 0x1FFFFFFFL;
+        values[valueOffset + 11] = ((w4 >>> 63) | (w5 << 1)) & 0x1FFFFFFFL;
+        values[valueOffset + 12] = (w5 >>> 28) & 0x1FFFFFFFL;
+        values[valueOffset + 13] = ((w5 >>> 57) | (w6 << 7)) & 0x1FFFFFFFL;
+        values[valueOffset + 14] = (w6 >>> 22) & 0x1FFFFFFFL;
+        values[valueOffset + 15] = ((w6 >>> 51) | (w7 << 13)) & 0x1FFFFFFFL;
+        values[valueOffset + 16] = (w7 >>> 16) & 0x1FFFFFFFL;
+        values[valueOffset + 17] = ((w7 >>> 45) | (w8 << 19)) & 0x1FFFFFFFL;
+        values[valueOffset + 18] = (w8 >>> 10) & 0x1FFFFFFFL;
+        values[valueOffset + 19] = ((w8 >>> 39) | (w9 << 25)) & 0x1FFFFFFFL;
+        values[valueOffset + 20] = (w9 >>> 4) & 0x1FFFFFFFL;
+        values[valueOffset + 21] = (w9 >>> 33) & 0x1FFFFFFFL;
+        values[valueOffset + 22] = ((w9 >>> 62) | (w10 << 2)) & 0x1FFFFFFFL;
+        values[valueOffset + 23] = (w10 >>> 27) & 0x1FFFFFFFL;
+        values[valueOffset + 24] = ((w10 >>> 56) | (w11 << 8)) & 0x1FFFFFFFL;
+        values[valueOffset + 25] = (w11 >>> 21) & 0x1FFFFFFFL;
+        values[valueOffset + 26] = ((w11 >>> 50) | (w12 << 14)) & 0x1FFFFFFFL;
+        values[valueOffset + 27] = (w12 >>> 15) & 0x1FFFFFFFL;
+        values[valueOffset + 28] = ((w12 >>> 44) | (w13 << 20)) & 0x1FFFFFFFL;
+        values[valueOffset + 29] = (w13 >>> 9) & 0x1FFFFFFFL;
+        values[valueOffset + 30] = ((w13 >>> 38) | (w14 << 26)) & 0x1FFFFFFFL;
+        values[valueOffset + 31] = (w14 >>> 3) & 0x1FFFFFFFL;
+        values[valueOffset + 32] = (w14 >>> 32) & 0x1FFFFFFFL;
+        values[valueOffset + 33] = ((w14 >>> 61) | (w15 << 3)) & 0x1FFFFFFFL;
+        values[valueOffset + 34] = (w15 >>> 26) & 0x1FFFFFFFL;
+        values[valueOffset + 35] = ((w15 >>> 55) | (w16 << 9)) & 0x1FFFFFFFL;
+        values[valueOffset + 36] = (w16 >>> 20) & 0x1FFFFFFFL;
+        values[valueOffset + 37] = ((w16 >>> 49) | (w17 << 15)) & 0x1FFFFFFFL;
+        values[valueOffset + 38] = (w17 >>> 14) & 0x1FFFFFFFL;
+        values[valueOffset + 39] = ((w17 >>> 43) | (w18 << 21)) & 0x1FFFFFFFL;
+        values[valueOffset + 40] = (w18 >>> 8) & 0x1FFFFFFFL;
+        values[valueOffset + 41] = ((w18 >>> 37) | (w19 << 27)) & 0x1FFFFFFFL;
+        values[valueOffset + 42] = (w19 >>> 2) & 0x1FFFFFFFL;
+        values[valueOffset + 43] = (w19 >>> 31) & 0x1FFFFFFFL;
+        values[valueOffset + 44] = ((w19 >>> 60) | (w20 << 4)) & 0x1FFFFFFFL;
+        values[valueOffset + 45] = (w20 >>> 25) & 0x1FFFFFFFL;
+        values[valueOffset + 46] = ((w20 >>> 54) | (w21 << 10)) & 0x1FFFFFFFL;
+        values[valueOffset + 47] = (w21 >>> 19) & 0x1FFFFFFFL;
+        values[valueOffset + 48] = ((w21 >>> 48) | (w22 << 16)) & 0x1FFFFFFFL;
+        values[valueOffset + 49] = (w22 >>> 13) & 0x1FFFFFFFL;
+        values[valueOffset + 50] = ((w22 >>> 42) | (w23 << 22)) & 0x1FFFFFFFL;
+        values[valueOffset + 51] = (w23 >>> 7) & 0x1FFFFFFFL;
+        values[valueOffset + 52] = ((w23 >>> 36) | (w24 << 28)) & 0x1FFFFFFFL;
+        values[valueOffset + 53] = (w24 >>> 1) & 0x1FFFFFFFL;
+        values[valueOffset + 54] = (w24 >>> 30) & 0x1FFFFFFFL;
+        values[valueOffset + 55] = ((w24 >>> 59) | (w25 << 5)) & 0x1FFFFFFFL;
+        values[valueOffset + 56] = (w25 >>> 24) & 0x1FFFFFFFL;
+        values[valueOffset + 57] = ((w25 >>> 53) | (w26 << 11)) & 0x1FFFFFFFL;
+        values[valueOffset + 58] = (w26 >>> 18) & 0x1FFFFFFFL;
+        values[valueOffset + 59] = ((w26 >>> 47) | (w27 << 17)) & 0x1FFFFFFFL;
+        values[valueOffset + 60] = (w27 >>> 12) & 0x1FFFFFFFL;
+        values[valueOffset + 61] = ((w27 >>> 41) | (w28 << 23)) & 0x1FFFFFFFL;
+        values[valueOffset + 62] = (w28 >>> 6) & 0x1FFFFFFFL;
+        values[valueOffset + 63] = w28 >>> 35;
+    }
+
+    private static void unpack30(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        values[valueOffset + 0] = w0 & 0x3FFFFFFFL;
+        values[valueOffset + 1] = (w0 >>> 30) & 0x3FFFFFFFL;
+        values[valueOffset + 2] = ((w0 >>> 60) | (w1 << 4)) & 0x3FFFFFFFL;
+        values[valueOffset + 3] = (w1 >>> 26) & 0x3FFFFFFFL;
+        values[valueOffset + 4] = ((w1 >>> 56) | (w2 << 8)) & 0x3FFFFFFFL;
+        values[valueOffset + 5] = (w2 >>> 22) & 0x3FFFFFFFL;
+        values[valueOffset + 6] = ((w2 >>> 52) | (w3 << 12)) & 0x3FFFFFFFL;
+        values[valueOffset + 7] = (w3 >>> 18) & 0x3FFFFFFFL;
+        values[valueOffset + 8] = ((w3 >>> 48) | (w4 << 16)) & 0x3FFFFFFFL;
+        values[valueOffset + 9] = (w4 >>> 14) & 0x3FFFFFFFL;
+        values[valueOffset + 10] = ((w4 >>> 44) | (w5 << 20)) & 0x3FFFFFFFL;
+        values[valueOffset + 11] = (w5 >>> 10) & 0x3FFFFFFFL;
+        values[valueOffset + 12] = ((w5 >>> 40) | (w6 << 24)) & 0x3FFFFFFFL;
+        values[valueOffset + 13] = (w6 >>> 6) & 0x3FFFFFFFL;
+        values[valueOffset + 14] = ((w6 >>> 36) | (w7 << 28)) & 0x3FFFFFFFL;
+        values[valueOffset + 15] = (w7 >>> 2) & 0x3FFFFFFFL;
+        values[valueOffset + 16] = (w7 >>> 32) & 0x3FFFFFFFL;
+        values[valueOffset + 17] = ((w7 >>> 62) | (w8 << 2)) & 0x3FFFFFFFL;
+        values[valueOffset + 18] = (w8 >>> 28) & 0x3FFFFFFFL;
+        values[valueOffset + 19] = ((w8 >>> 58) | (w9 << 6)) & 0x3FFFFFFFL;
+        values[valueOffset + 20] = (w9 >>> 24) & 0x3FFFFFFFL;
+        values[valueOffset + 21] = ((w9 >>> 54) | (w10 << 10)) & 0x3FFFFFFFL;
+        values[valueOffset + 22] = (w10 >>> 20) & 0x3FFFFFFFL;
+        values[valueOffset + 23] = ((w10 >>> 50) | (w11 << 14)) & 0x3FFFFFFFL;
+        values[valueOffset + 24] = (w11 >>> 16) & 0x3FFFFFFFL;
+        values[valueOffset + 25] = ((w11 >>> 46) | (w12 << 18)) & 0x3FFFFFFFL;
+        values[valueOffset + 26] = (w12 >>> 12) & 0x3FFFFFFFL;
+        values[valueOffset + 27] = ((w12 >>> 42) | (w13 << 22)) & 0x3FFFFFFFL;
+        values[valueOffset + 28] = (w13 >>> 8) & 0x3FFFFFFFL;
+        values[valueOffset + 29] = ((w13 >>> 38) | (w14 << 26)) & 0x3FFFFFFFL;
+        values[valueOffset + 30] = (w14 >>> 4) & 0x3FFFFFFFL;
+        values[valueOffset + 31] = w14 >>> 34;
+        values[valueOffset + 32] = w15 & 0x3FFFFFFFL;
+        values[valueOffset + 33] = (w15 >>> 30) & 0x3FFFFFFFL;
+        values[valueOffset + 34] = ((w15 >>> 60) | (w16 << 4)) & 0x3FFFFFFFL;
+        values[valueOffset + 35] = (w16 >>> 26) & 0x3FFFFFFFL;
+        values[valueOffset + 36] = ((w16 >>> 56) | (w17 << 8)) & 0x3FFFFFFFL;
+        values[valueOffset + 37] = (w17 >>> 22) & 0x3FFFFFFFL;
+        values[valueOffset + 38] = ((w17 >>> 52) | (w18 << 12)) & 0x3FFFFFFFL;
+        values[valueOffset + 39] = (w18 >>> 18) & 0x3FFFFFFFL;
+        values[valueOffset + 40] = ((w18 >>> 48) | (w19 << 16)) & 0x3FFFFFFFL;
+        values[valueOffset + 41] = (w19 >>> 14) & 0x3FFFFFFFL;
+        values[valueOffset + 42] = ((w19 >>> 44) | (w20 << 20)) & 0x3FFFFFFFL;
+        values[valueOffset + 43] = (w20 >>> 10) & 0x3FFFFFFFL;
+        values[valueOffset + 44] = ((w20 >>> 40) | (w21 << 24)) & 0x3FFFFFFFL;
+        values[valueOffset + 45] = (w21 >>> 6) & 0x3FFFFFFFL;
+        values[valueOffset + 46] = ((w21 >>> 36) | (w22 << 28)) & 0x3FFFFFFFL;
+        values[valueOffset + 47] = (w22 >>> 2) & 0x3FFFFFFFL;
+        values[valueOffset + 48] = (w22 >>> 32) & 0x3FFFFFFFL;
+        values[valueOffset + 49] = ((w22 >>> 62) | (w23 << 2)) & 0x3FFFFFFFL;
+        values[valueOffset + 50] = (w23 >>> 28) & 0x3FFFFFFFL;
+        values[valueOffset + 51] = ((w23 >>> 58) | (w24 << 6)) & 0x3FFFFFFFL;
+        values[valueOffset + 52] = (w24 >>> 24) & 0x3FFFFFFFL;
+        values[valueOffset + 53] = ((w24 >>> 54) | (w25 << 10)) & 0x3FFFFFFFL;
+        values[valueOffset + 54] = (w25 >>> 20) & 0x3FFFFFFFL;
+        values[valueOffset + 55] = ((w25 >>> 50) | (w26 << 14)) & 0x3FFFFFFFL;
+        values[valueOffset + 56] = (w26 >>> 16) & 0x3FFFFFFFL;
+        values[valueOffset + 57] = ((w26 >>> 46) | (w27 << 18)) & 0x3FFFFFFFL;
+        values[valueOffset + 58] = (w27 >>> 12) & 0x3FFFFFFFL;
+        values[valueOffset + 59] = ((w27 >>> 42) | (w28 << 22)) & 0x3FFFFFFFL;
+        values[valueOffset + 60] = (w28 >>> 8) & 0x3FFFFFFFL;
+        values[valueOffset + 61] = ((w28 >>> 38) | (w29 << 26)) & 0x3FFFFFFFL;
+        values[valueOffset + 62] = (w29 >>> 4) & 0x3FFFFFFFL;
+        values[valueOffset + 63] = w29 >>> 34;
+    }
+
+    private static void unpack31(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        values[valueOffset + 0] = w0 & 0x7FFFFFFFL;
+        values[valueOffset + 1] = (w0 >>> 31) & 0x7FFFFFFFL;
+        values[valueOffset + 2] = ((w0 >>> 62) | (w1 << 2)) & 0x7FFFFFFFL;
+        values[valueOffset + 3] = (w1 >>> 29) & 0x7FFFFFFFL;
+        values[valueOffset + 4] = ((w1 >>> 60) | (w2 << 4)) & 0x7FFFFFFFL;
+        values[valueOffset + 5] = (w2 >>> 27) & 0x7FFFFFFFL;
+        values[valueOffset + 6] = ((w2 >>> 58) | (w3 << 6)) & 0x7FFFFFFFL;
+        values[valueOffset + 7] = (w3 >>> 25) & 0x7FFFFFFFL;
+        values[valueOffset + 8] = ((w3 >>> 56) | (w4 << 8)) & 0x7FFFFFFFL;
+        values[valueOffset + 9] = (w4 >>> 23) & 0x7FFFFFFFL;
+        values[valueOffset + 10] = ((w4 >>> 54) | (w5 << 10)) & 0x7FFFFFFFL;
+        values[valueOffset + 11] = (w5 >>> 21) & 0x7FFFFFFFL;
+        values[valueOffset + 12] = ((w5 >>> 52) | (w6 << 12)) & 0x7FFFFFFFL;
+        values[valueOffset + 13] = (w6 >>> 19) & 0x7FFFFFFFL;
+        values[valueOffset + 14] = ((w6 >>> 50) | (w7 << 14)) & 0x7FFFFFFFL;
+        values[valueOffset + 15] = (w7 >>> 17) & 0x7FFFFFFFL;
+        values[valueOffset + 16] = ((w7 >>> 48) | (w8 << 16)) & 0x7FFFFFFFL;
+        values[valueOffset + 17] = (w8 >>> 15) & 0x7FFFFFFFL;
+        values[valueOffset + 18] = ((w8 >>> 46) | (w9 << 18)) & 0x7FFFFFFFL;
+        values[valueOffset + 19] = (w9 >>> 13) & 0x7FFFFFFFL;
+        values[valueOffset + 20] = ((w9 >>> 44) | (w10 << 20)) & 0x7FFFFFFFL;
+        values[valueOffset + 21] = (w10 >>> 11) & 0x7FFFFFFFL;
+        values[valueOffset + 22] = ((w10 >>> 42) | (w11 << 22)) & 0x7FFFFFFFL;
+        values[valueOffset + 23] = (w11 >>> 9) & 0x7FFFFFFFL;
+        values[valueOffset + 24] = ((w11 >>> 40) | (w12 << 24)) & 0x7FFFFFFFL;
+        values[valueOffset + 25] = (w12 >>> 7) & 0x7FFFFFFFL;
+        values[valueOffset + 26] = ((w12 >>> 38) | (w13 << 26)) & 0x7FFFFFFFL;
+        values[valueOffset + 27] = (w13 >>> 5) & 0x7FFFFFFFL;
+        values[valueOffset + 28] = ((w13 >>> 36) | (w14 << 28)) & 0x7FFFFFFFL;
+        values[valueOffset + 29] = (w14 >>> 3) & 0x7FFFFFFFL;
+        values[valueOffset + 30] = ((w14 >>> 34) | (w15 << 30)) & 0x7FFFFFFFL;
+        values[valueOffset + 31] = (w15 >>> 1) & 0x7FFFFFFFL;
+        values[valueOffset + 32] = (w15 >>> 32) & 0x7FFFFFFFL;
+        values[valueOffset + 33] = ((w15 >>> 63) | (w16 << 1)) & 0x7FFFFFFFL;
+        values[valueOffset + 34] = (w16 >>> 30) & 0x7FFFFFFFL;
+        values[valueOffset + 35] = ((w16 >>> 61) | (w17 << 3)) & 0x7FFFFFFFL;
+        values[valueOffset + 36] = (w17 >>> 28) & 0x7FFFFFFFL;
+        values[valueOffset + 37] = ((w17 >>> 59) | (w18 << 5)) & 0x7FFFFFFFL;
+        values[valueOffset + 38] = (w18 >>> 26) & 0x7FFFFFFFL;
+        values[valueOffset + 39] = ((w18 >>> 57) | (w19 << 7)) & 0x7FFFFFFFL;
+        values[valueOffset + 40] = (w19 >>> 24) & 0x7FFFFFFFL;
+        values[valueOffset + 41] = ((w19 >>> 55) | (w20 << 9)) & 0x7FFFFFFFL;
+        values[valueOffset + 42] = (w20 >>> 22) & 0x7FFFFFFFL;
+        values[valueOffset + 43] = ((w20 >>> 53) | (w21 << 11)) & 0x7FFFFFFFL;
+        values[valueOffset + 44] = (w21 >>> 20) & 0x7FFFFFFFL;
+        values[valueOffset + 45] = ((w21 >>> 51) | (w22 << 13)) & 0x7FFFFFFFL;
+        values[valueOffset + 46] = (w22 >>> 18) & 0x7FFFFFFFL;
+        values[valueOffset + 47] = ((w22 >>> 49) | (w23 << 15)) & 0x7FFFFFFFL;
+        values[valueOffset + 48] = (w23 >>> 16) & 0x7FFFFFFFL;
+        values[valueOffset + 49] = ((w23 >>> 47) | (w24 << 17)) & 0x7FFFFFFFL;
+        values[valueOffset + 50] = (w24 >>> 14) & 0x7FFFFFFFL;
+        values[valueOffset + 51] = ((w24 >>> 45) | (w25 << 19)) & 0x7FFFFFFFL;
+        values[valueOffset + 52] = (w25 >>> 12) & 0x7FFFFFFFL;
+        values[valueOffset + 53] = ((w25 >>> 43) | (w26 << 21)) & 0x7FFFFFFFL;
+        values[valueOffset + 54] = (w26 >>> 10) & 0x7FFFFFFFL;
+        values[valueOffset + 55] = ((w26 >>> 41) | (w27 << 23)) & 0x7FFFFFFFL;
+        values[valueOffset + 56] = (w27 >>> 8) & 0x7FFFFFFFL;
+        values[valueOffset + 57] = ((w27 >>> 39) | (w28 << 25)) & 0x7FFFFFFFL;
+        values[valueOffset + 58] = (w28 >>> 6) & 0x7FFFFFFFL;
+        values[valueOffset + 59] = ((w28 >>> 37) | (w29 << 27)) & 0x7FFFFFFFL;
+        values[valueOffset + 60] = (w29 >>> 4) & 0x7FFFFFFFL;
+        values[valueOffset + 61] = ((w29 >>> 35) | (w30 << 29)) & 0x7FFFFFFFL;
+        values[valueOffset + 62] = (w30 >>> 2) & 0x7FFFFFFFL;
+        values[valueOffset + 63] = w30 >>> 33;
+    }
+
+    private static void unpack32(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        values[valueOffset + 0] = w0 & 0xFFFFFFFFL;
+        values[valueOffset + 1] = w0 >>> 32;
+        values[valueOffset + 2] = w1 & 0xFFFFFFFFL;
+        values[valueOffset + 3] = w1 >>> 32;
+        values[valueOffset + 4] = w2 & 0xFFFFFFFFL;
+        values[valueOffset + 5] = w2 >>> 32;
+        values[valueOffset + 6] = w3 & 0xFFFFFFFFL;
+        values[valueOffset + 7] = w3 >>> 32;
+        values[valueOffset + 8] = w4 & 0xFFFFFFFFL;
+        values[valueOffset + 9] = w4 >>> 32;
+        values[valueOffset + 10] = w5 & 0xFFFFFFFFL;
+        values[valueOffset + 11] = w5 >>> 32;
+        values[valueOffset + 12] = w6 & 0xFFFFFFFFL;
+        values[valueOffset + 13] = w6 >>> 32;
+        values[valueOffset + 14] = w7 & 0xFFFFFFFFL;
+        values[valueOffset + 15] = w7 >>> 32;
+        values[valueOffset + 16] = w8 & 0xFFFFFFFFL;
+        values[valueOffset + 17] = w8 >>> 32;
+        values[valueOffset + 18] = w9 & 0xFFFFFFFFL;
+        values[valueOffset + 19] = w9 >>> 32;
+        values[valueOffset + 20] = w10 & 0xFFFFFFFFL;
+        values[valueOffset + 21] = w10 >>> 32;
+        values[valueOffset + 22] = w11 & 0xFFFFFFFFL;
+        values[valueOffset + 23] = w11 >>> 32;
+        values[valueOffset + 24] = w12 & 0xFFFFFFFFL;
+        values[valueOffset + 25] = w12 >>> 32;
+        values[valueOffset + 26] = w13 & 0xFFFFFFFFL;
+        values[valueOffset + 27] = w13 >>> 32;
+        values[valueOffset + 28] = w14 & 0xFFFFFFFFL;
+        values[valueOffset + 29] = w14 >>> 32;
+        values[valueOffset + 30] = w15 & 0xFFFFFFFFL;
+        values[valueOffset + 31] = w15 >>> 32;
+        values[valueOffset + 32] = w16 & 0xFFFFFFFFL;
+        values[valueOffset + 33] = w16 >>> 32;
+        values[valueOffset + 34] = w17 & 0xFFFFFFFFL;
+        values[valueOffset + 35] = w17 >>> 32;
+        values[valueOffset + 36] = w18 & 0xFFFFFFFFL;
+        values[valueOffset + 37] = w18 >>> 32;
+        values[valueOffset + 38] = w19 & 0xFFFFFFFFL;
+        values[valueOffset + 39] = w19 >>> 32;
+        values[valueOffset + 40] = w20 & 0xFFFFFFFFL;
+        values[valueOffset + 41] = w20 >>> 32;
+        values[valueOffset + 42] = w21 & 0xFFFFFFFFL;
+        values[valueOffset + 43] = w21 >>> 32;
+        values[valueOffset + 44] = w22 & 0xFFFFFFFFL;
+        values[valueOffset + 45] = w22 >>> 32;
+        values[valueOffset + 46] = w23 & 0xFFFFFFFFL;
+        values[valueOffset + 47] = w23 >>> 32;
+        values[valueOffset + 48] = w24 & 0xFFFFFFFFL;
+        values[valueOffset + 49] = w24 >>> 32;
+        values[valueOffset + 50] = w25 & 0xFFFFFFFFL;
+        values[valueOffset + 51] = w25 >>> 32;
+        values[valueOffset + 52] = w26 & 0xFFFFFFFFL;
+        values[valueOffset + 53] = w26 >>> 32;
+        values[valueOffset + 54] = w27 & 0xFFFFFFFFL;
+        values[valueOffset + 55] = w27 >>> 32;
+        values[valueOffset + 56] = w28 & 0xFFFFFFFFL;
+        values[valueOffset + 57] = w28 >>> 32;
+        values[valueOffset + 58] = w29 & 0xFFFFFFFFL;
+        values[valueOffset + 59] = w29 >>> 32;
+        values[valueOffset + 60] = w30 & 0xFFFFFFFFL;
+        values[valueOffset + 61] = w30 >>> 32;
+        values[valueOffset + 62] = w31 & 0xFFFFFFFFL;
+        values[valueOffset + 63] = w31 >>> 32;
+    }
+
+    private static void unpack33(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        values[valueOffset + 0] = w0 & 0x1FFFFFFFFL;
+        values[valueOffset + 1] = ((w0 >>> 33) | (w1 << 31)) & 0x1FFFFFFFFL;
+        values[valueOffset + 2] = (w1 >>> 2) & 0x1FFFFFFFFL;
+        values[valueOffset + 3] = ((w1 >>> 35) | (w2 << 29)) & 0x1FFFFFFFFL;
+        values[valueOffset + 4] = (w2 >>> 4) & 0x1FFFFFFFFL;
+        values[valueOffset + 5] = ((w2 >>> 37) | (w3 << 27)) & 0x1FFFFFFFFL;
+        values[valueOffset + 6] = (w3 >>> 6) & 0x1FFFFFFFFL;
+        values[valueOffset + 7] = ((w3 >>> 39) | (w4 << 25)) & 0x1FFFFFFFFL;
+        values[valueOffset + 8] = (w4 >>> 8) & 0x1FFFFFFFFL;
+        values[valueOffset + 9] = ((w4 >>> 41) | (w5 << 23)) & 0x1FFFFFFFFL;
+        values[valueOffset + 10] = (w5 >>> 10) & 0x1FFFFFFFFL;
+        values[valueOffset + 11] = ((w5 >>> 43) | (w6 << 21)) & 0x1FFFFFFFFL;
+        values[valueOffset + 12] = (w6 >>> 12) & 0x1FFFFFFFFL;
+        values[valueOffset + 13] = ((w6 >>> 45) | (w7 << 19)) & 0x1FFFFFFFFL;
+        values[valueOffset + 14] = (w7 >>> 14) & 0x1FFFFFFFFL;
+        values[valueOffset + 15] = ((w7 >>> 47) | (w8 << 17)) & 0x1FFFFFFFFL;
+        values[valueOffset + 16] = (w8 >>> 16) & 0x1FFFFFFFFL;
+        values[valueOffset + 17] = ((w8 >>> 49) | (w9 << 15)) & 0x1FFFFFFFFL;
+        values[valueOffset + 18] = (w9 >>> 18) & 0x1FFFFFFFFL;
+        values[valueOffset + 19] = ((w9 >>> 51) | (w10 << 13)) & 0x1FFFFFFFFL;
+        values[valueOffset + 20] = (w10 >>> 20) & 0x1FFFFFFFFL;
+        values[valueOffset + 21] = ((w10 >>> 53) | (w11 << 11)) & 0x1FFFFFFFFL;
+        values[valueOffset + 22] = (w11 >>> 22) & 0x1FFFFFFFFL;
+        values[valueOffset + 23] = ((w11 >>> 55) | (w12 << 9)) & 0x1FFFFFFFFL;
+        values[valueOffset + 24] = (w12 >>> 24) & 0x1FFFFFFFFL;
+        values[valueOffset + 25] = ((w12 >>> 57) | (w13 << 7)) & 0x1FFFFFFFFL;
+        values[valueOffset + 26] = (w13 >>> 26) & 0x1FFFFFFFFL;
+        values[valueOffset + 27] = ((w13 >>> 59) | (w14 << 5)) & 0x1FFFFFFFFL;
+        values[valueOffset + 28] = (w14 >>> 28) & 0x1FFFFFFFFL;
+        values[valueOffset + 29] = ((w14 >>> 61) | (w15 << 3)) & 0x1FFFFFFFFL;
+        values[valueOffset + 30] = (w15 >>> 30) & 0x1FFFFFFFFL;
+        values[valueOffset + 31] = ((w15 >>> 63) | (w16 << 1)) & 0x1FFFFFFFFL;
+        values[valueOffset + 32] = ((w16 >>> 32) | (w17 << 32)) & 0x1FFFFFFFFL;
+        values[valueOffset + 33] = (w17 >>> 1) & 0x1FFFFFFFFL;
+        values[valueOffset + 34] = ((w17 >>> 34) | (w18 << 30)) & 0x1FFFFFFFFL;
+        values[valueOffset + 35] = (w18 >>> 3) & 0x1FFFFFFFFL;
+        values[valueOffset + 36] = ((w18 >>> 36) | (w19 << 28)) & 0x1FFFFFFFFL;
+        values[valueOffset + 37] = (w19 >>> 5) & 0x1FFFFFFFFL;
+        values[valueOffset + 38] = ((w19 >>> 38) | (w20 << 26)) & 0x1FFFFFFFFL;
+        values[valueOffset + 39] = (w20 >>> 7) & 0x1FFFFFFFFL;
+        values[valueOffset + 40] = ((w20 >>> 40) | (w21 << 24)) & 0x1FFFFFFFFL;
+        values[valueOffset + 41] = (w21 >>> 9) & 0x1FFFFFFFFL;
+        values[valueOffset + 42] = ((w21 >>> 42) | (w22 << 22)) & 0x1FFFFFFFFL;
+        values[valueOffset + 43] = (w22 >>> 11) & 0x1FFFFFFFFL;
+        values[valueOffset + 44] = ((w22 >>> 44) | (w23 << 20)) & 0x1FFFFFFFFL;
+        values[valueOffset + 45] = (w23 >>> 13) & 0x1FFFFFFFFL;
+        values[valueOffset + 46] = ((w23 >>> 46) | (w24 << 18)) & 0x1FFFFFFFFL;
+        values[valueOffset + 47] = (w24 >>> 15) & 0x1FFFFFFFFL;
+        values[valueOffset + 48] = ((w24 >>> 48) | (w25 << 16)) & 0x1FFFFFFFFL;
+        values[valueOffset + 49] = (w25 >>> 17) & 0x1FFFFFFFFL;
+        values[valueOffset + 50] = ((w25 >>> 50) | (w26 << 14)) & 0x1FFFFFFFFL;
+        values[valueOffset + 51] = (w26 >>> 19) & 0x1FFFFFFFFL;
+        values[valueOffset + 52] = ((w26 >>> 52) | (w27 << 12)) & 0x1FFFFFFFFL;
+        values[valueOffset + 53] = (w27 >>> 21) & 0x1FFFFFFFFL;
+        values[valueOffset + 54] = ((w27 >>> 54) | (w28 << 10)) & 0x1FFFFFFFFL;
+        values[valueOffset + 55] = (w28 >>> 23) & 0x1FFFFFFFFL;
+        values[valueOffset + 56] = ((w28 >>> 56) | (w29 << 8)) & 0x1FFFFFFFFL;
+        values[valueOffset + 57] = (w29 >>> 25) & 0x1FFFFFFFFL;
+        values[valueOffset + 58] = ((w29 >>> 58) | (w30 << 6)) & 0x1FFFFFFFFL;
+        values[valueOffset + 59] = (w30 >>> 27) & 0x1FFFFFFFFL;
+        values[valueOffset + 60] = ((w30 >>> 60) | (w31 << 4)) & 0x1FFFFFFFFL;
+        values[valueOffset + 61] = (w31 >>> 29) & 0x1FFFFFFFFL;
+        values[valueOffset + 62] = ((w31 >>> 62) | (w32 << 2)) & 0x1FFFFFFFFL;
+        values[valueOffset + 63] = w32 >>> 31;
+    }
+
+    private static void unpack34(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        final long w33 = words[wordOffset + 33];
+        values[valueOffset + 0] = w0 & 0x3FFFFFFFFL;
+        values[valueOffset + 1] = ((w0 >>> 34) | (w1 << 30)) & 0x3FFFFFFFFL;
+        values[valueOffset + 2] = (w1 >>> 4) & 0x3FFFFFFFFL;
+        values[valueOffset + 3] = ((w1 >>> 38) | (w2 << 26)) & 0x3FFFFFFFFL;
+        values[valueOffset + 4] = (w2 >>> 8) & 0x3FFFFFFFFL;
+        values[valueOffset + 5] = ((w2 >>> 42) | (w3 << 22)) & 0x3FFFFFFFFL;
+        values[valueOffset + 6] = (w3 >>> 12) & 0x3FFFFFFFFL;
+        values[valueOffset + 7] = ((w3 >>> 46) | (w4 << 18)) & 0x3FFFFFFFFL;
+        values[valueOffset + 8] = (w4 >>> 16) & 0x3FFFFFFFFL;
+        values[valueOffset + 9] = ((w4 >>> 50) | (w5 << 14)) & 0x3FFFFFFFFL;
+        values[valueOffset + 10] = (w5 >>> 20) & 0x3FFFFFFFFL;
+        values[valueOffset + 11] = ((w5 >>> 54) | (w6 << 10)) & 0x3FFFFFFFFL;
+        values[valueOffset + 12] = (w6 >>> 24) & 0x3FFFFFFFFL;
+        values[valueOffset + 13] = ((w6 >>> 58) | (w7 << 6)) & 0x3FFFFFFFFL;
+        values[valueOffset + 14] = (w7 >>> 28) & 0x3FFFFFFFFL;
+        values[valueOffset + 15] = ((w7 >>> 62) | (w8 << 2)) & 0x3FFFFFFFFL;
+        values[valueOffset + 16] = ((w8 >>> 32) | (w9 << 32)) & 0x3FFFFFFFFL;
+        values[valueOffset + 17] = (w9 >>> 2) & 0x3FFFFFFFFL;
+        values[valueOffset + 18] = ((w9 >>> 36) | (w10 << 28)) & 0x3FFFFFFFFL;
+        values[valueOffset + 19] = (w10 >>> 6) & 0x3FFFFFFFFL;
+        values[valueOffset + 20] = ((w10 >>> 40) | (w11 << 24)) & 0x3FFFFFFFFL;
+        values[valueOffset + 21] = (w11 >>> 10) & 0x3FFFFFFFFL;
+        values[valueOffset + 22] = ((w11 >>> 44) | (w12 << 20)) & 0x3FFFFFFFFL;
+        values[valueOffset + 23] = (w12 >>> 14) & 0x3FFFFFFFFL;
+        values[valueOffset + 24] = ((w12 >>> 48) | (w13 << 16)) & 0x3FFFFFFFFL;
+        values[valueOffset + 25] = (w13 >>> 18) & 0x3FFFFFFFFL;
+        values[valueOffset + 26] = ((w13 >>> 52) | (w14 << 12)) & 0x3FFFFFFFFL;
+        values[valueOffset + 27] = (w14 >>> 22) & 0x3FFFFFFFFL;
+        values[valueOffset + 28] = ((w14 >>> 56) | (w15 << 8)) & 0x3FFFFFFFFL;
+        values[valueOffset + 29] = (w15 >>> 26) & 0x3FFFFFFFFL;
+        values[valueOffset + 30] = ((w15 >>> 60) | (w16 << 4)) & 0x3FFFFFFFFL;
+        values[valueOffset + 31] = w16 >>> 30;
+        values[valueOffset + 32] = w17 & 0x3FFFFFFFFL;
+        values[valueOffset + 33] = ((w17 >>> 34) | (w18 << 30)) & 0x3FFFFFFFFL;
+        values[valueOffset + 34] = (w18 >>> 4) & 0x3FFFFFFFFL;
+        values[valueOffset + 35] = ((w18 >>> 38) | (w19 << 26)) & 0x3FFFFFFFFL;
+        values[valueOffset + 36] = (w19 >>> 8) & 0x3FFFFFFFFL;
+        values[valueOffset + 37] = ((w19 >>> 42) | (w20 << 22)) & 0x3FFFFFFFFL;
+        values[valueOffset + 38] = (w20 >>> 12) & 0x3FFFFFFFFL;
+        values[valueOffset + 39] = ((w20 >>> 46) | (w21 << 18)) & 0x3FFFFFFFFL;
+        values[valueOffset + 40] = (w21 >>> 16) & 0x3FFFFFFFFL;
+        values[valueOffset + 41] = ((w21 >>> 50) | (w22 << 14)) & 0x3FFFFFFFFL;
+        values[valueOffset + 42] = (w22 >>> 20) & 0x3FFFFFFFFL;
+        values[valueOffset + 43] = ((w22 >>> 54) | (w23 << 10)) & 0x3FFFFFFFFL;
+        values[valueOffset + 44] = (w23 >>> 24) & 0x3FFFFFFFFL;
+        values[valueOffset + 45] = ((w23 >>> 58) | (w24 << 6)) & 0x3FFFFFFFFL;
+        values[valueOffset + 46] = (w24 >>> 28) & 0x3FFFFFFFFL;
+        values[valueOffset + 47] = ((w24 >>> 62) | (w25 << 2)) & 0x3FFFFFFFFL;
+        values[valueOffset + 48] = ((w25 >>> 32) | (w26 << 32)) & 0x3FFFFFFFFL;
+        values[valueOffset + 49] = (w26 >>> 2) & 0x3FFFFFFFFL;
+        values[valueOffset + 50] = ((w26 >>> 36) | (w27 << 28)) & 0x3FFFFFFFFL;
+        values[valueOffset + 51] = (w27 >>> 6) & 0x3FFFFFFFFL;
+        values[valueOffset + 52] = ((w27 >>> 40) | (w28 << 24)) & 0x3FFFFFFFFL;
+        values[valueOffset + 53] = (w28 >>> 10) & 0x3FFFFFFFFL;
+        values[valueOffset + 54] = ((w28 >>> 44) | (w29 << 20)) & 0x3FFFFFFFFL;
+        values[valueOffset + 55] = (w29 >>> 14) & 0x3FFFFFFFFL;
+        values[valueOffset + 56] = ((w29 >>> 48) | (w30 << 16)) & 0x3FFFFFFFFL;
+        values[valueOffset + 57] = (w30 >>> 18) & 0x3FFFFFFFFL;
+        values[valueOffset + 58] = ((w30 >>> 52) | (w31 << 12)) & 0x3FFFFFFFFL;
+        values[valueOffset + 59] = (w31 >>> 22) & 0x3FFFFFFFFL;
+        values[valueOffset + 60] = ((w31 >>> 56) | (w32 << 8)) & 0x3FFFFFFFFL;
+        values[valueOffset + 61] = (w32 >>> 26) & 0x3FFFFFFFFL;
+        values[valueOffset + 62] = ((w32 >>> 60) | (w33 << 4)) & 0x3FFFFFFFFL;
+        values[valueOffset + 63] = w33 >>> 30;
+    }
+
+    private static void unpack35(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        final long w33 = words[wordOffset + 33];
+        final long w34 = words[wordOffset + 34];
+        values[valueOffset + 0] = w0 & 0x7FFFFFFFFL;
+        values[valueOffset + 1] = ((w0 >>> 35) | (w1 << 29)) & 0x7FFFFFFFFL;
+        values[valueOffset + 2] = (w1 >>> 6) & 0x7FFFFFFFFL;
+        values[valueOffset + 3] = ((w1 >>> 41) | (w2 << 23)) & 0x7FFFFFFFFL;
+        values[valueOffset + 4] = (w2 >>> 12) & 0x7FFFFFFFFL;
+        values[valueOffset + 5] = ((w2 >>> 47) | (w3 << 17)) & 0x7FFFFFFFFL;
+        values[valueOffset + 6] = (w3 >>> 18) & 0x7FFFFFFFFL;
+        values[valueOffset + 7] = ((w3 >>> 53) | (w4 << 11)) & 0x7FFFFFFFFL;
+        values[valueOffset + 8] = (w4 >>> 24) & 0x7FFFFFFFFL;
+        values[valueOffset + 9] = ((w4 >>> 59) | (w5 << 5)) & 0x7FFFFFFFFL;
+        values[valueOffset + 10] = ((w5 >>> 30) | (w6 << 34)) & 0x7FFFFFFFFL;
+        values[valueOffset + 11] = (w6 >>> 1) & 0x7FFFFFFFFL;
+        values[valueOffset + 12] = ((w6 >>> 36) | (w7 << 28)) & 0x7FFFFFFFFL;
+        values[valueOffset + 13] = (w7 >>> 7) & 0x7FFFFFFFFL;
+        values[valueOffset + 14] = ((w7 >>> 42) | (w8 << 22)) & 0x7FFFFFFFFL;
+        values[valueOffset + 15] = (w8 >>> 13) & 0x7FFFFFFFFL;
+        values[valueOffset + 16] = ((w8 >>> 48) | (w9 << 16)) & 0x7FFFFFFFFL;
+        values[valueOffset + 17] = (w9 >>> 19) & 0x7FFFFFFFFL;
+        values[valueOffset + 18] = ((w9 >>> 54) | (w10 << 10)) & 0x7FFFFFFFFL;
+        values[valueOffset + 19] = (w10 >>> 25) & 0x7FFFFFFFFL;
+        values[valueOffset + 20] = ((w10 >>> 60) | (w11 << 4)) & 0x7FFFFFFFFL;
+        values[valueOffset + 21] = ((w11 >>> 31) | (w12 << 33)) & 0x7FFFFFFFFL;
+        values[valueOffset + 22] = (w12 >>> 2) & 0x7FFFFFFFFL;
+        values[valueOffset + 23] = ((w12 >>> 37) | (w13 << 27)) & 0x7FFFFFFFFL;
+        values[valueOffset + 24] = (w13 >>> 8) & 0x7FFFFFFFFL;
+        values[valueOffset + 25] = ((w13 >>> 43) | (w14 << 21)) & 0x7FFFFFFFFL;
+        values[valueOffset + 26] = (w14 >>> 14) & 0x7FFFFFFFFL;
+        values[valueOffset + 27] = ((w14 >>> 49) | (w15 << 15)) & 0x7FFFFFFFFL;
+        values[valueOffset + 28] = (w15 >>> 20) & 0x7FFFFFFFFL;
+        values[valueOffset + 29] = ((w15 >>> 55) | (w16 << 9)) & 0x7FFFFFFFFL;
+        values[valueOffset + 30] = (w16 >>> 26) & 0x7FFFFFFFFL;
+        values[valueOffset + 31] = ((w16 >>> 61) | (w17 << 3)) & 0x7FFFFFFFFL;
+        values[valueOffset + 32] = ((w17 >>> 32) | (w18 << 32)) & 0x7FFFFFFFFL;
+        values[valueOffset + 33] = (w18 >>> 3) & 0x7FFFFFFFFL;
+        values[valueOffset + 34] = ((w18 >>> 38) | (w19 << 26)) & 0x7FFFFFFFFL;
+        values[valueOffset + 35] = (w19 >>> 9) & 0x7FFFFFFFFL;
+        values[valueOffset + 36] = ((w19 >>> 44) | (w20 << 20)) & 0x7FFFFFFFFL;
+        values[valueOffset + 37] = (w20 >>> 15) & 0x7FFFFFFFFL;
+        values[valueOffset + 38] = ((w20 >>> 50) | (w21 << 14)) & 0x7FFFFFFFFL;
+        values[valueOffset + 39] = (w21 >>> 21) & 0x7FFFFFFFFL;
+        values[valueOffset + 40] = ((w21 >>> 56) | (w22 << 8)) & 0x7FFFFFFFFL;
+        values[valueOffset + 41] = (w22 >>> 27) & 0x7FFFFFFFFL;
+        values[valueOffset + 42] = ((w22 >>> 62) | (w23 << 2)) & 0x7FFFFFFFFL;
+        values[valueOffset + 43] = ((w23 >>> 33) | (w24 << 31)) & 0x7FFFFFFFFL;
+        values[valueOffset + 44] = (w24 >>> 4) & 0x7FFFFFFFFL;
+        values[valueOffset + 45] = ((w24 >>> 39) | (w25 << 25)) & 0x7FFFFFFFFL;
+        values[valueOffset + 46] = (w25 >>> 10) & 0x7FFFFFFFFL;
+        values[valueOffset + 47] = ((w25 >>> 45) | (w26 << 19)) & 0x7FFFFFFFFL;
+        values[valueOffset + 48] = (w26 >>> 16) & 0x7FFFFFFFFL;
+        values[valueOffset + 49] = ((w26 >>> 51) | (w27 << 13)) & 0x7FFFFFFFFL;
+        values[valueOffset + 50] = (w27 >>> 22) & 0x7FFFFFFFFL;
+        values[valueOffset + 51] = ((w27 >>> 57) | (w28 << 7)) & 0x7FFFFFFFFL;
+        values[valueOffset + 52] = (w28 >>> 28) & 0x7FFFFFFFFL;
+        values[valueOffset + 53] = ((w28 >>> 63) | (w29 << 1)) & 0x7FFFFFFFFL;
+        values[valueOffset + 54] = ((w29 >>> 34) | (w30 << 30)) & 0x7FFFFFFFFL;
+        values[valueOffset + 55] = (w30 >>> 5) & 0x7FFFFFFFFL;
+        values[valueOffset + 56] = ((w30 >>> 40) | (w31 << 24)) & 0x7FFFFFFFFL;
+        values[valueOffset + 57] = (w31 >>> 11) & 0x7FFFFFFFFL;
+        values[valueOffset + 58] = ((w31 >>> 46) | (w32 << 18)) & 0x7FFFFFFFFL;
+        values[valueOffset + 59] = (w32 >>> 17) & 0x7FFFFFFFFL;
+        values[valueOffset + 60] = ((w32 >>> 52) | (w33 << 12)) & 0x7FFFFFFFFL;
+        values[valueOffset + 61] = (w33 >>> 23) & 0x7FFFFFFFFL;
+        values[valueOffset + 62] = ((w33 >>> 58) | (w34 << 6)) & 0x7FFFFFFFFL;
+        values[valueOffset + 63] = w34 >>> 29;
+    }
+
+    private static void unpack36(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        final long w33 = words[wordOffset + 33];
+        final long w34 = words[wordOffset + 34];
+        final long w35 = words[wordOffset + 35];
+        values[valueOffset + 0] = w0 & 0xFFFFFFFFFL;
+        values[valueOffset + 1] = ((w0 >>> 36) | (w1 << 28)) & 0xFFFFFFFFFL;
+        values[valueOffset + 2] = (w1 >>> 8) & 0xFFFFFFFFFL;
+        values[valueOffset + 3] = ((w1 >>> 44) | (w2 << 20)) & 0xFFFFFFFFFL;
+        values[valueOffset + 4] = (w2 >>> 16) & 0xFFFFFFFFFL;
+        values[valueOffset + 5] = ((w2 >>> 52) | (w3 << 12)) & 0xFFFFFFFFFL;
+        values[valueOffset + 6] = (w3 >>> 24) & 0xFFFFFFFFFL;
+        values[valueOffset + 7] = ((w3 >>> 60) | (w4 << 4)) & 0xFFFFFFFFFL;
+        values[valueOffset + 8] = ((w4 >>> 32) | (w5 << 32)) & 0xFFFFFFFFFL;
+        values[valueOffset + 9] = (w5 >>> 4) & 0xFFFFFFFFFL;
+        values[valueOffset + 10] = ((w5 >>> 40) | (w6 << 24)) & 0xFFFFFFFFFL;
+        values[valueOffset + 11] = (w6 >>> 12) & 0xFFFFFFFFFL;
+        values[valueOffset + 12] = ((w6 >>> 48) | (w7 << 16)) & 0xFFFFFFFFFL;
+        values[valueOffset + 13] = (w7 >>> 20) & 0xFFFFFFFFFL;
+        values[valueOffset + 14] = ((w7 >>> 56) | (w8 << 8)) & 0xFFFFFFFFFL;
+        values[valueOffset + 15] = w8 >>> 28;
+        values[valueOffset + 16] = w9 & 0xFFFFFFFFFL;
+        values[valueOffset + 17] = ((w9 >>> 36) | (w10 << 28)) & 0xFFFFFFFFFL;
+        values[valueOffset + 18] = (w10 >>> 8) & 0xFFFFFFFFFL;
+        values[valueOffset + 19] = ((w10 >>> 44) | (w11 << 20)) & 0xFFFFFFFFFL;
+        values[valueOffset + 20] = (w11 >>> 16) & 0xFFFFFFFFFL;
+        values[valueOffset + 21] = ((w11 >>> 52) | (w12 << 12)) & 0xFFFFFFFFFL;
+        values[valueOffset + 22] = (w12 >>> 24) & 0xFFFFFFFFFL;
+        values[valueOffset + 23] = ((w12 >>> 60) | (w13 << 4)) & 0xFFFFFFFFFL;
+        values[valueOffset + 24] = ((w13 >>> 32) | (w14 << 32)) & 0xFFFFFFFFFL;
+        values[valueOffset + 25] = (w14 >>> 4) & 0xFFFFFFFFFL;
+        values[valueOffset + 26] = ((w14 >>> 40) | (w15 << 24)) & 0xFFFFFFFFFL;
+        values[valueOffset + 27] = (w15 >>> 12) & 0xFFFFFFFFFL;
+        values[valueOffset + 28] = ((w15 >>> 48) | (w16 << 16)) & 0xFFFFFFFFFL;
+        values[valueOffset + 29] = (w16 >>> 20) & 0xFFFFFFFFFL;
+        values[valueOffset + 30] = ((w16 >>> 56) | (w17 << 8)) & 0xFFFFFFFFFL;
+        values[valueOffset + 31] = w17 >>> 28;
+        values[valueOffset + 32] = w18 & 0xFFFFFFFFFL;
+        values[valueOffset + 33] = ((w18 >>> 36) | (w19 << 28)) & 0xFFFFFFFFFL;
+        values[valueOffset + 34] = (w19 >>> 8) & 0xFFFFFFFFFL;
+        values[valueOffset + 35] = ((w19 >>> 44) | (w20 << 20)) & 0xFFFFFFFFFL;
+        values[valueOffset + 36] = (w20 >>> 16) & 0xFFFFFFFFFL;
+        values[valueOffset + 37] = ((w20 >>> 52) | (w21 << 12)) & 0xFFFFFFFFFL;
+        values[valueOffset + 38] = (w21 >>> 24) & 0xFFFFFFFFFL;
+        values[valueOffset + 39] = ((w21 >>> 60) | (w22 << 4)) & 0xFFFFFFFFFL;
+        values[valueOffset + 40] = ((w22 >>> 32) | (w23 << 32)) & 0xFFFFFFFFFL;
+        values[valueOffset + 41] = (w23 >>> 4) & 0xFFFFFFFFFL;
+        values[valueOffset + 42] = ((w23 >>> 40) | (w24 << 24)) & 0xFFFFFFFFFL;
+        values[valueOffset + 43] = (w24 >>> 12) & 0xFFFFFFFFFL;
+        values[valueOffset + 44] = ((w24 >>> 48) | (w25 << 16)) & 0xFFFFFFFFFL;
+        values[valueOffset + 45] = (w25 >>> 20) & 0xFFFFFFFFFL;
+        values[valueOffset + 46] = ((w25 >>> 56) | (w26 << 8)) & 0xFFFFFFFFFL;
+        values[valueOffset + 47] = w26 >>> 28;
+        values[valueOffset + 48] = w27 & 0xFFFFFFFFFL;
+        values[valueOffset + 49] = ((w27 >>> 36) | (w28 << 28)) & 0xFFFFFFFFFL;
+        values[valueOffset + 50] = (w28 >>> 8) & 0xFFFFFFFFFL;
+        values[valueOffset + 51] = ((w28 >>> 44) | (w29 << 20)) & 0xFFFFFFFFFL;
+        values[valueOffset + 52] = (w29 >>> 16) & 0xFFFFFFFFFL;
+        values[valueOffset + 53] = ((w29 >>> 52) | (w30 << 12)) & 0xFFFFFFFFFL;
+        values[valueOffset + 54] = (w30 >>> 24) & 0xFFFFFFFFFL;
+        values[valueOffset + 55] = ((w30 >>> 60) | (w31 << 4)) & 0xFFFFFFFFFL;
+        values[valueOffset + 56] = ((w31 >>> 32) | (w32 << 32)) & 0xFFFFFFFFFL;
+        values[valueOffset + 57] = (w32 >>> 4) & 0xFFFFFFFFFL;
+        values[valueOffset + 58] = ((w32 >>> 40) | (w33 << 24)) & 0xFFFFFFFFFL;
+        values[valueOffset + 59] = (w33 >>> 12) & 0xFFFFFFFFFL;
+        values[valueOffset + 60] = ((w33 >>> 48) | (w34 << 16)) & 0xFFFFFFFFFL;
+        values[valueOffset + 61] = (w34 >>> 20) & 0xFFFFFFFFFL;
+        values[valueOffset + 62] = ((w34 >>> 56) | (w35 << 8)) & 0xFFFFFFFFFL;
+        values[valueOffset + 63] = w35 >>> 28;
+    }
+
+    private static void unpack37(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        final long w33 = words[wordOffset + 33];
+        final long w34 = words[wordOffset + 34];
+        final long w35 = words[wordOffset + 35];
+        final long w36 = words[wordOffset + 36];
+        values[valueOffset + 0] = w0 & 0x1FFFFFFFFFL;
+        values[valueOffset + 1] = ((w0 >>> 37) | (w1 << 27)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 2] = (w1 >>> 10) & 0x1FFFFFFFFFL;
+        values[valueOffset + 3] = ((w1 >>> 47) | (w2 << 17)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 4] = (w2 >>> 20) & 0x1FFFFFFFFFL;
+        values[valueOffset + 5] = ((w2 >>> 57) | (w3 << 7)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 6] = ((w3 >>> 30) | (w4 << 34)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 7] = (w4 >>> 3) & 0x1FFFFFFFFFL;
+        values[valueOffset + 8] = ((w4 >>> 40) | (w5 << 24)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 9] = (w5 >>> 13) & 0x1FFFFFFFFFL;
+        values[valueOffset + 10] = ((w5 >>> 50) | (w6 << 14)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 11] = (w6 >>> 23) & 0x1FFFFFFFFFL;
+        values[valueOffset + 12] = ((w6 >>> 60) | (w7 << 4)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 13] = ((w7 >>> 33) | (w8 << 31)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 14] = (w8 >>> 6) & 0x1FFFFFFFFFL;
+        values[valueOffset + 15] = ((w8 >>> 43) | (w9 << 21)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 16] = (w9 >>> 16) & 0x1FFFFFFFFFL;
+        values[valueOffset + 17] = ((w9 >>> 53) | (w10 << 11)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 18] = (w10 >>> 26) & 0x1FFFFFFFFFL;
+        values[valueOffset + 19] = ((w10 >>> 63) | (w11 << 1)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 20] = ((w11 >>> 36) | (w12 << 28)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 21] = (w12 >>> 9) & 0x1FFFFFFFFFL;
+        values[valueOffset + 22] = ((w12 >>> 46) | (w13 << 18)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 23] = (w13 >>> 19) & 0x1FFFFFFFFFL;
+        values[valueOffset + 24] = ((w13 >>> 56) | (w14 << 8)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 25] = ((w14 >>> 29) | (w15 << 35)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 26] = (w15 >>> 2) & 0x1FFFFFFFFFL;
+        values[valueOffset + 27] = ((w15 >>> 39) | (w16 << 25)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 28] = (w16 >>> 12) & 0x1FFFFFFFFFL;
+        values[valueOffset + 29] = ((w16 >>> 49) | (w17 << 15)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 30] = (w17 >>> 22) & 0x1FFFFFFFFFL;
+        values[valueOffset + 31] = ((w17 >>> 59) | (w18 << 5)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 32] = ((w18 >>> 32) | (w19 << 32)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 33] = (w19 >>> 5) & 0x1FFFFFFFFFL;
+        values[valueOffset + 34] = ((w19 >>> 42) | (w20 << 22)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 35] = (w20 >>> 15) & 0x1FFFFFFFFFL;
+        values[valueOffset + 36] = ((w20 >>> 52) | (w21 << 12)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 37] = (w21 >>> 25) & 0x1FFFFFFFFFL;
+        values[valueOffset + 38] = ((w21 >>> 62) | (w22 << 2)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 39] = ((w22 >>> 35) | (w23 << 29)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 40] = (w23 >>> 8) & 0x1FFFFFFFFFL;
+        values[valueOffset + 41] = ((w23 >>> 45) | (w24 << 19)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 42] = (w24 >>> 18) & 0x1FFFFFFFFFL;
+        values[valueOffset + 43] = ((w24 >>> 55) | (w25 << 9)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 44] = ((w25 >>> 28) | (w26 << 36)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 45] = (w26 >>> 1) & 0x1FFFFFFFFFL;
+        values[valueOffset + 46] = ((w26 >>> 38) | (w27 << 26)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 47] = (w27 >>> 11) & 0x1FFFFFFFFFL;
+        values[valueOffset + 48] = ((w27 >>> 48) | (w28 << 16)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 49] = (w28 >>> 21) & 0x1FFFFFFFFFL;
+        values[valueOffset + 50] = ((w28 >>> 58) | (w29 << 6)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 51] = ((w29 >>> 31) | (w30 << 33)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 52] = (w30 >>> 4) & 0x1FFFFFFFFFL;
+        values[valueOffset + 53] = ((w30 >>> 41) | (w31 << 23)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 54] = (w31 >>> 14) & 0x1FFFFFFFFFL;
+        values[valueOffset + 55] = ((w31 >>> 51) | (w32 << 13)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 56] = (w32 >>> 24) & 0x1FFFFFFFFFL;
+        values[valueOffset + 57] = ((w32 >>> 61) | (w33 << 3)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 58] = ((w33 >>> 34) | (w34 << 30)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 59] = (w34 >>> 7) & 0x1FFFFFFFFFL;
+        values[valueOffset + 60] = ((w34 >>> 44) | (w35 << 20)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 61] = (w35 >>> 17) & 0x1FFFFFFFFFL;
+        values[valueOffset + 62] = ((w35 >>> 54) | (w36 << 10)) & 0x1FFFFFFFFFL;
+        values[valueOffset + 63] = w36 >>> 27;
+    }
+
+    private static void unpack38(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        final long w33 = words[wordOffset + 33];
+        final long w34 = words[wordOffset + 34];
+        final long w35 = words[wordOffset + 35];
+        final long w36 = words[wordOffset + 36];
+        final long w37 = words[wordOffset + 37];
+        values[valueOffset + 0] = w0 & 0x3FFFFFFFFFL;
+        values[valueOffset + 1] = ((w0 >>> 38) | (w1 << 26)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 2] = (w1 >>> 12) & 0x3FFFFFFFFFL;
+        values[valueOffset + 3] = ((w1 >>> 50) | (w2 << 14)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 4] = (w2 >>> 24) & 0x3FFFFFFFFFL;
+        values[valueOffset + 5] = ((w2 >>> 62) | (w3 << 2)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 6] = ((w3 >>> 36) | (w4 << 28)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 7] = (w4 >>> 10) & 0x3FFFFFFFFFL;
+        values[valueOffset + 8] = ((w4 >>> 48) | (w5 << 16)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 9] = (w5 >>> 22) & 0x3FFFFFFFFFL;
+        values[valueOffset + 10] = ((w5 >>> 60) | (w6 << 4)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 11] = ((w6 >>> 34) | (w7 << 30)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 12] = (w7 >>> 8) & 0x3FFFFFFFFFL;
+        values[valueOffset + 13] = ((w7 >>> 46) | (w8 << 18)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 14] = (w8 >>> 20) & 0x3FFFFFFFFFL;
+        values[valueOffset + 15] = ((w8 >>> 58) | (w9 << 6)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 16] = ((w9 >>> 32) | (w10 << 32)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 17] = (w10 >>> 6) & 0x3FFFFFFFFFL;
+        values[valueOffset + 18] = ((w10 >>> 44) | (w11 << 20)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 19] = (w11 >>> 18) & 0x3FFFFFFFFFL;
+        values[valueOffset + 20] = ((w11 >>> 56) | (w12 << 8)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 21] = ((w12 >>> 30) | (w13 << 34)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 22] = (w13 >>> 4) & 0x3FFFFFFFFFL;
+        values[valueOffset + 23] = ((w13 >>> 42) | (w14 << 22)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 24] = (w14 >>> 16) & 0x3FFFFFFFFFL;
+        values[valueOffset + 25] = ((w14 >>> 54) | (w15 << 10)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 26] = ((w15 >>> 28) | (w16 << 36)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 27] = (w16 >>> 2) & 0x3FFFFFFFFFL;
+        values[valueOffset + 28] = ((w16 >>> 40) | (w17 << 24)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 29] = (w17 >>> 14) & 0x3FFFFFFFFFL;
+        values[valueOffset + 30] = ((w17 >>> 52) | (w18 << 12)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 31] = w18 >>> 26;
+        values[valueOffset + 32] = w19 & 0x3FFFFFFFFFL;
+        values[valueOffset + 33] = ((w19 >>> 38) | (w20 << 26)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 34] = (w20 >>> 12) & 0x3FFFFFFFFFL;
+        values[valueOffset + 35] = ((w20 >>> 50) | (w21 << 14)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 36] = (w21 >>> 24) & 0x3FFFFFFFFFL;
+        values[valueOffset + 37] = ((w21 >>> 62) | (w22 << 2)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 38] = ((w22 >>> 36) | (w23 << 28)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 39] = (w23 >>> 10) & 0x3FFFFFFFFFL;
+        values[valueOffset + 40] = ((w23 >>> 48) | (w24 << 16)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 41] = (w24 >>> 22) & 0x3FFFFFFFFFL;
+        values[valueOffset + 42] = ((w24 >>> 60) | (w25 << 4)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 43] = ((w25 >>> 34) | (w26 << 30)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 44] = (w26 >>> 8) & 0x3FFFFFFFFFL;
+        values[valueOffset + 45] = ((w26 >>> 46) | (w27 << 18)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 46] = (w27 >>> 20) & 0x3FFFFFFFFFL;
+        values[valueOffset + 47] = ((w27 >>> 58) | (w28 << 6)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 48] = ((w28 >>> 32) | (w29 << 32)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 49] = (w29 >>> 6) & 0x3FFFFFFFFFL;
+        values[valueOffset + 50] = ((w29 >>> 44) | (w30 << 20)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 51] = (w30 >>> 18) & 0x3FFFFFFFFFL;
+        values[valueOffset + 52] = ((w30 >>> 56) | (w31 << 8)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 53] = ((w31 >>> 30) | (w32 << 34)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 54] = (w32 >>> 4) & 0x3FFFFFFFFFL;
+        values[valueOffset + 55] = ((w32 >>> 42) | (w33 << 22)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 56] = (w33 >>> 16) & 0x3FFFFFFFFFL;
+        values[valueOffset + 57] = ((w33 >>> 54) | (w34 << 10)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 58] = ((w34 >>> 28) | (w35 << 36)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 59] = (w35 >>> 2) & 0x3FFFFFFFFFL;
+        values[valueOffset + 60] = ((w35 >>> 40) | (w36 << 24)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 61] = (w36 >>> 14) & 0x3FFFFFFFFFL;
+        values[valueOffset + 62] = ((w36 >>> 52) | (w37 << 12)) & 0x3FFFFFFFFFL;
+        values[valueOffset + 63] = w37 >>> 26;
+    }
+
+    private static void unpack39(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        final long w33 = words[wordOffset + 33];
+        final long w34 = words[wordOffset + 34];
+        final long w35 = words[wordOffset + 35];
+        final long w36 = words[wordOffset + 36];
+        final long w37 = words[wordOffset + 37];
+        final long w38 = words[wordOffset + 38];
+        values[valueOffset + 0] = w0 & 0x7FFFFFFFFFL;
+        values[valueOffset + 1] = ((w0 >>> 39) | (w1 << 25)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 2] = (w1 >>> 14) & 0x7FFFFFFFFFL;
+        values[valueOffset + 3] = ((w1 >>> 53) | (w2 << 11)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 4] = ((w2 >>> 28) | (w3 << 36)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 5] = (w3 >>> 3) & 0x7FFFFFFFFFL;
+        values[valueOffset + 6] = ((w3 >>> 42) | (w4 << 22)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 7] = (w4 >>> 17) & 0x7FFFFFFFFFL;
+        values[valueOffset + 8] = ((w4 >>> 56) | (w5 << 8)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 9] = ((w5 >>> 31) | (w6 << 33)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 10] = (w6 >>> 6) & 0x7FFFFFFFFFL;
+        values[valueOffset + 11] = ((w6 >>> 45) | (w7 << 19)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 12] = (w7 >>> 20) & 0x7FFFFFFFFFL;
+        values[valueOffset + 13] = ((w7 >>> 59) | (w8 << 5)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 14] = ((w8 >>> 34) | (w9 << 30)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 15] = (w9 >>> 9) & 0x7FFFFFFFFFL;
+        values[valueOffset + 16] = ((w9 >>> 48) | (w10 << 16)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 17] = (w10 >>> 23) & 0x7FFFFFFFFFL;
+        values[valueOffset + 18] = ((w10 >>> 62) | (w11 << 2)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 19] = ((w11 >>> 37) | (w12 << 27)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 20] = (w12 >>> 12) & 0x7FFFFFFFFFL;
+        values[valueOffset + 21] = ((w12 >>> 51) | (w13 << 13)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 22] = ((w13 >>> 26) | (w14 << 38)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 23] = (w14 >>> 1) & 0x7FFFFFFFFFL;
+        values[valueOffset + 24] = ((w14 >>> 40) | (w15 << 24)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 25] = (w15 >>> 15) & 0x7FFFFFFFFFL;
+        values[valueOffset + 26] = ((w15 >>> 54) | (w16 << 10)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 27] = ((w16 >>> 29) | (w17 << 35)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 28] = (w17 >>> 4) & 0x7FFFFFFFFFL;
+        values[valueOffset + 29] = ((w17 >>> 43) | (w18 << 21)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 30] = (w18 >>> 18) & 0x7FFFFFFFFFL;
+        values[valueOffset + 31] = ((w18 >>> 57) | (w19 << 7)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 32] = ((w19 >>> 32) | (w20 << 32)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 33] = (w20 >>> 7) & 0x7FFFFFFFFFL;
+        values[valueOffset + 34] = ((w20 >>> 46) | (w21 << 18)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 35] = (w21 >>> 21) & 0x7FFFFFFFFFL;
+        values[valueOffset + 36] = ((w21 >>> 60) | (w22 << 4)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 37] = ((w22 >>> 35) | (w23 << 29)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 38] = (w23 >>> 10) & 0x7FFFFFFFFFL;
+        values[valueOffset + 39] = ((w23 >>> 49) | (w24 << 15)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 40] = (w24 >>> 24) & 0x7FFFFFFFFFL;
+        values[valueOffset + 41] = ((w24 >>> 63) | (w25 << 1)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 42] = ((w25 >>> 38) | (w26 << 26)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 43] = (w26 >>> 13) & 0x7FFFFFFFFFL;
+        values[valueOffset + 44] = ((w26 >>> 52) | (w27 << 12)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 45] = ((w27 >>> 27) | (w28 << 37)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 46] = (w28 >>> 2) & 0x7FFFFFFFFFL;
+        values[valueOffset + 47] = ((w28 >>> 41) | (w29 << 23)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 48] = (w29 >>> 16) & 0x7FFFFFFFFFL;
+        values[valueOffset + 49] = ((w29 >>> 55) | (w30 << 9)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 50] = ((w30 >>> 30) | (w31 << 34)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 51] = (w31 >>> 5) & 0x7FFFFFFFFFL;
+        values[valueOffset + 52] = ((w31 >>> 44) | (w32 << 20)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 53] = (w32 >>> 19) & 0x7FFFFFFFFFL;
+        values[valueOffset + 54] = ((w32 >>> 58) | (w33 << 6)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 55] = ((w33 >>> 33) | (w34 << 31)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 56] = (w34 >>> 8) & 0x7FFFFFFFFFL;
+        values[valueOffset + 57] = ((w34 >>> 47) | (w35 << 17)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 58] = (w35 >>> 22) & 0x7FFFFFFFFFL;
+        values[valueOffset + 59] = ((w35 >>> 61) | (w36 << 3)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 60] = ((w36 >>> 36) | (w37 << 28)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 61] = (w37 >>> 11) & 0x7FFFFFFFFFL;
+        values[valueOffset + 62] = ((w37 >>> 50) | (w38 << 14)) & 0x7FFFFFFFFFL;
+        values[valueOffset + 63] = w38 >>> 25;
+    }
+
+    private static void unpack40(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        final long w33 = words[wordOffset + 33];
+        final long w34 = words[wordOffset + 34];
+        final long w35 = words[wordOffset + 35];
+        final long w36 = words[wordOffset + 36];
+        final long w37 = words[wordOffset + 37];
+        final long w38 = words[wordOffset + 38];
+        final long w39 = words[wordOffset + 39];
+        values[valueOffset + 0] = w0 & 0xFFFFFFFFFFL;
+        values[valueOffset + 1] = ((w0 >>> 40) | (w1 << 24)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 2] = (w1 >>> 16) & 0xFFFFFFFFFFL;
+        values[valueOffset + 3] = ((w1 >>> 56) | (w2 << 8)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 4] = ((w2 >>> 32) | (w3 << 32)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 5] = (w3 >>> 8) & 0xFFFFFFFFFFL;
+        values[valueOffset + 6] = ((w3 >>> 48) | (w4 << 16)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 7] = w4 >>> 24;
+        values[valueOffset + 8] = w5 & 0xFFFFFFFFFFL;
+        values[valueOffset + 9] = ((w5 >>> 40) | (w6 << 24)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 10] = (w6 >>> 16) & 0xFFFFFFFFFFL;
+        values[valueOffset + 11] = ((w6 >>> 56) | (w7 << 8)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 12] = ((w7 >>> 32) | (w8 << 32)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 13] = (w8 >>> 8) & 0xFFFFFFFFFFL;
+        values[valueOffset + 14] = ((w8 >>> 48) | (w9 << 16)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 15] = w9 >>> 24;
+        values[valueOffset + 16] = w10 & 0xFFFFFFFFFFL;
+        values[valueOffset + 17] = ((w10 >>> 40) | (w11 << 24)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 18] = (w11 >>> 16) & 0xFFFFFFFFFFL;
+        values[valueOffset + 19] = ((w11 >>> 56) | (w12 << 8)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 20] = ((w12 >>> 32) | (w13 << 32)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 21] = (w13 >>> 8) & 0xFFFFFFFFFFL;
+        values[valueOffset + 22] = ((w13 >>> 48) | (w14 << 16)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 23] = w14 >>> 24;
+        values[valueOffset + 24] = w15 & 0xFFFFFFFFFFL;
+        values[valueOffset + 25] = ((w15 >>> 40) | (w16 << 24)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 26] = (w16 >>> 16) & 0xFFFFFFFFFFL;
+        values[valueOffset + 27] = ((w16 >>> 56) | (w17 << 8)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 28] = ((w17 >>> 32) | (w18 << 32)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 29] = (w18 >>> 8) & 0xFFFFFFFFFFL;
+        values[valueOffset + 30] = ((w18 >>> 48) | (w19 << 16)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 31] = w19 >>> 24;
+        values[valueOffset + 32] = w20 & 0xFFFFFFFFFFL;
+        values[valueOffset + 33] = ((w20 >>> 40) | (w21 << 24)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 34] = (w21 >>> 16) & 0xFFFFFFFFFFL;
+        values[valueOffset + 35] = ((w21 >>> 56) | (w22 << 8)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 36] = ((w22 >>> 32) | (w23 << 32)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 37] = (w23 >>> 8) & 0xFFFFFFFFFFL;
+        values[valueOffset + 38] = ((w23 >>> 48) | (w24 << 16)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 39] = w24 >>> 24;
+        values[valueOffset + 40] = w25 & 0xFFFFFFFFFFL;
+        values[valueOffset + 41] = ((w25 >>> 40) | (w26 << 24)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 42] = (w26 >>> 16) & 0xFFFFFFFFFFL;
+        values[valueOffset + 43] = ((w26 >>> 56) | (w27 << 8)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 44] = ((w27 >>> 32) | (w28 << 32)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 45] = (w28 >>> 8) & 0xFFFFFFFFFFL;
+        values[valueOffset + 46] = ((w28 >>> 48) | (w29 << 16)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 47] = w29 >>> 24;
+        values[valueOffset + 48] = w30 & 0xFFFFFFFFFFL;
+        values[valueOffset + 49] = ((w30 >>> 40) | (w31 << 24)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 50] = (w31 >>> 16) & 0xFFFFFFFFFFL;
+        values[valueOffset + 51] = ((w31 >>> 56) | (w32 << 8)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 52] = ((w32 >>> 32) | (w33 << 32)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 53] = (w33 >>> 8) & 0xFFFFFFFFFFL;
+        values[valueOffset + 54] = ((w33 >>> 48) | (w34 << 16)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 55] = w34 >>> 24;
+        values[valueOffset + 56] = w35 & 0xFFFFFFFFFFL;
+        values[valueOffset + 57] = ((w35 >>> 40) | (w36 << 24)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 58] = (w36 >>> 16) & 0xFFFFFFFFFFL;
+        values[valueOffset + 59] = ((w36 >>> 56) | (w37 << 8)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 60] = ((w37 >>> 32) | (w38 << 32)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 61] = (w38 >>> 8) & 0xFFFFFFFFFFL;
+        values[valueOffset + 62] = ((w38 >>> 48) | (w39 << 16)) & 0xFFFFFFFFFFL;
+        values[valueOffset + 63] = w39 >>> 24;
+    }
+
+    private static void unpack41(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        final long w33 = words[wordOffset + 33];
+        final long w34 = words[wordOffset + 34];
+        final long w35 = words[wordOffset + 35];
+        final long w36 = words[wordOffset + 36];
+        final long w37 = words[wordOffset + 37];
+        final long w38 = words[wordOffset + 38];
+        final long w39 = words[wordOffset + 39];
+        final long w40 = words[wordOffset + 40];
+        values[valueOffset + 0] = w0 & 0x1FFFFFFFFFFL;
+        values[valueOffset + 1] = ((w0 >>> 41) | (w1 << 23)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 2] = (w1 >>> 18) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 3] = ((w1 >>> 59) | (w2 << 5)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 4] = ((w2 >>> 36) | (w3 << 28)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 5] = (w3 >>> 13) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 6] = ((w3 >>> 54) | (w4 << 10)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 7] = ((w4 >>> 31) | (w5 << 33)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 8] = (w5 >>> 8) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 9] = ((w5 >>> 49) | (w6 << 15)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 10] = ((w6 >>> 26) | (w7 << 38)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 11] = (w7 >>> 3) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 12] = ((w7 >>> 44) | (w8 << 20)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 13] = (w8 >>> 21) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 14] = ((w8 >>> 62) | (w9 << 2)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 15] = ((w9 >>> 39) | (w10 << 25)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 16] = (w10 >>> 16) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 17] = ((w10 >>> 57) | (w11 << 7)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 18] = ((w11 >>> 34) | (w12 << 30)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 19] = (w12 >>> 11) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 20] = ((w12 >>> 52) | (w13 << 12)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 21] = ((w13 >>> 29) | (w14 << 35)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 22] = (w14 >>> 6) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 23] = ((w14 >>> 47) | (w15 << 17)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 24] = ((w15 >>> 24) | (w16 << 40)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 25] = (w16 >>> 1) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 26] = ((w16 >>> 42) | (w17 << 22)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 27] = (w17 >>> 19) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 28] = ((w17 >>> 60) | (w18 << 4)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 29] = ((w18 >>> 37) | (w19 << 27)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 30] = (w19 >>> 14) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 31] = ((w19 >>> 55) | (w20 << 9)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 32] = ((w20 >>> 32) | (w21 << 32)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 33] = (w21 >>> 9) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 34] = ((w21 >>> 50) | (w22 << 14)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 35] = ((w22 >>> 27) | (w23 << 37)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 36] = (w23 >>> 4) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 37] = ((w23 >>> 45) | (w24 << 19)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 38] = (w24 >>> 22) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 39] = ((w24 >>> 63) | (w25 << 1)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 40] = ((w25 >>> 40) | (w26 << 24)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 41] = (w26 >>> 17) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 42] = ((w26 >>> 58) | (w27 << 6)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 43] = ((w27 >>> 35) | (w28 << 29)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 44] = (w28 >>> 12) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 45] = ((w28 >>> 53) | (w29 << 11)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 46] = ((w29 >>> 30) | (w30 << 34)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 47] = (w30 >>> 7) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 48] = ((w30 >>> 48) | (w31 << 16)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 49] = ((w31 >>> 25) | (w32 << 39)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 50] = (w32 >>> 2) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 51] = ((w32 >>> 43) | (w33 << 21)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 52] = (w33 >>> 20) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 53] = ((w33 >>> 61) | (w34 << 3)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 54] = ((w34 >>> 38) | (w35 << 26)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 55] = (w35 >>> 15) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 56] = ((w35 >>> 56) | (w36 << 8)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 57] = ((w36 >>> 33) | (w37 << 31)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 58] = (w37 >>> 10) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 59] = ((w37 >>> 51) | (w38 << 13)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 60] = ((w38 >>> 28) | (w39 << 36)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 61] = (w39 >>> 5) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 62] = ((w39 >>> 46) | (w40 << 18)) & 0x1FFFFFFFFFFL;
+        values[valueOffset + 63] = w40 >>> 23;
+    }
+
+    private static void unpack42(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        final long w33 = words[wordOffset + 33];
+        final long w34 = words[wordOffset + 34];
+        final long w35 = words[wordOffset + 35];
+        final long w36 = words[wordOffset + 36];
+        final long w37 = words[wordOffset + 37];
+        final long w38 = words[wordOffset + 38];
+        final long w39 = words[wordOffset + 39];
+        final long w40 = words[wordOffset + 40];
+        final long w41 = words[wordOffset + 41];
+        values[valueOffset + 0] = w0 & 0x3FFFFFFFFFFL;
+        values[valueOffset + 1] = ((w0 >>> 42) | (w1 << 22)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 2] = (w1 >>> 20) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 3] = ((w1 >>> 62) | (w2 << 2)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 4] = ((w2 >>> 40) | (w3 << 24)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 5] = (w3 >>> 18) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 6] = ((w3 >>> 60) | (w4 << 4)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 7] = ((w4 >>> 38) | (w5 << 26)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 8] = (w5 >>> 16) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 9] = ((w5 >>> 58) | (w6 << 6)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 10] = ((w6 >>> 36) | (w7 << 28)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 11] = (w7 >>> 14) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 12] = ((w7 >>> 56) | (w8 << 8)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 13] = ((w8 >>> 34) | (w9 << 30)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 14] = (w9 >>> 12) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 15] = ((w9 >>> 54) | (w10 << 10)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 16] = ((w10 >>> 32) | (w11 << 32)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 17] = (w11 >>> 10) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 18] = ((w11 >>> 52) | (w12 << 12)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 19] = ((w12 >>> 30) | (w13 << 34)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 20] = (w13 >>> 8) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 21] = ((w13 >>> 50) | (w14 << 14)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 22] = ((w14 >>> 28) | (w15 << 36)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 23] = (w15 >>> 6) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 24] = ((w15 >>> 48) | (w16 << 16)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 25] = ((w16 >>> 26) | (w17 << 38)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 26] = (w17 >>> 4) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 27] = ((w17 >>> 46) | (w18 << 18)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 28] = ((w18 >>> 24) | (w19 << 40)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 29] = (w19 >>> 2) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 30] = ((w19 >>> 44) | (w20 << 20)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 31] = w20 >>> 22;
+        values[valueOffset + 32] = w21 & 0x3FFFFFFFFFFL;
+        values[valueOffset + 33] = ((w21 >>> 42) | (w22 << 22)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 34] = (w22 >>> 20) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 35] = ((w22 >>> 62) | (w23 << 2)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 36] = ((w23 >>> 40) | (w24 << 24)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 37] = (w24 >>> 18) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 38] = ((w24 >>> 60) | (w25 << 4)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 39] = ((w25 >>> 38) | (w26 << 26)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 40] = (w26 >>> 16) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 41] = ((w26 >>> 58) | (w27 << 6)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 42] = ((w27 >>> 36) | (w28 << 28)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 43] = (w28 >>> 14) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 44] = ((w28 >>> 56) | (w29 << 8)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 45] = ((w29 >>> 34) | (w30 << 30)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 46] = (w30 >>> 12) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 47] = ((w30 >>> 54) | (w31 << 10)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 48] = ((w31 >>> 32) | (w32 << 32)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 49] = (w32 >>> 10) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 50] = ((w32 >>> 52) | (w33 << 12)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 51] = ((w33 >>> 30) | (w34 << 34)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 52] = (w34 >>> 8) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 53] = ((w34 >>> 50) | (w35 << 14)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 54] = ((w35 >>> 28) | (w36 << 36)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 55] = (w36 >>> 6) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 56] = ((w36 >>> 48) | (w37 << 16)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 57] = ((w37 >>> 26) | (w38 << 38)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 58] = (w38 >>> 4) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 59] = ((w38 >>> 46) | (w39 << 18)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 60] = ((w39 >>> 24) | (w40 << 40)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 61] = (w40 >>> 2) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 62] = ((w40 >>> 44) | (w41 << 20)) & 0x3FFFFFFFFFFL;
+        values[valueOffset + 63] = w41 >>> 22;
+    }
+
+    private static void unpack43(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        final long w33 = words[wordOffset + 33];
+        final long w34 = words[wordOffset + 34];
+        final long w35 = words[wordOffset + 35];
+        final long w36 = words[wordOffset + 36];
+        final long w37 = words[wordOffset + 37];
+        final long w38 = words[wordOffset + 38];
+        final long w39 = words[wordOffset + 39];
+        final long w40 = words[wordOffset + 40];
+        final long w41 = words[wordOffset + 41];
+        final long w42 = words[wordOffset + 42];
+        values[valueOffset + 0] = w0 & 0x7FFFFFFFFFFL;
+        values[valueOffset + 1] = ((w0 >>> 43) | (w1 << 21)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 2] = ((w1 >>> 22) | (w2 << 42)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 3] = (w2 >>> 1) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 4] = ((w2 >>> 44) | (w3 << 20)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 5] = ((w3 >>> 23) | (w4 << 41)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 6] = (w4 >>> 2) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 7] = ((w4 >>> 45) | (w5 << 19)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 8] = ((w5 >>> 24) | (w6 << 40)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 9] = (w6 >>> 3) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 10] = ((w6 >>> 46) | (w7 << 18)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 11] = ((w7 >>> 25) | (w8 << 39)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 12] = (w8 >>> 4) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 13] = ((w8 >>> 47) | (w9 << 17)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 14] = ((w9 >>> 26) | (w10 << 38)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 15] = (w10 >>> 5) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 16] = ((w10 >>> 48) | (w11 << 16)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 17] = ((w11 >>> 27) | (w12 << 37)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 18] = (w12 >>> 6) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 19] = ((w12 >>> 49) | (w13 << 15)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 20] = ((w13 >>> 28) | (w14 << 36)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 21] = (w14 >>> 7) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 22] = ((w14 >>> 50) | (w15 << 14)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 23] = ((w15 >>> 29) | (w16 << 35)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 24] = (w16 >>> 8) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 25] = ((w16 >>> 51) | (w17 << 13)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 26] = ((w17 >>> 30) | (w18 << 34)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 27] = (w18 >>> 9) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 28] = ((w18 >>> 52) | (w19 << 12)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 29] = ((w19 >>> 31) | (w20 << 33)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 30] = (w20 >>> 10) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 31] = ((w20 >>> 53) | (w21 << 11)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 32] = ((w21 >>> 32) | (w22 << 32)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 33] = (w22 >>> 11) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 34] = ((w22 >>> 54) | (w23 << 10)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 35] = ((w23 >>> 33) | (w24 << 31)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 36] = (w24 >>> 12) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 37] = ((w24 >>> 55) | (w25 << 9)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 38] = ((w25 >>> 34) | (w26 << 30)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 39] = (w26 >>> 13) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 40] = ((w26 >>> 56) | (w27 << 8)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 41] = ((w27 >>> 35) | (w28 << 29)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 42] = (w28 >>> 14) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 43] = ((w28 >>> 57) | (w29 << 7)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 44] = ((w29 >>> 36) | (w30 << 28)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 45] = (w30 >>> 15) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 46] = ((w30 >>> 58) | (w31 << 6)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 47] = ((w31 >>> 37) | (w32 << 27)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 48] = (w32 >>> 16) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 49] = ((w32 >>> 59) | (w33 << 5)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 50] = ((w33 >>> 38) | (w34 << 26)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 51] = (w34 >>> 17) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 52] = ((w34 >>> 60) | (w35 << 4)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 53] = ((w35 >>> 39) | (w36 << 25)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 54] = (w36 >>> 18) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 55] = ((w36 >>> 61) | (w37 << 3)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 56] = ((w37 >>> 40) | (w38 << 24)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 57] = (w38 >>> 19) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 58] = ((w38 >>> 62) | (w39 << 2)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 59] = ((w39 >>> 41) | (w40 << 23)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 60] = (w40 >>> 20) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 61] = ((w40 >>> 63) | (w41 << 1)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 62] = ((w41 >>> 42) | (w42 << 22)) & 0x7FFFFFFFFFFL;
+        values[valueOffset + 63] = w42 >>> 21;
+    }
+
+    private static void unpack44(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        final long w33 = words[wordOffset + 33];
+        final long w34 = words[wordOffset + 34];
+        final long w35 = words[wordOffset + 35];
+        final long w36 = words[wordOffset + 36];
+        final long w37 = words[wordOffset + 37];
+        final long w38 = words[wordOffset + 38];
+        final long w39 = words[wordOffset + 39];
+        final long w40 = words[wordOffset + 40];
+        final long w41 = words[wordOffset + 41];
+        final long w42 = words[wordOffset + 42];
+        final long w43 = words[wordOffset + 43];
+        values[valueOffset + 0] = w0 & 0xFFFFFFFFFFFL;
+        values[valueOffset + 1] = ((w0 >>> 44) | (w1 << 20)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 2] = ((w1 >>> 24) | (w2 << 40)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 3] = (w2 >>> 4) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 4] = ((w2 >>> 48) | (w3 << 16)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 5] = ((w3 >>> 28) | (w4 << 36)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 6] = (w4 >>> 8) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 7] = ((w4 >>> 52) | (w5 << 12)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 8] = ((w5 >>> 32) | (w6 << 32)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 9] = (w6 >>> 12) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 10] = ((w6 >>> 56) | (w7 << 8)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 11] = ((w7 >>> 36) | (w8 << 28)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 12] = (w8 >>> 16) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 13] = ((w8 >>> 60) | (w9 << 4)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 14] = ((w9 >>> 40) | (w10 << 24)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 15] = w10 >>> 20;
+        values[valueOffset + 16] = w11 & 0xFFFFFFFFFFFL;
+        values[valueOffset + 17] = ((w11 >>> 44) | (w12 << 20)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 18] = ((w12 >>> 24) | (w13 << 40)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 19] = (w13 >>> 4) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 20] = ((w13 >>> 48) | (w14 << 16)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 21] = ((w14 >>> 28) | (w15 << 36)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 22] = (w15 >>> 8) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 23] = ((w15 >>> 52) | (w16 << 12)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 24] = ((w16 >>> 32) | (w17 << 32)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 25] = (w17 >>> 12) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 26] = ((w17 >>> 56) | (w18 << 8)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 27] = ((w18 >>> 36) | (w19 << 28)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 28] = (w19 >>> 16) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 29] = ((w19 >>> 60) | (w20 << 4)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 30] = ((w20 >>> 40) | (w21 << 24)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 31] = w21 >>> 20;
+        values[valueOffset + 32] = w22 & 0xFFFFFFFFFFFL;
+        values[valueOffset + 33] = ((w22 >>> 44) | (w23 << 20)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 34] = ((w23 >>> 24) | (w24 << 40)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 35] = (w24 >>> 4) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 36] = ((w24 >>> 48) | (w25 << 16)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 37] = ((w25 >>> 28) | (w26 << 36)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 38] = (w26 >>> 8) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 39] = ((w26 >>> 52) | (w27 << 12)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 40] = ((w27 >>> 32) | (w28 << 32)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 41] = (w28 >>> 12) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 42] = ((w28 >>> 56) | (w29 << 8)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 43] = ((w29 >>> 36) | (w30 << 28)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 44] = (w30 >>> 16) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 45] = ((w30 >>> 60) | (w31 << 4)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 46] = ((w31 >>> 40) | (w32 << 24)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 47] = w32 >>> 20;
+        values[valueOffset + 48] = w33 & 0xFFFFFFFFFFFL;
+        values[valueOffset + 49] = ((w33 >>> 44) | (w34 << 20)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 50] = ((w34 >>> 24) | (w35 << 40)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 51] = (w35 >>> 4) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 52] = ((w35 >>> 48) | (w36 << 16)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 53] = ((w36 >>> 28) | (w37 << 36)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 54] = (w37 >>> 8) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 55] = ((w37 >>> 52) | (w38 << 12)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 56] = ((w38 >>> 32) | (w39 << 32)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 57] = (w39 >>> 12) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 58] = ((w39 >>> 56) | (w40 << 8)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 59] = ((w40 >>> 36) | (w41 << 28)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 60] = (w41 >>> 16) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 61] = ((w41 >>> 60) | (w42 << 4)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 62] = ((w42 >>> 40) | (w43 << 24)) & 0xFFFFFFFFFFFL;
+        values[valueOffset + 63] = w43 >>> 20;
+    }
+
+    private static void unpack45(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        final long w33 = words[wordOffset + 33];
+        final long w34 = words[wordOffset + 34];
+        final long w35 = words[wordOffset + 35];
+        final long w36 = words[wordOffset + 36];
+        final long w37 = words[wordOffset + 37];
+        final long w38 = words[wordOffset + 38];
+        final long w39 = words[wordOffset + 39];
+        final long w40 = words[wordOffset + 40];
+        final long w41 = words[wordOffset + 41];
+        final long w42 = words[wordOffset + 42];
+        final long w43 = words[wordOffset + 43];
+        final long w44 = words[wordOffset + 44];
+        values[valueOffset + 0] = w0 & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 1] = ((w0 >>> 45) | (w1 << 19)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 2] = ((w1 >>> 26) | (w2 << 38)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 3] = (w2 >>> 7) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 4] = ((w2 >>> 52) | (w3 << 12)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 5] = ((w3 >>> 33) | (w4 << 31)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 6] = (w4 >>> 14) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 7] = ((w4 >>> 59) | (w5 << 5)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 8] = ((w5 >>> 40) | (w6 << 24)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 9] = ((w6 >>> 21) | (w7 << 43)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 10] = (w7 >>> 2) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 11] = ((w7 >>> 47) | (w8 << 17)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 12] = ((w8 >>> 28) | (w9 << 36)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 13] = (w9 >>> 9) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 14] = ((w9 >>> 54) | (w10 << 10)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 15] = ((w10 >>> 35) | (w11 << 29)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 16] = (w11 >>> 16) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 17] = ((w11 >>> 61) | (w12 << 3)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 18] = ((w12 >>> 42) | (w13 << 22)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 19] = ((w13 >>> 23) | (w14 << 41)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 20] = (w14 >>> 4) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 21] = ((w14 >>> 49) | (w15 << 15)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 22] = ((w15 >>> 30) | (w16 << 34)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 23] = (w16 >>> 11) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 24] = ((w16 >>> 56) | (w17 << 8)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 25] = ((w17 >>> 37) | (w18 << 27)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 26] = (w18 >>> 18) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 27] = ((w18 >>> 63) | (w19 << 1)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 28] = ((w19 >>> 44) | (w20 << 20)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 29] = ((w20 >>> 25) | (w21 << 39)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 30] = (w21 >>> 6) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 31] = ((w21 >>> 51) | (w22 << 13)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 32] = ((w22 >>> 32) | (w23 << 32)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 33] = (w23 >>> 13) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 34] = ((w23 >>> 58) | (w24 << 6)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 35] = ((w24 >>> 39) | (w25 << 25)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 36] = ((w25 >>> 20) | (w26 << 44)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 37] = (w26 >>> 1) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 38] = ((w26 >>> 46) | (w27 << 18)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 39] = ((w27 >>> 27) | (w28 << 37)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 40] = (w28 >>> 8) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 41] = ((w28 >>> 53) | (w29 << 11)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 42] = ((w29 >>> 34) | (w30 << 30)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 43] = (w30 >>> 15) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 44] = ((w30 >>> 60) | (w31 << 4)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 45] = ((w31 >>> 41) | (w32 << 23)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 46] = ((w32 >>> 22) | (w33 << 42)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 47] = (w33 >>> 3) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 48] = ((w33 >>> 48) | (w34 << 16)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 49] = ((w34 >>> 29) | (w35 << 35)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 50] = (w35 >>> 10) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 51] = ((w35 >>> 55) | (w36 << 9)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 52] = ((w36 >>> 36) | (w37 << 28)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 53] = (w37 >>> 17) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 54] = ((w37 >>> 62) | (w38 << 2)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 55] = ((w38 >>> 43) | (w39 << 21)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 56] = ((w39 >>> 24) | (w40 << 40)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 57] = (w40 >>> 5) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 58] = ((w40 >>> 50) | (w41 << 14)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 59] = ((w41 >>> 31) | (w42 << 33)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 60] = (w42 >>> 12) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 61] = ((w42 >>> 57) | (w43 << 7)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 62] = ((w43 >>> 38) | (w44 << 26)) & 0x1FFFFFFFFFFFL;
+        values[valueOffset + 63] = w44 >>> 19;
+    }
+
+    private static void unpack46(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        final long w33 = words[wordOffset + 33];
+        final long w34 = words[wordOffset + 34];
+        final long w35 = words[wordOffset + 35];
+        final long w36 = words[wordOffset + 36];
+        final long w37 = words[wordOffset + 37];
+        final long w38 = words[wordOffset + 38];
+        final long w39 = words[wordOffset + 39];
+        final long w40 = words[wordOffset + 40];
+        final long w41 = words[wordOffset + 41];
+        final long w42 = words[wordOffset + 42];
+        final long w43 = words[wordOffset + 43];
+        final long w44 = words[wordOffset + 44];
+        final long w45 = words[wordOffset + 45];
+        values[valueOffset + 0] = w0 & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 1] = ((w0 >>> 46) | (w1 << 18)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 2] = ((w1 >>> 28) | (w2 << 36)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 3] = (w2 >>> 10) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 4] = ((w2 >>> 56) | (w3 << 8)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 5] = ((w3 >>> 38) | (w4 << 26)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 6] = ((w4 >>> 20) | (w5 << 44)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 7] = (w5 >>> 2) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 8] = ((w5 >>> 48) | (w6 << 16)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 9] = ((w6 >>> 30) | (w7 << 34)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 10] = (w7 >>> 12) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 11] = ((w7 >>> 58) | (w8 << 6)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 12] = ((w8 >>> 40) | (w9 << 24)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 13] = ((w9 >>> 22) | (w10 << 42)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 14] = (w10 >>> 4) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 15] = ((w10 >>> 50) | (w11 << 14)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 16] = ((w11 >>> 32) | (w12 << 32)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 17] = (w12 >>> 14) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 18] = ((w12 >>> 60) | (w13 << 4)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 19] = ((w13 >>> 42) | (w14 << 22)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 20] = ((w14 >>> 24) | (w15 << 40)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 21] = (w15 >>> 6) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 22] = ((w15 >>> 52) | (w16 << 12)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 23] = ((w16 >>> 34) | (w17 << 30)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 24] = (w17 >>> 16) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 25] = ((w17 >>> 62) | (w18 << 2)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 26] = ((w18 >>> 44) | (w19 << 20)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 27] = ((w19 >>> 26) | (w20 << 38)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 28] = (w20 >>> 8) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 29] = ((w20 >>> 54) | (w21 << 10)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 30] = ((w21 >>> 36) | (w22 << 28)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 31] = w22 >>> 18;
+        values[valueOffset + 32] = w23 & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 33] = ((w23 >>> 46) | (w24 << 18)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 34] = ((w24 >>> 28) | (w25 << 36)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 35] = (w25 >>> 10) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 36] = ((w25 >>> 56) | (w26 << 8)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 37] = ((w26 >>> 38) | (w27 << 26)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 38] = ((w27 >>> 20) | (w28 << 44)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 39] = (w28 >>> 2) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 40] = ((w28 >>> 48) | (w29 << 16)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 41] = ((w29 >>> 30) | (w30 << 34)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 42] = (w30 >>> 12) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 43] = ((w30 >>> 58) | (w31 << 6)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 44] = ((w31 >>> 40) | (w32 << 24)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 45] = ((w32 >>> 22) | (w33 << 42)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 46] = (w33 >>> 4) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 47] = ((w33 >>> 50) | (w34 << 14)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 48] = ((w34 >>> 32) | (w35 << 32)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 49] = (w35 >>> 14) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 50] = ((w35 >>> 60) | (w36 << 4)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 51] = ((w36 >>> 42) | (w37 << 22)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 52] = ((w37 >>> 24) | (w38 << 40)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 53] = (w38 >>> 6) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 54] = ((w38 >>> 52) | (w39 << 12)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 55] = ((w39 >>> 34) | (w40 << 30)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 56] = (w40 >>> 16) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 57] = ((w40 >>> 62) | (w41 << 2)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 58] = ((w41 >>> 44) | (w42 << 20)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 59] = ((w42 >>> 26) | (w43 << 38)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 60] = (w43 >>> 8) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 61] = ((w43 >>> 54) | (w44 << 10)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 62] = ((w44 >>> 36) | (w45 << 28)) & 0x3FFFFFFFFFFFL;
+        values[valueOffset + 63] = w45 >>> 18;
+    }
+
+    private static void unpack47(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        final long w33 = words[wordOffset + 33];
+        final long w34 = words[wordOffset + 34];
+        final long w35 = words[wordOffset + 35];
+        final long w36 = words[wordOffset + 36];
+        final long w37 = words[wordOffset + 37];
+        final long w38 = words[wordOffset + 38];
+        final long w39 = words[wordOffset + 39];
+        final long w40 = words[wordOffset + 40];
+        final long w41 = words[wordOffset + 41];
+        final long w42 = words[wordOffset + 42];
+        final long w43 = words[wordOffset + 43];
+        final long w44 = words[wordOffset + 44];
+        final long w45 = words[wordOffset + 45];
+        final long w46 = words[wordOffset + 46];
+        values[valueOffset + 0] = w0 & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 1] = ((w0 >>> 47) | (w1 << 17)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 2] = ((w1 >>> 30) | (w2 << 34)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 3] = (w2 >>> 13) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 4] = ((w2 >>> 60) | (w3 << 4)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 5] = ((w3 >>> 43) | (w4 << 21)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 6] = ((w4 >>> 26) | (w5 << 38)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 7] = (w5 >>> 9) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 8] = ((w5 >>> 56) | (w6 << 8)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 9] = ((w6 >>> 39) | (w7 << 25)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 10] = ((w7 >>> 22) | (w8 << 42)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 11] = (w8 >>> 5) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 12] = ((w8 >>> 52) | (w9 << 12)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 13] = ((w9 >>> 35) | (w10 << 29)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 14] = ((w10 >>> 18) | (w11 << 46)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 15] = (w11 >>> 1) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 16] = ((w11 >>> 48) | (w12 << 16)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 17] = ((w12 >>> 31) | (w13 << 33)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 18] = (w13 >>> 14) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 19] = ((w13 >>> 61) | (w14 << 3)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 20] = ((w14 >>> 44) | (w15 << 20)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 21] = ((w15 >>> 27) | (w16 << 37)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 22] = (w16 >>> 10) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 23] = ((w16 >>> 57) | (w17 << 7)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 24] = ((w17 >>> 40) | (w18 << 24)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 25] = ((w18 >>> 23) | (w19 << 41)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 26] = (w19 >>> 6) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 27] = ((w19 >>> 53) | (w20 << 11)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 28] = ((w20 >>> 36) | (w21 << 28)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 29] = ((w21 >>> 19) | (w22 << 45)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 30] = (w22 >>> 2) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 31] = ((w22 >>> 49) | (w23 << 15)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 32] = ((w23 >>> 32) | (w24 << 32)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 33] = (w24 >>> 15) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 34] = ((w24 >>> 62) | (w25 << 2)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 35] = ((w25 >>> 45) | (w26 << 19)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 36] = ((w26 >>> 28) | (w27 << 36)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 37] = (w27 >>> 11) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 38] = ((w27 >>> 58) | (w28 << 6)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 39] = ((w28 >>> 41) | (w29 << 23)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 40] = ((w29 >>> 24) | (w30 << 40)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 41] = (w30 >>> 7) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 42] = ((w30 >>> 54) | (w31 << 10)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 43] = ((w31 >>> 37) | (w32 << 27)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 44] = ((w32 >>> 20) | (w33 << 44)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 45] = (w33 >>> 3) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 46] = ((w33 >>> 50) | (w34 << 14)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 47] = ((w34 >>> 33) | (w35 << 31)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 48] = (w35 >>> 16) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 49] = ((w35 >>> 63) | (w36 << 1)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 50] = ((w36 >>> 46) | (w37 << 18)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 51] = ((w37 >>> 29) | (w38 << 35)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 52] = (w38 >>> 12) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 53] = ((w38 >>> 59) | (w39 << 5)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 54] = ((w39 >>> 42) | (w40 << 22)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 55] = ((w40 >>> 25) | (w41 << 39)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 56] = (w41 >>> 8) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 57] = ((w41 >>> 55) | (w42 << 9)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 58] = ((w42 >>> 38) | (w43 << 26)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 59] = ((w43 >>> 21) | (w44 << 43)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 60] = (w44 >>> 4) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 61] = ((w44 >>> 51) | (w45 << 13)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 62] = ((w45 >>> 34) | (w46 << 30)) & 0x7FFFFFFFFFFFL;
+        values[valueOffset + 63] = w46 >>> 17;
+    }
+
+    private static void unpack48(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        final long w33 = words[wordOffset + 33];
+        final long w34 = words[wordOffset + 34];
+        final long w35 = words[wordOffset + 35];
+        final long w36 = words[wordOffset + 36];
+        final long w37 = words[wordOffset + 37];
+        final long w38 = words[wordOffset + 38];
+        final long w39 = words[wordOffset + 39];
+        final long w40 = words[wordOffset + 40];
+        final long w41 = words[wordOffset + 41];
+        final long w42 = words[wordOffset + 42];
+        final long w43 = words[wordOffset + 43];
+        final long w44 = words[wordOffset + 44];
+        final long w45 = words[wordOffset + 45];
+        final long w46 = words[wordOffset + 46];
+        final long w47 = words[wordOffset + 47];
+        values[valueOffset + 0] = w0 & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 1] = ((w0 >>> 48) | (w1 << 16)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 2] = ((w1 >>> 32) | (w2 << 32)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 3] = w2 >>> 16;
+        values[valueOffset + 4] = w3 & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 5] = ((w3 >>> 48) | (w4 << 16)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 6] = ((w4 >>> 32) | (w5 << 32)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 7] = w5 >>> 16;
+        values[valueOffset + 8] = w6 & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 9] = ((w6 >>> 48) | (w7 << 16)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 10] = ((w7 >>> 32) | (w8 << 32)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 11] = w8 >>> 16;
+        values[valueOffset + 12] = w9 & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 13] = ((w9 >>> 48) | (w10 << 16)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 14] = ((w10 >>> 32) | (w11 << 32)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 15] = w11 >>> 16;
+        values[valueOffset + 16] = w12 & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 17] = ((w12 >>> 48) | (w13 << 16)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 18] = ((w13 >>> 32) | (w14 << 32)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 19] = w14 >>> 16;
+        values[valueOffset + 20] = w15 & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 21] = ((w15 >>> 48) | (w16 << 16)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 22] = ((w16 >>> 32) | (w17 << 32)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 23] = w17 >>> 16;
+        values[valueOffset + 24] = w18 & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 25] = ((w18 >>> 48) | (w19 << 16)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 26] = ((w19 >>> 32) | (w20 << 32)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 27] = w20 >>> 16;
+        values[valueOffset + 28] = w21 & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 29] = ((w21 >>> 48) | (w22 << 16)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 30] = ((w22 >>> 32) | (w23 << 32)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 31] = w23 >>> 16;
+        values[valueOffset + 32] = w24 & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 33] = ((w24 >>> 48) | (w25 << 16)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 34] = ((w25 >>> 32) | (w26 << 32)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 35] = w26 >>> 16;
+        values[valueOffset + 36] = w27 & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 37] = ((w27 >>> 48) | (w28 << 16)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 38] = ((w28 >>> 32) | (w29 << 32)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 39] = w29 >>> 16;
+        values[valueOffset + 40] = w30 & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 41] = ((w30 >>> 48) | (w31 << 16)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 42] = ((w31 >>> 32) | (w32 << 32)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 43] = w32 >>> 16;
+        values[valueOffset + 44] = w33 & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 45] = ((w33 >>> 48) | (w34 << 16)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 46] = ((w34 >>> 32) | (w35 << 32)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 47] = w35 >>> 16;
+        values[valueOffset + 48] = w36 & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 49] = ((w36 >>> 48) | (w37 << 16)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 50] = ((w37 >>> 32) | (w38 << 32)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 51] = w38 >>> 16;
+        values[valueOffset + 52] = w39 & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 53] = ((w39 >>> 48) | (w40 << 16)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 54] = ((w40 >>> 32) | (w41 << 32)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 55] = w41 >>> 16;
+        values[valueOffset + 56] = w42 & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 57] = ((w42 >>> 48) | (w43 << 16)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 58] = ((w43 >>> 32) | (w44 << 32)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 59] = w44 >>> 16;
+        values[valueOffset + 60] = w45 & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 61] = ((w45 >>> 48) | (w46 << 16)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 62] = ((w46 >>> 32) | (w47 << 32)) & 0xFFFFFFFFFFFFL;
+        values[valueOffset + 63] = w47 >>> 16;
+    }
+
+    private static void unpack49(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        final long w33 = words[wordOffset + 33];
+        final long w34 = words[wordOffset + 34];
+        final long w35 = words[wordOffset + 35];
+        final long w36 = words[wordOffset + 36];
+        final long w37 = words[wordOffset + 37];
+        final long w38 = words[wordOffset + 38];
+        final long w39 = words[wordOffset + 39];
+        final long w40 = words[wordOffset + 40];
+        final long w41 = words[wordOffset + 41];
+        final long w42 = words[wordOffset + 42];
+        final long w43 = words[wordOffset + 43];
+        final long w44 = words[wordOffset + 44];
+        final long w45 = words[wordOffset + 45];
+        final long w46 = words[wordOffset + 46];
+        final long w47 = words[wordOffset + 47];
+        final long w48 = words[wordOffset + 48];
+        values[valueOffset + 0] = w0 & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 1] = ((w0 >>> 49) | (w1 << 15)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 2] = ((w1 >>> 34) | (w2 << 30)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 3] = ((w2 >>> 19) | (w3 << 45)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 4] = (w3 >>> 4) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 5] = ((w3 >>> 53) | (w4 << 11)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 6] = ((w4 >>> 38) | (w5 << 26)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 7] = ((w5 >>> 23) | (w6 << 41)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 8] = (w6 >>> 8) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 9] = ((w6 >>> 57) | (w7 << 7)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 10] = ((w7 >>> 42) | (w8 << 22)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 11] = ((w8 >>> 27) | (w9 << 37)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 12] = (w9 >>> 12) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 13] = ((w9 >>> 61) | (w10 << 3)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 14] = ((w10 >>> 46) | (w11 << 18)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 15] = ((w11 >>> 31) | (w12 << 33)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 16] = ((w12 >>> 16) | (w13 << 48)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 17] = (w13 >>> 1) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 18] = ((w13 >>> 50) | (w14 << 14)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 19] = ((w14 >>> 35) | (w15 << 29)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 20] = ((w15 >>> 20) | (w16 << 44)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 21] = (w16 >>> 5) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 22] = ((w16 >>> 54) | (w17 << 10)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 23] = ((w17 >>> 39) | (w18 << 25)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 24] = ((w18 >>> 24) | (w19 << 40)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 25] = (w19 >>> 9) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 26] = ((w19 >>> 58) | (w20 << 6)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 27] = ((w20 >>> 43) | (w21 << 21)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 28] = ((w21 >>> 28) | (w22 << 36)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 29] = (w22 >>> 13) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 30] = ((w22 >>> 62) | (w23 << 2)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 31] = ((w23 >>> 47) | (w24 << 17)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 32] = ((w24 >>> 32) | (w25 << 32)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 33] = ((w25 >>> 17) | (w26 << 47)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 34] = (w26 >>> 2) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 35] = ((w26 >>> 51) | (w27 << 13)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 36] = ((w27 >>> 36) | (w28 << 28)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 37] = ((w28 >>> 21) | (w29 << 43)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 38] = (w29 >>> 6) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 39] = ((w29 >>> 55) | (w30 << 9)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 40] = ((w30 >>> 40) | (w31 << 24)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 41] = ((w31 >>> 25) | (w32 << 39)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 42] = (w32 >>> 10) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 43] = ((w32 >>> 59) | (w33 << 5)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 44] = ((w33 >>> 44) | (w34 << 20)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 45] = ((w34 >>> 29) | (w35 << 35)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 46] = (w35 >>> 14) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 47] = ((w35 >>> 63) | (w36 << 1)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 48] = ((w36 >>> 48) | (w37 << 16)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 49] = ((w37 >>> 33) | (w38 << 31)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 50] = ((w38 >>> 18) | (w39 << 46)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 51] = (w39 >>> 3) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 52] = ((w39 >>> 52) | (w40 << 12)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 53] = ((w40 >>> 37) | (w41 << 27)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 54] = ((w41 >>> 22) | (w42 << 42)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 55] = (w42 >>> 7) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 56] = ((w42 >>> 56) | (w43 << 8)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 57] = ((w43 >>> 41) | (w44 << 23)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 58] = ((w44 >>> 26) | (w45 << 38)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 59] = (w45 >>> 11) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 60] = ((w45 >>> 60) | (w46 << 4)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 61] = ((w46 >>> 45) | (w47 << 19)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 62] = ((w47 >>> 30) | (w48 << 34)) & 0x1FFFFFFFFFFFFL;
+        values[valueOffset + 63] = w48 >>> 15;
+    }
+
+    private static void unpack50(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        final long w33 = words[wordOffset + 33];
+        final long w34 = words[wordOffset + 34];
+        final long w35 = words[wordOffset + 35];
+        final long w36 = words[wordOffset + 36];
+        final long w37 = words[wordOffset + 37];
+        final long w38 = words[wordOffset + 38];
+        final long w39 = words[wordOffset + 39];
+        final long w40 = words[wordOffset + 40];
+        final long w41 = words[wordOffset + 41];
+        final long w42 = words[wordOffset + 42];
+        final long w43 = words[wordOffset + 43];
+        final long w44 = words[wordOffset + 44];
+        final long w45 = words[wordOffset + 45];
+        final long w46 = words[wordOffset + 46];
+        final long w47 = words[wordOffset + 47];
+        final long w48 = words[wordOffset + 48];
+        final long w49 = words[wordOffset + 49];
+        values[valueOffset + 0] = w0 & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 1] = ((w0 >>> 50) | (w1 << 14)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 2] = ((w1 >>> 36) | (w2 << 28)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 3] = ((w2 >>> 22) | (w3 << 42)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 4] = (w3 >>> 8) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 5] = ((w3 >>> 58) | (w4 << 6)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 6] = ((w4 >>> 44) | (w5 << 20)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 7] = ((w5 >>> 30) | (w6 << 34)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 8] = ((w6 >>> 16) | (w7 << 48)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 9] = (w7 >>> 2) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 10] = ((w7 >>> 52) | (w8 << 12)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 11] = ((w8 >>> 38) | (w9 << 26)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 12] = ((w9 >>> 24) | (w10 << 40)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 13] = (w10 >>> 10) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 14] = ((w10 >>> 60) | (w11 << 4)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 15] = ((w11 >>> 46) | (w12 << 18)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 16] = ((w12 >>> 32) | (w13 << 32)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 17] = ((w13 >>> 18) | (w14 << 46)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 18] = (w14 >>> 4) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 19] = ((w14 >>> 54) | (w15 << 10)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 20] = ((w15 >>> 40) | (w16 << 24)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 21] = ((w16 >>> 26) | (w17 << 38)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 22] = (w17 >>> 12) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 23] = ((w17 >>> 62) | (w18 << 2)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 24] = ((w18 >>> 48) | (w19 << 16)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 25] = ((w19 >>> 34) | (w20 << 30)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 26] = ((w20 >>> 20) | (w21 << 44)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 27] = (w21 >>> 6) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 28] = ((w21 >>> 56) | (w22 << 8)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 29] = ((w22 >>> 42) | (w23 << 22)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 30] = ((w23 >>> 28) | (w24 << 36)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 31] = w24 >>> 14;
+        values[valueOffset + 32] = w25 & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 33] = ((w25 >>> 50) | (w26 << 14)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 34] = ((w26 >>> 36) | (w27 << 28)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 35] = ((w27 >>> 22) | (w28 << 42)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 36] = (w28 >>> 8) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 37] = ((w28 >>> 58) | (w29 << 6)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 38] = ((w29 >>> 44) | (w30 << 20)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 39] = ((w30 >>> 30) | (w31 << 34)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 40] = ((w31 >>> 16) | (w32 << 48)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 41] = (w32 >>> 2) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 42] = ((w32 >>> 52) | (w33 << 12)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 43] = ((w33 >>> 38) | (w34 << 26)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 44] = ((w34 >>> 24) | (w35 << 40)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 45] = (w35 >>> 10) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 46] = ((w35 >>> 60) | (w36 << 4)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 47] = ((w36 >>> 46) | (w37 << 18)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 48] = ((w37 >>> 32) | (w38 << 32)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 49] = ((w38 >>> 18) | (w39 << 46)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 50] = (w39 >>> 4) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 51] = ((w39 >>> 54) | (w40 << 10)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 52] = ((w40 >>> 40) | (w41 << 24)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 53] = ((w41 >>> 26) | (w42 << 38)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 54] = (w42 >>> 12) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 55] = ((w42 >>> 62) | (w43 << 2)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 56] = ((w43 >>> 48) | (w44 << 16)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 57] = ((w44 >>> 34) | (w45 << 30)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 58] = ((w45 >>> 20) | (w46 << 44)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 59] = (w46 >>> 6) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 60] = ((w46 >>> 56) | (w47 << 8)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 61] = ((w47 >>> 42) | (w48 << 22)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 62] = ((w48 >>> 28) | (w49 << 36)) & 0x3FFFFFFFFFFFFL;
+        values[valueOffset + 63] = w49 >>> 14;
+    }
+
+    private static void unpack51(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        final long w33 = words[wordOffset + 33];
+        final long w34 = words[wordOffset + 34];
+        final long w35 = words[wordOffset + 35];
+        final long w36 = words[wordOffset + 36];
+        final long w37 = words[wordOffset + 37];
+        final long w38 = words[wordOffset + 38];
+        final long w39 = words[wordOffset + 39];
+        final long w40 = words[wordOffset + 40];
+        final long w41 = words[wordOffset + 41];
+        final long w42 = words[wordOffset + 42];
+        final long w43 = words[wordOffset + 43];
+        final long w44 = words[wordOffset + 44];
+        final long w45 = words[wordOffset + 45];
+        final long w46 = words[wordOffset + 46];
+        final long w47 = words[wordOffset + 47];
+        final long w48 = words[wordOffset + 48];
+        final long w49 = words[wordOffset + 49];
+        final long w50 = words[wordOffset + 50];
+        values[valueOffset + 0] = w0 & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 1] = ((w0 >>> 51) | (w1 << 13)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 2] = ((w1 >>> 38) | (w2 << 26)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 3] = ((w2 >>> 25) | (w3 << 39)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 4] = (w3 >>> 12) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 5] = ((w3 >>> 63) | (w4 << 1)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 6] = ((w4 >>> 50) | (w5 << 14)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 7] = ((w5 >>> 37) | (w6 << 27)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 8] = ((w6 >>> 24) | (w7 << 40)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 9] = (w7 >>> 11) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 10] = ((w7 >>> 62) | (w8 << 2)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 11] = ((w8 >>> 49) | (w9 << 15)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 12] = ((w9 >>> 36) | (w10 << 28)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 13] = ((w10 >>> 23) | (w11 << 41)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 14] = (w11 >>> 10) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 15] = ((w11 >>> 61) | (w12 << 3)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 16] = ((w12 >>> 48) | (w13 << 16)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 17] = ((w13 >>> 35) | (w14 << 29)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 18] = ((w14 >>> 22) | (w15 << 42)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 19] = (w15 >>> 9) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 20] = ((w15 >>> 60) | (w16 << 4)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 21] = ((w16 >>> 47) | (w17 << 17)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 22] = ((w17 >>> 34) | (w18 << 30)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 23] = ((w18 >>> 21) | (w19 << 43)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 24] = (w19 >>> 8) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 25] = ((w19 >>> 59) | (w20 << 5)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 26] = ((w20 >>> 46) | (w21 << 18)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 27] = ((w21 >>> 33) | (w22 << 31)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 28] = ((w22 >>> 20) | (w23 << 44)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 29] = (w23 >>> 7) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 30] = ((w23 >>> 58) | (w24 << 6)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 31] = ((w24 >>> 45) | (w25 << 19)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 32] = ((w25 >>> 32) | (w26 << 32)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 33] = ((w26 >>> 19) | (w27 << 45)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 34] = (w27 >>> 6) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 35] = ((w27 >>> 57) | (w28 << 7)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 36] = ((w28 >>> 44) | (w29 << 20)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 37] = ((w29 >>> 31) | (w30 << 33)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 38] = ((w30 >>> 18) | (w31 << 46)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 39] = (w31 >>> 5) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 40] = ((w31 >>> 56) | (w32 << 8)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 41] = ((w32 >>> 43) | (w33 << 21)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 42] = ((w33 >>> 30) | (w34 << 34)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 43] = ((w34 >>> 17) | (w35 << 47)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 44] = (w35 >>> 4) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 45] = ((w35 >>> 55) | (w36 << 9)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 46] = ((w36 >>> 42) | (w37 << 22)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 47] = ((w37 >>> 29) | (w38 << 35)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 48] = ((w38 >>> 16) | (w39 << 48)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 49] = (w39 >>> 3) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 50] = ((w39 >>> 54) | (w40 << 10)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 51] = ((w40 >>> 41) | (w41 << 23)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 52] = ((w41 >>> 28) | (w42 << 36)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 53] = ((w42 >>> 15) | (w43 << 49)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 54] = (w43 >>> 2) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 55] = ((w43 >>> 53) | (w44 << 11)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 56] = ((w44 >>> 40) | (w45 << 24)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 57] = ((w45 >>> 27) | (w46 << 37)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 58] = ((w46 >>> 14) | (w47 << 50)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 59] = (w47 >>> 1) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 60] = ((w47 >>> 52) | (w48 << 12)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 61] = ((w48 >>> 39) | (w49 << 25)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 62] = ((w49 >>> 26) | (w50 << 38)) & 0x7FFFFFFFFFFFFL;
+        values[valueOffset + 63] = w50 >>> 13;
+    }
+
+    private static void unpack52(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        final long w33 = words[wordOffset + 33];
+        final long w34 = words[wordOffset + 34];
+        final long w35 = words[wordOffset + 35];
+        final long w36 = words[wordOffset + 36];
+        final long w37 = words[wordOffset + 37];
+        final long w38 = words[wordOffset + 38];
+        final long w39 = words[wordOffset + 39];
+        final long w40 = words[wordOffset + 40];
+        final long w41 = words[wordOffset + 41];
+        final long w42 = words[wordOffset + 42];
+        final long w43 = words[wordOffset + 43];
+        final long w44 = words[wordOffset + 44];
+        final long w45 = words[wordOffset + 45];
+        final long w46 = words[wordOffset + 46];
+        final long w47 = words[wordOffset + 47];
+        final long w48 = words[wordOffset + 48];
+        final long w49 = words[wordOffset + 49];
+        final long w50 = words[wordOffset + 50];
+        final long w51 = words[wordOffset + 51];
+        values[valueOffset + 0] = w0 & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 1] = ((w0 >>> 52) | (w1 << 12)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 2] = ((w1 >>> 40) | (w2 << 24)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 3] = ((w2 >>> 28) | (w3 << 36)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 4] = ((w3 >>> 16) | (w4 << 48)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 5] = (w4 >>> 4) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 6] = ((w4 >>> 56) | (w5 << 8)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 7] = ((w5 >>> 44) | (w6 << 20)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 8] = ((w6 >>> 32) | (w7 << 32)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 9] = ((w7 >>> 20) | (w8 << 44)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 10] = (w8 >>> 8) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 11] = ((w8 >>> 60) | (w9 << 4)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 12] = ((w9 >>> 48) | (w10 << 16)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 13] = ((w10 >>> 36) | (w11 << 28)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 14] = ((w11 >>> 24) | (w12 << 40)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 15] = w12 >>> 12;
+        values[valueOffset + 16] = w13 & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 17] = ((w13 >>> 52) | (w14 << 12)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 18] = ((w14 >>> 40) | (w15 << 24)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 19] = ((w15 >>> 28) | (w16 << 36)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 20] = ((w16 >>> 16) | (w17 << 48)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 21] = (w17 >>> 4) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 22] = ((w17 >>> 56) | (w18 << 8)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 23] = ((w18 >>> 44) | (w19 << 20)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 24] = ((w19 >>> 32) | (w20 << 32)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 25] = ((w20 >>> 20) | (w21 << 44)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 26] = (w21 >>> 8) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 27] = ((w21 >>> 60) | (w22 << 4)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 28] = ((w22 >>> 48) | (w23 << 16)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 29] = ((w23 >>> 36) | (w24 << 28)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 30] = ((w24 >>> 24) | (w25 << 40)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 31] = w25 >>> 12;
+        values[valueOffset + 32] = w26 & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 33] = ((w26 >>> 52) | (w27 << 12)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 34] = ((w27 >>> 40) | (w28 << 24)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 35] = ((w28 >>> 28) | (w29 << 36)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 36] = ((w29 >>> 16) | (w30 << 48)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 37] = (w30 >>> 4) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 38] = ((w30 >>> 56) | (w31 << 8)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 39] = ((w31 >>> 44) | (w32 << 20)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 40] = ((w32 >>> 32) | (w33 << 32)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 41] = ((w33 >>> 20) | (w34 << 44)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 42] = (w34 >>> 8) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 43] = ((w34 >>> 60) | (w35 << 4)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 44] = ((w35 >>> 48) | (w36 << 16)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 45] = ((w36 >>> 36) | (w37 << 28)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 46] = ((w37 >>> 24) | (w38 << 40)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 47] = w38 >>> 12;
+        values[valueOffset + 48] = w39 & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 49] = ((w39 >>> 52) | (w40 << 12)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 50] = ((w40 >>> 40) | (w41 << 24)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 51] = ((w41 >>> 28) | (w42 << 36)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 52] = ((w42 >>> 16) | (w43 << 48)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 53] = (w43 >>> 4) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 54] = ((w43 >>> 56) | (w44 << 8)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 55] = ((w44 >>> 44) | (w45 << 20)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 56] = ((w45 >>> 32) | (w46 << 32)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 57] = ((w46 >>> 20) | (w47 << 44)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 58] = (w47 >>> 8) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 59] = ((w47 >>> 60) | (w48 << 4)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 60] = ((w48 >>> 48) | (w49 << 16)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 61] = ((w49 >>> 36) | (w50 << 28)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 62] = ((w50 >>> 24) | (w51 << 40)) & 0xFFFFFFFFFFFFFL;
+        values[valueOffset + 63] = w51 >>> 12;
+    }
+
+    private static void unpack53(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        final long w33 = words[wordOffset + 33];
+        final long w34 = words[wordOffset + 34];
+        final long w35 = words[wordOffset + 35];
+        final long w36 = words[wordOffset + 36];
+        final long w37 = words[wordOffset + 37];
+        final long w38 = words[wordOffset + 38];
+        final long w39 = words[wordOffset + 39];
+        final long w40 = words[wordOffset + 40];
+        final long w41 = words[wordOffset + 41];
+        final long w42 = words[wordOffset + 42];
+        final long w43 = words[wordOffset + 43];
+        final long w44 = words[wordOffset + 44];
+        final long w45 = words[wordOffset + 45];
+        final long w46 = words[wordOffset + 46];
+        final long w47 = words[wordOffset + 47];
+        final long w48 = words[wordOffset + 48];
+        final long w49 = words[wordOffset + 49];
+        final long w50 = words[wordOffset + 50];
+        final long w51 = words[wordOffset + 51];
+        final long w52 = words[wordOffset + 52];
+        values[valueOffset + 0] = w0 & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 1] = ((w0 >>> 53) | (w1 << 11)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 2] = ((w1 >>> 42) | (w2 << 22)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 3] = ((w2 >>> 31) | (w3 << 33)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 4] = ((w3 >>> 20) | (w4 << 44)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 5] = (w4 >>> 9) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 6] = ((w4 >>> 62) | (w5 << 2)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 7] = ((w5 >>> 51) | (w6 << 13)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 8] = ((w6 >>> 40) | (w7 << 24)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 9] = ((w7 >>> 29) | (w8 << 35)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 10] = ((w8 >>> 18) | (w9 << 46)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 11] = (w9 >>> 7) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 12] = ((w9 >>> 60) | (w10 << 4)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 13] = ((w10 >>> 49) | (w11 << 15)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 14] = ((w11 >>> 38) | (w12 << 26)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 15] = ((w12 >>> 27) | (w13 << 37)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 16] = ((w13 >>> 16) | (w14 << 48)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 17] = (w14 >>> 5) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 18] = ((w14 >>> 58) | (w15 << 6)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 19] = ((w15 >>> 47) | (w16 << 17)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 20] = ((w16 >>> 36) | (w17 << 28)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 21] = ((w17 >>> 25) | (w18 << 39)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 22] = ((w18 >>> 14) | (w19 << 50)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 23] = (w19 >>> 3) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 24] = ((w19 >>> 56) | (w20 << 8)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 25] = ((w20 >>> 45) | (w21 << 19)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 26] = ((w21 >>> 34) | (w22 << 30)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 27] = ((w22 >>> 23) | (w23 << 41)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 28] = ((w23 >>> 12) | (w24 << 52)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 29] = (w24 >>> 1) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 30] = ((w24 >>> 54) | (w25 << 10)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 31] = ((w25 >>> 43) | (w26 << 21)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 32] = ((w26 >>> 32) | (w27 << 32)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 33] = ((w27 >>> 21) | (w28 << 43)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 34] = (w28 >>> 10) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 35] = ((w28 >>> 63) | (w29 << 1)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 36] = ((w29 >>> 52) | (w30 << 12)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 37] = ((w30 >>> 41) | (w31 << 23)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 38] = ((w31 >>> 30) | (w32 << 34)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 39] = ((w32 >>> 19) | (w33 << 45)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 40] = (w33 >>> 8) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 41] = ((w33 >>> 61) | (w34 << 3)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 42] = ((w34 >>> 50) | (w35 << 14)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 43] = ((w35 >>> 39) | (w36 << 25)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 44] = ((w36 >>> 28) | (w37 << 36)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 45] = ((w37 >>> 17) | (w38 << 47)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 46] = (w38 >>> 6) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 47] = ((w38 >>> 59) | (w39 << 5)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 48] = ((w39 >>> 48) | (w40 << 16)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 49] = ((w40 >>> 37) | (w41 << 27)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 50] = ((w41 >>> 26) | (w42 << 38)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 51] = ((w42 >>> 15) | (w43 << 49)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 52] = (w43 >>> 4) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 53] = ((w43 >>> 57) | (w44 << 7)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 54] = ((w44 >>> 46) | (w45 << 18)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 55] = ((w45 >>> 35) | (w46 << 29)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 56] = ((w46 >>> 24) | (w47 << 40)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 57] = ((w47 >>> 13) | (w48 << 51)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 58] = (w48 >>> 2) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 59] = ((w48 >>> 55) | (w49 << 9)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 60] = ((w49 >>> 44) | (w50 << 20)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 61] = ((w50 >>> 33) | (w51 << 31)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 62] = ((w51 >>> 22) | (w52 << 42)) & 0x1FFFFFFFFFFFFFL;
+        values[valueOffset + 63] = w52 >>> 11;
+    }
+
+    private static void unpack54(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        final long w33 = words[wordOffset + 33];
+        final long w34 = words[wordOffset + 34];
+        final long w35 = words[wordOffset + 35];
+        final long w36 = words[wordOffset + 36];
+        final long w37 = words[wordOffset + 37];
+        final long w38 = words[wordOffset + 38];
+        final long w39 = words[wordOffset + 39];
+        final long w40 = words[wordOffset + 40];
+        final long w41 = words[wordOffset + 41];
+        final long w42 = words[wordOffset + 42];
+        final long w43 = words[wordOffset + 43];
+        final long w44 = words[wordOffset + 44];
+        final long w45 = words[wordOffset + 45];
+        final long w46 = words[wordOffset + 46];
+        final long w47 = words[wordOffset + 47];
+        final long w48 = words[wordOffset + 48];
+        final long w49 = words[wordOffset + 49];
+        final long w50 = words[wordOffset + 50];
+        final long w51 = words[wordOffset + 51];
+        final long w52 = words[wordOffset + 52];
+        final long w53 = words[wordOffset + 53];
+        values[valueOffset + 0] = w0 & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 1] = ((w0 >>> 54) | (w1 << 10)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 2] = ((w1 >>> 44) | (w2 << 20)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 3] = ((w2 >>> 34) | (w3 << 30)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 4] = ((w3 >>> 24) | (w4 << 40)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 5] = ((w4 >>> 14) | (w5 << 50)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 6] = (w5 >>> 4) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 7] = ((w5 >>> 58) | (w6 << 6)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 8] = ((w6 >>> 48) | (w7 << 16)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 9] = ((w7 >>> 38) | (w8 << 26)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 10] = ((w8 >>> 28) | (w9 << 36)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 11] = ((w9 >>> 18) | (w10 << 46)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 12] = (w10 >>> 8) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 13] = ((w10 >>> 62) | (w11 << 2)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 14] = ((w11 >>> 52) | (w12 << 12)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 15] = ((w12 >>> 42) | (w13 << 22)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 16] = ((w13 >>> 32) | (w14 << 32)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 17] = ((w14 >>> 22) | (w15 << 42)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 18] = ((w15 >>> 12) | (w16 << 52)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 19] = (w16 >>> 2) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 20] = ((w16 >>> 56) | (w17 << 8)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 21] = ((w17 >>> 46) | (w18 << 18)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 22] = ((w18 >>> 36) | (w19 << 28)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 23] = ((w19 >>> 26) | (w20 << 38)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 24] = ((w20 >>> 16) | (w21 << 48)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 25] = (w21 >>> 6) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 26] = ((w21 >>> 60) | (w22 << 4)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 27] = ((w22 >>> 50) | (w23 << 14)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 28] = ((w23 >>> 40) | (w24 << 24)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 29] = ((w24 >>> 30) | (w25 << 34)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 30] = ((w25 >>> 20) | (w26 << 44)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 31] = w26 >>> 10;
+        values[valueOffset + 32] = w27 & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 33] = ((w27 >>> 54) | (w28 << 10)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 34] = ((w28 >>> 44) | (w29 << 20)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 35] = ((w29 >>> 34) | (w30 << 30)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 36] = ((w30 >>> 24) | (w31 << 40)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 37] = ((w31 >>> 14) | (w32 << 50)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 38] = (w32 >>> 4) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 39] = ((w32 >>> 58) | (w33 << 6)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 40] = ((w33 >>> 48) | (w34 << 16)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 41] = ((w34 >>> 38) | (w35 << 26)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 42] = ((w35 >>> 28) | (w36 << 36)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 43] = ((w36 >>> 18) | (w37 << 46)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 44] = (w37 >>> 8) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 45] = ((w37 >>> 62) | (w38 << 2)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 46] = ((w38 >>> 52) | (w39 << 12)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 47] = ((w39 >>> 42) | (w40 << 22)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 48] = ((w40 >>> 32) | (w41 << 32)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 49] = ((w41 >>> 22) | (w42 << 42)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 50] = ((w42 >>> 12) | (w43 << 52)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 51] = (w43 >>> 2) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 52] = ((w43 >>> 56) | (w44 << 8)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 53] = ((w44 >>> 46) | (w45 << 18)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 54] = ((w45 >>> 36) | (w46 << 28)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 55] = ((w46 >>> 26) | (w47 << 38)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 56] = ((w47 >>> 16) | (w48 << 48)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 57] = (w48 >>> 6) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 58] = ((w48 >>> 60) | (w49 << 4)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 59] = ((w49 >>> 50) | (w50 << 14)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 60] = ((w50 >>> 40) | (w51 << 24)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 61] = ((w51 >>> 30) | (w52 << 34)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 62] = ((w52 >>> 20) | (w53 << 44)) & 0x3FFFFFFFFFFFFFL;
+        values[valueOffset + 63] = w53 >>> 10;
+    }
+
+    private static void unpack55(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        final long w33 = words[wordOffset + 33];
+        final long w34 = words[wordOffset + 34];
+        final long w35 = words[wordOffset + 35];
+        final long w36 = words[wordOffset + 36];
+        final long w37 = words[wordOffset + 37];
+        final long w38 = words[wordOffset + 38];
+        final long w39 = words[wordOffset + 39];
+        final long w40 = words[wordOffset + 40];
+        final long w41 = words[wordOffset + 41];
+        final long w42 = words[wordOffset + 42];
+        final long w43 = words[wordOffset + 43];
+        final long w44 = words[wordOffset + 44];
+        final long w45 = words[wordOffset + 45];
+        final long w46 = words[wordOffset + 46];
+        final long w47 = words[wordOffset + 47];
+        final long w48 = words[wordOffset + 48];
+        final long w49 = words[wordOffset + 49];
+        final long w50 = words[wordOffset + 50];
+        final long w51 = words[wordOffset + 51];
+        final long w52 = words[wordOffset + 52];
+        final long w53 = words[wordOffset + 53];
+        final long w54 = words[wordOffset + 54];
+        values[valueOffset + 0] = w0 & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 1] = ((w0 >>> 55) | (w1 << 9)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 2] = ((w1 >>> 46) | (w2 << 18)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 3] = ((w2 >>> 37) | (w3 << 27)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 4] = ((w3 >>> 28) | (w4 << 36)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 5] = ((w4 >>> 19) | (w5 << 45)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 6] = ((w5 >>> 10) | (w6 << 54)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 7] = (w6 >>> 1) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 8] = ((w6 >>> 56) | (w7 << 8)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 9] = ((w7 >>> 47) | (w8 << 17)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 10] = ((w8 >>> 38) | (w9 << 26)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 11] = ((w9 >>> 29) | (w10 << 35)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 12] = ((w10 >>> 20) | (w11 << 44)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 13] = ((w11 >>> 11) | (w12 << 53)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 14] = (w12 >>> 2) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 15] = ((w12 >>> 57) | (w13 << 7)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 16] = ((w13 >>> 48) | (w14 << 16)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 17] = ((w14 >>> 39) | (w15 << 25)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 18] = ((w15 >>> 30) | (w16 << 34)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 19] = ((w16 >>> 21) | (w17 << 43)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 20] = ((w17 >>> 12) | (w18 << 52)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 21] = (w18 >>> 3) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 22] = ((w18 >>> 58) | (w19 << 6)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 23] = ((w19 >>> 49) | (w20 << 15)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 24] = ((w20 >>> 40) | (w21 << 24)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 25] = ((w21 >>> 31) | (w22 << 33)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 26] = ((w22 >>> 22) | (w23 << 42)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 27] = ((w23 >>> 13) | (w24 << 51)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 28] = (w24 >>> 4) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 29] = ((w24 >>> 59) | (w25 << 5)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 30] = ((w25 >>> 50) | (w26 << 14)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 31] = ((w26 >>> 41) | (w27 << 23)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 32] = ((w27 >>> 32) | (w28 << 32)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 33] = ((w28 >>> 23) | (w29 << 41)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 34] = ((w29 >>> 14) | (w30 << 50)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 35] = (w30 >>> 5) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 36] = ((w30 >>> 60) | (w31 << 4)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 37] = ((w31 >>> 51) | (w32 << 13)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 38] = ((w32 >>> 42) | (w33 << 22)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 39] = ((w33 >>> 33) | (w34 << 31)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 40] = ((w34 >>> 24) | (w35 << 40)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 41] = ((w35 >>> 15) | (w36 << 49)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 42] = (w36 >>> 6) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 43] = ((w36 >>> 61) | (w37 << 3)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 44] = ((w37 >>> 52) | (w38 << 12)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 45] = ((w38 >>> 43) | (w39 << 21)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 46] = ((w39 >>> 34) | (w40 << 30)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 47] = ((w40 >>> 25) | (w41 << 39)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 48] = ((w41 >>> 16) | (w42 << 48)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 49] = (w42 >>> 7) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 50] = ((w42 >>> 62) | (w43 << 2)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 51] = ((w43 >>> 53) | (w44 << 11)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 52] = ((w44 >>> 44) | (w45 << 20)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 53] = ((w45 >>> 35) | (w46 << 29)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 54] = ((w46 >>> 26) | (w47 << 38)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 55] = ((w47 >>> 17) | (w48 << 47)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 56] = (w48 >>> 8) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 57] = ((w48 >>> 63) | (w49 << 1)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 58] = ((w49 >>> 54) | (w50 << 10)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 59] = ((w50 >>> 45) | (w51 << 19)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 60] = ((w51 >>> 36) | (w52 << 28)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 61] = ((w52 >>> 27) | (w53 << 37)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 62] = ((w53 >>> 18) | (w54 << 46)) & 0x7FFFFFFFFFFFFFL;
+        values[valueOffset + 63] = w54 >>> 9;
+    }
+
+    private static void unpack56(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        final long w33 = words[wordOffset + 33];
+        final long w34 = words[wordOffset + 34];
+        final long w35 = words[wordOffset + 35];
+        final long w36 = words[wordOffset + 36];
+        final long w37 = words[wordOffset + 37];
+        final long w38 = words[wordOffset + 38];
+        final long w39 = words[wordOffset + 39];
+        final long w40 = words[wordOffset + 40];
+        final long w41 = words[wordOffset + 41];
+        final long w42 = words[wordOffset + 42];
+        final long w43 = words[wordOffset + 43];
+        final long w44 = words[wordOffset + 44];
+        final long w45 = words[wordOffset + 45];
+        final long w46 = words[wordOffset + 46];
+        final long w47 = words[wordOffset + 47];
+        final long w48 = words[wordOffset + 48];
+        final long w49 = words[wordOffset + 49];
+        final long w50 = words[wordOffset + 50];
+        final long w51 = words[wordOffset + 51];
+        final long w52 = words[wordOffset + 52];
+        final long w53 = words[wordOffset + 53];
+        final long w54 = words[wordOffset + 54];
+        final long w55 = words[wordOffset + 55];
+        values[valueOffset + 0] = w0 & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 1] = ((w0 >>> 56) | (w1 << 8)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 2] = ((w1 >>> 48) | (w2 << 16)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 3] = ((w2 >>> 40) | (w3 << 24)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 4] = ((w3 >>> 32) | (w4 << 32)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 5] = ((w4 >>> 24) | (w5 << 40)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 6] = ((w5 >>> 16) | (w6 << 48)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 7] = w6 >>> 8;
+        values[valueOffset + 8] = w7 & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 9] = ((w7 >>> 56) | (w8 << 8)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 10] = ((w8 >>> 48) | (w9 << 16)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 11] = ((w9 >>> 40) | (w10 << 24)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 12] = ((w10 >>> 32) | (w11 << 32)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 13] = ((w11 >>> 24) | (w12 << 40)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 14] = ((w12 >>> 16) | (w13 << 48)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 15] = w13 >>> 8;
+        values[valueOffset + 16] = w14 & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 17] = ((w14 >>> 56) | (w15 << 8)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 18] = ((w15 >>> 48) | (w16 << 16)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 19] = ((w16 >>> 40) | (w17 << 24)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 20] = ((w17 >>> 32) | (w18 << 32)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 21] = ((w18 >>> 24) | (w19 << 40)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 22] = ((w19 >>> 16) | (w20 << 48)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 23] = w20 >>> 8;
+        values[valueOffset + 24] = w21 & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 25] = ((w21 >>> 56) | (w22 << 8)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 26] = ((w22 >>> 48) | (w23 << 16)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 27] = ((w23 >>> 40) | (w24 << 24)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 28] = ((w24 >>> 32) | (w25 << 32)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 29] = ((w25 >>> 24) | (w26 << 40)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 30] = ((w26 >>> 16) | (w27 << 48)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 31] = w27 >>> 8;
+        values[valueOffset + 32] = w28 & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 33] = ((w28 >>> 56) | (w29 << 8)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 34] = ((w29 >>> 48) | (w30 << 16)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 35] = ((w30 >>> 40) | (w31 << 24)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 36] = ((w31 >>> 32) | (w32 << 32)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 37] = ((w32 >>> 24) | (w33 << 40)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 38] = ((w33 >>> 16) | (w34 << 48)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 39] = w34 >>> 8;
+        values[valueOffset + 40] = w35 & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 41] = ((w35 >>> 56) | (w36 << 8)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 42] = ((w36 >>> 48) | (w37 << 16)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 43] = ((w37 >>> 40) | (w38 << 24)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 44] = ((w38 >>> 32) | (w39 << 32)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 45] = ((w39 >>> 24) | (w40 << 40)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 46] = ((w40 >>> 16) | (w41 << 48)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 47] = w41 >>> 8;
+        values[valueOffset + 48] = w42 & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 49] = ((w42 >>> 56) | (w43 << 8)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 50] = ((w43 >>> 48) | (w44 << 16)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 51] = ((w44 >>> 40) | (w45 << 24)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 52] = ((w45 >>> 32) | (w46 << 32)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 53] = ((w46 >>> 24) | (w47 << 40)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 54] = ((w47 >>> 16) | (w48 << 48)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 55] = w48 >>> 8;
+        values[valueOffset + 56] = w49 & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 57] = ((w49 >>> 56) | (w50 << 8)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 58] = ((w50 >>> 48) | (w51 << 16)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 59] = ((w51 >>> 40) | (w52 << 24)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 60] = ((w52 >>> 32) | (w53 << 32)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 61] = ((w53 >>> 24) | (w54 << 40)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 62] = ((w54 >>> 16) | (w55 << 48)) & 0xFFFFFFFFFFFFFFL;
+        values[valueOffset + 63] = w55 >>> 8;
+    }
+
+    private static void unpack57(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        final long w33 = words[wordOffset + 33];
+        final long w34 = words[wordOffset + 34];
+        final long w35 = words[wordOffset + 35];
+        final long w36 = words[wordOffset + 36];
+        final long w37 = words[wordOffset + 37];
+        final long w38 = words[wordOffset + 38];
+        final long w39 = words[wordOffset + 39];
+        final long w40 = words[wordOffset + 40];
+        final long w41 = words[wordOffset + 41];
+        final long w42 = words[wordOffset + 42];
+        final long w43 = words[wordOffset + 43];
+        final long w44 = words[wordOffset + 44];
+        final long w45 = words[wordOffset + 45];
+        final long w46 = words[wordOffset + 46];
+        final long w47 = words[wordOffset + 47];
+        final long w48 = words[wordOffset + 48];
+        final long w49 = words[wordOffset + 49];
+        final long w50 = words[wordOffset + 50];
+        final long w51 = words[wordOffset + 51];
+        final long w52 = words[wordOffset + 52];
+        final long w53 = words[wordOffset + 53];
+        final long w54 = words[wordOffset + 54];
+        final long w55 = words[wordOffset + 55];
+        final long w56 = words[wordOffset + 56];
+        values[valueOffset + 0] = w0 & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 1] = ((w0 >>> 57) | (w1 << 7)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 2] = ((w1 >>> 50) | (w2 << 14)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 3] = ((w2 >>> 43) | (w3 << 21)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 4] = ((w3 >>> 36) | (w4 << 28)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 5] = ((w4 >>> 29) | (w5 << 35)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 6] = ((w5 >>> 22) | (w6 << 42)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 7] = ((w6 >>> 15) | (w7 << 49)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 8] = ((w7 >>> 8) | (w8 << 56)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 9] = (w8 >>> 1) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 10] = ((w8 >>> 58) | (w9 << 6)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 11] = ((w9 >>> 51) | (w10 << 13)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 12] = ((w10 >>> 44) | (w11 << 20)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 13] = ((w11 >>> 37) | (w12 << 27)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 14] = ((w12 >>> 30) | (w13 << 34)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 15] = ((w13 >>> 23) | (w14 << 41)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 16] = ((w14 >>> 16) | (w15 << 48)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 17] = ((w15 >>> 9) | (w16 << 55)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 18] = (w16 >>> 2) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 19] = ((w16 >>> 59) | (w17 << 5)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 20] = ((w17 >>> 52) | (w18 << 12)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 21] = ((w18 >>> 45) | (w19 << 19)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 22] = ((w19 >>> 38) | (w20 << 26)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 23] = ((w20 >>> 31) | (w21 << 33)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 24] = ((w21 >>> 24) | (w22 << 40)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 25] = ((w22 >>> 17) | (w23 << 47)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 26] = ((w23 >>> 10) | (w24 << 54)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 27] = (w24 >>> 3) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 28] = ((w24 >>> 60) | (w25 << 4)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 29] = ((w25 >>> 53) | (w26 << 11)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 30] = ((w26 >>> 46) | (w27 << 18)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 31] = ((w27 >>> 39) | (w28 << 25)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 32] = ((w28 >>> 32) | (w29 << 32)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 33] = ((w29 >>> 25) | (w30 << 39)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 34] = ((w30 >>> 18) | (w31 << 46)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 35] = ((w31 >>> 11) | (w32 << 53)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 36] = (w32 >>> 4) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 37] = ((w32 >>> 61) | (w33 << 3)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 38] = ((w33 >>> 54) | (w34 << 10)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 39] = ((w34 >>> 47) | (w35 << 17)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 40] = ((w35 >>> 40) | (w36 << 24)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 41] = ((w36 >>> 33) | (w37 << 31)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 42] = ((w37 >>> 26) | (w38 << 38)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 43] = ((w38 >>> 19) | (w39 << 45)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 44] = ((w39 >>> 12) | (w40 << 52)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 45] = (w40 >>> 5) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 46] = ((w40 >>> 62) | (w41 << 2)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 47] = ((w41 >>> 55) | (w42 << 9)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 48] = ((w42 >>> 48) | (w43 << 16)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 49] = ((w43 >>> 41) | (w44 << 23)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 50] = ((w44 >>> 34) | (w45 << 30)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 51] = ((w45 >>> 27) | (w46 << 37)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 52] = ((w46 >>> 20) | (w47 << 44)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 53] = ((w47 >>> 13) | (w48 << 51)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 54] = (w48 >>> 6) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 55] = ((w48 >>> 63) | (w49 << 1)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 56] = ((w49 >>> 56) | (w50 << 8)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 57] = ((w50 >>> 49) | (w51 << 15)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 58] = ((w51 >>> 42) | (w52 << 22)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 59] = ((w52 >>> 35) | (w53 << 29)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 60] = ((w53 >>> 28) | (w54 << 36)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 61] = ((w54 >>> 21) | (w55 << 43)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 62] = ((w55 >>> 14) | (w56 << 50)) & 0x1FFFFFFFFFFFFFFL;
+        values[valueOffset + 63] = w56 >>> 7;
+    }
+
+    private static void unpack58(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        final long w33 = words[wordOffset + 33];
+        final long w34 = words[wordOffset + 34];
+        final long w35 = words[wordOffset + 35];
+        final long w36 = words[wordOffset + 36];
+        final long w37 = words[wordOffset + 37];
+        final long w38 = words[wordOffset + 38];
+        final long w39 = words[wordOffset + 39];
+        final long w40 = words[wordOffset + 40];
+        final long w41 = words[wordOffset + 41];
+        final long w42 = words[wordOffset + 42];
+        final long w43 = words[wordOffset + 43];
+        final long w44 = words[wordOffset + 44];
+        final long w45 = words[wordOffset + 45];
+        final long w46 = words[wordOffset + 46];
+        final long w47 = words[wordOffset + 47];
+        final long w48 = words[wordOffset + 48];
+        final long w49 = words[wordOffset + 49];
+        final long w50 = words[wordOffset + 50];
+        final long w51 = words[wordOffset + 51];
+        final long w52 = words[wordOffset + 52];
+        final long w53 = words[wordOffset + 53];
+        final long w54 = words[wordOffset + 54];
+        final long w55 = words[wordOffset + 55];
+        final long w56 = words[wordOffset + 56];
+        final long w57 = words[wordOffset + 57];
+        values[valueOffset + 0] = w0 & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 1] = ((w0 >>> 58) | (w1 << 6)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 2] = ((w1 >>> 52) | (w2 << 12)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 3] = ((w2 >>> 46) | (w3 << 18)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 4] = ((w3 >>> 40) | (w4 << 24)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 5] = ((w4 >>> 34) | (w5 << 30)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 6] = ((w5 >>> 28) | (w6 << 36)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 7] = ((w6 >>> 22) | (w7 << 42)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 8] = ((w7 >>> 16) | (w8 << 48)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 9] = ((w8 >>> 10) | (w9 << 54)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 10] = (w9 >>> 4) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 11] = ((w9 >>> 62) | (w10 << 2)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 12] = ((w10 >>> 56) | (w11 << 8)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 13] = ((w11 >>> 50) | (w12 << 14)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 14] = ((w12 >>> 44) | (w13 << 20)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 15] = ((w13 >>> 38) | (w14 << 26)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 16] = ((w14 >>> 32) | (w15 << 32)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 17] = ((w15 >>> 26) | (w16 << 38)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 18] = ((w16 >>> 20) | (w17 << 44)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 19] = ((w17 >>> 14) | (w18 << 50)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 20] = ((w18 >>> 8) | (w19 << 56)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 21] = (w19 >>> 2) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 22] = ((w19 >>> 60) | (w20 << 4)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 23] = ((w20 >>> 54) | (w21 << 10)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 24] = ((w21 >>> 48) | (w22 << 16)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 25] = ((w22 >>> 42) | (w23 << 22)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 26] = ((w23 >>> 36) | (w24 << 28)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 27] = ((w24 >>> 30) | (w25 << 34)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 28] = ((w25 >>> 24) | (w26 << 40)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 29] = ((w26 >>> 18) | (w27 << 46)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 30] = ((w27 >>> 12) | (w28 << 52)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 31] = w28 >>> 6;
+        values[valueOffset + 32] = w29 & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 33] = ((w29 >>> 58) | (w30 << 6)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 34] = ((w30 >>> 52) | (w31 << 12)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 35] = ((w31 >>> 46) | (w32 << 18)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 36] = ((w32 >>> 40) | (w33 << 24)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 37] = ((w33 >>> 34) | (w34 << 30)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 38] = ((w34 >>> 28) | (w35 << 36)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 39] = ((w35 >>> 22) | (w36 << 42)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 40] = ((w36 >>> 16) | (w37 << 48)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 41] = ((w37 >>> 10) | (w38 << 54)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 42] = (w38 >>> 4) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 43] = ((w38 >>> 62) | (w39 << 2)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 44] = ((w39 >>> 56) | (w40 << 8)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 45] = ((w40 >>> 50) | (w41 << 14)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 46] = ((w41 >>> 44) | (w42 << 20)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 47] = ((w42 >>> 38) | (w43 << 26)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 48] = ((w43 >>> 32) | (w44 << 32)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 49] = ((w44 >>> 26) | (w45 << 38)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 50] = ((w45 >>> 20) | (w46 << 44)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 51] = ((w46 >>> 14) | (w47 << 50)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 52] = ((w47 >>> 8) | (w48 << 56)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 53] = (w48 >>> 2) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 54] = ((w48 >>> 60) | (w49 << 4)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 55] = ((w49 >>> 54) | (w50 << 10)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 56] = ((w50 >>> 48) | (w51 << 16)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 57] = ((w51 >>> 42) | (w52 << 22)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 58] = ((w52 >>> 36) | (w53 << 28)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 59] = ((w53 >>> 30) | (w54 << 34)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 60] = ((w54 >>> 24) | (w55 << 40)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 61] = ((w55 >>> 18) | (w56 << 46)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 62] = ((w56 >>> 12) | (w57 << 52)) & 0x3FFFFFFFFFFFFFFL;
+        values[valueOffset + 63] = w57 >>> 6;
+    }
+
+    private static void unpack59(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        final long w33 = words[wordOffset + 33];
+        final long w34 = words[wordOffset + 34];
+        final long w35 = words[wordOffset + 35];
+        final long w36 = words[wordOffset + 36];
+        final long w37 = words[wordOffset + 37];
+        final long w38 = words[wordOffset + 38];
+        final long w39 = words[wordOffset + 39];
+        final long w40 = words[wordOffset + 40];
+        final long w41 = words[wordOffset + 41];
+        final long w42 = words[wordOffset + 42];
+        final long w43 = words[wordOffset + 43];
+        final long w44 = words[wordOffset + 44];
+        final long w45 = words[wordOffset + 45];
+        final long w46 = words[wordOffset + 46];
+        final long w47 = words[wordOffset + 47];
+        final long w48 = words[wordOffset + 48];
+        final long w49 = words[wordOffset + 49];
+        final long w50 = words[wordOffset + 50];
+        final long w51 = words[wordOffset + 51];
+        final long w52 = words[wordOffset + 52];
+        final long w53 = words[wordOffset + 53];
+        final long w54 = words[wordOffset + 54];
+        final long w55 = words[wordOffset + 55];
+        final long w56 = words[wordOffset + 56];
+        final long w57 = words[wordOffset + 57];
+        final long w58 = words[wordOffset + 58];
+        values[valueOffset + 0] = w0 & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 1] = ((w0 >>> 59) | (w1 << 5)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 2] = ((w1 >>> 54) | (w2 << 10)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 3] = ((w2 >>> 49) | (w3 << 15)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 4] = ((w3 >>> 44) | (w4 << 20)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 5] = ((w4 >>> 39) | (w5 << 25)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 6] = ((w5 >>> 34) | (w6 << 30)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 7] = ((w6 >>> 29) | (w7 << 35)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 8] = ((w7 >>> 24) | (w8 << 40)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 9] = ((w8 >>> 19) | (w9 << 45)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 10] = ((w9 >>> 14) | (w10 << 50)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 11] = ((w10 >>> 9) | (w11 << 55)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 12] = (w11 >>> 4) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 13] = ((w11 >>> 63) | (w12 << 1)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 14] = ((w12 >>> 58) | (w13 << 6)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 15] = ((w13 >>> 53) | (w14 << 11)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 16] = ((w14 >>> 48) | (w15 << 16)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 17] = ((w15 >>> 43) | (w16 << 21)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 18] = ((w16 >>> 38) | (w17 << 26)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 19] = ((w17 >>> 33) | (w18 << 31)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 20] = ((w18 >>> 28) | (w19 << 36)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 21] = ((w19 >>> 23) | (w20 << 41)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 22] = ((w20 >>> 18) | (w21 << 46)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 23] = ((w21 >>> 13) | (w22 << 51)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 24] = ((w22 >>> 8) | (w23 << 56)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 25] = (w23 >>> 3) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 26] = ((w23 >>> 62) | (w24 << 2)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 27] = ((w24 >>> 57) | (w25 << 7)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 28] = ((w25 >>> 52) | (w26 << 12)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 29] = ((w26 >>> 47) | (w27 << 17)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 30] = ((w27 >>> 42) | (w28 << 22)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 31] = ((w28 >>> 37) | (w29 << 27)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 32] = ((w29 >>> 32) | (w30 << 32)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 33] = ((w30 >>> 27) | (w31 << 37)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 34] = ((w31 >>> 22) | (w32 << 42)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 35] = ((w32 >>> 17) | (w33 << 47)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 36] = ((w33 >>> 12) | (w34 << 52)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 37] = ((w34 >>> 7) | (w35 << 57)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 38] = (w35 >>> 2) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 39] = ((w35 >>> 61) | (w36 << 3)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 40] = ((w36 >>> 56) | (w37 << 8)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 41] = ((w37 >>> 51) | (w38 << 13)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 42] = ((w38 >>> 46) | (w39 << 18)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 43] = ((w39 >>> 41) | (w40 << 23)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 44] = ((w40 >>> 36) | (w41 << 28)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 45] = ((w41 >>> 31) | (w42 << 33)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 46] = ((w42 >>> 26) | (w43 << 38)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 47] = ((w43 >>> 21) | (w44 << 43)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 48] = ((w44 >>> 16) | (w45 << 48)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 49] = ((w45 >>> 11) | (w46 << 53)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 50] = ((w46 >>> 6) | (w47 << 58)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 51] = (w47 >>> 1) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 52] = ((w47 >>> 60) | (w48 << 4)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 53] = ((w48 >>> 55) | (w49 << 9)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 54] = ((w49 >>> 50) | (w50 << 14)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 55] = ((w50 >>> 45) | (w51 << 19)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 56] = ((w51 >>> 40) | (w52 << 24)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 57] = ((w52 >>> 35) | (w53 << 29)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 58] = ((w53 >>> 30) | (w54 << 34)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 59] = ((w54 >>> 25) | (w55 << 39)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 60] = ((w55 >>> 20) | (w56 << 44)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 61] = ((w56 >>> 15) | (w57 << 49)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 62] = ((w57 >>> 10) | (w58 << 54)) & 0x7FFFFFFFFFFFFFFL;
+        values[valueOffset + 63] = w58 >>> 5;
+    }
+
+    private static void unpack60(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        final long w33 = words[wordOffset + 33];
+        final long w34 = words[wordOffset + 34];
+        final long w35 = words[wordOffset + 35];
+        final long w36 = words[wordOffset + 36];
+        final long w37 = words[wordOffset + 37];
+        final long w38 = words[wordOffset + 38];
+        final long w39 = words[wordOffset + 39];
+        final long w40 = words[wordOffset + 40];
+        final long w41 = words[wordOffset + 41];
+        final long w42 = words[wordOffset + 42];
+        final long w43 = words[wordOffset + 43];
+        final long w44 = words[wordOffset + 44];
+        final long w45 = words[wordOffset + 45];
+        final long w46 = words[wordOffset + 46];
+        final long w47 = words[wordOffset + 47];
+        final long w48 = words[wordOffset + 48];
+        final long w49 = words[wordOffset + 49];
+        final long w50 = words[wordOffset + 50];
+        final long w51 = words[wordOffset + 51];
+        final long w52 = words[wordOffset + 52];
+        final long w53 = words[wordOffset + 53];
+        final long w54 = words[wordOffset + 54];
+        final long w55 = words[wordOffset + 55];
+        final long w56 = words[wordOffset + 56];
+        final long w57 = words[wordOffset + 57];
+        final long w58 = words[wordOffset + 58];
+        final long w59 = words[wordOffset + 59];
+        values[valueOffset + 0] = w0 & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 1] = ((w0 >>> 60) | (w1 << 4)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 2] = ((w1 >>> 56) | (w2 << 8)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 3] = ((w2 >>> 52) | (w3 << 12)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 4] = ((w3 >>> 48) | (w4 << 16)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 5] = ((w4 >>> 44) | (w5 << 20)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 6] = ((w5 >>> 40) | (w6 << 24)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 7] = ((w6 >>> 36) | (w7 << 28)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 8] = ((w7 >>> 32) | (w8 << 32)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 9] = ((w8 >>> 28) | (w9 << 36)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 10] = ((w9 >>> 24) | (w10 << 40)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 11] = ((w10 >>> 20) | (w11 << 44)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 12] = ((w11 >>> 16) | (w12 << 48)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 13] = ((w12 >>> 12) | (w13 << 52)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 14] = ((w13 >>> 8) | (w14 << 56)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 15] = w14 >>> 4;
+        values[valueOffset + 16] = w15 & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 17] = ((w15 >>> 60) | (w16 << 4)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 18] = ((w16 >>> 56) | (w17 << 8)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 19] = ((w17 >>> 52) | (w18 << 12)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 20] = ((w18 >>> 48) | (w19 << 16)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 21] = ((w19 >>> 44) | (w20 << 20)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 22] = ((w20 >>> 40) | (w21 << 24)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 23] = ((w21 >>> 36) | (w22 << 28)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 24] = ((w22 >>> 32) | (w23 << 32)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 25] = ((w23 >>> 28) | (w24 << 36)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 26] = ((w24 >>> 24) | (w25 << 40)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 27] = ((w25 >>> 20) | (w26 << 44)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 28] = ((w26 >>> 16) | (w27 << 48)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 29] = ((w27 >>> 12) | (w28 << 52)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 30] = ((w28 >>> 8) | (w29 << 56)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 31] = w29 >>> 4;
+        values[valueOffset + 32] = w30 & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 33] = ((w30 >>> 60) | (w31 << 4)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 34] = ((w31 >>> 56) | (w32 << 8)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 35] = ((w32 >>> 52) | (w33 << 12)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 36] = ((w33 >>> 48) | (w34 << 16)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 37] = ((w34 >>> 44) | (w35 << 20)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 38] = ((w35 >>> 40) | (w36 << 24)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 39] = ((w36 >>> 36) | (w37 << 28)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 40] = ((w37 >>> 32) | (w38 << 32)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 41] = ((w38 >>> 28) | (w39 << 36)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 42] = ((w39 >>> 24) | (w40 << 40)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 43] = ((w40 >>> 20) | (w41 << 44)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 44] = ((w41 >>> 16) | (w42 << 48)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 45] = ((w42 >>> 12) | (w43 << 52)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 46] = ((w43 >>> 8) | (w44 << 56)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 47] = w44 >>> 4;
+        values[valueOffset + 48] = w45 & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 49] = ((w45 >>> 60) | (w46 << 4)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 50] = ((w46 >>> 56) | (w47 << 8)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 51] = ((w47 >>> 52) | (w48 << 12)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 52] = ((w48 >>> 48) | (w49 << 16)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 53] = ((w49 >>> 44) | (w50 << 20)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 54] = ((w50 >>> 40) | (w51 << 24)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 55] = ((w51 >>> 36) | (w52 << 28)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 56] = ((w52 >>> 32) | (w53 << 32)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 57] = ((w53 >>> 28) | (w54 << 36)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 58] = ((w54 >>> 24) | (w55 << 40)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 59] = ((w55 >>> 20) | (w56 << 44)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 60] = ((w56 >>> 16) | (w57 << 48)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 61] = ((w57 >>> 12) | (w58 << 52)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 62] = ((w58 >>> 8) | (w59 << 56)) & 0xFFFFFFFFFFFFFFFL;
+        values[valueOffset + 63] = w59 >>> 4;
+    }
+
+    private static void unpack61(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        final long w33 = words[wordOffset + 33];
+        final long w34 = words[wordOffset + 34];
+        final long w35 = words[wordOffset + 35];
+        final long w36 = words[wordOffset + 36];
+        final long w37 = words[wordOffset + 37];
+        final long w38 = words[wordOffset + 38];
+        final long w39 = words[wordOffset + 39];
+        final long w40 = words[wordOffset + 40];
+        final long w41 = words[wordOffset + 41];
+        final long w42 = words[wordOffset + 42];
+        final long w43 = words[wordOffset + 43];
+        final long w44 = words[wordOffset + 44];
+        final long w45 = words[wordOffset + 45];
+        final long w46 = words[wordOffset + 46];
+        final long w47 = words[wordOffset + 47];
+        final long w48 = words[wordOffset + 48];
+        final long w49 = words[wordOffset + 49];
+        final long w50 = words[wordOffset + 50];
+        final long w51 = words[wordOffset + 51];
+        final long w52 = words[wordOffset + 52];
+        final long w53 = words[wordOffset + 53];
+        final long w54 = words[wordOffset + 54];
+        final long w55 = words[wordOffset + 55];
+        final long w56 = words[wordOffset + 56];
+        final long w57 = words[wordOffset + 57];
+        final long w58 = words[wordOffset + 58];
+        final long w59 = words[wordOffset + 59];
+        final long w60 = words[wordOffset + 60];
+        values[valueOffset + 0] = w0 & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 1] = ((w0 >>> 61) | (w1 << 3)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 2] = ((w1 >>> 58) | (w2 << 6)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 3] = ((w2 >>> 55) | (w3 << 9)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 4] = ((w3 >>> 52) | (w4 << 12)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 5] = ((w4 >>> 49) | (w5 << 15)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 6] = ((w5 >>> 46) | (w6 << 18)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 7] = ((w6 >>> 43) | (w7 << 21)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 8] = ((w7 >>> 40) | (w8 << 24)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 9] = ((w8 >>> 37) | (w9 << 27)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 10] = ((w9 >>> 34) | (w10 << 30)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 11] = ((w10 >>> 31) | (w11 << 33)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 12] = ((w11 >>> 28) | (w12 << 36)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 13] = ((w12 >>> 25) | (w13 << 39)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 14] = ((w13 >>> 22) | (w14 << 42)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 15] = ((w14 >>> 19) | (w15 << 45)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 16] = ((w15 >>> 16) | (w16 << 48)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 17] = ((w16 >>> 13) | (w17 << 51)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 18] = ((w17 >>> 10) | (w18 << 54)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 19] = ((w18 >>> 7) | (w19 << 57)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 20] = ((w19 >>> 4) | (w20 << 60)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 21] = (w20 >>> 1) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 22] = ((w20 >>> 62) | (w21 << 2)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 23] = ((w21 >>> 59) | (w22 << 5)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 24] = ((w22 >>> 56) | (w23 << 8)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 25] = ((w23 >>> 53) | (w24 << 11)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 26] = ((w24 >>> 50) | (w25 << 14)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 27] = ((w25 >>> 47) | (w26 << 17)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 28] = ((w26 >>> 44) | (w27 << 20)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 29] = ((w27 >>> 41) | (w28 << 23)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 30] = ((w28 >>> 38) | (w29 << 26)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 31] = ((w29 >>> 35) | (w30 << 29)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 32] = ((w30 >>> 32) | (w31 << 32)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 33] = ((w31 >>> 29) | (w32 << 35)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 34] = ((w32 >>> 26) | (w33 << 38)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 35] = ((w33 >>> 23) | (w34 << 41)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 36] = ((w34 >>> 20) | (w35 << 44)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 37] = ((w35 >>> 17) | (w36 << 47)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 38] = ((w36 >>> 14) | (w37 << 50)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 39] = ((w37 >>> 11) | (w38 << 53)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 40] = ((w38 >>> 8) | (w39 << 56)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 41] = ((w39 >>> 5) | (w40 << 59)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 42] = (w40 >>> 2) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 43] = ((w40 >>> 63) | (w41 << 1)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 44] = ((w41 >>> 60) | (w42 << 4)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 45] = ((w42 >>> 57) | (w43 << 7)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 46] = ((w43 >>> 54) | (w44 << 10)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 47] = ((w44 >>> 51) | (w45 << 13)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 48] = ((w45 >>> 48) | (w46 << 16)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 49] = ((w46 >>> 45) | (w47 << 19)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 50] = ((w47 >>> 42) | (w48 << 22)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 51] = ((w48 >>> 39) | (w49 << 25)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 52] = ((w49 >>> 36) | (w50 << 28)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 53] = ((w50 >>> 33) | (w51 << 31)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 54] = ((w51 >>> 30) | (w52 << 34)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 55] = ((w52 >>> 27) | (w53 << 37)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 56] = ((w53 >>> 24) | (w54 << 40)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 57] = ((w54 >>> 21) | (w55 << 43)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 58] = ((w55 >>> 18) | (w56 << 46)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 59] = ((w56 >>> 15) | (w57 << 49)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 60] = ((w57 >>> 12) | (w58 << 52)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 61] = ((w58 >>> 9) | (w59 << 55)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 62] = ((w59 >>> 6) | (w60 << 58)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valueOffset + 63] = w60 >>> 3;
+    }
+
+    private static void unpack62(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        final long w33 = words[wordOffset + 33];
+        final long w34 = words[wordOffset + 34];
+        final long w35 = words[wordOffset + 35];
+        final long w36 = words[wordOffset + 36];
+        final long w37 = words[wordOffset + 37];
+        final long w38 = words[wordOffset + 38];
+        final long w39 = words[wordOffset + 39];
+        final long w40 = words[wordOffset + 40];
+        final long w41 = words[wordOffset + 41];
+        final long w42 = words[wordOffset + 42];
+        final long w43 = words[wordOffset + 43];
+        final long w44 = words[wordOffset + 44];
+        final long w45 = words[wordOffset + 45];
+        final long w46 = words[wordOffset + 46];
+        final long w47 = words[wordOffset + 47];
+        final long w48 = words[wordOffset + 48];
+        final long w49 = words[wordOffset + 49];
+        final long w50 = words[wordOffset + 50];
+        final long w51 = words[wordOffset + 51];
+        final long w52 = words[wordOffset + 52];
+        final long w53 = words[wordOffset + 53];
+        final long w54 = words[wordOffset + 54];
+        final long w55 = words[wordOffset + 55];
+        final long w56 = words[wordOffset + 56];
+        final long w57 = words[wordOffset + 57];
+        final long w58 = words[wordOffset + 58];
+        final long w59 = words[wordOffset + 59];
+        final long w60 = words[wordOffset + 60];
+        final long w61 = words[wordOffset + 61];
+        values[valueOffset + 0] = w0 & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 1] = ((w0 >>> 62) | (w1 << 2)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 2] = ((w1 >>> 60) | (w2 << 4)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 3] = ((w2 >>> 58) | (w3 << 6)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 4] = ((w3 >>> 56) | (w4 << 8)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 5] = ((w4 >>> 54) | (w5 << 10)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 6] = ((w5 >>> 52) | (w6 << 12)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 7] = ((w6 >>> 50) | (w7 << 14)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 8] = ((w7 >>> 48) | (w8 << 16)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 9] = ((w8 >>> 46) | (w9 << 18)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 10] = ((w9 >>> 44) | (w10 << 20)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 11] = ((w10 >>> 42) | (w11 << 22)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 12] = ((w11 >>> 40) | (w12 << 24)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 13] = ((w12 >>> 38) | (w13 << 26)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 14] = ((w13 >>> 36) | (w14 << 28)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 15] = ((w14 >>> 34) | (w15 << 30)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 16] = ((w15 >>> 32) | (w16 << 32)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 17] = ((w16 >>> 30) | (w17 << 34)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 18] = ((w17 >>> 28) | (w18 << 36)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 19] = ((w18 >>> 26) | (w19 << 38)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 20] = ((w19 >>> 24) | (w20 << 40)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 21] = ((w20 >>> 22) | (w21 << 42)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 22] = ((w21 >>> 20) | (w22 << 44)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 23] = ((w22 >>> 18) | (w23 << 46)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 24] = ((w23 >>> 16) | (w24 << 48)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 25] = ((w24 >>> 14) | (w25 << 50)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 26] = ((w25 >>> 12) | (w26 << 52)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 27] = ((w26 >>> 10) | (w27 << 54)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 28] = ((w27 >>> 8) | (w28 << 56)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 29] = ((w28 >>> 6) | (w29 << 58)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 30] = ((w29 >>> 4) | (w30 << 60)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 31] = w30 >>> 2;
+        values[valueOffset + 32] = w31 & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 33] = ((w31 >>> 62) | (w32 << 2)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 34] = ((w32 >>> 60) | (w33 << 4)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 35] = ((w33 >>> 58) | (w34 << 6)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 36] = ((w34 >>> 56) | (w35 << 8)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 37] = ((w35 >>> 54) | (w36 << 10)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 38] = ((w36 >>> 52) | (w37 << 12)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 39] = ((w37 >>> 50) | (w38 << 14)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 40] = ((w38 >>> 48) | (w39 << 16)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 41] = ((w39 >>> 46) | (w40 << 18)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 42] = ((w40 >>> 44) | (w41 << 20)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 43] = ((w41 >>> 42) | (w42 << 22)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 44] = ((w42 >>> 40) | (w43 << 24)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 45] = ((w43 >>> 38) | (w44 << 26)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 46] = ((w44 >>> 36) | (w45 << 28)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 47] = ((w45 >>> 34) | (w46 << 30)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 48] = ((w46 >>> 32) | (w47 << 32)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 49] = ((w47 >>> 30) | (w48 << 34)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 50] = ((w48 >>> 28) | (w49 << 36)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 51] = ((w49 >>> 26) | (w50 << 38)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 52] = ((w50 >>> 24) | (w51 << 40)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 53] = ((w51 >>> 22) | (w52 << 42)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 54] = ((w52 >>> 20) | (w53 << 44)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 55] = ((w53 >>> 18) | (w54 << 46)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 56] = ((w54 >>> 16) | (w55 << 48)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 57] = ((w55 >>> 14) | (w56 << 50)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 58] = ((w56 >>> 12) | (w57 << 52)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 59] = ((w57 >>> 10) | (w58 << 54)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 60] = ((w58 >>> 8) | (w59 << 56)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 61] = ((w59 >>> 6) | (w60 << 58)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 62] = ((w60 >>> 4) | (w61 << 60)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valueOffset + 63] = w61 >>> 2;
+    }
+
+    private static void unpack63(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        final long w33 = words[wordOffset + 33];
+        final long w34 = words[wordOffset + 34];
+        final long w35 = words[wordOffset + 35];
+        final long w36 = words[wordOffset + 36];
+        final long w37 = words[wordOffset + 37];
+        final long w38 = words[wordOffset + 38];
+        final long w39 = words[wordOffset + 39];
+        final long w40 = words[wordOffset + 40];
+        final long w41 = words[wordOffset + 41];
+        final long w42 = words[wordOffset + 42];
+        final long w43 = words[wordOffset + 43];
+        final long w44 = words[wordOffset + 44];
+        final long w45 = words[wordOffset + 45];
+        final long w46 = words[wordOffset + 46];
+        final long w47 = words[wordOffset + 47];
+        final long w48 = words[wordOffset + 48];
+        final long w49 = words[wordOffset + 49];
+        final long w50 = words[wordOffset + 50];
+        final long w51 = words[wordOffset + 51];
+        final long w52 = words[wordOffset + 52];
+        final long w53 = words[wordOffset + 53];
+        final long w54 = words[wordOffset + 54];
+        final long w55 = words[wordOffset + 55];
+        final long w56 = words[wordOffset + 56];
+        final long w57 = words[wordOffset + 57];
+        final long w58 = words[wordOffset + 58];
+        final long w59 = words[wordOffset + 59];
+        final long w60 = words[wordOffset + 60];
+        final long w61 = words[wordOffset + 61];
+        final long w62 = words[wordOffset + 62];
+        values[valueOffset + 0] = w0 & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 1] = ((w0 >>> 63) | (w1 << 1)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 2] = ((w1 >>> 62) | (w2 << 2)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 3] = ((w2 >>> 61) | (w3 << 3)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 4] = ((w3 >>> 60) | (w4 << 4)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 5] = ((w4 >>> 59) | (w5 << 5)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 6] = ((w5 >>> 58) | (w6 << 6)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 7] = ((w6 >>> 57) | (w7 << 7)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 8] = ((w7 >>> 56) | (w8 << 8)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 9] = ((w8 >>> 55) | (w9 << 9)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 10] = ((w9 >>> 54) | (w10 << 10)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 11] = ((w10 >>> 53) | (w11 << 11)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 12] = ((w11 >>> 52) | (w12 << 12)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 13] = ((w12 >>> 51) | (w13 << 13)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 14] = ((w13 >>> 50) | (w14 << 14)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 15] = ((w14 >>> 49) | (w15 << 15)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 16] = ((w15 >>> 48) | (w16 << 16)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 17] = ((w16 >>> 47) | (w17 << 17)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 18] = ((w17 >>> 46) | (w18 << 18)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 19] = ((w18 >>> 45) | (w19 << 19)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 20] = ((w19 >>> 44) | (w20 << 20)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 21] = ((w20 >>> 43) | (w21 << 21)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 22] = ((w21 >>> 42) | (w22 << 22)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 23] = ((w22 >>> 41) | (w23 << 23)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 24] = ((w23 >>> 40) | (w24 << 24)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 25] = ((w24 >>> 39) | (w25 << 25)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 26] = ((w25 >>> 38) | (w26 << 26)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 27] = ((w26 >>> 37) | (w27 << 27)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 28] = ((w27 >>> 36) | (w28 << 28)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 29] = ((w28 >>> 35) | (w29 << 29)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 30] = ((w29 >>> 34) | (w30 << 30)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 31] = ((w30 >>> 33) | (w31 << 31)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 32] = ((w31 >>> 32) | (w32 << 32)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 33] = ((w32 >>> 31) | (w33 << 33)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 34] = ((w33 >>> 30) | (w34 << 34)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 35] = ((w34 >>> 29) | (w35 << 35)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 36] = ((w35 >>> 28) | (w36 << 36)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 37] = ((w36 >>> 27) | (w37 << 37)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 38] = ((w37 >>> 26) | (w38 << 38)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 39] = ((w38 >>> 25) | (w39 << 39)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 40] = ((w39 >>> 24) | (w40 << 40)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 41] = ((w40 >>> 23) | (w41 << 41)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 42] = ((w41 >>> 22) | (w42 << 42)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 43] = ((w42 >>> 21) | (w43 << 43)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 44] = ((w43 >>> 20) | (w44 << 44)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 45] = ((w44 >>> 19) | (w45 << 45)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 46] = ((w45 >>> 18) | (w46 << 46)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 47] = ((w46 >>> 17) | (w47 << 47)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 48] = ((w47 >>> 16) | (w48 << 48)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 49] = ((w48 >>> 15) | (w49 << 49)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 50] = ((w49 >>> 14) | (w50 << 50)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 51] = ((w50 >>> 13) | (w51 << 51)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 52] = ((w51 >>> 12) | (w52 << 52)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 53] = ((w52 >>> 11) | (w53 << 53)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 54] = ((w53 >>> 10) | (w54 << 54)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 55] = ((w54 >>> 9) | (w55 << 55)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 56] = ((w55 >>> 8) | (w56 << 56)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 57] = ((w56 >>> 7) | (w57 << 57)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 58] = ((w57 >>> 6) | (w58 << 58)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 59] = ((w58 >>> 5) | (w59 << 59)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 60] = ((w59 >>> 4) | (w60 << 60)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 61] = ((w60 >>> 3) | (w61 << 61)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 62] = ((w61 >>> 2) | (w62 << 62)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valueOffset + 63] = w62 >>> 1;
+    }
+
+    private static void unpack64(long[] words, int wordOffset, long[] values, int valueOffset) {
+        final long w0 = words[wordOffset + 0];
+        final long w1 = words[wordOffset + 1];
+        final long w2 = words[wordOffset + 2];
+        final long w3 = words[wordOffset + 3];
+        final long w4 = words[wordOffset + 4];
+        final long w5 = words[wordOffset + 5];
+        final long w6 = words[wordOffset + 6];
+        final long w7 = words[wordOffset + 7];
+        final long w8 = words[wordOffset + 8];
+        final long w9 = words[wordOffset + 9];
+        final long w10 = words[wordOffset + 10];
+        final long w11 = words[wordOffset + 11];
+        final long w12 = words[wordOffset + 12];
+        final long w13 = words[wordOffset + 13];
+        final long w14 = words[wordOffset + 14];
+        final long w15 = words[wordOffset + 15];
+        final long w16 = words[wordOffset + 16];
+        final long w17 = words[wordOffset + 17];
+        final long w18 = words[wordOffset + 18];
+        final long w19 = words[wordOffset + 19];
+        final long w20 = words[wordOffset + 20];
+        final long w21 = words[wordOffset + 21];
+        final long w22 = words[wordOffset + 22];
+        final long w23 = words[wordOffset + 23];
+        final long w24 = words[wordOffset + 24];
+        final long w25 = words[wordOffset + 25];
+        final long w26 = words[wordOffset + 26];
+        final long w27 = words[wordOffset + 27];
+        final long w28 = words[wordOffset + 28];
+        final long w29 = words[wordOffset + 29];
+        final long w30 = words[wordOffset + 30];
+        final long w31 = words[wordOffset + 31];
+        final long w32 = words[wordOffset + 32];
+        final long w33 = words[wordOffset + 33];
+        final long w34 = words[wordOffset + 34];
+        final long w35 = words[wordOffset + 35];
+        final long w36 = words[wordOffset + 36];
+        final long w37 = words[wordOffset + 37];
+        final long w38 = words[wordOffset + 38];
+        final long w39 = words[wordOffset + 39];
+        final long w40 = words[wordOffset + 40];
+        final long w41 = words[wordOffset + 41];
+        final long w42 = words[wordOffset + 42];
+        final long w43 = words[wordOffset + 43];
+        final long w44 = words[wordOffset + 44];
+        final long w45 = words[wordOffset + 45];
+        final long w46 = words[wordOffset + 46];
+        final long w47 = words[wordOffset + 47];
+        final long w48 = words[wordOffset + 48];
+        final long w49 = words[wordOffset + 49];
+        final long w50 = words[wordOffset + 50];
+        final long w51 = words[wordOffset + 51];
+        final long w52 = words[wordOffset + 52];
+        final long w53 = words[wordOffset + 53];
+        final long w54 = words[wordOffset + 54];
+        final long w55 = words[wordOffset + 55];
+        final long w56 = words[wordOffset + 56];
+        final long w57 = words[wordOffset + 57];
+        final long w58 = words[wordOffset + 58];
+        final long w59 = words[wordOffset + 59];
+        final long w60 = words[wordOffset + 60];
+        final long w61 = words[wordOffset + 61];
+        final long w62 = words[wordOffset + 62];
+        final long w63 = words[wordOffset + 63];
+        values[valueOffset + 0] = w0;
+        values[valueOffset + 1] = w1;
+        values[valueOffset + 2] = w2;
+        values[valueOffset + 3] = w3;
+        values[valueOffset + 4] = w4;
+        values[valueOffset + 5] = w5;
+        values[valueOffset + 6] = w6;
+        values[valueOffset + 7] = w7;
+        values[valueOffset + 8] = w8;
+        values[valueOffset + 9] = w9;
+        values[valueOffset + 10] = w10;
+        values[valueOffset + 11] = w11;
+        values[valueOffset + 12] = w12;
+        values[valueOffset + 13] = w13;
+        values[valueOffset + 14] = w14;
+        values[valueOffset + 15] = w15;
+        values[valueOffset + 16] = w16;
+        values[valueOffset + 17] = w17;
+        values[valueOffset + 18] = w18;
+        values[valueOffset + 19] = w19;
+        values[valueOffset + 20] = w20;
+        values[valueOffset + 21] = w21;
+        values[valueOffset + 22] = w22;
+        values[valueOffset + 23] = w23;
+        values[valueOffset + 24] = w24;
+        values[valueOffset + 25] = w25;
+        values[valueOffset + 26] = w26;
+        values[valueOffset + 27] = w27;
+        values[valueOffset + 28] = w28;
+        values[valueOffset + 29] = w29;
+        values[valueOffset + 30] = w30;
+        values[valueOffset + 31] = w31;
+        values[valueOffset + 32] = w32;
+        values[valueOffset + 33] = w33;
+        values[valueOffset + 34] = w34;
+        values[valueOffset + 35] = w35;
+        values[valueOffset + 36] = w36;
+        values[valueOffset + 37] = w37;
+        values[valueOffset + 38] = w38;
+        values[valueOffset + 39] = w39;
+        values[valueOffset + 40] = w40;
+        values[valueOffset + 41] = w41;
+        values[valueOffset + 42] = w42;
+        values[valueOffset + 43] = w43;
+        values[valueOffset + 44] = w44;
+        values[valueOffset + 45] = w45;
+        values[valueOffset + 46] = w46;
+        values[valueOffset + 47] = w47;
+        values[valueOffset + 48] = w48;
+        values[valueOffset + 49] = w49;
+        values[valueOffset + 50] = w50;
+        values[valueOffset + 51] = w51;
+        values[valueOffset + 52] = w52;
+        values[valueOffset + 53] = w53;
+        values[valueOffset + 54] = w54;
+        values[valueOffset + 55] = w55;
+        values[valueOffset + 56] = w56;
+        values[valueOffset + 57] = w57;
+        values[valueOffset + 58] = w58;
+        values[valueOffset + 59] = w59;
+        values[valueOffset + 60] = w60;
+        values[valueOffset + 61] = w61;
+        values[valueOffset + 62] = w62;
+        values[valueOffset + 63] = w63;
+    }
+
+    private static void pack1(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x1L)
+                | ((values[valueOffset + 1] & 0x1L) << 1)
+                | ((values[valueOffset + 2] & 0x1L) << 2)
+                | ((values[valueOffset + 3] & 0x1L) << 3)
+                | ((values[valueOffset + 4] & 0x1L) << 4)
+                | ((values[valueOffset + 5] & 0x1L) << 5)
+                | ((values[valueOffset + 6] & 0x1L) << 6)
+                | ((values[valueOffset + 7] & 0x1L) << 7)
+                | ((values[valueOffset + 8] & 0x1L) << 8)
+                | ((values[valueOffset + 9] & 0x1L) << 9)
+                | ((values[valueOffset + 10] & 0x1L) << 10)
+                | ((values[valueOffset + 11] & 0x1L) << 11)
+                | ((values[valueOffset + 12] & 0x1L) << 12)
+                | ((values[valueOffset + 13] & 0x1L) << 13)
+                | ((values[valueOffset + 14] & 0x1L) << 14)
+                | ((values[valueOffset + 15] & 0x1L) << 15)
+                | ((values[valueOffset + 16] & 0x1L) << 16)
+                | ((values[valueOffset + 17] & 0x1L) << 17)
+                | ((values[valueOffset + 18] & 0x1L) << 18)
+                | ((values[valueOffset + 19] & 0x1L) << 19)
+                | ((values[valueOffset + 20] & 0x1L) << 20)
+                | ((values[valueOffset + 21] & 0x1L) << 21)
+                | ((values[valueOffset + 22] & 0x1L) << 22)
+                | ((values[valueOffset + 23] & 0x1L) << 23)
+                | ((values[valueOffset + 24] & 0x1L) << 24)
+                | ((values[valueOffset + 25] & 0x1L) << 25)
+                | ((values[valueOffset + 26] & 0x1L) << 26)
+                | ((values[valueOffset + 27] & 0x1L) << 27)
+                | ((values[valueOffset + 28] & 0x1L) << 28)
+                | ((values[valueOffset + 29] & 0x1L) << 29)
+                | ((values[valueOffset + 30] & 0x1L) << 30)
+                | ((values[valueOffset + 31] & 0x1L) << 31)
+                | ((values[valueOffset + 32] & 0x1L) << 32)
+                | ((values[valueOffset + 33] & 0x1L) << 33)
+                | ((values[valueOffset + 34] & 0x1L) << 34)
+                | ((values[valueOffset + 35] & 0x1L) << 35)
+                | ((values[valueOffset + 36] & 0x1L) << 36)
+                | ((values[valueOffset + 37] & 0x1L) << 37)
+                | ((values[valueOffset + 38] & 0x1L) << 38)
+                | ((values[valueOffset + 39] & 0x1L) << 39)
+                | ((values[valueOffset + 40] & 0x1L) << 40)
+                | ((values[valueOffset + 41] & 0x1L) << 41)
+                | ((values[valueOffset + 42] & 0x1L) << 42)
+                | ((values[valueOffset + 43] & 0x1L) << 43)
+                | ((values[valueOffset + 44] & 0x1L) << 44)
+                | ((values[valueOffset + 45] & 0x1L) << 45)
+                | ((values[valueOffset + 46] & 0x1L) << 46)
+                | ((values[valueOffset + 47] & 0x1L) << 47)
+                | ((values[valueOffset + 48] & 0x1L) << 48)
+                | ((values[valueOffset + 49] & 0x1L) << 49)
+                | ((values[valueOffset + 50] & 0x1L) << 50)
+                | ((values[valueOffset + 51] & 0x1L) << 51)
+                | ((values[valueOffset + 52] & 0x1L) << 52)
+                | ((values[valueOffset + 53] & 0x1L) << 53)
+                | ((values[valueOffset + 54] & 0x1L) << 54)
+                | ((values[valueOffset + 55] & 0x1L) << 55)
+                | ((values[valueOffset + 56] & 0x1L) << 56)
+                | ((values[valueOffset + 57] & 0x1L) << 57)
+                | ((values[valueOffset + 58] & 0x1L) << 58)
+                | ((values[valueOffset + 59] & 0x1L) << 59)
+                | ((values[valueOffset + 60] & 0x1L) << 60)
+                | ((values[valueOffset + 61] & 0x1L) << 61)
+                | ((values[valueOffset + 62] & 0x1L) << 62)
+                | ((values[valueOffset + 63] & 0x1L) << 63);
+    }
+
+    private static void pack2(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x3L)
+                | ((values[valueOffset + 1] & 0x3L) << 2)
+                | ((values[valueOffset + 2] & 0x3L) << 4)
+                | ((values[valueOffset + 3] & 0x3L) << 6)
+                | ((values[valueOffset + 4] & 0x3L) << 8)
+                | ((values[valueOffset + 5] & 0x3L) << 10)
+                | ((values[valueOffset + 6] & 0x3L) << 12)
+                | ((values[valueOffset + 7] & 0x3L) << 14)
+                | ((values[valueOffset + 8] & 0x3L) << 16)
+                | ((values[valueOffset + 9] & 0x3L) << 18)
+                | ((values[valueOffset + 10] & 0x3L) << 20)
+                | ((values[valueOffset + 11] & 0x3L) << 22)
+                | ((values[valueOffset + 12] & 0x3L) << 24)
+                | ((values[valueOffset + 13] & 0x3L) << 26)
+                | ((values[valueOffset + 14] & 0x3L) << 28)
+                | ((values[valueOffset + 15] & 0x3L) << 30)
+                | ((values[valueOffset + 16] & 0x3L) << 32)
+                | ((values[valueOffset + 17] & 0x3L) << 34)
+                | ((values[valueOffset + 18] & 0x3L) << 36)
+                | ((values[valueOffset + 19] & 0x3L) << 38)
+                | ((values[valueOffset + 20] & 0x3L) << 40)
+                | ((values[valueOffset + 21] & 0x3L) << 42)
+                | ((values[valueOffset + 22] & 0x3L) << 44)
+                | ((values[valueOffset + 23] & 0x3L) << 46)
+                | ((values[valueOffset + 24] & 0x3L) << 48)
+                | ((values[valueOffset + 25] & 0x3L) << 50)
+                | ((values[valueOffset + 26] & 0x3L) << 52)
+                | ((values[valueOffset + 27] & 0x3L) << 54)
+                | ((values[valueOffset + 28] & 0x3L) << 56)
+                | ((values[valueOffset + 29] & 0x3L) << 58)
+                | ((values[valueOffset + 30] & 0x3L) << 60)
+                | ((values[valueOffset + 31] & 0x3L) << 62);
+        words[wordOffset + 1] = (values[valueOffset + 32] & 0x3L)
+                | ((values[valueOffset + 33] & 0x3L) << 2)
+                | ((values[valueOffset + 34] & 0x3L) << 4)
+                | ((values[valueOffset + 35] & 0x3L) << 6)
+                | ((values[valueOffset + 36] & 0x3L) << 8)
+                | ((values[valueOffset + 37] & 0x3L) << 10)
+                | ((values[valueOffset + 38] & 0x3L) << 12)
+                | ((values[valueOffset + 39] & 0x3L) << 14)
+                | ((values[valueOffset + 40] & 0x3L) << 16)
+                | ((values[valueOffset + 41] & 0x3L) << 18)
+                | ((values[valueOffset + 42] & 0x3L) << 20)
+                | ((values[valueOffset + 43] & 0x3L) << 22)
+                | ((values[valueOffset + 44] & 0x3L) << 24)
+                | ((values[valueOffset + 45] & 0x3L) << 26)
+                | ((values[valueOffset + 46] & 0x3L) << 28)
+                | ((values[valueOffset + 47] & 0x3L) << 30)
+                | ((values[valueOffset + 48] & 0x3L) << 32)
+                | ((values[valueOffset + 49] & 0x3L) << 34)
+                | ((values[valueOffset + 50] & 0x3L) << 36)
+                | ((values[valueOffset + 51] & 0x3L) << 38)
+                | ((values[valueOffset + 52] & 0x3L) << 40)
+                | ((values[valueOffset + 53] & 0x3L) << 42)
+                | ((values[valueOffset + 54] & 0x3L) << 44)
+                | ((values[valueOffset + 55] & 0x3L) << 46)
+                | ((values[valueOffset + 56] & 0x3L) << 48)
+                | ((values[valueOffset + 57] & 0x3L) << 50)
+                | ((values[valueOffset + 58] & 0x3L) << 52)
+                | ((values[valueOffset + 59] & 0x3L) << 54)
+                | ((values[valueOffset + 60] & 0x3L) << 56)
+                | ((values[valueOffset + 61] & 0x3L) << 58)
+                | ((values[valueOffset + 62] & 0x3L) << 60)
+                | ((values[valueOffset + 63] & 0x3L) << 62);
+    }
+
+    private static void pack3(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x7L)
+                | ((values[valueOffset + 1] & 0x7L) << 3)
+                | ((values[valueOffset + 2] & 0x7L) << 6)
+                | ((values[valueOffset + 3] & 0x7L) << 9)
+                | ((values[valueOffset + 4] & 0x7L) << 12)
+                | ((values[valueOffset + 5] & 0x7L) << 15)
+                | ((values[valueOffset + 6] & 0x7L) << 18)
+                | ((values[valueOffset + 7] & 0x7L) << 21)
+                | ((values[valueOffset + 8] & 0x7L) << 24)
+                | ((values[valueOffset + 9] & 0x7L) << 27)
+                | ((values[valueOffset + 10] & 0x7L) << 30)
+                | ((values[valueOffset + 11] & 0x7L) << 33)
+                | ((values[valueOffset + 12] & 0x7L) << 36)
+                | ((values[valueOffset + 13] & 0x7L) << 39)
+                | ((values[valueOffset + 14] & 0x7L) << 42)
+                | ((values[valueOffset + 15] & 0x7L) << 45)
+                | ((values[valueOffset + 16] & 0x7L) << 48)
+                | ((values[valueOffset + 17] & 0x7L) << 51)
+                | ((values[valueOffset + 18] & 0x7L) << 54)
+                | ((values[valueOffset + 19] & 0x7L) << 57)
+                | ((values[valueOffset + 20] & 0x7L) << 60)
+                | ((values[valueOffset + 21] & 0x7L) << 63);
+        words[wordOffset + 1] = ((values[valueOffset + 21] & 0x7L) >>> 1)
+                | ((values[valueOffset + 22] & 0x7L) << 2)
+                | ((values[valueOffset + 23] & 0x7L) << 5)
+                | ((values[valueOffset + 24] & 0x7L) << 8)
+                | ((values[valueOffset + 25] & 0x7L) << 11)
+                | ((values[valueOffset + 26] & 0x7L) << 14)
+                | ((values[valueOffset + 27] & 0x7L) << 17)
+                | ((values[valueOffset + 28] & 0x7L) << 20)
+                | ((values[valueOffset + 29] & 0x7L) << 23)
+                | ((values[valueOffset + 30] & 0x7L) << 26)
+                | ((values[valueOffset + 31] & 0x7L) << 29)
+                | ((values[valueOffset + 32] & 0x7L) << 32)
+                | ((values[valueOffset + 33] & 0x7L) << 35)
+                | ((values[valueOffset + 34] & 0x7L) << 38)
+                | ((values[valueOffset + 35] & 0x7L) << 41)
+                | ((values[valueOffset + 36] & 0x7L) << 44)
+                | ((values[valueOffset + 37] & 0x7L) << 47)
+                | ((values[valueOffset + 38] & 0x7L) << 50)
+                | ((values[valueOffset + 39] & 0x7L) << 53)
+                | ((values[valueOffset + 40] & 0x7L) << 56)
+                | ((values[valueOffset + 41] & 0x7L) << 59)
+                | ((values[valueOffset + 42] & 0x7L) << 62);
+        words[wordOffset + 2] = ((values[valueOffset + 42] & 0x7L) >>> 2)
+                | ((values[valueOffset + 43] & 0x7L) << 1)
+                | ((values[valueOffset + 44] & 0x7L) << 4)
+                | ((values[valueOffset + 45] & 0x7L) << 7)
+                | ((values[valueOffset + 46] & 0x7L) << 10)
+                | ((values[valueOffset + 47] & 0x7L) << 13)
+                | ((values[valueOffset + 48] & 0x7L) << 16)
+                | ((values[valueOffset + 49] & 0x7L) << 19)
+                | ((values[valueOffset + 50] & 0x7L) << 22)
+                | ((values[valueOffset + 51] & 0x7L) << 25)
+                | ((values[valueOffset + 52] & 0x7L) << 28)
+                | ((values[valueOffset + 53] & 0x7L) << 31)
+                | ((values[valueOffset + 54] & 0x7L) << 34)
+                | ((values[valueOffset + 55] & 0x7L) << 37)
+                | ((values[valueOffset + 56] & 0x7L) << 40)
+                | ((values[valueOffset + 57] & 0x7L) << 43)
+                | ((values[valueOffset + 58] & 0x7L) << 46)
+                | ((values[valueOffset + 59] & 0x7L) << 49)
+                | ((values[valueOffset + 60] & 0x7L) << 52)
+                | ((values[valueOffset + 61] & 0x7L) << 55)
+                | ((values[valueOffset + 62] & 0x7L) << 58)
+                | ((values[valueOffset + 63] & 0x7L) << 61);
+    }
+
+    private static void pack4(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0xFL)
+                | ((values[valueOffset + 1] & 0xFL) << 4)
+                | ((values[valueOffset + 2] & 0xFL) << 8)
+                | ((values[valueOffset + 3] & 0xFL) << 12)
+                | ((values[valueOffset + 4] & 0xFL) << 16)
+                | ((values[valueOffset + 5] & 0xFL) << 20)
+                | ((values[valueOffset + 6] & 0xFL) << 24)
+                | ((values[valueOffset + 7] & 0xFL) << 28)
+                | ((values[valueOffset + 8] & 0xFL) << 32)
+                | ((values[valueOffset + 9] & 0xFL) << 36)
+                | ((values[valueOffset + 10] & 0xFL) << 40)
+                | ((values[valueOffset + 11] & 0xFL) << 44)
+                | ((values[valueOffset + 12] & 0xFL) << 48)
+                | ((values[valueOffset + 13] & 0xFL) << 52)
+                | ((values[valueOffset + 14] & 0xFL) << 56)
+                | ((values[valueOffset + 15] & 0xFL) << 60);
+        words[wordOffset + 1] = (values[valueOffset + 16] & 0xFL)
+                | ((values[valueOffset + 17] & 0xFL) << 4)
+                | ((values[valueOffset + 18] & 0xFL) << 8)
+                | ((values[valueOffset + 19] & 0xFL) << 12)
+                | ((values[valueOffset + 20] & 0xFL) << 16)
+                | ((values[valueOffset + 21] & 0xFL) << 20)
+                | ((values[valueOffset + 22] & 0xFL) << 24)
+                | ((values[valueOffset + 23] & 0xFL) << 28)
+                | ((values[valueOffset + 24] & 0xFL) << 32)
+                | ((values[valueOffset + 25] & 0xFL) << 36)
+                | ((values[valueOffset + 26] & 0xFL) << 40)
+                | ((values[valueOffset + 27] & 0xFL) << 44)
+                | ((values[valueOffset + 28] & 0xFL) << 48)
+                | ((values[valueOffset + 29] & 0xFL) << 52)
+                | ((values[valueOffset + 30] & 0xFL) << 56)
+                | ((values[valueOffset + 31] & 0xFL) << 60);
+        words[wordOffset + 2] = (values[valueOffset + 32] & 0xFL)
+                | ((values[valueOffset + 33] & 0xFL) << 4)
+                | ((values[valueOffset + 34] & 0xFL) << 8)
+                | ((values[valueOffset + 35] & 0xFL) << 12)
+                | ((values[valueOffset + 36] & 0xFL) << 16)
+                | ((values[valueOffset + 37] & 0xFL) << 20)
+                | ((values[valueOffset + 38] & 0xFL) << 24)
+                | ((values[valueOffset + 39] & 0xFL) << 28)
+                | ((values[valueOffset + 40] & 0xFL) << 32)
+                | ((values[valueOffset + 41] & 0xFL) << 36)
+                | ((values[valueOffset + 42] & 0xFL) << 40)
+                | ((values[valueOffset + 43] & 0xFL) << 44)
+                | ((values[valueOffset + 44] & 0xFL) << 48)
+                | ((values[valueOffset + 45] & 0xFL) << 52)
+                | ((values[valueOffset + 46] & 0xFL) << 56)
+                | ((values[valueOffset + 47] & 0xFL) << 60);
+        words[wordOffset + 3] = (values[valueOffset + 48] & 0xFL)
+                | ((values[valueOffset + 49] & 0xFL) << 4)
+                | ((values[valueOffset + 50] & 0xFL) << 8)
+                | ((values[valueOffset + 51] & 0xFL) << 12)
+                | ((values[valueOffset + 52] & 0xFL) << 16)
+                | ((values[valueOffset + 53] & 0xFL) << 20)
+                | ((values[valueOffset + 54] & 0xFL) << 24)
+                | ((values[valueOffset + 55] & 0xFL) << 28)
+                | ((values[valueOffset + 56] & 0xFL) << 32)
+                | ((values[valueOffset + 57] & 0xFL) << 36)
+                | ((values[valueOffset + 58] & 0xFL) << 40)
+                | ((values[valueOffset + 59] & 0xFL) << 44)
+                | ((values[valueOffset + 60] & 0xFL) << 48)
+                | ((values[valueOffset + 61] & 0xFL) << 52)
+                | ((values[valueOffset + 62] & 0xFL) << 56)
+                | ((values[valueOffset + 63] & 0xFL) << 60);
+    }
+
+    private static void pack5(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x1FL)
+                | ((values[valueOffset + 1] & 0x1FL) << 5)
+                | ((values[valueOffset + 2] & 0x1FL) << 10)
+                | ((values[valueOffset + 3] & 0x1FL) << 15)
+                | ((values[valueOffset + 4] & 0x1FL) << 20)
+                | ((values[valueOffset + 5] & 0x1FL) << 25)
+                | ((values[valueOffset + 6] & 0x1FL) << 30)
+                | ((values[valueOffset + 7] & 0x1FL) << 35)
+                | ((values[valueOffset + 8] & 0x1FL) << 40)
+                | ((values[valueOffset + 9] & 0x1FL) << 45)
+                | ((values[valueOffset + 10] & 0x1FL) << 50)
+                | ((values[valueOffset + 11] & 0x1FL) << 55)
+                | ((values[valueOffset + 12] & 0x1FL) << 60);
+        words[wordOffset + 1] = ((values[valueOffset + 12] & 0x1FL) >>> 4)
+                | ((values[valueOffset + 13] & 0x1FL) << 1)
+                | ((values[valueOffset + 14] & 0x1FL) << 6)
+                | ((values[valueOffset + 15] & 0x1FL) << 11)
+                | ((values[valueOffset + 16] & 0x1FL) << 16)
+                | ((values[valueOffset + 17] & 0x1FL) << 21)
+                | ((values[valueOffset + 18] & 0x1FL) << 26)
+                | ((values[valueOffset + 19] & 0x1FL) << 31)
+                | ((values[valueOffset + 20] & 0x1FL) << 36)
+                | ((values[valueOffset + 21] & 0x1FL) << 41)
+                | ((values[valueOffset + 22] & 0x1FL) << 46)
+                | ((values[valueOffset + 23] & 0x1FL) << 51)
+                | ((values[valueOffset + 24] & 0x1FL) << 56)
+                | ((values[valueOffset + 25] & 0x1FL) << 61);
+        words[wordOffset + 2] = ((values[valueOffset + 25] & 0x1FL) >>> 3)
+                | ((values[valueOffset + 26] & 0x1FL) << 2)
+                | ((values[valueOffset + 27] & 0x1FL) << 7)
+                | ((values[valueOffset + 28] & 0x1FL) << 12)
+                | ((values[valueOffset + 29] & 0x1FL) << 17)
+                | ((values[valueOffset + 30] & 0x1FL) << 22)
+                | ((values[valueOffset + 31] & 0x1FL) << 27)
+                | ((values[valueOffset + 32] & 0x1FL) << 32)
+                | ((values[valueOffset + 33] & 0x1FL) << 37)
+                | ((values[valueOffset + 34] & 0x1FL) << 42)
+                | ((values[valueOffset + 35] & 0x1FL) << 47)
+                | ((values[valueOffset + 36] & 0x1FL) << 52)
+                | ((values[valueOffset + 37] & 0x1FL) << 57)
+                | ((values[valueOffset + 38] & 0x1FL) << 62);
+        words[wordOffset + 3] = ((values[valueOffset + 38] & 0x1FL) >>> 2)
+                | ((values[valueOffset + 39] & 0x1FL) << 3)
+                | ((values[valueOffset + 40] & 0x1FL) << 8)
+                | ((values[valueOffset + 41] & 0x1FL) << 13)
+                | ((values[valueOffset + 42] & 0x1FL) << 18)
+                | ((values[valueOffset + 43] & 0x1FL) << 23)
+                | ((values[valueOffset + 44] & 0x1FL) << 28)
+                | ((values[valueOffset + 45] & 0x1FL) << 33)
+                | ((values[valueOffset + 46] & 0x1FL) << 38)
+                | ((values[valueOffset + 47] & 0x1FL) << 43)
+                | ((values[valueOffset + 48] & 0x1FL) << 48)
+                | ((values[valueOffset + 49] & 0x1FL) << 53)
+                | ((values[valueOffset + 50] & 0x1FL) << 58)
+                | ((values[valueOffset + 51] & 0x1FL) << 63);
+        words[wordOffset + 4] = ((values[valueOffset + 51] & 0x1FL) >>> 1)
+                | ((values[valueOffset + 52] & 0x1FL) << 4)
+                | ((values[valueOffset + 53] & 0x1FL) << 9)
+                | ((values[valueOffset + 54] & 0x1FL) << 14)
+                | ((values[valueOffset + 55] & 0x1FL) << 19)
+                | ((values[valueOffset + 56] & 0x1FL) << 24)
+                | ((values[valueOffset + 57] & 0x1FL) << 29)
+                | ((values[valueOffset + 58] & 0x1FL) << 34)
+                | ((values[valueOffset + 59] & 0x1FL) << 39)
+                | ((values[valueOffset + 60] & 0x1FL) << 44)
+                | ((values[valueOffset + 61] & 0x1FL) << 49)
+                | ((values[valueOffset + 62] & 0x1FL) << 54)
+                | ((values[valueOffset + 63] & 0x1FL) << 59);
+    }
+
+    private static void pack6(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x3FL)
+                | ((values[valueOffset + 1] & 0x3FL) << 6)
+                | ((values[valueOffset + 2] & 0x3FL) << 12)
+                | ((values[valueOffset + 3] & 0x3FL) << 18)
+                | ((values[valueOffset + 4] & 0x3FL) << 24)
+                | ((values[valueOffset + 5] & 0x3FL) << 30)
+                | ((values[valueOffset + 6] & 0x3FL) << 36)
+                | ((values[valueOffset + 7] & 0x3FL) << 42)
+                | ((values[valueOffset + 8] & 0x3FL) << 48)
+                | ((values[valueOffset + 9] & 0x3FL) << 54)
+                | ((values[valueOffset + 10] & 0x3FL) << 60);
+        words[wordOffset + 1] = ((values[valueOffset + 10] & 0x3FL) >>> 4)
+                | ((values[valueOffset + 11] & 0x3FL) << 2)
+                | ((values[valueOffset + 12] & 0x3FL) << 8)
+                | ((values[valueOffset + 13] & 0x3FL) << 14)
+                | ((values[valueOffset + 14] & 0x3FL) << 20)
+                | ((values[valueOffset + 15] & 0x3FL) << 26)
+                | ((values[valueOffset + 16] & 0x3FL) << 32)
+                | ((values[valueOffset + 17] & 0x3FL) << 38)
+                | ((values[valueOffset + 18] & 0x3FL) << 44)
+                | ((values[valueOffset + 19] & 0x3FL) << 50)
+                | ((values[valueOffset + 20] & 0x3FL) << 56)
+                | ((values[valueOffset + 21] & 0x3FL) << 62);
+        words[wordOffset + 2] = ((values[valueOffset + 21] & 0x3FL) >>> 2)
+                | ((values[valueOffset + 22] & 0x3FL) << 4)
+                | ((values[valueOffset + 23] & 0x3FL) << 10)
+                | ((values[valueOffset + 24] & 0x3FL) << 16)
+                | ((values[valueOffset + 25] & 0x3FL) << 22)
+                | ((values[valueOffset + 26] & 0x3FL) << 28)
+                | ((values[valueOffset + 27] & 0x3FL) << 34)
+                | ((values[valueOffset + 28] & 0x3FL) << 40)
+                | ((values[valueOffset + 29] & 0x3FL) << 46)
+                | ((values[valueOffset + 30] & 0x3FL) << 52)
+                | ((values[valueOffset + 31] & 0x3FL) << 58);
+        words[wordOffset + 3] = (values[valueOffset + 32] & 0x3FL)
+                | ((values[valueOffset + 33] & 0x3FL) << 6)
+                | ((values[valueOffset + 34] & 0x3FL) << 12)
+                | ((values[valueOffset + 35] & 0x3FL) << 18)
+                | ((values[valueOffset + 36] & 0x3FL) << 24)
+                | ((values[valueOffset + 37] & 0x3FL) << 30)
+                | ((values[valueOffset + 38] & 0x3FL) << 36)
+                | ((values[valueOffset + 39] & 0x3FL) << 42)
+                | ((values[valueOffset + 40] & 0x3FL) << 48)
+                | ((values[valueOffset + 41] & 0x3FL) << 54)
+                | ((values[valueOffset + 42] & 0x3FL) << 60);
+        words[wordOffset + 4] = ((values[valueOffset + 42] & 0x3FL) >>> 4)
+                | ((values[valueOffset + 43] & 0x3FL) << 2)
+                | ((values[valueOffset + 44] & 0x3FL) << 8)
+                | ((values[valueOffset + 45] & 0x3FL) << 14)
+                | ((values[valueOffset + 46] & 0x3FL) << 20)
+                | ((values[valueOffset + 47] & 0x3FL) << 26)
+                | ((values[valueOffset + 48] & 0x3FL) << 32)
+                | ((values[valueOffset + 49] & 0x3FL) << 38)
+                | ((values[valueOffset + 50] & 0x3FL) << 44)
+                | ((values[valueOffset + 51] & 0x3FL) << 50)
+                | ((values[valueOffset + 52] & 0x3FL) << 56)
+                | ((values[valueOffset + 53] & 0x3FL) << 62);
+        words[wordOffset + 5] = ((values[valueOffset + 53] & 0x3FL) >>> 2)
+                | ((values[valueOffset + 54] & 0x3FL) << 4)
+                | ((values[valueOffset + 55] & 0x3FL) << 10)
+                | ((values[valueOffset + 56] & 0x3FL) << 16)
+                | ((values[valueOffset + 57] & 0x3FL) << 22)
+                | ((values[valueOffset + 58] & 0x3FL) << 28)
+                | ((values[valueOffset + 59] & 0x3FL) << 34)
+                | ((values[valueOffset + 60] & 0x3FL) << 40)
+                | ((values[valueOffset + 61] & 0x3FL) << 46)
+                | ((values[valueOffset + 62] & 0x3FL) << 52)
+                | ((values[valueOffset + 63] & 0x3FL) << 58);
+    }
+
+    private static void pack7(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x7FL)
+                | ((values[valueOffset + 1] & 0x7FL) << 7)
+                | ((values[valueOffset + 2] & 0x7FL) << 14)
+                | ((values[valueOffset + 3] & 0x7FL) << 21)
+                | ((values[valueOffset + 4] & 0x7FL) << 28)
+                | ((values[valueOffset + 5] & 0x7FL) << 35)
+                | ((values[valueOffset + 6] & 0x7FL) << 42)
+                | ((values[valueOffset + 7] & 0x7FL) << 49)
+                | ((values[valueOffset + 8] & 0x7FL) << 56)
+                | ((values[valueOffset + 9] & 0x7FL) << 63);
+        words[wordOffset + 1] = ((values[valueOffset + 9] & 0x7FL) >>> 1)
+                | ((values[valueOffset + 10] & 0x7FL) << 6)
+                | ((values[valueOffset + 11] & 0x7FL) << 13)
+                | ((values[valueOffset + 12] & 0x7FL) << 20)
+                | ((values[valueOffset + 13] & 0x7FL) << 27)
+                | ((values[valueOffset + 14] & 0x7FL) << 34)
+                | ((values[valueOffset + 15] & 0x7FL) << 41)
+                | ((values[valueOffset + 16] & 0x7FL) << 48)
+                | ((values[valueOffset + 17] & 0x7FL) << 55)
+                | ((values[valueOffset + 18] & 0x7FL) << 62);
+        words[wordOffset + 2] = ((values[valueOffset + 18] & 0x7FL) >>> 2)
+                | ((values[valueOffset + 19] & 0x7FL) << 5)
+                | ((values[valueOffset + 20] & 0x7FL) << 12)
+                | ((values[valueOffset + 21] & 0x7FL) << 19)
+                | ((values[valueOffset + 22] & 0x7FL) << 26)
+                | ((values[valueOffset + 23] & 0x7FL) << 33)
+                | ((values[valueOffset + 24] & 0x7FL) << 40)
+                | ((values[valueOffset + 25] & 0x7FL) << 47)
+                | ((values[valueOffset + 26] & 0x7FL) << 54)
+                | ((values[valueOffset + 27] & 0x7FL) << 61);
+        words[wordOffset + 3] = ((values[valueOffset + 27] & 0x7FL) >>> 3)
+                | ((values[valueOffset + 28] & 0x7FL) << 4)
+                | ((values[valueOffset + 29] & 0x7FL) << 11)
+                | ((values[valueOffset + 30] & 0x7FL) << 18)
+                | ((values[valueOffset + 31] & 0x7FL) << 25)
+                | ((values[valueOffset + 32] & 0x7FL) << 32)
+                | ((values[valueOffset + 33] & 0x7FL) << 39)
+                | ((values[valueOffset + 34] & 0x7FL) << 46)
+                | ((values[valueOffset + 35] & 0x7FL) << 53)
+                | ((values[valueOffset + 36] & 0x7FL) << 60);
+        words[wordOffset + 4] = ((values[valueOffset + 36] & 0x7FL) >>> 4)
+                | ((values[valueOffset + 37] & 0x7FL) << 3)
+                | ((values[valueOffset + 38] & 0x7FL) << 10)
+                | ((values[valueOffset + 39] & 0x7FL) << 17)
+                | ((values[valueOffset + 40] & 0x7FL) << 24)
+                | ((values[valueOffset + 41] & 0x7FL) << 31)
+                | ((values[valueOffset + 42] & 0x7FL) << 38)
+                | ((values[valueOffset + 43] & 0x7FL) << 45)
+                | ((values[valueOffset + 44] & 0x7FL) << 52)
+                | ((values[valueOffset + 45] & 0x7FL) << 59);
+        words[wordOffset + 5] = ((values[valueOffset + 45] & 0x7FL) >>> 5)
+                | ((values[valueOffset + 46] & 0x7FL) << 2)
+                | ((values[valueOffset + 47] & 0x7FL) << 9)
+                | ((values[valueOffset + 48] & 0x7FL) << 16)
+                | ((values[valueOffset + 49] & 0x7FL) << 23)
+                | ((values[valueOffset + 50] & 0x7FL) << 30)
+                | ((values[valueOffset + 51] & 0x7FL) << 37)
+                | ((values[valueOffset + 52] & 0x7FL) << 44)
+                | ((values[valueOffset + 53] & 0x7FL) << 51)
+                | ((values[valueOffset + 54] & 0x7FL) << 58);
+        words[wordOffset + 6] = ((values[valueOffset + 54] & 0x7FL) >>> 6)
+                | ((values[valueOffset + 55] & 0x7FL) << 1)
+                | ((values[valueOffset + 56] & 0x7FL) << 8)
+                | ((values[valueOffset + 57] & 0x7FL) << 15)
+                | ((values[valueOffset + 58] & 0x7FL) << 22)
+                | ((values[valueOffset + 59] & 0x7FL) << 29)
+                | ((values[valueOffset + 60] & 0x7FL) << 36)
+                | ((values[valueOffset + 61] & 0x7FL) << 43)
+                | ((values[valueOffset + 62] & 0x7FL) << 50)
+                | ((values[valueOffset + 63] & 0x7FL) << 57);
+    }
+
+    private static void pack8(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0xFFL)
+                | ((values[valueOffset + 1] & 0xFFL) << 8)
+                | ((values[valueOffset + 2] & 0xFFL) << 16)
+                | ((values[valueOffset + 3] & 0xFFL) << 24)
+                | ((values[valueOffset + 4] & 0xFFL) << 32)
+                | ((values[valueOffset + 5] & 0xFFL) << 40)
+                | ((values[valueOffset + 6] & 0xFFL) << 48)
+                | ((values[valueOffset + 7] & 0xFFL) << 56);
+        words[wordOffset + 1] = (values[valueOffset + 8] & 0xFFL)
+                | ((values[valueOffset + 9] & 0xFFL) << 8)
+                | ((values[valueOffset + 10] & 0xFFL) << 16)
+                | ((values[valueOffset + 11] & 0xFFL) << 24)
+                | ((values[valueOffset + 12] & 0xFFL) << 32)
+                | ((values[valueOffset + 13] & 0xFFL) << 40)
+                | ((values[valueOffset + 14] & 0xFFL) << 48)
+                | ((values[valueOffset + 15] & 0xFFL) << 56);
+        words[wordOffset + 2] = (values[valueOffset + 16] & 0xFFL)
+                | ((values[valueOffset + 17] & 0xFFL) << 8)
+                | ((values[valueOffset + 18] & 0xFFL) << 16)
+                | ((values[valueOffset + 19] & 0xFFL) << 24)
+                | ((values[valueOffset + 20] & 0xFFL) << 32)
+                | ((values[valueOffset + 21] & 0xFFL) << 40)
+                | ((values[valueOffset + 22] & 0xFFL) << 48)
+                | ((values[valueOffset + 23] & 0xFFL) << 56);
+        words[wordOffset + 3] = (values[valueOffset + 24] & 0xFFL)
+                | ((values[valueOffset + 25] & 0xFFL) << 8)
+                | ((values[valueOffset + 26] & 0xFFL) << 16)
+                | ((values[valueOffset + 27] & 0xFFL) << 24)
+                | ((values[valueOffset + 28] & 0xFFL) << 32)
+                | ((values[valueOffset + 29] & 0xFFL) << 40)
+                | ((values[valueOffset + 30] & 0xFFL) << 48)
+                | ((values[valueOffset + 31] & 0xFFL) << 56);
+        words[wordOffset + 4] = (values[valueOffset + 32] & 0xFFL)
+                | ((values[valueOffset + 33] & 0xFFL) << 8)
+                | ((values[valueOffset + 34] & 0xFFL) << 16)
+                | ((values[valueOffset + 35] & 0xFFL) << 24)
+                | ((values[valueOffset + 36] & 0xFFL) << 32)
+                | ((values[valueOffset + 37] & 0xFFL) << 40)
+                | ((values[valueOffset + 38] & 0xFFL) << 48)
+                | ((values[valueOffset + 39] & 0xFFL) << 56);
+        words[wordOffset + 5] = (values[valueOffset + 40] & 0xFFL)
+                | ((values[valueOffset + 41] & 0xFFL) << 8)
+                | ((values[valueOffset + 42] & 0xFFL) << 16)
+                | ((values[valueOffset + 43] & 0xFFL) << 24)
+                | ((values[valueOffset + 44] & 0xFFL) << 32)
+                | ((values[valueOffset + 45] & 0xFFL) << 40)
+                | ((values[valueOffset + 46] & 0xFFL) << 48)
+                | ((values[valueOffset + 47] & 0xFFL) << 56);
+        words[wordOffset + 6] = (values[valueOffset + 48] & 0xFFL)
+                | ((values[valueOffset + 49] & 0xFFL) << 8)
+                | ((values[valueOffset + 50] & 0xFFL) << 16)
+                | ((values[valueOffset + 51] & 0xFFL) << 24)
+                | ((values[valueOffset + 52] & 0xFFL) << 32)
+                | ((values[valueOffset + 53] & 0xFFL) << 40)
+                | ((values[valueOffset + 54] & 0xFFL) << 48)
+                | ((values[valueOffset + 55] & 0xFFL) << 56);
+        words[wordOffset + 7] = (values[valueOffset + 56] & 0xFFL)
+                | ((values[valueOffset + 57] & 0xFFL) << 8)
+                | ((values[valueOffset + 58] & 0xFFL) << 16)
+                | ((values[valueOffset + 59] & 0xFFL) << 24)
+                | ((values[valueOffset + 60] & 0xFFL) << 32)
+                | ((values[valueOffset + 61] & 0xFFL) << 40)
+                | ((values[valueOffset + 62] & 0xFFL) << 48)
+                | ((values[valueOffset + 63] & 0xFFL) << 56);
+    }
+
+    private static void pack9(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x1FFL)
+                | ((values[valueOffset + 1] & 0x1FFL) << 9)
+                | ((values[valueOffset + 2] & 0x1FFL) << 18)
+                | ((values[valueOffset + 3] & 0x1FFL) << 27)
+                | ((values[valueOffset + 4] & 0x1FFL) << 36)
+                | ((values[valueOffset + 5] & 0x1FFL) << 45)
+                | ((values[valueOffset + 6] & 0x1FFL) << 54)
+                | ((values[valueOffset + 7] & 0x1FFL) << 63);
+        words[wordOffset + 1] = ((values[valueOffset + 7] & 0x1FFL) >>> 1)
+                | ((values[valueOffset + 8] & 0x1FFL) << 8)
+                | ((values[valueOffset + 9] & 0x1FFL) << 17)
+                | ((values[valueOffset + 10] & 0x1FFL) << 26)
+                | ((values[valueOffset + 11] & 0x1FFL) << 35)
+                | ((values[valueOffset + 12] & 0x1FFL) << 44)
+                | ((values[valueOffset + 13] & 0x1FFL) << 53)
+                | ((values[valueOffset + 14] & 0x1FFL) << 62);
+        words[wordOffset + 2] = ((values[valueOffset + 14] & 0x1FFL) >>> 2)
+                | ((values[valueOffset + 15] & 0x1FFL) << 7)
+                | ((values[valueOffset + 16] & 0x1FFL) << 16)
+                | ((values[valueOffset + 17] & 0x1FFL) << 25)
+                | ((values[valueOffset + 18] & 0x1FFL) << 34)
+                | ((values[valueOffset + 19] & 0x1FFL) << 43)
+                | ((values[valueOffset + 20] & 0x1FFL) << 52)
+                | ((values[valueOffset + 21] & 0x1FFL) << 61);
+        words[wordOffset + 3] = ((values[valueOffset + 21] & 0x1FFL) >>> 3)
+                | ((values[valueOffset + 22] & 0x1FFL) << 6)
+                | ((values[valueOffset + 23] & 0x1FFL) << 15)
+                | ((values[valueOffset + 24] & 0x1FFL) << 24)
+                | ((values[valueOffset + 25] & 0x1FFL) << 33)
+                | ((values[valueOffset + 26] & 0x1FFL) << 42)
+                | ((values[valueOffset + 27] & 0x1FFL) << 51)
+                | ((values[valueOffset + 28] & 0x1FFL) << 60);
+        words[wordOffset + 4] = ((values[valueOffset + 28] & 0x1FFL) >>> 4)
+                | ((values[valueOffset + 29] & 0x1FFL) << 5)
+                | ((values[valueOffset + 30] & 0x1FFL) << 14)
+                | ((values[valueOffset + 31] & 0x1FFL) << 23)
+                | ((values[valueOffset + 32] & 0x1FFL) << 32)
+                | ((values[valueOffset + 33] & 0x1FFL) << 41)
+                | ((values[valueOffset + 34] & 0x1FFL) << 50)
+                | ((values[valueOffset + 35] & 0x1FFL) << 59);
+        words[wordOffset + 5] = ((values[valueOffset + 35] & 0x1FFL) >>> 5)
+                | ((values[valueOffset + 36] & 0x1FFL) << 4)
+                | ((values[valueOffset + 37] & 0x1FFL) << 13)
+                | ((values[valueOffset + 38] & 0x1FFL) << 22)
+                | ((values[valueOffset + 39] & 0x1FFL) << 31)
+                | ((values[valueOffset + 40] & 0x1FFL) << 40)
+                | ((values[valueOffset + 41] & 0x1FFL) << 49)
+                | ((values[valueOffset + 42] & 0x1FFL) << 58);
+        words[wordOffset + 6] = ((values[valueOffset + 42] & 0x1FFL) >>> 6)
+                | ((values[valueOffset + 43] & 0x1FFL) << 3)
+                | ((values[valueOffset + 44] & 0x1FFL) << 12)
+                | ((values[valueOffset + 45] & 0x1FFL) << 21)
+                | ((values[valueOffset + 46] & 0x1FFL) << 30)
+                | ((values[valueOffset + 47] & 0x1FFL) << 39)
+                | ((values[valueOffset + 48] & 0x1FFL) << 48)
+                | ((values[valueOffset + 49] & 0x1FFL) << 57);
+        words[wordOffset + 7] = ((values[valueOffset + 49] & 0x1FFL) >>> 7)
+                | ((values[valueOffset + 50] & 0x1FFL) << 2)
+                | ((values[valueOffset + 51] & 0x1FFL) << 11)
+                | ((values[valueOffset + 52] & 0x1FFL) << 20)
+                | ((values[valueOffset + 53] & 0x1FFL) << 29)
+                | ((values[valueOffset + 54] & 0x1FFL) << 38)
+                | ((values[valueOffset + 55] & 0x1FFL) << 47)
+                | ((values[valueOffset + 56] & 0x1FFL) << 56);
+        words[wordOffset + 8] = ((values[valueOffset + 56] & 0x1FFL) >>> 8)
+                | ((values[valueOffset + 57] & 0x1FFL) << 1)
+                | ((values[valueOffset + 58] & 0x1FFL) << 10)
+                | ((values[valueOffset + 59] & 0x1FFL) << 19)
+                | ((values[valueOffset + 60] & 0x1FFL) << 28)
+                | ((values[valueOffset + 61] & 0x1FFL) << 37)
+                | ((values[valueOffset + 62] & 0x1FFL) << 46)
+                | ((values[valueOffset + 63] & 0x1FFL) << 55);
+    }
+
+    private static void pack10(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x3FFL)
+                | ((values[valueOffset + 1] & 0x3FFL) << 10)
+                | ((values[valueOffset + 2] & 0x3FFL) << 20)
+                | ((values[valueOffset + 3] & 0x3FFL) << 30)
+                | ((values[valueOffset + 4] & 0x3FFL) << 40)
+                | ((values[valueOffset + 5] & 0x3FFL) << 50)
+                | ((values[valueOffset + 6] & 0x3FFL) << 60);
+        words[wordOffset + 1] = ((values[valueOffset + 6] & 0x3FFL) >>> 4)
+                | ((values[valueOffset + 7] & 0x3FFL) << 6)
+                | ((values[valueOffset + 8] & 0x3FFL) << 16)
+                | ((values[valueOffset + 9] & 0x3FFL) << 26)
+                | ((values[valueOffset + 10] & 0x3FFL) << 36)
+                | ((values[valueOffset + 11] & 0x3FFL) << 46)
+                | ((values[valueOffset + 12] & 0x3FFL) << 56);
+        words[wordOffset + 2] = ((values[valueOffset + 12] & 0x3FFL) >>> 8)
+                | ((values[valueOffset + 13] & 0x3FFL) << 2)
+                | ((values[valueOffset + 14] & 0x3FFL) << 12)
+                | ((values[valueOffset + 15] & 0x3FFL) << 22)
+                | ((values[valueOffset + 16] & 0x3FFL) << 32)
+                | ((values[valueOffset + 17] & 0x3FFL) << 42)
+                | ((values[valueOffset + 18] & 0x3FFL) << 52)
+                | ((values[valueOffset + 19] & 0x3FFL) << 62);
+        words[wordOffset + 3] = ((values[valueOffset + 19] & 0x3FFL) >>> 2)
+                | ((values[valueOffset + 20] & 0x3FFL) << 8)
+                | ((values[valueOffset + 21] & 0x3FFL) << 18)
+                | ((values[valueOffset + 22] & 0x3FFL) << 28)
+                | ((values[valueOffset + 23] & 0x3FFL) << 38)
+                | ((values[valueOffset + 24] & 0x3FFL) << 48)
+                | ((values[valueOffset + 25] & 0x3FFL) << 58);
+        words[wordOffset + 4] = ((values[valueOffset + 25] & 0x3FFL) >>> 6)
+                | ((values[valueOffset + 26] & 0x3FFL) << 4)
+                | ((values[valueOffset + 27] & 0x3FFL) << 14)
+                | ((values[valueOffset + 28] & 0x3FFL) << 24)
+                | ((values[valueOffset + 29] & 0x3FFL) << 34)
+                | ((values[valueOffset + 30] & 0x3FFL) << 44)
+                | ((values[valueOffset + 31] & 0x3FFL) << 54);
+        words[wordOffset + 5] = (values[valueOffset + 32] & 0x3FFL)
+                | ((values[valueOffset + 33] & 0x3FFL) << 10)
+                | ((values[valueOffset + 34] & 0x3FFL) << 20)
+                | ((values[valueOffset + 35] & 0x3FFL) << 30)
+                | ((values[valueOffset + 36] & 0x3FFL) << 40)
+                | ((values[valueOffset + 37] & 0x3FFL) << 50)
+                | ((values[valueOffset + 38] & 0x3FFL) << 60);
+        words[wordOffset + 6] = ((values[valueOffset + 38] & 0x3FFL) >>> 4)
+                | ((values[valueOffset + 39] & 0x3FFL) << 6)
+                | ((values[valueOffset + 40] & 0x3FFL) << 16)
+                | ((values[valueOffset + 41] & 0x3FFL) << 26)
+                | ((values[valueOffset + 42] & 0x3FFL) << 36)
+                | ((values[valueOffset + 43] & 0x3FFL) << 46)
+                | ((values[valueOffset + 44] & 0x3FFL) << 56);
+        words[wordOffset + 7] = ((values[valueOffset + 44] & 0x3FFL) >>> 8)
+                | ((values[valueOffset + 45] & 0x3FFL) << 2)
+                | ((values[valueOffset + 46] & 0x3FFL) << 12)
+                | ((values[valueOffset + 47] & 0x3FFL) << 22)
+                | ((values[valueOffset + 48] & 0x3FFL) << 32)
+                | ((values[valueOffset + 49] & 0x3FFL) << 42)
+                | ((values[valueOffset + 50] & 0x3FFL) << 52)
+                | ((values[valueOffset + 51] & 0x3FFL) << 62);
+        words[wordOffset + 8] = ((values[valueOffset + 51] & 0x3FFL) >>> 2)
+                | ((values[valueOffset + 52] & 0x3FFL) << 8)
+                | ((values[valueOffset + 53] & 0x3FFL) << 18)
+                | ((values[valueOffset + 54] & 0x3FFL) << 28)
+                | ((values[valueOffset + 55] & 0x3FFL) << 38)
+                | ((values[valueOffset + 56] & 0x3FFL) << 48)
+                | ((values[valueOffset + 57] & 0x3FFL) << 58);
+        words[wordOffset + 9] = ((values[valueOffset + 57] & 0x3FFL) >>> 6)
+                | ((values[valueOffset + 58] & 0x3FFL) << 4)
+                | ((values[valueOffset + 59] & 0x3FFL) << 14)
+                | ((values[valueOffset + 60] & 0x3FFL) << 24)
+                | ((values[valueOffset + 61] & 0x3FFL) << 34)
+                | ((values[valueOffset + 62] & 0x3FFL) << 44)
+                | ((values[valueOffset + 63] & 0x3FFL) << 54);
+    }
+
+    private static void pack11(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x7FFL)
+                | ((values[valueOffset + 1] & 0x7FFL) << 11)
+                | ((values[valueOffset + 2] & 0x7FFL) << 22)
+                | ((values[valueOffset + 3] & 0x7FFL) << 33)
+                | ((values[valueOffset + 4] & 0x7FFL) << 44)
+                | ((values[valueOffset + 5] & 0x7FFL) << 55);
+        words[wordOffset + 1] = ((values[valueOffset + 5] & 0x7FFL) >>> 9)
+                | ((values[valueOffset + 6] & 0x7FFL) << 2)
+                | ((values[valueOffset + 7] & 0x7FFL) << 13)
+                | ((values[valueOffset + 8] & 0x7FFL) << 24)
+                | ((values[valueOffset + 9] & 0x7FFL) << 35)
+                | ((values[valueOffset + 10] & 0x7FFL) << 46)
+                | ((values[valueOffset + 11] & 0x7FFL) << 57);
+        words[wordOffset + 2] = ((values[valueOffset + 11] & 0x7FFL) >>> 7)
+                | ((values[valueOffset + 12] & 0x7FFL) << 4)
+                | ((values[valueOffset + 13] & 0x7FFL) << 15)
+                | ((values[valueOffset + 14] & 0x7FFL) << 26)
+                | ((values[valueOffset + 15] & 0x7FFL) << 37)
+                | ((values[valueOffset + 16] & 0x7FFL) << 48)
+                | ((values[valueOffset + 17] & 0x7FFL) << 59);
+        words[wordOffset + 3] = ((values[valueOffset + 17] & 0x7FFL) >>> 5)
+                | ((values[valueOffset + 18] & 0x7FFL) << 6)
+                | ((values[valueOffset + 19] & 0x7FFL) << 17)
+                | ((values[valueOffset + 20] & 0x7FFL) << 28)
+                | ((values[valueOffset + 21] & 0x7FFL) << 39)
+                | ((values[valueOffset + 22] & 0x7FFL) << 50)
+                | ((values[valueOffset + 23] & 0x7FFL) << 61);
+        words[wordOffset + 4] = ((values[valueOffset + 23] & 0x7FFL) >>> 3)
+                | ((values[valueOffset + 24] & 0x7FFL) << 8)
+                | ((values[valueOffset + 25] & 0x7FFL) << 19)
+                | ((values[valueOffset + 26] & 0x7FFL) << 30)
+                | ((values[valueOffset + 27] & 0x7FFL) << 41)
+                | ((values[valueOffset + 28] & 0x7FFL) << 52)
+                | ((values[valueOffset + 29] & 0x7FFL) << 63);
+        words[wordOffset + 5] = ((values[valueOffset + 29] & 0x7FFL) >>> 1)
+                | ((values[valueOffset + 30] & 0x7FFL) << 10)
+                | ((values[valueOffset + 31] & 0x7FFL) << 21)
+                | ((values[valueOffset + 32] & 0x7FFL) << 32)
+                | ((values[valueOffset + 33] & 0x7FFL) << 43)
+                | ((values[valueOffset + 34] & 0x7FFL) << 54);
+        words[wordOffset + 6] = ((values[valueOffset + 34] & 0x7FFL) >>> 10)
+                | ((values[valueOffset + 35] & 0x7FFL) << 1)
+                | ((values[valueOffset + 36] & 0x7FFL) << 12)
+                | ((values[valueOffset + 37] & 0x7FFL) << 23)
+                | ((values[valueOffset + 38] & 0x7FFL) << 34)
+                | ((values[valueOffset + 39] & 0x7FFL) << 45)
+                | ((values[valueOffset + 40] & 0x7FFL) << 56);
+        words[wordOffset + 7] = ((values[valueOffset + 40] & 0x7FFL) >>> 8)
+                | ((values[valueOffset + 41] & 0x7FFL) << 3)
+                | ((values[valueOffset + 42] & 0x7FFL) << 14)
+                | ((values[valueOffset + 43] & 0x7FFL) << 25)
+                | ((values[valueOffset + 44] & 0x7FFL) << 36)
+                | ((values[valueOffset + 45] & 0x7FFL) << 47)
+                | ((values[valueOffset + 46] & 0x7FFL) << 58);
+        words[wordOffset + 8] = ((values[valueOffset + 46] & 0x7FFL) >>> 6)
+                | ((values[valueOffset + 47] & 0x7FFL) << 5)
+                | ((values[valueOffset + 48] & 0x7FFL) << 16)
+                | ((values[valueOffset + 49] & 0x7FFL) << 27)
+                | ((values[valueOffset + 50] & 0x7FFL) << 38)
+                | ((values[valueOffset + 51] & 0x7FFL) << 49)
+                | ((values[valueOffset + 52] & 0x7FFL) << 60);
+        words[wordOffset + 9] = ((values[valueOffset + 52] & 0x7FFL) >>> 4)
+                | ((values[valueOffset + 53] & 0x7FFL) << 7)
+                | ((values[valueOffset + 54] & 0x7FFL) << 18)
+                | ((values[valueOffset + 55] & 0x7FFL) << 29)
+                | ((values[valueOffset + 56] & 0x7FFL) << 40)
+                | ((values[valueOffset + 57] & 0x7FFL) << 51)
+                | ((values[valueOffset + 58] & 0x7FFL) << 62);
+        words[wordOffset + 10] = ((values[valueOffset + 58] & 0x7FFL) >>> 2)
+                | ((values[valueOffset + 59] & 0x7FFL) << 9)
+                | ((values[valueOffset + 60] & 0x7FFL) << 20)
+                | ((values[valueOffset + 61] & 0x7FFL) << 31)
+                | ((values[valueOffset + 62] & 0x7FFL) << 42)
+                | ((values[valueOffset + 63] & 0x7FFL) << 53);
+    }
+
+    private static void pack12(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0xFFFL)
+                | ((values[valueOffset + 1] & 0xFFFL) << 12)
+                | ((values[valueOffset + 2] & 0xFFFL) << 24)
+                | ((values[valueOffset + 3] & 0xFFFL) << 36)
+                | ((values[valueOffset + 4] & 0xFFFL) << 48)
+                | ((values[valueOffset + 5] & 0xFFFL) << 60);
+        words[wordOffset + 1] = ((values[valueOffset + 5] & 0xFFFL) >>> 4)
+                | ((values[valueOffset + 6] & 0xFFFL) << 8)
+                | ((values[valueOffset + 7] & 0xFFFL) << 20)
+                | ((values[valueOffset + 8] & 0xFFFL) << 32)
+                | ((values[valueOffset + 9] & 0xFFFL) << 44)
+                | ((values[valueOffset + 10] & 0xFFFL) << 56);
+        words[wordOffset + 2] = ((values[valueOffset + 10] & 0xFFFL) >>> 8)
+                | ((values[valueOffset + 11] & 0xFFFL) << 4)
+                | ((values[valueOffset + 12] & 0xFFFL) << 16)
+                | ((values[valueOffset + 13] & 0xFFFL) << 28)
+                | ((values[valueOffset + 14] & 0xFFFL) << 40)
+                | ((values[valueOffset + 15] & 0xFFFL) << 52);
+        words[wordOffset + 3] = (values[valueOffset + 16] & 0xFFFL)
+                | ((values[valueOffset + 17] & 0xFFFL) << 12)
+                | ((values[valueOffset + 18] & 0xFFFL) << 24)
+                | ((values[valueOffset + 19] & 0xFFFL) << 36)
+                | ((values[valueOffset + 20] & 0xFFFL) << 48)
+                | ((values[valueOffset + 21] & 0xFFFL) << 60);
+        words[wordOffset + 4] = ((values[valueOffset + 21] & 0xFFFL) >>> 4)
+                | ((values[valueOffset + 22] & 0xFFFL) << 8)
+                | ((values[valueOffset + 23] & 0xFFFL) << 20)
+                | ((values[valueOffset + 24] & 0xFFFL) << 32)
+                | ((values[valueOffset + 25] & 0xFFFL) << 44)
+                | ((values[valueOffset + 26] & 0xFFFL) << 56);
+        words[wordOffset + 5] = ((values[valueOffset + 26] & 0xFFFL) >>> 8)
+                | ((values[valueOffset + 27] & 0xFFFL) << 4)
+                | ((values[valueOffset + 28] & 0xFFFL) << 16)
+                | ((values[valueOffset + 29] & 0xFFFL) << 28)
+                | ((values[valueOffset + 30] & 0xFFFL) << 40)
+                | ((values[valueOffset + 31] & 0xFFFL) << 52);
+        words[wordOffset + 6] = (values[valueOffset + 32] & 0xFFFL)
+                | ((values[valueOffset + 33] & 0xFFFL) << 12)
+                | ((values[valueOffset + 34] & 0xFFFL) << 24)
+                | ((values[valueOffset + 35] & 0xFFFL) << 36)
+                | ((values[valueOffset + 36] & 0xFFFL) << 48)
+                | ((values[valueOffset + 37] & 0xFFFL) << 60);
+        words[wordOffset + 7] = ((values[valueOffset + 37] & 0xFFFL) >>> 4)
+                | ((values[valueOffset + 38] & 0xFFFL) << 8)
+                | ((values[valueOffset + 39] & 0xFFFL) << 20)
+                | ((values[valueOffset + 40] & 0xFFFL) << 32)
+                | ((values[valueOffset + 41] & 0xFFFL) << 44)
+                | ((values[valueOffset + 42] & 0xFFFL) << 56);
+        words[wordOffset + 8] = ((values[valueOffset + 42] & 0xFFFL) >>> 8)
+                | ((values[valueOffset + 43] & 0xFFFL) << 4)
+                | ((values[valueOffset + 44] & 0xFFFL) << 16)
+                | ((values[valueOffset + 45] & 0xFFFL) << 28)
+                | ((values[valueOffset + 46] & 0xFFFL) << 40)
+                | ((values[valueOffset + 47] & 0xFFFL) << 52);
+        words[wordOffset + 9] = (values[valueOffset + 48] & 0xFFFL)
+                | ((values[valueOffset + 49] & 0xFFFL) << 12)
+                | ((values[valueOffset + 50] & 0xFFFL) << 24)
+                | ((values[valueOffset + 51] & 0xFFFL) << 36)
+                | ((values[valueOffset + 52] & 0xFFFL) << 48)
+                | ((values[valueOffset + 53] & 0xFFFL) << 60);
+        words[wordOffset + 10] = ((values[valueOffset + 53] & 0xFFFL) >>> 4)
+                | ((values[valueOffset + 54] & 0xFFFL) << 8)
+                | ((values[valueOffset + 55] & 0xFFFL) << 20)
+                | ((values[valueOffset + 56] & 0xFFFL) << 32)
+                | ((values[valueOffset + 57] & 0xFFFL) << 44)
+                | ((values[valueOffset + 58] & 0xFFFL) << 56);
+        words[wordOffset + 11] = ((values[valueOffset + 58] & 0xFFFL) >>> 8)
+                | ((values[valueOffset + 59] & 0xFFFL) << 4)
+                | ((values[valueOffset + 60] & 0xFFFL) << 16)
+                | ((values[valueOffset + 61] & 0xFFFL) << 28)
+                | ((values[valueOffset + 62] & 0xFFFL) << 40)
+                | ((values[valueOffset + 63] & 0xFFFL) << 52);
+    }
+
+    private static void pack13(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x1FFFL)
+                | ((values[valueOffset + 1] & 0x1FFFL) << 13)
+                | ((values[valueOffset + 2] & 0x1FFFL) << 26)
+                | ((values[valueOffset + 3] & 0x1FFFL) << 39)
+                | ((values[valueOffset + 4] & 0x1FFFL) << 52);
+        words[wordOffset + 1] = ((values[valueOffset + 4] & 0x1FFFL) >>> 12)
+                | ((values[valueOffset + 5] & 0x1FFFL) << 1)
+                | ((values[valueOffset + 6] & 0x1FFFL) << 14)
+                | ((values[valueOffset + 7] & 0x1FFFL) << 27)
+                | ((values[valueOffset + 8] & 0x1FFFL) << 40)
+                | ((values[valueOffset + 9] & 0x1FFFL) << 53);
+        words[wordOffset + 2] = ((values[valueOffset + 9] & 0x1FFFL) >>> 11)
+                | ((values[valueOffset + 10] & 0x1FFFL) << 2)
+                | ((values[valueOffset + 11] & 0x1FFFL) << 15)
+                | ((values[valueOffset + 12] & 0x1FFFL) << 28)
+                | ((values[valueOffset + 13] & 0x1FFFL) << 41)
+                | ((values[valueOffset + 14] & 0x1FFFL) << 54);
+        words[wordOffset + 3] = ((values[valueOffset + 14] & 0x1FFFL) >>> 10)
+                | ((values[valueOffset + 15] & 0x1FFFL) << 3)
+                | ((values[valueOffset + 16] & 0x1FFFL) << 16)
+                | ((values[valueOffset + 17] & 0x1FFFL) << 29)
+                | ((values[valueOffset + 18] & 0x1FFFL) << 42)
+                | ((values[valueOffset + 19] & 0x1FFFL) << 55);
+        words[wordOffset + 4] = ((values[valueOffset + 19] & 0x1FFFL) >>> 9)
+                | ((values[valueOffset + 20] & 0x1FFFL) << 4)
+                | ((values[valueOffset + 21] & 0x1FFFL) << 17)
+                | ((values[valueOffset + 22] & 0x1FFFL) << 30)
+                | ((values[valueOffset + 23] & 0x1FFFL) << 43)
+                | ((values[valueOffset + 24] & 0x1FFFL) << 56);
+        words[wordOffset + 5] = ((values[valueOffset + 24] & 0x1FFFL) >>> 8)
+                | ((values[valueOffset + 25] & 0x1FFFL) << 5)
+                | ((values[valueOffset + 26] & 0x1FFFL) << 18)
+                | ((values[valueOffset + 27] & 0x1FFFL) << 31)
+                | ((values[valueOffset + 28] & 0x1FFFL) << 44)
+                | ((values[valueOffset + 29] & 0x1FFFL) << 57);
+        words[wordOffset + 6] = ((values[valueOffset + 29] & 0x1FFFL) >>> 7)
+                | ((values[valueOffset + 30] & 0x1FFFL) << 6)
+                | ((values[valueOffset + 31] & 0x1FFFL) << 19)
+                | ((values[valueOffset + 32] & 0x1FFFL) << 32)
+                | ((values[valueOffset + 33] & 0x1FFFL) << 45)
+                | ((values[valueOffset + 34] & 0x1FFFL) << 58);
+        words[wordOffset + 7] = ((values[valueOffset + 34] & 0x1FFFL) >>> 6)
+                | ((values[valueOffset + 35] & 0x1FFFL) << 7)
+                | ((values[valueOffset + 36] & 0x1FFFL) << 20)
+                | ((values[valueOffset + 37] & 0x1FFFL) << 33)
+                | ((values[valueOffset + 38] & 0x1FFFL) << 46)
+                | ((values[valueOffset + 39] & 0x1FFFL) << 59);
+        words[wordOffset + 8] = ((values[valueOffset + 39] & 0x1FFFL) >>> 5)
+                | ((values[valueOffset + 40] & 0x1FFFL) << 8)
+                | ((values[valueOffset + 41] & 0x1FFFL) << 21)
+                | ((values[valueOffset + 42] & 0x1FFFL) << 34)
+                | ((values[valueOffset + 43] & 0x1FFFL) << 47)
+                | ((values[valueOffset + 44] & 0x1FFFL) << 60);
+        words[wordOffset + 9] = ((values[valueOffset + 44] & 0x1FFFL) >>> 4)
+                | ((values[valueOffset + 45] & 0x1FFFL) << 9)
+                | ((values[valueOffset + 46] & 0x1FFFL) << 22)
+                | ((values[valueOffset + 47] & 0x1FFFL) << 35)
+                | ((values[valueOffset + 48] & 0x1FFFL) << 48)
+                | ((values[valueOffset + 49] & 0x1FFFL) << 61);
+        words[wordOffset + 10] = ((values[valueOffset + 49] & 0x1FFFL) >>> 3)
+                | ((values[valueOffset + 50] & 0x1FFFL) << 10)
+                | ((values[valueOffset + 51] & 0x1FFFL) << 23)
+                | ((values[valueOffset + 52] & 0x1FFFL) << 36)
+                | ((values[valueOffset + 53] & 0x1FFFL) << 49)
+                | ((values[valueOffset + 54] & 0x1FFFL) << 62);
+        words[wordOffset + 11] = ((values[valueOffset + 54] & 0x1FFFL) >>> 2)
+                | ((values[valueOffset + 55] & 0x1FFFL) << 11)
+                | ((values[valueOffset + 56] & 0x1FFFL) << 24)
+                | ((values[valueOffset + 57] & 0x1FFFL) << 37)
+                | ((values[valueOffset + 58] & 0x1FFFL) << 50)
+                | ((values[valueOffset + 59] & 0x1FFFL) << 63);
+        words[wordOffset + 12] = ((values[valueOffset + 59] & 0x1FFFL) >>> 1)
+                | ((values[valueOffset + 60] & 0x1FFFL) << 12)
+                | ((values[valueOffset + 61] & 0x1FFFL) << 25)
+                | ((values[valueOffset + 62] & 0x1FFFL) << 38)
+                | ((values[valueOffset + 63] & 0x1FFFL) << 51);
+    }
+
+    private static void pack14(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x3FFFL)
+                | ((values[valueOffset + 1] & 0x3FFFL) << 14)
+                | ((values[valueOffset + 2] & 0x3FFFL) << 28)
+                | ((values[valueOffset + 3] & 0x3FFFL) << 42)
+                | ((values[valueOffset + 4] & 0x3FFFL) << 56);
+        words[wordOffset + 1] = ((values[valueOffset + 4] & 0x3FFFL) >>> 8)
+                | ((values[valueOffset + 5] & 0x3FFFL) << 6)
+                | ((values[valueOffset + 6] & 0x3FFFL) << 20)
+                | ((values[valueOffset + 7] & 0x3FFFL) << 34)
+                | ((values[valueOffset + 8] & 0x3FFFL) << 48)
+                | ((values[valueOffset + 9] & 0x3FFFL) << 62);
+        words[wordOffset + 2] = ((values[valueOffset + 9] & 0x3FFFL) >>> 2)
+                | ((values[valueOffset + 10] & 0x3FFFL) << 12)
+                | ((values[valueOffset + 11] & 0x3FFFL) << 26)
+                | ((values[valueOffset + 12] & 0x3FFFL) << 40)
+                | ((values[valueOffset + 13] & 0x3FFFL) << 54);
+        words[wordOffset + 3] = ((values[valueOffset + 13] & 0x3FFFL) >>> 10)
+                | ((values[valueOffset + 14] & 0x3FFFL) << 4)
+                | ((values[valueOffset + 15] & 0x3FFFL) << 18)
+                | ((values[valueOffset + 16] & 0x3FFFL) << 32)
+                | ((values[valueOffset + 17] & 0x3FFFL) << 46)
+                | ((values[valueOffset + 18] & 0x3FFFL) << 60);
+        words[wordOffset + 4] = ((values[valueOffset + 18] & 0x3FFFL) >>> 4)
+                | ((values[valueOffset + 19] & 0x3FFFL) << 10)
+                | ((values[valueOffset + 20] & 0x3FFFL) << 24)
+                | ((values[valueOffset + 21] & 0x3FFFL) << 38)
+                | ((values[valueOffset + 22] & 0x3FFFL) << 52);
+        words[wordOffset + 5] = ((values[valueOffset + 22] & 0x3FFFL) >>> 12)
+                | ((values[valueOffset + 23] & 0x3FFFL) << 2)
+                | ((values[valueOffset + 24] & 0x3FFFL) << 16)
+                | ((values[valueOffset + 25] & 0x3FFFL) << 30)
+                | ((values[valueOffset + 26] & 0x3FFFL) << 44)
+                | ((values[valueOffset + 27] & 0x3FFFL) << 58);
+        words[wordOffset + 6] = ((values[valueOffset + 27] & 0x3FFFL) >>> 6)
+                | ((values[valueOffset + 28] & 0x3FFFL) << 8)
+                | ((values[valueOffset + 29] & 0x3FFFL) << 22)
+                | ((values[valueOffset + 30] & 0x3FFFL) << 36)
+                | ((values[valueOffset + 31] & 0x3FFFL) << 50);
+        words[wordOffset + 7] = (values[valueOffset + 32] & 0x3FFFL)
+                | ((values[valueOffset + 33] & 0x3FFFL) << 14)
+                | ((values[valueOffset + 34] & 0x3FFFL) << 28)
+                | ((values[valueOffset + 35] & 0x3FFFL) << 42)
+                | ((values[valueOffset + 36] & 0x3FFFL) << 56);
+        words[wordOffset + 8] = ((values[valueOffset + 36] & 0x3FFFL) >>> 8)
+                | ((values[valueOffset + 37] & 0x3FFFL) << 6)
+                | ((values[valueOffset + 38] & 0x3FFFL) << 20)
+                | ((values[valueOffset + 39] & 0x3FFFL) << 34)
+                | ((values[valueOffset + 40] & 0x3FFFL) << 48)
+                | ((values[valueOffset + 41] & 0x3FFFL) << 62);
+        words[wordOffset + 9] = ((values[valueOffset + 41] & 0x3FFFL) >>> 2)
+                | ((values[valueOffset + 42] & 0x3FFFL) << 12)
+                | ((values[valueOffset + 43] & 0x3FFFL) << 26)
+                | ((values[valueOffset + 44] & 0x3FFFL) << 40)
+                | ((values[valueOffset + 45] & 0x3FFFL) << 54);
+        words[wordOffset + 10] = ((values[valueOffset + 45] & 0x3FFFL) >>> 10)
+                | ((values[valueOffset + 46] & 0x3FFFL) << 4)
+                | ((values[valueOffset + 47] & 0x3FFFL) << 18)
+                | ((values[valueOffset + 48] & 0x3FFFL) << 32)
+                | ((values[valueOffset + 49] & 0x3FFFL) << 46)
+                | ((values[valueOffset + 50] & 0x3FFFL) << 60);
+        words[wordOffset + 11] = ((values[valueOffset + 50] & 0x3FFFL) >>> 4)
+                | ((values[valueOffset + 51] & 0x3FFFL) << 10)
+                | ((values[valueOffset + 52] & 0x3FFFL) << 24)
+                | ((values[valueOffset + 53] & 0x3FFFL) << 38)
+                | ((values[valueOffset + 54] & 0x3FFFL) << 52);
+        words[wordOffset + 12] = ((values[valueOffset + 54] & 0x3FFFL) >>> 12)
+                | ((values[valueOffset + 55] & 0x3FFFL) << 2)
+                | ((values[valueOffset + 56] & 0x3FFFL) << 16)
+                | ((values[valueOffset + 57] & 0x3FFFL) << 30)
+                | ((values[valueOffset + 58] & 0x3FFFL) << 44)
+                | ((values[valueOffset + 59] & 0x3FFFL) << 58);
+        words[wordOffset + 13] = ((values[valueOffset + 59] & 0x3FFFL) >>> 6)
+                | ((values[valueOffset + 60] & 0x3FFFL) << 8)
+                | ((values[valueOffset + 61] & 0x3FFFL) << 22)
+                | ((values[valueOffset + 62] & 0x3FFFL) << 36)
+                | ((values[valueOffset + 63] & 0x3FFFL) << 50);
+    }
+
+    private static void pack15(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x7FFFL)
+                | ((values[valueOffset + 1] & 0x7FFFL) << 15)
+                | ((values[valueOffset + 2] & 0x7FFFL) << 30)
+                | ((values[valueOffset + 3] & 0x7FFFL) << 45)
+                | ((values[valueOffset + 4] & 0x7FFFL) << 60);
+        words[wordOffset + 1] = ((values[valueOffset + 4] & 0x7FFFL) >>> 4)
+                | ((values[valueOffset + 5] & 0x7FFFL) << 11)
+                | ((values[valueOffset + 6] & 0x7FFFL) << 26)
+                | ((values[valueOffset + 7] & 0x7FFFL) << 41)
+                | ((values[valueOffset + 8] & 0x7FFFL) << 56);
+        words[wordOffset + 2] = ((values[valueOffset + 8] & 0x7FFFL) >>> 8)
+                | ((values[valueOffset + 9] & 0x7FFFL) << 7)
+                | ((values[valueOffset + 10] & 0x7FFFL) << 22)
+                | ((values[valueOffset + 11] & 0x7FFFL) << 37)
+                | ((values[valueOffset + 12] & 0x7FFFL) << 52);
+        words[wordOffset + 3] = ((values[valueOffset + 12] & 0x7FFFL) >>> 12)
+                | ((values[valueOffset + 13] & 0x7FFFL) << 3)
+                | ((values[valueOffset + 14] & 0x7FFFL) << 18)
+                | ((values[valueOffset + 15] & 0x7FFFL) << 33)
+                | ((values[valueOffset + 16] & 0x7FFFL) << 48)
+                | ((values[valueOffset + 17] & 0x7FFFL) << 63);
+        words[wordOffset + 4] = ((values[valueOffset + 17] & 0x7FFFL) >>> 1)
+                | ((values[valueOffset + 18] & 0x7FFFL) << 14)
+                | ((values[valueOffset + 19] & 0x7FFFL) << 29)
+                | ((values[valueOffset + 20] & 0x7FFFL) << 44)
+                | ((values[valueOffset + 21] & 0x7FFFL) << 59);
+        words[wordOffset + 5] = ((values[valueOffset + 21] & 0x7FFFL) >>> 5)
+                | ((values[valueOffset + 22] & 0x7FFFL) << 10)
+                | ((values[valueOffset + 23] & 0x7FFFL) << 25)
+                | ((values[valueOffset + 24] & 0x7FFFL) << 40)
+                | ((values[valueOffset + 25] & 0x7FFFL) << 55);
+        words[wordOffset + 6] = ((values[valueOffset + 25] & 0x7FFFL) >>> 9)
+                | ((values[valueOffset + 26] & 0x7FFFL) << 6)
+                | ((values[valueOffset + 27] & 0x7FFFL) << 21)
+                | ((values[valueOffset + 28] & 0x7FFFL) << 36)
+                | ((values[valueOffset + 29] & 0x7FFFL) << 51);
+        words[wordOffset + 7] = ((values[valueOffset + 29] & 0x7FFFL) >>> 13)
+                | ((values[valueOffset + 30] & 0x7FFFL) << 2)
+                | ((values[valueOffset + 31] & 0x7FFFL) << 17)
+                | ((values[valueOffset + 32] & 0x7FFFL) << 32)
+                | ((values[valueOffset + 33] & 0x7FFFL) << 47)
+                | ((values[valueOffset + 34] & 0x7FFFL) << 62);
+        words[wordOffset + 8] = ((values[valueOffset + 34] & 0x7FFFL) >>> 2)
+                | ((values[valueOffset + 35] & 0x7FFFL) << 13)
+                | ((values[valueOffset + 36] & 0x7FFFL) << 28)
+                | ((values[valueOffset + 37] & 0x7FFFL) << 43)
+                | ((values[valueOffset + 38] & 0x7FFFL) << 58);
+        words[wordOffset + 9] = ((values[valueOffset + 38] & 0x7FFFL) >>> 6)
+                | ((values[valueOffset + 39] & 0x7FFFL) << 9)
+                | ((values[valueOffset + 40] & 0x7FFFL) << 24)
+                | ((values[valueOffset + 41] & 0x7FFFL) << 39)
+                | ((values[valueOffset + 42] & 0x7FFFL) << 54);
+        words[wordOffset + 10] = ((values[valueOffset + 42] & 0x7FFFL) >>> 10)
+                | ((values[valueOffset + 43] & 0x7FFFL) << 5)
+                | ((values[valueOffset + 44] & 0x7FFFL) << 20)
+                | ((values[valueOffset + 45] & 0x7FFFL) << 35)
+                | ((values[valueOffset + 46] & 0x7FFFL) << 50);
+        words[wordOffset + 11] = ((values[valueOffset + 46] & 0x7FFFL) >>> 14)
+                | ((values[valueOffset + 47] & 0x7FFFL) << 1)
+                | ((values[valueOffset + 48] & 0x7FFFL) << 16)
+                | ((values[valueOffset + 49] & 0x7FFFL) << 31)
+                | ((values[valueOffset + 50] & 0x7FFFL) << 46)
+                | ((values[valueOffset + 51] & 0x7FFFL) << 61);
+        words[wordOffset + 12] = ((values[valueOffset + 51] & 0x7FFFL) >>> 3)
+                | ((values[valueOffset + 52] & 0x7FFFL) << 12)
+                | ((values[valueOffset + 53] & 0x7FFFL) << 27)
+                | ((values[valueOffset + 54] & 0x7FFFL) << 42)
+                | ((values[valueOffset + 55] & 0x7FFFL) << 57);
+        words[wordOffset + 13] = ((values[valueOffset + 55] & 0x7FFFL) >>> 7)
+                | ((values[valueOffset + 56] & 0x7FFFL) << 8)
+                | ((values[valueOffset + 57] & 0x7FFFL) << 23)
+                | ((values[valueOffset + 58] & 0x7FFFL) << 38)
+                | ((values[valueOffset + 59] & 0x7FFFL) << 53);
+        words[wordOffset + 14] = ((values[valueOffset + 59] & 0x7FFFL) >>> 11)
+                | ((values[valueOffset + 60] & 0x7FFFL) << 4)
+                | ((values[valueOffset + 61] & 0x7FFFL) << 19)
+                | ((values[valueOffset + 62] & 0x7FFFL) << 34)
+                | ((values[valueOffset + 63] & 0x7FFFL) << 49);
+    }
+
+    private static void pack16(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0xFFFFL)
+                | ((values[valueOffset + 1] & 0xFFFFL) << 16)
+                | ((values[valueOffset + 2] & 0xFFFFL) << 32)
+                | ((values[valueOffset + 3] & 0xFFFFL) << 48);
+        words[wordOffset + 1] = (values[valueOffset + 4] & 0xFFFFL)
+                | ((values[valueOffset + 5] & 0xFFFFL) << 16)
+                | ((values[valueOffset + 6] & 0xFFFFL) << 32)
+                | ((values[valueOffset + 7] & 0xFFFFL) << 48);
+        words[wordOffset + 2] = (values[valueOffset + 8] & 0xFFFFL)
+                | ((values[valueOffset + 9] & 0xFFFFL) << 16)
+                | ((values[valueOffset + 10] & 0xFFFFL) << 32)
+                | ((values[valueOffset + 11] & 0xFFFFL) << 48);
+        words[wordOffset + 3] = (values[valueOffset + 12] & 0xFFFFL)
+                | ((values[valueOffset + 13] & 0xFFFFL) << 16)
+                | ((values[valueOffset + 14] & 0xFFFFL) << 32)
+                | ((values[valueOffset + 15] & 0xFFFFL) << 48);
+        words[wordOffset + 4] = (values[valueOffset + 16] & 0xFFFFL)
+                | ((values[valueOffset + 17] & 0xFFFFL) << 16)
+                | ((values[valueOffset + 18] & 0xFFFFL) << 32)
+                | ((values[valueOffset + 19] & 0xFFFFL) << 48);
+        words[wordOffset + 5] = (values[valueOffset + 20] & 0xFFFFL)
+                | ((values[valueOffset + 21] & 0xFFFFL) << 16)
+                | ((values[valueOffset + 22] & 0xFFFFL) << 32)
+                | ((values[valueOffset + 23] & 0xFFFFL) << 48);
+        words[wordOffset + 6] = (values[valueOffset + 24] & 0xFFFFL)
+                | ((values[valueOffset + 25] & 0xFFFFL) << 16)
+                | ((values[valueOffset + 26] & 0xFFFFL) << 32)
+                | ((values[valueOffset + 27] & 0xFFFFL) << 48);
+        words[wordOffset + 7] = (values[valueOffset + 28] & 0xFFFFL)
+                | ((values[valueOffset + 29] & 0xFFFFL) << 16)
+                | ((values[valueOffset + 30] & 0xFFFFL) << 32)
+                | ((values[valueOffset + 31] & 0xFFFFL) << 48);
+        words[wordOffset + 8] = (values[valueOffset + 32] & 0xFFFFL)
+                | ((values[valueOffset + 33] & 0xFFFFL) << 16)
+                | ((values[valueOffset + 34] & 0xFFFFL) << 32)
+                | ((values[valueOffset + 35] & 0xFFFFL) << 48);
+        words[wordOffset + 9] = (values[valueOffset + 36] & 0xFFFFL)
+                | ((values[valueOffset + 37] & 0xFFFFL) << 16)
+                | ((values[valueOffset + 38] & 0xFFFFL) << 32)
+                | ((values[valueOffset + 39] & 0xFFFFL) << 48);
+        words[wordOffset + 10] = (values[valueOffset + 40] & 0xFFFFL)
+                | ((values[valueOffset + 41] & 0xFFFFL) << 16)
+                | ((values[valueOffset + 42] & 0xFFFFL) << 32)
+                | ((values[valueOffset + 43] & 0xFFFFL) << 48);
+        words[wordOffset + 11] = (values[valueOffset + 44] & 0xFFFFL)
+                | ((values[valueOffset + 45] & 0xFFFFL) << 16)
+                | ((values[valueOffset + 46] & 0xFFFFL) << 32)
+                | ((values[valueOffset + 47] & 0xFFFFL) << 48);
+        words[wordOffset + 12] = (values[valueOffset + 48] & 0xFFFFL)
+                | ((values[valueOffset + 49] & 0xFFFFL) << 16)
+                | ((values[valueOffset + 50] & 0xFFFFL) << 32)
+                | ((values[valueOffset + 51] & 0xFFFFL) << 48);
+        words[wordOffset + 13] = (values[valueOffset + 52] & 0xFFFFL)
+                | ((values[valueOffset + 53] & 0xFFFFL) << 16)
+                | ((values[valueOffset + 54] & 0xFFFFL) << 32)
+                | ((values[valueOffset + 55] & 0xFFFFL) << 48);
+        words[wordOffset + 14] = (values[valueOffset + 56] & 0xFFFFL)
+                | ((values[valueOffset + 57] & 0xFFFFL) << 16)
+                | ((values[valueOffset + 58] & 0xFFFFL) << 32)
+                | ((values[valueOffset + 59] & 0xFFFFL) << 48);
+        words[wordOffset + 15] = (values[valueOffset + 60] & 0xFFFFL)
+                | ((values[valueOffset + 61] & 0xFFFFL) << 16)
+                | ((values[valueOffset + 62] & 0xFFFFL) << 32)
+                | ((values[valueOffset + 63] & 0xFFFFL) << 48);
+    }
+
+    private static void pack17(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x1FFFFL)
+                | ((values[valueOffset + 1] & 0x1FFFFL) << 17)
+                | ((values[valueOffset + 2] & 0x1FFFFL) << 34)
+                | ((values[valueOffset + 3] & 0x1FFFFL) << 51);
+        words[wordOffset + 1] = ((values[valueOffset + 3] & 0x1FFFFL) >>> 13)
+                | ((values[valueOffset + 4] & 0x1FFFFL) << 4)
+                | ((values[valueOffset + 5] & 0x1FFFFL) << 21)
+                | ((values[valueOffset + 6] & 0x1FFFFL) << 38)
+                | ((values[valueOffset + 7] & 0x1FFFFL) << 55);
+        words[wordOffset + 2] = ((values[valueOffset + 7] & 0x1FFFFL) >>> 9)
+                | ((values[valueOffset + 8] & 0x1FFFFL) << 8)
+                | ((values[valueOffset + 9] & 0x1FFFFL) << 25)
+                | ((values[valueOffset + 10] & 0x1FFFFL) << 42)
+                | ((values[valueOffset + 11] & 0x1FFFFL) << 59);
+        words[wordOffset + 3] = ((values[valueOffset + 11] & 0x1FFFFL) >>> 5)
+                | ((values[valueOffset + 12] & 0x1FFFFL) << 12)
+                | ((values[valueOffset + 13] & 0x1FFFFL) << 29)
+                | ((values[valueOffset + 14] & 0x1FFFFL) << 46)
+                | ((values[valueOffset + 15] & 0x1FFFFL) << 63);
+        words[wordOffset + 4] = ((values[valueOffset + 15] & 0x1FFFFL) >>> 1)
+                | ((values[valueOffset + 16] & 0x1FFFFL) << 16)
+                | ((values[valueOffset + 17] & 0x1FFFFL) << 33)
+                | ((values[valueOffset + 18] & 0x1FFFFL) << 50);
+        words[wordOffset + 5] = ((values[valueOffset + 18] & 0x1FFFFL) >>> 14)
+                | ((values[valueOffset + 19] & 0x1FFFFL) << 3)
+                | ((values[valueOffset + 20] & 0x1FFFFL) << 20)
+                | ((values[valueOffset + 21] & 0x1FFFFL) << 37)
+                | ((values[valueOffset + 22] & 0x1FFFFL) << 54);
+        words[wordOffset + 6] = ((values[valueOffset + 22] & 0x1FFFFL) >>> 10)
+                | ((values[valueOffset + 23] & 0x1FFFFL) << 7)
+                | ((values[valueOffset + 24] & 0x1FFFFL) << 24)
+                | ((values[valueOffset + 25] & 0x1FFFFL) << 41)
+                | ((values[valueOffset + 26] & 0x1FFFFL) << 58);
+        words[wordOffset + 7] = ((values[valueOffset + 26] & 0x1FFFFL) >>> 6)
+                | ((values[valueOffset + 27] & 0x1FFFFL) << 11)
+                | ((values[valueOffset + 28] & 0x1FFFFL) << 28)
+                | ((values[valueOffset + 29] & 0x1FFFFL) << 45)
+                | ((values[valueOffset + 30] & 0x1FFFFL) << 62);
+        words[wordOffset + 8] = ((values[valueOffset + 30] & 0x1FFFFL) >>> 2)
+                | ((values[valueOffset + 31] & 0x1FFFFL) << 15)
+                | ((values[valueOffset + 32] & 0x1FFFFL) << 32)
+                | ((values[valueOffset + 33] & 0x1FFFFL) << 49);
+        words[wordOffset + 9] = ((values[valueOffset + 33] & 0x1FFFFL) >>> 15)
+                | ((values[valueOffset + 34] & 0x1FFFFL) << 2)
+                | ((values[valueOffset + 35] & 0x1FFFFL) << 19)
+                | ((values[valueOffset + 36] & 0x1FFFFL) << 36)
+                | ((values[valueOffset + 37] & 0x1FFFFL) << 53);
+        words[wordOffset + 10] = ((values[valueOffset + 37] & 0x1FFFFL) >>> 11)
+                | ((values[valueOffset + 38] & 0x1FFFFL) << 6)
+                | ((values[valueOffset + 39] & 0x1FFFFL) << 23)
+                | ((values[valueOffset + 40] & 0x1FFFFL) << 40)
+                | ((values[valueOffset + 41] & 0x1FFFFL) << 57);
+        words[wordOffset + 11] = ((values[valueOffset + 41] & 0x1FFFFL) >>> 7)
+                | ((values[valueOffset + 42] & 0x1FFFFL) << 10)
+                | ((values[valueOffset + 43] & 0x1FFFFL) << 27)
+                | ((values[valueOffset + 44] & 0x1FFFFL) << 44)
+                | ((values[valueOffset + 45] & 0x1FFFFL) << 61);
+        words[wordOffset + 12] = ((values[valueOffset + 45] & 0x1FFFFL) >>> 3)
+                | ((values[valueOffset + 46] & 0x1FFFFL) << 14)
+                | ((values[valueOffset + 47] & 0x1FFFFL) << 31)
+                | ((values[valueOffset + 48] & 0x1FFFFL) << 48);
+        words[wordOffset + 13] = ((values[valueOffset + 48] & 0x1FFFFL) >>> 16)
+                | ((values[valueOffset + 49] & 0x1FFFFL) << 1)
+                | ((values[valueOffset + 50] & 0x1FFFFL) << 18)
+                | ((values[valueOffset + 51] & 0x1FFFFL) << 35)
+                | ((values[valueOffset + 52] & 0x1FFFFL) << 52);
+        words[wordOffset + 14] = ((values[valueOffset + 52] & 0x1FFFFL) >>> 12)
+                | ((values[valueOffset + 53] & 0x1FFFFL) << 5)
+                | ((values[valueOffset + 54] & 0x1FFFFL) << 22)
+                | ((values[valueOffset + 55] & 0x1FFFFL) << 39)
+                | ((values[valueOffset + 56] & 0x1FFFFL) << 56);
+        words[wordOffset + 15] = ((values[valueOffset + 56] & 0x1FFFFL) >>> 8)
+                | ((values[valueOffset + 57] & 0x1FFFFL) << 9)
+                | ((values[valueOffset + 58] & 0x1FFFFL) << 26)
+                | ((values[valueOffset + 59] & 0x1FFFFL) << 43)
+                | ((values[valueOffset + 60] & 0x1FFFFL) << 60);
+        words[wordOffset + 16] = ((values[valueOffset + 60] & 0x1FFFFL) >>> 4)
+                | ((values[valueOffset + 61] & 0x1FFFFL) << 13)
+                | ((values[valueOffset + 62] & 0x1FFFFL) << 30)
+                | ((values[valueOffset + 63] & 0x1FFFFL) << 47);
+    }
+
+    private static void pack18(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x3FFFFL)
+                | ((values[valueOffset + 1] & 0x3FFFFL) << 18)
+                | ((values[valueOffset + 2] & 0x3FFFFL) << 36)
+                | ((values[valueOffset + 3] & 0x3FFFFL) << 54);
+        words[wordOffset + 1] = ((values[valueOffset + 3] & 0x3FFFFL) >>> 10)
+                | ((values[valueOffset + 4] & 0x3FFFFL) << 8)
+                | ((values[valueOffset + 5] & 0x3FFFFL) << 26)
+                | ((values[valueOffset + 6] & 0x3FFFFL) << 44)
+                | ((values[valueOffset + 7] & 0x3FFFFL) << 62);
+        words[wordOffset + 2] = ((values[valueOffset + 7] & 0x3FFFFL) >>> 2)
+                | ((values[valueOffset + 8] & 0x3FFFFL) << 16)
+                | ((values[valueOffset + 9] & 0x3FFFFL) << 34)
+                | ((values[valueOffset + 10] & 0x3FFFFL) << 52);
+        words[wordOffset + 3] = ((values[valueOffset + 10] & 0x3FFFFL) >>> 12)
+                | ((values[valueOffset + 11] & 0x3FFFFL) << 6)
+                | ((values[valueOffset + 12] & 0x3FFFFL) << 24)
+                | ((values[valueOffset + 13] & 0x3FFFFL) << 42)
+                | ((values[valueOffset + 14] & 0x3FFFFL) << 60);
+        words[wordOffset + 4] = ((values[valueOffset + 14] & 0x3FFFFL) >>> 4)
+                | ((values[valueOffset + 15] & 0x3FFFFL) << 14)
+                | ((values[valueOffset + 16] & 0x3FFFFL) << 32)
+                | ((values[valueOffset + 17] & 0x3FFFFL) << 50);
+        words[wordOffset + 5] = ((values[valueOffset + 17] & 0x3FFFFL) >>> 14)
+                | ((values[valueOffset + 18] & 0x3FFFFL) << 4)
+                | ((values[valueOffset + 19] & 0x3FFFFL) << 22)
+                | ((values[valueOffset + 20] & 0x3FFFFL) << 40)
+                | ((values[valueOffset + 21] & 0x3FFFFL) << 58);
+        words[wordOffset + 6] = ((values[valueOffset + 21] & 0x3FFFFL) >>> 6)
+                | ((values[valueOffset + 22] & 0x3FFFFL) << 12)
+                | ((values[valueOffset + 23] & 0x3FFFFL) << 30)
+                | ((values[valueOffset + 24] & 0x3FFFFL) << 48);
+        words[wordOffset + 7] = ((values[valueOffset + 24] & 0x3FFFFL) >>> 16)
+                | ((values[valueOffset + 25] & 0x3FFFFL) << 2)
+                | ((values[valueOffset + 26] & 0x3FFFFL) << 20)
+                | ((values[valueOffset + 27] & 0x3FFFFL) << 38)
+                | ((values[valueOffset + 28] & 0x3FFFFL) << 56);
+        words[wordOffset + 8] = ((values[valueOffset + 28] & 0x3FFFFL) >>> 8)
+                | ((values[valueOffset + 29] & 0x3FFFFL) << 10)
+                | ((values[valueOffset + 30] & 0x3FFFFL) << 28)
+                | ((values[valueOffset + 31] & 0x3FFFFL) << 46);
+        words[wordOffset + 9] = (values[valueOffset + 32] & 0x3FFFFL)
+                | ((values[valueOffset + 33] & 0x3FFFFL) << 18)
+                | ((values[valueOffset + 34] & 0x3FFFFL) << 36)
+                | ((values[valueOffset + 35] & 0x3FFFFL) << 54);
+        words[wordOffset + 10] = ((values[valueOffset + 35] & 0x3FFFFL) >>> 10)
+                | ((values[valueOffset + 36] & 0x3FFFFL) << 8)
+                | ((values[valueOffset + 37] & 0x3FFFFL) << 26)
+                | ((values[valueOffset + 38] & 0x3FFFFL) << 44)
+                | ((values[valueOffset + 39] & 0x3FFFFL) << 62);
+        words[wordOffset + 11] = ((values[valueOffset + 39] & 0x3FFFFL) >>> 2)
+                | ((values[valueOffset + 40] & 0x3FFFFL) << 16)
+                | ((values[valueOffset + 41] & 0x3FFFFL) << 34)
+                | ((values[valueOffset + 42] & 0x3FFFFL) << 52);
+        words[wordOffset + 12] = ((values[valueOffset + 42] & 0x3FFFFL) >>> 12)
+                | ((values[valueOffset + 43] & 0x3FFFFL) << 6)
+                | ((values[valueOffset + 44] & 0x3FFFFL) << 24)
+                | ((values[valueOffset + 45] & 0x3FFFFL) << 42)
+                | ((values[valueOffset + 46] & 0x3FFFFL) << 60);
+        words[wordOffset + 13] = ((values[valueOffset + 46] & 0x3FFFFL) >>> 4)
+                | ((values[valueOffset + 47] & 0x3FFFFL) << 14)
+                | ((values[valueOffset + 48] & 0x3FFFFL) << 32)
+                | ((values[valueOffset + 49] & 0x3FFFFL) << 50);
+        words[wordOffset + 14] = ((values[valueOffset + 49] & 0x3FFFFL) >>> 14)
+                | ((values[valueOffset + 50] & 0x3FFFFL) << 4)
+                | ((values[valueOffset + 51] & 0x3FFFFL) << 22)
+                | ((values[valueOffset + 52] & 0x3FFFFL) << 40)
+                | ((values[valueOffset + 53] & 0x3FFFFL) << 58);
+        words[wordOffset + 15] = ((values[valueOffset + 53] & 0x3FFFFL) >>> 6)
+                | ((values[valueOffset + 54] & 0x3FFFFL) << 12)
+                | ((values[valueOffset + 55] & 0x3FFFFL) << 30)
+                | ((values[valueOffset + 56] & 0x3FFFFL) << 48);
+        words[wordOffset + 16] = ((values[valueOffset + 56] & 0x3FFFFL) >>> 16)
+                | ((values[valueOffset + 57] & 0x3FFFFL) << 2)
+                | ((values[valueOffset + 58] & 0x3FFFFL) << 20)
+                | ((values[valueOffset + 59] & 0x3FFFFL) << 38)
+                | ((values[valueOffset + 60] & 0x3FFFFL) << 56);
+        words[wordOffset + 17] = ((values[valueOffset + 60] & 0x3FFFFL) >>> 8)
+                | ((values[valueOffset + 61] & 0x3FFFFL) << 10)
+                | ((values[valueOffset + 62] & 0x3FFFFL) << 28)
+                | ((values[valueOffset + 63] & 0x3FFFFL) << 46);
+    }
+
+    private static void pack19(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x7FFFFL)
+                | ((values[valueOffset + 1] & 0x7FFFFL) << 19)
+                | ((values[valueOffset + 2] & 0x7FFFFL) << 38)
+                | ((values[valueOffset + 3] & 0x7FFFFL) << 57);
+        words[wordOffset + 1] = ((values[valueOffset + 3] & 0x7FFFFL) >>> 7)
+                | ((values[valueOffset + 4] & 0x7FFFFL) << 12)
+                | ((values[valueOffset + 5] & 0x7FFFFL) << 31)
+                | ((values[valueOffset + 6] & 0x7FFFFL) << 50);
+        words[wordOffset + 2] = ((values[valueOffset + 6] & 0x7FFFFL) >>> 14)
+                | ((values[valueOffset + 7] & 0x7FFFFL) << 5)
+                | ((values[valueOffset + 8] & 0x7FFFFL) << 24)
+                | ((values[valueOffset + 9] & 0x7FFFFL) << 43)
+                | ((values[valueOffset + 10] & 0x7FFFFL) << 62);
+        words[wordOffset + 3] = ((values[valueOffset + 10] & 0x7FFFFL) >>> 2)
+                | ((values[valueOffset + 11] & 0x7FFFFL) << 17)
+                | ((values[valueOffset + 12] & 0x7FFFFL) << 36)
+                | ((values[valueOffset + 13] & 0x7FFFFL) << 55);
+        words[wordOffset + 4] = ((values[valueOffset + 13] & 0x7FFFFL) >>> 9)
+                | ((values[valueOffset + 14] & 0x7FFFFL) << 10)
+                | ((values[valueOffset + 15] & 0x7FFFFL) << 29)
+                | ((values[valueOffset + 16] & 0x7FFFFL) << 48);
+        words[wordOffset + 5] = ((values[valueOffset + 16] & 0x7FFFFL) >>> 16)
+                | ((values[valueOffset + 17] & 0x7FFFFL) << 3)
+                | ((values[valueOffset + 18] & 0x7FFFFL) << 22)
+                | ((values[valueOffset + 19] & 0x7FFFFL) << 41)
+                | ((values[valueOffset + 20] & 0x7FFFFL) << 60);
+        words[wordOffset + 6] = ((values[valueOffset + 20] & 0x7FFFFL) >>> 4)
+                | ((values[valueOffset + 21] & 0x7FFFFL) << 15)
+                | ((values[valueOffset + 22] & 0x7FFFFL) << 34)
+                | ((values[valueOffset + 23] & 0x7FFFFL) << 53);
+        words[wordOffset + 7] = ((values[valueOffset + 23] & 0x7FFFFL) >>> 11)
+                | ((values[valueOffset + 24] & 0x7FFFFL) << 8)
+                | ((values[valueOffset + 25] & 0x7FFFFL) << 27)
+                | ((values[valueOffset + 26] & 0x7FFFFL) << 46);
+        words[wordOffset + 8] = ((values[valueOffset + 26] & 0x7FFFFL) >>> 18)
+                | ((values[valueOffset + 27] & 0x7FFFFL) << 1)
+                | ((values[valueOffset + 28] & 0x7FFFFL) << 20)
+                | ((values[valueOffset + 29] & 0x7FFFFL) << 39)
+                | ((values[valueOffset + 30] & 0x7FFFFL) << 58);
+        words[wordOffset + 9] = ((values[valueOffset + 30] & 0x7FFFFL) >>> 6)
+                | ((values[valueOffset + 31] & 0x7FFFFL) << 13)
+                | ((values[valueOffset + 32] & 0x7FFFFL) << 32)
+                | ((values[valueOffset + 33] & 0x7FFFFL) << 51);
+        words[wordOffset + 10] = ((values[valueOffset + 33] & 0x7FFFFL) >>> 13)
+                | ((values[valueOffset + 34] & 0x7FFFFL) << 6)
+                | ((values[valueOffset + 35] & 0x7FFFFL) << 25)
+                | ((values[valueOffset + 36] & 0x7FFFFL) << 44)
+                | ((values[valueOffset + 37] & 0x7FFFFL) << 63);
+        words[wordOffset + 11] = ((values[valueOffset + 37] & 0x7FFFFL) >>> 1)
+                | ((values[valueOffset + 38] & 0x7FFFFL) << 18)
+                | ((values[valueOffset + 39] & 0x7FFFFL) << 37)
+                | ((values[valueOffset + 40] & 0x7FFFFL) << 56);
+        words[wordOffset + 12] = ((values[valueOffset + 40] & 0x7FFFFL) >>> 8)
+                | ((values[valueOffset + 41] & 0x7FFFFL) << 11)
+                | ((values[valueOffset + 42] & 0x7FFFFL) << 30)
+                | ((values[valueOffset + 43] & 0x7FFFFL) << 49);
+        words[wordOffset + 13] = ((values[valueOffset + 43] & 0x7FFFFL) >>> 15)
+                | ((values[valueOffset + 44] & 0x7FFFFL) << 4)
+                | ((values[valueOffset + 45] & 0x7FFFFL) << 23)
+                | ((values[valueOffset + 46] & 0x7FFFFL) << 42)
+                | ((values[valueOffset + 47] & 0x7FFFFL) << 61);
+        words[wordOffset + 14] = ((values[valueOffset + 47] & 0x7FFFFL) >>> 3)
+                | ((values[valueOffset + 48] & 0x7FFFFL) << 16)
+                | ((values[valueOffset + 49] & 0x7FFFFL) << 35)
+                | ((values[valueOffset + 50] & 0x7FFFFL) << 54);
+        words[wordOffset + 15] = ((values[valueOffset + 50] & 0x7FFFFL) >>> 10)
+                | ((values[valueOffset + 51] & 0x7FFFFL) << 9)
+                | ((values[valueOffset + 52] & 0x7FFFFL) << 28)
+                | ((values[valueOffset + 53] & 0x7FFFFL) << 47);
+        words[wordOffset + 16] = ((values[valueOffset + 53] & 0x7FFFFL) >>> 17)
+                | ((values[valueOffset + 54] & 0x7FFFFL) << 2)
+                | ((values[valueOffset + 55] & 0x7FFFFL) << 21)
+                | ((values[valueOffset + 56] & 0x7FFFFL) << 40)
+                | ((values[valueOffset + 57] & 0x7FFFFL) << 59);
+        words[wordOffset + 17] = ((values[valueOffset + 57] & 0x7FFFFL) >>> 5)
+                | ((values[valueOffset + 58] & 0x7FFFFL) << 14)
+                | ((values[valueOffset + 59] & 0x7FFFFL) << 33)
+                | ((values[valueOffset + 60] & 0x7FFFFL) << 52);
+        words[wordOffset + 18] = ((values[valueOffset + 60] & 0x7FFFFL) >>> 12)
+                | ((values[valueOffset + 61] & 0x7FFFFL) << 7)
+                | ((values[valueOffset + 62] & 0x7FFFFL) << 26)
+                | ((values[valueOffset + 63] & 0x7FFFFL) << 45);
+    }
+
+    private static void pack20(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0xFFFFFL)
+                | ((values[valueOffset + 1] & 0xFFFFFL) << 20)
+                | ((values[valueOffset + 2] & 0xFFFFFL) << 40)
+                | ((values[valueOffset + 3] & 0xFFFFFL) << 60);
+        words[wordOffset + 1] = ((values[valueOffset + 3] & 0xFFFFFL) >>> 4)
+                | ((values[valueOffset + 4] & 0xFFFFFL) << 16)
+                | ((values[valueOffset + 5] & 0xFFFFFL) << 36)
+                | ((values[valueOffset + 6] & 0xFFFFFL) << 56);
+        words[wordOffset + 2] = ((values[valueOffset + 6] & 0xFFFFFL) >>> 8)
+                | ((values[valueOffset + 7] & 0xFFFFFL) << 12)
+                | ((values[valueOffset + 8] & 0xFFFFFL) << 32)
+                | ((values[valueOffset + 9] & 0xFFFFFL) << 52);
+        words[wordOffset + 3] = ((values[valueOffset + 9] & 0xFFFFFL) >>> 12)
+                | ((values[valueOffset + 10] & 0xFFFFFL) << 8)
+                | ((values[valueOffset + 11] & 0xFFFFFL) << 28)
+                | ((values[valueOffset + 12] & 0xFFFFFL) << 48);
+        words[wordOffset + 4] = ((values[valueOffset + 12] & 0xFFFFFL) >>> 16)
+                | ((values[valueOffset + 13] & 0xFFFFFL) << 4)
+                | ((values[valueOffset + 14] & 0xFFFFFL) << 24)
+                | ((values[valueOffset + 15] & 0xFFFFFL) << 44);
+        words[wordOffset + 5] = (values[valueOffset + 16] & 0xFFFFFL)
+                | ((values[valueOffset + 17] & 0xFFFFFL) << 20)
+                | ((values[valueOffset + 18] & 0xFFFFFL) << 40)
+                | ((values[valueOffset + 19] & 0xFFFFFL) << 60);
+        words[wordOffset + 6] = ((values[valueOffset + 19] & 0xFFFFFL) >>> 4)
+                | ((values[valueOffset + 20] & 0xFFFFFL) << 16)
+                | ((values[valueOffset + 21] & 0xFFFFFL) << 36)
+                | ((values[valueOffset + 22] & 0xFFFFFL) << 56);
+        words[wordOffset + 7] = ((values[valueOffset + 22] & 0xFFFFFL) >>> 8)
+                | ((values[valueOffset + 23] & 0xFFFFFL) << 12)
+                | ((values[valueOffset + 24] & 0xFFFFFL) << 32)
+                | ((values[valueOffset + 25] & 0xFFFFFL) << 52);
+        words[wordOffset + 8] = ((values[valueOffset + 25] & 0xFFFFFL) >>> 12)
+                | ((values[valueOffset + 26] & 0xFFFFFL) << 8)
+                | ((values[valueOffset + 27] & 0xFFFFFL) << 28)
+                | ((values[valueOffset + 28] & 0xFFFFFL) << 48);
+        words[wordOffset + 9] = ((values[valueOffset + 28] & 0xFFFFFL) >>> 16)
+                | ((values[valueOffset + 29] & 0xFFFFFL) << 4)
+                | ((values[valueOffset + 30] & 0xFFFFFL) << 24)
+                | ((values[valueOffset + 31] & 0xFFFFFL) << 44);
+        words[wordOffset + 10] = (values[valueOffset + 32] & 0xFFFFFL)
+                | ((values[valueOffset + 33] & 0xFFFFFL) << 20)
+                | ((values[valueOffset + 34] & 0xFFFFFL) << 40)
+                | ((values[valueOffset + 35] & 0xFFFFFL) << 60);
+        words[wordOffset + 11] = ((values[valueOffset + 35] & 0xFFFFFL) >>> 4)
+                | ((values[valueOffset + 36] & 0xFFFFFL) << 16)
+                | ((values[valueOffset + 37] & 0xFFFFFL) << 36)
+                | ((values[valueOffset + 38] & 0xFFFFFL) << 56);
+        words[wordOffset + 12] = ((values[valueOffset + 38] & 0xFFFFFL) >>> 8)
+                | ((values[valueOffset + 39] & 0xFFFFFL) << 12)
+                | ((values[valueOffset + 40] & 0xFFFFFL) << 32)
+                | ((values[valueOffset + 41] & 0xFFFFFL) << 52);
+        words[wordOffset + 13] = ((values[valueOffset + 41] & 0xFFFFFL) >>> 12)
+                | ((values[valueOffset + 42] & 0xFFFFFL) << 8)
+                | ((values[valueOffset + 43] & 0xFFFFFL) << 28)
+                | ((values[valueOffset + 44] & 0xFFFFFL) << 48);
+        words[wordOffset + 14] = ((values[valueOffset + 44] & 0xFFFFFL) >>> 16)
+                | ((values[valueOffset + 45] & 0xFFFFFL) << 4)
+                | ((values[valueOffset + 46] & 0xFFFFFL) << 24)
+                | ((values[valueOffset + 47] & 0xFFFFFL) << 44);
+        words[wordOffset + 15] = (values[valueOffset + 48] & 0xFFFFFL)
+                | ((values[valueOffset + 49] & 0xFFFFFL) << 20)
+                | ((values[valueOffset + 50] & 0xFFFFFL) << 40)
+                | ((values[valueOffset + 51] & 0xFFFFFL) << 60);
+        words[wordOffset + 16] = ((values[valueOffset + 51] & 0xFFFFFL) >>> 4)
+                | ((values[valueOffset + 52] & 0xFFFFFL) << 16)
+                | ((values[valueOffset + 53] & 0xFFFFFL) << 36)
+                | ((values[valueOffset + 54] & 0xFFFFFL) << 56);
+        words[wordOffset + 17] = ((values[valueOffset + 54] & 0xFFFFFL) >>> 8)
+                | ((values[valueOffset + 55] & 0xFFFFFL) << 12)
+                | ((values[valueOffset + 56] & 0xFFFFFL) << 32)
+                | ((values[valueOffset + 57] & 0xFFFFFL) << 52);
+        words[wordOffset + 18] = ((values[valueOffset + 57] & 0xFFFFFL) >>> 12)
+                | ((values[valueOffset + 58] & 0xFFFFFL) << 8)
+                | ((values[valueOffset + 59] & 0xFFFFFL) << 28)
+                | ((values[valueOffset + 60] & 0xFFFFFL) << 48);
+        words[wordOffset + 19] = ((values[valueOffset + 60] & 0xFFFFFL) >>> 16)
+                | ((values[valueOffset + 61] & 0xFFFFFL) << 4)
+                | ((values[valueOffset + 62] & 0xFFFFFL) << 24)
+                | ((values[valueOffset + 63] & 0xFFFFFL) << 44);
+    }
+
+    private static void pack21(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x1FFFFFL)
+                | ((values[valueOffset + 1] & 0x1FFFFFL) << 21)
+                | ((values[valueOffset + 2] & 0x1FFFFFL) << 42)
+                | ((values[valueOffset + 3] & 0x1FFFFFL) << 63);
+        words[wordOffset + 1] = ((values[valueOffset + 3] & 0x1FFFFFL) >>> 1)
+                | ((values[valueOffset + 4] & 0x1FFFFFL) << 20)
+                | ((values[valueOffset + 5] & 0x1FFFFFL) << 41)
+                | ((values[valueOffset + 6] & 0x1FFFFFL) << 62);
+        words[wordOffset + 2] = ((values[valueOffset + 6] & 0x1FFFFFL) >>> 2)
+                | ((values[valueOffset + 7] & 0x1FFFFFL) << 19)
+                | ((values[valueOffset + 8] & 0x1FFFFFL) << 40)
+                | ((values[valueOffset + 9] & 0x1FFFFFL) << 61);
+        words[wordOffset + 3] = ((values[valueOffset + 9] & 0x1FFFFFL) >>> 3)
+                | ((values[valueOffset + 10] & 0x1FFFFFL) << 18)
+                | ((values[valueOffset + 11] & 0x1FFFFFL) << 39)
+                | ((values[valueOffset + 12] & 0x1FFFFFL) << 60);
+        words[wordOffset + 4] = ((values[valueOffset + 12] & 0x1FFFFFL) >>> 4)
+                | ((values[valueOffset + 13] & 0x1FFFFFL) << 17)
+                | ((values[valueOffset + 14] & 0x1FFFFFL) << 38)
+                | ((values[valueOffset + 15] & 0x1FFFFFL) << 59);
+        words[wordOffset + 5] = ((values[valueOffset + 15] & 0x1FFFFFL) >>> 5)
+                | ((values[valueOffset + 16] & 0x1FFFFFL) << 16)
+                | ((values[valueOffset + 17] & 0x1FFFFFL) << 37)
+                | ((values[valueOffset + 18] & 0x1FFFFFL) << 58);
+        words[wordOffset + 6] = ((values[valueOffset + 18] & 0x1FFFFFL) >>> 6)
+                | ((values[valueOffset + 19] & 0x1FFFFFL) << 15)
+                | ((values[valueOffset + 20] & 0x1FFFFFL) << 36)
+                | ((values[valueOffset + 21] & 0x1FFFFFL) << 57);
+        words[wordOffset + 7] = ((values[valueOffset + 21] & 0x1FFFFFL) >>> 7)
+                | ((values[valueOffset + 22] & 0x1FFFFFL) << 14)
+                | ((values[valueOffset + 23] & 0x1FFFFFL) << 35)
+                | ((values[valueOffset + 24] & 0x1FFFFFL) << 56);
+        words[wordOffset + 8] = ((values[valueOffset + 24] & 0x1FFFFFL) >>> 8)
+                | ((values[valueOffset + 25] & 0x1FFFFFL) << 13)
+                | ((values[valueOffset + 26] & 0x1FFFFFL) << 34)
+                | ((values[valueOffset + 27] & 0x1FFFFFL) << 55);
+        words[wordOffset + 9] = ((values[valueOffset + 27] & 0x1FFFFFL) >>> 9)
+                | ((values[valueOffset + 28] & 0x1FFFFFL) << 12)
+                | ((values[valueOffset + 29] & 0x1FFFFFL) << 33)
+                | ((values[valueOffset + 30] & 0x1FFFFFL) << 54);
+        words[wordOffset + 10] = ((values[valueOffset + 30] & 0x1FFFFFL) >>> 10)
+                | ((values[valueOffset + 31] & 0x1FFFFFL) << 11)
+                | ((values[valueOffset + 32] & 0x1FFFFFL) << 32)
+                | ((values[valueOffset + 33] & 0x1FFFFFL) << 53);
+        words[wordOffset + 11] = ((values[valueOffset + 33] & 0x1FFFFFL) >>> 11)
+                | ((values[valueOffset + 34] & 0x1FFFFFL) << 10)
+                | ((values[valueOffset + 35] & 0x1FFFFFL) << 31)
+                | ((values[valueOffset + 36] & 0x1FFFFFL) << 52);
+        words[wordOffset + 12] = ((values[valueOffset + 36] & 0x1FFFFFL) >>> 12)
+                | ((values[valueOffset + 37] & 0x1FFFFFL) << 9)
+                | ((values[valueOffset + 38] & 0x1FFFFFL) << 30)
+                | ((values[valueOffset + 39] & 0x1FFFFFL) << 51);
+        words[wordOffset + 13] = ((values[valueOffset + 39] & 0x1FFFFFL) >>> 13)
+                | ((values[valueOffset + 40] & 0x1FFFFFL) << 8)
+                | ((values[valueOffset + 41] & 0x1FFFFFL) << 29)
+                | ((values[valueOffset + 42] & 0x1FFFFFL) << 50);
+        words[wordOffset + 14] = ((values[valueOffset + 42] & 0x1FFFFFL) >>> 14)
+                | ((values[valueOffset + 43] & 0x1FFFFFL) << 7)
+                | ((values[valueOffset + 44] & 0x1FFFFFL) << 28)
+                | ((values[valueOffset + 45] & 0x1FFFFFL) << 49);
+        words[wordOffset + 15] = ((values[valueOffset + 45] & 0x1FFFFFL) >>> 15)
+                | ((values[valueOffset + 46] & 0x1FFFFFL) << 6)
+                | ((values[valueOffset + 47] & 0x1FFFFFL) << 27)
+                | ((values[valueOffset + 48] & 0x1FFFFFL) << 48);
+        words[wordOffset + 16] = ((values[valueOffset + 48] & 0x1FFFFFL) >>> 16)
+                | ((values[valueOffset + 49] & 0x1FFFFFL) << 5)
+                | ((values[valueOffset + 50] & 0x1FFFFFL) << 26)
+                | ((values[valueOffset + 51] & 0x1FFFFFL) << 47);
+        words[wordOffset + 17] = ((values[valueOffset + 51] & 0x1FFFFFL) >>> 17)
+                | ((values[valueOffset + 52] & 0x1FFFFFL) << 4)
+                | ((values[valueOffset + 53] & 0x1FFFFFL) << 25)
+                | ((values[valueOffset + 54] & 0x1FFFFFL) << 46);
+        words[wordOffset + 18] = ((values[valueOffset + 54] & 0x1FFFFFL) >>> 18)
+                | ((values[valueOffset + 55] & 0x1FFFFFL) << 3)
+                | ((values[valueOffset + 56] & 0x1FFFFFL) << 24)
+                | ((values[valueOffset + 57] & 0x1FFFFFL) << 45);
+        words[wordOffset + 19] = ((values[valueOffset + 57] & 0x1FFFFFL) >>> 19)
+                | ((values[valueOffset + 58] & 0x1FFFFFL) << 2)
+                | ((values[valueOffset + 59] & 0x1FFFFFL) << 23)
+                | ((values[valueOffset + 60] & 0x1FFFFFL) << 44);
+        words[wordOffset + 20] = ((values[valueOffset + 60] & 0x1FFFFFL) >>> 20)
+                | ((values[valueOffset + 61] & 0x1FFFFFL) << 1)
+                | ((values[valueOffset + 62] & 0x1FFFFFL) << 22)
+                | ((values[valueOffset + 63] & 0x1FFFFFL) << 43);
+    }
+
+    private static void pack22(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x3FFFFFL)
+                | ((values[valueOffset + 1] & 0x3FFFFFL) << 22)
+                | ((values[valueOffset + 2] & 0x3FFFFFL) << 44);
+        words[wordOffset + 1] = ((values[valueOffset + 2] & 0x3FFFFFL) >>> 20)
+                | ((values[valueOffset + 3] & 0x3FFFFFL) << 2)
+                | ((values[valueOffset + 4] & 0x3FFFFFL) << 24)
+                | ((values[valueOffset + 5] & 0x3FFFFFL) << 46);
+        words[wordOffset + 2] = ((values[valueOffset + 5] & 0x3FFFFFL) >>> 18)
+                | ((values[valueOffset + 6] & 0x3FFFFFL) << 4)
+                | ((values[valueOffset + 7] & 0x3FFFFFL) << 26)
+                | ((values[valueOffset + 8] & 0x3FFFFFL) << 48);
+        words[wordOffset + 3] = ((values[valueOffset + 8] & 0x3FFFFFL) >>> 16)
+                | ((values[valueOffset + 9] & 0x3FFFFFL) << 6)
+                | ((values[valueOffset + 10] & 0x3FFFFFL) << 28)
+                | ((values[valueOffset + 11] & 0x3FFFFFL) << 50);
+        words[wordOffset + 4] = ((values[valueOffset + 11] & 0x3FFFFFL) >>> 14)
+                | ((values[valueOffset + 12] & 0x3FFFFFL) << 8)
+                | ((values[valueOffset + 13] & 0x3FFFFFL) << 30)
+                | ((values[valueOffset + 14] & 0x3FFFFFL) << 52);
+        words[wordOffset + 5] = ((values[valueOffset + 14] & 0x3FFFFFL) >>> 12)
+                | ((values[valueOffset + 15] & 0x3FFFFFL) << 10)
+                | ((values[valueOffset + 16] & 0x3FFFFFL) << 32)
+                | ((values[valueOffset + 17] & 0x3FFFFFL) << 54);
+        words[wordOffset + 6] = ((values[valueOffset + 17] & 0x3FFFFFL) >>> 10)
+                | ((values[valueOffset + 18] & 0x3FFFFFL) << 12)
+                | ((values[valueOffset + 19] & 0x3FFFFFL) << 34)
+                | ((values[valueOffset + 20] & 0x3FFFFFL) << 56);
+        words[wordOffset + 7] = ((values[valueOffset + 20] & 0x3FFFFFL) >>> 8)
+                | ((values[valueOffset + 21] & 0x3FFFFFL) << 14)
+                | ((values[valueOffset + 22] & 0x3FFFFFL) << 36)
+                | ((values[valueOffset + 23] & 0x3FFFFFL) << 58);
+        words[wordOffset + 8] = ((values[valueOffset + 23] & 0x3FFFFFL) >>> 6)
+                | ((values[valueOffset + 24] & 0x3FFFFFL) << 16)
+                | ((values[valueOffset + 25] & 0x3FFFFFL) << 38)
+                | ((values[valueOffset + 26] & 0x3FFFFFL) << 60);
+        words[wordOffset + 9] = ((values[valueOffset + 26] & 0x3FFFFFL) >>> 4)
+                | ((values[valueOffset + 27] & 0x3FFFFFL) << 18)
+                | ((values[valueOffset + 28] & 0x3FFFFFL) << 40)
+                | ((values[valueOffset + 29] & 0x3FFFFFL) << 62);
+        words[wordOffset + 10] = ((values[valueOffset + 29] & 0x3FFFFFL) >>> 2)
+                | ((values[valueOffset + 30] & 0x3FFFFFL) << 20)
+                | ((values[valueOffset + 31] & 0x3FFFFFL) << 42);
+        words[wordOffset + 11] = (values[valueOffset + 32] & 0x3FFFFFL)
+                | ((values[valueOffset + 33] & 0x3FFFFFL) << 22)
+                | ((values[valueOffset + 34] & 0x3FFFFFL) << 44);
+        words[wordOffset + 12] = ((values[valueOffset + 34] & 0x3FFFFFL) >>> 20)
+                | ((values[valueOffset + 35] & 0x3FFFFFL) << 2)
+                | ((values[valueOffset + 36] & 0x3FFFFFL) << 24)
+                | ((values[valueOffset + 37] & 0x3FFFFFL) << 46);
+        words[wordOffset + 13] = ((values[valueOffset + 37] & 0x3FFFFFL) >>> 18)
+                | ((values[valueOffset + 38] & 0x3FFFFFL) << 4)
+                | ((values[valueOffset + 39] & 0x3FFFFFL) << 26)
+                | ((values[valueOffset + 40] & 0x3FFFFFL) << 48);
+        words[wordOffset + 14] = ((values[valueOffset + 40] & 0x3FFFFFL) >>> 16)
+                | ((values[valueOffset + 41] & 0x3FFFFFL) << 6)
+                | ((values[valueOffset + 42] & 0x3FFFFFL) << 28)
+                | ((values[valueOffset + 43] & 0x3FFFFFL) << 50);
+        words[wordOffset + 15] = ((values[valueOffset + 43] & 0x3FFFFFL) >>> 14)
+                | ((values[valueOffset + 44] & 0x3FFFFFL) << 8)
+                | ((values[valueOffset + 45] & 0x3FFFFFL) << 30)
+                | ((values[valueOffset + 46] & 0x3FFFFFL) << 52);
+        words[wordOffset + 16] = ((values[valueOffset + 46] & 0x3FFFFFL) >>> 12)
+                | ((values[valueOffset + 47] & 0x3FFFFFL) << 10)
+                | ((values[valueOffset + 48] & 0x3FFFFFL) << 32)
+                | ((values[valueOffset + 49] & 0x3FFFFFL) << 54);
+        words[wordOffset + 17] = ((values[valueOffset + 49] & 0x3FFFFFL) >>> 10)
+                | ((values[valueOffset + 50] & 0x3FFFFFL) << 12)
+                | ((values[valueOffset + 51] & 0x3FFFFFL) << 34)
+                | ((values[valueOffset + 52] & 0x3FFFFFL) << 56);
+        words[wordOffset + 18] = ((values[valueOffset + 52] & 0x3FFFFFL) >>> 8)
+                | ((values[valueOffset + 53] & 0x3FFFFFL) << 14)
+                | ((values[valueOffset + 54] & 0x3FFFFFL) << 36)
+                | ((values[valueOffset + 55] & 0x3FFFFFL) << 58);
+        words[wordOffset + 19] = ((values[valueOffset + 55] & 0x3FFFFFL) >>> 6)
+                | ((values[valueOffset + 56] & 0x3FFFFFL) << 16)
+                | ((values[valueOffset + 57] & 0x3FFFFFL) << 38)
+                | ((values[valueOffset + 58] & 0x3FFFFFL) << 60);
+        words[wordOffset + 20] = ((values[valueOffset + 58] & 0x3FFFFFL) >>> 4)
+                | ((values[valueOffset + 59] & 0x3FFFFFL) << 18)
+                | ((values[valueOffset + 60] & 0x3FFFFFL) << 40)
+                | ((values[valueOffset + 61] & 0x3FFFFFL) << 62);
+        words[wordOffset + 21] = ((values[valueOffset + 61] & 0x3FFFFFL) >>> 2)
+                | ((values[valueOffset + 62] & 0x3FFFFFL) << 20)
+                | ((values[valueOffset + 63] & 0x3FFFFFL) << 42);
+    }
+
+    private static void pack23(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x7FFFFFL)
+                | ((values[valueOffset + 1] & 0x7FFFFFL) << 23)
+                | ((values[valueOffset + 2] & 0x7FFFFFL) << 46);
+        words[wordOffset + 1] = ((values[valueOffset + 2] & 0x7FFFFFL) >>> 18)
+                | ((values[valueOffset + 3] & 0x7FFFFFL) << 5)
+                | ((values[valueOffset + 4] & 0x7FFFFFL) << 28)
+                | ((values[valueOffset + 5] & 0x7FFFFFL) << 51);
+        words[wordOffset + 2] = ((values[valueOffset + 5] & 0x7FFFFFL) >>> 13)
+                | ((values[valueOffset + 6] & 0x7FFFFFL) << 10)
+                | ((values[valueOffset + 7] & 0x7FFFFFL) << 33)
+                | ((values[valueOffset + 8] & 0x7FFFFFL) << 56);
+        words[wordOffset + 3] = ((values[valueOffset + 8] & 0x7FFFFFL) >>> 8)
+                | ((values[valueOffset + 9] & 0x7FFFFFL) << 15)
+                | ((values[valueOffset + 10] & 0x7FFFFFL) << 38)
+                | ((values[valueOffset + 11] & 0x7FFFFFL) << 61);
+        words[wordOffset + 4] = ((values[valueOffset + 11] & 0x7FFFFFL) >>> 3)
+                | ((values[valueOffset + 12] & 0x7FFFFFL) << 20)
+                | ((values[valueOffset + 13] & 0x7FFFFFL) << 43);
+        words[wordOffset + 5] = ((values[valueOffset + 13] & 0x7FFFFFL) >>> 21)
+                | ((values[valueOffset + 14] & 0x7FFFFFL) << 2)
+                | ((values[valueOffset + 15] & 0x7FFFFFL) << 25)
+                | ((values[valueOffset + 16] & 0x7FFFFFL) << 48);
+        words[wordOffset + 6] = ((values[valueOffset + 16] & 0x7FFFFFL) >>> 16)
+                | ((values[valueOffset + 17] & 0x7FFFFFL) << 7)
+                | ((values[valueOffset + 18] & 0x7FFFFFL) << 30)
+                | ((values[valueOffset + 19] & 0x7FFFFFL) << 53);
+        words[wordOffset + 7] = ((values[valueOffset + 19] & 0x7FFFFFL) >>> 11)
+                | ((values[valueOffset + 20] & 0x7FFFFFL) << 12)
+                | ((values[valueOffset + 21] & 0x7FFFFFL) << 35)
+                | ((values[valueOffset + 22] & 0x7FFFFFL) << 58);
+        words[wordOffset + 8] = ((values[valueOffset + 22] & 0x7FFFFFL) >>> 6)
+                | ((values[valueOffset + 23] & 0x7FFFFFL) << 17)
+                | ((values[valueOffset + 24] & 0x7FFFFFL) << 40)
+                | ((values[valueOffset + 25] & 0x7FFFFFL) << 63);
+        words[wordOffset + 9] = ((values[valueOffset + 25] & 0x7FFFFFL) >>> 1)
+                | ((values[valueOffset + 26] & 0x7FFFFFL) << 22)
+                | ((values[valueOffset + 27] & 0x7FFFFFL) << 45);
+        words[wordOffset + 10] = ((values[valueOffset + 27] & 0x7FFFFFL) >>> 19)
+                | ((values[valueOffset + 28] & 0x7FFFFFL) << 4)
+                | ((values[valueOffset + 29] & 0x7FFFFFL) << 27)
+                | ((values[valueOffset + 30] & 0x7FFFFFL) << 50);
+        words[wordOffset + 11] = ((values[valueOffset + 30] & 0x7FFFFFL) >>> 14)
+                | ((values[valueOffset + 31] & 0x7FFFFFL) << 9)
+                | ((values[valueOffset + 32] & 0x7FFFFFL) << 32)
+                | ((values[valueOffset + 33] & 0x7FFFFFL) << 55);
+        words[wordOffset + 12] = ((values[valueOffset + 33] & 0x7FFFFFL) >>> 9)
+                | ((values[valueOffset + 34] & 0x7FFFFFL) << 14)
+                | ((values[valueOffset + 35] & 0x7FFFFFL) << 37)
+                | ((values[valueOffset + 36] & 0x7FFFFFL) << 60);
+        words[wordOffset + 13] = ((values[valueOffset + 36] & 0x7FFFFFL) >>> 4)
+                | ((values[valueOffset + 37] & 0x7FFFFFL) << 19)
+                | ((values[valueOffset + 38] & 0x7FFFFFL) << 42);
+        words[wordOffset + 14] = ((values[valueOffset + 38] & 0x7FFFFFL) >>> 22)
+                | ((values[valueOffset + 39] & 0x7FFFFFL) << 1)
+                | ((values[valueOffset + 40] & 0x7FFFFFL) << 24)
+                | ((values[valueOffset + 41] & 0x7FFFFFL) << 47);
+        words[wordOffset + 15] = ((values[valueOffset + 41] & 0x7FFFFFL) >>> 17)
+                | ((values[valueOffset + 42] & 0x7FFFFFL) << 6)
+                | ((values[valueOffset + 43] & 0x7FFFFFL) << 29)
+                | ((values[valueOffset + 44] & 0x7FFFFFL) << 52);
+        words[wordOffset + 16] = ((values[valueOffset + 44] & 0x7FFFFFL) >>> 12)
+                | ((values[valueOffset + 45] & 0x7FFFFFL) << 11)
+                | ((values[valueOffset + 46] & 0x7FFFFFL) << 34)
+                | ((values[valueOffset + 47] & 0x7FFFFFL) << 57);
+        words[wordOffset + 17] = ((values[valueOffset + 47] & 0x7FFFFFL) >>> 7)
+                | ((values[valueOffset + 48] & 0x7FFFFFL) << 16)
+                | ((values[valueOffset + 49] & 0x7FFFFFL) << 39)
+                | ((values[valueOffset + 50] & 0x7FFFFFL) << 62);
+        words[wordOffset + 18] = ((values[valueOffset + 50] & 0x7FFFFFL) >>> 2)
+                | ((values[valueOffset + 51] & 0x7FFFFFL) << 21)
+                | ((values[valueOffset + 52] & 0x7FFFFFL) << 44);
+        words[wordOffset + 19] = ((values[valueOffset + 52] & 0x7FFFFFL) >>> 20)
+                | ((values[valueOffset + 53] & 0x7FFFFFL) << 3)
+                | ((values[valueOffset + 54] & 0x7FFFFFL) << 26)
+                | ((values[valueOffset + 55] & 0x7FFFFFL) << 49);
+        words[wordOffset + 20] = ((values[valueOffset + 55] & 0x7FFFFFL) >>> 15)
+                | ((values[valueOffset + 56] & 0x7FFFFFL) << 8)
+                | ((values[valueOffset + 57] & 0x7FFFFFL) << 31)
+                | ((values[valueOffset + 58] & 0x7FFFFFL) << 54);
+        words[wordOffset + 21] = ((values[valueOffset + 58] & 0x7FFFFFL) >>> 10)
+                | ((values[valueOffset + 59] & 0x7FFFFFL) << 13)
+                | ((values[valueOffset + 60] & 0x7FFFFFL) << 36)
+                | ((values[valueOffset + 61] & 0x7FFFFFL) << 59);
+        words[wordOffset + 22] = ((values[valueOffset + 61] & 0x7FFFFFL) >>> 5)
+                | ((values[valueOffset + 62] & 0x7FFFFFL) << 18)
+                | ((values[valueOffset + 63] & 0x7FFFFFL) << 41);
+    }
+
+    private static void pack24(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0xFFFFFFL)
+                | ((values[valueOffset + 1] & 0xFFFFFFL) << 24)
+                | ((values[valueOffset + 2] & 0xFFFFFFL) << 48);
+        words[wordOffset + 1] = ((values[valueOffset + 2] & 0xFFFFFFL) >>> 16)
+                | ((values[valueOffset + 3] & 0xFFFFFFL) << 8)
+                | ((values[valueOffset + 4] & 0xFFFFFFL) << 32)
+                | ((values[valueOffset + 5] & 0xFFFFFFL) << 56);
+        words[wordOffset + 2] = ((values[valueOffset + 5] & 0xFFFFFFL) >>> 8)
+                | ((values[valueOffset + 6] & 0xFFFFFFL) << 16)
+                | ((values[valueOffset + 7] & 0xFFFFFFL) << 40);
+        words[wordOffset + 3] = (values[valueOffset + 8] & 0xFFFFFFL)
+                | ((values[valueOffset + 9] & 0xFFFFFFL) << 24)
+                | ((values[valueOffset + 10] & 0xFFFFFFL) << 48);
+        words[wordOffset + 4] = ((values[valueOffset + 10] & 0xFFFFFFL) >>> 16)
+                | ((values[valueOffset + 11] & 0xFFFFFFL) << 8)
+                | ((values[valueOffset + 12] & 0xFFFFFFL) << 32)
+                | ((values[valueOffset + 13] & 0xFFFFFFL) << 56);
+        words[wordOffset + 5] = ((values[valueOffset + 13] & 0xFFFFFFL) >>> 8)
+                | ((values[valueOffset + 14] & 0xFFFFFFL) << 16)
+                | ((values[valueOffset + 15] & 0xFFFFFFL) << 40);
+        words[wordOffset + 6] = (values[valueOffset + 16] & 0xFFFFFFL)
+                | ((values[valueOffset + 17] & 0xFFFFFFL) << 24)
+                | ((values[valueOffset + 18] & 0xFFFFFFL) << 48);
+        words[wordOffset + 7] = ((values[valueOffset + 18] & 0xFFFFFFL) >>> 16)
+                | ((values[valueOffset + 19] & 0xFFFFFFL) << 8)
+                | ((values[valueOffset + 20] & 0xFFFFFFL) << 32)
+                | ((values[valueOffset + 21] & 0xFFFFFFL) << 56);
+        words[wordOffset + 8] = ((values[valueOffset + 21] & 0xFFFFFFL) >>> 8)
+                | ((values[valueOffset + 22] & 0xFFFFFFL) << 16)
+                | ((values[valueOffset + 23] & 0xFFFFFFL) << 40);
+        words[wordOffset + 9] = (values[valueOffset + 24] & 0xFFFFFFL)
+                | ((values[valueOffset + 25] & 0xFFFFFFL) << 24)
+                | ((values[valueOffset + 26] & 0xFFFFFFL) << 48);
+        words[wordOffset + 10] = ((values[valueOffset + 26] & 0xFFFFFFL) >>> 16)
+                | ((values[valueOffset + 27] & 0xFFFFFFL) << 8)
+                | ((values[valueOffset + 28] & 0xFFFFFFL) << 32)
+                | ((values[valueOffset + 29] & 0xFFFFFFL) << 56);
+        words[wordOffset + 11] = ((values[valueOffset + 29] & 0xFFFFFFL) >>> 8)
+                | ((values[valueOffset + 30] & 0xFFFFFFL) << 16)
+                | ((values[valueOffset + 31] & 0xFFFFFFL) << 40);
+        words[wordOffset + 12] = (values[valueOffset + 32] & 0xFFFFFFL)
+                | ((values[valueOffset + 33] & 0xFFFFFFL) << 24)
+                | ((values[valueOffset + 34] & 0xFFFFFFL) << 48);
+        words[wordOffset + 13] = ((values[valueOffset + 34] & 0xFFFFFFL) >>> 16)
+                | ((values[valueOffset + 35] & 0xFFFFFFL) << 8)
+                | ((values[valueOffset + 36] & 0xFFFFFFL) << 32)
+                | ((values[valueOffset + 37] & 0xFFFFFFL) << 56);
+        words[wordOffset + 14] = ((values[valueOffset + 37] & 0xFFFFFFL) >>> 8)
+                | ((values[valueOffset + 38] & 0xFFFFFFL) << 16)
+                | ((values[valueOffset + 39] & 0xFFFFFFL) << 40);
+        words[wordOffset + 15] = (values[valueOffset + 40] & 0xFFFFFFL)
+                | ((values[valueOffset + 41] & 0xFFFFFFL) << 24)
+                | ((values[valueOffset + 42] & 0xFFFFFFL) << 48);
+        words[wordOffset + 16] = ((values[valueOffset + 42] & 0xFFFFFFL) >>> 16)
+                | ((values[valueOffset + 43] & 0xFFFFFFL) << 8)
+                | ((values[valueOffset + 44] & 0xFFFFFFL) << 32)
+                | ((values[valueOffset + 45] & 0xFFFFFFL) << 56);
+        words[wordOffset + 17] = ((values[valueOffset + 45] & 0xFFFFFFL) >>> 8)
+                | ((values[valueOffset + 46] & 0xFFFFFFL) << 16)
+                | ((values[valueOffset + 47] & 0xFFFFFFL) << 40);
+        words[wordOffset + 18] = (values[valueOffset + 48] & 0xFFFFFFL)
+                | ((values[valueOffset + 49] & 0xFFFFFFL) << 24)
+                | ((values[valueOffset + 50] & 0xFFFFFFL) << 48);
+        words[wordOffset + 19] = ((values[valueOffset + 50] & 0xFFFFFFL) >>> 16)
+                | ((values[valueOffset + 51] & 0xFFFFFFL) << 8)
+                | ((values[valueOffset + 52] & 0xFFFFFFL) << 32)
+                | ((values[valueOffset + 53] & 0xFFFFFFL) << 56);
+        words[wordOffset + 20] = ((values[valueOffset + 53] & 0xFFFFFFL) >>> 8)
+                | ((values[valueOffset + 54] & 0xFFFFFFL) << 16)
+                | ((values[valueOffset + 55] & 0xFFFFFFL) << 40);
+        words[wordOffset + 21] = (values[valueOffset + 56] & 0xFFFFFFL)
+                | ((values[valueOffset + 57] & 0xFFFFFFL) << 24)
+                | ((values[valueOffset + 58] & 0xFFFFFFL) << 48);
+        words[wordOffset + 22] = ((values[valueOffset + 58] & 0xFFFFFFL) >>> 16)
+                | ((values[valueOffset + 59] & 0xFFFFFFL) << 8)
+                | ((values[valueOffset + 60] & 0xFFFFFFL) << 32)
+                | ((values[valueOffset + 61] & 0xFFFFFFL) << 56);
+        words[wordOffset + 23] = ((values[valueOffset + 61] & 0xFFFFFFL) >>> 8)
+                | ((values[valueOffset + 62] & 0xFFFFFFL) << 16)
+                | ((values[valueOffset + 63] & 0xFFFFFFL) << 40);
+    }
+
+    private static void pack25(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x1FFFFFFL)
+                | ((values[valueOffset + 1] & 0x1FFFFFFL) << 25)
+                | ((values[valueOffset + 2] & 0x1FFFFFFL) << 50);
+        words[wordOffset + 1] = ((values[valueOffset + 2] & 0x1FFFFFFL) >>> 14)
+                | ((values[valueOffset + 3] & 0x1FFFFFFL) << 11)
+                | ((values[valueOffset + 4] & 0x1FFFFFFL) << 36)
+                | ((values[valueOffset + 5] & 0x1FFFFFFL) << 61);
+        words[wordOffset + 2] = ((values[valueOffset + 5] & 0x1FFFFFFL) >>> 3)
+                | ((values[valueOffset + 6] & 0x1FFFFFFL) << 22)
+                | ((values[valueOffset + 7] & 0x1FFFFFFL) << 47);
+        words[wordOffset + 3] = ((values[valueOffset + 7] & 0x1FFFFFFL) >>> 17)
+                | ((values[valueOffset + 8] & 0x1FFFFFFL) << 8)
+                | ((values[valueOffset + 9] & 0x1FFFFFFL) << 33)
+                | ((values[valueOffset + 10] & 0x1FFFFFFL) << 58);
+        words[wordOffset + 4] = ((values[valueOffset + 10] & 0x1FFFFFFL) >>> 6)
+                | ((values[valueOffset + 11] & 0x1FFFFFFL) << 19)
+                | ((values[valueOffset + 12] & 0x1FFFFFFL) << 44);
+        words[wordOffset + 5] = ((values[valueOffset + 12] & 0x1FFFFFFL) >>> 20)
+                | ((values[valueOffset + 13] & 0x1FFFFFFL) << 5)
+                | ((values[valueOffset + 14] & 0x1FFFFFFL) << 30)
+                | ((values[valueOffset + 15] & 0x1FFFFFFL) << 55);
+        words[wordOffset + 6] = ((values[valueOffset + 15] & 0x1FFFFFFL) >>> 9)
+                | ((values[valueOffset + 16] & 0x1FFFFFFL) << 16)
+                | ((values[valueOffset + 17] & 0x1FFFFFFL) << 41);
+        words[wordOffset + 7] = ((values[valueOffset + 17] & 0x1FFFFFFL) >>> 23)
+                | ((values[valueOffset + 18] & 0x1FFFFFFL) << 2)
+                | ((values[valueOffset + 19] & 0x1FFFFFFL) << 27)
+                | ((values[valueOffset + 20] & 0x1FFFFFFL) << 52);
+        words[wordOffset + 8] = ((values[valueOffset + 20] & 0x1FFFFFFL) >>> 12)
+                | ((values[valueOffset + 21] & 0x1FFFFFFL) << 13)
+                | ((values[valueOffset + 22] & 0x1FFFFFFL) << 38)
+                | ((values[valueOffset + 23] & 0x1FFFFFFL) << 63);
+        words[wordOffset + 9] = ((values[valueOffset + 23] & 0x1FFFFFFL) >>> 1)
+                | ((values[valueOffset + 24] & 0x1FFFFFFL) << 24)
+                | ((values[valueOffset + 25] & 0x1FFFFFFL) << 49);
+        words[wordOffset + 10] = ((values[valueOffset + 25] & 0x1FFFFFFL) >>> 15)
+                | ((values[valueOffset + 26] & 0x1FFFFFFL) << 10)
+                | ((values[valueOffset + 27] & 0x1FFFFFFL) << 35)
+                | ((values[valueOffset + 28] & 0x1FFFFFFL) << 60);
+        words[wordOffset + 11] = ((values[valueOffset + 28] & 0x1FFFFFFL) >>> 4)
+                | ((values[valueOffset + 29] & 0x1FFFFFFL) << 21)
+                | ((values[valueOffset + 30] & 0x1FFFFFFL) << 46);
+        words[wordOffset + 12] = ((values[valueOffset + 30] & 0x1FFFFFFL) >>> 18)
+                | ((values[valueOffset + 31] & 0x1FFFFFFL) << 7)
+                | ((values[valueOffset + 32] & 0x1FFFFFFL) << 32)
+                | ((values[valueOffset + 33] & 0x1FFFFFFL) << 57);
+        words[wordOffset + 13] = ((values[valueOffset + 33] & 0x1FFFFFFL) >>> 7)
+                | ((values[valueOffset + 34] & 0x1FFFFFFL) << 18)
+                | ((values[valueOffset + 35] & 0x1FFFFFFL) << 43);
+        words[wordOffset + 14] = ((values[valueOffset + 35] & 0x1FFFFFFL) >>> 21)
+                | ((values[valueOffset + 36] & 0x1FFFFFFL) << 4)
+                | ((values[valueOffset + 37] & 0x1FFFFFFL) << 29)
+                | ((values[valueOffset + 38] & 0x1FFFFFFL) << 54);
+        words[wordOffset + 15] = ((values[valueOffset + 38] & 0x1FFFFFFL) >>> 10)
+                | ((values[valueOffset + 39] & 0x1FFFFFFL) << 15)
+                | ((values[valueOffset + 40] & 0x1FFFFFFL) << 40);
+        words[wordOffset + 16] = ((values[valueOffset + 40] & 0x1FFFFFFL) >>> 24)
+                | ((values[valueOffset + 41] & 0x1FFFFFFL) << 1)
+                | ((values[valueOffset + 42] & 0x1FFFFFFL) << 26)
+                | ((values[valueOffset + 43] & 0x1FFFFFFL) << 51);
+        words[wordOffset + 17] = ((values[valueOffset + 43] & 0x1FFFFFFL) >>> 13)
+                | ((values[valueOffset + 44] & 0x1FFFFFFL) << 12)
+                | ((values[valueOffset + 45] & 0x1FFFFFFL) << 37)
+                | ((values[valueOffset + 46] & 0x1FFFFFFL) << 62);
+        words[wordOffset + 18] = ((values[valueOffset + 46] & 0x1FFFFFFL) >>> 2)
+                | ((values[valueOffset + 47] & 0x1FFFFFFL) << 23)
+                | ((values[valueOffset + 48] & 0x1FFFFFFL) << 48);
+        words[wordOffset + 19] = ((values[valueOffset + 48] & 0x1FFFFFFL) >>> 16)
+                | ((values[valueOffset + 49] & 0x1FFFFFFL) << 9)
+                | ((values[valueOffset + 50] & 0x1FFFFFFL) << 34)
+                | ((values[valueOffset + 51] & 0x1FFFFFFL) << 59);
+        words[wordOffset + 20] = ((values[valueOffset + 51] & 0x1FFFFFFL) >>> 5)
+                | ((values[valueOffset + 52] & 0x1FFFFFFL) << 20)
+                | ((values[valueOffset + 53] & 0x1FFFFFFL) << 45);
+        words[wordOffset + 21] = ((values[valueOffset + 53] & 0x1FFFFFFL) >>> 19)
+                | ((values[valueOffset + 54] & 0x1FFFFFFL) << 6)
+                | ((values[valueOffset + 55] & 0x1FFFFFFL) << 31)
+                | ((values[valueOffset + 56] & 0x1FFFFFFL) << 56);
+        words[wordOffset + 22] = ((values[valueOffset + 56] & 0x1FFFFFFL) >>> 8)
+                | ((values[valueOffset + 57] & 0x1FFFFFFL) << 17)
+                | ((values[valueOffset + 58] & 0x1FFFFFFL) << 42);
+        words[wordOffset + 23] = ((values[valueOffset + 58] & 0x1FFFFFFL) >>> 22)
+                | ((values[valueOffset + 59] & 0x1FFFFFFL) << 3)
+                | ((values[valueOffset + 60] & 0x1FFFFFFL) << 28)
+                | ((values[valueOffset + 61] & 0x1FFFFFFL) << 53);
+        words[wordOffset + 24] = ((values[valueOffset + 61] & 0x1FFFFFFL) >>> 11)
+                | ((values[valueOffset + 62] & 0x1FFFFFFL) << 14)
+                | ((values[valueOffset + 63] & 0x1FFFFFFL) << 39);
+    }
+
+    private static void pack26(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x3FFFFFFL)
+                | ((values[valueOffset + 1] & 0x3FFFFFFL) << 26)
+                | ((values[valueOffset + 2] & 0x3FFFFFFL) << 52);
+        words[wordOffset + 1] = ((values[valueOffset + 2] & 0x3FFFFFFL) >>> 12)
+                | ((values[valueOffset + 3] & 0x3FFFFFFL) << 14)
+                | ((values[valueOffset + 4] & 0x3FFFFFFL) << 40);
+        words[wordOffset + 2] = ((values[valueOffset + 4] & 0x3FFFFFFL) >>> 24)
+                | ((values[valueOffset + 5] & 0x3FFFFFFL) << 2)
+                | ((values[valueOffset + 6] & 0x3FFFFFFL) << 28)
+                | ((values[valueOffset + 7] & 0x3FFFFFFL) << 54);
+        words[wordOffset + 3] = ((values[valueOffset + 7] & 0x3FFFFFFL) >>> 10)
+                | ((values[valueOffset + 8] & 0x3FFFFFFL) << 16)
+                | ((values[valueOffset + 9] & 0x3FFFFFFL) << 42);
+        words[wordOffset + 4] = ((values[valueOffset + 9] & 0x3FFFFFFL) >>> 22)
+                | ((values[valueOffset + 10] & 0x3FFFFFFL) << 4)
+                | ((values[valueOffset + 11] & 0x3FFFFFFL) << 30)
+                | ((values[valueOffset + 12] & 0x3FFFFFFL) << 56);
+        words[wordOffset + 5] = ((values[valueOffset + 12] & 0x3FFFFFFL) >>> 8)
+                | ((values[valueOffset + 13] & 0x3FFFFFFL) << 18)
+                | ((values[valueOffset + 14] & 0x3FFFFFFL) << 44);
+        words[wordOffset + 6] = ((values[valueOffset + 14] & 0x3FFFFFFL) >>> 20)
+                | ((values[valueOffset + 15] & 0x3FFFFFFL) << 6)
+                | ((values[valueOffset + 16] & 0x3FFFFFFL) << 32)
+                | ((values[valueOffset + 17] & 0x3FFFFFFL) << 58);
+        words[wordOffset + 7] = ((values[valueOffset + 17] & 0x3FFFFFFL) >>> 6)
+                | ((values[valueOffset + 18] & 0x3FFFFFFL) << 20)
+                | ((values[valueOffset + 19] & 0x3FFFFFFL) << 46);
+        words[wordOffset + 8] = ((values[valueOffset + 19] & 0x3FFFFFFL) >>> 18)
+                | ((values[valueOffset + 20] & 0x3FFFFFFL) << 8)
+                | ((values[valueOffset + 21] & 0x3FFFFFFL) << 34)
+                | ((values[valueOffset + 22] & 0x3FFFFFFL) << 60);
+        words[wordOffset + 9] = ((values[valueOffset + 22] & 0x3FFFFFFL) >>> 4)
+                | ((values[valueOffset + 23] & 0x3FFFFFFL) << 22)
+                | ((values[valueOffset + 24] & 0x3FFFFFFL) << 48);
+        words[wordOffset + 10] = ((values[valueOffset + 24] & 0x3FFFFFFL) >>> 16)
+                | ((values[valueOffset + 25] & 0x3FFFFFFL) << 10)
+                | ((values[valueOffset + 26] & 0x3FFFFFFL) << 36)
+                | ((values[valueOffset + 27] & 0x3FFFFFFL) << 62);
+        words[wordOffset + 11] = ((values[valueOffset + 27] & 0x3FFFFFFL) >>> 2)
+                | ((values[valueOffset + 28] & 0x3FFFFFFL) << 24)
+                | ((values[valueOffset + 29] & 0x3FFFFFFL) << 50);
+        words[wordOffset + 12] = ((values[valueOffset + 29] & 0x3FFFFFFL) >>> 14)
+                | ((values[valueOffset + 30] & 0x3FFFFFFL) << 12)
+                | ((values[valueOffset + 31] & 0x3FFFFFFL) << 38);
+        words[wordOffset + 13] = (values[valueOffset + 32] & 0x3FFFFFFL)
+                | ((values[valueOffset + 33] & 0x3FFFFFFL) << 26)
+                | ((values[valueOffset + 34] & 0x3FFFFFFL) << 52);
+        words[wordOffset + 14] = ((values[valueOffset + 34] & 0x3FFFFFFL) >>> 12)
+                | ((values[valueOffset + 35] & 0x3FFFFFFL) << 14)
+                | ((values[valueOffset + 36] & 0x3FFFFFFL) << 40);
+        words[wordOffset + 15] = ((values[valueOffset + 36] & 0x3FFFFFFL) >>> 24)
+                | ((values[valueOffset + 37] & 0x3FFFFFFL) << 2)
+                | ((values[valueOffset + 38] & 0x3FFFFFFL) << 28)
+                | ((values[valueOffset + 39] & 0x3FFFFFFL) << 54);
+        words[wordOffset + 16] = ((values[valueOffset + 39] & 0x3FFFFFFL) >>> 10)
+                | ((values[valueOffset + 40] & 0x3FFFFFFL) << 16)
+                | ((values[valueOffset + 41] & 0x3FFFFFFL) << 42);
+        words[wordOffset + 17] = ((values[valueOffset + 41] & 0x3FFFFFFL) >>> 22)
+                | ((values[valueOffset + 42] & 0x3FFFFFFL) << 4)
+                | ((values[valueOffset + 43] & 0x3FFFFFFL) << 30)
+                | ((values[valueOffset + 44] & 0x3FFFFFFL) << 56);
+        words[wordOffset + 18] = ((values[valueOffset + 44] & 0x3FFFFFFL) >>> 8)
+                | ((values[valueOffset + 45] & 0x3FFFFFFL) << 18)
+                | ((values[valueOffset + 46] & 0x3FFFFFFL) << 44);
+        words[wordOffset + 19] = ((values[valueOffset + 46] & 0x3FFFFFFL) >>> 20)
+                | ((values[valueOffset + 47] & 0x3FFFFFFL) << 6)
+                | ((values[valueOffset + 48] & 0x3FFFFFFL) << 32)
+                | ((values[valueOffset + 49] & 0x3FFFFFFL) << 58);
+        words[wordOffset + 20] = ((values[valueOffset + 49] & 0x3FFFFFFL) >>> 6)
+                | ((values[valueOffset + 50] & 0x3FFFFFFL) << 20)
+                | ((values[valueOffset + 51] & 0x3FFFFFFL) << 46);
+        words[wordOffset + 21] = ((values[valueOffset + 51] & 0x3FFFFFFL) >>> 18)
+                | ((values[valueOffset + 52] & 0x3FFFFFFL) << 8)
+                | ((values[valueOffset + 53] & 0x3FFFFFFL) << 34)
+                | ((values[valueOffset + 54] & 0x3FFFFFFL) << 60);
+        words[wordOffset + 22] = ((values[valueOffset + 54] & 0x3FFFFFFL) >>> 4)
+                | ((values[valueOffset + 55] & 0x3FFFFFFL) << 22)
+                | ((values[valueOffset + 56] & 0x3FFFFFFL) << 48);
+        words[wordOffset + 23] = ((values[valueOffset + 56] & 0x3FFFFFFL) >>> 16)
+                | ((values[valueOffset + 57] & 0x3FFFFFFL) << 10)
+                | ((values[valueOffset + 58] & 0x3FFFFFFL) << 36)
+                | ((values[valueOffset + 59] & 0x3FFFFFFL) << 62);
+        words[wordOffset + 24] = ((values[valueOffset + 59] & 0x3FFFFFFL) >>> 2)
+                | ((values[valueOffset + 60] & 0x3FFFFFFL) << 24)
+                | ((values[valueOffset + 61] & 0x3FFFFFFL) << 50);
+        words[wordOffset + 25] = ((values[valueOffset + 61] & 0x3FFFFFFL) >>> 14)
+                | ((values[valueOffset + 62] & 0x3FFFFFFL) << 12)
+                | ((values[valueOffset + 63] & 0x3FFFFFFL) << 38);
+    }
+
+    private static void pack27(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x7FFFFFFL)
+                | ((values[valueOffset + 1] & 0x7FFFFFFL) << 27)
+                | ((values[valueOffset + 2] & 0x7FFFFFFL) << 54);
+        words[wordOffset + 1] = ((values[valueOffset + 2] & 0x7FFFFFFL) >>> 10)
+                | ((values[valueOffset + 3] & 0x7FFFFFFL) << 17)
+                | ((values[valueOffset + 4] & 0x7FFFFFFL) << 44);
+        words[wordOffset + 2] = ((values[valueOffset + 4] & 0x7FFFFFFL) >>> 20)
+                | ((values[valueOffset + 5] & 0x7FFFFFFL) << 7)
+                | ((values[valueOffset + 6] & 0x7FFFFFFL) << 34)
+                | ((values[valueOffset + 7] & 0x7FFFFFFL) << 61);
+        words[wordOffset + 3] = ((values[valueOffset + 7] & 0x7FFFFFFL) >>> 3)
+                | ((values[valueOffset + 8] & 0x7FFFFFFL) << 24)
+                | ((values[valueOffset + 9] & 0x7FFFFFFL) << 51);
+        words[wordOffset + 4] = ((values[valueOffset + 9] & 0x7FFFFFFL) >>> 13)
+                | ((values[valueOffset + 10] & 0x7FFFFFFL) << 14)
+                | ((values[valueOffset + 11] & 0x7FFFFFFL) << 41);
+        words[wordOffset + 5] = ((values[valueOffset + 11] & 0x7FFFFFFL) >>> 23)
+                | ((values[valueOffset + 12] & 0x7FFFFFFL) << 4)
+                | ((values[valueOffset + 13] & 0x7FFFFFFL) << 31)
+                | ((values[valueOffset + 14] & 0x7FFFFFFL) << 58);
+        words[wordOffset + 6] = ((values[valueOffset + 14] & 0x7FFFFFFL) >>> 6)
+                | ((values[valueOffset + 15] & 0x7FFFFFFL) << 21)
+                | ((values[valueOffset + 16] & 0x7FFFFFFL) << 48);
+        words[wordOffset + 7] = ((values[valueOffset + 16] & 0x7FFFFFFL) >>> 16)
+                | ((values[valueOffset + 17] & 0x7FFFFFFL) << 11)
+                | ((values[valueOffset + 18] & 0x7FFFFFFL) << 38);
+        words[wordOffset + 8] = ((values[valueOffset + 18] & 0x7FFFFFFL) >>> 26)
+                | ((values[valueOffset + 19] & 0x7FFFFFFL) << 1)
+                | ((values[valueOffset + 20] & 0x7FFFFFFL) << 28)
+                | ((values[valueOffset + 21] & 0x7FFFFFFL) << 55);
+        words[wordOffset + 9] = ((values[valueOffset + 21] & 0x7FFFFFFL) >>> 9)
+                | ((values[valueOffset + 22] & 0x7FFFFFFL) << 18)
+                | ((values[valueOffset + 23] & 0x7FFFFFFL) << 45);
+        words[wordOffset + 10] = ((values[valueOffset + 23] & 0x7FFFFFFL) >>> 19)
+                | ((values[valueOffset + 24] & 0x7FFFFFFL) << 8)
+                | ((values[valueOffset + 25] & 0x7FFFFFFL) << 35)
+                | ((values[valueOffset + 26] & 0x7FFFFFFL) << 62);
+        words[wordOffset + 11] = ((values[valueOffset + 26] & 0x7FFFFFFL) >>> 2)
+                | ((values[valueOffset + 27] & 0x7FFFFFFL) << 25)
+                | ((values[valueOffset + 28] & 0x7FFFFFFL) << 52);
+        words[wordOffset + 12] = ((values[valueOffset + 28] & 0x7FFFFFFL) >>> 12)
+                | ((values[valueOffset + 29] & 0x7FFFFFFL) << 15)
+                | ((values[valueOffset + 30] & 0x7FFFFFFL) << 42);
+        words[wordOffset + 13] = ((values[valueOffset + 30] & 0x7FFFFFFL) >>> 22)
+                | ((values[valueOffset + 31] & 0x7FFFFFFL) << 5)
+                | ((values[valueOffset + 32] & 0x7FFFFFFL) << 32)
+                | ((values[valueOffset + 33] & 0x7FFFFFFL) << 59);
+        words[wordOffset + 14] = ((values[valueOffset + 33] & 0x7FFFFFFL) >>> 5)
+                | ((values[valueOffset + 34] & 0x7FFFFFFL) << 22)
+                | ((values[valueOffset + 35] & 0x7FFFFFFL) << 49);
+        words[wordOffset + 15] = ((values[valueOffset + 35] & 0x7FFFFFFL) >>> 15)
+                | ((values[valueOffset + 36] & 0x7FFFFFFL) << 12)
+                | ((values[valueOffset + 37] & 0x7FFFFFFL) << 39);
+        words[wordOffset + 16] = ((values[valueOffset + 37] & 0x7FFFFFFL) >>> 25)
+                | ((values[valueOffset + 38] & 0x7FFFFFFL) << 2)
+                | ((values[valueOffset + 39] & 0x7FFFFFFL) << 29)
+                | ((values[valueOffset + 40] & 0x7FFFFFFL) << 56);
+        words[wordOffset + 17] = ((values[valueOffset + 40] & 0x7FFFFFFL) >>> 8)
+                | ((values[valueOffset + 41] & 0x7FFFFFFL) << 19)
+                | ((values[valueOffset + 42] & 0x7FFFFFFL) << 46);
+        words[wordOffset + 18] = ((values[valueOffset + 42] & 0x7FFFFFFL) >>> 18)
+                | ((values[valueOffset + 43] & 0x7FFFFFFL) << 9)
+                | ((values[valueOffset + 44] & 0x7FFFFFFL) << 36)
+                | ((values[valueOffset + 45] & 0x7FFFFFFL) << 63);
+        words[wordOffset + 19] = ((values[valueOffset + 45] & 0x7FFFFFFL) >>> 1)
+                | ((values[valueOffset + 46] & 0x7FFFFFFL) << 26)
+                | ((values[valueOffset + 47] & 0x7FFFFFFL) << 53);
+        words[wordOffset + 20] = ((values[valueOffset + 47] & 0x7FFFFFFL) >>> 11)
+                | ((values[valueOffset + 48] & 0x7FFFFFFL) << 16)
+                | ((values[valueOffset + 49] & 0x7FFFFFFL) << 43);
+        words[wordOffset + 21] = ((values[valueOffset + 49] & 0x7FFFFFFL) >>> 21)
+                | ((values[valueOffset + 50] & 0x7FFFFFFL) << 6)
+                | ((values[valueOffset + 51] & 0x7FFFFFFL) << 33)
+                | ((values[valueOffset + 52] & 0x7FFFFFFL) << 60);
+        words[wordOffset + 22] = ((values[valueOffset + 52] & 0x7FFFFFFL) >>> 4)
+                | ((values[valueOffset + 53] & 0x7FFFFFFL) << 23)
+                | ((values[valueOffset + 54] & 0x7FFFFFFL) << 50);
+        words[wordOffset + 23] = ((values[valueOffset + 54] & 0x7FFFFFFL) >>> 14)
+                | ((values[valueOffset + 55] & 0x7FFFFFFL) << 13)
+                | ((values[valueOffset + 56] & 0x7FFFFFFL) << 40);
+        words[wordOffset + 24] = ((values[valueOffset + 56] & 0x7FFFFFFL) >>> 24)
+                | ((values[valueOffset + 57] & 0x7FFFFFFL) << 3)
+                | ((values[valueOffset + 58] & 0x7FFFFFFL) << 30)
+                | ((values[valueOffset + 59] & 0x7FFFFFFL) << 57);
+        words[wordOffset + 25] = ((values[valueOffset + 59] & 0x7FFFFFFL) >>> 7)
+                | ((values[valueOffset + 60] & 0x7FFFFFFL) << 20)
+                | ((values[valueOffset + 61] & 0x7FFFFFFL) << 47);
+        words[wordOffset + 26] = ((values[valueOffset + 61] & 0x7FFFFFFL) >>> 17)
+                | ((values[valueOffset + 62] & 0x7FFFFFFL) << 10)
+                | ((values[valueOffset + 63] & 0x7FFFFFFL) << 37);
+    }
+
+    private static void pack28(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0xFFFFFFFL)
+                | ((values[valueOffset + 1] & 0xFFFFFFFL) << 28)
+                | ((values[valueOffset + 2] & 0xFFFFFFFL) << 56);
+        words[wordOffset + 1] = ((values[valueOffset + 2] & 0xFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 3] & 0xFFFFFFFL) << 20)
+                | ((values[valueOffset + 4] & 0xFFFFFFFL) << 48);
+        words[wordOffset + 2] = ((values[valueOffset + 4] & 0xFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 5] & 0xFFFFFFFL) << 12)
+                | ((values[valueOffset + 6] & 0xFFFFFFFL) << 40);
+        words[wordOffset + 3] = ((values[valueOffset + 6] & 0xFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 7] & 0xFFFFFFFL) << 4)
+                | ((values[valueOffset + 8] & 0xFFFFFFFL) << 32)
+                | ((values[valueOffset + 9] & 0xFFFFFFFL) << 60);
+        words[wordOffset + 4] = ((values[valueOffset + 9] & 0xFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 10] & 0xFFFFFFFL) << 24)
+                | ((values[valueOffset + 11] & 0xFFFFFFFL) << 52);
+        words[wordOffset + 5] = ((values[valueOffset + 11] & 0xFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 12] & 0xFFFFFFFL) << 16)
+                | ((values[valueOffset + 13] & 0xFFFFFFFL) << 44);
+        words[wordOffset + 6] = ((values[valueOffset + 13] & 0xFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 14] & 0xFFFFFFFL) << 8)
+                | ((values[valueOffset + 15] & 0xFFFFFFFL) << 36);
+        words[wordOffset + 7] = (values[valueOffset + 16] & 0xFFFFFFFL)
+                | ((values[valueOffset + 17] & 0xFFFFFFFL) << 28)
+                | ((values[valueOffset + 18] & 0xFFFFFFFL) << 56);
+        words[wordOffset + 8] = ((values[valueOffset + 18] & 0xFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 19] & 0xFFFFFFFL) << 20)
+                | ((values[valueOffset + 20] & 0xFFFFFFFL) << 48);
+        words[wordOffset + 9] = ((values[valueOffset + 20] & 0xFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 21] & 0xFFFFFFFL) << 12)
+                | ((values[valueOffset + 22] & 0xFFFFFFFL) << 40);
+        words[wordOffset + 10] = ((values[valueOffset + 22] & 0xFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 23] & 0xFFFFFFFL) << 4)
+                | ((values[valueOffset + 24] & 0xFFFFFFFL) << 32)
+                | ((values[valueOffset + 25] & 0xFFFFFFFL) << 60);
+        words[wordOffset + 11] = ((values[valueOffset + 25] & 0xFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 26] & 0xFFFFFFFL) << 24)
+                | ((values[valueOffset + 27] & 0xFFFFFFFL) << 52);
+        words[wordOffset + 12] = ((values[valueOffset + 27] & 0xFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 28] & 0xFFFFFFFL) << 16)
+                | ((values[valueOffset + 29] & 0xFFFFFFFL) << 44);
+        words[wordOffset + 13] = ((values[valueOffset + 29] & 0xFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 30] & 0xFFFFFFFL) << 8)
+                | ((values[valueOffset + 31] & 0xFFFFFFFL) << 36);
+        words[wordOffset + 14] = (values[valueOffset + 32] & 0xFFFFFFFL)
+                | ((values[valueOffset + 33] & 0xFFFFFFFL) << 28)
+                | ((values[valueOffset + 34] & 0xFFFFFFFL) << 56);
+        words[wordOffset + 15] = ((values[valueOffset + 34] & 0xFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 35] & 0xFFFFFFFL) << 20)
+                | ((values[valueOffset + 36] & 0xFFFFFFFL) << 48);
+        words[wordOffset + 16] = ((values[valueOffset + 36] & 0xFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 37] & 0xFFFFFFFL) << 12)
+                | ((values[valueOffset + 38] & 0xFFFFFFFL) << 40);
+        words[wordOffset + 17] = ((values[valueOffset + 38] & 0xFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 39] & 0xFFFFFFFL) << 4)
+                | ((values[valueOffset + 40] & 0xFFFFFFFL) << 32)
+                | ((values[valueOffset + 41] & 0xFFFFFFFL) << 60);
+        words[wordOffset + 18] = ((values[valueOffset + 41] & 0xFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 42] & 0xFFFFFFFL) << 24)
+                | ((values[valueOffset + 43] & 0xFFFFFFFL) << 52);
+        words[wordOffset + 19] = ((values[valueOffset + 43] & 0xFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 44] & 0xFFFFFFFL) << 16)
+                | ((values[valueOffset + 45] & 0xFFFFFFFL) << 44);
+        words[wordOffset + 20] = ((values[valueOffset + 45] & 0xFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 46] & 0xFFFFFFFL) << 8)
+                | ((values[valueOffset + 47] & 0xFFFFFFFL) << 36);
+        words[wordOffset + 21] = (values[valueOffset + 48] & 0xFFFFFFFL)
+                | ((values[valueOffset + 49] & 0xFFFFFFFL) << 28)
+                | ((values[valueOffset + 50] & 0xFFFFFFFL) << 56);
+        words[wordOffset + 22] = ((values[valueOffset + 50] & 0xFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 51] & 0xFFFFFFFL) << 20)
+                | ((values[valueOffset + 52] & 0xFFFFFFFL) << 48);
+        words[wordOffset + 23] = ((values[valueOffset + 52] & 0xFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 53] & 0xFFFFFFFL) << 12)
+                | ((values[valueOffset + 54] & 0xFFFFFFFL) << 40);
+        words[wordOffset + 24] = ((values[valueOffset + 54] & 0xFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 55] & 0xFFFFFFFL) << 4)
+                | ((values[valueOffset + 56] & 0xFFFFFFFL) << 32)
+                | ((values[valueOffset + 57] & 0xFFFFFFFL) << 60);
+        words[wordOffset + 25] = ((values[valueOffset + 57] & 0xFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 58] & 0xFFFFFFFL) << 24)
+                | ((values[valueOffset + 59] & 0xFFFFFFFL) << 52);
+        words[wordOffset + 26] = ((values[valueOffset + 59] & 0xFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 60] & 0xFFFFFFFL) << 16)
+                | ((values[valueOffset + 61] & 0xFFFFFFFL) << 44);
+        words[wordOffset + 27] = ((values[valueOffset + 61] & 0xFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 62] & 0xFFFFFFFL) << 8)
+                | ((values[valueOffset + 63] & 0xFFFFFFFL) << 36);
+    }
+
+    private static void pack29(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x1FFFFFFFL)
+                | ((values[valueOffset + 1] & 0x1FFFFFFFL) << 29)
+                | ((values[valueOffset + 2] & 0x1FFFFFFFL) << 58);
+        words[wordOffset + 1] = ((values[valueOffset + 2] & 0x1FFFFFFFL) >>> 6)
+                | ((values[valueOffset + 3] & 0x1FFFFFFFL) << 23)
+                | ((values[valueOffset + 4] & 0x1FFFFFFFL) << 52);
+        words[wordOffset + 2] = ((values[valueOffset + 4] & 0x1FFFFFFFL) >>> 12)
+                | ((values[valueOffset + 5] & 0x1FFFFFFFL) << 17)
+                | ((values[valueOffset + 6] & 0x1FFFFFFFL) << 46);
+        words[wordOffset + 3] = ((values[valueOffset + 6] & 0x1FFFFFFFL) >>> 18)
+                | ((values[valueOffset + 7] & 0x1FFFFFFFL) << 11)
+                | ((values[valueOffset + 8] & 0x1FFFFFFFL) << 40);
+        words[wordOffset + 4] = ((values[valueOffset + 8] & 0x1FFFFFFFL) >>> 24)
+                | ((values[valueOffset + 9] & 0x1FFFFFFFL) << 5)
+                | ((values[valueOffset + 10] & 0x1FFFFFFFL) << 34)
+                | ((values[valueOffset + 11] & 0x1FFFFFFFL) << 63);
+        words[wordOffset + 5] = ((values[valueOffset + 11] & 0x1FFFFFFFL) >>> 1)
+                | ((values[valueOffset + 12] & 0x1FFFFFFFL) << 28)
+                | ((values[valueOffset + 13] & 0x1FFFFFFFL) << 57);
+        words[wordOffset + 6] = ((values[valueOffset + 13] & 0x1FFFFFFFL) >>> 7)
+                | ((values[valueOffset + 14] & 0x1FFFFFFFL) << 22)
+                | ((values[valueOffset + 15] & 0x1FFFFFFFL) << 51);
+        words[wordOffset + 7] = ((values[valueOffset + 15] & 0x1FFFFFFFL) >>> 13)
+                | ((values[valueOffset + 16] & 0x1FFFFFFFL) << 16)
+                | ((values[valueOffset + 17] & 0x1FFFFFFFL) << 45);
+        words[wordOffset + 8] = ((values[valueOffset + 17] & 0x1FFFFFFFL) >>> 19)
+                | ((values[valueOffset + 18] & 0x1FFFFFFFL) << 10)
+                | ((values[valueOffset + 19] & 0x1FFFFFFFL) << 39);
+        words[wordOffset + 9] = ((values[valueOffset + 19] & 0x1FFFFFFFL) >>> 25)
+                | ((values[valueOffset + 20] & 0x1FFFFFFFL) << 4)
+                | ((values[valueOffset + 21] & 0x1FFFFFFFL) << 33)
+                | ((values[valueOffset + 22] & 0x1FFFFFFFL) << 62);
+        words[wordOffset + 10] = ((values[valueOffset + 22] & 0x1FFFFFFFL) >>> 2)
+                | ((values[valueOffset + 23] & 0x1FFFFFFFL) << 27)
+                | ((values[valueOffset + 24] & 0x1FFFFFFFL) << 56);
+        words[wordOffset + 11] = ((values[valueOffset + 24] & 0x1FFFFFFFL) >>> 8)
+                | ((values[valueOffset + 25] & 0x1FFFFFFFL) << 21)
+                | ((values[valueOffset + 26] & 0x1FFFFFFFL) << 50);
+        words[wordOffset + 12] = ((values[valueOffset + 26] & 0x1FFFFFFFL) >>> 14)
+                | ((values[valueOffset + 27] & 0x1FFFFFFFL) << 15)
+                | ((values[valueOffset + 28] & 0x1FFFFFFFL) << 44);
+        words[wordOffset + 13] = ((values[valueOffset + 28] & 0x1FFFFFFFL) >>> 20)
+                | ((values[valueOffset + 29] & 0x1FFFFFFFL) << 9)
+                | ((values[valueOffset + 30] & 0x1FFFFFFFL) << 38);
+        words[wordOffset + 14] = ((values[valueOffset + 30] & 0x1FFFFFFFL) >>> 26)
+                | ((values[valueOffset + 31] & 0x1FFFFFFFL) << 3)
+                | ((values[valueOffset + 32] & 0x1FFFFFFFL) << 32)
+                | ((values[valueOffset + 33] & 0x1FFFFFFFL) << 61);
+        words[wordOffset + 15] = ((values[valueOffset + 33] & 0x1FFFFFFFL) >>> 3)
+                | ((values[valueOffset + 34] & 0x1FFFFFFFL) << 26)
+                | ((values[valueOffset + 35] & 0x1FFFFFFFL) << 55);
+        words[wordOffset + 16] = ((values[valueOffset + 35] & 0x1FFFFFFFL) >>> 9)
+                | ((values[valueOffset + 36] & 0x1FFFFFFFL) << 20)
+                | ((values[valueOffset + 37] & 0x1FFFFFFFL) << 49);
+        words[wordOffset + 17] = ((values[valueOffset + 37] & 0x1FFFFFFFL) >>> 15)
+                | ((values[valueOffset + 38] & 0x1FFFFFFFL) << 14)
+                | ((values[valueOffset + 39] & 0x1FFFFFFFL) << 43);
+        words[wordOffset + 18] = ((values[valueOffset + 39] & 0x1FFFFFFFL) >>> 21)
+                | ((values[valueOffset + 40] & 0x1FFFFFFFL) << 8)
+                | ((values[valueOffset + 41] & 0x1FFFFFFFL) << 37);
+        words[wordOffset + 19] = ((values[valueOffset + 41] & 0x1FFFFFFFL) >>> 27)
+                | ((values[valueOffset + 42] & 0x1FFFFFFFL) << 2)
+                | ((values[valueOffset + 43] & 0x1FFFFFFFL) << 31)
+                | ((values[valueOffset + 44] & 0x1FFFFFFFL) << 60);
+        words[wordOffset + 20] = ((values[valueOffset + 44] & 0x1FFFFFFFL) >>> 4)
+                | ((values[valueOffset + 45] & 0x1FFFFFFFL) << 25)
+                | ((values[valueOffset + 46] & 0x1FFFFFFFL) << 54);
+        words[wordOffset + 21] = ((values[valueOffset + 46] & 0x1FFFFFFFL) >>> 10)
+                | ((values[valueOffset + 47] & 0x1FFFFFFFL) << 19)
+                | ((values[valueOffset + 48] & 0x1FFFFFFFL) << 48);
+        words[wordOffset + 22] = ((values[valueOffset + 48] & 0x1FFFFFFFL) >>> 16)
+                | ((values[valueOffset + 49] & 0x1FFFFFFFL) << 13)
+                | ((values[valueOffset + 50] & 0x1FFFFFFFL) << 42);
+        words[wordOffset + 23] = ((values[valueOffset + 50] & 0x1FFFFFFFL) >>> 22)
+                | ((values[valueOffset + 51] & 0x1FFFFFFFL) << 7)
+                | ((values[valueOffset + 52] & 0x1FFFFFFFL) << 36);
+        words[wordOffset + 24] = ((values[valueOffset + 52] & 0x1FFFFFFFL) >>> 28)
+                | ((values[valueOffset + 53] & 0x1FFFFFFFL) << 1)
+                | ((values[valueOffset + 54] & 0x1FFFFFFFL) << 30)
+                | ((values[valueOffset + 55] & 0x1FFFFFFFL) << 59);
+        words[wordOffset + 25] = ((values[valueOffset + 55] & 0x1FFFFFFFL) >>> 5)
+                | ((values[valueOffset + 56] & 0x1FFFFFFFL) << 24)
+                | ((values[valueOffset + 57] & 0x1FFFFFFFL) << 53);
+        words[wordOffset + 26] = ((values[valueOffset + 57] & 0x1FFFFFFFL) >>> 11)
+                | ((values[valueOffset + 58] & 0x1FFFFFFFL) << 18)
+                | ((values[valueOffset + 59] & 0x1FFFFFFFL) << 47);
+        words[wordOffset + 27] = ((values[valueOffset + 59] & 0x1FFFFFFFL) >>> 17)
+                | ((values[valueOffset + 60] & 0x1FFFFFFFL) << 12)
+                | ((values[valueOffset + 61] & 0x1FFFFFFFL) << 41);
+        words[wordOffset + 28] = ((values[valueOffset + 61] & 0x1FFFFFFFL) >>> 23)
+                | ((values[valueOffset + 62] & 0x1FFFFFFFL) << 6)
+                | ((values[valueOffset + 63] & 0x1FFFFFFFL) << 35);
+    }
+
+    private static void pack30(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x3FFFFFFFL)
+                | ((values[valueOffset + 1] & 0x3FFFFFFFL) << 30)
+                | ((values[valueOffset + 2] & 0x3FFFFFFFL) << 60);
+        words[wordOffset + 1] = ((values[valueOffset + 2] & 0x3FFFFFFFL) >>> 4)
+                | ((values[valueOffset + 3] & 0x3FFFFFFFL) << 26)
+                | ((values[valueOffset + 4] & 0x3FFFFFFFL) << 56);
+        words[wordOffset + 2] = ((values[valueOffset + 4] & 0x3FFFFFFFL) >>> 8)
+                | ((values[valueOffset + 5] & 0x3FFFFFFFL) << 22)
+                | ((values[valueOffset + 6] & 0x3FFFFFFFL) << 52);
+        words[wordOffset + 3] = ((values[valueOffset + 6] & 0x3FFFFFFFL) >>> 12)
+                | ((values[valueOffset + 7] & 0x3FFFFFFFL) << 18)
+                | ((values[valueOffset + 8] & 0x3FFFFFFFL) << 48);
+        words[wordOffset + 4] = ((values[valueOffset + 8] & 0x3FFFFFFFL) >>> 16)
+                | ((values[valueOffset + 9] & 0x3FFFFFFFL) << 14)
+                | ((values[valueOffset + 10] & 0x3FFFFFFFL) << 44);
+        words[wordOffset + 5] = ((values[valueOffset + 10] & 0x3FFFFFFFL) >>> 20)
+                | ((values[valueOffset + 11] & 0x3FFFFFFFL) << 10)
+                | ((values[valueOffset + 12] & 0x3FFFFFFFL) << 40);
+        words[wordOffset + 6] = ((values[valueOffset + 12] & 0x3FFFFFFFL) >>> 24)
+                | ((values[valueOffset + 13] & 0x3FFFFFFFL) << 6)
+                | ((values[valueOffset + 14] & 0x3FFFFFFFL) << 36);
+        words[wordOffset + 7] = ((values[valueOffset + 14] & 0x3FFFFFFFL) >>> 28)
+                | ((values[valueOffset + 15] & 0x3FFFFFFFL) << 2)
+                | ((values[valueOffset + 16] & 0x3FFFFFFFL) << 32)
+                | ((values[valueOffset + 17] & 0x3FFFFFFFL) << 62);
+        words[wordOffset + 8] = ((values[valueOffset + 17] & 0x3FFFFFFFL) >>> 2)
+                | ((values[valueOffset + 18] & 0x3FFFFFFFL) << 28)
+                | ((values[valueOffset + 19] & 0x3FFFFFFFL) << 58);
+        words[wordOffset + 9] = ((values[valueOffset + 19] & 0x3FFFFFFFL) >>> 6)
+                | ((values[valueOffset + 20] & 0x3FFFFFFFL) << 24)
+                | ((values[valueOffset + 21] & 0x3FFFFFFFL) << 54);
+        words[wordOffset + 10] = ((values[valueOffset + 21] & 0x3FFFFFFFL) >>> 10)
+                | ((values[valueOffset + 22] & 0x3FFFFFFFL) << 20)
+                | ((values[valueOffset + 23] & 0x3FFFFFFFL) << 50);
+        words[wordOffset + 11] = ((values[valueOffset + 23] & 0x3FFFFFFFL) >>> 14)
+                | ((values[valueOffset + 24] & 0x3FFFFFFFL) << 16)
+                | ((values[valueOffset + 25] & 0x3FFFFFFFL) << 46);
+        words[wordOffset + 12] = ((values[valueOffset + 25] & 0x3FFFFFFFL) >>> 18)
+                | ((values[valueOffset + 26] & 0x3FFFFFFFL) << 12)
+                | ((values[valueOffset + 27] & 0x3FFFFFFFL) << 42);
+        words[wordOffset + 13] = ((values[valueOffset + 27] & 0x3FFFFFFFL) >>> 22)
+                | ((values[valueOffset + 28] & 0x3FFFFFFFL) << 8)
+                | ((values[valueOffset + 29] & 0x3FFFFFFFL) << 38);
+        words[wordOffset + 14] = ((values[valueOffset + 29] & 0x3FFFFFFFL) >>> 26)
+                | ((values[valueOffset + 30] & 0x3FFFFFFFL) << 4)
+                | ((values[valueOffset + 31] & 0x3FFFFFFFL) << 34);
+        words[wordOffset + 15] = (values[valueOffset + 32] & 0x3FFFFFFFL)
+                | ((values[valueOffset + 33] & 0x3FFFFFFFL) << 30)
+                | ((values[valueOffset + 34] & 0x3FFFFFFFL) << 60);
+        words[wordOffset + 16] = ((values[valueOffset + 34] & 0x3FFFFFFFL) >>> 4)
+                | ((values[valueOffset + 35] & 0x3FFFFFFFL) << 26)
+                | ((values[valueOffset + 36] & 0x3FFFFFFFL) << 56);
+        words[wordOffset + 17] = ((values[valueOffset + 36] & 0x3FFFFFFFL) >>> 8)
+                | ((values[valueOffset + 37] & 0x3FFFFFFFL) << 22)
+                | ((values[valueOffset + 38] & 0x3FFFFFFFL) << 52);
+        words[wordOffset + 18] = ((values[valueOffset + 38] & 0x3FFFFFFFL) >>> 12)
+                | ((values[valueOffset + 39] & 0x3FFFFFFFL) << 18)
+                | ((values[valueOffset + 40] & 0x3FFFFFFFL) << 48);
+        words[wordOffset + 19] = ((values[valueOffset + 40] & 0x3FFFFFFFL) >>> 16)
+                | ((values[valueOffset + 41] & 0x3FFFFFFFL) << 14)
+                | ((values[valueOffset + 42] & 0x3FFFFFFFL) << 44);
+        words[wordOffset + 20] = ((values[valueOffset + 42] & 0x3FFFFFFFL) >>> 20)
+                | ((values[valueOffset + 43] & 0x3FFFFFFFL) << 10)
+                | ((values[valueOffset + 44] & 0x3FFFFFFFL) << 40);
+        words[wordOffset + 21] = ((values[valueOffset + 44] & 0x3FFFFFFFL) >>> 24)
+                | ((values[valueOffset + 45] & 0x3FFFFFFFL) << 6)
+                | ((values[valueOffset + 46] & 0x3FFFFFFFL) << 36);
+        words[wordOffset + 22] = ((values[valueOffset + 46] & 0x3FFFFFFFL) >>> 28)
+                | ((values[valueOffset + 47] & 0x3FFFFFFFL) << 2)
+                | ((values[valueOffset + 48] & 0x3FFFFFFFL) << 32)
+                | ((values[valueOffset + 49] & 0x3FFFFFFFL) << 62);
+        words[wordOffset + 23] = ((values[valueOffset + 49] & 0x3FFFFFFFL) >>> 2)
+                | ((values[valueOffset + 50] & 0x3FFFFFFFL) << 28)
+                | ((values[valueOffset + 51] & 0x3FFFFFFFL) << 58);
+        words[wordOffset + 24] = ((values[valueOffset + 51] & 0x3FFFFFFFL) >>> 6)
+                | ((values[valueOffset + 52] & 0x3FFFFFFFL) << 24)
+                | ((values[valueOffset + 53] & 0x3FFFFFFFL) << 54);
+        words[wordOffset + 25] = ((values[valueOffset + 53] & 0x3FFFFFFFL) >>> 10)
+                | ((values[valueOffset + 54] & 0x3FFFFFFFL) << 20)
+                | ((values[valueOffset + 55] & 0x3FFFFFFFL) << 50);
+        words[wordOffset + 26] = ((values[valueOffset + 55] & 0x3FFFFFFFL) >>> 14)
+                | ((values[valueOffset + 56] & 0x3FFFFFFFL) << 16)
+                | ((values[valueOffset + 57] & 0x3FFFFFFFL) << 46);
+        words[wordOffset + 27] = ((values[valueOffset + 57] & 0x3FFFFFFFL) >>> 18)
+                | ((values[valueOffset + 58] & 0x3FFFFFFFL) << 12)
+                | ((values[valueOffset + 59] & 0x3FFFFFFFL) << 42);
+        words[wordOffset + 28] = ((values[valueOffset + 59] & 0x3FFFFFFFL) >>> 22)
+                | ((values[valueOffset + 60] & 0x3FFFFFFFL) << 8)
+                | ((values[valueOffset + 61] & 0x3FFFFFFFL) << 38);
+        words[wordOffset + 29] = ((values[valueOffset + 61] & 0x3FFFFFFFL) >>> 26)
+                | ((values[valueOffset + 62] & 0x3FFFFFFFL) << 4)
+                | ((values[valueOffset + 63] & 0x3FFFFFFFL) << 34);
+    }
+
+    private static void pack31(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x7FFFFFFFL)
+                | ((values[valueOffset + 1] & 0x7FFFFFFFL) << 31)
+                | ((values[valueOffset + 2] & 0x7FFFFFFFL) << 62);
+        words[wordOffset + 1] = ((values[valueOffset + 2] & 0x7FFFFFFFL) >>> 2)
+                | ((values[valueOffset + 3] & 0x7FFFFFFFL) << 29)
+                | ((values[valueOffset + 4] & 0x7FFFFFFFL) << 60);
+        words[wordOffset + 2] = ((values[valueOffset + 4] & 0x7FFFFFFFL) >>> 4)
+                | ((values[valueOffset + 5] & 0x7FFFFFFFL) << 27)
+                | ((values[valueOffset + 6] & 0x7FFFFFFFL) << 58);
+        words[wordOffset + 3] = ((values[valueOffset + 6] & 0x7FFFFFFFL) >>> 6)
+                | ((values[valueOffset + 7] & 0x7FFFFFFFL) << 25)
+                | ((values[valueOffset + 8] & 0x7FFFFFFFL) << 56);
+        words[wordOffset + 4] = ((values[valueOffset + 8] & 0x7FFFFFFFL) >>> 8)
+                | ((values[valueOffset + 9] & 0x7FFFFFFFL) << 23)
+                | ((values[valueOffset + 10] & 0x7FFFFFFFL) << 54);
+        words[wordOffset + 5] = ((values[valueOffset + 10] & 0x7FFFFFFFL) >>> 10)
+                | ((values[valueOffset + 11] & 0x7FFFFFFFL) << 21)
+                | ((values[valueOffset + 12] & 0x7FFFFFFFL) << 52);
+        words[wordOffset + 6] = ((values[valueOffset + 12] & 0x7FFFFFFFL) >>> 12)
+                | ((values[valueOffset + 13] & 0x7FFFFFFFL) << 19)
+                | ((values[valueOffset + 14] & 0x7FFFFFFFL) << 50);
+        words[wordOffset + 7] = ((values[valueOffset + 14] & 0x7FFFFFFFL) >>> 14)
+                | ((values[valueOffset + 15] & 0x7FFFFFFFL) << 17)
+                | ((values[valueOffset + 16] & 0x7FFFFFFFL) << 48);
+        words[wordOffset + 8] = ((values[valueOffset + 16] & 0x7FFFFFFFL) >>> 16)
+                | ((values[valueOffset + 17] & 0x7FFFFFFFL) << 15)
+                | ((values[valueOffset + 18] & 0x7FFFFFFFL) << 46);
+        words[wordOffset + 9] = ((values[valueOffset + 18] & 0x7FFFFFFFL) >>> 18)
+                | ((values[valueOffset + 19] & 0x7FFFFFFFL) << 13)
+                | ((values[valueOffset + 20] & 0x7FFFFFFFL) << 44);
+        words[wordOffset + 10] = ((values[valueOffset + 20] & 0x7FFFFFFFL) >>> 20)
+                | ((values[valueOffset + 21] & 0x7FFFFFFFL) << 11)
+                | ((values[valueOffset + 22] & 0x7FFFFFFFL) << 42);
+        words[wordOffset + 11] = ((values[valueOffset + 22] & 0x7FFFFFFFL) >>> 22)
+                | ((values[valueOffset + 23] & 0x7FFFFFFFL) << 9)
+                | ((values[valueOffset + 24] & 0x7FFFFFFFL) << 40);
+        words[wordOffset + 12] = ((values[valueOffset + 24] & 0x7FFFFFFFL) >>> 24)
+                | ((values[valueOffset + 25] & 0x7FFFFFFFL) << 7)
+                | ((values[valueOffset + 26] & 0x7FFFFFFFL) << 38);
+        words[wordOffset + 13] = ((values[valueOffset + 26] & 0x7FFFFFFFL) >>> 26)
+                | ((values[valueOffset + 27] & 0x7FFFFFFFL) << 5)
+                | ((values[valueOffset + 28] & 0x7FFFFFFFL) << 36);
+        words[wordOffset + 14] = ((values[valueOffset + 28] & 0x7FFFFFFFL) >>> 28)
+                | ((values[valueOffset + 29] & 0x7FFFFFFFL) << 3)
+                | ((values[valueOffset + 30] & 0x7FFFFFFFL) << 34);
+        words[wordOffset + 15] = ((values[valueOffset + 30] & 0x7FFFFFFFL) >>> 30)
+                | ((values[valueOffset + 31] & 0x7FFFFFFFL) << 1)
+                | ((values[valueOffset + 32] & 0x7FFFFFFFL) << 32)
+                | ((values[valueOffset + 33] & 0x7FFFFFFFL) << 63);
+        words[wordOffset + 16] = ((values[valueOffset + 33] & 0x7FFFFFFFL) >>> 1)
+                | ((values[valueOffset + 34] & 0x7FFFFFFFL) << 30)
+                | ((values[valueOffset + 35] & 0x7FFFFFFFL) << 61);
+        words[wordOffset + 17] = ((values[valueOffset + 35] & 0x7FFFFFFFL) >>> 3)
+                | ((values[valueOffset + 36] & 0x7FFFFFFFL) << 28)
+                | ((values[valueOffset + 37] & 0x7FFFFFFFL) << 59);
+        words[wordOffset + 18] = ((values[valueOffset + 37] & 0x7FFFFFFFL) >>> 5)
+                | ((values[valueOffset + 38] & 0x7FFFFFFFL) << 26)
+                | ((values[valueOffset + 39] & 0x7FFFFFFFL) << 57);
+        words[wordOffset + 19] = ((values[valueOffset + 39] & 0x7FFFFFFFL) >>> 7)
+                | ((values[valueOffset + 40] & 0x7FFFFFFFL) << 24)
+                | ((values[valueOffset + 41] & 0x7FFFFFFFL) << 55);
+        words[wordOffset + 20] = ((values[valueOffset + 41] & 0x7FFFFFFFL) >>> 9)
+                | ((values[valueOffset + 42] & 0x7FFFFFFFL) << 22)
+                | ((values[valueOffset + 43] & 0x7FFFFFFFL) << 53);
+        words[wordOffset + 21] = ((values[valueOffset + 43] & 0x7FFFFFFFL) >>> 11)
+                | ((values[valueOffset + 44] & 0x7FFFFFFFL) << 20)
+                | ((values[valueOffset + 45] & 0x7FFFFFFFL) << 51);
+        words[wordOffset + 22] = ((values[valueOffset + 45] & 0x7FFFFFFFL) >>> 13)
+                | ((values[valueOffset + 46] & 0x7FFFFFFFL) << 18)
+                | ((values[valueOffset + 47] & 0x7FFFFFFFL) << 49);
+        words[wordOffset + 23] = ((values[valueOffset + 47] & 0x7FFFFFFFL) >>> 15)
+                | ((values[valueOffset + 48] & 0x7FFFFFFFL) << 16)
+                | ((values[valueOffset + 49] & 0x7FFFFFFFL) << 47);
+        words[wordOffset + 24] = ((values[valueOffset + 49] & 0x7FFFFFFFL) >>> 17)
+                | ((values[valueOffset + 50] & 0x7FFFFFFFL) << 14)
+                | ((values[valueOffset + 51] & 0x7FFFFFFFL) << 45);
+        words[wordOffset + 25] = ((values[valueOffset + 51] & 0x7FFFFFFFL) >>> 19)
+                | ((values[valueOffset + 52] & 0x7FFFFFFFL) << 12)
+                | ((values[valueOffset + 53] & 0x7FFFFFFFL) << 43);
+        words[wordOffset + 26] = ((values[valueOffset + 53] & 0x7FFFFFFFL) >>> 21)
+                | ((values[valueOffset + 54] & 0x7FFFFFFFL) << 10)
+                | ((values[valueOffset + 55] & 0x7FFFFFFFL) << 41);
+        words[wordOffset + 27] = ((values[valueOffset + 55] & 0x7FFFFFFFL) >>> 23)
+                | ((values[valueOffset + 56] & 0x7FFFFFFFL) << 8)
+                | ((values[valueOffset + 57] & 0x7FFFFFFFL) << 39);
+        words[wordOffset + 28] = ((values[valueOffset + 57] & 0x7FFFFFFFL) >>> 25)
+                | ((values[valueOffset + 58] & 0x7FFFFFFFL) << 6)
+                | ((values[valueOffset + 59] & 0x7FFFFFFFL) << 37);
+        words[wordOffset + 29] = ((values[valueOffset + 59] & 0x7FFFFFFFL) >>> 27)
+                | ((values[valueOffset + 60] & 0x7FFFFFFFL) << 4)
+                | ((values[valueOffset + 61] & 0x7FFFFFFFL) << 35);
+        words[wordOffset + 30] = ((values[valueOffset + 61] & 0x7FFFFFFFL) >>> 29)
+                | ((values[valueOffset + 62] & 0x7FFFFFFFL) << 2)
+                | ((values[valueOffset + 63] & 0x7FFFFFFFL) << 33);
+    }
+
+    private static void pack32(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 1] & 0xFFFFFFFFL) << 32);
+        words[wordOffset + 1] = (values[valueOffset + 2] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 3] & 0xFFFFFFFFL) << 32);
+        words[wordOffset + 2] = (values[valueOffset + 4] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 5] & 0xFFFFFFFFL) << 32);
+        words[wordOffset + 3] = (values[valueOffset + 6] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 7] & 0xFFFFFFFFL) << 32);
+        words[wordOffset + 4] = (values[valueOffset + 8] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 9] & 0xFFFFFFFFL) << 32);
+        words[wordOffset + 5] = (values[valueOffset + 10] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 11] & 0xFFFFFFFFL) << 32);
+        words[wordOffset + 6] = (values[valueOffset + 12] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 13] & 0xFFFFFFFFL) << 32);
+        words[wordOffset + 7] = (values[valueOffset + 14] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 15] & 0xFFFFFFFFL) << 32);
+        words[wordOffset + 8] = (values[valueOffset + 16] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 17] & 0xFFFFFFFFL) << 32);
+        words[wordOffset + 9] = (values[valueOffset + 18] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 19] & 0xFFFFFFFFL) << 32);
+        words[wordOffset + 10] = (values[valueOffset + 20] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 21] & 0xFFFFFFFFL) << 32);
+        words[wordOffset + 11] = (values[valueOffset + 22] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 23] & 0xFFFFFFFFL) << 32);
+        words[wordOffset + 12] = (values[valueOffset + 24] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 25] & 0xFFFFFFFFL) << 32);
+        words[wordOffset + 13] = (values[valueOffset + 26] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 27] & 0xFFFFFFFFL) << 32);
+        words[wordOffset + 14] = (values[valueOffset + 28] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 29] & 0xFFFFFFFFL) << 32);
+        words[wordOffset + 15] = (values[valueOffset + 30] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 31] & 0xFFFFFFFFL) << 32);
+        words[wordOffset + 16] = (values[valueOffset + 32] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 33] & 0xFFFFFFFFL) << 32);
+        words[wordOffset + 17] = (values[valueOffset + 34] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 35] & 0xFFFFFFFFL) << 32);
+        words[wordOffset + 18] = (values[valueOffset + 36] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 37] & 0xFFFFFFFFL) << 32);
+        words[wordOffset + 19] = (values[valueOffset + 38] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 39] & 0xFFFFFFFFL) << 32);
+        words[wordOffset + 20] = (values[valueOffset + 40] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 41] & 0xFFFFFFFFL) << 32);
+        words[wordOffset + 21] = (values[valueOffset + 42] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 43] & 0xFFFFFFFFL) << 32);
+        words[wordOffset + 22] = (values[valueOffset + 44] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 45] & 0xFFFFFFFFL) << 32);
+        words[wordOffset + 23] = (values[valueOffset + 46] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 47] & 0xFFFFFFFFL) << 32);
+        words[wordOffset + 24] = (values[valueOffset + 48] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 49] & 0xFFFFFFFFL) << 32);
+        words[wordOffset + 25] = (values[valueOffset + 50] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 51] & 0xFFFFFFFFL) << 32);
+        words[wordOffset + 26] = (values[valueOffset + 52] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 53] & 0xFFFFFFFFL) << 32);
+        words[wordOffset + 27] = (values[valueOffset + 54] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 55] & 0xFFFFFFFFL) << 32);
+        words[wordOffset + 28] = (values[valueOffset + 56] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 57] & 0xFFFFFFFFL) << 32);
+        words[wordOffset + 29] = (values[valueOffset + 58] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 59] & 0xFFFFFFFFL) << 32);
+        words[wordOffset + 30] = (values[valueOffset + 60] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 61] & 0xFFFFFFFFL) << 32);
+        words[wordOffset + 31] = (values[valueOffset + 62] & 0xFFFFFFFFL)
+                | ((values[valueOffset + 63] & 0xFFFFFFFFL) << 32);
+    }
+
+    private static void pack33(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x1FFFFFFFFL)
+                | ((values[valueOffset + 1] & 0x1FFFFFFFFL) << 33);
+        words[wordOffset + 1] = ((values[valueOffset + 1] & 0x1FFFFFFFFL) >>> 31)
+                | ((values[valueOffset + 2] & 0x1FFFFFFFFL) << 2)
+                | ((values[valueOffset + 3] & 0x1FFFFFFFFL) << 35);
+        words[wordOffset + 2] = ((values[valueOffset + 3] & 0x1FFFFFFFFL) >>> 29)
+                | ((values[valueOffset + 4] & 0x1FFFFFFFFL) << 4)
+                | ((values[valueOffset + 5] & 0x1FFFFFFFFL) << 37);
+        words[wordOffset + 3] = ((values[valueOffset + 5] & 0x1FFFFFFFFL) >>> 27)
+                | ((values[valueOffset + 6] & 0x1FFFFFFFFL) << 6)
+                | ((values[valueOffset + 7] & 0x1FFFFFFFFL) << 39);
+        words[wordOffset + 4] = ((values[valueOffset + 7] & 0x1FFFFFFFFL) >>> 25)
+                | ((values[valueOffset + 8] & 0x1FFFFFFFFL) << 8)
+                | ((values[valueOffset + 9] & 0x1FFFFFFFFL) << 41);
+        words[wordOffset + 5] = ((values[valueOffset + 9] & 0x1FFFFFFFFL) >>> 23)
+                | ((values[valueOffset + 10] & 0x1FFFFFFFFL) << 10)
+                | ((values[valueOffset + 11] & 0x1FFFFFFFFL) << 43);
+        words[wordOffset + 6] = ((values[valueOffset + 11] & 0x1FFFFFFFFL) >>> 21)
+                | ((values[valueOffset + 12] & 0x1FFFFFFFFL) << 12)
+                | ((values[valueOffset + 13] & 0x1FFFFFFFFL) << 45);
+        words[wordOffset + 7] = ((values[valueOffset + 13] & 0x1FFFFFFFFL) >>> 19)
+                | ((values[valueOffset + 14] & 0x1FFFFFFFFL) << 14)
+                | ((values[valueOffset + 15] & 0x1FFFFFFFFL) << 47);
+        words[wordOffset + 8] = ((values[valueOffset + 15] & 0x1FFFFFFFFL) >>> 17)
+                | ((values[valueOffset + 16] & 0x1FFFFFFFFL) << 16)
+                | ((values[valueOffset + 17] & 0x1FFFFFFFFL) << 49);
+        words[wordOffset + 9] = ((values[valueOffset + 17] & 0x1FFFFFFFFL) >>> 15)
+                | ((values[valueOffset + 18] & 0x1FFFFFFFFL) << 18)
+                | ((values[valueOffset + 19] & 0x1FFFFFFFFL) << 51);
+        words[wordOffset + 10] = ((values[valueOffset + 19] & 0x1FFFFFFFFL) >>> 13)
+                | ((values[valueOffset + 20] & 0x1FFFFFFFFL) << 20)
+                | ((values[valueOffset + 21] & 0x1FFFFFFFFL) << 53);
+        words[wordOffset + 11] = ((values[valueOffset + 21] & 0x1FFFFFFFFL) >>> 11)
+                | ((values[valueOffset + 22] & 0x1FFFFFFFFL) << 22)
+                | ((values[valueOffset + 23] & 0x1FFFFFFFFL) << 55);
+        words[wordOffset + 12] = ((values[valueOffset + 23] & 0x1FFFFFFFFL) >>> 9)
+                | ((values[valueOffset + 24] & 0x1FFFFFFFFL) << 24)
+                | ((values[valueOffset + 25] & 0x1FFFFFFFFL) << 57);
+        words[wordOffset + 13] = ((values[valueOffset + 25] & 0x1FFFFFFFFL) >>> 7)
+                | ((values[valueOffset + 26] & 0x1FFFFFFFFL) << 26)
+                | ((values[valueOffset + 27] & 0x1FFFFFFFFL) << 59);
+        words[wordOffset + 14] = ((values[valueOffset + 27] & 0x1FFFFFFFFL) >>> 5)
+                | ((values[valueOffset + 28] & 0x1FFFFFFFFL) << 28)
+                | ((values[valueOffset + 29] & 0x1FFFFFFFFL) << 61);
+        words[wordOffset + 15] = ((values[valueOffset + 29] & 0x1FFFFFFFFL) >>> 3)
+                | ((values[valueOffset + 30] & 0x1FFFFFFFFL) << 30)
+                | ((values[valueOffset + 31] & 0x1FFFFFFFFL) << 63);
+        words[wordOffset + 16] = ((values[valueOffset + 31] & 0x1FFFFFFFFL) >>> 1)
+                | ((values[valueOffset + 32] & 0x1FFFFFFFFL) << 32);
+        words[wordOffset + 17] = ((values[valueOffset + 32] & 0x1FFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 33] & 0x1FFFFFFFFL) << 1)
+                | ((values[valueOffset + 34] & 0x1FFFFFFFFL) << 34);
+        words[wordOffset + 18] = ((values[valueOffset + 34] & 0x1FFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 35] & 0x1FFFFFFFFL) << 3)
+                | ((values[valueOffset + 36] & 0x1FFFFFFFFL) << 36);
+        words[wordOffset + 19] = ((values[valueOffset + 36] & 0x1FFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 37] & 0x1FFFFFFFFL) << 5)
+                | ((values[valueOffset + 38] & 0x1FFFFFFFFL) << 38);
+        words[wordOffset + 20] = ((values[valueOffset + 38] & 0x1FFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 39] & 0x1FFFFFFFFL) << 7)
+                | ((values[valueOffset + 40] & 0x1FFFFFFFFL) << 40);
+        words[wordOffset + 21] = ((values[valueOffset + 40] & 0x1FFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 41] & 0x1FFFFFFFFL) << 9)
+                | ((values[valueOffset + 42] & 0x1FFFFFFFFL) << 42);
+        words[wordOffset + 22] = ((values[valueOffset + 42] & 0x1FFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 43] & 0x1FFFFFFFFL) << 11)
+                | ((values[valueOffset + 44] & 0x1FFFFFFFFL) << 44);
+        words[wordOffset + 23] = ((values[valueOffset + 44] & 0x1FFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 45] & 0x1FFFFFFFFL) << 13)
+                | ((values[valueOffset + 46] & 0x1FFFFFFFFL) << 46);
+        words[wordOffset + 24] = ((values[valueOffset + 46] & 0x1FFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 47] & 0x1FFFFFFFFL) << 15)
+                | ((values[valueOffset + 48] & 0x1FFFFFFFFL) << 48);
+        words[wordOffset + 25] = ((values[valueOffset + 48] & 0x1FFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 49] & 0x1FFFFFFFFL) << 17)
+                | ((values[valueOffset + 50] & 0x1FFFFFFFFL) << 50);
+        words[wordOffset + 26] = ((values[valueOffset + 50] & 0x1FFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 51] & 0x1FFFFFFFFL) << 19)
+                | ((values[valueOffset + 52] & 0x1FFFFFFFFL) << 52);
+        words[wordOffset + 27] = ((values[valueOffset + 52] & 0x1FFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 53] & 0x1FFFFFFFFL) << 21)
+                | ((values[valueOffset + 54] & 0x1FFFFFFFFL) << 54);
+        words[wordOffset + 28] = ((values[valueOffset + 54] & 0x1FFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 55] & 0x1FFFFFFFFL) << 23)
+                | ((values[valueOffset + 56] & 0x1FFFFFFFFL) << 56);
+        words[wordOffset + 29] = ((values[valueOffset + 56] & 0x1FFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 57] & 0x1FFFFFFFFL) << 25)
+                | ((values[valueOffset + 58] & 0x1FFFFFFFFL) << 58);
+        words[wordOffset + 30] = ((values[valueOffset + 58] & 0x1FFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 59] & 0x1FFFFFFFFL) << 27)
+                | ((values[valueOffset + 60] & 0x1FFFFFFFFL) << 60);
+        words[wordOffset + 31] = ((values[valueOffset + 60] & 0x1FFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 61] & 0x1FFFFFFFFL) << 29)
+                | ((values[valueOffset + 62] & 0x1FFFFFFFFL) << 62);
+        words[wordOffset + 32] = ((values[valueOffset + 62] & 0x1FFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 63] & 0x1FFFFFFFFL) << 31);
+    }
+
+    private static void pack34(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x3FFFFFFFFL)
+                | ((values[valueOffset + 1] & 0x3FFFFFFFFL) << 34);
+        words[wordOffset + 1] = ((values[valueOffset + 1] & 0x3FFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 2] & 0x3FFFFFFFFL) << 4)
+                | ((values[valueOffset + 3] & 0x3FFFFFFFFL) << 38);
+        words[wordOffset + 2] = ((values[valueOffset + 3] & 0x3FFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 4] & 0x3FFFFFFFFL) << 8)
+                | ((values[valueOffset + 5] & 0x3FFFFFFFFL) << 42);
+        words[wordOffset + 3] = ((values[valueOffset + 5] & 0x3FFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 6] & 0x3FFFFFFFFL) << 12)
+                | ((values[valueOffset + 7] & 0x3FFFFFFFFL) << 46);
+        words[wordOffset + 4] = ((values[valueOffset + 7] & 0x3FFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 8] & 0x3FFFFFFFFL) << 16)
+                | ((values[valueOffset + 9] & 0x3FFFFFFFFL) << 50);
+        words[wordOffset + 5] = ((values[valueOffset + 9] & 0x3FFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 10] & 0x3FFFFFFFFL) << 20)
+                | ((values[valueOffset + 11] & 0x3FFFFFFFFL) << 54);
+        words[wordOffset + 6] = ((values[valueOffset + 11] & 0x3FFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 12] & 0x3FFFFFFFFL) << 24)
+                | ((values[valueOffset + 13] & 0x3FFFFFFFFL) << 58);
+        words[wordOffset + 7] = ((values[valueOffset + 13] & 0x3FFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 14] & 0x3FFFFFFFFL) << 28)
+                | ((values[valueOffset + 15] & 0x3FFFFFFFFL) << 62);
+        words[wordOffset + 8] = ((values[valueOffset + 15] & 0x3FFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 16] & 0x3FFFFFFFFL) << 32);
+        words[wordOffset + 9] = ((values[valueOffset + 16] & 0x3FFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 17] & 0x3FFFFFFFFL) << 2)
+                | ((values[valueOffset + 18] & 0x3FFFFFFFFL) << 36);
+        words[wordOffset + 10] = ((values[valueOffset + 18] & 0x3FFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 19] & 0x3FFFFFFFFL) << 6)
+                | ((values[valueOffset + 20] & 0x3FFFFFFFFL) << 40);
+        words[wordOffset + 11] = ((values[valueOffset + 20] & 0x3FFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 21] & 0x3FFFFFFFFL) << 10)
+                | ((values[valueOffset + 22] & 0x3FFFFFFFFL) << 44);
+        words[wordOffset + 12] = ((values[valueOffset + 22] & 0x3FFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 23] & 0x3FFFFFFFFL) << 14)
+                | ((values[valueOffset + 24] & 0x3FFFFFFFFL) << 48);
+        words[wordOffset + 13] = ((values[valueOffset + 24] & 0x3FFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 25] & 0x3FFFFFFFFL) << 18)
+                | ((values[valueOffset + 26] & 0x3FFFFFFFFL) << 52);
+        words[wordOffset + 14] = ((values[valueOffset + 26] & 0x3FFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 27] & 0x3FFFFFFFFL) << 22)
+                | ((values[valueOffset + 28] & 0x3FFFFFFFFL) << 56);
+        words[wordOffset + 15] = ((values[valueOffset + 28] & 0x3FFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 29] & 0x3FFFFFFFFL) << 26)
+                | ((values[valueOffset + 30] & 0x3FFFFFFFFL) << 60);
+        words[wordOffset + 16] = ((values[valueOffset + 30] & 0x3FFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 31] & 0x3FFFFFFFFL) << 30);
+        words[wordOffset + 17] = (values[valueOffset + 32] & 0x3FFFFFFFFL)
+                | ((values[valueOffset + 33] & 0x3FFFFFFFFL) << 34);
+        words[wordOffset + 18] = ((values[valueOffset + 33] & 0x3FFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 34] & 0x3FFFFFFFFL) << 4)
+                | ((values[valueOffset + 35] & 0x3FFFFFFFFL) << 38);
+        words[wordOffset + 19] = ((values[valueOffset + 35] & 0x3FFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 36] & 0x3FFFFFFFFL) << 8)
+                | ((values[valueOffset + 37] & 0x3FFFFFFFFL) << 42);
+        words[wordOffset + 20] = ((values[valueOffset + 37] & 0x3FFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 38] & 0x3FFFFFFFFL) << 12)
+                | ((values[valueOffset + 39] & 0x3FFFFFFFFL) << 46);
+        words[wordOffset + 21] = ((values[valueOffset + 39] & 0x3FFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 40] & 0x3FFFFFFFFL) << 16)
+                | ((values[valueOffset + 41] & 0x3FFFFFFFFL) << 50);
+        words[wordOffset + 22] = ((values[valueOffset + 41] & 0x3FFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 42] & 0x3FFFFFFFFL) << 20)
+                | ((values[valueOffset + 43] & 0x3FFFFFFFFL) << 54);
+        words[wordOffset + 23] = ((values[valueOffset + 43] & 0x3FFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 44] & 0x3FFFFFFFFL) << 24)
+                | ((values[valueOffset + 45] & 0x3FFFFFFFFL) << 58);
+        words[wordOffset + 24] = ((values[valueOffset + 45] & 0x3FFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 46] & 0x3FFFFFFFFL) << 28)
+                | ((values[valueOffset + 47] & 0x3FFFFFFFFL) << 62);
+        words[wordOffset + 25] = ((values[valueOffset + 47] & 0x3FFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 48] & 0x3FFFFFFFFL) << 32);
+        words[wordOffset + 26] = ((values[valueOffset + 48] & 0x3FFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 49] & 0x3FFFFFFFFL) << 2)
+                | ((values[valueOffset + 50] & 0x3FFFFFFFFL) << 36);
+        words[wordOffset + 27] = ((values[valueOffset + 50] & 0x3FFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 51] & 0x3FFFFFFFFL) << 6)
+                | ((values[valueOffset + 52] & 0x3FFFFFFFFL) << 40);
+        words[wordOffset + 28] = ((values[valueOffset + 52] & 0x3FFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 53] & 0x3FFFFFFFFL) << 10)
+                | ((values[valueOffset + 54] & 0x3FFFFFFFFL) << 44);
+        words[wordOffset + 29] = ((values[valueOffset + 54] & 0x3FFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 55] & 0x3FFFFFFFFL) << 14)
+                | ((values[valueOffset + 56] & 0x3FFFFFFFFL) << 48);
+        words[wordOffset + 30] = ((values[valueOffset + 56] & 0x3FFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 57] & 0x3FFFFFFFFL) << 18)
+                | ((values[valueOffset + 58] & 0x3FFFFFFFFL) << 52);
+        words[wordOffset + 31] = ((values[valueOffset + 58] & 0x3FFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 59] & 0x3FFFFFFFFL) << 22)
+                | ((values[valueOffset + 60] & 0x3FFFFFFFFL) << 56);
+        words[wordOffset + 32] = ((values[valueOffset + 60] & 0x3FFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 61] & 0x3FFFFFFFFL) << 26)
+                | ((values[valueOffset + 62] & 0x3FFFFFFFFL) << 60);
+        words[wordOffset + 33] = ((values[valueOffset + 62] & 0x3FFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 63] & 0x3FFFFFFFFL) << 30);
+    }
+
+    private static void pack35(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x7FFFFFFFFL)
+                | ((values[valueOffset + 1] & 0x7FFFFFFFFL) << 35);
+        words[wordOffset + 1] = ((values[valueOffset + 1] & 0x7FFFFFFFFL) >>> 29)
+                | ((values[valueOffset + 2] & 0x7FFFFFFFFL) << 6)
+                | ((values[valueOffset + 3] & 0x7FFFFFFFFL) << 41);
+        words[wordOffset + 2] = ((values[valueOffset + 3] & 0x7FFFFFFFFL) >>> 23)
+                | ((values[valueOffset + 4] & 0x7FFFFFFFFL) << 12)
+                | ((values[valueOffset + 5] & 0x7FFFFFFFFL) << 47);
+        words[wordOffset + 3] = ((values[valueOffset + 5] & 0x7FFFFFFFFL) >>> 17)
+                | ((values[valueOffset + 6] & 0x7FFFFFFFFL) << 18)
+                | ((values[valueOffset + 7] & 0x7FFFFFFFFL) << 53);
+        words[wordOffset + 4] = ((values[valueOffset + 7] & 0x7FFFFFFFFL) >>> 11)
+                | ((values[valueOffset + 8] & 0x7FFFFFFFFL) << 24)
+                | ((values[valueOffset + 9] & 0x7FFFFFFFFL) << 59);
+        words[wordOffset + 5] = ((values[valueOffset + 9] & 0x7FFFFFFFFL) >>> 5)
+                | ((values[valueOffset + 10] & 0x7FFFFFFFFL) << 30);
+        words[wordOffset + 6] = ((values[valueOffset + 10] & 0x7FFFFFFFFL) >>> 34)
+                | ((values[valueOffset + 11] & 0x7FFFFFFFFL) << 1)
+                | ((values[valueOffset + 12] & 0x7FFFFFFFFL) << 36);
+        words[wordOffset + 7] = ((values[valueOffset + 12] & 0x7FFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 13] & 0x7FFFFFFFFL) << 7)
+                | ((values[valueOffset + 14] & 0x7FFFFFFFFL) << 42);
+        words[wordOffset + 8] = ((values[valueOffset + 14] & 0x7FFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 15] & 0x7FFFFFFFFL) << 13)
+                | ((values[valueOffset + 16] & 0x7FFFFFFFFL) << 48);
+        words[wordOffset + 9] = ((values[valueOffset + 16] & 0x7FFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 17] & 0x7FFFFFFFFL) << 19)
+                | ((values[valueOffset + 18] & 0x7FFFFFFFFL) << 54);
+        words[wordOffset + 10] = ((values[valueOffset + 18] & 0x7FFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 19] & 0x7FFFFFFFFL) << 25)
+                | ((values[valueOffset + 20] & 0x7FFFFFFFFL) << 60);
+        words[wordOffset + 11] = ((values[valueOffset + 20] & 0x7FFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 21] & 0x7FFFFFFFFL) << 31);
+        words[wordOffset + 12] = ((values[valueOffset + 21] & 0x7FFFFFFFFL) >>> 33)
+                | ((values[valueOffset + 22] & 0x7FFFFFFFFL) << 2)
+                | ((values[valueOffset + 23] & 0x7FFFFFFFFL) << 37);
+        words[wordOffset + 13] = ((values[valueOffset + 23] & 0x7FFFFFFFFL) >>> 27)
+                | ((values[valueOffset + 24] & 0x7FFFFFFFFL) << 8)
+                | ((values[valueOffset + 25] & 0x7FFFFFFFFL) << 43);
+        words[wordOffset + 14] = ((values[valueOffset + 25] & 0x7FFFFFFFFL) >>> 21)
+                | ((values[valueOffset + 26] & 0x7FFFFFFFFL) << 14)
+                | ((values[valueOffset + 27] & 0x7FFFFFFFFL) << 49);
+        words[wordOffset + 15] = ((values[valueOffset + 27] & 0x7FFFFFFFFL) >>> 15)
+                | ((values[valueOffset + 28] & 0x7FFFFFFFFL) << 20)
+                | ((values[valueOffset + 29] & 0x7FFFFFFFFL) << 55);
+        words[wordOffset + 16] = ((values[valueOffset + 29] & 0x7FFFFFFFFL) >>> 9)
+                | ((values[valueOffset + 30] & 0x7FFFFFFFFL) << 26)
+                | ((values[valueOffset + 31] & 0x7FFFFFFFFL) << 61);
+        words[wordOffset + 17] = ((values[valueOffset + 31] & 0x7FFFFFFFFL) >>> 3)
+                | ((values[valueOffset + 32] & 0x7FFFFFFFFL) << 32);
+        words[wordOffset + 18] = ((values[valueOffset + 32] & 0x7FFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 33] & 0x7FFFFFFFFL) << 3)
+                | ((values[valueOffset + 34] & 0x7FFFFFFFFL) << 38);
+        words[wordOffset + 19] = ((values[valueOffset + 34] & 0x7FFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 35] & 0x7FFFFFFFFL) << 9)
+                | ((values[valueOffset + 36] & 0x7FFFFFFFFL) << 44);
+        words[wordOffset + 20] = ((values[valueOffset + 36] & 0x7FFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 37] & 0x7FFFFFFFFL) << 15)
+                | ((values[valueOffset + 38] & 0x7FFFFFFFFL) << 50);
+        words[wordOffset + 21] = ((values[valueOffset + 38] & 0x7FFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 39] & 0x7FFFFFFFFL) << 21)
+                | ((values[valueOffset + 40] & 0x7FFFFFFFFL) << 56);
+        words[wordOffset + 22] = ((values[valueOffset + 40] & 0x7FFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 41] & 0x7FFFFFFFFL) << 27)
+                | ((values[valueOffset + 42] & 0x7FFFFFFFFL) << 62);
+        words[wordOffset + 23] = ((values[valueOffset + 42] & 0x7FFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 43] & 0x7FFFFFFFFL) << 33);
+        words[wordOffset + 24] = ((values[valueOffset + 43] & 0x7FFFFFFFFL) >>> 31)
+                | ((values[valueOffset + 44] & 0x7FFFFFFFFL) << 4)
+                | ((values[valueOffset + 45] & 0x7FFFFFFFFL) << 39);
+        words[wordOffset + 25] = ((values[valueOffset + 45] & 0x7FFFFFFFFL) >>> 25)
+                | ((values[valueOffset + 46] & 0x7FFFFFFFFL) << 10)
+                | ((values[valueOffset + 47] & 0x7FFFFFFFFL) << 45);
+        words[wordOffset + 26] = ((values[valueOffset + 47] & 0x7FFFFFFFFL) >>> 19)
+                | ((values[valueOffset + 48] & 0x7FFFFFFFFL) << 16)
+                | ((values[valueOffset + 49] & 0x7FFFFFFFFL) << 51);
+        words[wordOffset + 27] = ((values[valueOffset + 49] & 0x7FFFFFFFFL) >>> 13)
+                | ((values[valueOffset + 50] & 0x7FFFFFFFFL) << 22)
+                | ((values[valueOffset + 51] & 0x7FFFFFFFFL) << 57);
+        words[wordOffset + 28] = ((values[valueOffset + 51] & 0x7FFFFFFFFL) >>> 7)
+                | ((values[valueOffset + 52] & 0x7FFFFFFFFL) << 28)
+                | ((values[valueOffset + 53] & 0x7FFFFFFFFL) << 63);
+        words[wordOffset + 29] = ((values[valueOffset + 53] & 0x7FFFFFFFFL) >>> 1)
+                | ((values[valueOffset + 54] & 0x7FFFFFFFFL) << 34);
+        words[wordOffset + 30] = ((values[valueOffset + 54] & 0x7FFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 55] & 0x7FFFFFFFFL) << 5)
+                | ((values[valueOffset + 56] & 0x7FFFFFFFFL) << 40);
+        words[wordOffset + 31] = ((values[valueOffset + 56] & 0x7FFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 57] & 0x7FFFFFFFFL) << 11)
+                | ((values[valueOffset + 58] & 0x7FFFFFFFFL) << 46);
+        words[wordOffset + 32] = ((values[valueOffset + 58] & 0x7FFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 59] & 0x7FFFFFFFFL) << 17)
+                | ((values[valueOffset + 60] & 0x7FFFFFFFFL) << 52);
+        words[wordOffset + 33] = ((values[valueOffset + 60] & 0x7FFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 61] & 0x7FFFFFFFFL) << 23)
+                | ((values[valueOffset + 62] & 0x7FFFFFFFFL) << 58);
+        words[wordOffset + 34] = ((values[valueOffset + 62] & 0x7FFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 63] & 0x7FFFFFFFFL) << 29);
+    }
+
+    private static void pack36(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0xFFFFFFFFFL)
+                | ((values[valueOffset + 1] & 0xFFFFFFFFFL) << 36);
+        words[wordOffset + 1] = ((values[valueOffset + 1] & 0xFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 2] & 0xFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 3] & 0xFFFFFFFFFL) << 44);
+        words[wordOffset + 2] = ((values[valueOffset + 3] & 0xFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 4] & 0xFFFFFFFFFL) << 16)
+                | ((values[valueOffset + 5] & 0xFFFFFFFFFL) << 52);
+        words[wordOffset + 3] = ((values[valueOffset + 5] & 0xFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 6] & 0xFFFFFFFFFL) << 24)
+                | ((values[valueOffset + 7] & 0xFFFFFFFFFL) << 60);
+        words[wordOffset + 4] = ((values[valueOffset + 7] & 0xFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 8] & 0xFFFFFFFFFL) << 32);
+        words[wordOffset + 5] = ((values[valueOffset + 8] & 0xFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 9] & 0xFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 10] & 0xFFFFFFFFFL) << 40);
+        words[wordOffset + 6] = ((values[valueOffset + 10] & 0xFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 11] & 0xFFFFFFFFFL) << 12)
+                | ((values[valueOffset + 12] & 0xFFFFFFFFFL) << 48);
+        words[wordOffset + 7] = ((values[valueOffset + 12] & 0xFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 13] & 0xFFFFFFFFFL) << 20)
+                | ((values[valueOffset + 14] & 0xFFFFFFFFFL) << 56);
+        words[wordOffset + 8] = ((values[valueOffset + 14] & 0xFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 15] & 0xFFFFFFFFFL) << 28);
+        words[wordOffset + 9] = (values[valueOffset + 16] & 0xFFFFFFFFFL)
+                | ((values[valueOffset + 17] & 0xFFFFFFFFFL) << 36);
+        words[wordOffset + 10] = ((values[valueOffset + 17] & 0xFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 18] & 0xFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 19] & 0xFFFFFFFFFL) << 44);
+        words[wordOffset + 11] = ((values[valueOffset + 19] & 0xFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 20] & 0xFFFFFFFFFL) << 16)
+                | ((values[valueOffset + 21] & 0xFFFFFFFFFL) << 52);
+        words[wordOffset + 12] = ((values[valueOffset + 21] & 0xFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 22] & 0xFFFFFFFFFL) << 24)
+                | ((values[valueOffset + 23] & 0xFFFFFFFFFL) << 60);
+        words[wordOffset + 13] = ((values[valueOffset + 23] & 0xFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 24] & 0xFFFFFFFFFL) << 32);
+        words[wordOffset + 14] = ((values[valueOffset + 24] & 0xFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 25] & 0xFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 26] & 0xFFFFFFFFFL) << 40);
+        words[wordOffset + 15] = ((values[valueOffset + 26] & 0xFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 27] & 0xFFFFFFFFFL) << 12)
+                | ((values[valueOffset + 28] & 0xFFFFFFFFFL) << 48);
+        words[wordOffset + 16] = ((values[valueOffset + 28] & 0xFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 29] & 0xFFFFFFFFFL) << 20)
+                | ((values[valueOffset + 30] & 0xFFFFFFFFFL) << 56);
+        words[wordOffset + 17] = ((values[valueOffset + 30] & 0xFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 31] & 0xFFFFFFFFFL) << 28);
+        words[wordOffset + 18] = (values[valueOffset + 32] & 0xFFFFFFFFFL)
+                | ((values[valueOffset + 33] & 0xFFFFFFFFFL) << 36);
+        words[wordOffset + 19] = ((values[valueOffset + 33] & 0xFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 34] & 0xFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 35] & 0xFFFFFFFFFL) << 44);
+        words[wordOffset + 20] = ((values[valueOffset + 35] & 0xFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 36] & 0xFFFFFFFFFL) << 16)
+                | ((values[valueOffset + 37] & 0xFFFFFFFFFL) << 52);
+        words[wordOffset + 21] = ((values[valueOffset + 37] & 0xFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 38] & 0xFFFFFFFFFL) << 24)
+                | ((values[valueOffset + 39] & 0xFFFFFFFFFL) << 60);
+        words[wordOffset + 22] = ((values[valueOffset + 39] & 0xFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 40] & 0xFFFFFFFFFL) << 32);
+        words[wordOffset + 23] = ((values[valueOffset + 40] & 0xFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 41] & 0xFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 42] & 0xFFFFFFFFFL) << 40);
+        words[wordOffset + 24] = ((values[valueOffset + 42] & 0xFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 43] & 0xFFFFFFFFFL) << 12)
+                | ((values[valueOffset + 44] & 0xFFFFFFFFFL) << 48);
+        words[wordOffset + 25] = ((values[valueOffset + 44] & 0xFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 45] & 0xFFFFFFFFFL) << 20)
+                | ((values[valueOffset + 46] & 0xFFFFFFFFFL) << 56);
+        words[wordOffset + 26] = ((values[valueOffset + 46] & 0xFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 47] & 0xFFFFFFFFFL) << 28);
+        words[wordOffset + 27] = (values[valueOffset + 48] & 0xFFFFFFFFFL)
+                | ((values[valueOffset + 49] & 0xFFFFFFFFFL) << 36);
+        words[wordOffset + 28] = ((values[valueOffset + 49] & 0xFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 50] & 0xFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 51] & 0xFFFFFFFFFL) << 44);
+        words[wordOffset + 29] = ((values[valueOffset + 51] & 0xFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 52] & 0xFFFFFFFFFL) << 16)
+                | ((values[valueOffset + 53] & 0xFFFFFFFFFL) << 52);
+        words[wordOffset + 30] = ((values[valueOffset + 53] & 0xFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 54] & 0xFFFFFFFFFL) << 24)
+                | ((values[valueOffset + 55] & 0xFFFFFFFFFL) << 60);
+        words[wordOffset + 31] = ((values[valueOffset + 55] & 0xFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 56] & 0xFFFFFFFFFL) << 32);
+        words[wordOffset + 32] = ((values[valueOffset + 56] & 0xFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 57] & 0xFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 58] & 0xFFFFFFFFFL) << 40);
+        words[wordOffset + 33] = ((values[valueOffset + 58] & 0xFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 59] & 0xFFFFFFFFFL) << 12)
+                | ((values[valueOffset + 60] & 0xFFFFFFFFFL) << 48);
+        words[wordOffset + 34] = ((values[valueOffset + 60] & 0xFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 61] & 0xFFFFFFFFFL) << 20)
+                | ((values[valueOffset + 62] & 0xFFFFFFFFFL) << 56);
+        words[wordOffset + 35] = ((values[valueOffset + 62] & 0xFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 63] & 0xFFFFFFFFFL) << 28);
+    }
+
+    private static void pack37(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x1FFFFFFFFFL)
+                | ((values[valueOffset + 1] & 0x1FFFFFFFFFL) << 37);
+        words[wordOffset + 1] = ((values[valueOffset + 1] & 0x1FFFFFFFFFL) >>> 27)
+                | ((values[valueOffset + 2] & 0x1FFFFFFFFFL) << 10)
+                | ((values[valueOffset + 3] & 0x1FFFFFFFFFL) << 47);
+        words[wordOffset + 2] = ((values[valueOffset + 3] & 0x1FFFFFFFFFL) >>> 17)
+                | ((values[valueOffset + 4] & 0x1FFFFFFFFFL) << 20)
+                | ((values[valueOffset + 5] & 0x1FFFFFFFFFL) << 57);
+        words[wordOffset + 3] = ((values[valueOffset + 5] & 0x1FFFFFFFFFL) >>> 7)
+                | ((values[valueOffset + 6] & 0x1FFFFFFFFFL) << 30);
+        words[wordOffset + 4] = ((values[valueOffset + 6] & 0x1FFFFFFFFFL) >>> 34)
+                | ((values[valueOffset + 7] & 0x1FFFFFFFFFL) << 3)
+                | ((values[valueOffset + 8] & 0x1FFFFFFFFFL) << 40);
+        words[wordOffset + 5] = ((values[valueOffset + 8] & 0x1FFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 9] & 0x1FFFFFFFFFL) << 13)
+                | ((values[valueOffset + 10] & 0x1FFFFFFFFFL) << 50);
+        words[wordOffset + 6] = ((values[valueOffset + 10] & 0x1FFFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 11] & 0x1FFFFFFFFFL) << 23)
+                | ((values[valueOffset + 12] & 0x1FFFFFFFFFL) << 60);
+        words[wordOffset + 7] = ((values[valueOffset + 12] & 0x1FFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 13] & 0x1FFFFFFFFFL) << 33);
+        words[wordOffset + 8] = ((values[valueOffset + 13] & 0x1FFFFFFFFFL) >>> 31)
+                | ((values[valueOffset + 14] & 0x1FFFFFFFFFL) << 6)
+                | ((values[valueOffset + 15] & 0x1FFFFFFFFFL) << 43);
+        words[wordOffset + 9] = ((values[valueOffset + 15] & 0x1FFFFFFFFFL) >>> 21)
+                | ((values[valueOffset + 16] & 0x1FFFFFFFFFL) << 16)
+                | ((values[valueOffset + 17] & 0x1FFFFFFFFFL) << 53);
+        words[wordOffset + 10] = ((values[valueOffset + 17] & 0x1FFFFFFFFFL) >>> 11)
+                | ((values[valueOffset + 18] & 0x1FFFFFFFFFL) << 26)
+                | ((values[valueOffset + 19] & 0x1FFFFFFFFFL) << 63);
+        words[wordOffset + 11] = ((values[valueOffset + 19] & 0x1FFFFFFFFFL) >>> 1)
+                | ((values[valueOffset + 20] & 0x1FFFFFFFFFL) << 36);
+        words[wordOffset + 12] = ((values[valueOffset + 20] & 0x1FFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 21] & 0x1FFFFFFFFFL) << 9)
+                | ((values[valueOffset + 22] & 0x1FFFFFFFFFL) << 46);
+        words[wordOffset + 13] = ((values[valueOffset + 22] & 0x1FFFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 23] & 0x1FFFFFFFFFL) << 19)
+                | ((values[valueOffset + 24] & 0x1FFFFFFFFFL) << 56);
+        words[wordOffset + 14] = ((values[valueOffset + 24] & 0x1FFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 25] & 0x1FFFFFFFFFL) << 29);
+        words[wordOffset + 15] = ((values[valueOffset + 25] & 0x1FFFFFFFFFL) >>> 35)
+                | ((values[valueOffset + 26] & 0x1FFFFFFFFFL) << 2)
+                | ((values[valueOffset + 27] & 0x1FFFFFFFFFL) << 39);
+        words[wordOffset + 16] = ((values[valueOffset + 27] & 0x1FFFFFFFFFL) >>> 25)
+                | ((values[valueOffset + 28] & 0x1FFFFFFFFFL) << 12)
+                | ((values[valueOffset + 29] & 0x1FFFFFFFFFL) << 49);
+        words[wordOffset + 17] = ((values[valueOffset + 29] & 0x1FFFFFFFFFL) >>> 15)
+                | ((values[valueOffset + 30] & 0x1FFFFFFFFFL) << 22)
+                | ((values[valueOffset + 31] & 0x1FFFFFFFFFL) << 59);
+        words[wordOffset + 18] = ((values[valueOffset + 31] & 0x1FFFFFFFFFL) >>> 5)
+                | ((values[valueOffset + 32] & 0x1FFFFFFFFFL) << 32);
+        words[wordOffset + 19] = ((values[valueOffset + 32] & 0x1FFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 33] & 0x1FFFFFFFFFL) << 5)
+                | ((values[valueOffset + 34] & 0x1FFFFFFFFFL) << 42);
+        words[wordOffset + 20] = ((values[valueOffset + 34] & 0x1FFFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 35] & 0x1FFFFFFFFFL) << 15)
+                | ((values[valueOffset + 36] & 0x1FFFFFFFFFL) << 52);
+        words[wordOffset + 21] = ((values[valueOffset + 36] & 0x1FFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 37] & 0x1FFFFFFFFFL) << 25)
+                | ((values[valueOffset + 38] & 0x1FFFFFFFFFL) << 62);
+        words[wordOffset + 22] = ((values[valueOffset + 38] & 0x1FFFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 39] & 0x1FFFFFFFFFL) << 35);
+        words[wordOffset + 23] = ((values[valueOffset + 39] & 0x1FFFFFFFFFL) >>> 29)
+                | ((values[valueOffset + 40] & 0x1FFFFFFFFFL) << 8)
+                | ((values[valueOffset + 41] & 0x1FFFFFFFFFL) << 45);
+        words[wordOffset + 24] = ((values[valueOffset + 41] & 0x1FFFFFFFFFL) >>> 19)
+                | ((values[valueOffset + 42] & 0x1FFFFFFFFFL) << 18)
+                | ((values[valueOffset + 43] & 0x1FFFFFFFFFL) << 55);
+        words[wordOffset + 25] = ((values[valueOffset + 43] & 0x1FFFFFFFFFL) >>> 9)
+                | ((values[valueOffset + 44] & 0x1FFFFFFFFFL) << 28);
+        words[wordOffset + 26] = ((values[valueOffset + 44] & 0x1FFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 45] & 0x1FFFFFFFFFL) << 1)
+                | ((values[valueOffset + 46] & 0x1FFFFFFFFFL) << 38);
+        words[wordOffset + 27] = ((values[valueOffset + 46] & 0x1FFFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 47] & 0x1FFFFFFFFFL) << 11)
+                | ((values[valueOffset + 48] & 0x1FFFFFFFFFL) << 48);
+        words[wordOffset + 28] = ((values[valueOffset + 48] & 0x1FFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 49] & 0x1FFFFFFFFFL) << 21)
+                | ((values[valueOffset + 50] & 0x1FFFFFFFFFL) << 58);
+        words[wordOffset + 29] = ((values[valueOffset + 50] & 0x1FFFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 51] & 0x1FFFFFFFFFL) << 31);
+        words[wordOffset + 30] = ((values[valueOffset + 51] & 0x1FFFFFFFFFL) >>> 33)
+                | ((values[valueOffset + 52] & 0x1FFFFFFFFFL) << 4)
+                | ((values[valueOffset + 53] & 0x1FFFFFFFFFL) << 41);
+        words[wordOffset + 31] = ((values[valueOffset + 53] & 0x1FFFFFFFFFL) >>> 23)
+                | ((values[valueOffset + 54] & 0x1FFFFFFFFFL) << 14)
+                | ((values[valueOffset + 55] & 0x1FFFFFFFFFL) << 51);
+        words[wordOffset + 32] = ((values[valueOffset + 55] & 0x1FFFFFFFFFL) >>> 13)
+                | ((values[valueOffset + 56] & 0x1FFFFFFFFFL) << 24)
+                | ((values[valueOffset + 57] & 0x1FFFFFFFFFL) << 61);
+        words[wordOffset + 33] = ((values[valueOffset + 57] & 0x1FFFFFFFFFL) >>> 3)
+                | ((values[valueOffset + 58] & 0x1FFFFFFFFFL) << 34);
+        words[wordOffset + 34] = ((values[valueOffset + 58] & 0x1FFFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 59] & 0x1FFFFFFFFFL) << 7)
+                | ((values[valueOffset + 60] & 0x1FFFFFFFFFL) << 44);
+        words[wordOffset + 35] = ((values[valueOffset + 60] & 0x1FFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 61] & 0x1FFFFFFFFFL) << 17)
+                | ((values[valueOffset + 62] & 0x1FFFFFFFFFL) << 54);
+        words[wordOffset + 36] = ((values[valueOffset + 62] & 0x1FFFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 63] & 0x1FFFFFFFFFL) << 27);
+    }
+
+    private static void pack38(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x3FFFFFFFFFL)
+                | ((values[valueOffset + 1] & 0x3FFFFFFFFFL) << 38);
+        words[wordOffset + 1] = ((values[valueOffset + 1] & 0x3FFFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 2] & 0x3FFFFFFFFFL) << 12)
+                | ((values[valueOffset + 3] & 0x3FFFFFFFFFL) << 50);
+        words[wordOffset + 2] = ((values[valueOffset + 3] & 0x3FFFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 4] & 0x3FFFFFFFFFL) << 24)
+                | ((values[valueOffset + 5] & 0x3FFFFFFFFFL) << 62);
+        words[wordOffset + 3] = ((values[valueOffset + 5] & 0x3FFFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 6] & 0x3FFFFFFFFFL) << 36);
+        words[wordOffset + 4] = ((values[valueOffset + 6] & 0x3FFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 7] & 0x3FFFFFFFFFL) << 10)
+                | ((values[valueOffset + 8] & 0x3FFFFFFFFFL) << 48);
+        words[wordOffset + 5] = ((values[valueOffset + 8] & 0x3FFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 9] & 0x3FFFFFFFFFL) << 22)
+                | ((values[valueOffset + 10] & 0x3FFFFFFFFFL) << 60);
+        words[wordOffset + 6] = ((values[valueOffset + 10] & 0x3FFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 11] & 0x3FFFFFFFFFL) << 34);
+        words[wordOffset + 7] = ((values[valueOffset + 11] & 0x3FFFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 12] & 0x3FFFFFFFFFL) << 8)
+                | ((values[valueOffset + 13] & 0x3FFFFFFFFFL) << 46);
+        words[wordOffset + 8] = ((values[valueOffset + 13] & 0x3FFFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 14] & 0x3FFFFFFFFFL) << 20)
+                | ((values[valueOffset + 15] & 0x3FFFFFFFFFL) << 58);
+        words[wordOffset + 9] = ((values[valueOffset + 15] & 0x3FFFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 16] & 0x3FFFFFFFFFL) << 32);
+        words[wordOffset + 10] = ((values[valueOffset + 16] & 0x3FFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 17] & 0x3FFFFFFFFFL) << 6)
+                | ((values[valueOffset + 18] & 0x3FFFFFFFFFL) << 44);
+        words[wordOffset + 11] = ((values[valueOffset + 18] & 0x3FFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 19] & 0x3FFFFFFFFFL) << 18)
+                | ((values[valueOffset + 20] & 0x3FFFFFFFFFL) << 56);
+        words[wordOffset + 12] = ((values[valueOffset + 20] & 0x3FFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 21] & 0x3FFFFFFFFFL) << 30);
+        words[wordOffset + 13] = ((values[valueOffset + 21] & 0x3FFFFFFFFFL) >>> 34)
+                | ((values[valueOffset + 22] & 0x3FFFFFFFFFL) << 4)
+                | ((values[valueOffset + 23] & 0x3FFFFFFFFFL) << 42);
+        words[wordOffset + 14] = ((values[valueOffset + 23] & 0x3FFFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 24] & 0x3FFFFFFFFFL) << 16)
+                | ((values[valueOffset + 25] & 0x3FFFFFFFFFL) << 54);
+        words[wordOffset + 15] = ((values[valueOffset + 25] & 0x3FFFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 26] & 0x3FFFFFFFFFL) << 28);
+        words[wordOffset + 16] = ((values[valueOffset + 26] & 0x3FFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 27] & 0x3FFFFFFFFFL) << 2)
+                | ((values[valueOffset + 28] & 0x3FFFFFFFFFL) << 40);
+        words[wordOffset + 17] = ((values[valueOffset + 28] & 0x3FFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 29] & 0x3FFFFFFFFFL) << 14)
+                | ((values[valueOffset + 30] & 0x3FFFFFFFFFL) << 52);
+        words[wordOffset + 18] = ((values[valueOffset + 30] & 0x3FFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 31] & 0x3FFFFFFFFFL) << 26);
+        words[wordOffset + 19] = (values[valueOffset + 32] & 0x3FFFFFFFFFL)
+                | ((values[valueOffset + 33] & 0x3FFFFFFFFFL) << 38);
+        words[wordOffset + 20] = ((values[valueOffset + 33] & 0x3FFFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 34] & 0x3FFFFFFFFFL) << 12)
+                | ((values[valueOffset + 35] & 0x3FFFFFFFFFL) << 50);
+        words[wordOffset + 21] = ((values[valueOffset + 35] & 0x3FFFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 36] & 0x3FFFFFFFFFL) << 24)
+                | ((values[valueOffset + 37] & 0x3FFFFFFFFFL) << 62);
+        words[wordOffset + 22] = ((values[valueOffset + 37] & 0x3FFFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 38] & 0x3FFFFFFFFFL) << 36);
+        words[wordOffset + 23] = ((values[valueOffset + 38] & 0x3FFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 39] & 0x3FFFFFFFFFL) << 10)
+                | ((values[valueOffset + 40] & 0x3FFFFFFFFFL) << 48);
+        words[wordOffset + 24] = ((values[valueOffset + 40] & 0x3FFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 41] & 0x3FFFFFFFFFL) << 22)
+                | ((values[valueOffset + 42] & 0x3FFFFFFFFFL) << 60);
+        words[wordOffset + 25] = ((values[valueOffset + 42] & 0x3FFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 43] & 0x3FFFFFFFFFL) << 34);
+        words[wordOffset + 26] = ((values[valueOffset + 43] & 0x3FFFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 44] & 0x3FFFFFFFFFL) << 8)
+                | ((values[valueOffset + 45] & 0x3FFFFFFFFFL) << 46);
+        words[wordOffset + 27] = ((values[valueOffset + 45] & 0x3FFFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 46] & 0x3FFFFFFFFFL) << 20)
+                | ((values[valueOffset + 47] & 0x3FFFFFFFFFL) << 58);
+        words[wordOffset + 28] = ((values[valueOffset + 47] & 0x3FFFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 48] & 0x3FFFFFFFFFL) << 32);
+        words[wordOffset + 29] = ((values[valueOffset + 48] & 0x3FFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 49] & 0x3FFFFFFFFFL) << 6)
+                | ((values[valueOffset + 50] & 0x3FFFFFFFFFL) << 44);
+        words[wordOffset + 30] = ((values[valueOffset + 50] & 0x3FFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 51] & 0x3FFFFFFFFFL) << 18)
+                | ((values[valueOffset + 52] & 0x3FFFFFFFFFL) << 56);
+        words[wordOffset + 31] = ((values[valueOffset + 52] & 0x3FFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 53] & 0x3FFFFFFFFFL) << 30);
+        words[wordOffset + 32] = ((values[valueOffset + 53] & 0x3FFFFFFFFFL) >>> 34)
+                | ((values[valueOffset + 54] & 0x3FFFFFFFFFL) << 4)
+                | ((values[valueOffset + 55] & 0x3FFFFFFFFFL) << 42);
+        words[wordOffset + 33] = ((values[valueOffset + 55] & 0x3FFFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 56] & 0x3FFFFFFFFFL) << 16)
+                | ((values[valueOffset + 57] & 0x3FFFFFFFFFL) << 54);
+        words[wordOffset + 34] = ((values[valueOffset + 57] & 0x3FFFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 58] & 0x3FFFFFFFFFL) << 28);
+        words[wordOffset + 35] = ((values[valueOffset + 58] & 0x3FFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 59] & 0x3FFFFFFFFFL) << 2)
+                | ((values[valueOffset + 60] & 0x3FFFFFFFFFL) << 40);
+        words[wordOffset + 36] = ((values[valueOffset + 60] & 0x3FFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 61] & 0x3FFFFFFFFFL) << 14)
+                | ((values[valueOffset + 62] & 0x3FFFFFFFFFL) << 52);
+        words[wordOffset + 37] = ((values[valueOffset + 62] & 0x3FFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 63] & 0x3FFFFFFFFFL) << 26);
+    }
+
+    private static void pack39(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x7FFFFFFFFFL)
+                | ((values[valueOffset + 1] & 0x7FFFFFFFFFL) << 39);
+        words[wordOffset + 1] = ((values[valueOffset + 1] & 0x7FFFFFFFFFL) >>> 25)
+                | ((values[valueOffset + 2] & 0x7FFFFFFFFFL) << 14)
+                | ((values[valueOffset + 3] & 0x7FFFFFFFFFL) << 53);
+        words[wordOffset + 2] = ((values[valueOffset + 3] & 0x7FFFFFFFFFL) >>> 11)
+                | ((values[valueOffset + 4] & 0x7FFFFFFFFFL) << 28);
+        words[wordOffset + 3] = ((values[valueOffset + 4] & 0x7FFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 5] & 0x7FFFFFFFFFL) << 3)
+                | ((values[valueOffset + 6] & 0x7FFFFFFFFFL) << 42);
+        words[wordOffset + 4] = ((values[valueOffset + 6] & 0x7FFFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 7] & 0x7FFFFFFFFFL) << 17)
+                | ((values[valueOffset + 8] & 0x7FFFFFFFFFL) << 56);
+        words[wordOffset + 5] = ((values[valueOffset + 8] & 0x7FFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 9] & 0x7FFFFFFFFFL) << 31);
+        words[wordOffset + 6] = ((values[valueOffset + 9] & 0x7FFFFFFFFFL) >>> 33)
+                | ((values[valueOffset + 10] & 0x7FFFFFFFFFL) << 6)
+                | ((values[valueOffset + 11] & 0x7FFFFFFFFFL) << 45);
+        words[wordOffset + 7] = ((values[valueOffset + 11] & 0x7FFFFFFFFFL) >>> 19)
+                | ((values[valueOffset + 12] & 0x7FFFFFFFFFL) << 20)
+                | ((values[valueOffset + 13] & 0x7FFFFFFFFFL) << 59);
+        words[wordOffset + 8] = ((values[valueOffset + 13] & 0x7FFFFFFFFFL) >>> 5)
+                | ((values[valueOffset + 14] & 0x7FFFFFFFFFL) << 34);
+        words[wordOffset + 9] = ((values[valueOffset + 14] & 0x7FFFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 15] & 0x7FFFFFFFFFL) << 9)
+                | ((values[valueOffset + 16] & 0x7FFFFFFFFFL) << 48);
+        words[wordOffset + 10] = ((values[valueOffset + 16] & 0x7FFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 17] & 0x7FFFFFFFFFL) << 23)
+                | ((values[valueOffset + 18] & 0x7FFFFFFFFFL) << 62);
+        words[wordOffset + 11] = ((values[valueOffset + 18] & 0x7FFFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 19] & 0x7FFFFFFFFFL) << 37);
+        words[wordOffset + 12] = ((values[valueOffset + 19] & 0x7FFFFFFFFFL) >>> 27)
+                | ((values[valueOffset + 20] & 0x7FFFFFFFFFL) << 12)
+                | ((values[valueOffset + 21] & 0x7FFFFFFFFFL) << 51);
+        words[wordOffset + 13] = ((values[valueOffset + 21] & 0x7FFFFFFFFFL) >>> 13)
+                | ((values[valueOffset + 22] & 0x7FFFFFFFFFL) << 26);
+        words[wordOffset + 14] = ((values[valueOffset + 22] & 0x7FFFFFFFFFL) >>> 38)
+                | ((values[valueOffset + 23] & 0x7FFFFFFFFFL) << 1)
+                | ((values[valueOffset + 24] & 0x7FFFFFFFFFL) << 40);
+        words[wordOffset + 15] = ((values[valueOffset + 24] & 0x7FFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 25] & 0x7FFFFFFFFFL) << 15)
+                | ((values[valueOffset + 26] & 0x7FFFFFFFFFL) << 54);
+        words[wordOffset + 16] = ((values[valueOffset + 26] & 0x7FFFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 27] & 0x7FFFFFFFFFL) << 29);
+        words[wordOffset + 17] = ((values[valueOffset + 27] & 0x7FFFFFFFFFL) >>> 35)
+                | ((values[valueOffset + 28] & 0x7FFFFFFFFFL) << 4)
+                | ((values[valueOffset + 29] & 0x7FFFFFFFFFL) << 43);
+        words[wordOffset + 18] = ((values[valueOffset + 29] & 0x7FFFFFFFFFL) >>> 21)
+                | ((values[valueOffset + 30] & 0x7FFFFFFFFFL) << 18)
+                | ((values[valueOffset + 31] & 0x7FFFFFFFFFL) << 57);
+        words[wordOffset + 19] = ((values[valueOffset + 31] & 0x7FFFFFFFFFL) >>> 7)
+                | ((values[valueOffset + 32] & 0x7FFFFFFFFFL) << 32);
+        words[wordOffset + 20] = ((values[valueOffset + 32] & 0x7FFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 33] & 0x7FFFFFFFFFL) << 7)
+                | ((values[valueOffset + 34] & 0x7FFFFFFFFFL) << 46);
+        words[wordOffset + 21] = ((values[valueOffset + 34] & 0x7FFFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 35] & 0x7FFFFFFFFFL) << 21)
+                | ((values[valueOffset + 36] & 0x7FFFFFFFFFL) << 60);
+        words[wordOffset + 22] = ((values[valueOffset + 36] & 0x7FFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 37] & 0x7FFFFFFFFFL) << 35);
+        words[wordOffset + 23] = ((values[valueOffset + 37] & 0x7FFFFFFFFFL) >>> 29)
+                | ((values[valueOffset + 38] & 0x7FFFFFFFFFL) << 10)
+                | ((values[valueOffset + 39] & 0x7FFFFFFFFFL) << 49);
+        words[wordOffset + 24] = ((values[valueOffset + 39] & 0x7FFFFFFFFFL) >>> 15)
+                | ((values[valueOffset + 40] & 0x7FFFFFFFFFL) << 24)
+                | ((values[valueOffset + 41] & 0x7FFFFFFFFFL) << 63);
+        words[wordOffset + 25] = ((values[valueOffset + 41] & 0x7FFFFFFFFFL) >>> 1)
+                | ((values[valueOffset + 42] & 0x7FFFFFFFFFL) << 38);
+        words[wordOffset + 26] = ((values[valueOffset + 42] & 0x7FFFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 43] & 0x7FFFFFFFFFL) << 13)
+                | ((values[valueOffset + 44] & 0x7FFFFFFFFFL) << 52);
+        words[wordOffset + 27] = ((values[valueOffset + 44] & 0x7FFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 45] & 0x7FFFFFFFFFL) << 27);
+        words[wordOffset + 28] = ((values[valueOffset + 45] & 0x7FFFFFFFFFL) >>> 37)
+                | ((values[valueOffset + 46] & 0x7FFFFFFFFFL) << 2)
+                | ((values[valueOffset + 47] & 0x7FFFFFFFFFL) << 41);
+        words[wordOffset + 29] = ((values[valueOffset + 47] & 0x7FFFFFFFFFL) >>> 23)
+                | ((values[valueOffset + 48] & 0x7FFFFFFFFFL) << 16)
+                | ((values[valueOffset + 49] & 0x7FFFFFFFFFL) << 55);
+        words[wordOffset + 30] = ((values[valueOffset + 49] & 0x7FFFFFFFFFL) >>> 9)
+                | ((values[valueOffset + 50] & 0x7FFFFFFFFFL) << 30);
+        words[wordOffset + 31] = ((values[valueOffset + 50] & 0x7FFFFFFFFFL) >>> 34)
+                | ((values[valueOffset + 51] & 0x7FFFFFFFFFL) << 5)
+                | ((values[valueOffset + 52] & 0x7FFFFFFFFFL) << 44);
+        words[wordOffset + 32] = ((values[valueOffset + 52] & 0x7FFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 53] & 0x7FFFFFFFFFL) << 19)
+                | ((values[valueOffset + 54] & 0x7FFFFFFFFFL) << 58);
+        words[wordOffset + 33] = ((values[valueOffset + 54] & 0x7FFFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 55] & 0x7FFFFFFFFFL) << 33);
+        words[wordOffset + 34] = ((values[valueOffset + 55] & 0x7FFFFFFFFFL) >>> 31)
+                | ((values[valueOffset + 56] & 0x7FFFFFFFFFL) << 8)
+                | ((values[valueOffset + 57] & 0x7FFFFFFFFFL) << 47);
+        words[wordOffset + 35] = ((values[valueOffset + 57] & 0x7FFFFFFFFFL) >>> 17)
+                | ((values[valueOffset + 58] & 0x7FFFFFFFFFL) << 22)
+                | ((values[valueOffset + 59] & 0x7FFFFFFFFFL) << 61);
+        words[wordOffset + 36] = ((values[valueOffset + 59] & 0x7FFFFFFFFFL) >>> 3)
+                | ((values[valueOffset + 60] & 0x7FFFFFFFFFL) << 36);
+        words[wordOffset + 37] = ((values[valueOffset + 60] & 0x7FFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 61] & 0x7FFFFFFFFFL) << 11)
+                | ((values[valueOffset + 62] & 0x7FFFFFFFFFL) << 50);
+        words[wordOffset + 38] = ((values[valueOffset + 62] & 0x7FFFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 63] & 0x7FFFFFFFFFL) << 25);
+    }
+
+    private static void pack40(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0xFFFFFFFFFFL)
+                | ((values[valueOffset + 1] & 0xFFFFFFFFFFL) << 40);
+        words[wordOffset + 1] = ((values[valueOffset + 1] & 0xFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 2] & 0xFFFFFFFFFFL) << 16)
+                | ((values[valueOffset + 3] & 0xFFFFFFFFFFL) << 56);
+        words[wordOffset + 2] = ((values[valueOffset + 3] & 0xFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 4] & 0xFFFFFFFFFFL) << 32);
+        words[wordOffset + 3] = ((values[valueOffset + 4] & 0xFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 5] & 0xFFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 6] & 0xFFFFFFFFFFL) << 48);
+        words[wordOffset + 4] = ((values[valueOffset + 6] & 0xFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 7] & 0xFFFFFFFFFFL) << 24);
+        words[wordOffset + 5] = (values[valueOffset + 8] & 0xFFFFFFFFFFL)
+                | ((values[valueOffset + 9] & 0xFFFFFFFFFFL) << 40);
+        words[wordOffset + 6] = ((values[valueOffset + 9] & 0xFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 10] & 0xFFFFFFFFFFL) << 16)
+                | ((values[valueOffset + 11] & 0xFFFFFFFFFFL) << 56);
+        words[wordOffset + 7] = ((values[valueOffset + 11] & 0xFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 12] & 0xFFFFFFFFFFL) << 32);
+        words[wordOffset + 8] = ((values[valueOffset + 12] & 0xFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 13] & 0xFFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 14] & 0xFFFFFFFFFFL) << 48);
+        words[wordOffset + 9] = ((values[valueOffset + 14] & 0xFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 15] & 0xFFFFFFFFFFL) << 24);
+        words[wordOffset + 10] = (values[valueOffset + 16] & 0xFFFFFFFFFFL)
+                | ((values[valueOffset + 17] & 0xFFFFFFFFFFL) << 40);
+        words[wordOffset + 11] = ((values[valueOffset + 17] & 0xFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 18] & 0xFFFFFFFFFFL) << 16)
+                | ((values[valueOffset + 19] & 0xFFFFFFFFFFL) << 56);
+        words[wordOffset + 12] = ((values[valueOffset + 19] & 0xFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 20] & 0xFFFFFFFFFFL) << 32);
+        words[wordOffset + 13] = ((values[valueOffset + 20] & 0xFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 21] & 0xFFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 22] & 0xFFFFFFFFFFL) << 48);
+        words[wordOffset + 14] = ((values[valueOffset + 22] & 0xFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 23] & 0xFFFFFFFFFFL) << 24);
+        words[wordOffset + 15] = (values[valueOffset + 24] & 0xFFFFFFFFFFL)
+                | ((values[valueOffset + 25] & 0xFFFFFFFFFFL) << 40);
+        words[wordOffset + 16] = ((values[valueOffset + 25] & 0xFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 26] & 0xFFFFFFFFFFL) << 16)
+                | ((values[valueOffset + 27] & 0xFFFFFFFFFFL) << 56);
+        words[wordOffset + 17] = ((values[valueOffset + 27] & 0xFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 28] & 0xFFFFFFFFFFL) << 32);
+        words[wordOffset + 18] = ((values[valueOffset + 28] & 0xFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 29] & 0xFFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 30] & 0xFFFFFFFFFFL) << 48);
+        words[wordOffset + 19] = ((values[valueOffset + 30] & 0xFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 31] & 0xFFFFFFFFFFL) << 24);
+        words[wordOffset + 20] = (values[valueOffset + 32] & 0xFFFFFFFFFFL)
+                | ((values[valueOffset + 33] & 0xFFFFFFFFFFL) << 40);
+        words[wordOffset + 21] = ((values[valueOffset + 33] & 0xFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 34] & 0xFFFFFFFFFFL) << 16)
+                | ((values[valueOffset + 35] & 0xFFFFFFFFFFL) << 56);
+        words[wordOffset + 22] = ((values[valueOffset + 35] & 0xFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 36] & 0xFFFFFFFFFFL) << 32);
+        words[wordOffset + 23] = ((values[valueOffset + 36] & 0xFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 37] & 0xFFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 38] & 0xFFFFFFFFFFL) << 48);
+        words[wordOffset + 24] = ((values[valueOffset + 38] & 0xFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 39] & 0xFFFFFFFFFFL) << 24);
+        words[wordOffset + 25] = (values[valueOffset + 40] & 0xFFFFFFFFFFL)
+                | ((values[valueOffset + 41] & 0xFFFFFFFFFFL) << 40);
+        words[wordOffset + 26] = ((values[valueOffset + 41] & 0xFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 42] & 0xFFFFFFFFFFL) << 16)
+                | ((values[valueOffset + 43] & 0xFFFFFFFFFFL) << 56);
+        words[wordOffset + 27] = ((values[valueOffset + 43] & 0xFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 44] & 0xFFFFFFFFFFL) << 32);
+        words[wordOffset + 28] = ((values[valueOffset + 44] & 0xFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 45] & 0xFFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 46] & 0xFFFFFFFFFFL) << 48);
+        words[wordOffset + 29] = ((values[valueOffset + 46] & 0xFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 47] & 0xFFFFFFFFFFL) << 24);
+        words[wordOffset + 30] = (values[valueOffset + 48] & 0xFFFFFFFFFFL)
+                | ((values[valueOffset + 49] & 0xFFFFFFFFFFL) << 40);
+        words[wordOffset + 31] = ((values[valueOffset + 49] & 0xFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 50] & 0xFFFFFFFFFFL) << 16)
+                | ((values[valueOffset + 51] & 0xFFFFFFFFFFL) << 56);
+        words[wordOffset + 32] = ((values[valueOffset + 51] & 0xFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 52] & 0xFFFFFFFFFFL) << 32);
+        words[wordOffset + 33] = ((values[valueOffset + 52] & 0xFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 53] & 0xFFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 54] & 0xFFFFFFFFFFL) << 48);
+        words[wordOffset + 34] = ((values[valueOffset + 54] & 0xFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 55] & 0xFFFFFFFFFFL) << 24);
+        words[wordOffset + 35] = (values[valueOffset + 56] & 0xFFFFFFFFFFL)
+                | ((values[valueOffset + 57] & 0xFFFFFFFFFFL) << 40);
+        words[wordOffset + 36] = ((values[valueOffset + 57] & 0xFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 58] & 0xFFFFFFFFFFL) << 16)
+                | ((values[valueOffset + 59] & 0xFFFFFFFFFFL) << 56);
+        words[wordOffset + 37] = ((values[valueOffset + 59] & 0xFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 60] & 0xFFFFFFFFFFL) << 32);
+        words[wordOffset + 38] = ((values[valueOffset + 60] & 0xFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 61] & 0xFFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 62] & 0xFFFFFFFFFFL) << 48);
+        words[wordOffset + 39] = ((values[valueOffset + 62] & 0xFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 63] & 0xFFFFFFFFFFL) << 24);
+    }
+
+    private static void pack41(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x1FFFFFFFFFFL)
+                | ((values[valueOffset + 1] & 0x1FFFFFFFFFFL) << 41);
+        words[wordOffset + 1] = ((values[valueOffset + 1] & 0x1FFFFFFFFFFL) >>> 23)
+                | ((values[valueOffset + 2] & 0x1FFFFFFFFFFL) << 18)
+                | ((values[valueOffset + 3] & 0x1FFFFFFFFFFL) << 59);
+        words[wordOffset + 2] = ((values[valueOffset + 3] & 0x1FFFFFFFFFFL) >>> 5)
+                | ((values[valueOffset + 4] & 0x1FFFFFFFFFFL) << 36);
+        words[wordOffset + 3] = ((values[valueOffset + 4] & 0x1FFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 5] & 0x1FFFFFFFFFFL) << 13)
+                | ((values[valueOffset + 6] & 0x1FFFFFFFFFFL) << 54);
+        words[wordOffset + 4] = ((values[valueOffset + 6] & 0x1FFFFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 7] & 0x1FFFFFFFFFFL) << 31);
+        words[wordOffset + 5] = ((values[valueOffset + 7] & 0x1FFFFFFFFFFL) >>> 33)
+                | ((values[valueOffset + 8] & 0x1FFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 9] & 0x1FFFFFFFFFFL) << 49);
+        words[wordOffset + 6] = ((values[valueOffset + 9] & 0x1FFFFFFFFFFL) >>> 15)
+                | ((values[valueOffset + 10] & 0x1FFFFFFFFFFL) << 26);
+        words[wordOffset + 7] = ((values[valueOffset + 10] & 0x1FFFFFFFFFFL) >>> 38)
+                | ((values[valueOffset + 11] & 0x1FFFFFFFFFFL) << 3)
+                | ((values[valueOffset + 12] & 0x1FFFFFFFFFFL) << 44);
+        words[wordOffset + 8] = ((values[valueOffset + 12] & 0x1FFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 13] & 0x1FFFFFFFFFFL) << 21)
+                | ((values[valueOffset + 14] & 0x1FFFFFFFFFFL) << 62);
+        words[wordOffset + 9] = ((values[valueOffset + 14] & 0x1FFFFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 15] & 0x1FFFFFFFFFFL) << 39);
+        words[wordOffset + 10] = ((values[valueOffset + 15] & 0x1FFFFFFFFFFL) >>> 25)
+                | ((values[valueOffset + 16] & 0x1FFFFFFFFFFL) << 16)
+                | ((values[valueOffset + 17] & 0x1FFFFFFFFFFL) << 57);
+        words[wordOffset + 11] = ((values[valueOffset + 17] & 0x1FFFFFFFFFFL) >>> 7)
+                | ((values[valueOffset + 18] & 0x1FFFFFFFFFFL) << 34);
+        words[wordOffset + 12] = ((values[valueOffset + 18] & 0x1FFFFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 19] & 0x1FFFFFFFFFFL) << 11)
+                | ((values[valueOffset + 20] & 0x1FFFFFFFFFFL) << 52);
+        words[wordOffset + 13] = ((values[valueOffset + 20] & 0x1FFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 21] & 0x1FFFFFFFFFFL) << 29);
+        words[wordOffset + 14] = ((values[valueOffset + 21] & 0x1FFFFFFFFFFL) >>> 35)
+                | ((values[valueOffset + 22] & 0x1FFFFFFFFFFL) << 6)
+                | ((values[valueOffset + 23] & 0x1FFFFFFFFFFL) << 47);
+        words[wordOffset + 15] = ((values[valueOffset + 23] & 0x1FFFFFFFFFFL) >>> 17)
+                | ((values[valueOffset + 24] & 0x1FFFFFFFFFFL) << 24);
+        words[wordOffset + 16] = ((values[valueOffset + 24] & 0x1FFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 25] & 0x1FFFFFFFFFFL) << 1)
+                | ((values[valueOffset + 26] & 0x1FFFFFFFFFFL) << 42);
+        words[wordOffset + 17] = ((values[valueOffset + 26] & 0x1FFFFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 27] & 0x1FFFFFFFFFFL) << 19)
+                | ((values[valueOffset + 28] & 0x1FFFFFFFFFFL) << 60);
+        words[wordOffset + 18] = ((values[valueOffset + 28] & 0x1FFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 29] & 0x1FFFFFFFFFFL) << 37);
+        words[wordOffset + 19] = ((values[valueOffset + 29] & 0x1FFFFFFFFFFL) >>> 27)
+                | ((values[valueOffset + 30] & 0x1FFFFFFFFFFL) << 14)
+                | ((values[valueOffset + 31] & 0x1FFFFFFFFFFL) << 55);
+        words[wordOffset + 20] = ((values[valueOffset + 31] & 0x1FFFFFFFFFFL) >>> 9)
+                | ((values[valueOffset + 32] & 0x1FFFFFFFFFFL) << 32);
+        words[wordOffset + 21] = ((values[valueOffset + 32] & 0x1FFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 33] & 0x1FFFFFFFFFFL) << 9)
+                | ((values[valueOffset + 34] & 0x1FFFFFFFFFFL) << 50);
+        words[wordOffset + 22] = ((values[valueOffset + 34] & 0x1FFFFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 35] & 0x1FFFFFFFFFFL) << 27);
+        words[wordOffset + 23] = ((values[valueOffset + 35] & 0x1FFFFFFFFFFL) >>> 37)
+                | ((values[valueOffset + 36] & 0x1FFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 37] & 0x1FFFFFFFFFFL) << 45);
+        words[wordOffset + 24] = ((values[valueOffset + 37] & 0x1FFFFFFFFFFL) >>> 19)
+                | ((values[valueOffset + 38] & 0x1FFFFFFFFFFL) << 22)
+                | ((values[valueOffset + 39] & 0x1FFFFFFFFFFL) << 63);
+        words[wordOffset + 25] = ((values[valueOffset + 39] & 0x1FFFFFFFFFFL) >>> 1)
+                | ((values[valueOffset + 40] & 0x1FFFFFFFFFFL) << 40);
+        words[wordOffset + 26] = ((values[valueOffset + 40] & 0x1FFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 41] & 0x1FFFFFFFFFFL) << 17)
+                | ((values[valueOffset + 42] & 0x1FFFFFFFFFFL) << 58);
+        words[wordOffset + 27] = ((values[valueOffset + 42] & 0x1FFFFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 43] & 0x1FFFFFFFFFFL) << 35);
+        words[wordOffset + 28] = ((values[valueOffset + 43] & 0x1FFFFFFFFFFL) >>> 29)
+                | ((values[valueOffset + 44] & 0x1FFFFFFFFFFL) << 12)
+                | ((values[valueOffset + 45] & 0x1FFFFFFFFFFL) << 53);
+        words[wordOffset + 29] = ((values[valueOffset + 45] & 0x1FFFFFFFFFFL) >>> 11)
+                | ((values[valueOffset + 46] & 0x1FFFFFFFFFFL) << 30);
+        words[wordOffset + 30] = ((values[valueOffset + 46] & 0x1FFFFFFFFFFL) >>> 34)
+                | ((values[valueOffset + 47] & 0x1FFFFFFFFFFL) << 7)
+                | ((values[valueOffset + 48] & 0x1FFFFFFFFFFL) << 48);
+        words[wordOffset + 31] = ((values[valueOffset + 48] & 0x1FFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 49] & 0x1FFFFFFFFFFL) << 25);
+        words[wordOffset + 32] = ((values[valueOffset + 49] & 0x1FFFFFFFFFFL) >>> 39)
+                | ((values[valueOffset + 50] & 0x1FFFFFFFFFFL) << 2)
+                | ((values[valueOffset + 51] & 0x1FFFFFFFFFFL) << 43);
+        words[wordOffset + 33] = ((values[valueOffset + 51] & 0x1FFFFFFFFFFL) >>> 21)
+                | ((values[valueOffset + 52] & 0x1FFFFFFFFFFL) << 20)
+                | ((values[valueOffset + 53] & 0x1FFFFFFFFFFL) << 61);
+        words[wordOffset + 34] = ((values[valueOffset + 53] & 0x1FFFFFFFFFFL) >>> 3)
+                | ((values[valueOffset + 54] & 0x1FFFFFFFFFFL) << 38);
+        words[wordOffset + 35] = ((values[valueOffset + 54] & 0x1FFFFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 55] & 0x1FFFFFFFFFFL) << 15)
+                | ((values[valueOffset + 56] & 0x1FFFFFFFFFFL) << 56);
+        words[wordOffset + 36] = ((values[valueOffset + 56] & 0x1FFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 57] & 0x1FFFFFFFFFFL) << 33);
+        words[wordOffset + 37] = ((values[valueOffset + 57] & 0x1FFFFFFFFFFL) >>> 31)
+                | ((values[valueOffset + 58] & 0x1FFFFFFFFFFL) << 10)
+                | ((values[valueOffset + 59] & 0x1FFFFFFFFFFL) << 51);
+        words[wordOffset + 38] = ((values[valueOffset + 59] & 0x1FFFFFFFFFFL) >>> 13)
+                | ((values[valueOffset + 60] & 0x1FFFFFFFFFFL) << 28);
+        words[wordOffset + 39] = ((values[valueOffset + 60] & 0x1FFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 61] & 0x1FFFFFFFFFFL) << 5)
+                | ((values[valueOffset + 62] & 0x1FFFFFFFFFFL) << 46);
+        words[wordOffset + 40] = ((values[valueOffset + 62] & 0x1FFFFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 63] & 0x1FFFFFFFFFFL) << 23);
+    }
+
+    private static void pack42(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x3FFFFFFFFFFL)
+                | ((values[valueOffset + 1] & 0x3FFFFFFFFFFL) << 42);
+        words[wordOffset + 1] = ((values[valueOffset + 1] & 0x3FFFFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 2] & 0x3FFFFFFFFFFL) << 20)
+                | ((values[valueOffset + 3] & 0x3FFFFFFFFFFL) << 62);
+        words[wordOffset + 2] = ((values[valueOffset + 3] & 0x3FFFFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 4] & 0x3FFFFFFFFFFL) << 40);
+        words[wordOffset + 3] = ((values[valueOffset + 4] & 0x3FFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 5] & 0x3FFFFFFFFFFL) << 18)
+                | ((values[valueOffset + 6] & 0x3FFFFFFFFFFL) << 60);
+        words[wordOffset + 4] = ((values[valueOffset + 6] & 0x3FFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 7] & 0x3FFFFFFFFFFL) << 38);
+        words[wordOffset + 5] = ((values[valueOffset + 7] & 0x3FFFFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 8] & 0x3FFFFFFFFFFL) << 16)
+                | ((values[valueOffset + 9] & 0x3FFFFFFFFFFL) << 58);
+        words[wordOffset + 6] = ((values[valueOffset + 9] & 0x3FFFFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 10] & 0x3FFFFFFFFFFL) << 36);
+        words[wordOffset + 7] = ((values[valueOffset + 10] & 0x3FFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 11] & 0x3FFFFFFFFFFL) << 14)
+                | ((values[valueOffset + 12] & 0x3FFFFFFFFFFL) << 56);
+        words[wordOffset + 8] = ((values[valueOffset + 12] & 0x3FFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 13] & 0x3FFFFFFFFFFL) << 34);
+        words[wordOffset + 9] = ((values[valueOffset + 13] & 0x3FFFFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 14] & 0x3FFFFFFFFFFL) << 12)
+                | ((values[valueOffset + 15] & 0x3FFFFFFFFFFL) << 54);
+        words[wordOffset + 10] = ((values[valueOffset + 15] & 0x3FFFFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 16] & 0x3FFFFFFFFFFL) << 32);
+        words[wordOffset + 11] = ((values[valueOffset + 16] & 0x3FFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 17] & 0x3FFFFFFFFFFL) << 10)
+                | ((values[valueOffset + 18] & 0x3FFFFFFFFFFL) << 52);
+        words[wordOffset + 12] = ((values[valueOffset + 18] & 0x3FFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 19] & 0x3FFFFFFFFFFL) << 30);
+        words[wordOffset + 13] = ((values[valueOffset + 19] & 0x3FFFFFFFFFFL) >>> 34)
+                | ((values[valueOffset + 20] & 0x3FFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 21] & 0x3FFFFFFFFFFL) << 50);
+        words[wordOffset + 14] = ((values[valueOffset + 21] & 0x3FFFFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 22] & 0x3FFFFFFFFFFL) << 28);
+        words[wordOffset + 15] = ((values[valueOffset + 22] & 0x3FFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 23] & 0x3FFFFFFFFFFL) << 6)
+                | ((values[valueOffset + 24] & 0x3FFFFFFFFFFL) << 48);
+        words[wordOffset + 16] = ((values[valueOffset + 24] & 0x3FFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 25] & 0x3FFFFFFFFFFL) << 26);
+        words[wordOffset + 17] = ((values[valueOffset + 25] & 0x3FFFFFFFFFFL) >>> 38)
+                | ((values[valueOffset + 26] & 0x3FFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 27] & 0x3FFFFFFFFFFL) << 46);
+        words[wordOffset + 18] = ((values[valueOffset + 27] & 0x3FFFFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 28] & 0x3FFFFFFFFFFL) << 24);
+        words[wordOffset + 19] = ((values[valueOffset + 28] & 0x3FFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 29] & 0x3FFFFFFFFFFL) << 2)
+                | ((values[valueOffset + 30] & 0x3FFFFFFFFFFL) << 44);
+        words[wordOffset + 20] = ((values[valueOffset + 30] & 0x3FFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 31] & 0x3FFFFFFFFFFL) << 22);
+        words[wordOffset + 21] = (values[valueOffset + 32] & 0x3FFFFFFFFFFL)
+                | ((values[valueOffset + 33] & 0x3FFFFFFFFFFL) << 42);
+        words[wordOffset + 22] = ((values[valueOffset + 33] & 0x3FFFFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 34] & 0x3FFFFFFFFFFL) << 20)
+                | ((values[valueOffset + 35] & 0x3FFFFFFFFFFL) << 62);
+        words[wordOffset + 23] = ((values[valueOffset + 35] & 0x3FFFFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 36] & 0x3FFFFFFFFFFL) << 40);
+        words[wordOffset + 24] = ((values[valueOffset + 36] & 0x3FFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 37] & 0x3FFFFFFFFFFL) << 18)
+                | ((values[valueOffset + 38] & 0x3FFFFFFFFFFL) << 60);
+        words[wordOffset + 25] = ((values[valueOffset + 38] & 0x3FFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 39] & 0x3FFFFFFFFFFL) << 38);
+        words[wordOffset + 26] = ((values[valueOffset + 39] & 0x3FFFFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 40] & 0x3FFFFFFFFFFL) << 16)
+                | ((values[valueOffset + 41] & 0x3FFFFFFFFFFL) << 58);
+        words[wordOffset + 27] = ((values[valueOffset + 41] & 0x3FFFFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 42] & 0x3FFFFFFFFFFL) << 36);
+        words[wordOffset + 28] = ((values[valueOffset + 42] & 0x3FFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 43] & 0x3FFFFFFFFFFL) << 14)
+                | ((values[valueOffset + 44] & 0x3FFFFFFFFFFL) << 56);
+        words[wordOffset + 29] = ((values[valueOffset + 44] & 0x3FFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 45] & 0x3FFFFFFFFFFL) << 34);
+        words[wordOffset + 30] = ((values[valueOffset + 45] & 0x3FFFFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 46] & 0x3FFFFFFFFFFL) << 12)
+                | ((values[valueOffset + 47] & 0x3FFFFFFFFFFL) << 54);
+        words[wordOffset + 31] = ((values[valueOffset + 47] & 0x3FFFFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 48] & 0x3FFFFFFFFFFL) << 32);
+        words[wordOffset + 32] = ((values[valueOffset + 48] & 0x3FFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 49] & 0x3FFFFFFFFFFL) << 10)
+                | ((values[valueOffset + 50] & 0x3FFFFFFFFFFL) << 52);
+        words[wordOffset + 33] = ((values[valueOffset + 50] & 0x3FFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 51] & 0x3FFFFFFFFFFL) << 30);
+        words[wordOffset + 34] = ((values[valueOffset + 51] & 0x3FFFFFFFFFFL) >>> 34)
+                | ((values[valueOffset + 52] & 0x3FFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 53] & 0x3FFFFFFFFFFL) << 50);
+        words[wordOffset + 35] = ((values[valueOffset + 53] & 0x3FFFFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 54] & 0x3FFFFFFFFFFL) << 28);
+        words[wordOffset + 36] = ((values[valueOffset + 54] & 0x3FFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 55] & 0x3FFFFFFFFFFL) << 6)
+                | ((values[valueOffset + 56] & 0x3FFFFFFFFFFL) << 48);
+        words[wordOffset + 37] = ((values[valueOffset + 56] & 0x3FFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 57] & 0x3FFFFFFFFFFL) << 26);
+        words[wordOffset + 38] = ((values[valueOffset + 57] & 0x3FFFFFFFFFFL) >>> 38)
+                | ((values[valueOffset + 58] & 0x3FFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 59] & 0x3FFFFFFFFFFL) << 46);
+        words[wordOffset + 39] = ((values[valueOffset + 59] & 0x3FFFFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 60] & 0x3FFFFFFFFFFL) << 24);
+        words[wordOffset + 40] = ((values[valueOffset + 60] & 0x3FFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 61] & 0x3FFFFFFFFFFL) << 2)
+                | ((values[valueOffset + 62] & 0x3FFFFFFFFFFL) << 44);
+        words[wordOffset + 41] = ((values[valueOffset + 62] & 0x3FFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 63] & 0x3FFFFFFFFFFL) << 22);
+    }
+
+    private static void pack43(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x7FFFFFFFFFFL)
+                | ((values[valueOffset + 1] & 0x7FFFFFFFFFFL) << 43);
+        words[wordOffset + 1] = ((values[valueOffset + 1] & 0x7FFFFFFFFFFL) >>> 21)
+                | ((values[valueOffset + 2] & 0x7FFFFFFFFFFL) << 22);
+        words[wordOffset + 2] = ((values[valueOffset + 2] & 0x7FFFFFFFFFFL) >>> 42)
+                | ((values[valueOffset + 3] & 0x7FFFFFFFFFFL) << 1)
+                | ((values[valueOffset + 4] & 0x7FFFFFFFFFFL) << 44);
+        words[wordOffset + 3] = ((values[valueOffset + 4] & 0x7FFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 5] & 0x7FFFFFFFFFFL) << 23);
+        words[wordOffset + 4] = ((values[valueOffset + 5] & 0x7FFFFFFFFFFL) >>> 41)
+                | ((values[valueOffset + 6] & 0x7FFFFFFFFFFL) << 2)
+                | ((values[valueOffset + 7] & 0x7FFFFFFFFFFL) << 45);
+        words[wordOffset + 5] = ((values[valueOffset + 7] & 0x7FFFFFFFFFFL) >>> 19)
+                | ((values[valueOffset + 8] & 0x7FFFFFFFFFFL) << 24);
+        words[wordOffset + 6] = ((values[valueOffset + 8] & 0x7FFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 9] & 0x7FFFFFFFFFFL) << 3)
+                | ((values[valueOffset + 10] & 0x7FFFFFFFFFFL) << 46);
+        words[wordOffset + 7] = ((values[valueOffset + 10] & 0x7FFFFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 11] & 0x7FFFFFFFFFFL) << 25);
+        words[wordOffset + 8] = ((values[valueOffset + 11] & 0x7FFFFFFFFFFL) >>> 39)
+                | ((values[valueOffset + 12] & 0x7FFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 13] & 0x7FFFFFFFFFFL) << 47);
+        words[wordOffset + 9] = ((values[valueOffset + 13] & 0x7FFFFFFFFFFL) >>> 17)
+                | ((values[valueOffset + 14] & 0x7FFFFFFFFFFL) << 26);
+        words[wordOffset + 10] = ((values[valueOffset + 14] & 0x7FFFFFFFFFFL) >>> 38)
+                | ((values[valueOffset + 15] & 0x7FFFFFFFFFFL) << 5)
+                | ((values[valueOffset + 16] & 0x7FFFFFFFFFFL) << 48);
+        words[wordOffset + 11] = ((values[valueOffset + 16] & 0x7FFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 17] & 0x7FFFFFFFFFFL) << 27);
+        words[wordOffset + 12] = ((values[valueOffset + 17] & 0x7FFFFFFFFFFL) >>> 37)
+                | ((values[valueOffset + 18] & 0x7FFFFFFFFFFL) << 6)
+                | ((values[valueOffset + 19] & 0x7FFFFFFFFFFL) << 49);
+        words[wordOffset + 13] = ((values[valueOffset + 19] & 0x7FFFFFFFFFFL) >>> 15)
+                | ((values[valueOffset + 20] & 0x7FFFFFFFFFFL) << 28);
+        words[wordOffset + 14] = ((values[valueOffset + 20] & 0x7FFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 21] & 0x7FFFFFFFFFFL) << 7)
+                | ((values[valueOffset + 22] & 0x7FFFFFFFFFFL) << 50);
+        words[wordOffset + 15] = ((values[valueOffset + 22] & 0x7FFFFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 23] & 0x7FFFFFFFFFFL) << 29);
+        words[wordOffset + 16] = ((values[valueOffset + 23] & 0x7FFFFFFFFFFL) >>> 35)
+                | ((values[valueOffset + 24] & 0x7FFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 25] & 0x7FFFFFFFFFFL) << 51);
+        words[wordOffset + 17] = ((values[valueOffset + 25] & 0x7FFFFFFFFFFL) >>> 13)
+                | ((values[valueOffset + 26] & 0x7FFFFFFFFFFL) << 30);
+        words[wordOffset + 18] = ((values[valueOffset + 26] & 0x7FFFFFFFFFFL) >>> 34)
+                | ((values[valueOffset + 27] & 0x7FFFFFFFFFFL) << 9)
+                | ((values[valueOffset + 28] & 0x7FFFFFFFFFFL) << 52);
+        words[wordOffset + 19] = ((values[valueOffset + 28] & 0x7FFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 29] & 0x7FFFFFFFFFFL) << 31);
+        words[wordOffset + 20] = ((values[valueOffset + 29] & 0x7FFFFFFFFFFL) >>> 33)
+                | ((values[valueOffset + 30] & 0x7FFFFFFFFFFL) << 10)
+                | ((values[valueOffset + 31] & 0x7FFFFFFFFFFL) << 53);
+        words[wordOffset + 21] = ((values[valueOffset + 31] & 0x7FFFFFFFFFFL) >>> 11)
+                | ((values[valueOffset + 32] & 0x7FFFFFFFFFFL) << 32);
+        words[wordOffset + 22] = ((values[valueOffset + 32] & 0x7FFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 33] & 0x7FFFFFFFFFFL) << 11)
+                | ((values[valueOffset + 34] & 0x7FFFFFFFFFFL) << 54);
+        words[wordOffset + 23] = ((values[valueOffset + 34] & 0x7FFFFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 35] & 0x7FFFFFFFFFFL) << 33);
+        words[wordOffset + 24] = ((values[valueOffset + 35] & 0x7FFFFFFFFFFL) >>> 31)
+                | ((values[valueOffset + 36] & 0x7FFFFFFFFFFL) << 12)
+                | ((values[valueOffset + 37] & 0x7FFFFFFFFFFL) << 55);
+        words[wordOffset + 25] = ((values[valueOffset + 37] & 0x7FFFFFFFFFFL) >>> 9)
+                | ((values[valueOffset + 38] & 0x7FFFFFFFFFFL) << 34);
+        words[wordOffset + 26] = ((values[valueOffset + 38] & 0x7FFFFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 39] & 0x7FFFFFFFFFFL) << 13)
+                | ((values[valueOffset + 40] & 0x7FFFFFFFFFFL) << 56);
+        words[wordOffset + 27] = ((values[valueOffset + 40] & 0x7FFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 41] & 0x7FFFFFFFFFFL) << 35);
+        words[wordOffset + 28] = ((values[valueOffset + 41] & 0x7FFFFFFFFFFL) >>> 29)
+                | ((values[valueOffset + 42] & 0x7FFFFFFFFFFL) << 14)
+                | ((values[valueOffset + 43] & 0x7FFFFFFFFFFL) << 57);
+        words[wordOffset + 29] = ((values[valueOffset + 43] & 0x7FFFFFFFFFFL) >>> 7)
+                | ((values[valueOffset + 44] & 0x7FFFFFFFFFFL) << 36);
+        words[wordOffset + 30] = ((values[valueOffset + 44] & 0x7FFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 45] & 0x7FFFFFFFFFFL) << 15)
+                | ((values[valueOffset + 46] & 0x7FFFFFFFFFFL) << 58);
+        words[wordOffset + 31] = ((values[valueOffset + 46] & 0x7FFFFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 47] & 0x7FFFFFFFFFFL) << 37);
+        words[wordOffset + 32] = ((values[valueOffset + 47] & 0x7FFFFFFFFFFL) >>> 27)
+                | ((values[valueOffset + 48] & 0x7FFFFFFFFFFL) << 16)
+                | ((values[valueOffset + 49] & 0x7FFFFFFFFFFL) << 59);
+        words[wordOffset + 33] = ((values[valueOffset + 49] & 0x7FFFFFFFFFFL) >>> 5)
+                | ((values[valueOffset + 50] & 0x7FFFFFFFFFFL) << 38);
+        words[wordOffset + 34] = ((values[valueOffset + 50] & 0x7FFFFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 51] & 0x7FFFFFFFFFFL) << 17)
+                | ((values[valueOffset + 52] & 0x7FFFFFFFFFFL) << 60);
+        words[wordOffset + 35] = ((values[valueOffset + 52] & 0x7FFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 53] & 0x7FFFFFFFFFFL) << 39);
+        words[wordOffset + 36] = ((values[valueOffset + 53] & 0x7FFFFFFFFFFL) >>> 25)
+                | ((values[valueOffset + 54] & 0x7FFFFFFFFFFL) << 18)
+                | ((values[valueOffset + 55] & 0x7FFFFFFFFFFL) << 61);
+        words[wordOffset + 37] = ((values[valueOffset + 55] & 0x7FFFFFFFFFFL) >>> 3)
+                | ((values[valueOffset + 56] & 0x7FFFFFFFFFFL) << 40);
+        words[wordOffset + 38] = ((values[valueOffset + 56] & 0x7FFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 57] & 0x7FFFFFFFFFFL) << 19)
+                | ((values[valueOffset + 58] & 0x7FFFFFFFFFFL) << 62);
+        words[wordOffset + 39] = ((values[valueOffset + 58] & 0x7FFFFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 59] & 0x7FFFFFFFFFFL) << 41);
+        words[wordOffset + 40] = ((values[valueOffset + 59] & 0x7FFFFFFFFFFL) >>> 23)
+                | ((values[valueOffset + 60] & 0x7FFFFFFFFFFL) << 20)
+                | ((values[valueOffset + 61] & 0x7FFFFFFFFFFL) << 63);
+        words[wordOffset + 41] = ((values[valueOffset + 61] & 0x7FFFFFFFFFFL) >>> 1)
+                | ((values[valueOffset + 62] & 0x7FFFFFFFFFFL) << 42);
+        words[wordOffset + 42] = ((values[valueOffset + 62] & 0x7FFFFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 63] & 0x7FFFFFFFFFFL) << 21);
+    }
+
+    private static void pack44(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0xFFFFFFFFFFFL)
+                | ((values[valueOffset + 1] & 0xFFFFFFFFFFFL) << 44);
+        words[wordOffset + 1] = ((values[valueOffset + 1] & 0xFFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 2] & 0xFFFFFFFFFFFL) << 24);
+        words[wordOffset + 2] = ((values[valueOffset + 2] & 0xFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 3] & 0xFFFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 4] & 0xFFFFFFFFFFFL) << 48);
+        words[wordOffset + 3] = ((values[valueOffset + 4] & 0xFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 5] & 0xFFFFFFFFFFFL) << 28);
+        words[wordOffset + 4] = ((values[valueOffset + 5] & 0xFFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 6] & 0xFFFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 7] & 0xFFFFFFFFFFFL) << 52);
+        words[wordOffset + 5] = ((values[valueOffset + 7] & 0xFFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 8] & 0xFFFFFFFFFFFL) << 32);
+        words[wordOffset + 6] = ((values[valueOffset + 8] & 0xFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 9] & 0xFFFFFFFFFFFL) << 12)
+                | ((values[valueOffset + 10] & 0xFFFFFFFFFFFL) << 56);
+        words[wordOffset + 7] = ((values[valueOffset + 10] & 0xFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 11] & 0xFFFFFFFFFFFL) << 36);
+        words[wordOffset + 8] = ((values[valueOffset + 11] & 0xFFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 12] & 0xFFFFFFFFFFFL) << 16)
+                | ((values[valueOffset + 13] & 0xFFFFFFFFFFFL) << 60);
+        words[wordOffset + 9] = ((values[valueOffset + 13] & 0xFFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 14] & 0xFFFFFFFFFFFL) << 40);
+        words[wordOffset + 10] = ((values[valueOffset + 14] & 0xFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 15] & 0xFFFFFFFFFFFL) << 20);
+        words[wordOffset + 11] = (values[valueOffset + 16] & 0xFFFFFFFFFFFL)
+                | ((values[valueOffset + 17] & 0xFFFFFFFFFFFL) << 44);
+        words[wordOffset + 12] = ((values[valueOffset + 17] & 0xFFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 18] & 0xFFFFFFFFFFFL) << 24);
+        words[wordOffset + 13] = ((values[valueOffset + 18] & 0xFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 19] & 0xFFFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 20] & 0xFFFFFFFFFFFL) << 48);
+        words[wordOffset + 14] = ((values[valueOffset + 20] & 0xFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 21] & 0xFFFFFFFFFFFL) << 28);
+        words[wordOffset + 15] = ((values[valueOffset + 21] & 0xFFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 22] & 0xFFFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 23] & 0xFFFFFFFFFFFL) << 52);
+        words[wordOffset + 16] = ((values[valueOffset + 23] & 0xFFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 24] & 0xFFFFFFFFFFFL) << 32);
+        words[wordOffset + 17] = ((values[valueOffset + 24] & 0xFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 25] & 0xFFFFFFFFFFFL) << 12)
+                | ((values[valueOffset + 26] & 0xFFFFFFFFFFFL) << 56);
+        words[wordOffset + 18] = ((values[valueOffset + 26] & 0xFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 27] & 0xFFFFFFFFFFFL) << 36);
+        words[wordOffset + 19] = ((values[valueOffset + 27] & 0xFFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 28] & 0xFFFFFFFFFFFL) << 16)
+                | ((values[valueOffset + 29] & 0xFFFFFFFFFFFL) << 60);
+        words[wordOffset + 20] = ((values[valueOffset + 29] & 0xFFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 30] & 0xFFFFFFFFFFFL) << 40);
+        words[wordOffset + 21] = ((values[valueOffset + 30] & 0xFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 31] & 0xFFFFFFFFFFFL) << 20);
+        words[wordOffset + 22] = (values[valueOffset + 32] & 0xFFFFFFFFFFFL)
+                | ((values[valueOffset + 33] & 0xFFFFFFFFFFFL) << 44);
+        words[wordOffset + 23] = ((values[valueOffset + 33] & 0xFFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 34] & 0xFFFFFFFFFFFL) << 24);
+        words[wordOffset + 24] = ((values[valueOffset + 34] & 0xFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 35] & 0xFFFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 36] & 0xFFFFFFFFFFFL) << 48);
+        words[wordOffset + 25] = ((values[valueOffset + 36] & 0xFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 37] & 0xFFFFFFFFFFFL) << 28);
+        words[wordOffset + 26] = ((values[valueOffset + 37] & 0xFFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 38] & 0xFFFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 39] & 0xFFFFFFFFFFFL) << 52);
+        words[wordOffset + 27] = ((values[valueOffset + 39] & 0xFFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 40] & 0xFFFFFFFFFFFL) << 32);
+        words[wordOffset + 28] = ((values[valueOffset + 40] & 0xFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 41] & 0xFFFFFFFFFFFL) << 12)
+                | ((values[valueOffset + 42] & 0xFFFFFFFFFFFL) << 56);
+        words[wordOffset + 29] = ((values[valueOffset + 42] & 0xFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 43] & 0xFFFFFFFFFFFL) << 36);
+        words[wordOffset + 30] = ((values[valueOffset + 43] & 0xFFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 44] & 0xFFFFFFFFFFFL) << 16)
+                | ((values[valueOffset + 45] & 0xFFFFFFFFFFFL) << 60);
+        words[wordOffset + 31] = ((values[valueOffset + 45] & 0xFFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 46] & 0xFFFFFFFFFFFL) << 40);
+        words[wordOffset + 32] = ((values[valueOffset + 46] & 0xFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 47] & 0xFFFFFFFFFFFL) << 20);
+        words[wordOffset + 33] = (values[valueOffset + 48] & 0xFFFFFFFFFFFL)
+                | ((values[valueOffset + 49] & 0xFFFFFFFFFFFL) << 44);
+        words[wordOffset + 34] = ((values[valueOffset + 49] & 0xFFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 50] & 0xFFFFFFFFFFFL) << 24);
+        words[wordOffset + 35] = ((values[valueOffset + 50] & 0xFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 51] & 0xFFFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 52] & 0xFFFFFFFFFFFL) << 48);
+        words[wordOffset + 36] = ((values[valueOffset + 52] & 0xFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 53] & 0xFFFFFFFFFFFL) << 28);
+        words[wordOffset + 37] = ((values[valueOffset + 53] & 0xFFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 54] & 0xFFFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 55] & 0xFFFFFFFFFFFL) << 52);
+        words[wordOffset + 38] = ((values[valueOffset + 55] & 0xFFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 56] & 0xFFFFFFFFFFFL) << 32);
+        words[wordOffset + 39] = ((values[valueOffset + 56] & 0xFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 57] & 0xFFFFFFFFFFFL) << 12)
+                | ((values[valueOffset + 58] & 0xFFFFFFFFFFFL) << 56);
+        words[wordOffset + 40] = ((values[valueOffset + 58] & 0xFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 59] & 0xFFFFFFFFFFFL) << 36);
+        words[wordOffset + 41] = ((values[valueOffset + 59] & 0xFFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 60] & 0xFFFFFFFFFFFL) << 16)
+                | ((values[valueOffset + 61] & 0xFFFFFFFFFFFL) << 60);
+        words[wordOffset + 42] = ((values[valueOffset + 61] & 0xFFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 62] & 0xFFFFFFFFFFFL) << 40);
+        words[wordOffset + 43] = ((values[valueOffset + 62] & 0xFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 63] & 0xFFFFFFFFFFFL) << 20);
+    }
+
+    private static void pack45(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x1FFFFFFFFFFFL)
+                | ((values[valueOffset + 1] & 0x1FFFFFFFFFFFL) << 45);
+        words[wordOffset + 1] = ((values[valueOffset + 1] & 0x1FFFFFFFFFFFL) >>> 19)
+                | ((values[valueOffset + 2] & 0x1FFFFFFFFFFFL) << 26);
+        words[wordOffset + 2] = ((values[valueOffset + 2] & 0x1FFFFFFFFFFFL) >>> 38)
+                | ((values[valueOffset + 3] & 0x1FFFFFFFFFFFL) << 7)
+                | ((values[valueOffset + 4] & 0x1FFFFFFFFFFFL) << 52);
+        words[wordOffset + 3] = ((values[valueOffset + 4] & 0x1FFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 5] & 0x1FFFFFFFFFFFL) << 33);
+        words[wordOffset + 4] = ((values[valueOffset + 5] & 0x1FFFFFFFFFFFL) >>> 31)
+                | ((values[valueOffset + 6] & 0x1FFFFFFFFFFFL) << 14)
+                | ((values[valueOffset + 7] & 0x1FFFFFFFFFFFL) << 59);
+        words[wordOffset + 5] = ((values[valueOffset + 7] & 0x1FFFFFFFFFFFL) >>> 5)
+                | ((values[valueOffset + 8] & 0x1FFFFFFFFFFFL) << 40);
+        words[wordOffset + 6] = ((values[valueOffset + 8] & 0x1FFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 9] & 0x1FFFFFFFFFFFL) << 21);
+        words[wordOffset + 7] = ((values[valueOffset + 9] & 0x1FFFFFFFFFFFL) >>> 43)
+                | ((values[valueOffset + 10] & 0x1FFFFFFFFFFFL) << 2)
+                | ((values[valueOffset + 11] & 0x1FFFFFFFFFFFL) << 47);
+        words[wordOffset + 8] = ((values[valueOffset + 11] & 0x1FFFFFFFFFFFL) >>> 17)
+                | ((values[valueOffset + 12] & 0x1FFFFFFFFFFFL) << 28);
+        words[wordOffset + 9] = ((values[valueOffset + 12] & 0x1FFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 13] & 0x1FFFFFFFFFFFL) << 9)
+                | ((values[valueOffset + 14] & 0x1FFFFFFFFFFFL) << 54);
+        words[wordOffset + 10] = ((values[valueOffset + 14] & 0x1FFFFFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 15] & 0x1FFFFFFFFFFFL) << 35);
+        words[wordOffset + 11] = ((values[valueOffset + 15] & 0x1FFFFFFFFFFFL) >>> 29)
+                | ((values[valueOffset + 16] & 0x1FFFFFFFFFFFL) << 16)
+                | ((values[valueOffset + 17] & 0x1FFFFFFFFFFFL) << 61);
+        words[wordOffset + 12] = ((values[valueOffset + 17] & 0x1FFFFFFFFFFFL) >>> 3)
+                | ((values[valueOffset + 18] & 0x1FFFFFFFFFFFL) << 42);
+        words[wordOffset + 13] = ((values[valueOffset + 18] & 0x1FFFFFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 19] & 0x1FFFFFFFFFFFL) << 23);
+        words[wordOffset + 14] = ((values[valueOffset + 19] & 0x1FFFFFFFFFFFL) >>> 41)
+                | ((values[valueOffset + 20] & 0x1FFFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 21] & 0x1FFFFFFFFFFFL) << 49);
+        words[wordOffset + 15] = ((values[valueOffset + 21] & 0x1FFFFFFFFFFFL) >>> 15)
+                | ((values[valueOffset + 22] & 0x1FFFFFFFFFFFL) << 30);
+        words[wordOffset + 16] = ((values[valueOffset + 22] & 0x1FFFFFFFFFFFL) >>> 34)
+                | ((values[valueOffset + 23] & 0x1FFFFFFFFFFFL) << 11)
+                | ((values[valueOffset + 24] & 0x1FFFFFFFFFFFL) << 56);
+        words[wordOffset + 17] = ((values[valueOffset + 24] & 0x1FFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 25] & 0x1FFFFFFFFFFFL) << 37);
+        words[wordOffset + 18] = ((values[valueOffset + 25] & 0x1FFFFFFFFFFFL) >>> 27)
+                | ((values[valueOffset + 26] & 0x1FFFFFFFFFFFL) << 18)
+                | ((values[valueOffset + 27] & 0x1FFFFFFFFFFFL) << 63);
+        words[wordOffset + 19] = ((values[valueOffset + 27] & 0x1FFFFFFFFFFFL) >>> 1)
+                | ((values[valueOffset + 28] & 0x1FFFFFFFFFFFL) << 44);
+        words[wordOffset + 20] = ((values[valueOffset + 28] & 0x1FFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 29] & 0x1FFFFFFFFFFFL) << 25);
+        words[wordOffset + 21] = ((values[valueOffset + 29] & 0x1FFFFFFFFFFFL) >>> 39)
+                | ((values[valueOffset + 30] & 0x1FFFFFFFFFFFL) << 6)
+                | ((values[valueOffset + 31] & 0x1FFFFFFFFFFFL) << 51);
+        words[wordOffset + 22] = ((values[valueOffset + 31] & 0x1FFFFFFFFFFFL) >>> 13)
+                | ((values[valueOffset + 32] & 0x1FFFFFFFFFFFL) << 32);
+        words[wordOffset + 23] = ((values[valueOffset + 32] & 0x1FFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 33] & 0x1FFFFFFFFFFFL) << 13)
+                | ((values[valueOffset + 34] & 0x1FFFFFFFFFFFL) << 58);
+        words[wordOffset + 24] = ((values[valueOffset + 34] & 0x1FFFFFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 35] & 0x1FFFFFFFFFFFL) << 39);
+        words[wordOffset + 25] = ((values[valueOffset + 35] & 0x1FFFFFFFFFFFL) >>> 25)
+                | ((values[valueOffset + 36] & 0x1FFFFFFFFFFFL) << 20);
+        words[wordOffset + 26] = ((values[valueOffset + 36] & 0x1FFFFFFFFFFFL) >>> 44)
+                | ((values[valueOffset + 37] & 0x1FFFFFFFFFFFL) << 1)
+                | ((values[valueOffset + 38] & 0x1FFFFFFFFFFFL) << 46);
+        words[wordOffset + 27] = ((values[valueOffset + 38] & 0x1FFFFFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 39] & 0x1FFFFFFFFFFFL) << 27);
+        words[wordOffset + 28] = ((values[valueOffset + 39] & 0x1FFFFFFFFFFFL) >>> 37)
+                | ((values[valueOffset + 40] & 0x1FFFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 41] & 0x1FFFFFFFFFFFL) << 53);
+        words[wordOffset + 29] = ((values[valueOffset + 41] & 0x1FFFFFFFFFFFL) >>> 11)
+                | ((values[valueOffset + 42] & 0x1FFFFFFFFFFFL) << 34);
+        words[wordOffset + 30] = ((values[valueOffset + 42] & 0x1FFFFFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 43] & 0x1FFFFFFFFFFFL) << 15)
+                | ((values[valueOffset + 44] & 0x1FFFFFFFFFFFL) << 60);
+        words[wordOffset + 31] = ((values[valueOffset + 44] & 0x1FFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 45] & 0x1FFFFFFFFFFFL) << 41);
+        words[wordOffset + 32] = ((values[valueOffset + 45] & 0x1FFFFFFFFFFFL) >>> 23)
+                | ((values[valueOffset + 46] & 0x1FFFFFFFFFFFL) << 22);
+        words[wordOffset + 33] = ((values[valueOffset + 46] & 0x1FFFFFFFFFFFL) >>> 42)
+                | ((values[valueOffset + 47] & 0x1FFFFFFFFFFFL) << 3)
+                | ((values[valueOffset + 48] & 0x1FFFFFFFFFFFL) << 48);
+        words[wordOffset + 34] = ((values[valueOffset + 48] & 0x1FFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 49] & 0x1FFFFFFFFFFFL) << 29);
+        words[wordOffset + 35] = ((values[valueOffset + 49] & 0x1FFFFFFFFFFFL) >>> 35)
+                | ((values[valueOffset + 50] & 0x1FFFFFFFFFFFL) << 10)
+                | ((values[valueOffset + 51] & 0x1FFFFFFFFFFFL) << 55);
+        words[wordOffset + 36] = ((values[valueOffset + 51] & 0x1FFFFFFFFFFFL) >>> 9)
+                | ((values[valueOffset + 52] & 0x1FFFFFFFFFFFL) << 36);
+        words[wordOffset + 37] = ((values[valueOffset + 52] & 0x1FFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 53] & 0x1FFFFFFFFFFFL) << 17)
+                | ((values[valueOffset + 54] & 0x1FFFFFFFFFFFL) << 62);
+        words[wordOffset + 38] = ((values[valueOffset + 54] & 0x1FFFFFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 55] & 0x1FFFFFFFFFFFL) << 43);
+        words[wordOffset + 39] = ((values[valueOffset + 55] & 0x1FFFFFFFFFFFL) >>> 21)
+                | ((values[valueOffset + 56] & 0x1FFFFFFFFFFFL) << 24);
+        words[wordOffset + 40] = ((values[valueOffset + 56] & 0x1FFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 57] & 0x1FFFFFFFFFFFL) << 5)
+                | ((values[valueOffset + 58] & 0x1FFFFFFFFFFFL) << 50);
+        words[wordOffset + 41] = ((values[valueOffset + 58] & 0x1FFFFFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 59] & 0x1FFFFFFFFFFFL) << 31);
+        words[wordOffset + 42] = ((values[valueOffset + 59] & 0x1FFFFFFFFFFFL) >>> 33)
+                | ((values[valueOffset + 60] & 0x1FFFFFFFFFFFL) << 12)
+                | ((values[valueOffset + 61] & 0x1FFFFFFFFFFFL) << 57);
+        words[wordOffset + 43] = ((values[valueOffset + 61] & 0x1FFFFFFFFFFFL) >>> 7)
+                | ((values[valueOffset + 62] & 0x1FFFFFFFFFFFL) << 38);
+        words[wordOffset + 44] = ((values[valueOffset + 62] & 0x1FFFFFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 63] & 0x1FFFFFFFFFFFL) << 19);
+    }
+
+    private static void pack46(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x3FFFFFFFFFFFL)
+                | ((values[valueOffset + 1] & 0x3FFFFFFFFFFFL) << 46);
+        words[wordOffset + 1] = ((values[valueOffset + 1] & 0x3FFFFFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 2] & 0x3FFFFFFFFFFFL) << 28);
+        words[wordOffset + 2] = ((values[valueOffset + 2] & 0x3FFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 3] & 0x3FFFFFFFFFFFL) << 10)
+                | ((values[valueOffset + 4] & 0x3FFFFFFFFFFFL) << 56);
+        words[wordOffset + 3] = ((values[valueOffset + 4] & 0x3FFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 5] & 0x3FFFFFFFFFFFL) << 38);
+        words[wordOffset + 4] = ((values[valueOffset + 5] & 0x3FFFFFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 6] & 0x3FFFFFFFFFFFL) << 20);
+        words[wordOffset + 5] = ((values[valueOffset + 6] & 0x3FFFFFFFFFFFL) >>> 44)
+                | ((values[valueOffset + 7] & 0x3FFFFFFFFFFFL) << 2)
+                | ((values[valueOffset + 8] & 0x3FFFFFFFFFFFL) << 48);
+        words[wordOffset + 6] = ((values[valueOffset + 8] & 0x3FFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 9] & 0x3FFFFFFFFFFFL) << 30);
+        words[wordOffset + 7] = ((values[valueOffset + 9] & 0x3FFFFFFFFFFFL) >>> 34)
+                | ((values[valueOffset + 10] & 0x3FFFFFFFFFFFL) << 12)
+                | ((values[valueOffset + 11] & 0x3FFFFFFFFFFFL) << 58);
+        words[wordOffset + 8] = ((values[valueOffset + 11] & 0x3FFFFFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 12] & 0x3FFFFFFFFFFFL) << 40);
+        words[wordOffset + 9] = ((values[valueOffset + 12] & 0x3FFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 13] & 0x3FFFFFFFFFFFL) << 22);
+        words[wordOffset + 10] = ((values[valueOffset + 13] & 0x3FFFFFFFFFFFL) >>> 42)
+                | ((values[valueOffset + 14] & 0x3FFFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 15] & 0x3FFFFFFFFFFFL) << 50);
+        words[wordOffset + 11] = ((values[valueOffset + 15] & 0x3FFFFFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 16] & 0x3FFFFFFFFFFFL) << 32);
+        words[wordOffset + 12] = ((values[valueOffset + 16] & 0x3FFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 17] & 0x3FFFFFFFFFFFL) << 14)
+                | ((values[valueOffset + 18] & 0x3FFFFFFFFFFFL) << 60);
+        words[wordOffset + 13] = ((values[valueOffset + 18] & 0x3FFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 19] & 0x3FFFFFFFFFFFL) << 42);
+        words[wordOffset + 14] = ((values[valueOffset + 19] & 0x3FFFFFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 20] & 0x3FFFFFFFFFFFL) << 24);
+        words[wordOffset + 15] = ((values[valueOffset + 20] & 0x3FFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 21] & 0x3FFFFFFFFFFFL) << 6)
+                | ((values[valueOffset + 22] & 0x3FFFFFFFFFFFL) << 52);
+        words[wordOffset + 16] = ((values[valueOffset + 22] & 0x3FFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 23] & 0x3FFFFFFFFFFFL) << 34);
+        words[wordOffset + 17] = ((values[valueOffset + 23] & 0x3FFFFFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 24] & 0x3FFFFFFFFFFFL) << 16)
+                | ((values[valueOffset + 25] & 0x3FFFFFFFFFFFL) << 62);
+        words[wordOffset + 18] = ((values[valueOffset + 25] & 0x3FFFFFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 26] & 0x3FFFFFFFFFFFL) << 44);
+        words[wordOffset + 19] = ((values[valueOffset + 26] & 0x3FFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 27] & 0x3FFFFFFFFFFFL) << 26);
+        words[wordOffset + 20] = ((values[valueOffset + 27] & 0x3FFFFFFFFFFFL) >>> 38)
+                | ((values[valueOffset + 28] & 0x3FFFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 29] & 0x3FFFFFFFFFFFL) << 54);
+        words[wordOffset + 21] = ((values[valueOffset + 29] & 0x3FFFFFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 30] & 0x3FFFFFFFFFFFL) << 36);
+        words[wordOffset + 22] = ((values[valueOffset + 30] & 0x3FFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 31] & 0x3FFFFFFFFFFFL) << 18);
+        words[wordOffset + 23] = (values[valueOffset + 32] & 0x3FFFFFFFFFFFL)
+                | ((values[valueOffset + 33] & 0x3FFFFFFFFFFFL) << 46);
+        words[wordOffset + 24] = ((values[valueOffset + 33] & 0x3FFFFFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 34] & 0x3FFFFFFFFFFFL) << 28);
+        words[wordOffset + 25] = ((values[valueOffset + 34] & 0x3FFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 35] & 0x3FFFFFFFFFFFL) << 10)
+                | ((values[valueOffset + 36] & 0x3FFFFFFFFFFFL) << 56);
+        words[wordOffset + 26] = ((values[valueOffset + 36] & 0x3FFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 37] & 0x3FFFFFFFFFFFL) << 38);
+        words[wordOffset + 27] = ((values[valueOffset + 37] & 0x3FFFFFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 38] & 0x3FFFFFFFFFFFL) << 20);
+        words[wordOffset + 28] = ((values[valueOffset + 38] & 0x3FFFFFFFFFFFL) >>> 44)
+                | ((values[valueOffset + 39] & 0x3FFFFFFFFFFFL) << 2)
+                | ((values[valueOffset + 40] & 0x3FFFFFFFFFFFL) << 48);
+        words[wordOffset + 29] = ((values[valueOffset + 40] & 0x3FFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 41] & 0x3FFFFFFFFFFFL) << 30);
+        words[wordOffset + 30] = ((values[valueOffset + 41] & 0x3FFFFFFFFFFFL) >>> 34)
+                | ((values[valueOffset + 42] & 0x3FFFFFFFFFFFL) << 12)
+                | ((values[valueOffset + 43] & 0x3FFFFFFFFFFFL) << 58);
+        words[wordOffset + 31] = ((values[valueOffset + 43] & 0x3FFFFFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 44] & 0x3FFFFFFFFFFFL) << 40);
+        words[wordOffset + 32] = ((values[valueOffset + 44] & 0x3FFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 45] & 0x3FFFFFFFFFFFL) << 22);
+        words[wordOffset + 33] = ((values[valueOffset + 45] & 0x3FFFFFFFFFFFL) >>> 42)
+                | ((values[valueOffset + 46] & 0x3FFFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 47] & 0x3FFFFFFFFFFFL) << 50);
+        words[wordOffset + 34] = ((values[valueOffset + 47] & 0x3FFFFFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 48] & 0x3FFFFFFFFFFFL) << 32);
+        words[wordOffset + 35] = ((values[valueOffset + 48] & 0x3FFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 49] & 0x3FFFFFFFFFFFL) << 14)
+                | ((values[valueOffset + 50] & 0x3FFFFFFFFFFFL) << 60);
+        words[wordOffset + 36] = ((values[valueOffset + 50] & 0x3FFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 51] & 0x3FFFFFFFFFFFL) << 42);
+        words[wordOffset + 37] = ((values[valueOffset + 51] & 0x3FFFFFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 52] & 0x3FFFFFFFFFFFL) << 24);
+        words[wordOffset + 38] = ((values[valueOffset + 52] & 0x3FFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 53] & 0x3FFFFFFFFFFFL) << 6)
+                | ((values[valueOffset + 54] & 0x3FFFFFFFFFFFL) << 52);
+        words[wordOffset + 39] = ((values[valueOffset + 54] & 0x3FFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 55] & 0x3FFFFFFFFFFFL) << 34);
+        words[wordOffset + 40] = ((values[valueOffset + 55] & 0x3FFFFFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 56] & 0x3FFFFFFFFFFFL) << 16)
+                | ((values[valueOffset + 57] & 0x3FFFFFFFFFFFL) << 62);
+        words[wordOffset + 41] = ((values[valueOffset + 57] & 0x3FFFFFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 58] & 0x3FFFFFFFFFFFL) << 44);
+        words[wordOffset + 42] = ((values[valueOffset + 58] & 0x3FFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 59] & 0x3FFFFFFFFFFFL) << 26);
+        words[wordOffset + 43] = ((values[valueOffset + 59] & 0x3FFFFFFFFFFFL) >>> 38)
+                | ((values[valueOffset + 60] & 0x3FFFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 61] & 0x3FFFFFFFFFFFL) << 54);
+        words[wordOffset + 44] = ((values[valueOffset + 61] & 0x3FFFFFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 62] & 0x3FFFFFFFFFFFL) << 36);
+        words[wordOffset + 45] = ((values[valueOffset + 62] & 0x3FFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 63] & 0x3FFFFFFFFFFFL) << 18);
+    }
+
+    private static void pack47(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x7FFFFFFFFFFFL)
+                | ((values[valueOffset + 1] & 0x7FFFFFFFFFFFL) << 47);
+        words[wordOffset + 1] = ((values[valueOffset + 1] & 0x7FFFFFFFFFFFL) >>> 17)
+                | ((values[valueOffset + 2] & 0x7FFFFFFFFFFFL) << 30);
+        words[wordOffset + 2] = ((values[valueOffset + 2] & 0x7FFFFFFFFFFFL) >>> 34)
+                | ((values[valueOffset + 3] & 0x7FFFFFFFFFFFL) << 13)
+                | ((values[valueOffset + 4] & 0x7FFFFFFFFFFFL) << 60);
+        words[wordOffset + 3] = ((values[valueOffset + 4] & 0x7FFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 5] & 0x7FFFFFFFFFFFL) << 43);
+        words[wordOffset + 4] = ((values[valueOffset + 5] & 0x7FFFFFFFFFFFL) >>> 21)
+                | ((values[valueOffset + 6] & 0x7FFFFFFFFFFFL) << 26);
+        words[wordOffset + 5] = ((values[valueOffset + 6] & 0x7FFFFFFFFFFFL) >>> 38)
+                | ((values[valueOffset + 7] & 0x7FFFFFFFFFFFL) << 9)
+                | ((values[valueOffset + 8] & 0x7FFFFFFFFFFFL) << 56);
+        words[wordOffset + 6] = ((values[valueOffset + 8] & 0x7FFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 9] & 0x7FFFFFFFFFFFL) << 39);
+        words[wordOffset + 7] = ((values[valueOffset + 9] & 0x7FFFFFFFFFFFL) >>> 25)
+                | ((values[valueOffset + 10] & 0x7FFFFFFFFFFFL) << 22);
+        words[wordOffset + 8] = ((values[valueOffset + 10] & 0x7FFFFFFFFFFFL) >>> 42)
+                | ((values[valueOffset + 11] & 0x7FFFFFFFFFFFL) << 5)
+                | ((values[valueOffset + 12] & 0x7FFFFFFFFFFFL) << 52);
+        words[wordOffset + 9] = ((values[valueOffset + 12] & 0x7FFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 13] & 0x7FFFFFFFFFFFL) << 35);
+        words[wordOffset + 10] = ((values[valueOffset + 13] & 0x7FFFFFFFFFFFL) >>> 29)
+                | ((values[valueOffset + 14] & 0x7FFFFFFFFFFFL) << 18);
+        words[wordOffset + 11] = ((values[valueOffset + 14] & 0x7FFFFFFFFFFFL) >>> 46)
+                | ((values[valueOffset + 15] & 0x7FFFFFFFFFFFL) << 1)
+                | ((values[valueOffset + 16] & 0x7FFFFFFFFFFFL) << 48);
+        words[wordOffset + 12] = ((values[valueOffset + 16] & 0x7FFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 17] & 0x7FFFFFFFFFFFL) << 31);
+        words[wordOffset + 13] = ((values[valueOffset + 17] & 0x7FFFFFFFFFFFL) >>> 33)
+                | ((values[valueOffset + 18] & 0x7FFFFFFFFFFFL) << 14)
+                | ((values[valueOffset + 19] & 0x7FFFFFFFFFFFL) << 61);
+        words[wordOffset + 14] = ((values[valueOffset + 19] & 0x7FFFFFFFFFFFL) >>> 3)
+                | ((values[valueOffset + 20] & 0x7FFFFFFFFFFFL) << 44);
+        words[wordOffset + 15] = ((values[valueOffset + 20] & 0x7FFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 21] & 0x7FFFFFFFFFFFL) << 27);
+        words[wordOffset + 16] = ((values[valueOffset + 21] & 0x7FFFFFFFFFFFL) >>> 37)
+                | ((values[valueOffset + 22] & 0x7FFFFFFFFFFFL) << 10)
+                | ((values[valueOffset + 23] & 0x7FFFFFFFFFFFL) << 57);
+        words[wordOffset + 17] = ((values[valueOffset + 23] & 0x7FFFFFFFFFFFL) >>> 7)
+                | ((values[valueOffset + 24] & 0x7FFFFFFFFFFFL) << 40);
+        words[wordOffset + 18] = ((values[valueOffset + 24] & 0x7FFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 25] & 0x7FFFFFFFFFFFL) << 23);
+        words[wordOffset + 19] = ((values[valueOffset + 25] & 0x7FFFFFFFFFFFL) >>> 41)
+                | ((values[valueOffset + 26] & 0x7FFFFFFFFFFFL) << 6)
+                | ((values[valueOffset + 27] & 0x7FFFFFFFFFFFL) << 53);
+        words[wordOffset + 20] = ((values[valueOffset + 27] & 0x7FFFFFFFFFFFL) >>> 11)
+                | ((values[valueOffset + 28] & 0x7FFFFFFFFFFFL) << 36);
+        words[wordOffset + 21] = ((values[valueOffset + 28] & 0x7FFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 29] & 0x7FFFFFFFFFFFL) << 19);
+        words[wordOffset + 22] = ((values[valueOffset + 29] & 0x7FFFFFFFFFFFL) >>> 45)
+                | ((values[valueOffset + 30] & 0x7FFFFFFFFFFFL) << 2)
+                | ((values[valueOffset + 31] & 0x7FFFFFFFFFFFL) << 49);
+        words[wordOffset + 23] = ((values[valueOffset + 31] & 0x7FFFFFFFFFFFL) >>> 15)
+                | ((values[valueOffset + 32] & 0x7FFFFFFFFFFFL) << 32);
+        words[wordOffset + 24] = ((values[valueOffset + 32] & 0x7FFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 33] & 0x7FFFFFFFFFFFL) << 15)
+                | ((values[valueOffset + 34] & 0x7FFFFFFFFFFFL) << 62);
+        words[wordOffset + 25] = ((values[valueOffset + 34] & 0x7FFFFFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 35] & 0x7FFFFFFFFFFFL) << 45);
+        words[wordOffset + 26] = ((values[valueOffset + 35] & 0x7FFFFFFFFFFFL) >>> 19)
+                | ((values[valueOffset + 36] & 0x7FFFFFFFFFFFL) << 28);
+        words[wordOffset + 27] = ((values[valueOffset + 36] & 0x7FFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 37] & 0x7FFFFFFFFFFFL) << 11)
+                | ((values[valueOffset + 38] & 0x7FFFFFFFFFFFL) << 58);
+        words[wordOffset + 28] = ((values[valueOffset + 38] & 0x7FFFFFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 39] & 0x7FFFFFFFFFFFL) << 41);
+        words[wordOffset + 29] = ((values[valueOffset + 39] & 0x7FFFFFFFFFFFL) >>> 23)
+                | ((values[valueOffset + 40] & 0x7FFFFFFFFFFFL) << 24);
+        words[wordOffset + 30] = ((values[valueOffset + 40] & 0x7FFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 41] & 0x7FFFFFFFFFFFL) << 7)
+                | ((values[valueOffset + 42] & 0x7FFFFFFFFFFFL) << 54);
+        words[wordOffset + 31] = ((values[valueOffset + 42] & 0x7FFFFFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 43] & 0x7FFFFFFFFFFFL) << 37);
+        words[wordOffset + 32] = ((values[valueOffset + 43] & 0x7FFFFFFFFFFFL) >>> 27)
+                | ((values[valueOffset + 44] & 0x7FFFFFFFFFFFL) << 20);
+        words[wordOffset + 33] = ((values[valueOffset + 44] & 0x7FFFFFFFFFFFL) >>> 44)
+                | ((values[valueOffset + 45] & 0x7FFFFFFFFFFFL) << 3)
+                | ((values[valueOffset + 46] & 0x7FFFFFFFFFFFL) << 50);
+        words[wordOffset + 34] = ((values[valueOffset + 46] & 0x7FFFFFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 47] & 0x7FFFFFFFFFFFL) << 33);
+        words[wordOffset + 35] = ((values[valueOffset + 47] & 0x7FFFFFFFFFFFL) >>> 31)
+                | ((values[valueOffset + 48] & 0x7FFFFFFFFFFFL) << 16)
+                | ((values[valueOffset + 49] & 0x7FFFFFFFFFFFL) << 63);
+        words[wordOffset + 36] = ((values[valueOffset + 49] & 0x7FFFFFFFFFFFL) >>> 1)
+                | ((values[valueOffset + 50] & 0x7FFFFFFFFFFFL) << 46);
+        words[wordOffset + 37] = ((values[valueOffset + 50] & 0x7FFFFFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 51] & 0x7FFFFFFFFFFFL) << 29);
+        words[wordOffset + 38] = ((values[valueOffset + 51] & 0x7FFFFFFFFFFFL) >>> 35)
+                | ((values[valueOffset + 52] & 0x7FFFFFFFFFFFL) << 12)
+                | ((values[valueOffset + 53] & 0x7FFFFFFFFFFFL) << 59);
+        words[wordOffset + 39] = ((values[valueOffset + 53] & 0x7FFFFFFFFFFFL) >>> 5)
+                | ((values[valueOffset + 54] & 0x7FFFFFFFFFFFL) << 42);
+        words[wordOffset + 40] = ((values[valueOffset + 54] & 0x7FFFFFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 55] & 0x7FFFFFFFFFFFL) << 25);
+        words[wordOffset + 41] = ((values[valueOffset + 55] & 0x7FFFFFFFFFFFL) >>> 39)
+                | ((values[valueOffset + 56] & 0x7FFFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 57] & 0x7FFFFFFFFFFFL) << 55);
+        words[wordOffset + 42] = ((values[valueOffset + 57] & 0x7FFFFFFFFFFFL) >>> 9)
+                | ((values[valueOffset + 58] & 0x7FFFFFFFFFFFL) << 38);
+        words[wordOffset + 43] = ((values[valueOffset + 58] & 0x7FFFFFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 59] & 0x7FFFFFFFFFFFL) << 21);
+        words[wordOffset + 44] = ((values[valueOffset + 59] & 0x7FFFFFFFFFFFL) >>> 43)
+                | ((values[valueOffset + 60] & 0x7FFFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 61] & 0x7FFFFFFFFFFFL) << 51);
+        words[wordOffset + 45] = ((values[valueOffset + 61] & 0x7FFFFFFFFFFFL) >>> 13)
+                | ((values[valueOffset + 62] & 0x7FFFFFFFFFFFL) << 34);
+        words[wordOffset + 46] = ((values[valueOffset + 62] & 0x7FFFFFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 63] & 0x7FFFFFFFFFFFL) << 17);
+    }
+
+    private static void pack48(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0xFFFFFFFFFFFFL)
+                | ((values[valueOffset + 1] & 0xFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 1] = ((values[valueOffset + 1] & 0xFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 2] & 0xFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 2] = ((values[valueOffset + 2] & 0xFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 3] & 0xFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 3] = (values[valueOffset + 4] & 0xFFFFFFFFFFFFL)
+                | ((values[valueOffset + 5] & 0xFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 4] = ((values[valueOffset + 5] & 0xFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 6] & 0xFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 5] = ((values[valueOffset + 6] & 0xFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 7] & 0xFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 6] = (values[valueOffset + 8] & 0xFFFFFFFFFFFFL)
+                | ((values[valueOffset + 9] & 0xFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 7] = ((values[valueOffset + 9] & 0xFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 10] & 0xFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 8] = ((values[valueOffset + 10] & 0xFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 11] & 0xFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 9] = (values[valueOffset + 12] & 0xFFFFFFFFFFFFL)
+                | ((values[valueOffset + 13] & 0xFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 10] = ((values[valueOffset + 13] & 0xFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 14] & 0xFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 11] = ((values[valueOffset + 14] & 0xFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 15] & 0xFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 12] = (values[valueOffset + 16] & 0xFFFFFFFFFFFFL)
+                | ((values[valueOffset + 17] & 0xFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 13] = ((values[valueOffset + 17] & 0xFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 18] & 0xFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 14] = ((values[valueOffset + 18] & 0xFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 19] & 0xFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 15] = (values[valueOffset + 20] & 0xFFFFFFFFFFFFL)
+                | ((values[valueOffset + 21] & 0xFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 16] = ((values[valueOffset + 21] & 0xFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 22] & 0xFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 17] = ((values[valueOffset + 22] & 0xFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 23] & 0xFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 18] = (values[valueOffset + 24] & 0xFFFFFFFFFFFFL)
+                | ((values[valueOffset + 25] & 0xFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 19] = ((values[valueOffset + 25] & 0xFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 26] & 0xFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 20] = ((values[valueOffset + 26] & 0xFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 27] & 0xFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 21] = (values[valueOffset + 28] & 0xFFFFFFFFFFFFL)
+                | ((values[valueOffset + 29] & 0xFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 22] = ((values[valueOffset + 29] & 0xFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 30] & 0xFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 23] = ((values[valueOffset + 30] & 0xFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 31] & 0xFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 24] = (values[valueOffset + 32] & 0xFFFFFFFFFFFFL)
+                | ((values[valueOffset + 33] & 0xFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 25] = ((values[valueOffset + 33] & 0xFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 34] & 0xFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 26] = ((values[valueOffset + 34] & 0xFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 35] & 0xFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 27] = (values[valueOffset + 36] & 0xFFFFFFFFFFFFL)
+                | ((values[valueOffset + 37] & 0xFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 28] = ((values[valueOffset + 37] & 0xFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 38] & 0xFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 29] = ((values[valueOffset + 38] & 0xFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 39] & 0xFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 30] = (values[valueOffset + 40] & 0xFFFFFFFFFFFFL)
+                | ((values[valueOffset + 41] & 0xFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 31] = ((values[valueOffset + 41] & 0xFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 42] & 0xFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 32] = ((values[valueOffset + 42] & 0xFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 43] & 0xFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 33] = (values[valueOffset + 44] & 0xFFFFFFFFFFFFL)
+                | ((values[valueOffset + 45] & 0xFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 34] = ((values[valueOffset + 45] & 0xFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 46] & 0xFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 35] = ((values[valueOffset + 46] & 0xFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 47] & 0xFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 36] = (values[valueOffset + 48] & 0xFFFFFFFFFFFFL)
+                | ((values[valueOffset + 49] & 0xFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 37] = ((values[valueOffset + 49] & 0xFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 50] & 0xFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 38] = ((values[valueOffset + 50] & 0xFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 51] & 0xFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 39] = (values[valueOffset + 52] & 0xFFFFFFFFFFFFL)
+                | ((values[valueOffset + 53] & 0xFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 40] = ((values[valueOffset + 53] & 0xFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 54] & 0xFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 41] = ((values[valueOffset + 54] & 0xFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 55] & 0xFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 42] = (values[valueOffset + 56] & 0xFFFFFFFFFFFFL)
+                | ((values[valueOffset + 57] & 0xFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 43] = ((values[valueOffset + 57] & 0xFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 58] & 0xFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 44] = ((values[valueOffset + 58] & 0xFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 59] & 0xFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 45] = (values[valueOffset + 60] & 0xFFFFFFFFFFFFL)
+                | ((values[valueOffset + 61] & 0xFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 46] = ((values[valueOffset + 61] & 0xFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 62] & 0xFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 47] = ((values[valueOffset + 62] & 0xFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 63] & 0xFFFFFFFFFFFFL) << 16);
+    }
+
+    private static void pack49(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x1FFFFFFFFFFFFL)
+                | ((values[valueOffset + 1] & 0x1FFFFFFFFFFFFL) << 49);
+        words[wordOffset + 1] = ((values[valueOffset + 1] & 0x1FFFFFFFFFFFFL) >>> 15)
+                | ((values[valueOffset + 2] & 0x1FFFFFFFFFFFFL) << 34);
+        words[wordOffset + 2] = ((values[valueOffset + 2] & 0x1FFFFFFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 3] & 0x1FFFFFFFFFFFFL) << 19);
+        words[wordOffset + 3] = ((values[valueOffset + 3] & 0x1FFFFFFFFFFFFL) >>> 45)
+                | ((values[valueOffset + 4] & 0x1FFFFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 5] & 0x1FFFFFFFFFFFFL) << 53);
+        words[wordOffset + 4] = ((values[valueOffset + 5] & 0x1FFFFFFFFFFFFL) >>> 11)
+                | ((values[valueOffset + 6] & 0x1FFFFFFFFFFFFL) << 38);
+        words[wordOffset + 5] = ((values[valueOffset + 6] & 0x1FFFFFFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 7] & 0x1FFFFFFFFFFFFL) << 23);
+        words[wordOffset + 6] = ((values[valueOffset + 7] & 0x1FFFFFFFFFFFFL) >>> 41)
+                | ((values[valueOffset + 8] & 0x1FFFFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 9] & 0x1FFFFFFFFFFFFL) << 57);
+        words[wordOffset + 7] = ((values[valueOffset + 9] & 0x1FFFFFFFFFFFFL) >>> 7)
+                | ((values[valueOffset + 10] & 0x1FFFFFFFFFFFFL) << 42);
+        words[wordOffset + 8] = ((values[valueOffset + 10] & 0x1FFFFFFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 11] & 0x1FFFFFFFFFFFFL) << 27);
+        words[wordOffset + 9] = ((values[valueOffset + 11] & 0x1FFFFFFFFFFFFL) >>> 37)
+                | ((values[valueOffset + 12] & 0x1FFFFFFFFFFFFL) << 12)
+                | ((values[valueOffset + 13] & 0x1FFFFFFFFFFFFL) << 61);
+        words[wordOffset + 10] = ((values[valueOffset + 13] & 0x1FFFFFFFFFFFFL) >>> 3)
+                | ((values[valueOffset + 14] & 0x1FFFFFFFFFFFFL) << 46);
+        words[wordOffset + 11] = ((values[valueOffset + 14] & 0x1FFFFFFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 15] & 0x1FFFFFFFFFFFFL) << 31);
+        words[wordOffset + 12] = ((values[valueOffset + 15] & 0x1FFFFFFFFFFFFL) >>> 33)
+                | ((values[valueOffset + 16] & 0x1FFFFFFFFFFFFL) << 16);
+        words[wordOffset + 13] = ((values[valueOffset + 16] & 0x1FFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 17] & 0x1FFFFFFFFFFFFL) << 1)
+                | ((values[valueOffset + 18] & 0x1FFFFFFFFFFFFL) << 50);
+        words[wordOffset + 14] = ((values[valueOffset + 18] & 0x1FFFFFFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 19] & 0x1FFFFFFFFFFFFL) << 35);
+        words[wordOffset + 15] = ((values[valueOffset + 19] & 0x1FFFFFFFFFFFFL) >>> 29)
+                | ((values[valueOffset + 20] & 0x1FFFFFFFFFFFFL) << 20);
+        words[wordOffset + 16] = ((values[valueOffset + 20] & 0x1FFFFFFFFFFFFL) >>> 44)
+                | ((values[valueOffset + 21] & 0x1FFFFFFFFFFFFL) << 5)
+                | ((values[valueOffset + 22] & 0x1FFFFFFFFFFFFL) << 54);
+        words[wordOffset + 17] = ((values[valueOffset + 22] & 0x1FFFFFFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 23] & 0x1FFFFFFFFFFFFL) << 39);
+        words[wordOffset + 18] = ((values[valueOffset + 23] & 0x1FFFFFFFFFFFFL) >>> 25)
+                | ((values[valueOffset + 24] & 0x1FFFFFFFFFFFFL) << 24);
+        words[wordOffset + 19] = ((values[valueOffset + 24] & 0x1FFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 25] & 0x1FFFFFFFFFFFFL) << 9)
+                | ((values[valueOffset + 26] & 0x1FFFFFFFFFFFFL) << 58);
+        words[wordOffset + 20] = ((values[valueOffset + 26] & 0x1FFFFFFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 27] & 0x1FFFFFFFFFFFFL) << 43);
+        words[wordOffset + 21] = ((values[valueOffset + 27] & 0x1FFFFFFFFFFFFL) >>> 21)
+                | ((values[valueOffset + 28] & 0x1FFFFFFFFFFFFL) << 28);
+        words[wordOffset + 22] = ((values[valueOffset + 28] & 0x1FFFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 29] & 0x1FFFFFFFFFFFFL) << 13)
+                | ((values[valueOffset + 30] & 0x1FFFFFFFFFFFFL) << 62);
+        words[wordOffset + 23] = ((values[valueOffset + 30] & 0x1FFFFFFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 31] & 0x1FFFFFFFFFFFFL) << 47);
+        words[wordOffset + 24] = ((values[valueOffset + 31] & 0x1FFFFFFFFFFFFL) >>> 17)
+                | ((values[valueOffset + 32] & 0x1FFFFFFFFFFFFL) << 32);
+        words[wordOffset + 25] = ((values[valueOffset + 32] & 0x1FFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 33] & 0x1FFFFFFFFFFFFL) << 17);
+        words[wordOffset + 26] = ((values[valueOffset + 33] & 0x1FFFFFFFFFFFFL) >>> 47)
+                | ((values[valueOffset + 34] & 0x1FFFFFFFFFFFFL) << 2)
+                | ((values[valueOffset + 35] & 0x1FFFFFFFFFFFFL) << 51);
+        words[wordOffset + 27] = ((values[valueOffset + 35] & 0x1FFFFFFFFFFFFL) >>> 13)
+                | ((values[valueOffset + 36] & 0x1FFFFFFFFFFFFL) << 36);
+        words[wordOffset + 28] = ((values[valueOffset + 36] & 0x1FFFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 37] & 0x1FFFFFFFFFFFFL) << 21);
+        words[wordOffset + 29] = ((values[valueOffset + 37] & 0x1FFFFFFFFFFFFL) >>> 43)
+                | ((values[valueOffset + 38] & 0x1FFFFFFFFFFFFL) << 6)
+                | ((values[valueOffset + 39] & 0x1FFFFFFFFFFFFL) << 55);
+        words[wordOffset + 30] = ((values[valueOffset + 39] & 0x1FFFFFFFFFFFFL) >>> 9)
+                | ((values[valueOffset + 40] & 0x1FFFFFFFFFFFFL) << 40);
+        words[wordOffset + 31] = ((values[valueOffset + 40] & 0x1FFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 41] & 0x1FFFFFFFFFFFFL) << 25);
+        words[wordOffset + 32] = ((values[valueOffset + 41] & 0x1FFFFFFFFFFFFL) >>> 39)
+                | ((values[valueOffset + 42] & 0x1FFFFFFFFFFFFL) << 10)
+                | ((values[valueOffset + 43] & 0x1FFFFFFFFFFFFL) << 59);
+        words[wordOffset + 33] = ((values[valueOffset + 43] & 0x1FFFFFFFFFFFFL) >>> 5)
+                | ((values[valueOffset + 44] & 0x1FFFFFFFFFFFFL) << 44);
+        words[wordOffset + 34] = ((values[valueOffset + 44] & 0x1FFFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 45] & 0x1FFFFFFFFFFFFL) << 29);
+        words[wordOffset + 35] = ((values[valueOffset + 45] & 0x1FFFFFFFFFFFFL) >>> 35)
+                | ((values[valueOffset + 46] & 0x1FFFFFFFFFFFFL) << 14)
+                | ((values[valueOffset + 47] & 0x1FFFFFFFFFFFFL) << 63);
+        words[wordOffset + 36] = ((values[valueOffset + 47] & 0x1FFFFFFFFFFFFL) >>> 1)
+                | ((values[valueOffset + 48] & 0x1FFFFFFFFFFFFL) << 48);
+        words[wordOffset + 37] = ((values[valueOffset + 48] & 0x1FFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 49] & 0x1FFFFFFFFFFFFL) << 33);
+        words[wordOffset + 38] = ((values[valueOffset + 49] & 0x1FFFFFFFFFFFFL) >>> 31)
+                | ((values[valueOffset + 50] & 0x1FFFFFFFFFFFFL) << 18);
+        words[wordOffset + 39] = ((values[valueOffset + 50] & 0x1FFFFFFFFFFFFL) >>> 46)
+                | ((values[valueOffset + 51] & 0x1FFFFFFFFFFFFL) << 3)
+                | ((values[valueOffset + 52] & 0x1FFFFFFFFFFFFL) << 52);
+        words[wordOffset + 40] = ((values[valueOffset + 52] & 0x1FFFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 53] & 0x1FFFFFFFFFFFFL) << 37);
+        words[wordOffset + 41] = ((values[valueOffset + 53] & 0x1FFFFFFFFFFFFL) >>> 27)
+                | ((values[valueOffset + 54] & 0x1FFFFFFFFFFFFL) << 22);
+        words[wordOffset + 42] = ((values[valueOffset + 54] & 0x1FFFFFFFFFFFFL) >>> 42)
+                | ((values[valueOffset + 55] & 0x1FFFFFFFFFFFFL) << 7)
+                | ((values[valueOffset + 56] & 0x1FFFFFFFFFFFFL) << 56);
+        words[wordOffset + 43] = ((values[valueOffset + 56] & 0x1FFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 57] & 0x1FFFFFFFFFFFFL) << 41);
+        words[wordOffset + 44] = ((values[valueOffset + 57] & 0x1FFFFFFFFFFFFL) >>> 23)
+                | ((values[valueOffset + 58] & 0x1FFFFFFFFFFFFL) << 26);
+        words[wordOffset + 45] = ((values[valueOffset + 58] & 0x1FFFFFFFFFFFFL) >>> 38)
+                | ((values[valueOffset + 59] & 0x1FFFFFFFFFFFFL) << 11)
+                | ((values[valueOffset + 60] & 0x1FFFFFFFFFFFFL) << 60);
+        words[wordOffset + 46] = ((values[valueOffset + 60] & 0x1FFFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 61] & 0x1FFFFFFFFFFFFL) << 45);
+        words[wordOffset + 47] = ((values[valueOffset + 61] & 0x1FFFFFFFFFFFFL) >>> 19)
+                | ((values[valueOffset + 62] & 0x1FFFFFFFFFFFFL) << 30);
+        words[wordOffset + 48] = ((values[valueOffset + 62] & 0x1FFFFFFFFFFFFL) >>> 34)
+                | ((values[valueOffset + 63] & 0x1FFFFFFFFFFFFL) << 15);
+    }
+
+    private static void pack50(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x3FFFFFFFFFFFFL)
+                | ((values[valueOffset + 1] & 0x3FFFFFFFFFFFFL) << 50);
+        words[wordOffset + 1] = ((values[valueOffset + 1] & 0x3FFFFFFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 2] & 0x3FFFFFFFFFFFFL) << 36);
+        words[wordOffset + 2] = ((values[valueOffset + 2] & 0x3FFFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 3] & 0x3FFFFFFFFFFFFL) << 22);
+        words[wordOffset + 3] = ((values[valueOffset + 3] & 0x3FFFFFFFFFFFFL) >>> 42)
+                | ((values[valueOffset + 4] & 0x3FFFFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 5] & 0x3FFFFFFFFFFFFL) << 58);
+        words[wordOffset + 4] = ((values[valueOffset + 5] & 0x3FFFFFFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 6] & 0x3FFFFFFFFFFFFL) << 44);
+        words[wordOffset + 5] = ((values[valueOffset + 6] & 0x3FFFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 7] & 0x3FFFFFFFFFFFFL) << 30);
+        words[wordOffset + 6] = ((values[valueOffset + 7] & 0x3FFFFFFFFFFFFL) >>> 34)
+                | ((values[valueOffset + 8] & 0x3FFFFFFFFFFFFL) << 16);
+        words[wordOffset + 7] = ((values[valueOffset + 8] & 0x3FFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 9] & 0x3FFFFFFFFFFFFL) << 2)
+                | ((values[valueOffset + 10] & 0x3FFFFFFFFFFFFL) << 52);
+        words[wordOffset + 8] = ((values[valueOffset + 10] & 0x3FFFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 11] & 0x3FFFFFFFFFFFFL) << 38);
+        words[wordOffset + 9] = ((values[valueOffset + 11] & 0x3FFFFFFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 12] & 0x3FFFFFFFFFFFFL) << 24);
+        words[wordOffset + 10] = ((values[valueOffset + 12] & 0x3FFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 13] & 0x3FFFFFFFFFFFFL) << 10)
+                | ((values[valueOffset + 14] & 0x3FFFFFFFFFFFFL) << 60);
+        words[wordOffset + 11] = ((values[valueOffset + 14] & 0x3FFFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 15] & 0x3FFFFFFFFFFFFL) << 46);
+        words[wordOffset + 12] = ((values[valueOffset + 15] & 0x3FFFFFFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 16] & 0x3FFFFFFFFFFFFL) << 32);
+        words[wordOffset + 13] = ((values[valueOffset + 16] & 0x3FFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 17] & 0x3FFFFFFFFFFFFL) << 18);
+        words[wordOffset + 14] = ((values[valueOffset + 17] & 0x3FFFFFFFFFFFFL) >>> 46)
+                | ((values[valueOffset + 18] & 0x3FFFFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 19] & 0x3FFFFFFFFFFFFL) << 54);
+        words[wordOffset + 15] = ((values[valueOffset + 19] & 0x3FFFFFFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 20] & 0x3FFFFFFFFFFFFL) << 40);
+        words[wordOffset + 16] = ((values[valueOffset + 20] & 0x3FFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 21] & 0x3FFFFFFFFFFFFL) << 26);
+        words[wordOffset + 17] = ((values[valueOffset + 21] & 0x3FFFFFFFFFFFFL) >>> 38)
+                | ((values[valueOffset + 22] & 0x3FFFFFFFFFFFFL) << 12)
+                | ((values[valueOffset + 23] & 0x3FFFFFFFFFFFFL) << 62);
+        words[wordOffset + 18] = ((values[valueOffset + 23] & 0x3FFFFFFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 24] & 0x3FFFFFFFFFFFFL) << 48);
+        words[wordOffset + 19] = ((values[valueOffset + 24] & 0x3FFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 25] & 0x3FFFFFFFFFFFFL) << 34);
+        words[wordOffset + 20] = ((values[valueOffset + 25] & 0x3FFFFFFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 26] & 0x3FFFFFFFFFFFFL) << 20);
+        words[wordOffset + 21] = ((values[valueOffset + 26] & 0x3FFFFFFFFFFFFL) >>> 44)
+                | ((values[valueOffset + 27] & 0x3FFFFFFFFFFFFL) << 6)
+                | ((values[valueOffset + 28] & 0x3FFFFFFFFFFFFL) << 56);
+        words[wordOffset + 22] = ((values[valueOffset + 28] & 0x3FFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 29] & 0x3FFFFFFFFFFFFL) << 42);
+        words[wordOffset + 23] = ((values[valueOffset + 29] & 0x3FFFFFFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 30] & 0x3FFFFFFFFFFFFL) << 28);
+        words[wordOffset + 24] = ((values[valueOffset + 30] & 0x3FFFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 31] & 0x3FFFFFFFFFFFFL) << 14);
+        words[wordOffset + 25] = (values[valueOffset + 32] & 0x3FFFFFFFFFFFFL)
+                | ((values[valueOffset + 33] & 0x3FFFFFFFFFFFFL) << 50);
+        words[wordOffset + 26] = ((values[valueOffset + 33] & 0x3FFFFFFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 34] & 0x3FFFFFFFFFFFFL) << 36);
+        words[wordOffset + 27] = ((values[valueOffset + 34] & 0x3FFFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 35] & 0x3FFFFFFFFFFFFL) << 22);
+        words[wordOffset + 28] = ((values[valueOffset + 35] & 0x3FFFFFFFFFFFFL) >>> 42)
+                | ((values[valueOffset + 36] & 0x3FFFFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 37] & 0x3FFFFFFFFFFFFL) << 58);
+        words[wordOffset + 29] = ((values[valueOffset + 37] & 0x3FFFFFFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 38] & 0x3FFFFFFFFFFFFL) << 44);
+        words[wordOffset + 30] = ((values[valueOffset + 38] & 0x3FFFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 39] & 0x3FFFFFFFFFFFFL) << 30);
+        words[wordOffset + 31] = ((values[valueOffset + 39] & 0x3FFFFFFFFFFFFL) >>> 34)
+                | ((values[valueOffset + 40] & 0x3FFFFFFFFFFFFL) << 16);
+        words[wordOffset + 32] = ((values[valueOffset + 40] & 0x3FFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 41] & 0x3FFFFFFFFFFFFL) << 2)
+                | ((values[valueOffset + 42] & 0x3FFFFFFFFFFFFL) << 52);
+        words[wordOffset + 33] = ((values[valueOffset + 42] & 0x3FFFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 43] & 0x3FFFFFFFFFFFFL) << 38);
+        words[wordOffset + 34] = ((values[valueOffset + 43] & 0x3FFFFFFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 44] & 0x3FFFFFFFFFFFFL) << 24);
+        words[wordOffset + 35] = ((values[valueOffset + 44] & 0x3FFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 45] & 0x3FFFFFFFFFFFFL) << 10)
+                | ((values[valueOffset + 46] & 0x3FFFFFFFFFFFFL) << 60);
+        words[wordOffset + 36] = ((values[valueOffset + 46] & 0x3FFFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 47] & 0x3FFFFFFFFFFFFL) << 46);
+        words[wordOffset + 37] = ((values[valueOffset + 47] & 0x3FFFFFFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 48] & 0x3FFFFFFFFFFFFL) << 32);
+        words[wordOffset + 38] = ((values[valueOffset + 48] & 0x3FFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 49] & 0x3FFFFFFFFFFFFL) << 18);
+        words[wordOffset + 39] = ((values[valueOffset + 49] & 0x3FFFFFFFFFFFFL) >>> 46)
+                | ((values[valueOffset + 50] & 0x3FFFFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 51] & 0x3FFFFFFFFFFFFL) << 54);
+        words[wordOffset + 40] = ((values[valueOffset + 51] & 0x3FFFFFFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 52] & 0x3FFFFFFFFFFFFL) << 40);
+        words[wordOffset + 41] = ((values[valueOffset + 52] & 0x3FFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 53] & 0x3FFFFFFFFFFFFL) << 26);
+        words[wordOffset + 42] = ((values[valueOffset + 53] & 0x3FFFFFFFFFFFFL) >>> 38)
+                | ((values[valueOffset + 54] & 0x3FFFFFFFFFFFFL) << 12)
+                | ((values[valueOffset + 55] & 0x3FFFFFFFFFFFFL) << 62);
+        words[wordOffset + 43] = ((values[valueOffset + 55] & 0x3FFFFFFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 56] & 0x3FFFFFFFFFFFFL) << 48);
+        words[wordOffset + 44] = ((values[valueOffset + 56] & 0x3FFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 57] & 0x3FFFFFFFFFFFFL) << 34);
+        words[wordOffset + 45] = ((values[valueOffset + 57] & 0x3FFFFFFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 58] & 0x3FFFFFFFFFFFFL) << 20);
+        words[wordOffset + 46] = ((values[valueOffset + 58] & 0x3FFFFFFFFFFFFL) >>> 44)
+                | ((values[valueOffset + 59] & 0x3FFFFFFFFFFFFL) << 6)
+                | ((values[valueOffset + 60] & 0x3FFFFFFFFFFFFL) << 56);
+        words[wordOffset + 47] = ((values[valueOffset + 60] & 0x3FFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 61] & 0x3FFFFFFFFFFFFL) << 42);
+        words[wordOffset + 48] = ((values[valueOffset + 61] & 0x3FFFFFFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 62] & 0x3FFFFFFFFFFFFL) << 28);
+        words[wordOffset + 49] = ((values[valueOffset + 62] & 0x3FFFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 63] & 0x3FFFFFFFFFFFFL) << 14);
+    }
+
+    private static void pack51(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x7FFFFFFFFFFFFL)
+                | ((values[valueOffset + 1] & 0x7FFFFFFFFFFFFL) << 51);
+        words[wordOffset + 1] = ((values[valueOffset + 1] & 0x7FFFFFFFFFFFFL) >>> 13)
+                | ((values[valueOffset + 2] & 0x7FFFFFFFFFFFFL) << 38);
+        words[wordOffset + 2] = ((values[valueOffset + 2] & 0x7FFFFFFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 3] & 0x7FFFFFFFFFFFFL) << 25);
+        words[wordOffset + 3] = ((values[valueOffset + 3] & 0x7FFFFFFFFFFFFL) >>> 39)
+                | ((values[valueOffset + 4] & 0x7FFFFFFFFFFFFL) << 12)
+                | ((values[valueOffset + 5] & 0x7FFFFFFFFFFFFL) << 63);
+        words[wordOffset + 4] = ((values[valueOffset + 5] & 0x7FFFFFFFFFFFFL) >>> 1)
+                | ((values[valueOffset + 6] & 0x7FFFFFFFFFFFFL) << 50);
+        words[wordOffset + 5] = ((values[valueOffset + 6] & 0x7FFFFFFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 7] & 0x7FFFFFFFFFFFFL) << 37);
+        words[wordOffset + 6] = ((values[valueOffset + 7] & 0x7FFFFFFFFFFFFL) >>> 27)
+                | ((values[valueOffset + 8] & 0x7FFFFFFFFFFFFL) << 24);
+        words[wordOffset + 7] = ((values[valueOffset + 8] & 0x7FFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 9] & 0x7FFFFFFFFFFFFL) << 11)
+                | ((values[valueOffset + 10] & 0x7FFFFFFFFFFFFL) << 62);
+        words[wordOffset + 8] = ((values[valueOffset + 10] & 0x7FFFFFFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 11] & 0x7FFFFFFFFFFFFL) << 49);
+        words[wordOffset + 9] = ((values[valueOffset + 11] & 0x7FFFFFFFFFFFFL) >>> 15)
+                | ((values[valueOffset + 12] & 0x7FFFFFFFFFFFFL) << 36);
+        words[wordOffset + 10] = ((values[valueOffset + 12] & 0x7FFFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 13] & 0x7FFFFFFFFFFFFL) << 23);
+        words[wordOffset + 11] = ((values[valueOffset + 13] & 0x7FFFFFFFFFFFFL) >>> 41)
+                | ((values[valueOffset + 14] & 0x7FFFFFFFFFFFFL) << 10)
+                | ((values[valueOffset + 15] & 0x7FFFFFFFFFFFFL) << 61);
+        words[wordOffset + 12] = ((values[valueOffset + 15] & 0x7FFFFFFFFFFFFL) >>> 3)
+                | ((values[valueOffset + 16] & 0x7FFFFFFFFFFFFL) << 48);
+        words[wordOffset + 13] = ((values[valueOffset + 16] & 0x7FFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 17] & 0x7FFFFFFFFFFFFL) << 35);
+        words[wordOffset + 14] = ((values[valueOffset + 17] & 0x7FFFFFFFFFFFFL) >>> 29)
+                | ((values[valueOffset + 18] & 0x7FFFFFFFFFFFFL) << 22);
+        words[wordOffset + 15] = ((values[valueOffset + 18] & 0x7FFFFFFFFFFFFL) >>> 42)
+                | ((values[valueOffset + 19] & 0x7FFFFFFFFFFFFL) << 9)
+                | ((values[valueOffset + 20] & 0x7FFFFFFFFFFFFL) << 60);
+        words[wordOffset + 16] = ((values[valueOffset + 20] & 0x7FFFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 21] & 0x7FFFFFFFFFFFFL) << 47);
+        words[wordOffset + 17] = ((values[valueOffset + 21] & 0x7FFFFFFFFFFFFL) >>> 17)
+                | ((values[valueOffset + 22] & 0x7FFFFFFFFFFFFL) << 34);
+        words[wordOffset + 18] = ((values[valueOffset + 22] & 0x7FFFFFFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 23] & 0x7FFFFFFFFFFFFL) << 21);
+        words[wordOffset + 19] = ((values[valueOffset + 23] & 0x7FFFFFFFFFFFFL) >>> 43)
+                | ((values[valueOffset + 24] & 0x7FFFFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 25] & 0x7FFFFFFFFFFFFL) << 59);
+        words[wordOffset + 20] = ((values[valueOffset + 25] & 0x7FFFFFFFFFFFFL) >>> 5)
+                | ((values[valueOffset + 26] & 0x7FFFFFFFFFFFFL) << 46);
+        words[wordOffset + 21] = ((values[valueOffset + 26] & 0x7FFFFFFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 27] & 0x7FFFFFFFFFFFFL) << 33);
+        words[wordOffset + 22] = ((values[valueOffset + 27] & 0x7FFFFFFFFFFFFL) >>> 31)
+                | ((values[valueOffset + 28] & 0x7FFFFFFFFFFFFL) << 20);
+        words[wordOffset + 23] = ((values[valueOffset + 28] & 0x7FFFFFFFFFFFFL) >>> 44)
+                | ((values[valueOffset + 29] & 0x7FFFFFFFFFFFFL) << 7)
+                | ((values[valueOffset + 30] & 0x7FFFFFFFFFFFFL) << 58);
+        words[wordOffset + 24] = ((values[valueOffset + 30] & 0x7FFFFFFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 31] & 0x7FFFFFFFFFFFFL) << 45);
+        words[wordOffset + 25] = ((values[valueOffset + 31] & 0x7FFFFFFFFFFFFL) >>> 19)
+                | ((values[valueOffset + 32] & 0x7FFFFFFFFFFFFL) << 32);
+        words[wordOffset + 26] = ((values[valueOffset + 32] & 0x7FFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 33] & 0x7FFFFFFFFFFFFL) << 19);
+        words[wordOffset + 27] = ((values[valueOffset + 33] & 0x7FFFFFFFFFFFFL) >>> 45)
+                | ((values[valueOffset + 34] & 0x7FFFFFFFFFFFFL) << 6)
+                | ((values[valueOffset + 35] & 0x7FFFFFFFFFFFFL) << 57);
+        words[wordOffset + 28] = ((values[valueOffset + 35] & 0x7FFFFFFFFFFFFL) >>> 7)
+                | ((values[valueOffset + 36] & 0x7FFFFFFFFFFFFL) << 44);
+        words[wordOffset + 29] = ((values[valueOffset + 36] & 0x7FFFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 37] & 0x7FFFFFFFFFFFFL) << 31);
+        words[wordOffset + 30] = ((values[valueOffset + 37] & 0x7FFFFFFFFFFFFL) >>> 33)
+                | ((values[valueOffset + 38] & 0x7FFFFFFFFFFFFL) << 18);
+        words[wordOffset + 31] = ((values[valueOffset + 38] & 0x7FFFFFFFFFFFFL) >>> 46)
+                | ((values[valueOffset + 39] & 0x7FFFFFFFFFFFFL) << 5)
+                | ((values[valueOffset + 40] & 0x7FFFFFFFFFFFFL) << 56);
+        words[wordOffset + 32] = ((values[valueOffset + 40] & 0x7FFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 41] & 0x7FFFFFFFFFFFFL) << 43);
+        words[wordOffset + 33] = ((values[valueOffset + 41] & 0x7FFFFFFFFFFFFL) >>> 21)
+                | ((values[valueOffset + 42] & 0x7FFFFFFFFFFFFL) << 30);
+        words[wordOffset + 34] = ((values[valueOffset + 42] & 0x7FFFFFFFFFFFFL) >>> 34)
+                | ((values[valueOffset + 43] & 0x7FFFFFFFFFFFFL) << 17);
+        words[wordOffset + 35] = ((values[valueOffset + 43] & 0x7FFFFFFFFFFFFL) >>> 47)
+                | ((values[valueOffset + 44] & 0x7FFFFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 45] & 0x7FFFFFFFFFFFFL) << 55);
+        words[wordOffset + 36] = ((values[valueOffset + 45] & 0x7FFFFFFFFFFFFL) >>> 9)
+                | ((values[valueOffset + 46] & 0x7FFFFFFFFFFFFL) << 42);
+        words[wordOffset + 37] = ((values[valueOffset + 46] & 0x7FFFFFFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 47] & 0x7FFFFFFFFFFFFL) << 29);
+        words[wordOffset + 38] = ((values[valueOffset + 47] & 0x7FFFFFFFFFFFFL) >>> 35)
+                | ((values[valueOffset + 48] & 0x7FFFFFFFFFFFFL) << 16);
+        words[wordOffset + 39] = ((values[valueOffset + 48] & 0x7FFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 49] & 0x7FFFFFFFFFFFFL) << 3)
+                | ((values[valueOffset + 50] & 0x7FFFFFFFFFFFFL) << 54);
+        words[wordOffset + 40] = ((values[valueOffset + 50] & 0x7FFFFFFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 51] & 0x7FFFFFFFFFFFFL) << 41);
+        words[wordOffset + 41] = ((values[valueOffset + 51] & 0x7FFFFFFFFFFFFL) >>> 23)
+                | ((values[valueOffset + 52] & 0x7FFFFFFFFFFFFL) << 28);
+        words[wordOffset + 42] = ((values[valueOffset + 52] & 0x7FFFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 53] & 0x7FFFFFFFFFFFFL) << 15);
+        words[wordOffset + 43] = ((values[valueOffset + 53] & 0x7FFFFFFFFFFFFL) >>> 49)
+                | ((values[valueOffset + 54] & 0x7FFFFFFFFFFFFL) << 2)
+                | ((values[valueOffset + 55] & 0x7FFFFFFFFFFFFL) << 53);
+        words[wordOffset + 44] = ((values[valueOffset + 55] & 0x7FFFFFFFFFFFFL) >>> 11)
+                | ((values[valueOffset + 56] & 0x7FFFFFFFFFFFFL) << 40);
+        words[wordOffset + 45] = ((values[valueOffset + 56] & 0x7FFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 57] & 0x7FFFFFFFFFFFFL) << 27);
+        words[wordOffset + 46] = ((values[valueOffset + 57] & 0x7FFFFFFFFFFFFL) >>> 37)
+                | ((values[valueOffset + 58] & 0x7FFFFFFFFFFFFL) << 14);
+        words[wordOffset + 47] = ((values[valueOffset + 58] & 0x7FFFFFFFFFFFFL) >>> 50)
+                | ((values[valueOffset + 59] & 0x7FFFFFFFFFFFFL) << 1)
+                | ((values[valueOffset + 60] & 0x7FFFFFFFFFFFFL) << 52);
+        words[wordOffset + 48] = ((values[valueOffset + 60] & 0x7FFFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 61] & 0x7FFFFFFFFFFFFL) << 39);
+        words[wordOffset + 49] = ((values[valueOffset + 61] & 0x7FFFFFFFFFFFFL) >>> 25)
+                | ((values[valueOffset + 62] & 0x7FFFFFFFFFFFFL) << 26);
+        words[wordOffset + 50] = ((values[valueOffset + 62] & 0x7FFFFFFFFFFFFL) >>> 38)
+                | ((values[valueOffset + 63] & 0x7FFFFFFFFFFFFL) << 13);
+    }
+
+    private static void pack52(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0xFFFFFFFFFFFFFL)
+                | ((values[valueOffset + 1] & 0xFFFFFFFFFFFFFL) << 52);
+        words[wordOffset + 1] = ((values[valueOffset + 1] & 0xFFFFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 2] & 0xFFFFFFFFFFFFFL) << 40);
+        words[wordOffset + 2] = ((values[valueOffset + 2] & 0xFFFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 3] & 0xFFFFFFFFFFFFFL) << 28);
+        words[wordOffset + 3] = ((values[valueOffset + 3] & 0xFFFFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 4] & 0xFFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 4] = ((values[valueOffset + 4] & 0xFFFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 5] & 0xFFFFFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 6] & 0xFFFFFFFFFFFFFL) << 56);
+        words[wordOffset + 5] = ((values[valueOffset + 6] & 0xFFFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 7] & 0xFFFFFFFFFFFFFL) << 44);
+        words[wordOffset + 6] = ((values[valueOffset + 7] & 0xFFFFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 8] & 0xFFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 7] = ((values[valueOffset + 8] & 0xFFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 9] & 0xFFFFFFFFFFFFFL) << 20);
+        words[wordOffset + 8] = ((values[valueOffset + 9] & 0xFFFFFFFFFFFFFL) >>> 44)
+                | ((values[valueOffset + 10] & 0xFFFFFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 11] & 0xFFFFFFFFFFFFFL) << 60);
+        words[wordOffset + 9] = ((values[valueOffset + 11] & 0xFFFFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 12] & 0xFFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 10] = ((values[valueOffset + 12] & 0xFFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 13] & 0xFFFFFFFFFFFFFL) << 36);
+        words[wordOffset + 11] = ((values[valueOffset + 13] & 0xFFFFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 14] & 0xFFFFFFFFFFFFFL) << 24);
+        words[wordOffset + 12] = ((values[valueOffset + 14] & 0xFFFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 15] & 0xFFFFFFFFFFFFFL) << 12);
+        words[wordOffset + 13] = (values[valueOffset + 16] & 0xFFFFFFFFFFFFFL)
+                | ((values[valueOffset + 17] & 0xFFFFFFFFFFFFFL) << 52);
+        words[wordOffset + 14] = ((values[valueOffset + 17] & 0xFFFFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 18] & 0xFFFFFFFFFFFFFL) << 40);
+        words[wordOffset + 15] = ((values[valueOffset + 18] & 0xFFFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 19] & 0xFFFFFFFFFFFFFL) << 28);
+        words[wordOffset + 16] = ((values[valueOffset + 19] & 0xFFFFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 20] & 0xFFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 17] = ((values[valueOffset + 20] & 0xFFFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 21] & 0xFFFFFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 22] & 0xFFFFFFFFFFFFFL) << 56);
+        words[wordOffset + 18] = ((values[valueOffset + 22] & 0xFFFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 23] & 0xFFFFFFFFFFFFFL) << 44);
+        words[wordOffset + 19] = ((values[valueOffset + 23] & 0xFFFFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 24] & 0xFFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 20] = ((values[valueOffset + 24] & 0xFFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 25] & 0xFFFFFFFFFFFFFL) << 20);
+        words[wordOffset + 21] = ((values[valueOffset + 25] & 0xFFFFFFFFFFFFFL) >>> 44)
+                | ((values[valueOffset + 26] & 0xFFFFFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 27] & 0xFFFFFFFFFFFFFL) << 60);
+        words[wordOffset + 22] = ((values[valueOffset + 27] & 0xFFFFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 28] & 0xFFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 23] = ((values[valueOffset + 28] & 0xFFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 29] & 0xFFFFFFFFFFFFFL) << 36);
+        words[wordOffset + 24] = ((values[valueOffset + 29] & 0xFFFFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 30] & 0xFFFFFFFFFFFFFL) << 24);
+        words[wordOffset + 25] = ((values[valueOffset + 30] & 0xFFFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 31] & 0xFFFFFFFFFFFFFL) << 12);
+        words[wordOffset + 26] = (values[valueOffset + 32] & 0xFFFFFFFFFFFFFL)
+                | ((values[valueOffset + 33] & 0xFFFFFFFFFFFFFL) << 52);
+        words[wordOffset + 27] = ((values[valueOffset + 33] & 0xFFFFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 34] & 0xFFFFFFFFFFFFFL) << 40);
+        words[wordOffset + 28] = ((values[valueOffset + 34] & 0xFFFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 35] & 0xFFFFFFFFFFFFFL) << 28);
+        words[wordOffset + 29] = ((values[valueOffset + 35] & 0xFFFFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 36] & 0xFFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 30] = ((values[valueOffset + 36] & 0xFFFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 37] & 0xFFFFFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 38] & 0xFFFFFFFFFFFFFL) << 56);
+        words[wordOffset + 31] = ((values[valueOffset + 38] & 0xFFFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 39] & 0xFFFFFFFFFFFFFL) << 44);
+        words[wordOffset + 32] = ((values[valueOffset + 39] & 0xFFFFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 40] & 0xFFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 33] = ((values[valueOffset + 40] & 0xFFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 41] & 0xFFFFFFFFFFFFFL) << 20);
+        words[wordOffset + 34] = ((values[valueOffset + 41] & 0xFFFFFFFFFFFFFL) >>> 44)
+                | ((values[valueOffset + 42] & 0xFFFFFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 43] & 0xFFFFFFFFFFFFFL) << 60);
+        words[wordOffset + 35] = ((values[valueOffset + 43] & 0xFFFFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 44] & 0xFFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 36] = ((values[valueOffset + 44] & 0xFFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 45] & 0xFFFFFFFFFFFFFL) << 36);
+        words[wordOffset + 37] = ((values[valueOffset + 45] & 0xFFFFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 46] & 0xFFFFFFFFFFFFFL) << 24);
+        words[wordOffset + 38] = ((values[valueOffset + 46] & 0xFFFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 47] & 0xFFFFFFFFFFFFFL) << 12);
+        words[wordOffset + 39] = (values[valueOffset + 48] & 0xFFFFFFFFFFFFFL)
+                | ((values[valueOffset + 49] & 0xFFFFFFFFFFFFFL) << 52);
+        words[wordOffset + 40] = ((values[valueOffset + 49] & 0xFFFFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 50] & 0xFFFFFFFFFFFFFL) << 40);
+        words[wordOffset + 41] = ((values[valueOffset + 50] & 0xFFFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 51] & 0xFFFFFFFFFFFFFL) << 28);
+        words[wordOffset + 42] = ((values[valueOffset + 51] & 0xFFFFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 52] & 0xFFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 43] = ((values[valueOffset + 52] & 0xFFFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 53] & 0xFFFFFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 54] & 0xFFFFFFFFFFFFFL) << 56);
+        words[wordOffset + 44] = ((values[valueOffset + 54] & 0xFFFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 55] & 0xFFFFFFFFFFFFFL) << 44);
+        words[wordOffset + 45] = ((values[valueOffset + 55] & 0xFFFFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 56] & 0xFFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 46] = ((values[valueOffset + 56] & 0xFFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 57] & 0xFFFFFFFFFFFFFL) << 20);
+        words[wordOffset + 47] = ((values[valueOffset + 57] & 0xFFFFFFFFFFFFFL) >>> 44)
+                | ((values[valueOffset + 58] & 0xFFFFFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 59] & 0xFFFFFFFFFFFFFL) << 60);
+        words[wordOffset + 48] = ((values[valueOffset + 59] & 0xFFFFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 60] & 0xFFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 49] = ((values[valueOffset + 60] & 0xFFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 61] & 0xFFFFFFFFFFFFFL) << 36);
+        words[wordOffset + 50] = ((values[valueOffset + 61] & 0xFFFFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 62] & 0xFFFFFFFFFFFFFL) << 24);
+        words[wordOffset + 51] = ((values[valueOffset + 62] & 0xFFFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 63] & 0xFFFFFFFFFFFFFL) << 12);
+    }
+
+    private static void pack53(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x1FFFFFFFFFFFFFL)
+                | ((values[valueOffset + 1] & 0x1FFFFFFFFFFFFFL) << 53);
+        words[wordOffset + 1] = ((values[valueOffset + 1] & 0x1FFFFFFFFFFFFFL) >>> 11)
+                | ((values[valueOffset + 2] & 0x1FFFFFFFFFFFFFL) << 42);
+        words[wordOffset + 2] = ((values[valueOffset + 2] & 0x1FFFFFFFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 3] & 0x1FFFFFFFFFFFFFL) << 31);
+        words[wordOffset + 3] = ((values[valueOffset + 3] & 0x1FFFFFFFFFFFFFL) >>> 33)
+                | ((values[valueOffset + 4] & 0x1FFFFFFFFFFFFFL) << 20);
+        words[wordOffset + 4] = ((values[valueOffset + 4] & 0x1FFFFFFFFFFFFFL) >>> 44)
+                | ((values[valueOffset + 5] & 0x1FFFFFFFFFFFFFL) << 9)
+                | ((values[valueOffset + 6] & 0x1FFFFFFFFFFFFFL) << 62);
+        words[wordOffset + 5] = ((values[valueOffset + 6] & 0x1FFFFFFFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 7] & 0x1FFFFFFFFFFFFFL) << 51);
+        words[wordOffset + 6] = ((values[valueOffset + 7] & 0x1FFFFFFFFFFFFFL) >>> 13)
+                | ((values[valueOffset + 8] & 0x1FFFFFFFFFFFFFL) << 40);
+        words[wordOffset + 7] = ((values[valueOffset + 8] & 0x1FFFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 9] & 0x1FFFFFFFFFFFFFL) << 29);
+        words[wordOffset + 8] = ((values[valueOffset + 9] & 0x1FFFFFFFFFFFFFL) >>> 35)
+                | ((values[valueOffset + 10] & 0x1FFFFFFFFFFFFFL) << 18);
+        words[wordOffset + 9] = ((values[valueOffset + 10] & 0x1FFFFFFFFFFFFFL) >>> 46)
+                | ((values[valueOffset + 11] & 0x1FFFFFFFFFFFFFL) << 7)
+                | ((values[valueOffset + 12] & 0x1FFFFFFFFFFFFFL) << 60);
+        words[wordOffset + 10] = ((values[valueOffset + 12] & 0x1FFFFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 13] & 0x1FFFFFFFFFFFFFL) << 49);
+        words[wordOffset + 11] = ((values[valueOffset + 13] & 0x1FFFFFFFFFFFFFL) >>> 15)
+                | ((values[valueOffset + 14] & 0x1FFFFFFFFFFFFFL) << 38);
+        words[wordOffset + 12] = ((values[valueOffset + 14] & 0x1FFFFFFFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 15] & 0x1FFFFFFFFFFFFFL) << 27);
+        words[wordOffset + 13] = ((values[valueOffset + 15] & 0x1FFFFFFFFFFFFFL) >>> 37)
+                | ((values[valueOffset + 16] & 0x1FFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 14] = ((values[valueOffset + 16] & 0x1FFFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 17] & 0x1FFFFFFFFFFFFFL) << 5)
+                | ((values[valueOffset + 18] & 0x1FFFFFFFFFFFFFL) << 58);
+        words[wordOffset + 15] = ((values[valueOffset + 18] & 0x1FFFFFFFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 19] & 0x1FFFFFFFFFFFFFL) << 47);
+        words[wordOffset + 16] = ((values[valueOffset + 19] & 0x1FFFFFFFFFFFFFL) >>> 17)
+                | ((values[valueOffset + 20] & 0x1FFFFFFFFFFFFFL) << 36);
+        words[wordOffset + 17] = ((values[valueOffset + 20] & 0x1FFFFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 21] & 0x1FFFFFFFFFFFFFL) << 25);
+        words[wordOffset + 18] = ((values[valueOffset + 21] & 0x1FFFFFFFFFFFFFL) >>> 39)
+                | ((values[valueOffset + 22] & 0x1FFFFFFFFFFFFFL) << 14);
+        words[wordOffset + 19] = ((values[valueOffset + 22] & 0x1FFFFFFFFFFFFFL) >>> 50)
+                | ((values[valueOffset + 23] & 0x1FFFFFFFFFFFFFL) << 3)
+                | ((values[valueOffset + 24] & 0x1FFFFFFFFFFFFFL) << 56);
+        words[wordOffset + 20] = ((values[valueOffset + 24] & 0x1FFFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 25] & 0x1FFFFFFFFFFFFFL) << 45);
+        words[wordOffset + 21] = ((values[valueOffset + 25] & 0x1FFFFFFFFFFFFFL) >>> 19)
+                | ((values[valueOffset + 26] & 0x1FFFFFFFFFFFFFL) << 34);
+        words[wordOffset + 22] = ((values[valueOffset + 26] & 0x1FFFFFFFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 27] & 0x1FFFFFFFFFFFFFL) << 23);
+        words[wordOffset + 23] = ((values[valueOffset + 27] & 0x1FFFFFFFFFFFFFL) >>> 41)
+                | ((values[valueOffset + 28] & 0x1FFFFFFFFFFFFFL) << 12);
+        words[wordOffset + 24] = ((values[valueOffset + 28] & 0x1FFFFFFFFFFFFFL) >>> 52)
+                | ((values[valueOffset + 29] & 0x1FFFFFFFFFFFFFL) << 1)
+                | ((values[valueOffset + 30] & 0x1FFFFFFFFFFFFFL) << 54);
+        words[wordOffset + 25] = ((values[valueOffset + 30] & 0x1FFFFFFFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 31] & 0x1FFFFFFFFFFFFFL) << 43);
+        words[wordOffset + 26] = ((values[valueOffset + 31] & 0x1FFFFFFFFFFFFFL) >>> 21)
+                | ((values[valueOffset + 32] & 0x1FFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 27] = ((values[valueOffset + 32] & 0x1FFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 33] & 0x1FFFFFFFFFFFFFL) << 21);
+        words[wordOffset + 28] = ((values[valueOffset + 33] & 0x1FFFFFFFFFFFFFL) >>> 43)
+                | ((values[valueOffset + 34] & 0x1FFFFFFFFFFFFFL) << 10)
+                | ((values[valueOffset + 35] & 0x1FFFFFFFFFFFFFL) << 63);
+        words[wordOffset + 29] = ((values[valueOffset + 35] & 0x1FFFFFFFFFFFFFL) >>> 1)
+                | ((values[valueOffset + 36] & 0x1FFFFFFFFFFFFFL) << 52);
+        words[wordOffset + 30] = ((values[valueOffset + 36] & 0x1FFFFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 37] & 0x1FFFFFFFFFFFFFL) << 41);
+        words[wordOffset + 31] = ((values[valueOffset + 37] & 0x1FFFFFFFFFFFFFL) >>> 23)
+                | ((values[valueOffset + 38] & 0x1FFFFFFFFFFFFFL) << 30);
+        words[wordOffset + 32] = ((values[valueOffset + 38] & 0x1FFFFFFFFFFFFFL) >>> 34)
+                | ((values[valueOffset + 39] & 0x1FFFFFFFFFFFFFL) << 19);
+        words[wordOffset + 33] = ((values[valueOffset + 39] & 0x1FFFFFFFFFFFFFL) >>> 45)
+                | ((values[valueOffset + 40] & 0x1FFFFFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 41] & 0x1FFFFFFFFFFFFFL) << 61);
+        words[wordOffset + 34] = ((values[valueOffset + 41] & 0x1FFFFFFFFFFFFFL) >>> 3)
+                | ((values[valueOffset + 42] & 0x1FFFFFFFFFFFFFL) << 50);
+        words[wordOffset + 35] = ((values[valueOffset + 42] & 0x1FFFFFFFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 43] & 0x1FFFFFFFFFFFFFL) << 39);
+        words[wordOffset + 36] = ((values[valueOffset + 43] & 0x1FFFFFFFFFFFFFL) >>> 25)
+                | ((values[valueOffset + 44] & 0x1FFFFFFFFFFFFFL) << 28);
+        words[wordOffset + 37] = ((values[valueOffset + 44] & 0x1FFFFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 45] & 0x1FFFFFFFFFFFFFL) << 17);
+        words[wordOffset + 38] = ((values[valueOffset + 45] & 0x1FFFFFFFFFFFFFL) >>> 47)
+                | ((values[valueOffset + 46] & 0x1FFFFFFFFFFFFFL) << 6)
+                | ((values[valueOffset + 47] & 0x1FFFFFFFFFFFFFL) << 59);
+        words[wordOffset + 39] = ((values[valueOffset + 47] & 0x1FFFFFFFFFFFFFL) >>> 5)
+                | ((values[valueOffset + 48] & 0x1FFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 40] = ((values[valueOffset + 48] & 0x1FFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 49] & 0x1FFFFFFFFFFFFFL) << 37);
+        words[wordOffset + 41] = ((values[valueOffset + 49] & 0x1FFFFFFFFFFFFFL) >>> 27)
+                | ((values[valueOffset + 50] & 0x1FFFFFFFFFFFFFL) << 26);
+        words[wordOffset + 42] = ((values[valueOffset + 50] & 0x1FFFFFFFFFFFFFL) >>> 38)
+                | ((values[valueOffset + 51] & 0x1FFFFFFFFFFFFFL) << 15);
+        words[wordOffset + 43] = ((values[valueOffset + 51] & 0x1FFFFFFFFFFFFFL) >>> 49)
+                | ((values[valueOffset + 52] & 0x1FFFFFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 53] & 0x1FFFFFFFFFFFFFL) << 57);
+        words[wordOffset + 44] = ((values[valueOffset + 53] & 0x1FFFFFFFFFFFFFL) >>> 7)
+                | ((values[valueOffset + 54] & 0x1FFFFFFFFFFFFFL) << 46);
+        words[wordOffset + 45] = ((values[valueOffset + 54] & 0x1FFFFFFFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 55] & 0x1FFFFFFFFFFFFFL) << 35);
+        words[wordOffset + 46] = ((values[valueOffset + 55] & 0x1FFFFFFFFFFFFFL) >>> 29)
+                | ((values[valueOffset + 56] & 0x1FFFFFFFFFFFFFL) << 24);
+        words[wordOffset + 47] = ((values[valueOffset + 56] & 0x1FFFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 57] & 0x1FFFFFFFFFFFFFL) << 13);
+        words[wordOffset + 48] = ((values[valueOffset + 57] & 0x1FFFFFFFFFFFFFL) >>> 51)
+                | ((values[valueOffset + 58] & 0x1FFFFFFFFFFFFFL) << 2)
+                | ((values[valueOffset + 59] & 0x1FFFFFFFFFFFFFL) << 55);
+        words[wordOffset + 49] = ((values[valueOffset + 59] & 0x1FFFFFFFFFFFFFL) >>> 9)
+                | ((values[valueOffset + 60] & 0x1FFFFFFFFFFFFFL) << 44);
+        words[wordOffset + 50] = ((values[valueOffset + 60] & 0x1FFFFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 61] & 0x1FFFFFFFFFFFFFL) << 33);
+        words[wordOffset + 51] = ((values[valueOffset + 61] & 0x1FFFFFFFFFFFFFL) >>> 31)
+                | ((values[valueOffset + 62] & 0x1FFFFFFFFFFFFFL) << 22);
+        words[wordOffset + 52] = ((values[valueOffset + 62] & 0x1FFFFFFFFFFFFFL) >>> 42)
+                | ((values[valueOffset + 63] & 0x1FFFFFFFFFFFFFL) << 11);
+    }
+
+    private static void pack54(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x3FFFFFFFFFFFFFL)
+                | ((values[valueOffset + 1] & 0x3FFFFFFFFFFFFFL) << 54);
+        words[wordOffset + 1] = ((values[valueOffset + 1] & 0x3FFFFFFFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 2] & 0x3FFFFFFFFFFFFFL) << 44);
+        words[wordOffset + 2] = ((values[valueOffset + 2] & 0x3FFFFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 3] & 0x3FFFFFFFFFFFFFL) << 34);
+        words[wordOffset + 3] = ((values[valueOffset + 3] & 0x3FFFFFFFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 4] & 0x3FFFFFFFFFFFFFL) << 24);
+        words[wordOffset + 4] = ((values[valueOffset + 4] & 0x3FFFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 5] & 0x3FFFFFFFFFFFFFL) << 14);
+        words[wordOffset + 5] = ((values[valueOffset + 5] & 0x3FFFFFFFFFFFFFL) >>> 50)
+                | ((values[valueOffset + 6] & 0x3FFFFFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 7] & 0x3FFFFFFFFFFFFFL) << 58);
+        words[wordOffset + 6] = ((values[valueOffset + 7] & 0x3FFFFFFFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 8] & 0x3FFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 7] = ((values[valueOffset + 8] & 0x3FFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 9] & 0x3FFFFFFFFFFFFFL) << 38);
+        words[wordOffset + 8] = ((values[valueOffset + 9] & 0x3FFFFFFFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 10] & 0x3FFFFFFFFFFFFFL) << 28);
+        words[wordOffset + 9] = ((values[valueOffset + 10] & 0x3FFFFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 11] & 0x3FFFFFFFFFFFFFL) << 18);
+        words[wordOffset + 10] = ((values[valueOffset + 11] & 0x3FFFFFFFFFFFFFL) >>> 46)
+                | ((values[valueOffset + 12] & 0x3FFFFFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 13] & 0x3FFFFFFFFFFFFFL) << 62);
+        words[wordOffset + 11] = ((values[valueOffset + 13] & 0x3FFFFFFFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 14] & 0x3FFFFFFFFFFFFFL) << 52);
+        words[wordOffset + 12] = ((values[valueOffset + 14] & 0x3FFFFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 15] & 0x3FFFFFFFFFFFFFL) << 42);
+        words[wordOffset + 13] = ((values[valueOffset + 15] & 0x3FFFFFFFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 16] & 0x3FFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 14] = ((values[valueOffset + 16] & 0x3FFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 17] & 0x3FFFFFFFFFFFFFL) << 22);
+        words[wordOffset + 15] = ((values[valueOffset + 17] & 0x3FFFFFFFFFFFFFL) >>> 42)
+                | ((values[valueOffset + 18] & 0x3FFFFFFFFFFFFFL) << 12);
+        words[wordOffset + 16] = ((values[valueOffset + 18] & 0x3FFFFFFFFFFFFFL) >>> 52)
+                | ((values[valueOffset + 19] & 0x3FFFFFFFFFFFFFL) << 2)
+                | ((values[valueOffset + 20] & 0x3FFFFFFFFFFFFFL) << 56);
+        words[wordOffset + 17] = ((values[valueOffset + 20] & 0x3FFFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 21] & 0x3FFFFFFFFFFFFFL) << 46);
+        words[wordOffset + 18] = ((values[valueOffset + 21] & 0x3FFFFFFFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 22] & 0x3FFFFFFFFFFFFFL) << 36);
+        words[wordOffset + 19] = ((values[valueOffset + 22] & 0x3FFFFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 23] & 0x3FFFFFFFFFFFFFL) << 26);
+        words[wordOffset + 20] = ((values[valueOffset + 23] & 0x3FFFFFFFFFFFFFL) >>> 38)
+                | ((values[valueOffset + 24] & 0x3FFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 21] = ((values[valueOffset + 24] & 0x3FFFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 25] & 0x3FFFFFFFFFFFFFL) << 6)
+                | ((values[valueOffset + 26] & 0x3FFFFFFFFFFFFFL) << 60);
+        words[wordOffset + 22] = ((values[valueOffset + 26] & 0x3FFFFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 27] & 0x3FFFFFFFFFFFFFL) << 50);
+        words[wordOffset + 23] = ((values[valueOffset + 27] & 0x3FFFFFFFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 28] & 0x3FFFFFFFFFFFFFL) << 40);
+        words[wordOffset + 24] = ((values[valueOffset + 28] & 0x3FFFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 29] & 0x3FFFFFFFFFFFFFL) << 30);
+        words[wordOffset + 25] = ((values[valueOffset + 29] & 0x3FFFFFFFFFFFFFL) >>> 34)
+                | ((values[valueOffset + 30] & 0x3FFFFFFFFFFFFFL) << 20);
+        words[wordOffset + 26] = ((values[valueOffset + 30] & 0x3FFFFFFFFFFFFFL) >>> 44)
+                | ((values[valueOffset + 31] & 0x3FFFFFFFFFFFFFL) << 10);
+        words[wordOffset + 27] = (values[valueOffset + 32] & 0x3FFFFFFFFFFFFFL)
+                | ((values[valueOffset + 33] & 0x3FFFFFFFFFFFFFL) << 54);
+        words[wordOffset + 28] = ((values[valueOffset + 33] & 0x3FFFFFFFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 34] & 0x3FFFFFFFFFFFFFL) << 44);
+        words[wordOffset + 29] = ((values[valueOffset + 34] & 0x3FFFFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 35] & 0x3FFFFFFFFFFFFFL) << 34);
+        words[wordOffset + 30] = ((values[valueOffset + 35] & 0x3FFFFFFFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 36] & 0x3FFFFFFFFFFFFFL) << 24);
+        words[wordOffset + 31] = ((values[valueOffset + 36] & 0x3FFFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 37] & 0x3FFFFFFFFFFFFFL) << 14);
+        words[wordOffset + 32] = ((values[valueOffset + 37] & 0x3FFFFFFFFFFFFFL) >>> 50)
+                | ((values[valueOffset + 38] & 0x3FFFFFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 39] & 0x3FFFFFFFFFFFFFL) << 58);
+        words[wordOffset + 33] = ((values[valueOffset + 39] & 0x3FFFFFFFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 40] & 0x3FFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 34] = ((values[valueOffset + 40] & 0x3FFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 41] & 0x3FFFFFFFFFFFFFL) << 38);
+        words[wordOffset + 35] = ((values[valueOffset + 41] & 0x3FFFFFFFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 42] & 0x3FFFFFFFFFFFFFL) << 28);
+        words[wordOffset + 36] = ((values[valueOffset + 42] & 0x3FFFFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 43] & 0x3FFFFFFFFFFFFFL) << 18);
+        words[wordOffset + 37] = ((values[valueOffset + 43] & 0x3FFFFFFFFFFFFFL) >>> 46)
+                | ((values[valueOffset + 44] & 0x3FFFFFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 45] & 0x3FFFFFFFFFFFFFL) << 62);
+        words[wordOffset + 38] = ((values[valueOffset + 45] & 0x3FFFFFFFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 46] & 0x3FFFFFFFFFFFFFL) << 52);
+        words[wordOffset + 39] = ((values[valueOffset + 46] & 0x3FFFFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 47] & 0x3FFFFFFFFFFFFFL) << 42);
+        words[wordOffset + 40] = ((values[valueOffset + 47] & 0x3FFFFFFFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 48] & 0x3FFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 41] = ((values[valueOffset + 48] & 0x3FFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 49] & 0x3FFFFFFFFFFFFFL) << 22);
+        words[wordOffset + 42] = ((values[valueOffset + 49] & 0x3FFFFFFFFFFFFFL) >>> 42)
+                | ((values[valueOffset + 50] & 0x3FFFFFFFFFFFFFL) << 12);
+        words[wordOffset + 43] = ((values[valueOffset + 50] & 0x3FFFFFFFFFFFFFL) >>> 52)
+                | ((values[valueOffset + 51] & 0x3FFFFFFFFFFFFFL) << 2)
+                | ((values[valueOffset + 52] & 0x3FFFFFFFFFFFFFL) << 56);
+        words[wordOffset + 44] = ((values[valueOffset + 52] & 0x3FFFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 53] & 0x3FFFFFFFFFFFFFL) << 46);
+        words[wordOffset + 45] = ((values[valueOffset + 53] & 0x3FFFFFFFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 54] & 0x3FFFFFFFFFFFFFL) << 36);
+        words[wordOffset + 46] = ((values[valueOffset + 54] & 0x3FFFFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 55] & 0x3FFFFFFFFFFFFFL) << 26);
+        words[wordOffset + 47] = ((values[valueOffset + 55] & 0x3FFFFFFFFFFFFFL) >>> 38)
+                | ((values[valueOffset + 56] & 0x3FFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 48] = ((values[valueOffset + 56] & 0x3FFFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 57] & 0x3FFFFFFFFFFFFFL) << 6)
+                | ((values[valueOffset + 58] & 0x3FFFFFFFFFFFFFL) << 60);
+        words[wordOffset + 49] = ((values[valueOffset + 58] & 0x3FFFFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 59] & 0x3FFFFFFFFFFFFFL) << 50);
+        words[wordOffset + 50] = ((values[valueOffset + 59] & 0x3FFFFFFFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 60] & 0x3FFFFFFFFFFFFFL) << 40);
+        words[wordOffset + 51] = ((values[valueOffset + 60] & 0x3FFFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 61] & 0x3FFFFFFFFFFFFFL) << 30);
+        words[wordOffset + 52] = ((values[valueOffset + 61] & 0x3FFFFFFFFFFFFFL) >>> 34)
+                | ((values[valueOffset + 62] & 0x3FFFFFFFFFFFFFL) << 20);
+        words[wordOffset + 53] = ((values[valueOffset + 62] & 0x3FFFFFFFFFFFFFL) >>> 44)
+                | ((values[valueOffset + 63] & 0x3FFFFFFFFFFFFFL) << 10);
+    }
+
+    private static void pack55(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x7FFFFFFFFFFFFFL)
+                | ((values[valueOffset + 1] & 0x7FFFFFFFFFFFFFL) << 55);
+        words[wordOffset + 1] = ((values[valueOffset + 1] & 0x7FFFFFFFFFFFFFL) >>> 9)
+                | ((values[valueOffset + 2] & 0x7FFFFFFFFFFFFFL) << 46);
+        words[wordOffset + 2] = ((values[valueOffset + 2] & 0x7FFFFFFFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 3] & 0x7FFFFFFFFFFFFFL) << 37);
+        words[wordOffset + 3] = ((values[valueOffset + 3] & 0x7FFFFFFFFFFFFFL) >>> 27)
+                | ((values[valueOffset + 4] & 0x7FFFFFFFFFFFFFL) << 28);
+        words[wordOffset + 4] = ((values[valueOffset + 4] & 0x7FFFFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 5] & 0x7FFFFFFFFFFFFFL) << 19);
+        words[wordOffset + 5] = ((values[valueOffset + 5] & 0x7FFFFFFFFFFFFFL) >>> 45)
+                | ((values[valueOffset + 6] & 0x7FFFFFFFFFFFFFL) << 10);
+        words[wordOffset + 6] = ((values[valueOffset + 6] & 0x7FFFFFFFFFFFFFL) >>> 54)
+                | ((values[valueOffset + 7] & 0x7FFFFFFFFFFFFFL) << 1)
+                | ((values[valueOffset + 8] & 0x7FFFFFFFFFFFFFL) << 56);
+        words[wordOffset + 7] = ((values[valueOffset + 8] & 0x7FFFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 9] & 0x7FFFFFFFFFFFFFL) << 47);
+        words[wordOffset + 8] = ((values[valueOffset + 9] & 0x7FFFFFFFFFFFFFL) >>> 17)
+                | ((values[valueOffset + 10] & 0x7FFFFFFFFFFFFFL) << 38);
+        words[wordOffset + 9] = ((values[valueOffset + 10] & 0x7FFFFFFFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 11] & 0x7FFFFFFFFFFFFFL) << 29);
+        words[wordOffset + 10] = ((values[valueOffset + 11] & 0x7FFFFFFFFFFFFFL) >>> 35)
+                | ((values[valueOffset + 12] & 0x7FFFFFFFFFFFFFL) << 20);
+        words[wordOffset + 11] = ((values[valueOffset + 12] & 0x7FFFFFFFFFFFFFL) >>> 44)
+                | ((values[valueOffset + 13] & 0x7FFFFFFFFFFFFFL) << 11);
+        words[wordOffset + 12] = ((values[valueOffset + 13] & 0x7FFFFFFFFFFFFFL) >>> 53)
+                | ((values[valueOffset + 14] & 0x7FFFFFFFFFFFFFL) << 2)
+                | ((values[valueOffset + 15] & 0x7FFFFFFFFFFFFFL) << 57);
+        words[wordOffset + 13] = ((values[valueOffset + 15] & 0x7FFFFFFFFFFFFFL) >>> 7)
+                | ((values[valueOffset + 16] & 0x7FFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 14] = ((values[valueOffset + 16] & 0x7FFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 17] & 0x7FFFFFFFFFFFFFL) << 39);
+        words[wordOffset + 15] = ((values[valueOffset + 17] & 0x7FFFFFFFFFFFFFL) >>> 25)
+                | ((values[valueOffset + 18] & 0x7FFFFFFFFFFFFFL) << 30);
+        words[wordOffset + 16] = ((values[valueOffset + 18] & 0x7FFFFFFFFFFFFFL) >>> 34)
+                | ((values[valueOffset + 19] & 0x7FFFFFFFFFFFFFL) << 21);
+        words[wordOffset + 17] = ((values[valueOffset + 19] & 0x7FFFFFFFFFFFFFL) >>> 43)
+                | ((values[valueOffset + 20] & 0x7FFFFFFFFFFFFFL) << 12);
+        words[wordOffset + 18] = ((values[valueOffset + 20] & 0x7FFFFFFFFFFFFFL) >>> 52)
+                | ((values[valueOffset + 21] & 0x7FFFFFFFFFFFFFL) << 3)
+                | ((values[valueOffset + 22] & 0x7FFFFFFFFFFFFFL) << 58);
+        words[wordOffset + 19] = ((values[valueOffset + 22] & 0x7FFFFFFFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 23] & 0x7FFFFFFFFFFFFFL) << 49);
+        words[wordOffset + 20] = ((values[valueOffset + 23] & 0x7FFFFFFFFFFFFFL) >>> 15)
+                | ((values[valueOffset + 24] & 0x7FFFFFFFFFFFFFL) << 40);
+        words[wordOffset + 21] = ((values[valueOffset + 24] & 0x7FFFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 25] & 0x7FFFFFFFFFFFFFL) << 31);
+        words[wordOffset + 22] = ((values[valueOffset + 25] & 0x7FFFFFFFFFFFFFL) >>> 33)
+                | ((values[valueOffset + 26] & 0x7FFFFFFFFFFFFFL) << 22);
+        words[wordOffset + 23] = ((values[valueOffset + 26] & 0x7FFFFFFFFFFFFFL) >>> 42)
+                | ((values[valueOffset + 27] & 0x7FFFFFFFFFFFFFL) << 13);
+        words[wordOffset + 24] = ((values[valueOffset + 27] & 0x7FFFFFFFFFFFFFL) >>> 51)
+                | ((values[valueOffset + 28] & 0x7FFFFFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 29] & 0x7FFFFFFFFFFFFFL) << 59);
+        words[wordOffset + 25] = ((values[valueOffset + 29] & 0x7FFFFFFFFFFFFFL) >>> 5)
+                | ((values[valueOffset + 30] & 0x7FFFFFFFFFFFFFL) << 50);
+        words[wordOffset + 26] = ((values[valueOffset + 30] & 0x7FFFFFFFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 31] & 0x7FFFFFFFFFFFFFL) << 41);
+        words[wordOffset + 27] = ((values[valueOffset + 31] & 0x7FFFFFFFFFFFFFL) >>> 23)
+                | ((values[valueOffset + 32] & 0x7FFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 28] = ((values[valueOffset + 32] & 0x7FFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 33] & 0x7FFFFFFFFFFFFFL) << 23);
+        words[wordOffset + 29] = ((values[valueOffset + 33] & 0x7FFFFFFFFFFFFFL) >>> 41)
+                | ((values[valueOffset + 34] & 0x7FFFFFFFFFFFFFL) << 14);
+        words[wordOffset + 30] = ((values[valueOffset + 34] & 0x7FFFFFFFFFFFFFL) >>> 50)
+                | ((values[valueOffset + 35] & 0x7FFFFFFFFFFFFFL) << 5)
+                | ((values[valueOffset + 36] & 0x7FFFFFFFFFFFFFL) << 60);
+        words[wordOffset + 31] = ((values[valueOffset + 36] & 0x7FFFFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 37] & 0x7FFFFFFFFFFFFFL) << 51);
+        words[wordOffset + 32] = ((values[valueOffset + 37] & 0x7FFFFFFFFFFFFFL) >>> 13)
+                | ((values[valueOffset + 38] & 0x7FFFFFFFFFFFFFL) << 42);
+        words[wordOffset + 33] = ((values[valueOffset + 38] & 0x7FFFFFFFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 39] & 0x7FFFFFFFFFFFFFL) << 33);
+        words[wordOffset + 34] = ((values[valueOffset + 39] & 0x7FFFFFFFFFFFFFL) >>> 31)
+                | ((values[valueOffset + 40] & 0x7FFFFFFFFFFFFFL) << 24);
+        words[wordOffset + 35] = ((values[valueOffset + 40] & 0x7FFFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 41] & 0x7FFFFFFFFFFFFFL) << 15);
+        words[wordOffset + 36] = ((values[valueOffset + 41] & 0x7FFFFFFFFFFFFFL) >>> 49)
+                | ((values[valueOffset + 42] & 0x7FFFFFFFFFFFFFL) << 6)
+                | ((values[valueOffset + 43] & 0x7FFFFFFFFFFFFFL) << 61);
+        words[wordOffset + 37] = ((values[valueOffset + 43] & 0x7FFFFFFFFFFFFFL) >>> 3)
+                | ((values[valueOffset + 44] & 0x7FFFFFFFFFFFFFL) << 52);
+        words[wordOffset + 38] = ((values[valueOffset + 44] & 0x7FFFFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 45] & 0x7FFFFFFFFFFFFFL) << 43);
+        words[wordOffset + 39] = ((values[valueOffset + 45] & 0x7FFFFFFFFFFFFFL) >>> 21)
+                | ((values[valueOffset + 46] & 0x7FFFFFFFFFFFFFL) << 34);
+        words[wordOffset + 40] = ((values[valueOffset + 46] & 0x7FFFFFFFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 47] & 0x7FFFFFFFFFFFFFL) << 25);
+        words[wordOffset + 41] = ((values[valueOffset + 47] & 0x7FFFFFFFFFFFFFL) >>> 39)
+                | ((values[valueOffset + 48] & 0x7FFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 42] = ((values[valueOffset + 48] & 0x7FFFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 49] & 0x7FFFFFFFFFFFFFL) << 7)
+                | ((values[valueOffset + 50] & 0x7FFFFFFFFFFFFFL) << 62);
+        words[wordOffset + 43] = ((values[valueOffset + 50] & 0x7FFFFFFFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 51] & 0x7FFFFFFFFFFFFFL) << 53);
+        words[wordOffset + 44] = ((values[valueOffset + 51] & 0x7FFFFFFFFFFFFFL) >>> 11)
+                | ((values[valueOffset + 52] & 0x7FFFFFFFFFFFFFL) << 44);
+        words[wordOffset + 45] = ((values[valueOffset + 52] & 0x7FFFFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 53] & 0x7FFFFFFFFFFFFFL) << 35);
+        words[wordOffset + 46] = ((values[valueOffset + 53] & 0x7FFFFFFFFFFFFFL) >>> 29)
+                | ((values[valueOffset + 54] & 0x7FFFFFFFFFFFFFL) << 26);
+        words[wordOffset + 47] = ((values[valueOffset + 54] & 0x7FFFFFFFFFFFFFL) >>> 38)
+                | ((values[valueOffset + 55] & 0x7FFFFFFFFFFFFFL) << 17);
+        words[wordOffset + 48] = ((values[valueOffset + 55] & 0x7FFFFFFFFFFFFFL) >>> 47)
+                | ((values[valueOffset + 56] & 0x7FFFFFFFFFFFFFL) << 8)
+                | ((values[valueOffset + 57] & 0x7FFFFFFFFFFFFFL) << 63);
+        words[wordOffset + 49] = ((values[valueOffset + 57] & 0x7FFFFFFFFFFFFFL) >>> 1)
+                | ((values[valueOffset + 58] & 0x7FFFFFFFFFFFFFL) << 54);
+        words[wordOffset + 50] = ((values[valueOffset + 58] & 0x7FFFFFFFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 59] & 0x7FFFFFFFFFFFFFL) << 45);
+        words[wordOffset + 51] = ((values[valueOffset + 59] & 0x7FFFFFFFFFFFFFL) >>> 19)
+                | ((values[valueOffset + 60] & 0x7FFFFFFFFFFFFFL) << 36);
+        words[wordOffset + 52] = ((values[valueOffset + 60] & 0x7FFFFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 61] & 0x7FFFFFFFFFFFFFL) << 27);
+        words[wordOffset + 53] = ((values[valueOffset + 61] & 0x7FFFFFFFFFFFFFL) >>> 37)
+                | ((values[valueOffset + 62] & 0x7FFFFFFFFFFFFFL) << 18);
+        words[wordOffset + 54] = ((values[valueOffset + 62] & 0x7FFFFFFFFFFFFFL) >>> 46)
+                | ((values[valueOffset + 63] & 0x7FFFFFFFFFFFFFL) << 9);
+    }
+
+    private static void pack56(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0xFFFFFFFFFFFFFFL)
+                | ((values[valueOffset + 1] & 0xFFFFFFFFFFFFFFL) << 56);
+        words[wordOffset + 1] = ((values[valueOffset + 1] & 0xFFFFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 2] & 0xFFFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 2] = ((values[valueOffset + 2] & 0xFFFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 3] & 0xFFFFFFFFFFFFFFL) << 40);
+        words[wordOffset + 3] = ((values[valueOffset + 3] & 0xFFFFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 4] & 0xFFFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 4] = ((values[valueOffset + 4] & 0xFFFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 5] & 0xFFFFFFFFFFFFFFL) << 24);
+        words[wordOffset + 5] = ((values[valueOffset + 5] & 0xFFFFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 6] & 0xFFFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 6] = ((values[valueOffset + 6] & 0xFFFFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 7] & 0xFFFFFFFFFFFFFFL) << 8);
+        words[wordOffset + 7] = (values[valueOffset + 8] & 0xFFFFFFFFFFFFFFL)
+                | ((values[valueOffset + 9] & 0xFFFFFFFFFFFFFFL) << 56);
+        words[wordOffset + 8] = ((values[valueOffset + 9] & 0xFFFFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 10] & 0xFFFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 9] = ((values[valueOffset + 10] & 0xFFFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 11] & 0xFFFFFFFFFFFFFFL) << 40);
+        words[wordOffset + 10] = ((values[valueOffset + 11] & 0xFFFFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 12] & 0xFFFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 11] = ((values[valueOffset + 12] & 0xFFFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 13] & 0xFFFFFFFFFFFFFFL) << 24);
+        words[wordOffset + 12] = ((values[valueOffset + 13] & 0xFFFFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 14] & 0xFFFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 13] = ((values[valueOffset + 14] & 0xFFFFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 15] & 0xFFFFFFFFFFFFFFL) << 8);
+        words[wordOffset + 14] = (values[valueOffset + 16] & 0xFFFFFFFFFFFFFFL)
+                | ((values[valueOffset + 17] & 0xFFFFFFFFFFFFFFL) << 56);
+        words[wordOffset + 15] = ((values[valueOffset + 17] & 0xFFFFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 18] & 0xFFFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 16] = ((values[valueOffset + 18] & 0xFFFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 19] & 0xFFFFFFFFFFFFFFL) << 40);
+        words[wordOffset + 17] = ((values[valueOffset + 19] & 0xFFFFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 20] & 0xFFFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 18] = ((values[valueOffset + 20] & 0xFFFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 21] & 0xFFFFFFFFFFFFFFL) << 24);
+        words[wordOffset + 19] = ((values[valueOffset + 21] & 0xFFFFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 22] & 0xFFFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 20] = ((values[valueOffset + 22] & 0xFFFFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 23] & 0xFFFFFFFFFFFFFFL) << 8);
+        words[wordOffset + 21] = (values[valueOffset + 24] & 0xFFFFFFFFFFFFFFL)
+                | ((values[valueOffset + 25] & 0xFFFFFFFFFFFFFFL) << 56);
+        words[wordOffset + 22] = ((values[valueOffset + 25] & 0xFFFFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 26] & 0xFFFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 23] = ((values[valueOffset + 26] & 0xFFFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 27] & 0xFFFFFFFFFFFFFFL) << 40);
+        words[wordOffset + 24] = ((values[valueOffset + 27] & 0xFFFFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 28] & 0xFFFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 25] = ((values[valueOffset + 28] & 0xFFFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 29] & 0xFFFFFFFFFFFFFFL) << 24);
+        words[wordOffset + 26] = ((values[valueOffset + 29] & 0xFFFFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 30] & 0xFFFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 27] = ((values[valueOffset + 30] & 0xFFFFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 31] & 0xFFFFFFFFFFFFFFL) << 8);
+        words[wordOffset + 28] = (values[valueOffset + 32] & 0xFFFFFFFFFFFFFFL)
+                | ((values[valueOffset + 33] & 0xFFFFFFFFFFFFFFL) << 56);
+        words[wordOffset + 29] = ((values[valueOffset + 33] & 0xFFFFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 34] & 0xFFFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 30] = ((values[valueOffset + 34] & 0xFFFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 35] & 0xFFFFFFFFFFFFFFL) << 40);
+        words[wordOffset + 31] = ((values[valueOffset + 35] & 0xFFFFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 36] & 0xFFFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 32] = ((values[valueOffset + 36] & 0xFFFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 37] & 0xFFFFFFFFFFFFFFL) << 24);
+        words[wordOffset + 33] = ((values[valueOffset + 37] & 0xFFFFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 38] & 0xFFFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 34] = ((values[valueOffset + 38] & 0xFFFFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 39] & 0xFFFFFFFFFFFFFFL) << 8);
+        words[wordOffset + 35] = (values[valueOffset + 40] & 0xFFFFFFFFFFFFFFL)
+                | ((values[valueOffset + 41] & 0xFFFFFFFFFFFFFFL) << 56);
+        words[wordOffset + 36] = ((values[valueOffset + 41] & 0xFFFFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 42] & 0xFFFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 37] = ((values[valueOffset + 42] & 0xFFFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 43] & 0xFFFFFFFFFFFFFFL) << 40);
+        words[wordOffset + 38] = ((values[valueOffset + 43] & 0xFFFFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 44] & 0xFFFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 39] = ((values[valueOffset + 44] & 0xFFFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 45] & 0xFFFFFFFFFFFFFFL) << 24);
+        words[wordOffset + 40] = ((values[valueOffset + 45] & 0xFFFFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 46] & 0xFFFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 41] = ((values[valueOffset + 46] & 0xFFFFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 47] & 0xFFFFFFFFFFFFFFL) << 8);
+        words[wordOffset + 42] = (values[valueOffset + 48] & 0xFFFFFFFFFFFFFFL)
+                | ((values[valueOffset + 49] & 0xFFFFFFFFFFFFFFL) << 56);
+        words[wordOffset + 43] = ((values[valueOffset + 49] & 0xFFFFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 50] & 0xFFFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 44] = ((values[valueOffset + 50] & 0xFFFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 51] & 0xFFFFFFFFFFFFFFL) << 40);
+        words[wordOffset + 45] = ((values[valueOffset + 51] & 0xFFFFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 52] & 0xFFFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 46] = ((values[valueOffset + 52] & 0xFFFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 53] & 0xFFFFFFFFFFFFFFL) << 24);
+        words[wordOffset + 47] = ((values[valueOffset + 53] & 0xFFFFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 54] & 0xFFFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 48] = ((values[valueOffset + 54] & 0xFFFFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 55] & 0xFFFFFFFFFFFFFFL) << 8);
+        words[wordOffset + 49] = (values[valueOffset + 56] & 0xFFFFFFFFFFFFFFL)
+                | ((values[valueOffset + 57] & 0xFFFFFFFFFFFFFFL) << 56);
+        words[wordOffset + 50] = ((values[valueOffset + 57] & 0xFFFFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 58] & 0xFFFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 51] = ((values[valueOffset + 58] & 0xFFFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 59] & 0xFFFFFFFFFFFFFFL) << 40);
+        words[wordOffset + 52] = ((values[valueOffset + 59] & 0xFFFFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 60] & 0xFFFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 53] = ((values[valueOffset + 60] & 0xFFFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 61] & 0xFFFFFFFFFFFFFFL) << 24);
+        words[wordOffset + 54] = ((values[valueOffset + 61] & 0xFFFFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 62] & 0xFFFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 55] = ((values[valueOffset + 62] & 0xFFFFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 63] & 0xFFFFFFFFFFFFFFL) << 8);
+    }
+
+    private static void pack57(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x1FFFFFFFFFFFFFFL)
+                | ((values[valueOffset + 1] & 0x1FFFFFFFFFFFFFFL) << 57);
+        words[wordOffset + 1] = ((values[valueOffset + 1] & 0x1FFFFFFFFFFFFFFL) >>> 7)
+                | ((values[valueOffset + 2] & 0x1FFFFFFFFFFFFFFL) << 50);
+        words[wordOffset + 2] = ((values[valueOffset + 2] & 0x1FFFFFFFFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 3] & 0x1FFFFFFFFFFFFFFL) << 43);
+        words[wordOffset + 3] = ((values[valueOffset + 3] & 0x1FFFFFFFFFFFFFFL) >>> 21)
+                | ((values[valueOffset + 4] & 0x1FFFFFFFFFFFFFFL) << 36);
+        words[wordOffset + 4] = ((values[valueOffset + 4] & 0x1FFFFFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 5] & 0x1FFFFFFFFFFFFFFL) << 29);
+        words[wordOffset + 5] = ((values[valueOffset + 5] & 0x1FFFFFFFFFFFFFFL) >>> 35)
+                | ((values[valueOffset + 6] & 0x1FFFFFFFFFFFFFFL) << 22);
+        words[wordOffset + 6] = ((values[valueOffset + 6] & 0x1FFFFFFFFFFFFFFL) >>> 42)
+                | ((values[valueOffset + 7] & 0x1FFFFFFFFFFFFFFL) << 15);
+        words[wordOffset + 7] = ((values[valueOffset + 7] & 0x1FFFFFFFFFFFFFFL) >>> 49)
+                | ((values[valueOffset + 8] & 0x1FFFFFFFFFFFFFFL) << 8);
+        words[wordOffset + 8] = ((values[valueOffset + 8] & 0x1FFFFFFFFFFFFFFL) >>> 56)
+                | ((values[valueOffset + 9] & 0x1FFFFFFFFFFFFFFL) << 1)
+                | ((values[valueOffset + 10] & 0x1FFFFFFFFFFFFFFL) << 58);
+        words[wordOffset + 9] = ((values[valueOffset + 10] & 0x1FFFFFFFFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 11] & 0x1FFFFFFFFFFFFFFL) << 51);
+        words[wordOffset + 10] = ((values[valueOffset + 11] & 0x1FFFFFFFFFFFFFFL) >>> 13)
+                | ((values[valueOffset + 12] & 0x1FFFFFFFFFFFFFFL) << 44);
+        words[wordOffset + 11] = ((values[valueOffset + 12] & 0x1FFFFFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 13] & 0x1FFFFFFFFFFFFFFL) << 37);
+        words[wordOffset + 12] = ((values[valueOffset + 13] & 0x1FFFFFFFFFFFFFFL) >>> 27)
+                | ((values[valueOffset + 14] & 0x1FFFFFFFFFFFFFFL) << 30);
+        words[wordOffset + 13] = ((values[valueOffset + 14] & 0x1FFFFFFFFFFFFFFL) >>> 34)
+                | ((values[valueOffset + 15] & 0x1FFFFFFFFFFFFFFL) << 23);
+        words[wordOffset + 14] = ((values[valueOffset + 15] & 0x1FFFFFFFFFFFFFFL) >>> 41)
+                | ((values[valueOffset + 16] & 0x1FFFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 15] = ((values[valueOffset + 16] & 0x1FFFFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 17] & 0x1FFFFFFFFFFFFFFL) << 9);
+        words[wordOffset + 16] = ((values[valueOffset + 17] & 0x1FFFFFFFFFFFFFFL) >>> 55)
+                | ((values[valueOffset + 18] & 0x1FFFFFFFFFFFFFFL) << 2)
+                | ((values[valueOffset + 19] & 0x1FFFFFFFFFFFFFFL) << 59);
+        words[wordOffset + 17] = ((values[valueOffset + 19] & 0x1FFFFFFFFFFFFFFL) >>> 5)
+                | ((values[valueOffset + 20] & 0x1FFFFFFFFFFFFFFL) << 52);
+        words[wordOffset + 18] = ((values[valueOffset + 20] & 0x1FFFFFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 21] & 0x1FFFFFFFFFFFFFFL) << 45);
+        words[wordOffset + 19] = ((values[valueOffset + 21] & 0x1FFFFFFFFFFFFFFL) >>> 19)
+                | ((values[valueOffset + 22] & 0x1FFFFFFFFFFFFFFL) << 38);
+        words[wordOffset + 20] = ((values[valueOffset + 22] & 0x1FFFFFFFFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 23] & 0x1FFFFFFFFFFFFFFL) << 31);
+        words[wordOffset + 21] = ((values[valueOffset + 23] & 0x1FFFFFFFFFFFFFFL) >>> 33)
+                | ((values[valueOffset + 24] & 0x1FFFFFFFFFFFFFFL) << 24);
+        words[wordOffset + 22] = ((values[valueOffset + 24] & 0x1FFFFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 25] & 0x1FFFFFFFFFFFFFFL) << 17);
+        words[wordOffset + 23] = ((values[valueOffset + 25] & 0x1FFFFFFFFFFFFFFL) >>> 47)
+                | ((values[valueOffset + 26] & 0x1FFFFFFFFFFFFFFL) << 10);
+        words[wordOffset + 24] = ((values[valueOffset + 26] & 0x1FFFFFFFFFFFFFFL) >>> 54)
+                | ((values[valueOffset + 27] & 0x1FFFFFFFFFFFFFFL) << 3)
+                | ((values[valueOffset + 28] & 0x1FFFFFFFFFFFFFFL) << 60);
+        words[wordOffset + 25] = ((values[valueOffset + 28] & 0x1FFFFFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 29] & 0x1FFFFFFFFFFFFFFL) << 53);
+        words[wordOffset + 26] = ((values[valueOffset + 29] & 0x1FFFFFFFFFFFFFFL) >>> 11)
+                | ((values[valueOffset + 30] & 0x1FFFFFFFFFFFFFFL) << 46);
+        words[wordOffset + 27] = ((values[valueOffset + 30] & 0x1FFFFFFFFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 31] & 0x1FFFFFFFFFFFFFFL) << 39);
+        words[wordOffset + 28] = ((values[valueOffset + 31] & 0x1FFFFFFFFFFFFFFL) >>> 25)
+                | ((values[valueOffset + 32] & 0x1FFFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 29] = ((values[valueOffset + 32] & 0x1FFFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 33] & 0x1FFFFFFFFFFFFFFL) << 25);
+        words[wordOffset + 30] = ((values[valueOffset + 33] & 0x1FFFFFFFFFFFFFFL) >>> 39)
+                | ((values[valueOffset + 34] & 0x1FFFFFFFFFFFFFFL) << 18);
+        words[wordOffset + 31] = ((values[valueOffset + 34] & 0x1FFFFFFFFFFFFFFL) >>> 46)
+                | ((values[valueOffset + 35] & 0x1FFFFFFFFFFFFFFL) << 11);
+        words[wordOffset + 32] = ((values[valueOffset + 35] & 0x1FFFFFFFFFFFFFFL) >>> 53)
+                | ((values[valueOffset + 36] & 0x1FFFFFFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 37] & 0x1FFFFFFFFFFFFFFL) << 61);
+        words[wordOffset + 33] = ((values[valueOffset + 37] & 0x1FFFFFFFFFFFFFFL) >>> 3)
+                | ((values[valueOffset + 38] & 0x1FFFFFFFFFFFFFFL) << 54);
+        words[wordOffset + 34] = ((values[valueOffset + 38] & 0x1FFFFFFFFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 39] & 0x1FFFFFFFFFFFFFFL) << 47);
+        words[wordOffset + 35] = ((values[valueOffset + 39] & 0x1FFFFFFFFFFFFFFL) >>> 17)
+                | ((values[valueOffset + 40] & 0x1FFFFFFFFFFFFFFL) << 40);
+        words[wordOffset + 36] = ((values[valueOffset + 40] & 0x1FFFFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 41] & 0x1FFFFFFFFFFFFFFL) << 33);
+        words[wordOffset + 37] = ((values[valueOffset + 41] & 0x1FFFFFFFFFFFFFFL) >>> 31)
+                | ((values[valueOffset + 42] & 0x1FFFFFFFFFFFFFFL) << 26);
+        words[wordOffset + 38] = ((values[valueOffset + 42] & 0x1FFFFFFFFFFFFFFL) >>> 38)
+                | ((values[valueOffset + 43] & 0x1FFFFFFFFFFFFFFL) << 19);
+        words[wordOffset + 39] = ((values[valueOffset + 43] & 0x1FFFFFFFFFFFFFFL) >>> 45)
+                | ((values[valueOffset + 44] & 0x1FFFFFFFFFFFFFFL) << 12);
+        words[wordOffset + 40] = ((values[valueOffset + 44] & 0x1FFFFFFFFFFFFFFL) >>> 52)
+                | ((values[valueOffset + 45] & 0x1FFFFFFFFFFFFFFL) << 5)
+                | ((values[valueOffset + 46] & 0x1FFFFFFFFFFFFFFL) << 62);
+        words[wordOffset + 41] = ((values[valueOffset + 46] & 0x1FFFFFFFFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 47] & 0x1FFFFFFFFFFFFFFL) << 55);
+        words[wordOffset + 42] = ((values[valueOffset + 47] & 0x1FFFFFFFFFFFFFFL) >>> 9)
+                | ((values[valueOffset + 48] & 0x1FFFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 43] = ((values[valueOffset + 48] & 0x1FFFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 49] & 0x1FFFFFFFFFFFFFFL) << 41);
+        words[wordOffset + 44] = ((values[valueOffset + 49] & 0x1FFFFFFFFFFFFFFL) >>> 23)
+                | ((values[valueOffset + 50] & 0x1FFFFFFFFFFFFFFL) << 34);
+        words[wordOffset + 45] = ((values[valueOffset + 50] & 0x1FFFFFFFFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 51] & 0x1FFFFFFFFFFFFFFL) << 27);
+        words[wordOffset + 46] = ((values[valueOffset + 51] & 0x1FFFFFFFFFFFFFFL) >>> 37)
+                | ((values[valueOffset + 52] & 0x1FFFFFFFFFFFFFFL) << 20);
+        words[wordOffset + 47] = ((values[valueOffset + 52] & 0x1FFFFFFFFFFFFFFL) >>> 44)
+                | ((values[valueOffset + 53] & 0x1FFFFFFFFFFFFFFL) << 13);
+        words[wordOffset + 48] = ((values[valueOffset + 53] & 0x1FFFFFFFFFFFFFFL) >>> 51)
+                | ((values[valueOffset + 54] & 0x1FFFFFFFFFFFFFFL) << 6)
+                | ((values[valueOffset + 55] & 0x1FFFFFFFFFFFFFFL) << 63);
+        words[wordOffset + 49] = ((values[valueOffset + 55] & 0x1FFFFFFFFFFFFFFL) >>> 1)
+                | ((values[valueOffset + 56] & 0x1FFFFFFFFFFFFFFL) << 56);
+        words[wordOffset + 50] = ((values[valueOffset + 56] & 0x1FFFFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 57] & 0x1FFFFFFFFFFFFFFL) << 49);
+        words[wordOffset + 51] = ((values[valueOffset + 57] & 0x1FFFFFFFFFFFFFFL) >>> 15)
+                | ((values[valueOffset + 58] & 0x1FFFFFFFFFFFFFFL) << 42);
+        words[wordOffset + 52] = ((values[valueOffset + 58] & 0x1FFFFFFFFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 59] & 0x1FFFFFFFFFFFFFFL) << 35);
+        words[wordOffset + 53] = ((values[valueOffset + 59] & 0x1FFFFFFFFFFFFFFL) >>> 29)
+                | ((values[valueOffset + 60] & 0x1FFFFFFFFFFFFFFL) << 28);
+        words[wordOffset + 54] = ((values[valueOffset + 60] & 0x1FFFFFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 61] & 0x1FFFFFFFFFFFFFFL) << 21);
+        words[wordOffset + 55] = ((values[valueOffset + 61] & 0x1FFFFFFFFFFFFFFL) >>> 43)
+                | ((values[valueOffset + 62] & 0x1FFFFFFFFFFFFFFL) << 14);
+        words[wordOffset + 56] = ((values[valueOffset + 62] & 0x1FFFFFFFFFFFFFFL) >>> 50)
+                | ((values[valueOffset + 63] & 0x1FFFFFFFFFFFFFFL) << 7);
+    }
+
+    private static void pack58(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x3FFFFFFFFFFFFFFL)
+                | ((values[valueOffset + 1] & 0x3FFFFFFFFFFFFFFL) << 58);
+        words[wordOffset + 1] = ((values[valueOffset + 1] & 0x3FFFFFFFFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 2] & 0x3FFFFFFFFFFFFFFL) << 52);
+        words[wordOffset + 2] = ((values[valueOffset + 2] & 0x3FFFFFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 3] & 0x3FFFFFFFFFFFFFFL) << 46);
+        words[wordOffset + 3] = ((values[valueOffset + 3] & 0x3FFFFFFFFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 4] & 0x3FFFFFFFFFFFFFFL) << 40);
+        words[wordOffset + 4] = ((values[valueOffset + 4] & 0x3FFFFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 5] & 0x3FFFFFFFFFFFFFFL) << 34);
+        words[wordOffset + 5] = ((values[valueOffset + 5] & 0x3FFFFFFFFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 6] & 0x3FFFFFFFFFFFFFFL) << 28);
+        words[wordOffset + 6] = ((values[valueOffset + 6] & 0x3FFFFFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 7] & 0x3FFFFFFFFFFFFFFL) << 22);
+        words[wordOffset + 7] = ((values[valueOffset + 7] & 0x3FFFFFFFFFFFFFFL) >>> 42)
+                | ((values[valueOffset + 8] & 0x3FFFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 8] = ((values[valueOffset + 8] & 0x3FFFFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 9] & 0x3FFFFFFFFFFFFFFL) << 10);
+        words[wordOffset + 9] = ((values[valueOffset + 9] & 0x3FFFFFFFFFFFFFFL) >>> 54)
+                | ((values[valueOffset + 10] & 0x3FFFFFFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 11] & 0x3FFFFFFFFFFFFFFL) << 62);
+        words[wordOffset + 10] = ((values[valueOffset + 11] & 0x3FFFFFFFFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 12] & 0x3FFFFFFFFFFFFFFL) << 56);
+        words[wordOffset + 11] = ((values[valueOffset + 12] & 0x3FFFFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 13] & 0x3FFFFFFFFFFFFFFL) << 50);
+        words[wordOffset + 12] = ((values[valueOffset + 13] & 0x3FFFFFFFFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 14] & 0x3FFFFFFFFFFFFFFL) << 44);
+        words[wordOffset + 13] = ((values[valueOffset + 14] & 0x3FFFFFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 15] & 0x3FFFFFFFFFFFFFFL) << 38);
+        words[wordOffset + 14] = ((values[valueOffset + 15] & 0x3FFFFFFFFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 16] & 0x3FFFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 15] = ((values[valueOffset + 16] & 0x3FFFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 17] & 0x3FFFFFFFFFFFFFFL) << 26);
+        words[wordOffset + 16] = ((values[valueOffset + 17] & 0x3FFFFFFFFFFFFFFL) >>> 38)
+                | ((values[valueOffset + 18] & 0x3FFFFFFFFFFFFFFL) << 20);
+        words[wordOffset + 17] = ((values[valueOffset + 18] & 0x3FFFFFFFFFFFFFFL) >>> 44)
+                | ((values[valueOffset + 19] & 0x3FFFFFFFFFFFFFFL) << 14);
+        words[wordOffset + 18] = ((values[valueOffset + 19] & 0x3FFFFFFFFFFFFFFL) >>> 50)
+                | ((values[valueOffset + 20] & 0x3FFFFFFFFFFFFFFL) << 8);
+        words[wordOffset + 19] = ((values[valueOffset + 20] & 0x3FFFFFFFFFFFFFFL) >>> 56)
+                | ((values[valueOffset + 21] & 0x3FFFFFFFFFFFFFFL) << 2)
+                | ((values[valueOffset + 22] & 0x3FFFFFFFFFFFFFFL) << 60);
+        words[wordOffset + 20] = ((values[valueOffset + 22] & 0x3FFFFFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 23] & 0x3FFFFFFFFFFFFFFL) << 54);
+        words[wordOffset + 21] = ((values[valueOffset + 23] & 0x3FFFFFFFFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 24] & 0x3FFFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 22] = ((values[valueOffset + 24] & 0x3FFFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 25] & 0x3FFFFFFFFFFFFFFL) << 42);
+        words[wordOffset + 23] = ((values[valueOffset + 25] & 0x3FFFFFFFFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 26] & 0x3FFFFFFFFFFFFFFL) << 36);
+        words[wordOffset + 24] = ((values[valueOffset + 26] & 0x3FFFFFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 27] & 0x3FFFFFFFFFFFFFFL) << 30);
+        words[wordOffset + 25] = ((values[valueOffset + 27] & 0x3FFFFFFFFFFFFFFL) >>> 34)
+                | ((values[valueOffset + 28] & 0x3FFFFFFFFFFFFFFL) << 24);
+        words[wordOffset + 26] = ((values[valueOffset + 28] & 0x3FFFFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 29] & 0x3FFFFFFFFFFFFFFL) << 18);
+        words[wordOffset + 27] = ((values[valueOffset + 29] & 0x3FFFFFFFFFFFFFFL) >>> 46)
+                | ((values[valueOffset + 30] & 0x3FFFFFFFFFFFFFFL) << 12);
+        words[wordOffset + 28] = ((values[valueOffset + 30] & 0x3FFFFFFFFFFFFFFL) >>> 52)
+                | ((values[valueOffset + 31] & 0x3FFFFFFFFFFFFFFL) << 6);
+        words[wordOffset + 29] = (values[valueOffset + 32] & 0x3FFFFFFFFFFFFFFL)
+                | ((values[valueOffset + 33] & 0x3FFFFFFFFFFFFFFL) << 58);
+        words[wordOffset + 30] = ((values[valueOffset + 33] & 0x3FFFFFFFFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 34] & 0x3FFFFFFFFFFFFFFL) << 52);
+        words[wordOffset + 31] = ((values[valueOffset + 34] & 0x3FFFFFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 35] & 0x3FFFFFFFFFFFFFFL) << 46);
+        words[wordOffset + 32] = ((values[valueOffset + 35] & 0x3FFFFFFFFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 36] & 0x3FFFFFFFFFFFFFFL) << 40);
+        words[wordOffset + 33] = ((values[valueOffset + 36] & 0x3FFFFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 37] & 0x3FFFFFFFFFFFFFFL) << 34);
+        words[wordOffset + 34] = ((values[valueOffset + 37] & 0x3FFFFFFFFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 38] & 0x3FFFFFFFFFFFFFFL) << 28);
+        words[wordOffset + 35] = ((values[valueOffset + 38] & 0x3FFFFFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 39] & 0x3FFFFFFFFFFFFFFL) << 22);
+        words[wordOffset + 36] = ((values[valueOffset + 39] & 0x3FFFFFFFFFFFFFFL) >>> 42)
+                | ((values[valueOffset + 40] & 0x3FFFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 37] = ((values[valueOffset + 40] & 0x3FFFFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 41] & 0x3FFFFFFFFFFFFFFL) << 10);
+        words[wordOffset + 38] = ((values[valueOffset + 41] & 0x3FFFFFFFFFFFFFFL) >>> 54)
+                | ((values[valueOffset + 42] & 0x3FFFFFFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 43] & 0x3FFFFFFFFFFFFFFL) << 62);
+        words[wordOffset + 39] = ((values[valueOffset + 43] & 0x3FFFFFFFFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 44] & 0x3FFFFFFFFFFFFFFL) << 56);
+        words[wordOffset + 40] = ((values[valueOffset + 44] & 0x3FFFFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 45] & 0x3FFFFFFFFFFFFFFL) << 50);
+        words[wordOffset + 41] = ((values[valueOffset + 45] & 0x3FFFFFFFFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 46] & 0x3FFFFFFFFFFFFFFL) << 44);
+        words[wordOffset + 42] = ((values[valueOffset + 46] & 0x3FFFFFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 47] & 0x3FFFFFFFFFFFFFFL) << 38);
+        words[wordOffset + 43] = ((values[valueOffset + 47] & 0x3FFFFFFFFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 48] & 0x3FFFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 44] = ((values[valueOffset + 48] & 0x3FFFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 49] & 0x3FFFFFFFFFFFFFFL) << 26);
+        words[wordOffset + 45] = ((values[valueOffset + 49] & 0x3FFFFFFFFFFFFFFL) >>> 38)
+                | ((values[valueOffset + 50] & 0x3FFFFFFFFFFFFFFL) << 20);
+        words[wordOffset + 46] = ((values[valueOffset + 50] & 0x3FFFFFFFFFFFFFFL) >>> 44)
+                | ((values[valueOffset + 51] & 0x3FFFFFFFFFFFFFFL) << 14);
+        words[wordOffset + 47] = ((values[valueOffset + 51] & 0x3FFFFFFFFFFFFFFL) >>> 50)
+                | ((values[valueOffset + 52] & 0x3FFFFFFFFFFFFFFL) << 8);
+        words[wordOffset + 48] = ((values[valueOffset + 52] & 0x3FFFFFFFFFFFFFFL) >>> 56)
+                | ((values[valueOffset + 53] & 0x3FFFFFFFFFFFFFFL) << 2)
+                | ((values[valueOffset + 54] & 0x3FFFFFFFFFFFFFFL) << 60);
+        words[wordOffset + 49] = ((values[valueOffset + 54] & 0x3FFFFFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 55] & 0x3FFFFFFFFFFFFFFL) << 54);
+        words[wordOffset + 50] = ((values[valueOffset + 55] & 0x3FFFFFFFFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 56] & 0x3FFFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 51] = ((values[valueOffset + 56] & 0x3FFFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 57] & 0x3FFFFFFFFFFFFFFL) << 42);
+        words[wordOffset + 52] = ((values[valueOffset + 57] & 0x3FFFFFFFFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 58] & 0x3FFFFFFFFFFFFFFL) << 36);
+        words[wordOffset + 53] = ((values[valueOffset + 58] & 0x3FFFFFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 59] & 0x3FFFFFFFFFFFFFFL) << 30);
+        words[wordOffset + 54] = ((values[valueOffset + 59] & 0x3FFFFFFFFFFFFFFL) >>> 34)
+                | ((values[valueOffset + 60] & 0x3FFFFFFFFFFFFFFL) << 24);
+        words[wordOffset + 55] = ((values[valueOffset + 60] & 0x3FFFFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 61] & 0x3FFFFFFFFFFFFFFL) << 18);
+        words[wordOffset + 56] = ((values[valueOffset + 61] & 0x3FFFFFFFFFFFFFFL) >>> 46)
+                | ((values[valueOffset + 62] & 0x3FFFFFFFFFFFFFFL) << 12);
+        words[wordOffset + 57] = ((values[valueOffset + 62] & 0x3FFFFFFFFFFFFFFL) >>> 52)
+                | ((values[valueOffset + 63] & 0x3FFFFFFFFFFFFFFL) << 6);
+    }
+
+    private static void pack59(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x7FFFFFFFFFFFFFFL)
+                | ((values[valueOffset + 1] & 0x7FFFFFFFFFFFFFFL) << 59);
+        words[wordOffset + 1] = ((values[valueOffset + 1] & 0x7FFFFFFFFFFFFFFL) >>> 5)
+                | ((values[valueOffset + 2] & 0x7FFFFFFFFFFFFFFL) << 54);
+        words[wordOffset + 2] = ((values[valueOffset + 2] & 0x7FFFFFFFFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 3] & 0x7FFFFFFFFFFFFFFL) << 49);
+        words[wordOffset + 3] = ((values[valueOffset + 3] & 0x7FFFFFFFFFFFFFFL) >>> 15)
+                | ((values[valueOffset + 4] & 0x7FFFFFFFFFFFFFFL) << 44);
+        words[wordOffset + 4] = ((values[valueOffset + 4] & 0x7FFFFFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 5] & 0x7FFFFFFFFFFFFFFL) << 39);
+        words[wordOffset + 5] = ((values[valueOffset + 5] & 0x7FFFFFFFFFFFFFFL) >>> 25)
+                | ((values[valueOffset + 6] & 0x7FFFFFFFFFFFFFFL) << 34);
+        words[wordOffset + 6] = ((values[valueOffset + 6] & 0x7FFFFFFFFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 7] & 0x7FFFFFFFFFFFFFFL) << 29);
+        words[wordOffset + 7] = ((values[valueOffset + 7] & 0x7FFFFFFFFFFFFFFL) >>> 35)
+                | ((values[valueOffset + 8] & 0x7FFFFFFFFFFFFFFL) << 24);
+        words[wordOffset + 8] = ((values[valueOffset + 8] & 0x7FFFFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 9] & 0x7FFFFFFFFFFFFFFL) << 19);
+        words[wordOffset + 9] = ((values[valueOffset + 9] & 0x7FFFFFFFFFFFFFFL) >>> 45)
+                | ((values[valueOffset + 10] & 0x7FFFFFFFFFFFFFFL) << 14);
+        words[wordOffset + 10] = ((values[valueOffset + 10] & 0x7FFFFFFFFFFFFFFL) >>> 50)
+                | ((values[valueOffset + 11] & 0x7FFFFFFFFFFFFFFL) << 9);
+        words[wordOffset + 11] = ((values[valueOffset + 11] & 0x7FFFFFFFFFFFFFFL) >>> 55)
+                | ((values[valueOffset + 12] & 0x7FFFFFFFFFFFFFFL) << 4)
+                | ((values[valueOffset + 13] & 0x7FFFFFFFFFFFFFFL) << 63);
+        words[wordOffset + 12] = ((values[valueOffset + 13] & 0x7FFFFFFFFFFFFFFL) >>> 1)
+                | ((values[valueOffset + 14] & 0x7FFFFFFFFFFFFFFL) << 58);
+        words[wordOffset + 13] = ((values[valueOffset + 14] & 0x7FFFFFFFFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 15] & 0x7FFFFFFFFFFFFFFL) << 53);
+        words[wordOffset + 14] = ((values[valueOffset + 15] & 0x7FFFFFFFFFFFFFFL) >>> 11)
+                | ((values[valueOffset + 16] & 0x7FFFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 15] = ((values[valueOffset + 16] & 0x7FFFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 17] & 0x7FFFFFFFFFFFFFFL) << 43);
+        words[wordOffset + 16] = ((values[valueOffset + 17] & 0x7FFFFFFFFFFFFFFL) >>> 21)
+                | ((values[valueOffset + 18] & 0x7FFFFFFFFFFFFFFL) << 38);
+        words[wordOffset + 17] = ((values[valueOffset + 18] & 0x7FFFFFFFFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 19] & 0x7FFFFFFFFFFFFFFL) << 33);
+        words[wordOffset + 18] = ((values[valueOffset + 19] & 0x7FFFFFFFFFFFFFFL) >>> 31)
+                | ((values[valueOffset + 20] & 0x7FFFFFFFFFFFFFFL) << 28);
+        words[wordOffset + 19] = ((values[valueOffset + 20] & 0x7FFFFFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 21] & 0x7FFFFFFFFFFFFFFL) << 23);
+        words[wordOffset + 20] = ((values[valueOffset + 21] & 0x7FFFFFFFFFFFFFFL) >>> 41)
+                | ((values[valueOffset + 22] & 0x7FFFFFFFFFFFFFFL) << 18);
+        words[wordOffset + 21] = ((values[valueOffset + 22] & 0x7FFFFFFFFFFFFFFL) >>> 46)
+                | ((values[valueOffset + 23] & 0x7FFFFFFFFFFFFFFL) << 13);
+        words[wordOffset + 22] = ((values[valueOffset + 23] & 0x7FFFFFFFFFFFFFFL) >>> 51)
+                | ((values[valueOffset + 24] & 0x7FFFFFFFFFFFFFFL) << 8);
+        words[wordOffset + 23] = ((values[valueOffset + 24] & 0x7FFFFFFFFFFFFFFL) >>> 56)
+                | ((values[valueOffset + 25] & 0x7FFFFFFFFFFFFFFL) << 3)
+                | ((values[valueOffset + 26] & 0x7FFFFFFFFFFFFFFL) << 62);
+        words[wordOffset + 24] = ((values[valueOffset + 26] & 0x7FFFFFFFFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 27] & 0x7FFFFFFFFFFFFFFL) << 57);
+        words[wordOffset + 25] = ((values[valueOffset + 27] & 0x7FFFFFFFFFFFFFFL) >>> 7)
+                | ((values[valueOffset + 28] & 0x7FFFFFFFFFFFFFFL) << 52);
+        words[wordOffset + 26] = ((values[valueOffset + 28] & 0x7FFFFFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 29] & 0x7FFFFFFFFFFFFFFL) << 47);
+        words[wordOffset + 27] = ((values[valueOffset + 29] & 0x7FFFFFFFFFFFFFFL) >>> 17)
+                | ((values[valueOffset + 30] & 0x7FFFFFFFFFFFFFFL) << 42);
+        words[wordOffset + 28] = ((values[valueOffset + 30] & 0x7FFFFFFFFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 31] & 0x7FFFFFFFFFFFFFFL) << 37);
+        words[wordOffset + 29] = ((values[valueOffset + 31] & 0x7FFFFFFFFFFFFFFL) >>> 27)
+                | ((values[valueOffset + 32] & 0x7FFFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 30] = ((values[valueOffset + 32] & 0x7FFFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 33] & 0x7FFFFFFFFFFFFFFL) << 27);
+        words[wordOffset + 31] = ((values[valueOffset + 33] & 0x7FFFFFFFFFFFFFFL) >>> 37)
+                | ((values[valueOffset + 34] & 0x7FFFFFFFFFFFFFFL) << 22);
+        words[wordOffset + 32] = ((values[valueOffset + 34] & 0x7FFFFFFFFFFFFFFL) >>> 42)
+                | ((values[valueOffset + 35] & 0x7FFFFFFFFFFFFFFL) << 17);
+        words[wordOffset + 33] = ((values[valueOffset + 35] & 0x7FFFFFFFFFFFFFFL) >>> 47)
+                | ((values[valueOffset + 36] & 0x7FFFFFFFFFFFFFFL) << 12);
+        words[wordOffset + 34] = ((values[valueOffset + 36] & 0x7FFFFFFFFFFFFFFL) >>> 52)
+                | ((values[valueOffset + 37] & 0x7FFFFFFFFFFFFFFL) << 7);
+        words[wordOffset + 35] = ((values[valueOffset + 37] & 0x7FFFFFFFFFFFFFFL) >>> 57)
+                | ((values[valueOffset + 38] & 0x7FFFFFFFFFFFFFFL) << 2)
+                | ((values[valueOffset + 39] & 0x7FFFFFFFFFFFFFFL) << 61);
+        words[wordOffset + 36] = ((values[valueOffset + 39] & 0x7FFFFFFFFFFFFFFL) >>> 3)
+                | ((values[valueOffset + 40] & 0x7FFFFFFFFFFFFFFL) << 56);
+        words[wordOffset + 37] = ((values[valueOffset + 40] & 0x7FFFFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 41] & 0x7FFFFFFFFFFFFFFL) << 51);
+        words[wordOffset + 38] = ((values[valueOffset + 41] & 0x7FFFFFFFFFFFFFFL) >>> 13)
+                | ((values[valueOffset + 42] & 0x7FFFFFFFFFFFFFFL) << 46);
+        words[wordOffset + 39] = ((values[valueOffset + 42] & 0x7FFFFFFFFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 43] & 0x7FFFFFFFFFFFFFFL) << 41);
+        words[wordOffset + 40] = ((values[valueOffset + 43] & 0x7FFFFFFFFFFFFFFL) >>> 23)
+                | ((values[valueOffset + 44] & 0x7FFFFFFFFFFFFFFL) << 36);
+        words[wordOffset + 41] = ((values[valueOffset + 44] & 0x7FFFFFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 45] & 0x7FFFFFFFFFFFFFFL) << 31);
+        words[wordOffset + 42] = ((values[valueOffset + 45] & 0x7FFFFFFFFFFFFFFL) >>> 33)
+                | ((values[valueOffset + 46] & 0x7FFFFFFFFFFFFFFL) << 26);
+        words[wordOffset + 43] = ((values[valueOffset + 46] & 0x7FFFFFFFFFFFFFFL) >>> 38)
+                | ((values[valueOffset + 47] & 0x7FFFFFFFFFFFFFFL) << 21);
+        words[wordOffset + 44] = ((values[valueOffset + 47] & 0x7FFFFFFFFFFFFFFL) >>> 43)
+                | ((values[valueOffset + 48] & 0x7FFFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 45] = ((values[valueOffset + 48] & 0x7FFFFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 49] & 0x7FFFFFFFFFFFFFFL) << 11);
+        words[wordOffset + 46] = ((values[valueOffset + 49] & 0x7FFFFFFFFFFFFFFL) >>> 53)
+                | ((values[valueOffset + 50] & 0x7FFFFFFFFFFFFFFL) << 6);
+        words[wordOffset + 47] = ((values[valueOffset + 50] & 0x7FFFFFFFFFFFFFFL) >>> 58)
+                | ((values[valueOffset + 51] & 0x7FFFFFFFFFFFFFFL) << 1)
+                | ((values[valueOffset + 52] & 0x7FFFFFFFFFFFFFFL) << 60);
+        words[wordOffset + 48] = ((values[valueOffset + 52] & 0x7FFFFFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 53] & 0x7FFFFFFFFFFFFFFL) << 55);
+        words[wordOffset + 49] = ((values[valueOffset + 53] & 0x7FFFFFFFFFFFFFFL) >>> 9)
+                | ((values[valueOffset + 54] & 0x7FFFFFFFFFFFFFFL) << 50);
+        words[wordOffset + 50] = ((values[valueOffset + 54] & 0x7FFFFFFFFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 55] & 0x7FFFFFFFFFFFFFFL) << 45);
+        words[wordOffset + 51] = ((values[valueOffset + 55] & 0x7FFFFFFFFFFFFFFL) >>> 19)
+                | ((values[valueOffset + 56] & 0x7FFFFFFFFFFFFFFL) << 40);
+        words[wordOffset + 52] = ((values[valueOffset + 56] & 0x7FFFFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 57] & 0x7FFFFFFFFFFFFFFL) << 35);
+        words[wordOffset + 53] = ((values[valueOffset + 57] & 0x7FFFFFFFFFFFFFFL) >>> 29)
+                | ((values[valueOffset + 58] & 0x7FFFFFFFFFFFFFFL) << 30);
+        words[wordOffset + 54] = ((values[valueOffset + 58] & 0x7FFFFFFFFFFFFFFL) >>> 34)
+                | ((values[valueOffset + 59] & 0x7FFFFFFFFFFFFFFL) << 25);
+        words[wordOffset + 55] = ((values[valueOffset + 59] & 0x7FFFFFFFFFFFFFFL) >>> 39)
+                | ((values[valueOffset + 60] & 0x7FFFFFFFFFFFFFFL) << 20);
+        words[wordOffset + 56] = ((values[valueOffset + 60] & 0x7FFFFFFFFFFFFFFL) >>> 44)
+                | ((values[valueOffset + 61] & 0x7FFFFFFFFFFFFFFL) << 15);
+        words[wordOffset + 57] = ((values[valueOffset + 61] & 0x7FFFFFFFFFFFFFFL) >>> 49)
+                | ((values[valueOffset + 62] & 0x7FFFFFFFFFFFFFFL) << 10);
+        words[wordOffset + 58] = ((values[valueOffset + 62] & 0x7FFFFFFFFFFFFFFL) >>> 54)
+                | ((values[valueOffset + 63] & 0x7FFFFFFFFFFFFFFL) << 5);
+    }
+
+    private static void pack60(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0xFFFFFFFFFFFFFFFL)
+                | ((values[valueOffset + 1] & 0xFFFFFFFFFFFFFFFL) << 60);
+        words[wordOffset + 1] = ((values[valueOffset + 1] & 0xFFFFFFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 2] & 0xFFFFFFFFFFFFFFFL) << 56);
+        words[wordOffset + 2] = ((values[valueOffset + 2] & 0xFFFFFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 3] & 0xFFFFFFFFFFFFFFFL) << 52);
+        words[wordOffset + 3] = ((values[valueOffset + 3] & 0xFFFFFFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 4] & 0xFFFFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 4] = ((values[valueOffset + 4] & 0xFFFFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 5] & 0xFFFFFFFFFFFFFFFL) << 44);
+        words[wordOffset + 5] = ((values[valueOffset + 5] & 0xFFFFFFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 6] & 0xFFFFFFFFFFFFFFFL) << 40);
+        words[wordOffset + 6] = ((values[valueOffset + 6] & 0xFFFFFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 7] & 0xFFFFFFFFFFFFFFFL) << 36);
+        words[wordOffset + 7] = ((values[valueOffset + 7] & 0xFFFFFFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 8] & 0xFFFFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 8] = ((values[valueOffset + 8] & 0xFFFFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 9] & 0xFFFFFFFFFFFFFFFL) << 28);
+        words[wordOffset + 9] = ((values[valueOffset + 9] & 0xFFFFFFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 10] & 0xFFFFFFFFFFFFFFFL) << 24);
+        words[wordOffset + 10] = ((values[valueOffset + 10] & 0xFFFFFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 11] & 0xFFFFFFFFFFFFFFFL) << 20);
+        words[wordOffset + 11] = ((values[valueOffset + 11] & 0xFFFFFFFFFFFFFFFL) >>> 44)
+                | ((values[valueOffset + 12] & 0xFFFFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 12] = ((values[valueOffset + 12] & 0xFFFFFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 13] & 0xFFFFFFFFFFFFFFFL) << 12);
+        words[wordOffset + 13] = ((values[valueOffset + 13] & 0xFFFFFFFFFFFFFFFL) >>> 52)
+                | ((values[valueOffset + 14] & 0xFFFFFFFFFFFFFFFL) << 8);
+        words[wordOffset + 14] = ((values[valueOffset + 14] & 0xFFFFFFFFFFFFFFFL) >>> 56)
+                | ((values[valueOffset + 15] & 0xFFFFFFFFFFFFFFFL) << 4);
+        words[wordOffset + 15] = (values[valueOffset + 16] & 0xFFFFFFFFFFFFFFFL)
+                | ((values[valueOffset + 17] & 0xFFFFFFFFFFFFFFFL) << 60);
+        words[wordOffset + 16] = ((values[valueOffset + 17] & 0xFFFFFFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 18] & 0xFFFFFFFFFFFFFFFL) << 56);
+        words[wordOffset + 17] = ((values[valueOffset + 18] & 0xFFFFFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 19] & 0xFFFFFFFFFFFFFFFL) << 52);
+        words[wordOffset + 18] = ((values[valueOffset + 19] & 0xFFFFFFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 20] & 0xFFFFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 19] = ((values[valueOffset + 20] & 0xFFFFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 21] & 0xFFFFFFFFFFFFFFFL) << 44);
+        words[wordOffset + 20] = ((values[valueOffset + 21] & 0xFFFFFFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 22] & 0xFFFFFFFFFFFFFFFL) << 40);
+        words[wordOffset + 21] = ((values[valueOffset + 22] & 0xFFFFFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 23] & 0xFFFFFFFFFFFFFFFL) << 36);
+        words[wordOffset + 22] = ((values[valueOffset + 23] & 0xFFFFFFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 24] & 0xFFFFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 23] = ((values[valueOffset + 24] & 0xFFFFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 25] & 0xFFFFFFFFFFFFFFFL) << 28);
+        words[wordOffset + 24] = ((values[valueOffset + 25] & 0xFFFFFFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 26] & 0xFFFFFFFFFFFFFFFL) << 24);
+        words[wordOffset + 25] = ((values[valueOffset + 26] & 0xFFFFFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 27] & 0xFFFFFFFFFFFFFFFL) << 20);
+        words[wordOffset + 26] = ((values[valueOffset + 27] & 0xFFFFFFFFFFFFFFFL) >>> 44)
+                | ((values[valueOffset + 28] & 0xFFFFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 27] = ((values[valueOffset + 28] & 0xFFFFFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 29] & 0xFFFFFFFFFFFFFFFL) << 12);
+        words[wordOffset + 28] = ((values[valueOffset + 29] & 0xFFFFFFFFFFFFFFFL) >>> 52)
+                | ((values[valueOffset + 30] & 0xFFFFFFFFFFFFFFFL) << 8);
+        words[wordOffset + 29] = ((values[valueOffset + 30] & 0xFFFFFFFFFFFFFFFL) >>> 56)
+                | ((values[valueOffset + 31] & 0xFFFFFFFFFFFFFFFL) << 4);
+        words[wordOffset + 30] = (values[valueOffset + 32] & 0xFFFFFFFFFFFFFFFL)
+                | ((values[valueOffset + 33] & 0xFFFFFFFFFFFFFFFL) << 60);
+        words[wordOffset + 31] = ((values[valueOffset + 33] & 0xFFFFFFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 34] & 0xFFFFFFFFFFFFFFFL) << 56);
+        words[wordOffset + 32] = ((values[valueOffset + 34] & 0xFFFFFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 35] & 0xFFFFFFFFFFFFFFFL) << 52);
+        words[wordOffset + 33] = ((values[valueOffset + 35] & 0xFFFFFFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 36] & 0xFFFFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 34] = ((values[valueOffset + 36] & 0xFFFFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 37] & 0xFFFFFFFFFFFFFFFL) << 44);
+        words[wordOffset + 35] = ((values[valueOffset + 37] & 0xFFFFFFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 38] & 0xFFFFFFFFFFFFFFFL) << 40);
+        words[wordOffset + 36] = ((values[valueOffset + 38] & 0xFFFFFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 39] & 0xFFFFFFFFFFFFFFFL) << 36);
+        words[wordOffset + 37] = ((values[valueOffset + 39] & 0xFFFFFFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 40] & 0xFFFFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 38] = ((values[valueOffset + 40] & 0xFFFFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 41] & 0xFFFFFFFFFFFFFFFL) << 28);
+        words[wordOffset + 39] = ((values[valueOffset + 41] & 0xFFFFFFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 42] & 0xFFFFFFFFFFFFFFFL) << 24);
+        words[wordOffset + 40] = ((values[valueOffset + 42] & 0xFFFFFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 43] & 0xFFFFFFFFFFFFFFFL) << 20);
+        words[wordOffset + 41] = ((values[valueOffset + 43] & 0xFFFFFFFFFFFFFFFL) >>> 44)
+                | ((values[valueOffset + 44] & 0xFFFFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 42] = ((values[valueOffset + 44] & 0xFFFFFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 45] & 0xFFFFFFFFFFFFFFFL) << 12);
+        words[wordOffset + 43] = ((values[valueOffset + 45] & 0xFFFFFFFFFFFFFFFL) >>> 52)
+                | ((values[valueOffset + 46] & 0xFFFFFFFFFFFFFFFL) << 8);
+        words[wordOffset + 44] = ((values[valueOffset + 46] & 0xFFFFFFFFFFFFFFFL) >>> 56)
+                | ((values[valueOffset + 47] & 0xFFFFFFFFFFFFFFFL) << 4);
+        words[wordOffset + 45] = (values[valueOffset + 48] & 0xFFFFFFFFFFFFFFFL)
+                | ((values[valueOffset + 49] & 0xFFFFFFFFFFFFFFFL) << 60);
+        words[wordOffset + 46] = ((values[valueOffset + 49] & 0xFFFFFFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 50] & 0xFFFFFFFFFFFFFFFL) << 56);
+        words[wordOffset + 47] = ((values[valueOffset + 50] & 0xFFFFFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 51] & 0xFFFFFFFFFFFFFFFL) << 52);
+        words[wordOffset + 48] = ((values[valueOffset + 51] & 0xFFFFFFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 52] & 0xFFFFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 49] = ((values[valueOffset + 52] & 0xFFFFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 53] & 0xFFFFFFFFFFFFFFFL) << 44);
+        words[wordOffset + 50] = ((values[valueOffset + 53] & 0xFFFFFFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 54] & 0xFFFFFFFFFFFFFFFL) << 40);
+        words[wordOffset + 51] = ((values[valueOffset + 54] & 0xFFFFFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 55] & 0xFFFFFFFFFFFFFFFL) << 36);
+        words[wordOffset + 52] = ((values[valueOffset + 55] & 0xFFFFFFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 56] & 0xFFFFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 53] = ((values[valueOffset + 56] & 0xFFFFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 57] & 0xFFFFFFFFFFFFFFFL) << 28);
+        words[wordOffset + 54] = ((values[valueOffset + 57] & 0xFFFFFFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 58] & 0xFFFFFFFFFFFFFFFL) << 24);
+        words[wordOffset + 55] = ((values[valueOffset + 58] & 0xFFFFFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 59] & 0xFFFFFFFFFFFFFFFL) << 20);
+        words[wordOffset + 56] = ((values[valueOffset + 59] & 0xFFFFFFFFFFFFFFFL) >>> 44)
+                | ((values[valueOffset + 60] & 0xFFFFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 57] = ((values[valueOffset + 60] & 0xFFFFFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 61] & 0xFFFFFFFFFFFFFFFL) << 12);
+        words[wordOffset + 58] = ((values[valueOffset + 61] & 0xFFFFFFFFFFFFFFFL) >>> 52)
+                | ((values[valueOffset + 62] & 0xFFFFFFFFFFFFFFFL) << 8);
+        words[wordOffset + 59] = ((values[valueOffset + 62] & 0xFFFFFFFFFFFFFFFL) >>> 56)
+                | ((values[valueOffset + 63] & 0xFFFFFFFFFFFFFFFL) << 4);
+    }
+
+    private static void pack61(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x1FFFFFFFFFFFFFFFL)
+                | ((values[valueOffset + 1] & 0x1FFFFFFFFFFFFFFFL) << 61);
+        words[wordOffset + 1] = ((values[valueOffset + 1] & 0x1FFFFFFFFFFFFFFFL) >>> 3)
+                | ((values[valueOffset + 2] & 0x1FFFFFFFFFFFFFFFL) << 58);
+        words[wordOffset + 2] = ((values[valueOffset + 2] & 0x1FFFFFFFFFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 3] & 0x1FFFFFFFFFFFFFFFL) << 55);
+        words[wordOffset + 3] = ((values[valueOffset + 3] & 0x1FFFFFFFFFFFFFFFL) >>> 9)
+                | ((values[valueOffset + 4] & 0x1FFFFFFFFFFFFFFFL) << 52);
+        words[wordOffset + 4] = ((values[valueOffset + 4] & 0x1FFFFFFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 5] & 0x1FFFFFFFFFFFFFFFL) << 49);
+        words[wordOffset + 5] = ((values[valueOffset + 5] & 0x1FFFFFFFFFFFFFFFL) >>> 15)
+                | ((values[valueOffset + 6] & 0x1FFFFFFFFFFFFFFFL) << 46);
+        words[wordOffset + 6] = ((values[valueOffset + 6] & 0x1FFFFFFFFFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 7] & 0x1FFFFFFFFFFFFFFFL) << 43);
+        words[wordOffset + 7] = ((values[valueOffset + 7] & 0x1FFFFFFFFFFFFFFFL) >>> 21)
+                | ((values[valueOffset + 8] & 0x1FFFFFFFFFFFFFFFL) << 40);
+        words[wordOffset + 8] = ((values[valueOffset + 8] & 0x1FFFFFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 9] & 0x1FFFFFFFFFFFFFFFL) << 37);
+        words[wordOffset + 9] = ((values[valueOffset + 9] & 0x1FFFFFFFFFFFFFFFL) >>> 27)
+                | ((values[valueOffset + 10] & 0x1FFFFFFFFFFFFFFFL) << 34);
+        words[wordOffset + 10] = ((values[valueOffset + 10] & 0x1FFFFFFFFFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 11] & 0x1FFFFFFFFFFFFFFFL) << 31);
+        words[wordOffset + 11] = ((values[valueOffset + 11] & 0x1FFFFFFFFFFFFFFFL) >>> 33)
+                | ((values[valueOffset + 12] & 0x1FFFFFFFFFFFFFFFL) << 28);
+        words[wordOffset + 12] = ((values[valueOffset + 12] & 0x1FFFFFFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 13] & 0x1FFFFFFFFFFFFFFFL) << 25);
+        words[wordOffset + 13] = ((values[valueOffset + 13] & 0x1FFFFFFFFFFFFFFFL) >>> 39)
+                | ((values[valueOffset + 14] & 0x1FFFFFFFFFFFFFFFL) << 22);
+        words[wordOffset + 14] = ((values[valueOffset + 14] & 0x1FFFFFFFFFFFFFFFL) >>> 42)
+                | ((values[valueOffset + 15] & 0x1FFFFFFFFFFFFFFFL) << 19);
+        words[wordOffset + 15] = ((values[valueOffset + 15] & 0x1FFFFFFFFFFFFFFFL) >>> 45)
+                | ((values[valueOffset + 16] & 0x1FFFFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 16] = ((values[valueOffset + 16] & 0x1FFFFFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 17] & 0x1FFFFFFFFFFFFFFFL) << 13);
+        words[wordOffset + 17] = ((values[valueOffset + 17] & 0x1FFFFFFFFFFFFFFFL) >>> 51)
+                | ((values[valueOffset + 18] & 0x1FFFFFFFFFFFFFFFL) << 10);
+        words[wordOffset + 18] = ((values[valueOffset + 18] & 0x1FFFFFFFFFFFFFFFL) >>> 54)
+                | ((values[valueOffset + 19] & 0x1FFFFFFFFFFFFFFFL) << 7);
+        words[wordOffset + 19] = ((values[valueOffset + 19] & 0x1FFFFFFFFFFFFFFFL) >>> 57)
+                | ((values[valueOffset + 20] & 0x1FFFFFFFFFFFFFFFL) << 4);
+        words[wordOffset + 20] = ((values[valueOffset + 20] & 0x1FFFFFFFFFFFFFFFL) >>> 60)
+                | ((values[valueOffset + 21] & 0x1FFFFFFFFFFFFFFFL) << 1)
+                | ((values[valueOffset + 22] & 0x1FFFFFFFFFFFFFFFL) << 62);
+        words[wordOffset + 21] = ((values[valueOffset + 22] & 0x1FFFFFFFFFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 23] & 0x1FFFFFFFFFFFFFFFL) << 59);
+        words[wordOffset + 22] = ((values[valueOffset + 23] & 0x1FFFFFFFFFFFFFFFL) >>> 5)
+                | ((values[valueOffset + 24] & 0x1FFFFFFFFFFFFFFFL) << 56);
+        words[wordOffset + 23] = ((values[valueOffset + 24] & 0x1FFFFFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 25] & 0x1FFFFFFFFFFFFFFFL) << 53);
+        words[wordOffset + 24] = ((values[valueOffset + 25] & 0x1FFFFFFFFFFFFFFFL) >>> 11)
+                | ((values[valueOffset + 26] & 0x1FFFFFFFFFFFFFFFL) << 50);
+        words[wordOffset + 25] = ((values[valueOffset + 26] & 0x1FFFFFFFFFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 27] & 0x1FFFFFFFFFFFFFFFL) << 47);
+        words[wordOffset + 26] = ((values[valueOffset + 27] & 0x1FFFFFFFFFFFFFFFL) >>> 17)
+                | ((values[valueOffset + 28] & 0x1FFFFFFFFFFFFFFFL) << 44);
+        words[wordOffset + 27] = ((values[valueOffset + 28] & 0x1FFFFFFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 29] & 0x1FFFFFFFFFFFFFFFL) << 41);
+        words[wordOffset + 28] = ((values[valueOffset + 29] & 0x1FFFFFFFFFFFFFFFL) >>> 23)
+                | ((values[valueOffset + 30] & 0x1FFFFFFFFFFFFFFFL) << 38);
+        words[wordOffset + 29] = ((values[valueOffset + 30] & 0x1FFFFFFFFFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 31] & 0x1FFFFFFFFFFFFFFFL) << 35);
+        words[wordOffset + 30] = ((values[valueOffset + 31] & 0x1FFFFFFFFFFFFFFFL) >>> 29)
+                | ((values[valueOffset + 32] & 0x1FFFFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 31] = ((values[valueOffset + 32] & 0x1FFFFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 33] & 0x1FFFFFFFFFFFFFFFL) << 29);
+        words[wordOffset + 32] = ((values[valueOffset + 33] & 0x1FFFFFFFFFFFFFFFL) >>> 35)
+                | ((values[valueOffset + 34] & 0x1FFFFFFFFFFFFFFFL) << 26);
+        words[wordOffset + 33] = ((values[valueOffset + 34] & 0x1FFFFFFFFFFFFFFFL) >>> 38)
+                | ((values[valueOffset + 35] & 0x1FFFFFFFFFFFFFFFL) << 23);
+        words[wordOffset + 34] = ((values[valueOffset + 35] & 0x1FFFFFFFFFFFFFFFL) >>> 41)
+                | ((values[valueOffset + 36] & 0x1FFFFFFFFFFFFFFFL) << 20);
+        words[wordOffset + 35] = ((values[valueOffset + 36] & 0x1FFFFFFFFFFFFFFFL) >>> 44)
+                | ((values[valueOffset + 37] & 0x1FFFFFFFFFFFFFFFL) << 17);
+        words[wordOffset + 36] = ((values[valueOffset + 37] & 0x1FFFFFFFFFFFFFFFL) >>> 47)
+                | ((values[valueOffset + 38] & 0x1FFFFFFFFFFFFFFFL) << 14);
+        words[wordOffset + 37] = ((values[valueOffset + 38] & 0x1FFFFFFFFFFFFFFFL) >>> 50)
+                | ((values[valueOffset + 39] & 0x1FFFFFFFFFFFFFFFL) << 11);
+        words[wordOffset + 38] = ((values[valueOffset + 39] & 0x1FFFFFFFFFFFFFFFL) >>> 53)
+                | ((values[valueOffset + 40] & 0x1FFFFFFFFFFFFFFFL) << 8);
+        words[wordOffset + 39] = ((values[valueOffset + 40] & 0x1FFFFFFFFFFFFFFFL) >>> 56)
+                | ((values[valueOffset + 41] & 0x1FFFFFFFFFFFFFFFL) << 5);
+        words[wordOffset + 40] = ((values[valueOffset + 41] & 0x1FFFFFFFFFFFFFFFL) >>> 59)
+                | ((values[valueOffset + 42] & 0x1FFFFFFFFFFFFFFFL) << 2)
+                | ((values[valueOffset + 43] & 0x1FFFFFFFFFFFFFFFL) << 63);
+        words[wordOffset + 41] = ((values[valueOffset + 43] & 0x1FFFFFFFFFFFFFFFL) >>> 1)
+                | ((values[valueOffset + 44] & 0x1FFFFFFFFFFFFFFFL) << 60);
+        words[wordOffset + 42] = ((values[valueOffset + 44] & 0x1FFFFFFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 45] & 0x1FFFFFFFFFFFFFFFL) << 57);
+        words[wordOffset + 43] = ((values[valueOffset + 45] & 0x1FFFFFFFFFFFFFFFL) >>> 7)
+                | ((values[valueOffset + 46] & 0x1FFFFFFFFFFFFFFFL) << 54);
+        words[wordOffset + 44] = ((values[valueOffset + 46] & 0x1FFFFFFFFFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 47] & 0x1FFFFFFFFFFFFFFFL) << 51);
+        words[wordOffset + 45] = ((values[valueOffset + 47] & 0x1FFFFFFFFFFFFFFFL) >>> 13)
+                | ((values[valueOffset + 48] & 0x1FFFFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 46] = ((values[valueOffset + 48] & 0x1FFFFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 49] & 0x1FFFFFFFFFFFFFFFL) << 45);
+        words[wordOffset + 47] = ((values[valueOffset + 49] & 0x1FFFFFFFFFFFFFFFL) >>> 19)
+                | ((values[valueOffset + 50] & 0x1FFFFFFFFFFFFFFFL) << 42);
+        words[wordOffset + 48] = ((values[valueOffset + 50] & 0x1FFFFFFFFFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 51] & 0x1FFFFFFFFFFFFFFFL) << 39);
+        words[wordOffset + 49] = ((values[valueOffset + 51] & 0x1FFFFFFFFFFFFFFFL) >>> 25)
+                | ((values[valueOffset + 52] & 0x1FFFFFFFFFFFFFFFL) << 36);
+        words[wordOffset + 50] = ((values[valueOffset + 52] & 0x1FFFFFFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 53] & 0x1FFFFFFFFFFFFFFFL) << 33);
+        words[wordOffset + 51] = ((values[valueOffset + 53] & 0x1FFFFFFFFFFFFFFFL) >>> 31)
+                | ((values[valueOffset + 54] & 0x1FFFFFFFFFFFFFFFL) << 30);
+        words[wordOffset + 52] = ((values[valueOffset + 54] & 0x1FFFFFFFFFFFFFFFL) >>> 34)
+                | ((values[valueOffset + 55] & 0x1FFFFFFFFFFFFFFFL) << 27);
+        words[wordOffset + 53] = ((values[valueOffset + 55] & 0x1FFFFFFFFFFFFFFFL) >>> 37)
+                | ((values[valueOffset + 56] & 0x1FFFFFFFFFFFFFFFL) << 24);
+        words[wordOffset + 54] = ((values[valueOffset + 56] & 0x1FFFFFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 57] & 0x1FFFFFFFFFFFFFFFL) << 21);
+        words[wordOffset + 55] = ((values[valueOffset + 57] & 0x1FFFFFFFFFFFFFFFL) >>> 43)
+                | ((values[valueOffset + 58] & 0x1FFFFFFFFFFFFFFFL) << 18);
+        words[wordOffset + 56] = ((values[valueOffset + 58] & 0x1FFFFFFFFFFFFFFFL) >>> 46)
+                | ((values[valueOffset + 59] & 0x1FFFFFFFFFFFFFFFL) << 15);
+        words[wordOffset + 57] = ((values[valueOffset + 59] & 0x1FFFFFFFFFFFFFFFL) >>> 49)
+                | ((values[valueOffset + 60] & 0x1FFFFFFFFFFFFFFFL) << 12);
+        words[wordOffset + 58] = ((values[valueOffset + 60] & 0x1FFFFFFFFFFFFFFFL) >>> 52)
+                | ((values[valueOffset + 61] & 0x1FFFFFFFFFFFFFFFL) << 9);
+        words[wordOffset + 59] = ((values[valueOffset + 61] & 0x1FFFFFFFFFFFFFFFL) >>> 55)
+                | ((values[valueOffset + 62] & 0x1FFFFFFFFFFFFFFFL) << 6);
+        words[wordOffset + 60] = ((values[valueOffset + 62] & 0x1FFFFFFFFFFFFFFFL) >>> 58)
+                | ((values[valueOffset + 63] & 0x1FFFFFFFFFFFFFFFL) << 3);
+    }
+
+    private static void pack62(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x3FFFFFFFFFFFFFFFL)
+                | ((values[valueOffset + 1] & 0x3FFFFFFFFFFFFFFFL) << 62);
+        words[wordOffset + 1] = ((values[valueOffset + 1] & 0x3FFFFFFFFFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 2] & 0x3FFFFFFFFFFFFFFFL) << 60);
+        words[wordOffset + 2] = ((values[valueOffset + 2] & 0x3FFFFFFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 3] & 0x3FFFFFFFFFFFFFFFL) << 58);
+        words[wordOffset + 3] = ((values[valueOffset + 3] & 0x3FFFFFFFFFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 4] & 0x3FFFFFFFFFFFFFFFL) << 56);
+        words[wordOffset + 4] = ((values[valueOffset + 4] & 0x3FFFFFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 5] & 0x3FFFFFFFFFFFFFFFL) << 54);
+        words[wordOffset + 5] = ((values[valueOffset + 5] & 0x3FFFFFFFFFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 6] & 0x3FFFFFFFFFFFFFFFL) << 52);
+        words[wordOffset + 6] = ((values[valueOffset + 6] & 0x3FFFFFFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 7] & 0x3FFFFFFFFFFFFFFFL) << 50);
+        words[wordOffset + 7] = ((values[valueOffset + 7] & 0x3FFFFFFFFFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 8] & 0x3FFFFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 8] = ((values[valueOffset + 8] & 0x3FFFFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 9] & 0x3FFFFFFFFFFFFFFFL) << 46);
+        words[wordOffset + 9] = ((values[valueOffset + 9] & 0x3FFFFFFFFFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 10] & 0x3FFFFFFFFFFFFFFFL) << 44);
+        words[wordOffset + 10] = ((values[valueOffset + 10] & 0x3FFFFFFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 11] & 0x3FFFFFFFFFFFFFFFL) << 42);
+        words[wordOffset + 11] = ((values[valueOffset + 11] & 0x3FFFFFFFFFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 12] & 0x3FFFFFFFFFFFFFFFL) << 40);
+        words[wordOffset + 12] = ((values[valueOffset + 12] & 0x3FFFFFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 13] & 0x3FFFFFFFFFFFFFFFL) << 38);
+        words[wordOffset + 13] = ((values[valueOffset + 13] & 0x3FFFFFFFFFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 14] & 0x3FFFFFFFFFFFFFFFL) << 36);
+        words[wordOffset + 14] = ((values[valueOffset + 14] & 0x3FFFFFFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 15] & 0x3FFFFFFFFFFFFFFFL) << 34);
+        words[wordOffset + 15] = ((values[valueOffset + 15] & 0x3FFFFFFFFFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 16] & 0x3FFFFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 16] = ((values[valueOffset + 16] & 0x3FFFFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 17] & 0x3FFFFFFFFFFFFFFFL) << 30);
+        words[wordOffset + 17] = ((values[valueOffset + 17] & 0x3FFFFFFFFFFFFFFFL) >>> 34)
+                | ((values[valueOffset + 18] & 0x3FFFFFFFFFFFFFFFL) << 28);
+        words[wordOffset + 18] = ((values[valueOffset + 18] & 0x3FFFFFFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 19] & 0x3FFFFFFFFFFFFFFFL) << 26);
+        words[wordOffset + 19] = ((values[valueOffset + 19] & 0x3FFFFFFFFFFFFFFFL) >>> 38)
+                | ((values[valueOffset + 20] & 0x3FFFFFFFFFFFFFFFL) << 24);
+        words[wordOffset + 20] = ((values[valueOffset + 20] & 0x3FFFFFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 21] & 0x3FFFFFFFFFFFFFFFL) << 22);
+        words[wordOffset + 21] = ((values[valueOffset + 21] & 0x3FFFFFFFFFFFFFFFL) >>> 42)
+                | ((values[valueOffset + 22] & 0x3FFFFFFFFFFFFFFFL) << 20);
+        words[wordOffset + 22] = ((values[valueOffset + 22] & 0x3FFFFFFFFFFFFFFFL) >>> 44)
+                | ((values[valueOffset + 23] & 0x3FFFFFFFFFFFFFFFL) << 18);
+        words[wordOffset + 23] = ((values[valueOffset + 23] & 0x3FFFFFFFFFFFFFFFL) >>> 46)
+                | ((values[valueOffset + 24] & 0x3FFFFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 24] = ((values[valueOffset + 24] & 0x3FFFFFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 25] & 0x3FFFFFFFFFFFFFFFL) << 14);
+        words[wordOffset + 25] = ((values[valueOffset + 25] & 0x3FFFFFFFFFFFFFFFL) >>> 50)
+                | ((values[valueOffset + 26] & 0x3FFFFFFFFFFFFFFFL) << 12);
+        words[wordOffset + 26] = ((values[valueOffset + 26] & 0x3FFFFFFFFFFFFFFFL) >>> 52)
+                | ((values[valueOffset + 27] & 0x3FFFFFFFFFFFFFFFL) << 10);
+        words[wordOffset + 27] = ((values[valueOffset + 27] & 0x3FFFFFFFFFFFFFFFL) >>> 54)
+                | ((values[valueOffset + 28] & 0x3FFFFFFFFFFFFFFFL) << 8);
+        words[wordOffset + 28] = ((values[valueOffset + 28] & 0x3FFFFFFFFFFFFFFFL) >>> 56)
+                | ((values[valueOffset + 29] & 0x3FFFFFFFFFFFFFFFL) << 6);
+        words[wordOffset + 29] = ((values[valueOffset + 29] & 0x3FFFFFFFFFFFFFFFL) >>> 58)
+                | ((values[valueOffset + 30] & 0x3FFFFFFFFFFFFFFFL) << 4);
+        words[wordOffset + 30] = ((values[valueOffset + 30] & 0x3FFFFFFFFFFFFFFFL) >>> 60)
+                | ((values[valueOffset + 31] & 0x3FFFFFFFFFFFFFFFL) << 2);
+        words[wordOffset + 31] = (values[valueOffset + 32] & 0x3FFFFFFFFFFFFFFFL)
+                | ((values[valueOffset + 33] & 0x3FFFFFFFFFFFFFFFL) << 62);
+        words[wordOffset + 32] = ((values[valueOffset + 33] & 0x3FFFFFFFFFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 34] & 0x3FFFFFFFFFFFFFFFL) << 60);
+        words[wordOffset + 33] = ((values[valueOffset + 34] & 0x3FFFFFFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 35] & 0x3FFFFFFFFFFFFFFFL) << 58);
+        words[wordOffset + 34] = ((values[valueOffset + 35] & 0x3FFFFFFFFFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 36] & 0x3FFFFFFFFFFFFFFFL) << 56);
+        words[wordOffset + 35] = ((values[valueOffset + 36] & 0x3FFFFFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 37] & 0x3FFFFFFFFFFFFFFFL) << 54);
+        words[wordOffset + 36] = ((values[valueOffset + 37] & 0x3FFFFFFFFFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 38] & 0x3FFFFFFFFFFFFFFFL) << 52);
+        words[wordOffset + 37] = ((values[valueOffset + 38] & 0x3FFFFFFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 39] & 0x3FFFFFFFFFFFFFFFL) << 50);
+        words[wordOffset + 38] = ((values[valueOffset + 39] & 0x3FFFFFFFFFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 40] & 0x3FFFFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 39] = ((values[valueOffset + 40] & 0x3FFFFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 41] & 0x3FFFFFFFFFFFFFFFL) << 46);
+        words[wordOffset + 40] = ((values[valueOffset + 41] & 0x3FFFFFFFFFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 42] & 0x3FFFFFFFFFFFFFFFL) << 44);
+        words[wordOffset + 41] = ((values[valueOffset + 42] & 0x3FFFFFFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 43] & 0x3FFFFFFFFFFFFFFFL) << 42);
+        words[wordOffset + 42] = ((values[valueOffset + 43] & 0x3FFFFFFFFFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 44] & 0x3FFFFFFFFFFFFFFFL) << 40);
+        words[wordOffset + 43] = ((values[valueOffset + 44] & 0x3FFFFFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 45] & 0x3FFFFFFFFFFFFFFFL) << 38);
+        words[wordOffset + 44] = ((values[valueOffset + 45] & 0x3FFFFFFFFFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 46] & 0x3FFFFFFFFFFFFFFFL) << 36);
+        words[wordOffset + 45] = ((values[valueOffset + 46] & 0x3FFFFFFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 47] & 0x3FFFFFFFFFFFFFFFL) << 34);
+        words[wordOffset + 46] = ((values[valueOffset + 47] & 0x3FFFFFFFFFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 48] & 0x3FFFFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 47] = ((values[valueOffset + 48] & 0x3FFFFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 49] & 0x3FFFFFFFFFFFFFFFL) << 30);
+        words[wordOffset + 48] = ((values[valueOffset + 49] & 0x3FFFFFFFFFFFFFFFL) >>> 34)
+                | ((values[valueOffset + 50] & 0x3FFFFFFFFFFFFFFFL) << 28);
+        words[wordOffset + 49] = ((values[valueOffset + 50] & 0x3FFFFFFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 51] & 0x3FFFFFFFFFFFFFFFL) << 26);
+        words[wordOffset + 50] = ((values[valueOffset + 51] & 0x3FFFFFFFFFFFFFFFL) >>> 38)
+                | ((values[valueOffset + 52] & 0x3FFFFFFFFFFFFFFFL) << 24);
+        words[wordOffset + 51] = ((values[valueOffset + 52] & 0x3FFFFFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 53] & 0x3FFFFFFFFFFFFFFFL) << 22);
+        words[wordOffset + 52] = ((values[valueOffset + 53] & 0x3FFFFFFFFFFFFFFFL) >>> 42)
+                | ((values[valueOffset + 54] & 0x3FFFFFFFFFFFFFFFL) << 20);
+        words[wordOffset + 53] = ((values[valueOffset + 54] & 0x3FFFFFFFFFFFFFFFL) >>> 44)
+                | ((values[valueOffset + 55] & 0x3FFFFFFFFFFFFFFFL) << 18);
+        words[wordOffset + 54] = ((values[valueOffset + 55] & 0x3FFFFFFFFFFFFFFFL) >>> 46)
+                | ((values[valueOffset + 56] & 0x3FFFFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 55] = ((values[valueOffset + 56] & 0x3FFFFFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 57] & 0x3FFFFFFFFFFFFFFFL) << 14);
+        words[wordOffset + 56] = ((values[valueOffset + 57] & 0x3FFFFFFFFFFFFFFFL) >>> 50)
+                | ((values[valueOffset + 58] & 0x3FFFFFFFFFFFFFFFL) << 12);
+        words[wordOffset + 57] = ((values[valueOffset + 58] & 0x3FFFFFFFFFFFFFFFL) >>> 52)
+                | ((values[valueOffset + 59] & 0x3FFFFFFFFFFFFFFFL) << 10);
+        words[wordOffset + 58] = ((values[valueOffset + 59] & 0x3FFFFFFFFFFFFFFFL) >>> 54)
+                | ((values[valueOffset + 60] & 0x3FFFFFFFFFFFFFFFL) << 8);
+        words[wordOffset + 59] = ((values[valueOffset + 60] & 0x3FFFFFFFFFFFFFFFL) >>> 56)
+                | ((values[valueOffset + 61] & 0x3FFFFFFFFFFFFFFFL) << 6);
+        words[wordOffset + 60] = ((values[valueOffset + 61] & 0x3FFFFFFFFFFFFFFFL) >>> 58)
+                | ((values[valueOffset + 62] & 0x3FFFFFFFFFFFFFFFL) << 4);
+        words[wordOffset + 61] = ((values[valueOffset + 62] & 0x3FFFFFFFFFFFFFFFL) >>> 60)
+                | ((values[valueOffset + 63] & 0x3FFFFFFFFFFFFFFFL) << 2);
+    }
+
+    private static void pack63(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = (values[valueOffset + 0] & 0x7FFFFFFFFFFFFFFFL)
+                | ((values[valueOffset + 1] & 0x7FFFFFFFFFFFFFFFL) << 63);
+        words[wordOffset + 1] = ((values[valueOffset + 1] & 0x7FFFFFFFFFFFFFFFL) >>> 1)
+                | ((values[valueOffset + 2] & 0x7FFFFFFFFFFFFFFFL) << 62);
+        words[wordOffset + 2] = ((values[valueOffset + 2] & 0x7FFFFFFFFFFFFFFFL) >>> 2)
+                | ((values[valueOffset + 3] & 0x7FFFFFFFFFFFFFFFL) << 61);
+        words[wordOffset + 3] = ((values[valueOffset + 3] & 0x7FFFFFFFFFFFFFFFL) >>> 3)
+                | ((values[valueOffset + 4] & 0x7FFFFFFFFFFFFFFFL) << 60);
+        words[wordOffset + 4] = ((values[valueOffset + 4] & 0x7FFFFFFFFFFFFFFFL) >>> 4)
+                | ((values[valueOffset + 5] & 0x7FFFFFFFFFFFFFFFL) << 59);
+        words[wordOffset + 5] = ((values[valueOffset + 5] & 0x7FFFFFFFFFFFFFFFL) >>> 5)
+                | ((values[valueOffset + 6] & 0x7FFFFFFFFFFFFFFFL) << 58);
+        words[wordOffset + 6] = ((values[valueOffset + 6] & 0x7FFFFFFFFFFFFFFFL) >>> 6)
+                | ((values[valueOffset + 7] & 0x7FFFFFFFFFFFFFFFL) << 57);
+        words[wordOffset + 7] = ((values[valueOffset + 7] & 0x7FFFFFFFFFFFFFFFL) >>> 7)
+                | ((values[valueOffset + 8] & 0x7FFFFFFFFFFFFFFFL) << 56);
+        words[wordOffset + 8] = ((values[valueOffset + 8] & 0x7FFFFFFFFFFFFFFFL) >>> 8)
+                | ((values[valueOffset + 9] & 0x7FFFFFFFFFFFFFFFL) << 55);
+        words[wordOffset + 9] = ((values[valueOffset + 9] & 0x7FFFFFFFFFFFFFFFL) >>> 9)
+                | ((values[valueOffset + 10] & 0x7FFFFFFFFFFFFFFFL) << 54);
+        words[wordOffset + 10] = ((values[valueOffset + 10] & 0x7FFFFFFFFFFFFFFFL) >>> 10)
+                | ((values[valueOffset + 11] & 0x7FFFFFFFFFFFFFFFL) << 53);
+        words[wordOffset + 11] = ((values[valueOffset + 11] & 0x7FFFFFFFFFFFFFFFL) >>> 11)
+                | ((values[valueOffset + 12] & 0x7FFFFFFFFFFFFFFFL) << 52);
+        words[wordOffset + 12] = ((values[valueOffset + 12] & 0x7FFFFFFFFFFFFFFFL) >>> 12)
+                | ((values[valueOffset + 13] & 0x7FFFFFFFFFFFFFFFL) << 51);
+        words[wordOffset + 13] = ((values[valueOffset + 13] & 0x7FFFFFFFFFFFFFFFL) >>> 13)
+                | ((values[valueOffset + 14] & 0x7FFFFFFFFFFFFFFFL) << 50);
+        words[wordOffset + 14] = ((values[valueOffset + 14] & 0x7FFFFFFFFFFFFFFFL) >>> 14)
+                | ((values[valueOffset + 15] & 0x7FFFFFFFFFFFFFFFL) << 49);
+        words[wordOffset + 15] = ((values[valueOffset + 15] & 0x7FFFFFFFFFFFFFFFL) >>> 15)
+                | ((values[valueOffset + 16] & 0x7FFFFFFFFFFFFFFFL) << 48);
+        words[wordOffset + 16] = ((values[valueOffset + 16] & 0x7FFFFFFFFFFFFFFFL) >>> 16)
+                | ((values[valueOffset + 17] & 0x7FFFFFFFFFFFFFFFL) << 47);
+        words[wordOffset + 17] = ((values[valueOffset + 17] & 0x7FFFFFFFFFFFFFFFL) >>> 17)
+                | ((values[valueOffset + 18] & 0x7FFFFFFFFFFFFFFFL) << 46);
+        words[wordOffset + 18] = ((values[valueOffset + 18] & 0x7FFFFFFFFFFFFFFFL) >>> 18)
+                | ((values[valueOffset + 19] & 0x7FFFFFFFFFFFFFFFL) << 45);
+        words[wordOffset + 19] = ((values[valueOffset + 19] & 0x7FFFFFFFFFFFFFFFL) >>> 19)
+                | ((values[valueOffset + 20] & 0x7FFFFFFFFFFFFFFFL) << 44);
+        words[wordOffset + 20] = ((values[valueOffset + 20] & 0x7FFFFFFFFFFFFFFFL) >>> 20)
+                | ((values[valueOffset + 21] & 0x7FFFFFFFFFFFFFFFL) << 43);
+        words[wordOffset + 21] = ((values[valueOffset + 21] & 0x7FFFFFFFFFFFFFFFL) >>> 21)
+                | ((values[valueOffset + 22] & 0x7FFFFFFFFFFFFFFFL) << 42);
+        words[wordOffset + 22] = ((values[valueOffset + 22] & 0x7FFFFFFFFFFFFFFFL) >>> 22)
+                | ((values[valueOffset + 23] & 0x7FFFFFFFFFFFFFFFL) << 41);
+        words[wordOffset + 23] = ((values[valueOffset + 23] & 0x7FFFFFFFFFFFFFFFL) >>> 23)
+                | ((values[valueOffset + 24] & 0x7FFFFFFFFFFFFFFFL) << 40);
+        words[wordOffset + 24] = ((values[valueOffset + 24] & 0x7FFFFFFFFFFFFFFFL) >>> 24)
+                | ((values[valueOffset + 25] & 0x7FFFFFFFFFFFFFFFL) << 39);
+        words[wordOffset + 25] = ((values[valueOffset + 25] & 0x7FFFFFFFFFFFFFFFL) >>> 25)
+                | ((values[valueOffset + 26] & 0x7FFFFFFFFFFFFFFFL) << 38);
+        words[wordOffset + 26] = ((values[valueOffset + 26] & 0x7FFFFFFFFFFFFFFFL) >>> 26)
+                | ((values[valueOffset + 27] & 0x7FFFFFFFFFFFFFFFL) << 37);
+        words[wordOffset + 27] = ((values[valueOffset + 27] & 0x7FFFFFFFFFFFFFFFL) >>> 27)
+                | ((values[valueOffset + 28] & 0x7FFFFFFFFFFFFFFFL) << 36);
+        words[wordOffset + 28] = ((values[valueOffset + 28] & 0x7FFFFFFFFFFFFFFFL) >>> 28)
+                | ((values[valueOffset + 29] & 0x7FFFFFFFFFFFFFFFL) << 35);
+        words[wordOffset + 29] = ((values[valueOffset + 29] & 0x7FFFFFFFFFFFFFFFL) >>> 29)
+                | ((values[valueOffset + 30] & 0x7FFFFFFFFFFFFFFFL) << 34);
+        words[wordOffset + 30] = ((values[valueOffset + 30] & 0x7FFFFFFFFFFFFFFFL) >>> 30)
+                | ((values[valueOffset + 31] & 0x7FFFFFFFFFFFFFFFL) << 33);
+        words[wordOffset + 31] = ((values[valueOffset + 31] & 0x7FFFFFFFFFFFFFFFL) >>> 31)
+                | ((values[valueOffset + 32] & 0x7FFFFFFFFFFFFFFFL) << 32);
+        words[wordOffset + 32] = ((values[valueOffset + 32] & 0x7FFFFFFFFFFFFFFFL) >>> 32)
+                | ((values[valueOffset + 33] & 0x7FFFFFFFFFFFFFFFL) << 31);
+        words[wordOffset + 33] = ((values[valueOffset + 33] & 0x7FFFFFFFFFFFFFFFL) >>> 33)
+                | ((values[valueOffset + 34] & 0x7FFFFFFFFFFFFFFFL) << 30);
+        words[wordOffset + 34] = ((values[valueOffset + 34] & 0x7FFFFFFFFFFFFFFFL) >>> 34)
+                | ((values[valueOffset + 35] & 0x7FFFFFFFFFFFFFFFL) << 29);
+        words[wordOffset + 35] = ((values[valueOffset + 35] & 0x7FFFFFFFFFFFFFFFL) >>> 35)
+                | ((values[valueOffset + 36] & 0x7FFFFFFFFFFFFFFFL) << 28);
+        words[wordOffset + 36] = ((values[valueOffset + 36] & 0x7FFFFFFFFFFFFFFFL) >>> 36)
+                | ((values[valueOffset + 37] & 0x7FFFFFFFFFFFFFFFL) << 27);
+        words[wordOffset + 37] = ((values[valueOffset + 37] & 0x7FFFFFFFFFFFFFFFL) >>> 37)
+                | ((values[valueOffset + 38] & 0x7FFFFFFFFFFFFFFFL) << 26);
+        words[wordOffset + 38] = ((values[valueOffset + 38] & 0x7FFFFFFFFFFFFFFFL) >>> 38)
+                | ((values[valueOffset + 39] & 0x7FFFFFFFFFFFFFFFL) << 25);
+        words[wordOffset + 39] = ((values[valueOffset + 39] & 0x7FFFFFFFFFFFFFFFL) >>> 39)
+                | ((values[valueOffset + 40] & 0x7FFFFFFFFFFFFFFFL) << 24);
+        words[wordOffset + 40] = ((values[valueOffset + 40] & 0x7FFFFFFFFFFFFFFFL) >>> 40)
+                | ((values[valueOffset + 41] & 0x7FFFFFFFFFFFFFFFL) << 23);
+        words[wordOffset + 41] = ((values[valueOffset + 41] & 0x7FFFFFFFFFFFFFFFL) >>> 41)
+                | ((values[valueOffset + 42] & 0x7FFFFFFFFFFFFFFFL) << 22);
+        words[wordOffset + 42] = ((values[valueOffset + 42] & 0x7FFFFFFFFFFFFFFFL) >>> 42)
+                | ((values[valueOffset + 43] & 0x7FFFFFFFFFFFFFFFL) << 21);
+        words[wordOffset + 43] = ((values[valueOffset + 43] & 0x7FFFFFFFFFFFFFFFL) >>> 43)
+                | ((values[valueOffset + 44] & 0x7FFFFFFFFFFFFFFFL) << 20);
+        words[wordOffset + 44] = ((values[valueOffset + 44] & 0x7FFFFFFFFFFFFFFFL) >>> 44)
+                | ((values[valueOffset + 45] & 0x7FFFFFFFFFFFFFFFL) << 19);
+        words[wordOffset + 45] = ((values[valueOffset + 45] & 0x7FFFFFFFFFFFFFFFL) >>> 45)
+                | ((values[valueOffset + 46] & 0x7FFFFFFFFFFFFFFFL) << 18);
+        words[wordOffset + 46] = ((values[valueOffset + 46] & 0x7FFFFFFFFFFFFFFFL) >>> 46)
+                | ((values[valueOffset + 47] & 0x7FFFFFFFFFFFFFFFL) << 17);
+        words[wordOffset + 47] = ((values[valueOffset + 47] & 0x7FFFFFFFFFFFFFFFL) >>> 47)
+                | ((values[valueOffset + 48] & 0x7FFFFFFFFFFFFFFFL) << 16);
+        words[wordOffset + 48] = ((values[valueOffset + 48] & 0x7FFFFFFFFFFFFFFFL) >>> 48)
+                | ((values[valueOffset + 49] & 0x7FFFFFFFFFFFFFFFL) << 15);
+        words[wordOffset + 49] = ((values[valueOffset + 49] & 0x7FFFFFFFFFFFFFFFL) >>> 49)
+                | ((values[valueOffset + 50] & 0x7FFFFFFFFFFFFFFFL) << 14);
+        words[wordOffset + 50] = ((values[valueOffset + 50] & 0x7FFFFFFFFFFFFFFFL) >>> 50)
+                | ((values[valueOffset + 51] & 0x7FFFFFFFFFFFFFFFL) << 13);
+        words[wordOffset + 51] = ((values[valueOffset + 51] & 0x7FFFFFFFFFFFFFFFL) >>> 51)
+                | ((values[valueOffset + 52] & 0x7FFFFFFFFFFFFFFFL) << 12);
+        words[wordOffset + 52] = ((values[valueOffset + 52] & 0x7FFFFFFFFFFFFFFFL) >>> 52)
+                | ((values[valueOffset + 53] & 0x7FFFFFFFFFFFFFFFL) << 11);
+        words[wordOffset + 53] = ((values[valueOffset + 53] & 0x7FFFFFFFFFFFFFFFL) >>> 53)
+                | ((values[valueOffset + 54] & 0x7FFFFFFFFFFFFFFFL) << 10);
+        words[wordOffset + 54] = ((values[valueOffset + 54] & 0x7FFFFFFFFFFFFFFFL) >>> 54)
+                | ((values[valueOffset + 55] & 0x7FFFFFFFFFFFFFFFL) << 9);
+        words[wordOffset + 55] = ((values[valueOffset + 55] & 0x7FFFFFFFFFFFFFFFL) >>> 55)
+                | ((values[valueOffset + 56] & 0x7FFFFFFFFFFFFFFFL) << 8);
+        words[wordOffset + 56] = ((values[valueOffset + 56] & 0x7FFFFFFFFFFFFFFFL) >>> 56)
+                | ((values[valueOffset + 57] & 0x7FFFFFFFFFFFFFFFL) << 7);
+        words[wordOffset + 57] = ((values[valueOffset + 57] & 0x7FFFFFFFFFFFFFFFL) >>> 57)
+                | ((values[valueOffset + 58] & 0x7FFFFFFFFFFFFFFFL) << 6);
+        words[wordOffset + 58] = ((values[valueOffset + 58] & 0x7FFFFFFFFFFFFFFFL) >>> 58)
+                | ((values[valueOffset + 59] & 0x7FFFFFFFFFFFFFFFL) << 5);
+        words[wordOffset + 59] = ((values[valueOffset + 59] & 0x7FFFFFFFFFFFFFFFL) >>> 59)
+                | ((values[valueOffset + 60] & 0x7FFFFFFFFFFFFFFFL) << 4);
+        words[wordOffset + 60] = ((values[valueOffset + 60] & 0x7FFFFFFFFFFFFFFFL) >>> 60)
+                | ((values[valueOffset + 61] & 0x7FFFFFFFFFFFFFFFL) << 3);
+        words[wordOffset + 61] = ((values[valueOffset + 61] & 0x7FFFFFFFFFFFFFFFL) >>> 61)
+                | ((values[valueOffset + 62] & 0x7FFFFFFFFFFFFFFFL) << 2);
+        words[wordOffset + 62] = ((values[valueOffset + 62] & 0x7FFFFFFFFFFFFFFFL) >>> 62)
+                | ((values[valueOffset + 63] & 0x7FFFFFFFFFFFFFFFL) << 1);
+    }
+
+    private static void pack64(long[] values, int valueOffset, long[] words, int wordOffset) {
+        words[wordOffset + 0] = values[valueOffset + 0];
+        words[wordOffset + 1] = values[valueOffset + 1];
+        words[wordOffset + 2] = values[valueOffset + 2];
+        words[wordOffset + 3] = values[valueOffset + 3];
+        words[wordOffset + 4] = values[valueOffset + 4];
+        words[wordOffset + 5] = values[valueOffset + 5];
+        words[wordOffset + 6] = values[valueOffset + 6];
+        words[wordOffset + 7] = values[valueOffset + 7];
+        words[wordOffset + 8] = values[valueOffset + 8];
+        words[wordOffset + 9] = values[valueOffset + 9];
+        words[wordOffset + 10] = values[valueOffset + 10];
+        words[wordOffset + 11] = values[valueOffset + 11];
+        words[wordOffset + 12] = values[valueOffset + 12];
+        words[wordOffset + 13] = values[valueOffset + 13];
+        words[wordOffset + 14] = values[valueOffset + 14];
+        words[wordOffset + 15] = values[valueOffset + 15];
+        words[wordOffset + 16] = values[valueOffset + 16];
+        words[wordOffset + 17] = values[valueOffset + 17];
+        words[wordOffset + 18] = values[valueOffset + 18];
+        words[wordOffset + 19] = values[valueOffset + 19];
+        words[wordOffset + 20] = values[valueOffset + 20];
+        words[wordOffset + 21] = values[valueOffset + 21];
+        words[wordOffset + 22] = values[valueOffset + 22];
+        words[wordOffset + 23] = values[valueOffset + 23];
+        words[wordOffset + 24] = values[valueOffset + 24];
+        words[wordOffset + 25] = values[valueOffset + 25];
+        words[wordOffset + 26] = values[valueOffset + 26];
+        words[wordOffset + 27] = values[valueOffset + 27];
+        words[wordOffset + 28] = values[valueOffset + 28];
+        words[wordOffset + 29] = values[valueOffset + 29];
+        words[wordOffset + 30] = values[valueOffset + 30];
+        words[wordOffset + 31] = values[valueOffset + 31];
+        words[wordOffset + 32] = values[valueOffset + 32];
+        words[wordOffset + 33] = values[valueOffset + 33];
+        words[wordOffset + 34] = values[valueOffset + 34];
+        words[wordOffset + 35] = values[valueOffset + 35];
+        words[wordOffset + 36] = values[valueOffset + 36];
+        words[wordOffset + 37] = values[valueOffset + 37];
+        words[wordOffset + 38] = values[valueOffset + 38];
+        words[wordOffset + 39] = values[valueOffset + 39];
+        words[wordOffset + 40] = values[valueOffset + 40];
+        words[wordOffset + 41] = values[valueOffset + 41];
+        words[wordOffset + 42] = values[valueOffset + 42];
+        words[wordOffset + 43] = values[valueOffset + 43];
+        words[wordOffset + 44] = values[valueOffset + 44];
+        words[wordOffset + 45] = values[valueOffset + 45];
+        words[wordOffset + 46] = values[valueOffset + 46];
+        words[wordOffset + 47] = values[valueOffset + 47];
+        words[wordOffset + 48] = values[valueOffset + 48];
+        words[wordOffset + 49] = values[valueOffset + 49];
+        words[wordOffset + 50] = values[valueOffset + 50];
+        words[wordOffset + 51] = values[valueOffset + 51];
+        words[wordOffset + 52] = values[valueOffset + 52];
+        words[wordOffset + 53] = values[valueOffset + 53];
+        words[wordOffset + 54] = values[valueOffset + 54];
+        words[wordOffset + 55] = values[valueOffset + 55];
+        words[wordOffset + 56] = values[valueOffset + 56];
+        words[wordOffset + 57] = values[valueOffset + 57];
+        words[wordOffset + 58] = values[valueOffset + 58];
+        words[wordOffset + 59] = values[valueOffset + 59];
+        words[wordOffset + 60] = values[valueOffset + 60];
+        words[wordOffset + 61] = values[valueOffset + 61];
+        words[wordOffset + 62] = values[valueOffset + 62];
+        words[wordOffset + 63] = values[valueOffset + 63];
+    }
+}
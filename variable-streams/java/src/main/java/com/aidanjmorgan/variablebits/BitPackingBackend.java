@@ -0,0 +1,139 @@
+package com.aidanjmorgan.variablebits;
+
+/**
+ * Chooses how blocks of 64 values are unpacked. The Vector API kernels in
+ * {@code VectorBitPacking} are used for widths from 8 to 32 bits when they were built (with the
+ * {@code vector} Maven profile), the {@code jdk.incubator.vector} module is present (for example
+ * with {@code --add-modules jdk.incubator.vector}) and the platform has at least four long lanes.
+ * Everything else uses the scalar kernels in {@link BitPacking}.
+ *
+ * <p>The vector kernels are compiled from a separate source set and loaded by name, so the
+ * library itself neither compiles nor runs against the incubator module.
+ *
+ * <p>Setting the system property {@code com.aidanjmorgan.variablebits.vector} to {@code false}
+ * forces the scalar kernels.
+ */
+final class BitPackingBackend {
+
+    /**
+     * The system property that can disable the vector kernels.
+     */
+    static final String VECTOR_PROPERTY = "com.aidanjmorgan.variablebits.vector";
+
+    /**
+     * The name of the class holding the vector kernels.
+     */
+    static final String VECTOR_CLASS = "com.aidanjmorgan.variablebits.VectorBitPacking";
+
+    /**
+     * The narrowest value the vector kernels are used for. Below this the fully unrolled scalar
+     * kernels extract several values per word and are faster.
+     */
+    static final int VECTOR_MIN_BIT_COUNT = 8;
+
+    /**
+     * The widest value the vector kernels handle.
+     */
+    static final int VECTOR_MAX_BIT_COUNT = 32;
+
+    /**
+     * The vector kernels, or null if they are not in use.
+     */
+    private static final Kernel VECTOR = detectVectorSupport();
+
+    /**
+     * Whether the vector kernels are in use.
+     */
+    static final boolean VECTORIZED = VECTOR != null;
+
+    /**
+     * The number of words the vector kernels may load past the end of a block.
+     */
+    private static final int VECTOR_PADDING = VECTORIZED ? VECTOR.padding() : 0;
+
+    /**
+     * A block unpacking kernel that is loaded at runtime.
+     */
+    interface Kernel {
+
+        /**
+         * Returns whether the kernel is worth using on this platform.
+         *
+         * @return True if the kernel should be used.
+         */
+        boolean isProfitable();
+
+        /**
+         * Returns the number of words the kernel may load past the end of a block.
+         *
+         * @return The number of words of padding required after a block.
+         */
+        int padding();
+
+        /**
+         * Unpacks a block of 64 values. The array must hold {@link #padding()} words after the
+         * block.
+         *
+         * @param words The packed block, {@code bitCount} words starting at {@code wordOffset}.
+         * @param wordOffset The index of the first packed word.
+         * @param values The array to unpack into, 64 values starting at {@code valueOffset}.
+         * @param valueOffset The index of the first value.
+         * @param bitCount The number of bits in each value.
+         */
+        void unpack(long[] words, int wordOffset, long[] values, int valueOffset, int bitCount);
+    }
+
+    private BitPackingBackend() {
+    }
+
+    /**
+     * Unpacks a block of 64 values with the selected backend. Blocks too close to the end of the
+     * array for the vector kernels' whole-vector loads are unpacked with the scalar kernels.
+     *
+     * @param words The packed block, {@code bitCount} words starting at {@code wordOffset}.
+     * @param wordOffset The index of the first packed word.
+     * @param values The array to unpack into, 64 values starting at {@code valueOffset}.
+     * @param valueOffset The index of the first value.
+     * @param bitCount The number of bits in each value (1-64).
+     */
+    static void unpack(long[] words, int wordOffset, long[] values, int valueOffset, int bitCount) {
+        if (VECTORIZED && bitCount >= VECTOR_MIN_BIT_COUNT && bitCount <= VECTOR_MAX_BIT_COUNT
+                && wordOffset + bitCount + VECTOR_PADDING <= words.length) {
+            VECTOR.unpack(words, wordOffset, values, valueOffset, bitCount);
+        } else {
+            BitPacking.unpack(words, wordOffset, values, valueOffset, bitCount);
+        }
+    }
+
+    /**
+     * Checks whether the vector kernels can and should be used.
+     *
+     * @return The vector kernels, or null if they should not be used.
+     */
+    private static Kernel detectVectorSupport() {
+        if (!Boolean.parseBoolean(System.getProperty(VECTOR_PROPERTY, "true"))) {
+            return null;
+        }
+
+        Kernel kernel = loadVectorKernel();
+        return kernel != null && kernel.isProfitable() ? kernel : null;
+    }
+
+    /**
+     * Loads the vector kernels, whether or not they are in use.
+     *
+     * @return The vector kernels, or null if they were not built or the
+     *         {@code jdk.incubator.vector} module is not present.
+     */
+    static Kernel loadVectorKernel() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+
+        try {
+            return (Kernel) Class.forName(VECTOR_CLASS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
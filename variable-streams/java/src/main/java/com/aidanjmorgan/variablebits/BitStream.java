@@ -1,8 +1,11 @@
 package com.aidanjmorgan.variablebits;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.math.BigInteger;
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * A stream that allows reading and writing individual bits.
@@ -10,32 +13,95 @@ import java.util.List;
 public class BitStream {
 
     /**
-     * The internal buffer storing the data.
+     * View used to move eight bytes at a time between byte arrays and the word store.
      */
-    private final List<Byte> buffer;
+    private static final VarHandle LONG_LE =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
 
     /**
-     * Current byte position in the buffer.
+     * View used to move eight bytes at a time between byte arrays and an MSB-first word store.
      */
-    private int bytePos;
+    private static final VarHandle LONG_BE =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
 
     /**
-     * Current bit position within the current byte (0-7).
+     * Initial number of words allocated for an empty stream.
      */
-    private byte bitPos;
+    private static final int DEFAULT_WORD_CAPACITY = 8;
+
+    /**
+     * Log2 of the number of words in a chunk of the word store (1 MiB chunks).
+     */
+    private static final int CHUNK_SHIFT = 17;
+
+    /**
+     * Number of words in a full chunk.
+     */
+    private static final int CHUNK_WORDS = 1 << CHUNK_SHIFT;
+
+    /**
+     * Mask for the index of a word within its chunk.
+     */
+    private static final int CHUNK_MASK = CHUNK_WORDS - 1;
+
+    /**
+     * The internal buffer storing the data, 64 bits per word, split into chunks so a stream can
+     * hold more than 2^31 bytes. Every chunk but the last is full, and a stream with a single
+     * chunk grows it up to a full chunk before adding more. In LSB-first order bit {@code i}
+     * of the stream is bit {@code i % 64} of word {@code i / 64}, so the little-endian bytes of
+     * the words are exactly the bytes of the stream. In MSB-first order it is bit
+     * {@code 63 - i % 64}, and the words are big-endian.
+     */
+    private long[][] chunks;
+
+    /**
+     * The number of words the chunks can hold.
+     */
+    private long wordCapacity;
+
+    /**
+     * The order in which bits are packed.
+     */
+    private final BitOrder bitOrder;
+
+    /**
+     * Whether bits are packed MSB-first, cached from {@link #bitOrder} for the hot paths.
+     */
+    private final boolean msbFirst;
+
+    /**
+     * Current position in bits.
+     */
+    private long position;
 
     /**
      * Total number of bits in the stream.
      */
-    private int bitLength;
+    private long bitLength;
+
+    /**
+     * Scratch space for the block kernels, allocated on first use.
+     */
+    private long[] blockScratch;
 
     /**
      * Creates a new, empty BitStream.
      */
     public BitStream() {
-        buffer = new ArrayList<>();
-        bytePos = 0;
-        bitPos = 0;
+        this(BitOrder.LSB_FIRST);
+    }
+
+    /**
+     * Creates a new, empty BitStream with the specified bit order.
+     *
+     * @param bitOrder The order in which bits are packed.
+     */
+    public BitStream(BitOrder bitOrder) {
+        this.bitOrder = Objects.requireNonNull(bitOrder, "Bit order cannot be null");
+        this.msbFirst = bitOrder == BitOrder.MSB_FIRST;
+        chunks = new long[][] { new long[DEFAULT_WORD_CAPACITY] };
+        wordCapacity = DEFAULT_WORD_CAPACITY;
+        position = 0;
         bitLength = 0;
     }
 
@@ -45,22 +111,145 @@ public class BitStream {
      * @param bytes The initial buffer content.
      */
     public BitStream(byte[] bytes) {
-        buffer = new ArrayList<>(bytes.length);
-        for (byte b : bytes) {
-            buffer.add(b);
+        this(bytes, BitOrder.LSB_FIRST);
+    }
+
+    /**
+     * Creates a new BitStream from an existing buffer with the specified bit order.
+     *
+     * @param bytes The initial buffer content.
+     * @param bitOrder The order in which bits are packed.
+     */
+    public BitStream(byte[] bytes, BitOrder bitOrder) {
+        this.bitOrder = Objects.requireNonNull(bitOrder, "Bit order cannot be null");
+        this.msbFirst = bitOrder == BitOrder.MSB_FIRST;
+        chunks = new long[][] { new long[DEFAULT_WORD_CAPACITY] };
+        wordCapacity = DEFAULT_WORD_CAPACITY;
+        ensureCapacity(bytes.length * 8L);
+
+        // Copy whole words, then the trailing partial word a byte at a time
+        int wholeWords = bytes.length >>> 3;
+        if (msbFirst) {
+            for (int i = 0; i < wholeWords; i++) {
+                setWord(i, (long) LONG_BE.get(bytes, i << 3));
+            }
+        } else {
+            for (int i = 0; i < wholeWords; i++) {
+                setWord(i, (long) LONG_LE.get(bytes, i << 3));
+            }
         }
-        bytePos = 0;
-        bitPos = 0;
-        bitLength = buffer.size() * 8;
+        for (int i = wholeWords << 3; i < bytes.length; i++) {
+            setWord(i >>> 3, word(i >>> 3) | (bytes[i] & 0xFFL) << byteShift(i));
+        }
+
+        position = 0;
+        bitLength = bytes.length * 8L;
     }
 
     /**
-     * Returns the current position in bits.
+     * Returns the shift of a byte of the stream within its word.
+     *
+     * @param byteIndex The index of the byte in the stream.
+     * @return The shift of the byte in its word.
+     */
+    private int byteShift(long byteIndex) {
+        int shift = ((int) byteIndex & 7) << 3;
+        return msbFirst ? 56 - shift : shift;
+    }
+
+    /**
+     * Gets the order in which bits are packed.
+     *
+     * @return The bit order.
+     */
+    public BitOrder getBitOrder() {
+        return bitOrder;
+    }
+
+    /**
+     * Returns the number of words needed to hold the given number of bits.
+     *
+     * @param bits The number of bits.
+     * @return The number of 64-bit words.
+     */
+    private static long wordsFor(long bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    /**
+     * Returns a word of the store.
+     *
+     * @param index The index of the word.
+     * @return The word.
+     */
+    private long word(long index) {
+        return chunks[(int) (index >>> CHUNK_SHIFT)][(int) index & CHUNK_MASK];
+    }
+
+    /**
+     * Replaces a word of the store.
+     *
+     * @param index The index of the word.
+     * @param value The new word.
+     */
+    private void setWord(long index, long value) {
+        chunks[(int) (index >>> CHUNK_SHIFT)][(int) index & CHUNK_MASK] = value;
+    }
+
+    /**
+     * Ensures the word store can hold at least the given number of bits. A single chunk doubles
+     * until it is full, after which full chunks are added, so growing a large stream never
+     * copies its data.
+     *
+     * @param bits The number of bits that must fit.
+     * @throws IllegalArgumentException If the stream would exceed the maximum length.
+     */
+    private void ensureCapacity(long bits) {
+        long required = wordsFor(bits);
+        if (required <= wordCapacity) {
+            return;
+        }
+
+        if (required <= CHUNK_WORDS) {
+            int size = (int) Math.min(CHUNK_WORDS, Math.max(required, wordCapacity << 1));
+            chunks[0] = Arrays.copyOf(chunks[0], size);
+            wordCapacity = size;
+            return;
+        }
+
+        long chunkCount = (required + CHUNK_MASK) >>> CHUNK_SHIFT;
+        if (chunkCount > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Stream would exceed the maximum length");
+        }
+        if (chunks[0].length < CHUNK_WORDS) {
+            chunks[0] = Arrays.copyOf(chunks[0], CHUNK_WORDS);
+        }
+        int existing = chunks.length;
+        chunks = Arrays.copyOf(chunks, (int) chunkCount);
+        for (int i = existing; i < chunks.length; i++) {
+            chunks[i] = new long[CHUNK_WORDS];
+        }
+        wordCapacity = chunkCount << CHUNK_SHIFT;
+    }
+
+    /**
+     * Returns the current position in bits. This is a checked adapter over
+     * {@link #getPositionLong()}.
      *
      * @return The current position in bits.
+     * @throws IllegalStateException If the position does not fit in an int.
      */
     public int getPosition() {
-        return bytePos * 8 + bitPos;
+        return checkedInt(position, "Position");
+    }
+
+    /**
+     * Returns the current position in bits.
+     *
+     * @return The current position in bits.
+     */
+    public long getPositionLong() {
+        return position;
     }
 
     /**
@@ -70,23 +259,71 @@ public class BitStream {
      * @throws BitStreamException If the position is beyond the end of the stream.
      */
     public void setPosition(int position) {
+        setPosition((long) position);
+    }
+
+    /**
+     * Sets the current position in bits.
+     *
+     * @param position The new position in bits.
+     * @throws BitStreamException If the position is beyond the end of the stream.
+     * @throws IllegalArgumentException If the position is negative.
+     */
+    public void setPosition(long position) {
+        if (position < 0) {
+            throw new IllegalArgumentException("Position cannot be negative");
+        }
         if (position > bitLength) {
             throw BitStreamException.endOfStream();
         }
 
-        bytePos = position / 8;
-        bitPos = (byte)(position % 8);
+        this.position = position;
     }
 
     /**
-     * Returns the total length of the stream in bits.
+     * Returns the total length of the stream in bits. This is a checked adapter over
+     * {@link #getLengthLong()}.
      *
      * @return The total length in bits.
+     * @throws IllegalStateException If the length does not fit in an int.
      */
     public int getLength() {
+        return checkedInt(bitLength, "Length");
+    }
+
+    /**
+     * Returns the total length of the stream in bits.
+     *
+     * @return The total length in bits.
+     */
+    public long getLengthLong() {
         return bitLength;
     }
 
+    /**
+     * Narrows a bit count for the int accessors.
+     *
+     * @param value The bit count.
+     * @param name The name of the value, for the error message.
+     * @return The bit count as an int.
+     * @throws IllegalStateException If the bit count does not fit in an int.
+     */
+    private static int checkedInt(long value, String name) {
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalStateException(name + " of " + value + " bits does not fit in an int");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Gets the number of bits between the current position and the end of the stream.
+     *
+     * @return The number of bits that can still be read.
+     */
+    public long remainingBits() {
+        return bitLength - position;
+    }
+
     /**
      * Returns true if the stream is empty.
      *
@@ -104,15 +341,57 @@ public class BitStream {
      * @throws BitStreamException If the bit count is invalid or the end of stream is reached.
      */
     public BitValue readBitValue(byte bitCount) {
-        if (bitCount <= 64) {
+        int bits = bitCount & 0xFF;
+        if (bits <= 64) {
             long value = readBits(bitCount);
             return BitValue.newValue(value, bitCount);
+        } else if (bits > 128) {
+            throw BitStreamException.invalidBitCount();
         } else {
-            BigInteger value = readBitsU128(bitCount);
-            return BitValue.newBigIntegerValue(value, bitCount, false);
+            // Read the two halves directly rather than building a BigInteger, in stream order
+            long lowBits;
+            long highBits;
+            if (msbFirst) {
+                highBits = readBits((byte)(bits - 64));
+                lowBits = readBits((byte)64);
+            } else {
+                lowBits = readBits((byte)64);
+                highBits = readBits((byte)(bits - 64));
+            }
+            return BitValue.newUnsignedValue(lowBits, highBits, bitCount);
         }
     }
 
+    /**
+     * Reads up to 128 bits from the stream into a reusable holder, so a decode loop can read
+     * values without allocating a BitValue for each one.
+     *
+     * @param bitCount The number of bits to read (1-128).
+     * @param target The holder to read the value into.
+     * @return The target holder.
+     * @throws BitStreamException If the bit count is invalid or the end of stream is reached.
+     */
+    public MutableBitValue readBitValue(byte bitCount, MutableBitValue target) {
+        int bits = bitCount & 0xFF;
+        if (bits <= 64) {
+            target.set(readBits(bitCount), 0L, bitCount);
+        } else if (bits > 128) {
+            throw BitStreamException.invalidBitCount();
+        } else {
+            long lowBits;
+            long highBits;
+            if (msbFirst) {
+                highBits = readBits((byte)(bits - 64));
+                lowBits = readBits((byte)64);
+            } else {
+                lowBits = readBits((byte)64);
+                highBits = readBits((byte)(bits - 64));
+            }
+            target.set(lowBits, highBits, bitCount);
+        }
+        return target;
+    }
+
     /**
      * Reads up to 64 bits from the stream.
      *
@@ -126,98 +405,297 @@ public class BitStream {
         }
 
         // Check if we have enough bits left
-        if (getPosition() + bitCount > bitLength) {
+        if (position + bitCount > bitLength) {
             throw BitStreamException.endOfStream();
         }
 
-        long result = 0;
-        int bitsRead = 0;
+        // Take the bits from the current word, and from the next one if the value straddles them
+        long result = extractBits(position, bitCount);
+        position += bitCount;
 
-        // Read bits until we have read the requested number
-        while (bitsRead < bitCount) {
-            // Ensure we have a valid byte to read from
-            if (bytePos >= buffer.size()) {
-                throw BitStreamException.endOfStream();
-            }
+        return bitCount == 64 ? result : result & ((1L << bitCount) - 1);
+    }
 
-            // Get the current byte
-            byte currentByte = buffer.get(bytePos);
+    /**
+     * Returns up to 64 bits from the stream without moving the position.
+     *
+     * @param bitCount The number of bits to look at (1-64).
+     * @return The next bits as a 64-bit unsigned long.
+     * @throws BitStreamException If the bit count is invalid or the end of stream is reached.
+     */
+    public long peekBits(byte bitCount) {
+        if (bitCount <= 0 || bitCount > 64) {
+            throw BitStreamException.invalidBitCount();
+        }
 
-            // Calculate how many bits we can read from the current byte
-            int bitsAvailable = 8 - bitPos;
-            int bitsToRead = Math.min(bitsAvailable, bitCount - bitsRead);
+        if (position + bitCount > bitLength) {
+            throw BitStreamException.endOfStream();
+        }
 
-            // Create a mask for the bits we want to read
-            byte mask = (byte)((1 << bitsToRead) - 1);
+        long result = extractBits(position, bitCount);
+        return bitCount == 64 ? result : result & ((1L << bitCount) - 1);
+    }
 
-            // Shift the mask to the correct position
-            mask = (byte)(mask << bitPos);
+    /**
+     * Moves the position forward by up to 64 bits, typically after {@link #peekBits(byte)}.
+     *
+     * @param bitCount The number of bits to skip (1-64).
+     * @throws BitStreamException If the bit count is invalid or the end of stream is reached.
+     */
+    public void consume(byte bitCount) {
+        if (bitCount <= 0 || bitCount > 64) {
+            throw BitStreamException.invalidBitCount();
+        }
 
-            // Read the bits
-            byte readBits = (byte)((currentByte & mask) >> bitPos);
+        if (position + bitCount > bitLength) {
+            throw BitStreamException.endOfStream();
+        }
 
-            // Add the bits to the result
-            result |= (long)readBits << bitsRead;
+        position += bitCount;
+    }
 
-            // Update the bit position
-            bitsRead += bitsToRead;
-            bitPos += bitsToRead;
+    /**
+     * Reads up to 128 bits from the stream as a UInt128, without going through a BigInteger.
+     *
+     * @param bitCount The number of bits to read (1-128). The count is read as unsigned, so 128
+     *                 is passed as {@code (byte)128}.
+     * @return The read bits as a UInt128.
+     * @throws BitStreamException If the bit count is invalid or the end of stream is reached.
+     */
+    public UInt128 readU128(byte bitCount) {
+        int bits = bitCount & 0xFF;
+        if (bits == 0 || bits > 128) {
+            throw BitStreamException.invalidBitCount();
+        }
 
-            // If we've read all bits in the current byte, move to the next byte
-            if (bitPos == 8) {
-                bytePos++;
-                bitPos = 0;
-            }
+        // Values of up to 64 bits only have a low half
+        if (bits <= 64) {
+            return new UInt128(0L, readBits(bitCount));
         }
 
-        return result;
+        // For bit counts > 64, the low 64 bits come first in LSB-first order, the high bits in
+        // MSB-first order
+        if (msbFirst) {
+            long highBits = readBits((byte)(bits - 64));
+            return new UInt128(highBits, readBits((byte)64));
+        }
+        long lowBits = readBits((byte)64);
+        return new UInt128(readBits((byte)(bits - 64)), lowBits);
     }
 
     /**
-     * Reads up to 128 bits from the stream.
+     * Reads up to 128 bits from the stream. This is a compatibility adapter over
+     * {@link #readU128(byte)}, which avoids the BigInteger allocations.
      *
      * @param bitCount The number of bits to read (1-128).
      * @return The read bits as a 128-bit unsigned BigInteger.
      * @throws BitStreamException If the bit count is invalid or the end of stream is reached.
      */
     public BigInteger readBitsU128(byte bitCount) {
-        if (bitCount <= 0 || bitCount > 128) {
-            throw BitStreamException.invalidBitCount();
+        return readU128(bitCount).toBigInteger();
+    }
+
+    /**
+     * Reads whole bytes into an array, as {@code len} reads of 8 bits would. The bytes are
+     * copied eight at a time with word shifts, whatever the alignment of the position.
+     *
+     * @param dst The array to read into.
+     * @param off The index of the first byte to read into.
+     * @param len The number of bytes to read.
+     * @throws BitStreamException If the end of stream is reached.
+     * @throws IndexOutOfBoundsException If the range is outside the array.
+     */
+    public void readBytes(byte[] dst, int off, int len) {
+        Objects.checkFromIndexSize(off, len, dst.length);
+        if (position + 8L * len > bitLength) {
+            throw BitStreamException.endOfStream();
         }
 
-        // For bit counts up to 64, we can use the existing method
-        if (bitCount <= 64) {
-            long value = readBits(bitCount);
-            if (value < 0) {
-                // Convert negative long to unsigned BigInteger
-                return BigInteger.valueOf(value & Long.MAX_VALUE).setBit(63);
-            } else {
-                return BigInteger.valueOf(value);
+        long pos = position;
+        int i = off;
+        int end = off + len;
+
+        // Eight bytes at a time as one word, stored in the byte order of the word store
+        if (msbFirst) {
+            for (; end - i >= 8; i += 8, pos += 64) {
+                LONG_BE.set(dst, i, extractBits(pos, 64));
+            }
+        } else {
+            for (; end - i >= 8; i += 8, pos += 64) {
+                LONG_LE.set(dst, i, extractBits(pos, 64));
             }
         }
+        for (; i < end; i++, pos += 8) {
+            dst[i] = (byte) extractBits(pos, 8);
+        }
 
-        // For bit counts > 64, we need to read in two parts
-        long lowBits = readBits((byte)64);
-        long highBits = readBits((byte)(bitCount - 64));
+        position = pos;
+    }
 
-        // Convert high bits to BigInteger and shift left 64 bits
-        BigInteger highValue;
-        if (highBits < 0) {
-            highValue = BigInteger.valueOf(highBits & Long.MAX_VALUE).setBit(63).shiftLeft(64);
-        } else {
-            highValue = BigInteger.valueOf(highBits).shiftLeft(64);
+    /**
+     * Reads {@code count} values of the same width into a long array.
+     *
+     * @param values The array to read into.
+     * @param offset The index of the first value to read into.
+     * @param count The number of values to read.
+     * @param bitCount The number of bits in each value (1-64).
+     * @throws BitStreamException If the bit count is invalid or the end of stream is reached.
+     * @throws IndexOutOfBoundsException If the range is outside the array.
+     */
+    public void readBits(long[] values, int offset, int count, byte bitCount) {
+        long pos = startBulkRead(values.length, offset, count, bitCount, 64);
+        int i = offset;
+        int end = offset + count;
+
+        // Whole blocks go through the width-specialised kernels, which only pack LSB-first
+        for (; end - i >= BitPacking.BLOCK_SIZE && !msbFirst; i += BitPacking.BLOCK_SIZE, pos += BitPacking.BLOCK_SIZE * bitCount) {
+            unpackBlock(pos, bitCount, values, i);
         }
 
-        // Convert low bits to BigInteger
-        BigInteger lowValue;
-        if (lowBits < 0) {
-            lowValue = BigInteger.valueOf(lowBits & Long.MAX_VALUE).setBit(63);
-        } else {
-            lowValue = BigInteger.valueOf(lowBits);
+        long mask = bitCount == 64 ? -1L : (1L << bitCount) - 1;
+        for (; i < end; i++, pos += bitCount) {
+            values[i] = extractBits(pos, bitCount) & mask;
+        }
+    }
+
+    /**
+     * Reads {@code count} values of the same width into an int array.
+     *
+     * @param values The array to read into.
+     * @param offset The index of the first value to read into.
+     * @param count The number of values to read.
+     * @param bitCount The number of bits in each value (1-32).
+     * @throws BitStreamException If the bit count is invalid or the end of stream is reached.
+     * @throws IndexOutOfBoundsException If the range is outside the array.
+     */
+    public void readBits(int[] values, int offset, int count, byte bitCount) {
+        long pos = startBulkRead(values.length, offset, count, bitCount, 32);
+        int i = offset;
+        int end = offset + count;
+
+        // Whole blocks go through the width-specialised kernels, which only pack LSB-first
+        if (end - i >= BitPacking.BLOCK_SIZE && !msbFirst) {
+            long[] block = blockScratch();
+            for (; end - i >= BitPacking.BLOCK_SIZE; i += BitPacking.BLOCK_SIZE, pos += BitPacking.BLOCK_SIZE * bitCount) {
+                unpackBlock(pos, bitCount, block, 0);
+                for (int j = 0; j < BitPacking.BLOCK_SIZE; j++) {
+                    values[i + j] = (int) block[j];
+                }
+            }
+        }
+
+        long mask = (1L << bitCount) - 1;
+        for (; i < end; i++, pos += bitCount) {
+            values[i] = (int)(extractBits(pos, bitCount) & mask);
+        }
+    }
+
+    /**
+     * Reads {@code count} values of the same width into a short array.
+     *
+     * @param values The array to read into.
+     * @param offset The index of the first value to read into.
+     * @param count The number of values to read.
+     * @param bitCount The number of bits in each value (1-16).
+     * @throws BitStreamException If the bit count is invalid or the end of stream is reached.
+     * @throws IndexOutOfBoundsException If the range is outside the array.
+     */
+    public void readBits(short[] values, int offset, int count, byte bitCount) {
+        long pos = startBulkRead(values.length, offset, count, bitCount, 16);
+        int i = offset;
+        int end = offset + count;
+
+        // Whole blocks go through the width-specialised kernels, which only pack LSB-first
+        if (end - i >= BitPacking.BLOCK_SIZE && !msbFirst) {
+            long[] block = blockScratch();
+            for (; end - i >= BitPacking.BLOCK_SIZE; i += BitPacking.BLOCK_SIZE, pos += BitPacking.BLOCK_SIZE * bitCount) {
+                unpackBlock(pos, bitCount, block, 0);
+                for (int j = 0; j < BitPacking.BLOCK_SIZE; j++) {
+                    values[i + j] = (short) block[j];
+                }
+            }
         }
 
-        // Combine high and low bits
-        return highValue.or(lowValue);
+        long mask = (1L << bitCount) - 1;
+        for (; i < end; i++, pos += bitCount) {
+            values[i] = (short)(extractBits(pos, bitCount) & mask);
+        }
+    }
+
+    /**
+     * Reads {@code count} values of the same width into a byte array.
+     *
+     * @param values The array to read into.
+     * @param offset The index of the first value to read into.
+     * @param count The number of values to read.
+     * @param bitCount The number of bits in each value (1-8).
+     * @throws BitStreamException If the bit count is invalid or the end of stream is reached.
+     * @throws IndexOutOfBoundsException If the range is outside the array.
+     */
+    public void readBits(byte[] values, int offset, int count, byte bitCount) {
+        long pos = startBulkRead(values.length, offset, count, bitCount, 8);
+        int i = offset;
+        int end = offset + count;
+
+        // Whole blocks go through the width-specialised kernels, which only pack LSB-first
+        if (end - i >= BitPacking.BLOCK_SIZE && !msbFirst) {
+            long[] block = blockScratch();
+            for (; end - i >= BitPacking.BLOCK_SIZE; i += BitPacking.BLOCK_SIZE, pos += BitPacking.BLOCK_SIZE * bitCount) {
+                unpackBlock(pos, bitCount, block, 0);
+                for (int j = 0; j < BitPacking.BLOCK_SIZE; j++) {
+                    values[i + j] = (byte) block[j];
+                }
+            }
+        }
+
+        long mask = (1L << bitCount) - 1;
+        for (; i < end; i++, pos += bitCount) {
+            values[i] = (byte)(extractBits(pos, bitCount) & mask);
+        }
+    }
+
+    /**
+     * Validates a bulk read and advances the position past it. The whole range is checked up
+     * front so the read loop needs no per-value checks.
+     *
+     * @param length The length of the target array.
+     * @param offset The index of the first value to read into.
+     * @param count The number of values to read.
+     * @param bitCount The number of bits in each value.
+     * @param maxBitCount The widest value the target array can hold.
+     * @return The bit position of the first value.
+     * @throws BitStreamException If the bit count is invalid or the end of stream is reached.
+     */
+    private long startBulkRead(int length, int offset, int count, byte bitCount, int maxBitCount) {
+        if (bitCount <= 0 || bitCount > maxBitCount) {
+            throw BitStreamException.invalidBitCount();
+        }
+        Objects.checkFromIndexSize(offset, count, length);
+
+        if (position + (long) count * bitCount > bitLength) {
+            throw BitStreamException.endOfStream();
+        }
+
+        long start = position;
+        position += (long) count * bitCount;
+        return start;
+    }
+
+    /**
+     * Returns the bits starting at a position, without masking off the bits above the value.
+     * The caller must have checked that the value lies within the stream.
+     *
+     * @param pos The bit position of the value.
+     * @param bitCount The number of bits in the value (1-64).
+     * @return The value in the low bits, followed by whatever bits come after it.
+     */
+    private long extractBits(long pos, int bitCount) {
+        long index = pos >>> 6;
+        int offset = (int) pos & 63;
+        if (BitWords.straddles(offset, bitCount)) {
+            return BitWords.extract(word(index), word(index + 1), offset, bitCount, msbFirst);
+        }
+        return BitWords.extract(word(index), 0, offset, bitCount, msbFirst);
     }
 
     /**
@@ -237,76 +715,262 @@ public class BitStream {
             ? value 
             : value & ((1L << bitCount) - 1);
 
-        int bitsWritten = 0;
+        ensureCapacity(position + bitCount);
+
+        long mask = bitCount == 64 ? -1L : (1L << bitCount) - 1;
+        insertBits(position, bitCount, maskedValue, mask);
+        position += bitCount;
 
-        // Write bits until we have written the requested number
-        while (bitsWritten < bitCount) {
-            // Ensure we have a byte to write to
-            if (bytePos >= buffer.size()) {
-                buffer.add((byte)0);
+        // Update the bit length if we've written beyond the current end
+        bitLength = Math.max(bitLength, position);
+    }
+
+    /**
+     * Writes whole bytes from an array, as {@code len} writes of 8 bits would. The bytes are
+     * copied eight at a time with word shifts, whatever the alignment of the position.
+     *
+     * @param src The array to write from.
+     * @param off The index of the first byte to write.
+     * @param len The number of bytes to write.
+     * @throws IndexOutOfBoundsException If the range is outside the array.
+     * @throws IllegalArgumentException If the stream would exceed the maximum length.
+     */
+    public void writeBytes(byte[] src, int off, int len) {
+        Objects.checkFromIndexSize(off, len, src.length);
+        ensureCapacity(position + 8L * len);
+
+        long pos = position;
+        int i = off;
+        int end = off + len;
+
+        // Eight bytes at a time as one word, loaded in the byte order of the word store
+        if (msbFirst) {
+            for (; end - i >= 8; i += 8, pos += 64) {
+                insertBits(pos, 64, (long) LONG_BE.get(src, i), -1L);
+            }
+        } else {
+            for (; end - i >= 8; i += 8, pos += 64) {
+                insertBits(pos, 64, (long) LONG_LE.get(src, i), -1L);
             }
+        }
+        for (; i < end; i++, pos += 8) {
+            insertBits(pos, 8, src[i] & 0xFFL, 0xFFL);
+        }
 
-            // Calculate how many bits we can write to the current byte
-            int bitsAvailable = 8 - bitPos;
-            int bitsToWrite = Math.min(bitsAvailable, bitCount - bitsWritten);
+        position = pos;
+        bitLength = Math.max(bitLength, position);
+    }
+
+    /**
+     * Writes {@code count} values of the same width from a long array.
+     *
+     * @param values The array to write from.
+     * @param offset The index of the first value to write.
+     * @param count The number of values to write.
+     * @param bitCount The number of bits in each value (1-64).
+     * @throws BitStreamException If the bit count is invalid.
+     * @throws IndexOutOfBoundsException If the range is outside the array.
+     */
+    public void writeBits(long[] values, int offset, int count, byte bitCount) {
+        long pos = startBulkWrite(values.length, offset, count, bitCount, 64);
+        int i = offset;
+        int end = offset + count;
 
-            // Create a mask for the bits we want to write
-            byte mask = (byte)((1 << bitsToWrite) - 1);
+        // Whole blocks go through the width-specialised kernels, which only pack LSB-first
+        for (; end - i >= BitPacking.BLOCK_SIZE && !msbFirst; i += BitPacking.BLOCK_SIZE, pos += BitPacking.BLOCK_SIZE * bitCount) {
+            packBlock(values, i, pos, bitCount);
+        }
 
-            // Get the bits to write
-            byte bitsToWriteValue = (byte)((maskedValue >> bitsWritten) & mask);
+        long mask = bitCount == 64 ? -1L : (1L << bitCount) - 1;
+        for (; i < end; i++, pos += bitCount) {
+            insertBits(pos, bitCount, values[i] & mask, mask);
+        }
+    }
 
-            // Shift the bits to the correct position
-            bitsToWriteValue = (byte)(bitsToWriteValue << bitPos);
+    /**
+     * Writes {@code count} values of the same width from an int array.
+     *
+     * @param values The array to write from.
+     * @param offset The index of the first value to write.
+     * @param count The number of values to write.
+     * @param bitCount The number of bits in each value (1-32).
+     * @throws BitStreamException If the bit count is invalid.
+     * @throws IndexOutOfBoundsException If the range is outside the array.
+     */
+    public void writeBits(int[] values, int offset, int count, byte bitCount) {
+        long pos = startBulkWrite(values.length, offset, count, bitCount, 32);
+        int i = offset;
+        int end = offset + count;
 
-            // Create a mask for the bits we want to preserve
-            byte preserveMask = (byte)~(mask << bitPos);
+        // Whole blocks go through the width-specialised kernels, which only pack LSB-first
+        if (end - i >= BitPacking.BLOCK_SIZE && !msbFirst) {
+            long[] block = blockScratch();
+            for (; end - i >= BitPacking.BLOCK_SIZE; i += BitPacking.BLOCK_SIZE, pos += BitPacking.BLOCK_SIZE * bitCount) {
+                for (int j = 0; j < BitPacking.BLOCK_SIZE; j++) {
+                    block[j] = values[i + j];
+                }
+                packBlock(block, 0, pos, bitCount);
+            }
+        }
 
-            // Update the byte in the buffer
-            byte currentByte = buffer.get(bytePos);
-            buffer.set(bytePos, (byte)((currentByte & preserveMask) | bitsToWriteValue));
+        long mask = (1L << bitCount) - 1;
+        for (; i < end; i++, pos += bitCount) {
+            insertBits(pos, bitCount, values[i] & mask, mask);
+        }
+    }
 
-            // Update the bit position
-            bitsWritten += bitsToWrite;
-            bitPos += bitsToWrite;
+    /**
+     * Writes {@code count} values of the same width from a short array.
+     *
+     * @param values The array to write from.
+     * @param offset The index of the first value to write.
+     * @param count The number of values to write.
+     * @param bitCount The number of bits in each value (1-16).
+     * @throws BitStreamException If the bit count is invalid.
+     * @throws IndexOutOfBoundsException If the range is outside the array.
+     */
+    public void writeBits(short[] values, int offset, int count, byte bitCount) {
+        long pos = startBulkWrite(values.length, offset, count, bitCount, 16);
+        int i = offset;
+        int end = offset + count;
 
-            // If we've filled the current byte, move to the next byte
-            if (bitPos == 8) {
-                bytePos++;
-                bitPos = 0;
+        // Whole blocks go through the width-specialised kernels, which only pack LSB-first
+        if (end - i >= BitPacking.BLOCK_SIZE && !msbFirst) {
+            long[] block = blockScratch();
+            for (; end - i >= BitPacking.BLOCK_SIZE; i += BitPacking.BLOCK_SIZE, pos += BitPacking.BLOCK_SIZE * bitCount) {
+                for (int j = 0; j < BitPacking.BLOCK_SIZE; j++) {
+                    block[j] = values[i + j];
+                }
+                packBlock(block, 0, pos, bitCount);
             }
         }
 
-        // Update the bit length if we've written beyond the current end
-        bitLength = Math.max(bitLength, getPosition());
+        long mask = (1L << bitCount) - 1;
+        for (; i < end; i++, pos += bitCount) {
+            insertBits(pos, bitCount, values[i] & mask, mask);
+        }
+    }
+
+    /**
+     * Writes {@code count} values of the same width from a byte array.
+     *
+     * @param values The array to write from.
+     * @param offset The index of the first value to write.
+     * @param count The number of values to write.
+     * @param bitCount The number of bits in each value (1-8).
+     * @throws BitStreamException If the bit count is invalid.
+     * @throws IndexOutOfBoundsException If the range is outside the array.
+     */
+    public void writeBits(byte[] values, int offset, int count, byte bitCount) {
+        long pos = startBulkWrite(values.length, offset, count, bitCount, 8);
+        int i = offset;
+        int end = offset + count;
+
+        // Whole blocks go through the width-specialised kernels, which only pack LSB-first
+        if (end - i >= BitPacking.BLOCK_SIZE && !msbFirst) {
+            long[] block = blockScratch();
+            for (; end - i >= BitPacking.BLOCK_SIZE; i += BitPacking.BLOCK_SIZE, pos += BitPacking.BLOCK_SIZE * bitCount) {
+                for (int j = 0; j < BitPacking.BLOCK_SIZE; j++) {
+                    block[j] = values[i + j];
+                }
+                packBlock(block, 0, pos, bitCount);
+            }
+        }
+
+        long mask = (1L << bitCount) - 1;
+        for (; i < end; i++, pos += bitCount) {
+            insertBits(pos, bitCount, values[i] & mask, mask);
+        }
+    }
+
+    /**
+     * Validates a bulk write, grows the word store to hold it and advances the position past it.
+     *
+     * @param length The length of the source array.
+     * @param offset The index of the first value to write.
+     * @param count The number of values to write.
+     * @param bitCount The number of bits in each value.
+     * @param maxBitCount The widest value the source array can hold.
+     * @return The bit position of the first value.
+     * @throws BitStreamException If the bit count is invalid.
+     */
+    private long startBulkWrite(int length, int offset, int count, byte bitCount, int maxBitCount) {
+        if (bitCount <= 0 || bitCount > maxBitCount) {
+            throw BitStreamException.invalidBitCount();
+        }
+        Objects.checkFromIndexSize(offset, count, length);
+
+        long end = position + (long) count * bitCount;
+        ensureCapacity(end);
+
+        long start = position;
+        position = end;
+        bitLength = Math.max(bitLength, position);
+        return start;
+    }
+
+    /**
+     * Replaces the bits at a position. The caller must have made room for the value.
+     *
+     * @param pos The bit position of the value.
+     * @param bitCount The number of bits in the value (1-64).
+     * @param maskedValue The value, with no bits set above {@code bitCount}.
+     * @param mask The mask for the low {@code bitCount} bits.
+     */
+    private void insertBits(long pos, int bitCount, long maskedValue, long mask) {
+        long index = pos >>> 6;
+        int offset = (int) pos & 63;
+        long[] chunk = chunks[(int) (index >>> CHUNK_SHIFT)];
+        int i = (int) index & CHUNK_MASK;
+
+        // Replace the bits in the current word, and in the next one if the value straddles them
+        chunk[i] = BitWords.insertFirst(chunk[i], offset, bitCount, maskedValue, mask, msbFirst);
+        if (BitWords.straddles(offset, bitCount)) {
+            setWord(index + 1, BitWords.insertSecond(word(index + 1), offset, bitCount, maskedValue, mask, msbFirst));
+        }
     }
 
     /**
-     * Writes up to 128 bits to the stream.
+     * Writes up to 128 bits to the stream from a UInt128, without going through a BigInteger.
      *
      * @param value The value to write.
-     * @param bitCount The number of bits to write (1-128).
+     * @param bitCount The number of bits to write (1-128). The count is read as unsigned, so 128
+     *                 is passed as {@code (byte)128}.
      * @throws BitStreamException If the bit count is invalid.
      */
-    public void writeBitsU128(BigInteger value, byte bitCount) {
-        if (bitCount <= 0 || bitCount > 128) {
+    public void writeU128(UInt128 value, byte bitCount) {
+        int bits = bitCount & 0xFF;
+        if (bits == 0 || bits > 128) {
             throw BitStreamException.invalidBitCount();
         }
 
-        // For bit counts up to 64, we can use the existing method
-        if (bitCount <= 64) {
-            writeBits(value.longValue(), bitCount);
+        // Values of up to 64 bits only need the low half
+        if (bits <= 64) {
+            writeBits(value.getLow(), bitCount);
             return;
         }
 
-        // For bit counts > 64, we need to write in two parts
-        // First write the low 64 bits
-        long lowBits = value.and(BigInteger.valueOf(-1L)).longValue();
-        writeBits(lowBits, (byte)64);
+        // For bit counts > 64, the low 64 bits come first in LSB-first order, the high bits in
+        // MSB-first order
+        if (msbFirst) {
+            writeBits(value.getHigh(), (byte)(bits - 64));
+            writeBits(value.getLow(), (byte)64);
+        } else {
+            writeBits(value.getLow(), (byte)64);
+            writeBits(value.getHigh(), (byte)(bits - 64));
+        }
+    }
 
-        // Then write the high bits
-        long highBits = value.shiftRight(64).longValue();
-        writeBits(highBits, (byte)(bitCount - 64));
+    /**
+     * Writes up to 128 bits to the stream. This is a compatibility adapter over
+     * {@link #writeU128(UInt128, byte)}, which avoids the BigInteger allocations.
+     *
+     * @param value The value to write.
+     * @param bitCount The number of bits to write (1-128).
+     * @throws BitStreamException If the bit count is invalid.
+     */
+    public void writeBitsU128(BigInteger value, byte bitCount) {
+        writeU128(UInt128.fromBigInteger(value), bitCount);
     }
 
     /**
@@ -318,23 +982,184 @@ public class BitStream {
      */
     public void writeBitValue(BitValue value, Byte bitCount) {
         byte bitsToWrite = bitCount != null ? bitCount : value.getBitCount();
+        int bits = bitsToWrite & 0xFF;
 
-        if (bitsToWrite <= 64) {
+        if (bits <= 64) {
             writeBits(value.toUInt64(), bitsToWrite);
+        } else if (bits > 128) {
+            throw BitStreamException.invalidBitCount();
         } else {
-            writeBitsU128(value.toUnsignedBigInteger(), bitsToWrite);
+            // Write the two halves directly rather than building a BigInteger
+            if (msbFirst) {
+                writeBits(value.getHigh(), (byte)(bits - 64));
+                writeBits(value.toUInt64(), (byte)64);
+            } else {
+                writeBits(value.toUInt64(), (byte)64);
+                writeBits(value.getHigh(), (byte)(bits - 64));
+            }
         }
     }
 
+    /**
+     * Appends the whole of another stream to the end of this one and moves the position to the
+     * new end.
+     *
+     * @param other The stream to append, which may be this stream.
+     * @throws IllegalArgumentException If the streams have different bit orders or the result
+     *                                  would exceed the maximum length.
+     */
+    public void append(BitStream other) {
+        append(other, 0, other.bitLength);
+    }
+
+    /**
+     * Appends a range of bits of another stream to the end of this one and moves the position to
+     * the new end. The bits are copied a word at a time, shifted into place.
+     *
+     * @param other The stream to append from, which may be this stream.
+     * @param fromBit The position in the other stream of the first bit to append.
+     * @param bitLen The number of bits to append.
+     * @throws IllegalArgumentException If the streams have different bit orders or the result
+     *                                  would exceed the maximum length.
+     * @throws IndexOutOfBoundsException If the range is outside the other stream.
+     */
+    public void append(BitStream other, long fromBit, long bitLen) {
+        if (other.bitOrder != bitOrder) {
+            throw new IllegalArgumentException("Cannot append a " + other.bitOrder + " stream to a " + bitOrder + " stream");
+        }
+        Objects.checkFromIndexSize(fromBit, bitLen, other.bitLength);
+
+        long end = bitLength + bitLen;
+        ensureCapacity(end);
+
+        long src = fromBit;
+        long dst = bitLength;
+
+        // Whole words first, then the final partial word
+        for (; end - dst >= 64; src += 64, dst += 64) {
+            insertBits(dst, 64, other.extractBits(src, 64), -1L);
+        }
+        int tail = (int) (end - dst);
+        if (tail > 0) {
+            long mask = (1L << tail) - 1;
+            insertBits(dst, tail, other.extractBits(src, tail) & mask, mask);
+        }
+
+        bitLength = end;
+        position = end;
+    }
+
+    /**
+     * Returns the scratch space used by the block kernels: 64 values followed by 64 packed words.
+     *
+     * @return The scratch array.
+     */
+    private long[] blockScratch() {
+        if (blockScratch == null) {
+            blockScratch = new long[2 * BitPacking.BLOCK_SIZE];
+        }
+        return blockScratch;
+    }
+
+    /**
+     * Unpacks a block of 64 values starting at a bit position. The caller must have checked that
+     * the block lies within the stream.
+     *
+     * @param pos The bit position of the first value.
+     * @param bitCount The number of bits in each value (1-64).
+     * @param values The array to unpack into.
+     * @param valueOffset The index of the first value.
+     */
+    private void unpackBlock(long pos, int bitCount, long[] values, int valueOffset) {
+        long index = pos >>> 6;
+        int offset = (int) pos & 63;
+        long[] chunk = chunks[(int) (index >>> CHUNK_SHIFT)];
+        int i = (int) index & CHUNK_MASK;
+
+        // A word-aligned block inside one chunk can be unpacked in place
+        if (offset == 0 && i + bitCount <= chunk.length) {
+            BitPackingBackend.unpack(chunk, i, values, valueOffset, bitCount);
+            return;
+        }
+
+        // Otherwise gather the block into word alignment first
+        long[] block = blockScratch();
+        for (int k = 0; k < bitCount; k++) {
+            long low = word(index + k) >>> offset;
+            block[BitPacking.BLOCK_SIZE + k] = offset == 0 ? low : low | (word(index + k + 1) << (64 - offset));
+        }
+        BitPackingBackend.unpack(block, BitPacking.BLOCK_SIZE, values, valueOffset, bitCount);
+    }
+
+    /**
+     * Packs a block of 64 values and stores it at a bit position. The caller must have made room
+     * for the block.
+     *
+     * @param values The values to pack.
+     * @param valueOffset The index of the first value.
+     * @param pos The bit position of the first value.
+     * @param bitCount The number of bits in each value (1-64).
+     */
+    private void packBlock(long[] values, int valueOffset, long pos, int bitCount) {
+        long index = pos >>> 6;
+        int offset = (int) pos & 63;
+        long[] chunk = chunks[(int) (index >>> CHUNK_SHIFT)];
+        int i = (int) index & CHUNK_MASK;
+
+        // A word-aligned block inside one chunk can be packed in place
+        if (offset == 0 && i + bitCount <= chunk.length) {
+            BitPacking.pack(values, valueOffset, chunk, i, bitCount);
+            return;
+        }
+
+        // Otherwise pack it aside and shift it into place, keeping the bits on either side
+        long[] block = blockScratch();
+        BitPacking.pack(values, valueOffset, block, BitPacking.BLOCK_SIZE, bitCount);
+
+        if (offset == 0) {
+            for (int k = 0; k < bitCount; k++) {
+                setWord(index + k, block[BitPacking.BLOCK_SIZE + k]);
+            }
+            return;
+        }
+
+        long low = (1L << offset) - 1;
+        long carry = word(index) & low;
+        for (int k = 0; k < bitCount; k++) {
+            long packed = block[BitPacking.BLOCK_SIZE + k];
+            setWord(index + k, carry | (packed << offset));
+            carry = packed >>> (64 - offset);
+        }
+        setWord(index + bitCount, (word(index + bitCount) & ~low) | carry);
+    }
+
     /**
      * Converts the BitStream to a byte array.
      *
      * @return The content of the BitStream as a byte array.
+     * @throws IllegalStateException If the stream is too long for a byte array. Longer streams
+     *                               can be copied out in pieces with {@link #readBytes}.
      */
     public byte[] toByteArray() {
-        byte[] result = new byte[buffer.size()];
-        for (int i = 0; i < buffer.size(); i++) {
-            result[i] = buffer.get(i);
+        long byteLength = (bitLength + 7) >>> 3;
+        if (byteLength > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Stream of " + bitLength + " bits is too long for a byte array");
+        }
+        byte[] result = new byte[(int) byteLength];
+
+        // Copy whole words, then the trailing partial word a byte at a time
+        int wholeWords = result.length >>> 3;
+        if (msbFirst) {
+            for (int i = 0; i < wholeWords; i++) {
+                LONG_BE.set(result, i << 3, word(i));
+            }
+        } else {
+            for (int i = 0; i < wholeWords; i++) {
+                LONG_LE.set(result, i << 3, word(i));
+            }
+        }
+        for (int i = wholeWords << 3; i < result.length; i++) {
+            result[i] = (byte) (word(i >>> 3) >>> byteShift(i));
         }
         return result;
     }
@@ -343,9 +1168,11 @@ public class BitStream {
      * Resets the BitStream to its initial state.
      */
     public void reset() {
-        buffer.clear();
-        bytePos = 0;
-        bitPos = 0;
+        long usedWords = wordsFor(bitLength);
+        for (int c = 0; (long) c << CHUNK_SHIFT < usedWords; c++) {
+            Arrays.fill(chunks[c], 0, (int) Math.min(chunks[c].length, usedWords - ((long) c << CHUNK_SHIFT)), 0L);
+        }
+        position = 0;
         bitLength = 0;
     }
 
@@ -355,6 +1182,6 @@ public class BitStream {
      * @return True if at the end of the stream, false otherwise.
      */
     public boolean isEof() {
-        return getPosition() >= bitLength;
+        return position >= bitLength;
     }
 }
@@ -4,9 +4,42 @@ import java.io.IOException;
 
 /**
  * Exception that can occur during bit stream operations.
+ *
+ * <p>Setting the system property {@code com.aidanjmorgan.variablebits.stacklessExceptions} to
+ * {@code true} makes {@link #invalidBitCount()} and {@link #endOfStream()} return shared
+ * instances without a stack trace, for callers that use end of stream as control flow.
  */
 public class BitStreamException extends RuntimeException {
 
+    /**
+     * The system property that enables the shared, stackless exceptions.
+     */
+    public static final String STACKLESS_PROPERTY = "com.aidanjmorgan.variablebits.stacklessExceptions";
+
+    /**
+     * Whether the shared, stackless exceptions are in use.
+     */
+    static final boolean STACKLESS = Boolean.getBoolean(STACKLESS_PROPERTY);
+
+    private static final String INVALID_BIT_COUNT_MESSAGE =
+            "The requested bit count is invalid (must be between 1 and 128).";
+
+    private static final String END_OF_STREAM_MESSAGE = "End of stream reached while reading.";
+
+    /**
+     * The shared invalid bit count exception, or null if the stackless exceptions are not in use.
+     */
+    private static final BitStreamException SHARED_INVALID_BIT_COUNT = STACKLESS
+            ? new BitStreamException(BitStreamErrorType.INVALID_BIT_COUNT, INVALID_BIT_COUNT_MESSAGE, false)
+            : null;
+
+    /**
+     * The shared end of stream exception, or null if the stackless exceptions are not in use.
+     */
+    private static final BitStreamException SHARED_END_OF_STREAM = STACKLESS
+            ? new BitStreamException(BitStreamErrorType.END_OF_STREAM, END_OF_STREAM_MESSAGE, false)
+            : null;
+
     /**
      * The type of bit stream error.
      */
@@ -35,6 +68,19 @@ public class BitStreamException extends RuntimeException {
         this.errorType = errorType;
     }
 
+    /**
+     * Creates a shared BitStreamException with no stack trace and no suppressed exceptions, so
+     * one instance can be thrown from any thread.
+     *
+     * @param errorType The type of bit stream error.
+     * @param message The error message.
+     * @param writableStackTrace Whether the stack trace should be filled in.
+     */
+    private BitStreamException(BitStreamErrorType errorType, String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.errorType = errorType;
+    }
+
     /**
      * Gets the type of bit stream error.
      *
@@ -57,21 +103,25 @@ public class BitStreamException extends RuntimeException {
     /**
      * Creates a BitStreamException for an invalid bit count.
      *
-     * @return A new BitStreamException.
+     * @return A new BitStreamException, or the shared stackless instance if enabled.
      */
     public static BitStreamException invalidBitCount() {
-        return new BitStreamException(BitStreamErrorType.INVALID_BIT_COUNT, 
-                "The requested bit count is invalid (must be between 1 and 128).");
+        if (STACKLESS) {
+            return SHARED_INVALID_BIT_COUNT;
+        }
+        return new BitStreamException(BitStreamErrorType.INVALID_BIT_COUNT, INVALID_BIT_COUNT_MESSAGE);
     }
 
     /**
      * Creates a BitStreamException for end of stream reached.
      *
-     * @return A new BitStreamException.
+     * @return A new BitStreamException, or the shared stackless instance if enabled.
      */
     public static BitStreamException endOfStream() {
-        return new BitStreamException(BitStreamErrorType.END_OF_STREAM, 
-                "End of stream reached while reading.");
+        if (STACKLESS) {
+            return SHARED_END_OF_STREAM;
+        }
+        return new BitStreamException(BitStreamErrorType.END_OF_STREAM, END_OF_STREAM_MESSAGE);
     }
 
     /**
@@ -1,33 +1,63 @@
 package com.aidanjmorgan.variablebits;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.util.Objects;
+import java.util.function.LongConsumer;
 
 /**
- * A reader that allows reading individual bits from an underlying stream.
+ * A reader that allows reading individual bits from an underlying stream or channel.
  */
 public class BitStreamReader implements AutoCloseable {
 
     /**
-     * The underlying input stream.
+     * The underlying input stream, or null if the reader reads from a channel.
      */
     private final InputStream inputStream;
 
     /**
-     * Buffer for reading from the underlying stream.
+     * The underlying channel, or null if the reader reads from a stream.
      */
-    private final byte[] buffer;
+    private final ReadableByteChannel channel;
 
     /**
-     * Current byte position in the buffer.
+     * Buffer for reading from the underlying source: a heap buffer for streams, and a direct
+     * buffer for channels so that channel reads need no intermediate copy. Only absolute gets
+     * are used, and its limit stays at its capacity.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Position of the next byte in the buffer that has not been loaded into the bit buffer.
      */
     private int bytePos;
 
     /**
-     * Current bit position within the current byte (0-7).
+     * Bits loaded from the buffer but not yet consumed, next bit in bit 0. Bits above
+     * {@link #bitsAvailable} are either zero or a copy of the bytes starting at {@link #bytePos},
+     * so loading those bytes again with an OR leaves them unchanged. In MSB-first order the bit
+     * buffer is left-aligned instead: the next bit is bit 63 and the copies sit below the
+     * unconsumed bits.
+     */
+    private long bitBuffer;
+
+    /**
+     * Number of unconsumed bits in the bit buffer (0-63).
+     */
+    private int bitsAvailable;
+
+    /**
+     * Scratch space for the block kernels, allocated on first use.
      */
-    private byte bitPos;
+    private long[] blockScratch;
 
     /**
      * Number of valid bytes in the buffer.
@@ -39,11 +69,45 @@ public class BitStreamReader implements AutoCloseable {
      */
     private boolean eof;
 
+    /**
+     * The order in which bits are packed.
+     */
+    private final BitOrder bitOrder;
+
+    /**
+     * Whether bits are packed MSB-first, cached from {@link #bitOrder} for the hot paths.
+     */
+    private final boolean msbFirst;
+
     /**
      * Default buffer size.
      */
     private static final int DEFAULT_BUFFER_SIZE = 4096;
 
+    /**
+     * View used to load eight buffer bytes at a time into the bit buffer.
+     */
+    private static final VarHandle BUFFER_LE =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * View used to load eight buffer bytes at a time into an MSB-first bit buffer.
+     */
+    private static final VarHandle BUFFER_BE =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    /**
+     * View used to store eight bytes at a time into arrays.
+     */
+    private static final VarHandle LONG_LE =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * View used to store eight bytes at a time into arrays of an MSB-first stream.
+     */
+    private static final VarHandle LONG_BE =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
     /**
      * Creates a new BitStreamReader with the specified stream.
      *
@@ -60,13 +124,92 @@ public class BitStreamReader implements AutoCloseable {
      * @param capacity The buffer capacity.
      */
     public BitStreamReader(InputStream inputStream, int capacity) {
-        if (inputStream == null) {
-            throw new NullPointerException("Input stream cannot be null");
-        }
+        this(inputStream, capacity, BitOrder.LSB_FIRST);
+    }
+
+    /**
+     * Creates a new BitStreamReader with the specified stream and bit order.
+     *
+     * @param inputStream The underlying stream to read from.
+     * @param bitOrder The order in which bits are packed.
+     */
+    public BitStreamReader(InputStream inputStream, BitOrder bitOrder) {
+        this(inputStream, DEFAULT_BUFFER_SIZE, bitOrder);
+    }
+
+    /**
+     * Creates a new BitStreamReader with the specified stream, buffer capacity and bit order.
+     *
+     * @param inputStream The underlying stream to read from.
+     * @param capacity The buffer capacity.
+     * @param bitOrder The order in which bits are packed.
+     */
+    public BitStreamReader(InputStream inputStream, int capacity, BitOrder bitOrder) {
+        this(Objects.requireNonNull(inputStream, "Input stream cannot be null"), null, ByteBuffer.allocate(capacity), bitOrder);
+    }
+
+    /**
+     * Creates a new BitStreamReader with the specified channel.
+     *
+     * @param channel The underlying channel to read from.
+     */
+    public BitStreamReader(ReadableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new BitStreamReader with the specified channel and buffer capacity.
+     *
+     * @param channel The underlying channel to read from.
+     * @param capacity The buffer capacity.
+     */
+    public BitStreamReader(ReadableByteChannel channel, int capacity) {
+        this(channel, capacity, BitOrder.LSB_FIRST);
+    }
+
+    /**
+     * Creates a new BitStreamReader with the specified channel and bit order.
+     *
+     * @param channel The underlying channel to read from.
+     * @param bitOrder The order in which bits are packed.
+     */
+    public BitStreamReader(ReadableByteChannel channel, BitOrder bitOrder) {
+        this(channel, DEFAULT_BUFFER_SIZE, bitOrder);
+    }
+
+    /**
+     * Creates a new BitStreamReader with the specified channel, buffer capacity and bit order.
+     * The channel is read into a direct buffer. If it is a {@link SeekableByteChannel}, such as
+     * a {@link java.nio.channels.FileChannel}, skips past the buffer move its position instead
+     * of reading. A non-blocking channel may have no bytes ready: reads then fail as they would
+     * at the end of the stream, but {@link #isEof()} stays false and
+     * {@link #tryReadBits(byte, LongConsumer)} can be retried once more bytes have arrived.
+     *
+     * @param channel The underlying channel to read from.
+     * @param capacity The buffer capacity.
+     * @param bitOrder The order in which bits are packed.
+     */
+    public BitStreamReader(ReadableByteChannel channel, int capacity, BitOrder bitOrder) {
+        this(null, Objects.requireNonNull(channel, "Channel cannot be null"), ByteBuffer.allocateDirect(capacity), bitOrder);
+    }
+
+    /**
+     * Creates a new BitStreamReader over one of a stream or a channel.
+     *
+     * @param inputStream The underlying stream, or null.
+     * @param channel The underlying channel, or null.
+     * @param buffer The buffer to read into.
+     * @param bitOrder The order in which bits are packed.
+     */
+    private BitStreamReader(InputStream inputStream, ReadableByteChannel channel, ByteBuffer buffer, BitOrder bitOrder) {
+        this.bitOrder = Objects.requireNonNull(bitOrder, "Bit order cannot be null");
+        this.msbFirst = bitOrder == BitOrder.MSB_FIRST;
         this.inputStream = inputStream;
-        this.buffer = new byte[capacity];
+        this.channel = channel;
+        this.buffer = buffer;
         this.bytePos = 0;
-        this.bitPos = 0;
+        this.bitBuffer = 0;
+        this.bitsAvailable = 0;
         this.bufferSize = 0;
         this.eof = false;
     }
@@ -83,51 +226,833 @@ public class BitStreamReader implements AutoCloseable {
             throw BitStreamException.invalidBitCount();
         }
 
-        long result = 0;
-        int bitsRead = 0;
+        if (msbFirst) {
+            return readBitsMsb(bitCount);
+        }
 
-        // Read bits until we have read the requested number
-        while (bitsRead < bitCount) {
-            // If we've reached the end of the buffer, try to fill it
-            if (bytePos >= bufferSize) {
+        if (bitsAvailable < bitCount) {
+            refill(bitCount);
+
+            // Reads that still cannot be served from the bit buffer span two loads
+            if (bitsAvailable < bitCount) {
+                return readBitsSlow(bitCount);
+            }
+        }
+
+        long result = bitBuffer & ((1L << bitCount) - 1);
+        bitBuffer >>>= bitCount;
+        bitsAvailable -= bitCount;
+
+        return result;
+    }
+
+    /**
+     * Gets the order in which bits are packed.
+     *
+     * @return The bit order.
+     */
+    public BitOrder getBitOrder() {
+        return bitOrder;
+    }
+
+    /**
+     * Returns up to 64 bits from the stream without consuming them. Table-driven decoders can
+     * peek at the longest code, look it up, and then {@link #consume(byte)} its actual length.
+     *
+     * @param bitCount The number of bits to look at (1-64).
+     * @return The next bits as a 64-bit unsigned long.
+     * @throws BitStreamException If the bit count is invalid or the end of stream is reached.
+     */
+    public long peekBits(byte bitCount) {
+        if (bitCount <= 0 || bitCount > 64) {
+            throw BitStreamException.invalidBitCount();
+        }
+
+        if (bitsAvailable < bitCount) {
+            if (msbFirst) {
+                refillMsb(bitCount);
+            } else {
+                refill(bitCount);
+            }
+
+            // Peeks that still cannot be served from the bit buffer also look at the buffer
+            if (bitsAvailable < bitCount) {
+                return peekBitsSlow(bitCount);
+            }
+        }
+
+        return msbFirst ? bitBuffer >>> (64 - bitCount) : bitBuffer & ((1L << bitCount) - 1);
+    }
+
+    /**
+     * Skips up to 64 bits, typically after {@link #peekBits(byte)} has already buffered them.
+     *
+     * @param bitCount The number of bits to skip (1-64).
+     * @throws BitStreamException If the bit count is invalid or the end of stream is reached.
+     */
+    public void consume(byte bitCount) {
+        if (bitCount <= 0 || bitCount > 64) {
+            throw BitStreamException.invalidBitCount();
+        }
+
+        if (bitsAvailable < bitCount) {
+            readBits(bitCount);
+            return;
+        }
+
+        bitBuffer = msbFirst ? bitBuffer << bitCount : bitBuffer >>> bitCount;
+        bitsAvailable -= bitCount;
+    }
+
+    /**
+     * Skips any number of bits. Bits already in memory are dropped arithmetically and whole bytes
+     * past the buffer are skipped on the underlying stream with {@link InputStream#skipNBytes},
+     * or by moving the position of a seekable channel, so skipped data is not copied. Other
+     * channels are read through the buffer.
+     *
+     * @param bitCount The number of bits to skip.
+     * @throws BitStreamException If the bit count is negative, the end of stream is reached or an
+     *                            I/O error occurs. At the end of stream the reader is left with
+     *                            nothing to read.
+     */
+    public void skipBits(long bitCount) {
+        if (bitCount < 0) {
+            throw BitStreamException.invalidBitCount();
+        }
+
+        // Skips that stay inside the bit buffer are a shift
+        if (bitCount <= bitsAvailable) {
+            bitBuffer = msbFirst ? bitBuffer << bitCount : bitBuffer >>> bitCount;
+            bitsAvailable -= (int) bitCount;
+            return;
+        }
+
+        // Otherwise drop the bit buffer and move through the buffer without loading it
+        long remaining = bitCount - bitsAvailable;
+        bitBuffer = 0;
+        bitsAvailable = 0;
+
+        long bufferedBits = 8L * (bufferSize - bytePos);
+        if (remaining >= bufferedBits) {
+            remaining -= bufferedBits;
+            bytePos = bufferSize;
+
+            // Whole bytes past the buffer are skipped on the underlying source
+            long skipBytes = remaining >>> 3;
+            if (skipBytes > 0) {
+                skipSource(skipBytes);
+            }
+        } else {
+            bytePos += (int) (remaining >>> 3);
+        }
+
+        // The last partial byte is read and discarded
+        int leftover = (int) (remaining & 7);
+        if (leftover > 0) {
+            readBits((byte) leftover);
+        }
+    }
+
+    /**
+     * Skips whole bytes of the underlying source. The buffer must be empty.
+     *
+     * @param byteCount The number of bytes to skip.
+     * @throws BitStreamException If the end of stream is reached or an I/O error occurs.
+     */
+    private void skipSource(long byteCount) {
+        try {
+            if (inputStream != null) {
+                inputStream.skipNBytes(byteCount);
+                return;
+            }
+
+            if (channel instanceof SeekableByteChannel) {
+                SeekableByteChannel seekable = (SeekableByteChannel) channel;
+                long target = seekable.position() + byteCount;
+                if (target > seekable.size()) {
+                    seekable.position(seekable.size());
+                    eof = true;
+                    throw BitStreamException.endOfStream();
+                }
+                seekable.position(target);
+                return;
+            }
+        } catch (EOFException e) {
+            eof = true;
+            throw BitStreamException.endOfStream();
+        } catch (IOException e) {
+            throw BitStreamException.fromIOException(e);
+        }
+
+        // Other channels are read through the buffer, leaving whatever follows the skip in it
+        long remaining = byteCount;
+        while (remaining > 0) {
+            if (!fillBuffer()) {
+                throw BitStreamException.endOfStream();
+            }
+            bytePos = (int) Math.min(remaining, bufferSize);
+            remaining -= bytePos;
+        }
+    }
+
+    /**
+     * Returns bits that do not fit in the bit buffer after a refill: either a peek of more than
+     * 56 bits, or a peek that runs into the end of the underlying stream. The bits past the bit
+     * buffer are read from the buffer without moving the byte position.
+     *
+     * @param bitCount The number of bits to look at (1-64).
+     * @return The next bits as a 64-bit unsigned long.
+     * @throws BitStreamException If the end of stream is reached.
+     */
+    private long peekBitsSlow(int bitCount) {
+        if (!ensureBuffered(bitCount)) {
+            throw BitStreamException.endOfStream();
+        }
+
+        if (msbFirst) {
+            // Keep the unconsumed bits at the top and place the following bytes below them
+            long result = bitsAvailable == 0 ? 0 : bitBuffer & (-1L << (64 - bitsAvailable));
+            for (int shift = bitsAvailable, pos = bytePos; shift < bitCount; shift += 8, pos++) {
+                long b = buffer.get(pos) & 0xFFL;
+                result |= shift <= 56 ? b << (56 - shift) : b >>> (shift - 56);
+            }
+            return result >>> (64 - bitCount);
+        }
+
+        long result = bitBuffer & ((1L << bitsAvailable) - 1);
+        for (int shift = bitsAvailable, pos = bytePos; shift < bitCount; shift += 8, pos++) {
+            result |= (buffer.get(pos) & 0xFFL) << shift;
+        }
+
+        return bitCount == 64 ? result : result & ((1L << bitCount) - 1);
+    }
+
+    /**
+     * Reads up to 64 bits from the stream if they are available, without throwing at the end of
+     * the stream. Nothing is consumed when the read cannot be satisfied, and every call reads
+     * from the underlying stream again even after it has reported its end, so a parser fed
+     * partial frames can retry once more bytes have arrived.
+     *
+     * @param bitCount The number of bits to read (1-64).
+     * @param consumer Receives the read bits as a 64-bit unsigned long.
+     * @return True if the bits were read, false if the stream ends before them.
+     * @throws BitStreamException If the bit count is invalid or an I/O error occurs.
+     */
+    public boolean tryReadBits(byte bitCount, LongConsumer consumer) {
+        if (bitCount <= 0 || bitCount > 64) {
+            throw BitStreamException.invalidBitCount();
+        }
+
+        if (bitsAvailable < bitCount) {
+            // An earlier end of stream may only have been the end of the data so far
+            eof = false;
+            if (!ensureBuffered(bitCount)) {
+                return false;
+            }
+        }
+
+        consumer.accept(readBits(bitCount));
+        return true;
+    }
+
+    /**
+     * Gets the number of bits that can be read without reading from the underlying stream.
+     *
+     * @return The number of buffered bits.
+     */
+    public long bitsBuffered() {
+        return bitsAvailable + 8L * (bufferSize - bytePos);
+    }
+
+    /**
+     * Reads from the underlying stream until at least {@code bitCount} bits are buffered. The
+     * buffer is only replaced once every byte in it has been moved into the bit buffer, so no
+     * buffered bits are lost.
+     *
+     * @param bitCount The number of bits the caller needs (1-64).
+     * @return True if enough bits are buffered, false if the stream ends first.
+     * @throws BitStreamException If an I/O error occurs.
+     */
+    private boolean ensureBuffered(int bitCount) {
+        while (bitsBuffered() < bitCount) {
+            // Anything left in the buffer fits in the bit buffer, since fewer than 64 bits are buffered
+            while (bytePos < bufferSize) {
+                long b = buffer.get(bytePos++) & 0xFFL;
+                bitBuffer |= msbFirst ? b << (56 - bitsAvailable) : b << bitsAvailable;
+                bitsAvailable += 8;
+            }
+
+            if (!fillBuffer()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads whole bytes into an array, as {@code len} reads of 8 bits would. When the reader is
+     * at a byte boundary the buffered bytes are copied with a bulk get and large
+     * remainders are read from the underlying stream straight into the array. Otherwise the
+     * bytes are copied eight at a time with word shifts.
+     *
+     * @param dst The array to read into.
+     * @param off The index of the first byte to read into.
+     * @param len The number of bytes to read.
+     * @throws BitStreamException If the end of stream is reached or an I/O error occurs.
+     * @throws IndexOutOfBoundsException If the range is outside the array.
+     */
+    public void readBytes(byte[] dst, int off, int len) {
+        Objects.checkFromIndexSize(off, len, dst.length);
+        int i = off;
+        int end = off + len;
+
+        // Every load adds whole bytes, so the reader is byte-aligned when a whole number of bytes
+        // is left in the bit buffer
+        if ((bitsAvailable & 7) != 0) {
+            if (msbFirst) {
+                for (; end - i >= 8; i += 8) {
+                    LONG_BE.set(dst, i, bytePos + 8 <= bufferSize ? nextWordMsb() : readBits((byte)64));
+                }
+            } else {
+                for (; end - i >= 8; i += 8) {
+                    LONG_LE.set(dst, i, nextWord());
+                }
+            }
+            for (; i < end; i++) {
+                dst[i] = (byte) readBits((byte)8);
+            }
+            return;
+        }
+
+        // Drain the whole bytes in the bit buffer, then drop its copies of the buffer bytes
+        for (; i < end && bitsAvailable > 0; i++) {
+            dst[i] = (byte) readBits((byte)8);
+        }
+        if (i == end) {
+            return;
+        }
+        bitBuffer = 0;
+
+        while (i < end) {
+            // Copy what is in the buffer
+            int n = Math.min(end - i, bufferSize - bytePos);
+            buffer.get(bytePos, dst, i, n);
+            bytePos += n;
+            i += n;
+
+            if (i < end) {
+                // Large remainders bypass the buffer, small ones refill it
+                if (end - i >= buffer.capacity()) {
+                    readDirect(dst, i, end - i);
+                    return;
+                }
                 if (!fillBuffer()) {
                     throw BitStreamException.endOfStream();
                 }
             }
+        }
+    }
 
-            // Get the current byte
-            byte currentByte = buffer[bytePos];
+    /**
+     * Reads bytes from the underlying source straight into an array. The buffer must be empty.
+     *
+     * @param dst The array to read into.
+     * @param off The index of the first byte to read into.
+     * @param len The number of bytes to read.
+     * @throws BitStreamException If the end of stream is reached or an I/O error occurs.
+     */
+    private void readDirect(byte[] dst, int off, int len) {
+        try {
+            if (inputStream != null) {
+                if (inputStream.readNBytes(dst, off, len) < len) {
+                    eof = true;
+                    throw BitStreamException.endOfStream();
+                }
+                return;
+            }
 
-            // Calculate how many bits we can read from the current byte
-            int bitsAvailable = 8 - bitPos;
-            int bitsToRead = Math.min(bitsAvailable, bitCount - bitsRead);
+            ByteBuffer target = ByteBuffer.wrap(dst, off, len);
+            while (target.hasRemaining()) {
+                int n = channel.read(target);
+                if (n <= 0) {
+                    eof = n < 0;
+                    throw BitStreamException.endOfStream();
+                }
+            }
+        } catch (IOException e) {
+            throw BitStreamException.fromIOException(e);
+        }
+    }
+
+    /**
+     * Gets the number of bits left before the reader is at a byte boundary.
+     *
+     * @return The number of bits (0-7).
+     */
+    int bitsToByteBoundary() {
+        return bitsAvailable & 7;
+    }
+
+    /**
+     * Reads the next 64 bits with a single shifted load while the buffer holds enough bytes.
+     *
+     * @return The next 64 bits.
+     * @throws BitStreamException If the end of stream is reached.
+     */
+    long readWord() {
+        if (msbFirst) {
+            return bytePos + 8 <= bufferSize ? nextWordMsb() : readBits((byte)64);
+        }
+        return nextWord();
+    }
+
+    /**
+     * Moves whole bytes to a writer. The reader must be at a byte boundary. The buffered bytes
+     * are handed to the writer a buffer at a time, so a byte-aligned writer passes whole heap
+     * buffers straight to its underlying stream.
+     *
+     * @param dst The writer to move the bytes to.
+     * @param byteCount The number of bytes to move.
+     * @throws BitStreamException If the end of stream is reached or an I/O error occurs.
+     */
+    void transferBytesTo(BitStreamWriter dst, long byteCount) {
+        long remaining = byteCount;
 
-            // Create a mask for the bits we want to read (LSB first)
-            byte mask = (byte)((1 << bitsToRead) - 1);
+        // Drain the whole bytes in the bit buffer, then drop its copies of the buffer bytes
+        for (; remaining > 0 && bitsAvailable > 0; remaining--) {
+            dst.writeBits(readBits((byte)8), (byte)8);
+        }
+        if (remaining == 0) {
+            return;
+        }
+        bitBuffer = 0;
 
-            // Shift the mask to the correct position (LSB first)
-            mask = (byte)(mask << bitPos);
+        while (true) {
+            int n = (int) Math.min(remaining, bufferSize - bytePos);
+            dst.writeBuffer(buffer, bytePos, n);
+            bytePos += n;
+            remaining -= n;
 
-            // Read the bits (LSB first)
-            byte readBits = (byte)((currentByte & mask) >> bitPos);
+            if (remaining == 0) {
+                return;
+            }
+            if (!fillBuffer()) {
+                throw BitStreamException.endOfStream();
+            }
+        }
+    }
 
-            // Add the bits to the result (LSB first)
-            result |= (long)readBits << bitsRead;
+    /**
+     * Reads {@code count} values of the same width into a long array.
+     *
+     * @param values The array to read into.
+     * @param offset The index of the first value to read into.
+     * @param count The number of values to read.
+     * @param bitCount The number of bits in each value (1-64).
+     * @throws BitStreamException If the bit count is invalid or the end of stream is reached.
+     * @throws IndexOutOfBoundsException If the range is outside the array.
+     */
+    public void readBits(long[] values, int offset, int count, byte bitCount) {
+        checkBulkArguments(values.length, offset, count, bitCount, 64);
+        int i = offset;
+        int end = offset + count;
 
-            // Update the bit position
-            bitsRead += bitsToRead;
-            bitPos += bitsToRead;
+        // The block kernels only unpack LSB-first, so MSB-first values are read one at a time
+        if (msbFirst) {
+            for (; i < end; i++) {
+                values[i] = readBitsMsb(bitCount);
+            }
+            return;
+        }
 
-            // If we've read all bits in the current byte, move to the next byte
-            if (bitPos == 8) {
-                bytePos++;
-                bitPos = 0;
+        // Whole blocks go through the width-specialised kernels
+        if (end - i >= BitPacking.BLOCK_SIZE) {
+            long[] block = blockScratch();
+            for (; end - i >= BitPacking.BLOCK_SIZE; i += BitPacking.BLOCK_SIZE) {
+                loadBlock(block, bitCount);
+                BitPackingBackend.unpack(block, BitPacking.BLOCK_SIZE, values, i, bitCount);
             }
         }
 
+        // Values wider than a refill guarantees go through the two-part read
+        if (bitCount > 56) {
+            for (; i < end; i++) {
+                values[i] = readBits(bitCount);
+            }
+            return;
+        }
+
+        long mask = (1L << bitCount) - 1;
+        for (; i < end; i++) {
+            values[i] = nextBits(bitCount, mask);
+        }
+    }
+
+    /**
+     * Reads {@code count} values of the same width into an int array.
+     *
+     * @param values The array to read into.
+     * @param offset The index of the first value to read into.
+     * @param count The number of values to read.
+     * @param bitCount The number of bits in each value (1-32).
+     * @throws BitStreamException If the bit count is invalid or the end of stream is reached.
+     * @throws IndexOutOfBoundsException If the range is outside the array.
+     */
+    public void readBits(int[] values, int offset, int count, byte bitCount) {
+        checkBulkArguments(values.length, offset, count, bitCount, 32);
+        int i = offset;
+        int end = offset + count;
+
+        // The block kernels only unpack LSB-first, so MSB-first values are read one at a time
+        if (msbFirst) {
+            for (; i < end; i++) {
+                values[i] = (int) readBitsMsb(bitCount);
+            }
+            return;
+        }
+
+        // Whole blocks go through the width-specialised kernels
+        if (end - i >= BitPacking.BLOCK_SIZE) {
+            long[] block = blockScratch();
+            for (; end - i >= BitPacking.BLOCK_SIZE; i += BitPacking.BLOCK_SIZE) {
+                loadBlock(block, bitCount);
+                BitPackingBackend.unpack(block, BitPacking.BLOCK_SIZE, block, 0, bitCount);
+                for (int j = 0; j < BitPacking.BLOCK_SIZE; j++) {
+                    values[i + j] = (int) block[j];
+                }
+            }
+        }
+
+        long mask = (1L << bitCount) - 1;
+        for (; i < end; i++) {
+            values[i] = (int) nextBits(bitCount, mask);
+        }
+    }
+
+    /**
+     * Reads {@code count} values of the same width into a short array.
+     *
+     * @param values The array to read into.
+     * @param offset The index of the first value to read into.
+     * @param count The number of values to read.
+     * @param bitCount The number of bits in each value (1-16).
+     * @throws BitStreamException If the bit count is invalid or the end of stream is reached.
+     * @throws IndexOutOfBoundsException If the range is outside the array.
+     */
+    public void readBits(short[] values, int offset, int count, byte bitCount) {
+        checkBulkArguments(values.length, offset, count, bitCount, 16);
+        int i = offset;
+        int end = offset + count;
+
+        // The block kernels only unpack LSB-first, so MSB-first values are read one at a time
+        if (msbFirst) {
+            for (; i < end; i++) {
+                values[i] = (short) readBitsMsb(bitCount);
+            }
+            return;
+        }
+
+        // Whole blocks go through the width-specialised kernels
+        if (end - i >= BitPacking.BLOCK_SIZE) {
+            long[] block = blockScratch();
+            for (; end - i >= BitPacking.BLOCK_SIZE; i += BitPacking.BLOCK_SIZE) {
+                loadBlock(block, bitCount);
+                BitPackingBackend.unpack(block, BitPacking.BLOCK_SIZE, block, 0, bitCount);
+                for (int j = 0; j < BitPacking.BLOCK_SIZE; j++) {
+                    values[i + j] = (short) block[j];
+                }
+            }
+        }
+
+        long mask = (1L << bitCount) - 1;
+        for (; i < end; i++) {
+            values[i] = (short) nextBits(bitCount, mask);
+        }
+    }
+
+    /**
+     * Reads {@code count} values of the same width into a byte array.
+     *
+     * @param values The array to read into.
+     * @param offset The index of the first value to read into.
+     * @param count The number of values to read.
+     * @param bitCount The number of bits in each value (1-8).
+     * @throws BitStreamException If the bit count is invalid or the end of stream is reached.
+     * @throws IndexOutOfBoundsException If the range is outside the array.
+     */
+    public void readBits(byte[] values, int offset, int count, byte bitCount) {
+        checkBulkArguments(values.length, offset, count, bitCount, 8);
+        int i = offset;
+        int end = offset + count;
+
+        // The block kernels only unpack LSB-first, so MSB-first values are read one at a time
+        if (msbFirst) {
+            for (; i < end; i++) {
+                values[i] = (byte) readBitsMsb(bitCount);
+            }
+            return;
+        }
+
+        // Whole blocks go through the width-specialised kernels
+        if (end - i >= BitPacking.BLOCK_SIZE) {
+            long[] block = blockScratch();
+            for (; end - i >= BitPacking.BLOCK_SIZE; i += BitPacking.BLOCK_SIZE) {
+                loadBlock(block, bitCount);
+                BitPackingBackend.unpack(block, BitPacking.BLOCK_SIZE, block, 0, bitCount);
+                for (int j = 0; j < BitPacking.BLOCK_SIZE; j++) {
+                    values[i + j] = (byte) block[j];
+                }
+            }
+        }
+
+        long mask = (1L << bitCount) - 1;
+        for (; i < end; i++) {
+            values[i] = (byte) nextBits(bitCount, mask);
+        }
+    }
+
+    /**
+     * Returns the scratch space used by the block kernels: 64 values followed by 64 packed words.
+     *
+     * @return The scratch array.
+     */
+    private long[] blockScratch() {
+        if (blockScratch == null) {
+            blockScratch = new long[2 * BitPacking.BLOCK_SIZE];
+        }
+        return blockScratch;
+    }
+
+    /**
+     * Reads the packed words of a block of 64 values into the second half of the scratch array.
+     *
+     * @param block The scratch array.
+     * @param bitCount The number of bits in each value (1-64).
+     * @throws BitStreamException If the end of stream is reached.
+     */
+    private void loadBlock(long[] block, int bitCount) {
+        for (int k = 0; k < bitCount; k++) {
+            block[BitPacking.BLOCK_SIZE + k] = nextWord();
+        }
+    }
+
+    /**
+     * Reads the next 64 bits. While the buffer holds at least eight more bytes this is a single
+     * load shifted past the bits already in the bit buffer.
+     *
+     * @return The next 64 bits.
+     * @throws BitStreamException If the end of stream is reached.
+     */
+    private long nextWord() {
+        if (bytePos + 8 > bufferSize) {
+            return readBits((byte)64);
+        }
+
+        long word = (long) BUFFER_LE.get(buffer, bytePos);
+        bytePos += 8;
+
+        // The buffered bits come first, the loaded word supplies the rest and becomes the new tail
+        long result = (bitBuffer & ((1L << bitsAvailable) - 1)) | (word << bitsAvailable);
+        bitBuffer = (word >>> 1) >>> (63 - bitsAvailable);
         return result;
     }
 
+    /**
+     * Reads the next 64 bits of an MSB-first stream with a single load shifted below the bits
+     * already in the bit buffer. The buffer must hold at least eight more bytes.
+     *
+     * @return The next 64 bits.
+     */
+    private long nextWordMsb() {
+        long word = (long) BUFFER_BE.get(buffer, bytePos);
+        bytePos += 8;
+
+        // The buffered bits come first, the loaded word supplies the rest and becomes the new tail
+        long buffered = bitsAvailable == 0 ? 0 : bitBuffer & (-1L << (64 - bitsAvailable));
+        long result = buffered | (word >>> bitsAvailable);
+        bitBuffer = (word << 1) << (63 - bitsAvailable);
+        return result;
+    }
+
+    /**
+     * Validates the arguments of a bulk read.
+     *
+     * @param length The length of the target array.
+     * @param offset The index of the first value to read into.
+     * @param count The number of values to read.
+     * @param bitCount The number of bits in each value.
+     * @param maxBitCount The widest value the target array can hold.
+     * @throws BitStreamException If the bit count is invalid.
+     * @throws IndexOutOfBoundsException If the range is outside the array.
+     */
+    private static void checkBulkArguments(int length, int offset, int count, byte bitCount, int maxBitCount) {
+        if (bitCount <= 0 || bitCount > maxBitCount) {
+            throw BitStreamException.invalidBitCount();
+        }
+        Objects.checkFromIndexSize(offset, count, length);
+    }
+
+    /**
+     * Reads the next value of a bulk read. The bit buffer is only checked against the end of
+     * stream when it has to be refilled.
+     *
+     * @param bitCount The number of bits to read (1-56).
+     * @param mask The mask for the low {@code bitCount} bits.
+     * @return The read bits.
+     * @throws BitStreamException If the end of stream is reached.
+     */
+    private long nextBits(int bitCount, long mask) {
+        if (bitsAvailable < bitCount) {
+            refill(bitCount);
+            if (bitsAvailable < bitCount) {
+                throw BitStreamException.endOfStream();
+            }
+        }
+
+        long result = bitBuffer & mask;
+        bitBuffer >>>= bitCount;
+        bitsAvailable -= bitCount;
+        return result;
+    }
+
+    /**
+     * Reads a value that does not fit in the bit buffer after a refill: either a read of more than
+     * 56 bits, or a read that runs into the end of the underlying stream.
+     *
+     * @param bitCount The number of bits to read (1-64).
+     * @return The read bits as a 64-bit unsigned long.
+     * @throws BitStreamException If the end of stream is reached.
+     */
+    private long readBitsSlow(int bitCount) {
+        // Take everything that is buffered as the low part of the result
+        int lowBits = bitsAvailable;
+        long result = bitBuffer & ((1L << lowBits) - 1);
+        bitBuffer = 0;
+        bitsAvailable = 0;
+
+        // Then take the high part from a fresh load
+        int highBits = bitCount - lowBits;
+        refill(highBits);
+        if (bitsAvailable < highBits) {
+            throw BitStreamException.endOfStream();
+        }
+
+        result |= (bitBuffer & ((1L << highBits) - 1)) << lowBits;
+        bitBuffer >>>= highBits;
+        bitsAvailable -= highBits;
+
+        return result;
+    }
+
+    /**
+     * Loads bytes from the buffer into the bit buffer until it holds at least 56 bits. The
+     * underlying stream is only read when the buffer is exhausted and fewer than the requested
+     * number of bits are available.
+     *
+     * @param bitCount The number of bits the caller needs.
+     * @throws BitStreamException If an I/O error occurs.
+     */
+    private void refill(int bitCount) {
+        // Fast path: one unaligned 8-byte load, keeping as many whole bytes as fit
+        if (bytePos + 8 <= bufferSize) {
+            bitBuffer |= (long) BUFFER_LE.get(buffer, bytePos) << bitsAvailable;
+            bytePos += (63 - bitsAvailable) >>> 3;
+            bitsAvailable |= 56;
+            return;
+        }
+
+        // Slow path near the end of the buffer: one byte at a time
+        while (bitsAvailable < 56) {
+            if (bytePos >= bufferSize) {
+                if (bitsAvailable >= bitCount || !fillBuffer()) {
+                    return;
+                }
+            }
+            bitBuffer |= (buffer.get(bytePos++) & 0xFFL) << bitsAvailable;
+            bitsAvailable += 8;
+        }
+    }
+
+    /**
+     * Reads up to 64 bits from an MSB-first stream.
+     *
+     * @param bitCount The number of bits to read (1-64).
+     * @return The read bits as a 64-bit unsigned long.
+     * @throws BitStreamException If the end of stream is reached.
+     */
+    private long readBitsMsb(int bitCount) {
+        if (bitsAvailable < bitCount) {
+            refillMsb(bitCount);
+
+            // Reads that still cannot be served from the bit buffer span two loads
+            if (bitsAvailable < bitCount) {
+                return readBitsSlowMsb(bitCount);
+            }
+        }
+
+        long result = bitBuffer >>> (64 - bitCount);
+        bitBuffer <<= bitCount;
+        bitsAvailable -= bitCount;
+
+        return result;
+    }
+
+    /**
+     * Reads an MSB-first value that does not fit in the bit buffer after a refill.
+     *
+     * @param bitCount The number of bits to read (1-64).
+     * @return The read bits as a 64-bit unsigned long.
+     * @throws BitStreamException If the end of stream is reached.
+     */
+    private long readBitsSlowMsb(int bitCount) {
+        // Everything that is buffered forms the high part of the result
+        int highBits = bitsAvailable;
+        long result = highBits == 0 ? 0 : bitBuffer >>> (64 - highBits);
+        bitBuffer = 0;
+        bitsAvailable = 0;
+
+        // Then take the low part from a fresh load
+        int lowBits = bitCount - highBits;
+        refillMsb(lowBits);
+        if (bitsAvailable < lowBits) {
+            throw BitStreamException.endOfStream();
+        }
+
+        result = (result << lowBits) | (bitBuffer >>> (64 - lowBits));
+        bitBuffer <<= lowBits;
+        bitsAvailable -= lowBits;
+
+        return result;
+    }
+
+    /**
+     * Loads bytes from the buffer into the left-aligned bit buffer until it holds at least 56
+     * bits, as {@link #refill(int)} does for LSB-first streams.
+     *
+     * @param bitCount The number of bits the caller needs.
+     * @throws BitStreamException If an I/O error occurs.
+     */
+    private void refillMsb(int bitCount) {
+        // Fast path: one unaligned big-endian 8-byte load below the bits already buffered
+        if (bytePos + 8 <= bufferSize) {
+            bitBuffer |= (long) BUFFER_BE.get(buffer, bytePos) >>> bitsAvailable;
+            bytePos += (63 - bitsAvailable) >>> 3;
+            bitsAvailable |= 56;
+            return;
+        }
+
+        // Slow path near the end of the buffer: one byte at a time
+        while (bitsAvailable < 56) {
+            if (bytePos >= bufferSize) {
+                if (bitsAvailable >= bitCount || !fillBuffer()) {
+                    return;
+                }
+            }
+            bitBuffer |= (buffer.get(bytePos++) & 0xFFL) << (56 - bitsAvailable);
+            bitsAvailable += 8;
+        }
+    }
+
     /**
      * Fills the buffer with data from the underlying stream.
      *
@@ -141,16 +1066,22 @@ public class BitStreamReader implements AutoCloseable {
         }
 
         try {
-            // Reset the buffer position
+            // Reset the buffer position, every byte of the old buffer is already in the bit buffer
             bytePos = 0;
-            bitPos = 0;
 
             // Read data into the buffer
-            bufferSize = inputStream.read(buffer, 0, buffer.length);
+            if (inputStream != null) {
+                bufferSize = inputStream.read(buffer.array(), 0, buffer.capacity());
+            } else {
+                buffer.clear();
+                bufferSize = channel.read(buffer);
+            }
 
-            // If we didn't read any bytes, we've reached the end of the stream
-            if (bufferSize == 0 || bufferSize == -1) {
-                eof = true;
+            // Only -1 is the end of the stream, a non-blocking channel reads 0 bytes when none
+            // have arrived yet
+            if (bufferSize <= 0) {
+                eof = bufferSize < 0;
+                bufferSize = 0;
                 return false;
             }
 
@@ -166,45 +1097,48 @@ public class BitStreamReader implements AutoCloseable {
      * @return True if at the end of the stream, false otherwise.
      */
     public boolean isEof() {
-        return eof && bytePos >= bufferSize;
+        return eof && bytePos >= bufferSize && bitsAvailable == 0;
     }
 
     /**
-     * Reads up to 128 bits from the stream.
+     * Reads up to 128 bits from the stream as a UInt128, without going through a BigInteger.
      *
-     * @param bitCount The number of bits to read (1-128).
-     * @return The read bits as a 128-bit unsigned BigInteger.
+     * @param bitCount The number of bits to read (1-128). The count is read as unsigned, so 128
+     *                 is passed as {@code (byte)128}.
+     * @return The read bits as a UInt128.
      * @throws BitStreamException If the bit count is invalid or the end of stream is reached.
      */
-    public BigInteger readBitsU128(byte bitCount) {
-        if (bitCount <= 0 || bitCount > 128) {
+    public UInt128 readU128(byte bitCount) {
+        int bits = bitCount & 0xFF;
+        if (bits == 0 || bits > 128) {
             throw BitStreamException.invalidBitCount();
         }
 
-        // For bit counts up to 64, we can use the existing method
-        if (bitCount <= 64) {
-            long value = readBits(bitCount);
-            if (value < 0) {
-                // Convert negative long to unsigned BigInteger
-                return BigInteger.valueOf(value & Long.MAX_VALUE).setBit(63);
-            } else {
-                return BigInteger.valueOf(value);
-            }
+        // Values of up to 64 bits only have a low half
+        if (bits <= 64) {
+            return new UInt128(0L, readBits(bitCount));
         }
 
-        // For bit counts > 64, read the low 64 bits first (LSB), then the high bits
-        long lowBits = readBits((byte)64);
-        byte highBitCount = (byte)(bitCount - 64);
-        long highBits = readBits(highBitCount);
-        if (highBitCount < 64) {
-            highBits = highBits & ((1L << highBitCount) - 1);
+        // For bit counts > 64, the low 64 bits come first in LSB-first order, the high bits in
+        // MSB-first order
+        if (msbFirst) {
+            long highBits = readBits((byte)(bits - 64));
+            return new UInt128(highBits, readBits((byte)64));
         }
-        
-        // For LSB order: low bits are read first, then high bits
-        // Reconstruct as: (high << 64) | low
-        BigInteger highValue = BigInteger.valueOf(highBits).shiftLeft(64);
-        BigInteger lowValue = BigInteger.valueOf(lowBits);
-        return highValue.or(lowValue);
+        long lowBits = readBits((byte)64);
+        return new UInt128(readBits((byte)(bits - 64)), lowBits);
+    }
+
+    /**
+     * Reads up to 128 bits from the stream. This is a compatibility adapter over
+     * {@link #readU128(byte)}, which avoids the BigInteger allocations.
+     *
+     * @param bitCount The number of bits to read (1-128).
+     * @return The read bits as a 128-bit unsigned BigInteger.
+     * @throws BitStreamException If the bit count is invalid or the end of stream is reached.
+     */
+    public BigInteger readBitsU128(byte bitCount) {
+        return readU128(bitCount).toBigInteger();
     }
 
     /**
@@ -215,22 +1149,68 @@ public class BitStreamReader implements AutoCloseable {
      * @throws BitStreamException If the bit count is invalid or the end of stream is reached.
      */
     public BitValue readBitValue(byte bitCount) {
-        if (bitCount <= 64) {
+        int bits = bitCount & 0xFF;
+        if (bits <= 64) {
             long value = readBits(bitCount);
             return BitValue.newValue(value, bitCount);
+        } else if (bits > 128) {
+            throw BitStreamException.invalidBitCount();
         } else {
-            BigInteger value = readBitsU128(bitCount);
-            return BitValue.newBigIntegerValue(value, bitCount, false);
+            // Read the two halves directly rather than building a BigInteger, in stream order
+            long lowBits;
+            long highBits;
+            if (msbFirst) {
+                highBits = readBits((byte)(bits - 64));
+                lowBits = readBits((byte)64);
+            } else {
+                lowBits = readBits((byte)64);
+                highBits = readBits((byte)(bits - 64));
+            }
+            return BitValue.newUnsignedValue(lowBits, highBits, bitCount);
         }
     }
 
     /**
-     * Closes the BitStreamReader and the underlying stream.
+     * Reads up to 128 bits from the stream into a reusable holder, so a decode loop can read
+     * values without allocating a BitValue for each one.
+     *
+     * @param bitCount The number of bits to read (1-128).
+     * @param target The holder to read the value into.
+     * @return The target holder.
+     * @throws BitStreamException If the bit count is invalid or the end of stream is reached.
+     */
+    public MutableBitValue readBitValue(byte bitCount, MutableBitValue target) {
+        int bits = bitCount & 0xFF;
+        if (bits <= 64) {
+            target.set(readBits(bitCount), 0L, bitCount);
+        } else if (bits > 128) {
+            throw BitStreamException.invalidBitCount();
+        } else {
+            long lowBits;
+            long highBits;
+            if (msbFirst) {
+                highBits = readBits((byte)(bits - 64));
+                lowBits = readBits((byte)64);
+            } else {
+                lowBits = readBits((byte)64);
+                highBits = readBits((byte)(bits - 64));
+            }
+            target.set(lowBits, highBits, bitCount);
+        }
+        return target;
+    }
+
+    /**
+     * Closes the BitStreamReader and the underlying stream or channel.
      *
      * @throws IOException If an I/O error occurs.
      */
     @Override
     public void close() throws IOException {
-        inputStream.close();
+        if (inputStream != null) {
+            inputStream.close();
+        } else {
+            channel.close();
+        }
     }
 }
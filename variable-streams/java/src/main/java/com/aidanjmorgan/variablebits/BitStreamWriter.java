@@ -2,7 +2,13 @@ package com.aidanjmorgan.variablebits;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.GatheringByteChannel;
+import java.util.Objects;
 
 /**
  * A writer that allows writing individual bits to an underlying stream.
@@ -10,14 +16,42 @@ import java.math.BigInteger;
 public class BitStreamWriter implements AutoCloseable {
 
     /**
-     * The underlying output stream.
+     * The underlying output stream, or null if the writer writes to a channel.
      */
     private final OutputStream outputStream;
 
     /**
-     * Buffer for writing to the underlying stream.
+     * The underlying channel, or null if the writer writes to a stream.
      */
-    private final byte[] buffer;
+    private final GatheringByteChannel channel;
+
+    /**
+     * The buffers written to the underlying target: a single heap buffer for streams, and a ring
+     * of direct buffers for channels that is written with one gathering write once every buffer
+     * is full. Bytes are stored with absolute puts, and a full buffer's limit is set to the
+     * bytes it holds.
+     */
+    private final ByteBuffer[] ring;
+
+    /**
+     * The array behind the buffer of a stream writer, or null for a channel writer.
+     */
+    private final byte[] array;
+
+    /**
+     * The index in the ring of the buffer being filled.
+     */
+    private int ringIndex;
+
+    /**
+     * The buffer being filled.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * The capacity of each buffer.
+     */
+    private final int capacity;
 
     /**
      * Current byte position in the buffer.
@@ -25,15 +59,65 @@ public class BitStreamWriter implements AutoCloseable {
     private int bytePos;
 
     /**
-     * Current bit position within the current byte (0-7).
+     * Bits written but not yet spilled to the buffer, first bit in bit 0. In MSB-first order the
+     * bit buffer is left-aligned instead, with the first bit in bit 63.
+     */
+    private long bitBuffer;
+
+    /**
+     * Number of bits held in the bit buffer (0-63).
+     */
+    private int bitsBuffered;
+
+    /**
+     * Scratch space for the block kernels, allocated on first use.
+     */
+    private long[] blockScratch;
+
+    /**
+     * The order in which bits are packed.
      */
-    private byte bitPos;
+    private final BitOrder bitOrder;
+
+    /**
+     * Whether bits are packed MSB-first, cached from {@link #bitOrder} for the hot paths.
+     */
+    private final boolean msbFirst;
 
     /**
      * Default buffer size.
      */
     private static final int DEFAULT_BUFFER_SIZE = 4096;
 
+    /**
+     * Number of buffers in the ring of a channel writer.
+     */
+    private static final int RING_SIZE = 16;
+
+    /**
+     * View used to spill the bit buffer into the buffer eight bytes at a time.
+     */
+    private static final VarHandle BUFFER_LE =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * View used to spill an MSB-first bit buffer into the buffer eight bytes at a time.
+     */
+    private static final VarHandle BUFFER_BE =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    /**
+     * View used to load eight bytes at a time from arrays.
+     */
+    private static final VarHandle LONG_LE =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * View used to load eight bytes at a time from arrays for an MSB-first stream.
+     */
+    private static final VarHandle LONG_BE =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
     /**
      * Creates a new BitStreamWriter with the specified stream.
      *
@@ -50,13 +134,108 @@ public class BitStreamWriter implements AutoCloseable {
      * @param capacity The buffer capacity.
      */
     public BitStreamWriter(OutputStream outputStream, int capacity) {
-        if (outputStream == null) {
-            throw new NullPointerException("Output stream cannot be null");
-        }
+        this(outputStream, capacity, BitOrder.LSB_FIRST);
+    }
+
+    /**
+     * Creates a new BitStreamWriter with the specified stream and bit order.
+     *
+     * @param outputStream The underlying stream to write to.
+     * @param bitOrder The order in which bits are packed.
+     */
+    public BitStreamWriter(OutputStream outputStream, BitOrder bitOrder) {
+        this(outputStream, DEFAULT_BUFFER_SIZE, bitOrder);
+    }
+
+    /**
+     * Creates a new BitStreamWriter with the specified stream, buffer capacity and bit order.
+     *
+     * @param outputStream The underlying stream to write to.
+     * @param capacity The buffer capacity.
+     * @param bitOrder The order in which bits are packed.
+     */
+    public BitStreamWriter(OutputStream outputStream, int capacity, BitOrder bitOrder) {
+        this(Objects.requireNonNull(outputStream, "Output stream cannot be null"), null,
+                new ByteBuffer[] { ByteBuffer.allocate(capacity) }, bitOrder);
+    }
+
+    /**
+     * Creates a new BitStreamWriter with the specified channel.
+     *
+     * @param channel The underlying channel to write to, in blocking mode.
+     */
+    public BitStreamWriter(GatheringByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new BitStreamWriter with the specified channel and buffer capacity.
+     *
+     * @param channel The underlying channel to write to, in blocking mode.
+     * @param capacity The capacity of each buffer in the ring.
+     */
+    public BitStreamWriter(GatheringByteChannel channel, int capacity) {
+        this(channel, capacity, BitOrder.LSB_FIRST);
+    }
+
+    /**
+     * Creates a new BitStreamWriter with the specified channel and bit order.
+     *
+     * @param channel The underlying channel to write to, in blocking mode.
+     * @param bitOrder The order in which bits are packed.
+     */
+    public BitStreamWriter(GatheringByteChannel channel, BitOrder bitOrder) {
+        this(channel, DEFAULT_BUFFER_SIZE, bitOrder);
+    }
+
+    /**
+     * Creates a new BitStreamWriter with the specified channel, buffer capacity and bit order.
+     * Bits are packed into a ring of 16 direct buffers, which is written with a single
+     * gathering write once every buffer is full and on {@link #flush()}.
+     *
+     * @param channel The underlying channel to write to, in blocking mode.
+     * @param capacity The capacity of each buffer in the ring.
+     * @param bitOrder The order in which bits are packed.
+     */
+    public BitStreamWriter(GatheringByteChannel channel, int capacity, BitOrder bitOrder) {
+        this(null, Objects.requireNonNull(channel, "Channel cannot be null"), directRing(capacity), bitOrder);
+    }
+
+    /**
+     * Creates a new BitStreamWriter over one of a stream or a channel.
+     *
+     * @param outputStream The underlying stream, or null.
+     * @param channel The underlying channel, or null.
+     * @param ring The buffers to write into.
+     * @param bitOrder The order in which bits are packed.
+     */
+    private BitStreamWriter(OutputStream outputStream, GatheringByteChannel channel, ByteBuffer[] ring, BitOrder bitOrder) {
+        this.bitOrder = Objects.requireNonNull(bitOrder, "Bit order cannot be null");
+        this.msbFirst = bitOrder == BitOrder.MSB_FIRST;
         this.outputStream = outputStream;
-        this.buffer = new byte[capacity];
+        this.channel = channel;
+        this.ring = ring;
+        this.ringIndex = 0;
+        this.buffer = ring[0];
+        this.capacity = buffer.capacity();
+        this.array = outputStream != null ? buffer.array() : null;
         this.bytePos = 0;
-        this.bitPos = 0;
+        this.bitBuffer = 0;
+        this.bitsBuffered = 0;
+    }
+
+    /**
+     * Allocates the ring of direct buffers for a channel writer.
+     *
+     * @param capacity The capacity of each buffer.
+     * @return The buffers.
+     */
+    private static ByteBuffer[] directRing(int capacity) {
+        ByteBuffer[] buffers = new ByteBuffer[RING_SIZE];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = ByteBuffer.allocateDirect(capacity);
+        }
+        return buffers;
     }
 
     /**
@@ -76,87 +255,566 @@ public class BitStreamWriter implements AutoCloseable {
             ? value 
             : value & ((1L << bitCount) - 1);
 
-        int bitsWritten = 0;
+        if (msbFirst) {
+            appendBitsMsb(maskedValue, bitCount);
+        } else {
+            appendBits(maskedValue, bitCount);
+        }
+    }
+
+    /**
+     * Gets the order in which bits are packed.
+     *
+     * @return The bit order.
+     */
+    public BitOrder getBitOrder() {
+        return bitOrder;
+    }
+
+    /**
+     * Writes whole bytes from an array, as {@code len} writes of 8 bits would. When the writer is
+     * at a byte boundary the bytes are copied into the buffer with a bulk put, and payloads at
+     * least as large as the buffer are written to the underlying stream or channel directly.
+     * Otherwise the bytes are copied eight at a time with word shifts.
+     *
+     * @param src The array to write from.
+     * @param off The index of the first byte to write.
+     * @param len The number of bytes to write.
+     * @throws BitStreamException If an I/O error occurs.
+     * @throws IndexOutOfBoundsException If the range is outside the array.
+     */
+    public void writeBytes(byte[] src, int off, int len) {
+        Objects.checkFromIndexSize(off, len, src.length);
+        int i = off;
+        int end = off + len;
+
+        if ((bitsBuffered & 7) != 0) {
+            if (msbFirst) {
+                for (; end - i >= 8; i += 8) {
+                    appendBitsMsb((long) LONG_BE.get(src, i), 64);
+                }
+                for (; i < end; i++) {
+                    appendBitsMsb(src[i] & 0xFFL, 8);
+                }
+            } else {
+                for (; end - i >= 8; i += 8) {
+                    appendBits((long) LONG_LE.get(src, i), 64);
+                }
+                for (; i < end; i++) {
+                    appendBits(src[i] & 0xFFL, 8);
+                }
+            }
+            return;
+        }
 
-        // Write bits until we have written the requested number
-        while (bitsWritten < bitCount) {
-            // If we've filled the buffer, flush it
-            if (bytePos >= buffer.length) {
+        // Move the whole bytes in the bit buffer into the buffer, so the buffer is the stream tail
+        spillBytes(bitBuffer, bitsBuffered >>> 3);
+        bitBuffer = 0;
+        bitsBuffered = 0;
+
+        // Large payloads bypass the buffer
+        if (len >= capacity) {
+            try {
+                if (outputStream != null) {
+                    flushBuffer();
+                    outputStream.write(src, off, len);
+                } else {
+                    writeRing();
+                    ByteBuffer payload = ByteBuffer.wrap(src, off, len);
+                    while (payload.hasRemaining()) {
+                        channel.write(payload);
+                    }
+                }
+            } catch (IOException e) {
+                throw BitStreamException.fromIOException(e);
+            }
+            return;
+        }
+
+        while (i < end) {
+            if (bytePos >= capacity) {
                 flushBuffer();
             }
+            int n = Math.min(end - i, capacity - bytePos);
+            buffer.put(bytePos, src, i, n);
+            bytePos += n;
+            i += n;
+        }
+    }
 
-            // Calculate how many bits we can write to the current byte
-            int bitsAvailable = 8 - bitPos;
-            int bitsToWrite = Math.min(bitsAvailable, bitCount - bitsWritten);
+    /**
+     * Writes whole bytes from a buffer. The writer must be at a byte boundary. Heap buffers go
+     * through {@link #writeBytes(byte[], int, int)}, direct buffers are copied into the buffer.
+     *
+     * @param src The buffer to write from, read with absolute gets.
+     * @param off The index of the first byte to write.
+     * @param len The number of bytes to write.
+     * @throws BitStreamException If an I/O error occurs.
+     */
+    void writeBuffer(ByteBuffer src, int off, int len) {
+        if (src.hasArray()) {
+            writeBytes(src.array(), src.arrayOffset() + off, len);
+            return;
+        }
 
-            // Create a mask for the bits we want to write (LSB first)
-            byte mask = (byte)((1 << bitsToWrite) - 1);
+        // Move the whole bytes in the bit buffer into the buffer, so the buffer is the stream tail
+        spillBytes(bitBuffer, bitsBuffered >>> 3);
+        bitBuffer = 0;
+        bitsBuffered = 0;
 
-            // Get the bits to write (LSB first) - extract from least significant bit
-            byte bitsToWriteValue = (byte)((maskedValue >> bitsWritten) & mask);
+        int i = off;
+        int end = off + len;
+        while (i < end) {
+            if (bytePos >= capacity) {
+                flushBuffer();
+            }
+            int n = Math.min(end - i, capacity - bytePos);
+            buffer.put(bytePos, src, i, n);
+            bytePos += n;
+            i += n;
+        }
+    }
 
-            // Shift the bits to the correct position within the byte (LSB first)
-            bitsToWriteValue = (byte)(bitsToWriteValue << bitPos);
+    /**
+     * Copies bits from a reader to this writer, as {@code bitCount} bits of reads and writes
+     * would. When both sides are at the same offset within a byte the bytes are moved a buffer
+     * at a time, with whole buffers passed straight to the underlying stream. Otherwise the
+     * bits are moved 64 at a time with word shifts.
+     *
+     * @param src The reader to copy from.
+     * @param bitCount The number of bits to copy.
+     * @throws BitStreamException If the bit count is negative, the reader reaches the end of
+     *                            stream or an I/O error occurs. At the end of stream the bits
+     *                            read so far have been written.
+     * @throws IllegalArgumentException If the reader has a different bit order.
+     */
+    public void transferFrom(BitStreamReader src, long bitCount) {
+        if (bitCount < 0) {
+            throw BitStreamException.invalidBitCount();
+        }
+        if (src.getBitOrder() != bitOrder) {
+            throw new IllegalArgumentException("Cannot transfer from a " + src.getBitOrder() + " reader to a " + bitOrder + " writer");
+        }
+        long remaining = bitCount;
+
+        // When both sides reach a byte boundary together, the bits up to it align them
+        int lead = -bitsBuffered & 7;
+        if (src.bitsToByteBoundary() == lead && remaining >= lead) {
+            if (lead > 0) {
+                writeBits(src.readBits((byte) lead), (byte) lead);
+                remaining -= lead;
+            }
+            src.transferBytesTo(this, remaining >>> 3);
+            remaining &= 7;
+        } else {
+            for (; remaining >= 64; remaining -= 64) {
+                long word = src.readWord();
+                if (msbFirst) {
+                    appendBitsMsb(word, 64);
+                } else {
+                    appendBits(word, 64);
+                }
+            }
+        }
 
-            // Create a mask for the bits we want to preserve
-            byte preserveMask = (byte)~(mask << bitPos);
+        if (remaining > 0) {
+            writeBits(src.readBits((byte) remaining), (byte) remaining);
+        }
+    }
+
+    /**
+     * Writes {@code count} values of the same width from a long array.
+     *
+     * @param values The array to write from.
+     * @param offset The index of the first value to write.
+     * @param count The number of values to write.
+     * @param bitCount The number of bits in each value (1-64).
+     * @throws BitStreamException If the bit count is invalid or an I/O error occurs.
+     * @throws IndexOutOfBoundsException If the range is outside the array.
+     */
+    public void writeBits(long[] values, int offset, int count, byte bitCount) {
+        checkBulkArguments(values.length, offset, count, bitCount, 64);
+        int i = offset;
+        int end = offset + count;
+
+        // The block kernels only pack LSB-first, so MSB-first values are written one at a time
+        if (msbFirst) {
+            long mask = bitCount == 64 ? -1L : (1L << bitCount) - 1;
+            for (; i < end; i++) {
+                appendBitsMsb(values[i] & mask, bitCount);
+            }
+            return;
+        }
 
-            // Update the byte in the buffer
-            buffer[bytePos] = (byte)((buffer[bytePos] & preserveMask) | bitsToWriteValue);
+        // Whole blocks go through the width-specialised kernels
+        if (end - i >= BitPacking.BLOCK_SIZE) {
+            long[] block = blockScratch();
+            for (; end - i >= BitPacking.BLOCK_SIZE; i += BitPacking.BLOCK_SIZE) {
+                BitPacking.pack(values, i, block, BitPacking.BLOCK_SIZE, bitCount);
+                storeBlock(block, bitCount);
+            }
+        }
 
-            // Update the bit position
-            bitsWritten += bitsToWrite;
-            bitPos += bitsToWrite;
+        long mask = bitCount == 64 ? -1L : (1L << bitCount) - 1;
+        for (; i < end; i++) {
+            appendBits(values[i] & mask, bitCount);
+        }
+    }
 
-            // If we've filled the current byte, move to the next byte
-            if (bitPos == 8) {
-                bytePos++;
-                bitPos = 0;
+    /**
+     * Writes {@code count} values of the same width from an int array.
+     *
+     * @param values The array to write from.
+     * @param offset The index of the first value to write.
+     * @param count The number of values to write.
+     * @param bitCount The number of bits in each value (1-32).
+     * @throws BitStreamException If the bit count is invalid or an I/O error occurs.
+     * @throws IndexOutOfBoundsException If the range is outside the array.
+     */
+    public void writeBits(int[] values, int offset, int count, byte bitCount) {
+        checkBulkArguments(values.length, offset, count, bitCount, 32);
+        int i = offset;
+        int end = offset + count;
+
+        // The block kernels only pack LSB-first, so MSB-first values are written one at a time
+        if (msbFirst) {
+            long mask = (1L << bitCount) - 1;
+            for (; i < end; i++) {
+                appendBitsMsb(values[i] & mask, bitCount);
+            }
+            return;
+        }
+
+        // Whole blocks go through the width-specialised kernels
+        if (end - i >= BitPacking.BLOCK_SIZE) {
+            long[] block = blockScratch();
+            for (; end - i >= BitPacking.BLOCK_SIZE; i += BitPacking.BLOCK_SIZE) {
+                for (int j = 0; j < BitPacking.BLOCK_SIZE; j++) {
+                    block[j] = values[i + j];
+                }
+                BitPacking.pack(block, 0, block, BitPacking.BLOCK_SIZE, bitCount);
+                storeBlock(block, bitCount);
+            }
+        }
+
+        long mask = (1L << bitCount) - 1;
+        for (; i < end; i++) {
+            appendBits(values[i] & mask, bitCount);
+        }
+    }
+
+    /**
+     * Writes {@code count} values of the same width from a short array.
+     *
+     * @param values The array to write from.
+     * @param offset The index of the first value to write.
+     * @param count The number of values to write.
+     * @param bitCount The number of bits in each value (1-16).
+     * @throws BitStreamException If the bit count is invalid or an I/O error occurs.
+     * @throws IndexOutOfBoundsException If the range is outside the array.
+     */
+    public void writeBits(short[] values, int offset, int count, byte bitCount) {
+        checkBulkArguments(values.length, offset, count, bitCount, 16);
+        int i = offset;
+        int end = offset + count;
+
+        // The block kernels only pack LSB-first, so MSB-first values are written one at a time
+        if (msbFirst) {
+            long mask = (1L << bitCount) - 1;
+            for (; i < end; i++) {
+                appendBitsMsb(values[i] & mask, bitCount);
+            }
+            return;
+        }
+
+        // Whole blocks go through the width-specialised kernels
+        if (end - i >= BitPacking.BLOCK_SIZE) {
+            long[] block = blockScratch();
+            for (; end - i >= BitPacking.BLOCK_SIZE; i += BitPacking.BLOCK_SIZE) {
+                for (int j = 0; j < BitPacking.BLOCK_SIZE; j++) {
+                    block[j] = values[i + j];
+                }
+                BitPacking.pack(block, 0, block, BitPacking.BLOCK_SIZE, bitCount);
+                storeBlock(block, bitCount);
+            }
+        }
+
+        long mask = (1L << bitCount) - 1;
+        for (; i < end; i++) {
+            appendBits(values[i] & mask, bitCount);
+        }
+    }
+
+    /**
+     * Writes {@code count} values of the same width from a byte array.
+     *
+     * @param values The array to write from.
+     * @param offset The index of the first value to write.
+     * @param count The number of values to write.
+     * @param bitCount The number of bits in each value (1-8).
+     * @throws BitStreamException If the bit count is invalid or an I/O error occurs.
+     * @throws IndexOutOfBoundsException If the range is outside the array.
+     */
+    public void writeBits(byte[] values, int offset, int count, byte bitCount) {
+        checkBulkArguments(values.length, offset, count, bitCount, 8);
+        int i = offset;
+        int end = offset + count;
+
+        // The block kernels only pack LSB-first, so MSB-first values are written one at a time
+        if (msbFirst) {
+            long mask = (1L << bitCount) - 1;
+            for (; i < end; i++) {
+                appendBitsMsb(values[i] & mask, bitCount);
+            }
+            return;
+        }
+
+        // Whole blocks go through the width-specialised kernels
+        if (end - i >= BitPacking.BLOCK_SIZE) {
+            long[] block = blockScratch();
+            for (; end - i >= BitPacking.BLOCK_SIZE; i += BitPacking.BLOCK_SIZE) {
+                for (int j = 0; j < BitPacking.BLOCK_SIZE; j++) {
+                    block[j] = values[i + j];
+                }
+                BitPacking.pack(block, 0, block, BitPacking.BLOCK_SIZE, bitCount);
+                storeBlock(block, bitCount);
+            }
+        }
+
+        long mask = (1L << bitCount) - 1;
+        for (; i < end; i++) {
+            appendBits(values[i] & mask, bitCount);
+        }
+    }
+
+    /**
+     * Returns the scratch space used by the block kernels: 64 values followed by 64 packed words.
+     *
+     * @return The scratch array.
+     */
+    private long[] blockScratch() {
+        if (blockScratch == null) {
+            blockScratch = new long[2 * BitPacking.BLOCK_SIZE];
+        }
+        return blockScratch;
+    }
+
+    /**
+     * Appends the packed words of a block of 64 values from the second half of the scratch array.
+     *
+     * @param block The scratch array.
+     * @param bitCount The number of bits in each value (1-64).
+     * @throws BitStreamException If an I/O error occurs.
+     */
+    private void storeBlock(long[] block, int bitCount) {
+        for (int k = 0; k < bitCount; k++) {
+            appendBits(block[BitPacking.BLOCK_SIZE + k], 64);
+        }
+    }
+
+    /**
+     * Validates the arguments of a bulk write.
+     *
+     * @param length The length of the source array.
+     * @param offset The index of the first value to write.
+     * @param count The number of values to write.
+     * @param bitCount The number of bits in each value.
+     * @param maxBitCount The widest value the source array can hold.
+     * @throws BitStreamException If the bit count is invalid.
+     * @throws IndexOutOfBoundsException If the range is outside the array.
+     */
+    private static void checkBulkArguments(int length, int offset, int count, byte bitCount, int maxBitCount) {
+        if (bitCount <= 0 || bitCount > maxBitCount) {
+            throw BitStreamException.invalidBitCount();
+        }
+        Objects.checkFromIndexSize(offset, count, length);
+    }
+
+    /**
+     * Appends a value to the bit buffer, spilling the bit buffer when it fills up.
+     *
+     * @param maskedValue The value, with no bits set above {@code bitCount}.
+     * @param bitCount The number of bits in the value (1-64).
+     * @throws BitStreamException If an I/O error occurs.
+     */
+    private void appendBits(long maskedValue, int bitCount) {
+        bitBuffer |= maskedValue << bitsBuffered;
+
+        int total = bitsBuffered + bitCount;
+        if (total < 64) {
+            bitsBuffered = total;
+            return;
+        }
+
+        // The bit buffer is full: spill it and keep the bits of the value that did not fit
+        spillWord(bitBuffer);
+        bitBuffer = (maskedValue >>> 1) >>> (63 - bitsBuffered);
+        bitsBuffered = total - 64;
+    }
+
+    /**
+     * Appends a value to the left-aligned bit buffer of an MSB-first stream, spilling the bit
+     * buffer when it fills up.
+     *
+     * @param maskedValue The value, with no bits set above {@code bitCount}.
+     * @param bitCount The number of bits in the value (1-64).
+     * @throws BitStreamException If an I/O error occurs.
+     */
+    private void appendBitsMsb(long maskedValue, int bitCount) {
+        int total = bitsBuffered + bitCount;
+        if (total < 64) {
+            bitBuffer |= maskedValue << (64 - total);
+            bitsBuffered = total;
+            return;
+        }
+
+        // The bit buffer is full: spill it with the leading bits of the value and keep the rest
+        int overflow = total - 64;
+        spillWord(bitBuffer | (maskedValue >>> overflow));
+        bitBuffer = overflow == 0 ? 0 : maskedValue << (64 - overflow);
+        bitsBuffered = overflow;
+    }
+
+    /**
+     * Appends a full 64-bit word to the buffer, flushing the buffer when it fills up.
+     *
+     * @param word The word to append, first bit in bit 0, or in bit 63 for MSB-first streams.
+     * @throws BitStreamException If an I/O error occurs.
+     */
+    private void spillWord(long word) {
+        if (bytePos + 8 <= capacity) {
+            if (msbFirst) {
+                BUFFER_BE.set(buffer, bytePos, word);
+            } else {
+                BUFFER_LE.set(buffer, bytePos, word);
+            }
+            bytePos += 8;
+            return;
+        }
+
+        // Not enough room for a whole word, so fill the buffer a byte at a time
+        spillBytes(word, 8);
+    }
+
+    /**
+     * Appends the leading bytes of a word to the buffer one byte at a time, flushing the buffer
+     * whenever it fills up.
+     *
+     * @param word The word to append, first bit in bit 0, or in bit 63 for MSB-first streams.
+     * @param byteCount The number of bytes to append (0-8).
+     * @throws BitStreamException If an I/O error occurs.
+     */
+    private void spillBytes(long word, int byteCount) {
+        // With room for a whole word, store it all and keep the leading bytes: the rest lie past
+        // the byte position and are overwritten before they are written out
+        if (bytePos + 8 <= capacity) {
+            if (msbFirst) {
+                BUFFER_BE.set(buffer, bytePos, word);
+            } else {
+                BUFFER_LE.set(buffer, bytePos, word);
+            }
+            bytePos += byteCount;
+            return;
+        }
+
+        for (int i = 0; i < byteCount; i++) {
+            if (bytePos >= capacity) {
+                flushBuffer();
             }
+            buffer.put(bytePos++, (byte)(word >>> (msbFirst ? 56 - (i << 3) : i << 3)));
         }
     }
 
     /**
-     * Flushes the buffer to the underlying stream.
+     * Flushes the buffer to the underlying stream. A channel writer instead moves on to the next
+     * buffer of the ring, writing the ring once every buffer is full.
      *
      * @throws BitStreamException If an I/O error occurs.
      */
     private void flushBuffer() {
+        if (bytePos == 0) {
+            return;
+        }
+
         try {
-            if (bytePos > 0) {
+            if (outputStream != null) {
                 // Write the buffer to the underlying stream
-                outputStream.write(buffer, 0, bytePos);
+                outputStream.write(array, 0, bytePos);
 
-                // Reset the buffer
-                for (int i = 0; i < buffer.length; i++) {
-                    buffer[i] = 0;
-                }
+                // Every buffer byte is overwritten whole, so there is nothing to clear
                 bytePos = 0;
-                // Keep the bit position as it is
+                return;
             }
         } catch (IOException e) {
             throw BitStreamException.fromIOException(e);
         }
+
+        buffer.limit(bytePos);
+        ringIndex++;
+        if (ringIndex == ring.length) {
+            writeRing();
+        }
+        buffer = ring[ringIndex];
+        bytePos = 0;
     }
 
     /**
-     * Flushes any remaining bits to the underlying stream.
+     * Writes every buffer of the ring that holds bytes, including the one being filled, with
+     * gathering writes, and starts filling the first buffer again.
+     *
+     * @throws BitStreamException If an I/O error occurs.
+     */
+    private void writeRing() {
+        int count = ringIndex;
+        if (ringIndex < ring.length && bytePos > 0) {
+            buffer.limit(bytePos);
+            count++;
+        }
+        if (count == 0) {
+            return;
+        }
+
+        try {
+            // A gathering write can stop early, so repeat until the last buffer is written
+            while (ring[count - 1].hasRemaining()) {
+                channel.write(ring, 0, count);
+            }
+        } catch (IOException e) {
+            throw BitStreamException.fromIOException(e);
+        }
+
+        // Every buffer byte is overwritten whole, so there is nothing to clear
+        for (int i = 0; i < count; i++) {
+            ring[i].clear();
+        }
+        ringIndex = 0;
+        buffer = ring[0];
+        bytePos = 0;
+    }
+
+    /**
+     * Flushes any remaining bits to the underlying stream or channel.
      *
      * @throws BitStreamException If an I/O error occurs.
      */
     public void flush() {
+        // Move the buffered bits, including a final partial byte, into the buffer
+        spillBytes(bitBuffer, (bitsBuffered + 7) >>> 3);
+        bitBuffer = 0;
+        bitsBuffered = 0;
+
+        if (outputStream == null) {
+            writeRing();
+            return;
+        }
+
         try {
-            // If there are any bits in the current byte, write it
-            if (bytePos > 0 || bitPos > 0) {
+            if (bytePos > 0) {
                 // Write the buffer to the stream
-                outputStream.write(buffer, 0, bytePos + (bitPos > 0 ? 1 : 0));
+                outputStream.write(array, 0, bytePos);
 
-                // Reset the buffer
-                for (int i = 0; i < buffer.length; i++) {
-                    buffer[i] = 0;
-                }
+                // Every buffer byte is overwritten whole, so there is nothing to clear
                 bytePos = 0;
-                bitPos = 0;
             }
 
             // Flush the underlying stream
@@ -167,28 +825,46 @@ public class BitStreamWriter implements AutoCloseable {
     }
 
     /**
-     * Writes up to 128 bits to the stream.
+     * Writes up to 128 bits to the stream from a UInt128, without going through a BigInteger.
      *
      * @param value The value to write.
-     * @param bitCount The number of bits to write (1-128).
+     * @param bitCount The number of bits to write (1-128). The count is read as unsigned, so 128
+     *                 is passed as {@code (byte)128}.
      * @throws BitStreamException If the bit count is invalid or an I/O error occurs.
      */
-    public void writeBitsU128(BigInteger value, byte bitCount) {
-        if (bitCount <= 0 || bitCount > 128) {
+    public void writeU128(UInt128 value, byte bitCount) {
+        int bits = bitCount & 0xFF;
+        if (bits == 0 || bits > 128) {
             throw BitStreamException.invalidBitCount();
         }
 
-        // For bit counts up to 64, we can use the existing method
-        if (bitCount <= 64) {
-            writeBits(value.longValue(), bitCount);
+        // Values of up to 64 bits only need the low half
+        if (bits <= 64) {
+            writeBits(value.getLow(), bitCount);
             return;
         }
 
-        // For bit counts > 64, write the low 64 bits first (LSB), then the high bits
-        long lowBits = value.and(BigInteger.valueOf(-1L)).longValue();
-        writeBits(lowBits, (byte)64);
-        long highBits = value.shiftRight(64).longValue();
-        writeBits(highBits, (byte)(bitCount - 64));
+        // For bit counts > 64, the low 64 bits come first in LSB-first order, the high bits in
+        // MSB-first order
+        if (msbFirst) {
+            writeBits(value.getHigh(), (byte)(bits - 64));
+            writeBits(value.getLow(), (byte)64);
+        } else {
+            writeBits(value.getLow(), (byte)64);
+            writeBits(value.getHigh(), (byte)(bits - 64));
+        }
+    }
+
+    /**
+     * Writes up to 128 bits to the stream. This is a compatibility adapter over
+     * {@link #writeU128(UInt128, byte)}, which avoids the BigInteger allocations.
+     *
+     * @param value The value to write.
+     * @param bitCount The number of bits to write (1-128).
+     * @throws BitStreamException If the bit count is invalid or an I/O error occurs.
+     */
+    public void writeBitsU128(BigInteger value, byte bitCount) {
+        writeU128(UInt128.fromBigInteger(value), bitCount);
     }
 
     /**
@@ -200,22 +876,37 @@ public class BitStreamWriter implements AutoCloseable {
      */
     public void writeBitValue(BitValue value, Byte bitCount) {
         byte bitsToWrite = bitCount != null ? bitCount : value.getBitCount();
+        int bits = bitsToWrite & 0xFF;
 
-        if (bitsToWrite <= 64) {
+        if (bits <= 64) {
             writeBits(value.toUInt64(), bitsToWrite);
+        } else if (bits > 128) {
+            throw BitStreamException.invalidBitCount();
         } else {
-            writeBitsU128(value.toUnsignedBigInteger(), bitsToWrite);
+            // Write the two halves directly rather than building a BigInteger, in stream order
+            if (msbFirst) {
+                writeBits(value.getHigh(), (byte)(bits - 64));
+                writeBits(value.toUInt64(), (byte)64);
+            } else {
+                writeBits(value.toUInt64(), (byte)64);
+                writeBits(value.getHigh(), (byte)(bits - 64));
+            }
         }
     }
 
     /**
-     * Closes the BitStreamWriter, flushing any remaining bits and closing the underlying stream.
+     * Closes the BitStreamWriter, flushing any remaining bits and closing the underlying stream
+     * or channel.
      *
      * @throws IOException If an I/O error occurs.
      */
     @Override
     public void close() throws IOException {
         flush();
-        outputStream.close();
+        if (outputStream != null) {
+            outputStream.close();
+        } else {
+            channel.close();
+        }
     }
 }
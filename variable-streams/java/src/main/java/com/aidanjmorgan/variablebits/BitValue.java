@@ -1,7 +1,6 @@
 package com.aidanjmorgan.variablebits;
 
 import java.math.BigInteger;
-import java.util.Objects;
 
 /**
  * Represents a value with a specific bit width.
@@ -9,9 +8,15 @@ import java.util.Objects;
 public final class BitValue {
 
     /**
-     * The value, stored in the most appropriate type based on bit count.
+     * The low 64 bits of the value. Values of up to 64 bits are held as the smallest of
+     * byte, short, int or long that fits the bit count, sign-extended to a long.
      */
-    private final Object value;
+    private final long low;
+
+    /**
+     * The high 64 bits of a value of more than 64 bits, zero otherwise.
+     */
+    private final long high;
 
     /**
      * The number of bits in the value (1-128).
@@ -19,14 +24,86 @@ public final class BitValue {
     private final byte bitCount;
 
     /**
-     * Private constructor to create a BitValue with the specified value and bit count.
+     * Whether the value is signed. Values of up to 64 bits are always signed; wider values are
+     * signed when they are negative two's-complement 128-bit quantities.
+     */
+    private final boolean signed;
+
+    /**
+     * Private constructor to create a BitValue with the specified payload and bit count.
      *
-     * @param value The value object.
+     * @param low The low 64 bits of the value.
+     * @param high The high 64 bits of the value.
      * @param bitCount The number of bits (1-128).
+     * @param signed Whether the value is signed.
      */
-    private BitValue(Object value, byte bitCount) {
-        this.value = value;
+    private BitValue(long low, long high, byte bitCount, boolean signed) {
+        this.low = low;
+        this.high = high;
         this.bitCount = bitCount;
+        this.signed = signed;
+    }
+
+    /**
+     * Creates a BitValue of up to 64 bits, narrowing the value to the type that fits the bit
+     * count.
+     *
+     * @param value The value.
+     * @param bitCount The number of bits (1-64).
+     * @return A new BitValue.
+     */
+    private static BitValue ofNarrowed(long value, byte bitCount) {
+        long narrowed;
+        if (bitCount <= 8) {
+            narrowed = (byte) value;
+        } else if (bitCount <= 16) {
+            narrowed = (short) value;
+        } else if (bitCount <= 32) {
+            narrowed = (int) value;
+        } else {
+            narrowed = value;
+        }
+        return new BitValue(narrowed, 0L, bitCount, true);
+    }
+
+    /**
+     * Creates an unsigned BitValue of more than 64 bits from its two halves, without going
+     * through a BigInteger.
+     *
+     * @param low The low 64 bits.
+     * @param high The high bits, masked to {@code bitCount - 64} bits.
+     * @param bitCount The number of bits (65-128).
+     * @return A new BitValue.
+     */
+    static BitValue newUnsignedValue(long low, long high, byte bitCount) {
+        return new BitValue(low, high, bitCount, false);
+    }
+
+    /**
+     * Returns the low 64 bits of the value.
+     *
+     * @return The low 64 bits.
+     */
+    long getLow() {
+        return low;
+    }
+
+    /**
+     * Returns the high 64 bits of a value of more than 64 bits.
+     *
+     * @return The high 64 bits, or zero for values of up to 64 bits.
+     */
+    long getHigh() {
+        return high;
+    }
+
+    /**
+     * Returns whether the value is wider than 64 bits.
+     *
+     * @return True if the value is wider than 64 bits.
+     */
+    private boolean isWide() {
+        return bitCount <= 0 || bitCount > 64;
     }
 
     /**
@@ -44,9 +121,7 @@ public final class BitValue {
      * @return True if the value is signed, false otherwise.
      */
     public boolean isSigned() {
-        return value instanceof Byte || value instanceof Short || 
-               value instanceof Integer || value instanceof Long || 
-               (value instanceof BigInteger && ((BigInteger) value).signum() < 0);
+        return signed;
     }
 
     /**
@@ -67,19 +142,7 @@ public final class BitValue {
             ? value 
             : value & ((1L << bitCount) - 1);
 
-        // Choose the appropriate type based on the bit count
-        Object typedValue;
-        if (bitCount <= 8) {
-            typedValue = (byte) maskedValue;
-        } else if (bitCount <= 16) {
-            typedValue = (short) maskedValue;
-        } else if (bitCount <= 32) {
-            typedValue = (int) maskedValue;
-        } else {
-            typedValue = maskedValue;
-        }
-
-        return new BitValue(typedValue, bitCount);
+        return ofNarrowed(maskedValue, bitCount);
     }
 
     /**
@@ -92,37 +155,51 @@ public final class BitValue {
      * @throws BitStreamException If the bit count is invalid.
      */
     public static BitValue newBigIntegerValue(BigInteger value, byte bitCount, boolean signed) {
-        if (bitCount <= 0 || bitCount > 128) {
+        // A bit count of 128 does not fit in a signed byte, so treat the count as unsigned
+        int bits = bitCount & 0xFF;
+        if (bits == 0 || bits > 128) {
             throw BitStreamException.invalidBitCount();
         }
 
-        // Mask the value to ensure it only contains the specified number of bits
-        BigInteger maskedValue;
-        if (bitCount == 128) {
-            maskedValue = value;
-        } else if (!signed) {
-            // For unsigned values, mask to the specified bit count
-            maskedValue = value.and(BigInteger.ONE.shiftLeft(bitCount).subtract(BigInteger.ONE));
-        } else {
-            // For signed values, we don't mask as we want to preserve the sign bit
-            maskedValue = value;
+        long lowBits = value.longValue();
+
+        // Values of up to 64 bits only need the low bits; signed values are not masked so the
+        // sign bit is preserved
+        if (bits <= 64) {
+            if (!signed && bitCount < 64) {
+                lowBits &= (1L << bitCount) - 1;
+            }
+            return ofNarrowed(lowBits, bitCount);
         }
 
-        // Choose the appropriate type based on the bit count
-        Object typedValue;
-        if (bitCount <= 8) {
-            typedValue = maskedValue.byteValue();
-        } else if (bitCount <= 16) {
-            typedValue = maskedValue.shortValue();
-        } else if (bitCount <= 32) {
-            typedValue = maskedValue.intValue();
-        } else if (bitCount <= 64) {
-            typedValue = maskedValue.longValue();
-        } else {
-            typedValue = maskedValue;
+        long highBits = value.shiftRight(64).longValue();
+        if (bits == 128 || signed) {
+            return new BitValue(lowBits, highBits, bitCount, value.signum() < 0);
         }
 
-        return new BitValue(typedValue, bitCount);
+        // For unsigned values, mask to the specified bit count
+        return newUnsignedValue(lowBits, highBits & ((1L << (bits - 64)) - 1), bitCount);
+    }
+
+    /**
+     * Creates a new unsigned BitValue from a 128-bit value.
+     *
+     * @param value The 128-bit value.
+     * @param bitCount The number of bits (1-128).
+     * @return A new BitValue.
+     * @throws BitStreamException If the bit count is invalid.
+     */
+    public static BitValue newUInt128Value(UInt128 value, byte bitCount) {
+        int bits = bitCount & 0xFF;
+        if (bits == 0 || bits > 128) {
+            throw BitStreamException.invalidBitCount();
+        }
+
+        if (bits <= 64) {
+            return newValue(value.getLow(), bitCount);
+        }
+        UInt128 masked = value.mask(bits);
+        return newUnsignedValue(masked.getLow(), masked.getHigh(), bitCount);
     }
 
     /**
@@ -138,41 +215,33 @@ public final class BitValue {
             throw BitStreamException.invalidBitCount();
         }
 
-        // Choose the appropriate type based on the bit count
-        Object typedValue;
+        return ofNarrowed(value, bitCount);
+    }
+
+    /**
+     * Returns the mask for the type a value of up to 64 bits is held in.
+     *
+     * @return The mask for the holding type.
+     */
+    private long typeMask() {
         if (bitCount <= 8) {
-            typedValue = (byte) value;
+            return 0xFFL;
         } else if (bitCount <= 16) {
-            typedValue = (short) value;
+            return 0xFFFFL;
         } else if (bitCount <= 32) {
-            typedValue = (int) value;
+            return 0xFFFFFFFFL;
         } else {
-            typedValue = value;
+            return -1L;
         }
-
-        return new BitValue(typedValue, bitCount);
     }
 
-
     /**
      * Converts the value to a 64-bit unsigned long.
      *
      * @return The value as a 64-bit unsigned long.
      */
     public long toUInt64() {
-        if (value instanceof Byte) {
-            return ((Byte) value) & 0xFFL;
-        } else if (value instanceof Short) {
-            return ((Short) value) & 0xFFFFL;
-        } else if (value instanceof Integer) {
-            return ((Integer) value) & 0xFFFFFFFFL;
-        } else if (value instanceof Long) {
-            return (Long) value;
-        } else if (value instanceof BigInteger) {
-            return ((BigInteger) value).and(BigInteger.valueOf(-1L)).longValue();
-        } else {
-            throw new IllegalStateException("Unexpected value type: " + value.getClass());
-        }
+        return isWide() ? low : low & typeMask();
     }
 
     /**
@@ -181,28 +250,19 @@ public final class BitValue {
      * @return The value as a 128-bit unsigned BigInteger.
      */
     public BigInteger toUnsignedBigInteger() {
-        if (value instanceof Byte) {
-            byte byteValue = (Byte) value;
-            return BigInteger.valueOf(byteValue & 0xFFL);
-        } else if (value instanceof Short) {
-            short shortValue = (Short) value;
-            return BigInteger.valueOf(shortValue & 0xFFFFL);
-        } else if (value instanceof Integer) {
-            int intValue = (Integer) value;
-            return BigInteger.valueOf(intValue & 0xFFFFFFFFL);
-        } else if (value instanceof Long) {
-            long longValue = (Long) value;
-            if (longValue < 0) {
-                // Convert negative long to unsigned BigInteger
-                return BigInteger.valueOf(longValue & Long.MAX_VALUE).setBit(63);
-            } else {
-                return BigInteger.valueOf(longValue);
-            }
-        } else if (value instanceof BigInteger) {
-            return (BigInteger) value;
-        } else {
-            throw new IllegalStateException("Unexpected value type: " + value.getClass());
+        if (isWide()) {
+            return toWideBigInteger();
         }
+        return unsignedBigInteger(0L, low & typeMask());
+    }
+
+    /**
+     * Converts the value to a 128-bit unsigned integer without going through a BigInteger.
+     *
+     * @return The value as a UInt128.
+     */
+    public UInt128 toUInt128() {
+        return isWide() ? new UInt128(high, low) : new UInt128(0L, low & typeMask());
     }
 
     /**
@@ -211,19 +271,7 @@ public final class BitValue {
      * @return The value as a 64-bit signed long.
      */
     public long toInt64() {
-        if (value instanceof Byte) {
-            return (Byte) value;
-        } else if (value instanceof Short) {
-            return (Short) value;
-        } else if (value instanceof Integer) {
-            return (Integer) value;
-        } else if (value instanceof Long) {
-            return (Long) value;
-        } else if (value instanceof BigInteger) {
-            return ((BigInteger) value).longValue();
-        } else {
-            throw new IllegalStateException("Unexpected value type: " + value.getClass());
-        }
+        return low;
     }
 
     /**
@@ -232,19 +280,36 @@ public final class BitValue {
      * @return The value as a 128-bit signed BigInteger.
      */
     public BigInteger toBigInteger() {
-        if (value instanceof Byte) {
-            return BigInteger.valueOf((Byte) value);
-        } else if (value instanceof Short) {
-            return BigInteger.valueOf((Short) value);
-        } else if (value instanceof Integer) {
-            return BigInteger.valueOf((Integer) value);
-        } else if (value instanceof Long) {
-            return BigInteger.valueOf((Long) value);
-        } else if (value instanceof BigInteger) {
-            return (BigInteger) value;
-        } else {
-            throw new IllegalStateException("Unexpected value type: " + value.getClass());
+        return isWide() ? toWideBigInteger() : BigInteger.valueOf(low);
+    }
+
+    /**
+     * Converts a value of more than 64 bits to a BigInteger, reading the two halves as a
+     * two's-complement number if the value is signed.
+     *
+     * @return The value as a BigInteger.
+     */
+    private BigInteger toWideBigInteger() {
+        if (signed) {
+            return BigInteger.valueOf(high).shiftLeft(64).or(unsignedBigInteger(0L, low));
+        }
+        return unsignedBigInteger(high, low);
+    }
+
+    /**
+     * Converts two 64-bit halves to an unsigned BigInteger.
+     *
+     * @param highBits The high 64 bits.
+     * @param lowBits The low 64 bits.
+     * @return The unsigned value.
+     */
+    static BigInteger unsignedBigInteger(long highBits, long lowBits) {
+        byte[] magnitude = new byte[16];
+        for (int i = 0; i < 8; i++) {
+            magnitude[i] = (byte) (highBits >>> (56 - 8 * i));
+            magnitude[8 + i] = (byte) (lowBits >>> (56 - 8 * i));
         }
+        return new BigInteger(1, magnitude);
     }
 
     /**
@@ -254,7 +319,7 @@ public final class BitValue {
      * @return A new BitValue.
      */
     public static BitValue fromByte(byte value) {
-        return new BitValue(value, (byte) 8);
+        return new BitValue(value, 0L, (byte) 8, true);
     }
 
     /**
@@ -264,7 +329,7 @@ public final class BitValue {
      * @return A new BitValue.
      */
     public static BitValue fromShort(short value) {
-        return new BitValue(value, (byte) 16);
+        return new BitValue(value, 0L, (byte) 16, true);
     }
 
     /**
@@ -274,7 +339,7 @@ public final class BitValue {
      * @return A new BitValue.
      */
     public static BitValue fromInt(int value) {
-        return new BitValue(value, (byte) 32);
+        return new BitValue(value, 0L, (byte) 32, true);
     }
 
     /**
@@ -284,7 +349,7 @@ public final class BitValue {
      * @return A new BitValue.
      */
     public static BitValue fromLong(long value) {
-        return new BitValue(value, (byte) 64);
+        return new BitValue(value, 0L, (byte) 64, true);
     }
 
     /**
@@ -294,7 +359,7 @@ public final class BitValue {
      * @return A new BitValue.
      */
     public static BitValue fromBigInteger(BigInteger value) {
-        return new BitValue(value, (byte) 128);
+        return new BitValue(value.longValue(), value.shiftRight(64).longValue(), (byte) 128, value.signum() < 0);
     }
 
     /**
@@ -312,17 +377,26 @@ public final class BitValue {
             return false;
         }
         BitValue other = (BitValue) obj;
-        return bitCount == other.bitCount && Objects.equals(value, other.value);
+        return bitCount == other.bitCount && low == other.low && high == other.high && signed == other.signed;
     }
 
     /**
-     * Computes the hash code for this BitValue.
+     * Computes the hash code for this BitValue. This matches the hash of the value boxed in its
+     * holding type combined with the bit count, so hashes are stable across versions.
      *
      * @return The hash code.
      */
     @Override
     public int hashCode() {
-        return Objects.hash(value, bitCount);
+        int valueHash;
+        if (isWide()) {
+            valueHash = toWideBigInteger().hashCode();
+        } else if (bitCount <= 32) {
+            valueHash = (int) low;
+        } else {
+            valueHash = Long.hashCode(low);
+        }
+        return 31 * (31 + valueHash) + bitCount;
     }
 
     /**
@@ -332,6 +406,7 @@ public final class BitValue {
      */
     @Override
     public String toString() {
+        String value = isWide() ? toWideBigInteger().toString() : Long.toString(low);
         return value + " (" + bitCount + " bits, " + (isSigned() ? "signed" : "unsigned") + ")";
     }
 }
@@ -0,0 +1,88 @@
+package com.aidanjmorgan.variablebits;
+
+/**
+ * The word arithmetic shared by the streams that keep their bits in 64-bit words, whatever those
+ * words are stored in. A value of up to 64 bits at bit {@code offset} of a word lies in that
+ * word and, when {@link #straddles(int, int)} is true, in the one after it. In LSB-first order
+ * the first bit is bit 0 of a word; in MSB-first order it is bit 63.
+ */
+final class BitWords {
+
+    private BitWords() {
+    }
+
+    /**
+     * Returns whether a value runs past the end of its first word.
+     *
+     * @param offset The offset of the value within its first word (0-63).
+     * @param bitCount The number of bits in the value (1-64).
+     * @return True if part of the value is in the following word.
+     */
+    static boolean straddles(int offset, int bitCount) {
+        return offset + bitCount > 64;
+    }
+
+    /**
+     * Extracts a value from the words holding it, without masking off the bits above the value
+     * in LSB-first order.
+     *
+     * @param first The word the value starts in.
+     * @param second The following word if the value straddles it, otherwise zero.
+     * @param offset The offset of the value within its first word (0-63).
+     * @param bitCount The number of bits in the value (1-64).
+     * @param msbFirst Whether bits are packed MSB-first.
+     * @return The value in the low bits, followed in LSB-first order by whatever bits come
+     *         after it.
+     */
+    static long extract(long first, long second, int offset, int bitCount, boolean msbFirst) {
+        // A value only straddles when offset > 0, so the shifts of second are never by 64
+        if (msbFirst) {
+            long aligned = (first << offset) | (second >>> (64 - offset));
+            return aligned >>> (64 - bitCount);
+        }
+        return (first >>> offset) | (second << (64 - offset));
+    }
+
+    /**
+     * Replaces the bits of a value in the word it starts in.
+     *
+     * @param word The word the value starts in.
+     * @param offset The offset of the value within the word (0-63).
+     * @param bitCount The number of bits in the value (1-64).
+     * @param maskedValue The value, with no bits set above {@code bitCount}.
+     * @param mask The mask for the low {@code bitCount} bits.
+     * @param msbFirst Whether bits are packed MSB-first.
+     * @return The updated word.
+     */
+    static long insertFirst(long word, int offset, int bitCount, long maskedValue, long mask, boolean msbFirst) {
+        // In MSB-first order the value ends shift bits above the bottom of the word, or spills
+        // -shift bits into the top of the next word
+        if (msbFirst) {
+            int shift = 64 - offset - bitCount;
+            return shift >= 0
+                    ? (word & ~(mask << shift)) | (maskedValue << shift)
+                    : (word & ~(mask >>> -shift)) | (maskedValue >>> -shift);
+        }
+        return (word & ~(mask << offset)) | (maskedValue << offset);
+    }
+
+    /**
+     * Replaces the bits of a value that straddles two words in the second of them.
+     *
+     * @param word The word after the one the value starts in.
+     * @param offset The offset of the value within its first word (1-63).
+     * @param bitCount The number of bits in the value (2-64).
+     * @param maskedValue The value, with no bits set above {@code bitCount}.
+     * @param mask The mask for the low {@code bitCount} bits.
+     * @param msbFirst Whether bits are packed MSB-first.
+     * @return The updated word.
+     */
+    static long insertSecond(long word, int offset, int bitCount, long maskedValue, long mask, boolean msbFirst) {
+        if (msbFirst) {
+            int shift = 128 - offset - bitCount;
+            return (word & ~(mask << shift)) | (maskedValue << shift);
+        }
+        int shift = 64 - offset;
+        return (word & ~(mask >>> shift)) | (maskedValue >>> shift);
+    }
+}
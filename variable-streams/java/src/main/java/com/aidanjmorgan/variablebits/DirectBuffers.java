@@ -0,0 +1,64 @@
+package com.aidanjmorgan.variablebits;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+
+/**
+ * Releases the memory behind direct and mapped buffers as soon as they are no longer needed,
+ * rather than when the garbage collector gets round to their cleaners. This goes through
+ * {@code sun.misc.Unsafe.invokeCleaner} from the {@code jdk.unsupported} module. When that is
+ * not available the buffers are left to the garbage collector.
+ */
+final class DirectBuffers {
+
+    /**
+     * {@code Unsafe.invokeCleaner} bound to the Unsafe instance, or null if it is not available.
+     */
+    private static final MethodHandle INVOKE_CLEANER = findInvokeCleaner();
+
+    private DirectBuffers() {
+    }
+
+    /**
+     * Releases the memory behind a direct or mapped buffer. The buffer, and any buffer that
+     * shares its memory, must not be used afterwards.
+     *
+     * @param buffer The buffer to release, or null.
+     */
+    static void free(ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect() || INVOKE_CLEANER == null) {
+            return;
+        }
+
+        try {
+            INVOKE_CLEANER.invokeExact(buffer);
+        } catch (IllegalArgumentException e) {
+            // Slices and duplicates have no cleaner of their own and are released with their parent
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to release direct buffer", e);
+        }
+    }
+
+    /**
+     * Looks up {@code Unsafe.invokeCleaner}.
+     *
+     * @return A handle taking the buffer to release, or null if it is not available.
+     */
+    private static MethodHandle findInvokeCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            Object unsafe = field.get(null);
+
+            MethodHandle handle = MethodHandles.lookup().findVirtual(unsafeClass, "invokeCleaner",
+                    MethodType.methodType(void.class, ByteBuffer.class));
+            return handle.bindTo(unsafe);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package com.aidanjmorgan.variablebits;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * A read-only bit stream over a memory-mapped file, for random access to files too large to
+ * load into a {@link BitStream}. The file is mapped in regions of 1 GiB that are only mapped
+ * when first read, so opening a file costs nothing however large it is, and bits are read
+ * straight from the page cache without copying. Each region overlaps the next by a word, so
+ * every read is served by a single region. Closing the stream unmaps the regions.
+ */
+public class MappedBitStream implements AutoCloseable {
+
+    /**
+     * Log2 of the default region size in bytes (1 GiB).
+     */
+    private static final int DEFAULT_REGION_SHIFT = 30;
+
+    /**
+     * The number of bytes each region maps past its end, enough for a word load at its last
+     * byte.
+     */
+    private static final int REGION_OVERLAP = 8;
+
+    /**
+     * The channel the file is mapped from. Null once the stream is closed.
+     */
+    private FileChannel channel;
+
+    /**
+     * The mapped regions, each mapped on first use.
+     */
+    private final MappedByteBuffer[] regions;
+
+    /**
+     * Log2 of the region size in bytes.
+     */
+    private final int regionShift;
+
+    /**
+     * The size of the file in bytes.
+     */
+    private final long byteLength;
+
+    /**
+     * The order in which bits are packed.
+     */
+    private final BitOrder bitOrder;
+
+    /**
+     * Whether bits are packed MSB-first, cached from {@link #bitOrder} for the hot paths.
+     */
+    private final boolean msbFirst;
+
+    /**
+     * Current position in bits.
+     */
+    private long position;
+
+    /**
+     * Opens a file as an LSB-first stream.
+     *
+     * @param path The file to open.
+     * @throws BitStreamException If an I/O error occurs.
+     */
+    public MappedBitStream(Path path) {
+        this(path, BitOrder.LSB_FIRST);
+    }
+
+    /**
+     * Opens a file as a stream with the specified bit order.
+     *
+     * @param path The file to open.
+     * @param bitOrder The order in which bits are packed.
+     * @throws BitStreamException If an I/O error occurs.
+     */
+    public MappedBitStream(Path path, BitOrder bitOrder) {
+        this(path, bitOrder, DEFAULT_REGION_SHIFT);
+    }
+
+    /**
+     * Opens a file as a stream mapped in regions of a given size.
+     *
+     * @param path The file to open.
+     * @param bitOrder The order in which bits are packed.
+     * @param regionShift Log2 of the region size in bytes (3-30).
+     * @throws BitStreamException If an I/O error occurs.
+     */
+    MappedBitStream(Path path, BitOrder bitOrder, int regionShift) {
+        this.bitOrder = Objects.requireNonNull(bitOrder, "Bit order cannot be null");
+        this.msbFirst = bitOrder == BitOrder.MSB_FIRST;
+        if (regionShift < 3 || regionShift > 30) {
+            throw new IllegalArgumentException("Region shift must be between 3 and 30");
+        }
+        this.regionShift = regionShift;
+
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            byteLength = channel.size();
+        } catch (IOException e) {
+            closeQuietly();
+            throw BitStreamException.fromIOException(e);
+        }
+
+        long regionCount = (byteLength + (1L << regionShift) - 1) >>> regionShift;
+        if (regionCount > Integer.MAX_VALUE - 8) {
+            closeQuietly();
+            throw new IllegalArgumentException("File is too large for the region size");
+        }
+        regions = new MappedByteBuffer[(int) regionCount];
+    }
+
+    /**
+     * Returns a region, mapping it if this is its first use.
+     *
+     * @param index The index of the region.
+     * @return The mapped region.
+     * @throws BitStreamException If an I/O error occurs.
+     * @throws IllegalStateException If the stream has been closed.
+     */
+    private MappedByteBuffer region(int index) {
+        MappedByteBuffer region = regions[index];
+        if (region != null) {
+            return region;
+        }
+
+        if (channel == null) {
+            throw new IllegalStateException("Stream is closed");
+        }
+        long start = (long) index << regionShift;
+        long size = Math.min(byteLength - start, (1L << regionShift) + REGION_OVERLAP);
+        try {
+            region = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+        } catch (IOException e) {
+            throw BitStreamException.fromIOException(e);
+        }
+        region.order(msbFirst ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+        regions[index] = region;
+        return region;
+    }
+
+    /**
+     * Gets the order in which bits are packed.
+     *
+     * @return The bit order.
+     */
+    public BitOrder getBitOrder() {
+        return bitOrder;
+    }
+
+    /**
+     * Returns the current position in bits.
+     *
+     * @return The current position in bits.
+     */
+    public long getPositionLong() {
+        return position;
+    }
+
+    /**
+     * Sets the current position in bits.
+     *
+     * @param position The new position in bits.
+     * @throws BitStreamException If the position is beyond the end of the stream.
+     * @throws IllegalArgumentException If the position is negative.
+     */
+    public void setPosition(long position) {
+        if (position < 0) {
+            throw new IllegalArgumentException("Position cannot be negative");
+        }
+        if (position > getLengthLong()) {
+            throw BitStreamException.endOfStream();
+        }
+
+        this.position = position;
+    }
+
+    /**
+     * Returns the total length of the stream in bits, eight for every byte of the file.
+     *
+     * @return The total length in bits.
+     */
+    public long getLengthLong() {
+        return byteLength << 3;
+    }
+
+    /**
+     * Gets the number of bits between the current position and the end of the stream.
+     *
+     * @return The number of bits that can still be read.
+     */
+    public long remainingBits() {
+        return getLengthLong() - position;
+    }
+
+    /**
+     * Returns true if the current position is at the end of the stream.
+     *
+     * @return True if at the end of the stream, false otherwise.
+     */
+    public boolean isEof() {
+        return position >= getLengthLong();
+    }
+
+    /**
+     * Reads up to 64 bits from the stream.
+     *
+     * @param bitCount The number of bits to read (1-64).
+     * @return The read bits as a 64-bit unsigned long.
+     * @throws BitStreamException If the bit count is invalid, the end of stream is reached or an
+     *                            I/O error occurs.
+     * @throws IllegalStateException If the stream has been closed.
+     */
+    public long readBits(byte bitCount) {
+        long result = peekBits(bitCount);
+        position += bitCount;
+        return result;
+    }
+
+    /**
+     * Returns up to 64 bits from the stream without moving the position.
+     *
+     * @param bitCount The number of bits to look at (1-64).
+     * @return The next bits as a 64-bit unsigned long.
+     * @throws BitStreamException If the bit count is invalid, the end of stream is reached or an
+     *                            I/O error occurs.
+     * @throws IllegalStateException If the stream has been closed.
+     */
+    public long peekBits(byte bitCount) {
+        if (bitCount <= 0 || bitCount > 64) {
+            throw BitStreamException.invalidBitCount();
+        }
+
+        if (position + bitCount > getLengthLong()) {
+            throw BitStreamException.endOfStream();
+        }
+
+        long byteIndex = position >>> 3;
+        int offset = (int) position & 7;
+        MappedByteBuffer region = region((int) (byteIndex >>> regionShift));
+        int local = (int) (byteIndex & ((1L << regionShift) - 1));
+
+        // Near the end of the file there is no whole word to load
+        if (local + 8 > region.limit()) {
+            return extractTail(region, local, offset, bitCount);
+        }
+
+        // One word load, plus the following byte when the value runs past it
+        long word = region.getLong(local);
+        boolean spills = offset + bitCount > 64;
+        if (msbFirst) {
+            long aligned = word << offset;
+            if (spills) {
+                aligned |= (region.get(local + 8) & 0xFFL) >>> (8 - offset);
+            }
+            return aligned >>> (64 - bitCount);
+        }
+
+        long result = word >>> offset;
+        if (spills) {
+            result |= (region.get(local + 8) & 0xFFL) << (64 - offset);
+        }
+        return bitCount == 64 ? result : result & ((1L << bitCount) - 1);
+    }
+
+    /**
+     * Assembles a value from the last few bytes of the file a byte at a time.
+     *
+     * @param region The region holding the value.
+     * @param local The index of the first byte of the value in the region.
+     * @param offset The offset of the value within its first byte.
+     * @param bitCount The number of bits in the value (1-64).
+     * @return The value as a 64-bit unsigned long.
+     */
+    private long extractTail(MappedByteBuffer region, int local, int offset, int bitCount) {
+        int bytes = (offset + bitCount + 7) >>> 3;
+        long result = 0;
+        if (msbFirst) {
+            // Fewer than eight bytes, so the assembled bits fit with room to spare
+            for (int i = 0; i < bytes; i++) {
+                result = (result << 8) | (region.get(local + i) & 0xFFL);
+            }
+            result >>>= 8 * bytes - offset - bitCount;
+        } else {
+            for (int i = 0; i < bytes; i++) {
+                result |= (region.get(local + i) & 0xFFL) << (8 * i);
+            }
+            result >>>= offset;
+        }
+        return bitCount == 64 ? result : result & ((1L << bitCount) - 1);
+    }
+
+    /**
+     * Closes the file and unmaps the regions. Closing a stream more than once has no effect.
+     *
+     * @throws IOException If an I/O error occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        for (int i = 0; i < regions.length; i++) {
+            DirectBuffers.free(regions[i]);
+            regions[i] = null;
+        }
+
+        FileChannel current = channel;
+        channel = null;
+        current.close();
+    }
+
+    /**
+     * Closes the channel after a failed open, ignoring any further error.
+     */
+    private void closeQuietly() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // The open has already failed
+            }
+            channel = null;
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.aidanjmorgan.variablebits;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * An append-only writer that packs bits straight into a memory-mapped window of a file, with
+ * no intermediate heap buffer and no system call per buffer. The window is moved along the
+ * file in large increments as it fills up. {@link #force()} makes everything written so far
+ * durable, and {@link #close()} truncates the file to the bytes actually written.
+ */
+public class MappedBitStreamWriter implements AutoCloseable {
+
+    /**
+     * Default size of the mapped window (64 MiB).
+     */
+    private static final long DEFAULT_WINDOW_SIZE = 64L << 20;
+
+    /**
+     * The channel the window is mapped from. Null once the writer is closed.
+     */
+    private FileChannel channel;
+
+    /**
+     * The mapped window the bits are written into.
+     */
+    private MappedByteBuffer window;
+
+    /**
+     * The offset in the file of the start of the window.
+     */
+    private long windowStart;
+
+    /**
+     * The position in the window of the next word to write.
+     */
+    private int windowPos;
+
+    /**
+     * The size of each window in bytes.
+     */
+    private final long windowSize;
+
+    /**
+     * Bits not yet written to the window, in the low bits for LSB-first streams and the high
+     * bits for MSB-first streams.
+     */
+    private long bitBuffer;
+
+    /**
+     * The number of valid bits in the bit buffer (0-63).
+     */
+    private int bitsBuffered;
+
+    /**
+     * The order in which bits are packed.
+     */
+    private final BitOrder bitOrder;
+
+    /**
+     * Whether bits are packed MSB-first, cached from {@link #bitOrder} for the hot paths.
+     */
+    private final boolean msbFirst;
+
+    /**
+     * Creates an LSB-first writer, replacing any existing file.
+     *
+     * @param path The file to write.
+     * @throws BitStreamException If an I/O error occurs.
+     */
+    public MappedBitStreamWriter(Path path) {
+        this(path, BitOrder.LSB_FIRST);
+    }
+
+    /**
+     * Creates a writer with the specified bit order, replacing any existing file.
+     *
+     * @param path The file to write.
+     * @param bitOrder The order in which bits are packed.
+     * @throws BitStreamException If an I/O error occurs.
+     */
+    public MappedBitStreamWriter(Path path, BitOrder bitOrder) {
+        this(path, bitOrder, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Creates a writer that maps windows of a given size, replacing any existing file.
+     *
+     * @param path The file to write.
+     * @param bitOrder The order in which bits are packed.
+     * @param windowSize The size of each window in bytes, a positive multiple of 8 of at most
+     *                   2^30.
+     * @throws BitStreamException If an I/O error occurs.
+     */
+    MappedBitStreamWriter(Path path, BitOrder bitOrder, long windowSize) {
+        this.bitOrder = Objects.requireNonNull(bitOrder, "Bit order cannot be null");
+        this.msbFirst = bitOrder == BitOrder.MSB_FIRST;
+        if (windowSize <= 0 || windowSize > (1L << 30) || (windowSize & 7) != 0) {
+            throw new IllegalArgumentException("Window size must be a positive multiple of 8 of at most 2^30");
+        }
+        this.windowSize = windowSize;
+
+        try {
+            // Mapping read-write needs the channel to be readable as well
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            window = map(0);
+        } catch (IOException e) {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                    // The open has already failed
+                }
+            }
+            throw BitStreamException.fromIOException(e);
+        }
+    }
+
+    /**
+     * Maps a window starting at a file offset, growing the file to cover it.
+     *
+     * @param start The offset in the file of the start of the window.
+     * @return The mapped window.
+     * @throws IOException If an I/O error occurs.
+     */
+    private MappedByteBuffer map(long start) throws IOException {
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, start, windowSize);
+        mapped.order(msbFirst ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+        return mapped;
+    }
+
+    /**
+     * Returns the window, moving it past the bytes already written if it is full.
+     *
+     * @return A window with room for at least one more word.
+     * @throws BitStreamException If an I/O error occurs.
+     * @throws IllegalStateException If the writer has been closed.
+     */
+    private MappedByteBuffer window() {
+        if (window == null) {
+            throw new IllegalStateException("Writer is closed");
+        }
+        if (windowPos < window.limit()) {
+            return window;
+        }
+
+        // The old window is unmapped straight away, its pages are written back by the OS
+        try {
+            MappedByteBuffer next = map(windowStart + windowPos);
+            DirectBuffers.free(window);
+            window = next;
+            windowStart += windowPos;
+            windowPos = 0;
+            return window;
+        } catch (IOException e) {
+            throw BitStreamException.fromIOException(e);
+        }
+    }
+
+    /**
+     * Gets the order in which bits are packed.
+     *
+     * @return The bit order.
+     */
+    public BitOrder getBitOrder() {
+        return bitOrder;
+    }
+
+    /**
+     * Returns the number of bits written so far.
+     *
+     * @return The number of bits written.
+     */
+    public long getLengthLong() {
+        return ((windowStart + windowPos) << 3) + bitsBuffered;
+    }
+
+    /**
+     * Writes up to 64 bits to the file.
+     *
+     * @param value The value to write.
+     * @param bitCount The number of bits to write (1-64).
+     * @throws BitStreamException If the bit count is invalid or an I/O error occurs.
+     * @throws IllegalStateException If the writer has been closed.
+     */
+    public void writeBits(long value, byte bitCount) {
+        if (bitCount <= 0 || bitCount > 64) {
+            throw BitStreamException.invalidBitCount();
+        }
+        if (window == null) {
+            throw new IllegalStateException("Writer is closed");
+        }
+
+        long maskedValue = bitCount == 64 ? value : value & ((1L << bitCount) - 1);
+        int total = bitsBuffered + bitCount;
+
+        if (msbFirst) {
+            if (total < 64) {
+                bitBuffer |= maskedValue << (64 - total);
+                bitsBuffered = total;
+                return;
+            }
+
+            // The bit buffer is full: store it with the leading bits of the value and keep the rest
+            int overflow = total - 64;
+            storeWord(bitBuffer | (maskedValue >>> overflow));
+            bitBuffer = overflow == 0 ? 0 : maskedValue << (64 - overflow);
+            bitsBuffered = overflow;
+            return;
+        }
+
+        bitBuffer |= maskedValue << bitsBuffered;
+        if (total < 64) {
+            bitsBuffered = total;
+            return;
+        }
+
+        // The bit buffer is full: store it and keep the bits of the value that did not fit
+        storeWord(bitBuffer);
+        bitBuffer = (maskedValue >>> 1) >>> (63 - bitsBuffered);
+        bitsBuffered = total - 64;
+    }
+
+    /**
+     * Stores a full 64-bit word in the window.
+     *
+     * @param word The word to store, first bit in bit 0, or in bit 63 for MSB-first streams.
+     * @throws BitStreamException If an I/O error occurs.
+     */
+    private void storeWord(long word) {
+        window().putLong(windowPos, word);
+        windowPos += 8;
+    }
+
+    /**
+     * Stores the bytes of the bit buffer, including a final partial byte, after the last word
+     * without consuming them. Later writes overwrite them as the bit buffer fills up.
+     *
+     * @throws BitStreamException If an I/O error occurs.
+     */
+    private void storeTail() {
+        int byteCount = (bitsBuffered + 7) >>> 3;
+        if (byteCount == 0) {
+            return;
+        }
+        MappedByteBuffer current = window();
+        for (int i = 0; i < byteCount; i++) {
+            current.put(windowPos + i, (byte)(bitBuffer >>> (msbFirst ? 56 - (i << 3) : i << 3)));
+        }
+    }
+
+    /**
+     * Makes every bit written so far durable, padding a final partial byte with zeros. Writing
+     * can continue afterwards without losing the bit alignment.
+     *
+     * @throws BitStreamException If an I/O error occurs.
+     * @throws IllegalStateException If the writer has been closed.
+     */
+    public void force() {
+        if (window == null) {
+            throw new IllegalStateException("Writer is closed");
+        }
+        storeTail();
+        window.force();
+
+        // Earlier windows have been unmapped, and are synced through the channel
+        try {
+            channel.force(false);
+        } catch (IOException e) {
+            throw BitStreamException.fromIOException(e);
+        }
+    }
+
+    /**
+     * Writes any remaining bits, padding a final partial byte with zeros, unmaps the window and
+     * truncates the file to the bytes written. Closing a writer more than once has no effect.
+     *
+     * @throws IOException If an I/O error occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        if (window == null) {
+            return;
+        }
+
+        long byteLength = (getLengthLong() + 7) >>> 3;
+        try {
+            storeTail();
+        } finally {
+            DirectBuffers.free(window);
+            window = null;
+
+            FileChannel current = channel;
+            channel = null;
+            try {
+                current.truncate(byteLength);
+            } finally {
+                current.close();
+            }
+        }
+    }
+}
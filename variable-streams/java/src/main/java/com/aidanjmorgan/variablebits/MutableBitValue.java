@@ -0,0 +1,131 @@
+package com.aidanjmorgan.variablebits;
+
+import java.math.BigInteger;
+
+/**
+ * A reusable holder for a value with a specific bit width. Reading into the same holder with
+ * {@code readBitValue(byte, MutableBitValue)} lets a decode loop run without allocating a
+ * {@link BitValue} per read.
+ */
+public final class MutableBitValue {
+
+    /**
+     * The low 64 bits of the value, masked to the bit count.
+     */
+    private long low;
+
+    /**
+     * The high 64 bits of a value of more than 64 bits, masked to the bit count, zero otherwise.
+     */
+    private long high;
+
+    /**
+     * The number of bits in the value (1-128), or zero if nothing has been read yet.
+     */
+    private byte bitCount;
+
+    /**
+     * Creates an empty holder.
+     */
+    public MutableBitValue() {
+    }
+
+    /**
+     * Replaces the held value. The halves must already be masked to the bit count.
+     *
+     * @param lowBits The low 64 bits.
+     * @param highBits The high 64 bits.
+     * @param bitCount The number of bits (1-128).
+     */
+    void set(long lowBits, long highBits, byte bitCount) {
+        this.low = lowBits;
+        this.high = highBits;
+        this.bitCount = bitCount;
+    }
+
+    /**
+     * Gets the bit count of the held value.
+     *
+     * @return The bit count, with 128 returned as {@code (byte)128}.
+     */
+    public byte getBitCount() {
+        return bitCount;
+    }
+
+    /**
+     * Converts the value to a 64-bit unsigned long. Values of more than 64 bits return their low
+     * 64 bits.
+     *
+     * @return The value as a 64-bit unsigned long.
+     */
+    public long toUInt64() {
+        return low;
+    }
+
+    /**
+     * Converts the value to a 64-bit signed long, sign-extending from the smallest of byte,
+     * short, int or long that fits the bit count, as {@link BitValue#toInt64()} does.
+     *
+     * @return The value as a 64-bit signed long.
+     */
+    public long toInt64() {
+        int bits = bitCount & 0xFF;
+        if (bits <= 8) {
+            return (byte) low;
+        } else if (bits <= 16) {
+            return (short) low;
+        } else if (bits <= 32) {
+            return (int) low;
+        } else {
+            return low;
+        }
+    }
+
+    /**
+     * Gets the high 64 bits of the value as an unsigned 128-bit integer, zero for values of up
+     * to 64 bits. Together with {@link #toUInt64()} this reads a 128-bit value without
+     * allocating.
+     *
+     * @return The high 64 bits.
+     */
+    public long getHighBits() {
+        return high;
+    }
+
+    /**
+     * Converts the value to a 128-bit unsigned integer.
+     *
+     * @return The value as a UInt128.
+     */
+    public UInt128 toUInt128() {
+        return new UInt128(high, low);
+    }
+
+    /**
+     * Converts the value to a 128-bit unsigned integer.
+     *
+     * @return The value as a 128-bit unsigned BigInteger.
+     */
+    public BigInteger toUnsignedBigInteger() {
+        return BitValue.unsignedBigInteger(high, low);
+    }
+
+    /**
+     * Copies the held value into an immutable BitValue, equal to the one
+     * {@code readBitValue(byte)} would have returned.
+     *
+     * @return A new BitValue.
+     */
+    public BitValue toBitValue() {
+        if ((bitCount & 0xFF) <= 64) {
+            return BitValue.newValue(low, bitCount);
+        }
+        return BitValue.newUnsignedValue(low, high, bitCount);
+    }
+
+    @Override
+    public String toString() {
+        String value = (bitCount & 0xFF) <= 64 ? Long.toString(toInt64()) : toUnsignedBigInteger().toString();
+        return value + " (" + (bitCount & 0xFF) + " bits)";
+    }
+}
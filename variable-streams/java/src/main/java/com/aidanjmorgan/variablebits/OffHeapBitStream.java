@@ -0,0 +1,393 @@
+package com.aidanjmorgan.variablebits;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * A {@link BitStream} counterpart that keeps its bits in a direct {@link ByteBuffer} rather than
+ * on the heap, so large resident streams add nothing to heap size or garbage collection work.
+ * The bits are laid out exactly as in a BitStream of the same bit order. The memory is released
+ * by {@link #close()}, after which the stream cannot be used.
+ */
+public class OffHeapBitStream implements AutoCloseable {
+
+    /**
+     * Initial capacity of an empty stream, in bytes.
+     */
+    private static final int DEFAULT_BYTE_CAPACITY = 64;
+
+    /**
+     * Largest capacity of the buffer, in bytes, a whole number of words.
+     */
+    private static final int MAX_BYTE_CAPACITY = (Integer.MAX_VALUE - 8) & ~7;
+
+    /**
+     * The direct buffer storing the data, read and written a 64-bit word at a time in the byte
+     * order that matches the bit order. Null once the stream is closed.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * The order in which bits are packed.
+     */
+    private final BitOrder bitOrder;
+
+    /**
+     * Whether bits are packed MSB-first, cached from {@link #bitOrder} for the hot paths.
+     */
+    private final boolean msbFirst;
+
+    /**
+     * Current position in bits.
+     */
+    private long position;
+
+    /**
+     * Total number of bits in the stream.
+     */
+    private long bitLength;
+
+    /**
+     * Creates a new, empty OffHeapBitStream.
+     */
+    public OffHeapBitStream() {
+        this(BitOrder.LSB_FIRST);
+    }
+
+    /**
+     * Creates a new, empty OffHeapBitStream with the specified bit order.
+     *
+     * @param bitOrder The order in which bits are packed.
+     */
+    public OffHeapBitStream(BitOrder bitOrder) {
+        this(0L, bitOrder);
+    }
+
+    /**
+     * Creates a new, empty OffHeapBitStream with room for a number of bits before it has to grow.
+     *
+     * @param initialBitCapacity The number of bits to allocate room for.
+     * @param bitOrder The order in which bits are packed.
+     * @throws IllegalArgumentException If the capacity is negative or too large.
+     */
+    public OffHeapBitStream(long initialBitCapacity, BitOrder bitOrder) {
+        this.bitOrder = Objects.requireNonNull(bitOrder, "Bit order cannot be null");
+        this.msbFirst = bitOrder == BitOrder.MSB_FIRST;
+        if (initialBitCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        buffer = allocate(Math.max(DEFAULT_BYTE_CAPACITY, bytesFor(initialBitCapacity)));
+    }
+
+    /**
+     * Creates a new OffHeapBitStream holding a copy of an existing buffer.
+     *
+     * @param bytes The initial buffer content.
+     * @param bitOrder The order in which bits are packed.
+     */
+    public OffHeapBitStream(byte[] bytes, BitOrder bitOrder) {
+        this(bytes.length * 8L, bitOrder);
+        buffer.put(0, bytes);
+        bitLength = bytes.length * 8L;
+    }
+
+    /**
+     * Allocates a direct buffer in the byte order of the stream.
+     *
+     * @param byteCapacity The capacity in bytes, a whole number of words.
+     * @return The new buffer.
+     */
+    private ByteBuffer allocate(long byteCapacity) {
+        if (byteCapacity > MAX_BYTE_CAPACITY) {
+            throw new IllegalArgumentException("Stream would exceed the maximum off-heap length");
+        }
+        return ByteBuffer.allocateDirect((int) byteCapacity)
+                .order(msbFirst ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Returns the number of bytes, rounded up to whole words, needed to hold a number of bits.
+     *
+     * @param bits The number of bits.
+     * @return The number of bytes.
+     */
+    private static long bytesFor(long bits) {
+        return ((bits + 63) >>> 6) << 3;
+    }
+
+    /**
+     * Returns the buffer, checking that the stream is still open.
+     *
+     * @return The buffer.
+     * @throws IllegalStateException If the stream has been closed.
+     */
+    private ByteBuffer buffer() {
+        ByteBuffer current = buffer;
+        if (current == null) {
+            throw new IllegalStateException("Stream is closed");
+        }
+        return current;
+    }
+
+    /**
+     * Ensures the buffer can hold at least the given number of bits, moving the data to a
+     * buffer twice the size if it cannot. The old buffer is released straight away.
+     *
+     * @param bits The number of bits that must fit.
+     * @throws IllegalArgumentException If the stream would exceed the maximum length.
+     */
+    private void ensureCapacity(long bits) {
+        ByteBuffer current = buffer();
+        long required = bytesFor(bits);
+        if (required <= current.capacity()) {
+            return;
+        }
+
+        long size = Math.max(required, Math.min(MAX_BYTE_CAPACITY, 2L * current.capacity()));
+        ByteBuffer grown = allocate(size);
+        grown.put(0, current, 0, (int) bytesFor(bitLength));
+        buffer = grown;
+        DirectBuffers.free(current);
+    }
+
+    /**
+     * Gets the order in which bits are packed.
+     *
+     * @return The bit order.
+     */
+    public BitOrder getBitOrder() {
+        return bitOrder;
+    }
+
+    /**
+     * Returns the current position in bits. This is a checked adapter over
+     * {@link #getPositionLong()}.
+     *
+     * @return The current position in bits.
+     * @throws IllegalStateException If the position does not fit in an int.
+     */
+    public int getPosition() {
+        if (position > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Position of " + position + " bits does not fit in an int");
+        }
+        return (int) position;
+    }
+
+    /**
+     * Returns the current position in bits.
+     *
+     * @return The current position in bits.
+     */
+    public long getPositionLong() {
+        return position;
+    }
+
+    /**
+     * Sets the current position in bits.
+     *
+     * @param position The new position in bits.
+     * @throws BitStreamException If the position is beyond the end of the stream.
+     * @throws IllegalArgumentException If the position is negative.
+     */
+    public void setPosition(long position) {
+        if (position < 0) {
+            throw new IllegalArgumentException("Position cannot be negative");
+        }
+        if (position > bitLength) {
+            throw BitStreamException.endOfStream();
+        }
+
+        this.position = position;
+    }
+
+    /**
+     * Returns the total length of the stream in bits. This is a checked adapter over
+     * {@link #getLengthLong()}.
+     *
+     * @return The total length in bits.
+     * @throws IllegalStateException If the length does not fit in an int.
+     */
+    public int getLength() {
+        if (bitLength > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Length of " + bitLength + " bits does not fit in an int");
+        }
+        return (int) bitLength;
+    }
+
+    /**
+     * Returns the total length of the stream in bits.
+     *
+     * @return The total length in bits.
+     */
+    public long getLengthLong() {
+        return bitLength;
+    }
+
+    /**
+     * Gets the number of bits between the current position and the end of the stream.
+     *
+     * @return The number of bits that can still be read.
+     */
+    public long remainingBits() {
+        return bitLength - position;
+    }
+
+    /**
+     * Returns true if the stream is empty.
+     *
+     * @return True if the stream is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return bitLength == 0;
+    }
+
+    /**
+     * Reads up to 64 bits from the stream.
+     *
+     * @param bitCount The number of bits to read (1-64).
+     * @return The read bits as a 64-bit unsigned long.
+     * @throws BitStreamException If the bit count is invalid or the end of stream is reached.
+     * @throws IllegalStateException If the stream has been closed.
+     */
+    public long readBits(byte bitCount) {
+        long result = peekBits(bitCount);
+        position += bitCount;
+        return result;
+    }
+
+    /**
+     * Returns up to 64 bits from the stream without moving the position.
+     *
+     * @param bitCount The number of bits to look at (1-64).
+     * @return The next bits as a 64-bit unsigned long.
+     * @throws BitStreamException If the bit count is invalid or the end of stream is reached.
+     * @throws IllegalStateException If the stream has been closed.
+     */
+    public long peekBits(byte bitCount) {
+        if (bitCount <= 0 || bitCount > 64) {
+            throw BitStreamException.invalidBitCount();
+        }
+
+        if (position + bitCount > bitLength) {
+            throw BitStreamException.endOfStream();
+        }
+
+        long result = extractBits(buffer(), position, bitCount);
+        return bitCount == 64 ? result : result & ((1L << bitCount) - 1);
+    }
+
+    /**
+     * Returns the bits starting at a position, without masking off the bits above the value.
+     * The caller must have checked that the value lies within the stream.
+     *
+     * @param words The buffer to read from.
+     * @param pos The bit position of the value.
+     * @param bitCount The number of bits in the value (1-64).
+     * @return The value in the low bits, followed by whatever bits come after it.
+     */
+    private long extractBits(ByteBuffer words, long pos, int bitCount) {
+        int byteIndex = (int) (pos >>> 6) << 3;
+        int offset = (int) pos & 63;
+        if (BitWords.straddles(offset, bitCount)) {
+            return BitWords.extract(words.getLong(byteIndex), words.getLong(byteIndex + 8), offset, bitCount, msbFirst);
+        }
+        return BitWords.extract(words.getLong(byteIndex), 0, offset, bitCount, msbFirst);
+    }
+
+    /**
+     * Moves the position forward by up to 64 bits, typically after {@link #peekBits(byte)}.
+     *
+     * @param bitCount The number of bits to skip (1-64).
+     * @throws BitStreamException If the bit count is invalid or the end of stream is reached.
+     */
+    public void consume(byte bitCount) {
+        if (bitCount <= 0 || bitCount > 64) {
+            throw BitStreamException.invalidBitCount();
+        }
+
+        if (position + bitCount > bitLength) {
+            throw BitStreamException.endOfStream();
+        }
+
+        position += bitCount;
+    }
+
+    /**
+     * Writes up to 64 bits to the stream.
+     *
+     * @param value The value to write.
+     * @param bitCount The number of bits to write (1-64).
+     * @throws BitStreamException If the bit count is invalid.
+     * @throws IllegalArgumentException If the stream would exceed the maximum length.
+     * @throws IllegalStateException If the stream has been closed.
+     */
+    public void writeBits(long value, byte bitCount) {
+        if (bitCount <= 0 || bitCount > 64) {
+            throw BitStreamException.invalidBitCount();
+        }
+
+        long mask = bitCount == 64 ? -1L : (1L << bitCount) - 1;
+        ensureCapacity(position + bitCount);
+
+        ByteBuffer words = buffer;
+        int byteIndex = (int) (position >>> 6) << 3;
+        int offset = (int) position & 63;
+
+        // Replace the bits in the current word, and in the next one if the value straddles them
+        long maskedValue = value & mask;
+        words.putLong(byteIndex, BitWords.insertFirst(words.getLong(byteIndex), offset, bitCount, maskedValue, mask, msbFirst));
+        if (BitWords.straddles(offset, bitCount)) {
+            words.putLong(byteIndex + 8, BitWords.insertSecond(words.getLong(byteIndex + 8), offset, bitCount, maskedValue, mask, msbFirst));
+        }
+
+        position += bitCount;
+        bitLength = Math.max(bitLength, position);
+    }
+
+    /**
+     * Converts the stream to a byte array.
+     *
+     * @return The content of the stream as a byte array.
+     * @throws IllegalStateException If the stream has been closed.
+     */
+    public byte[] toByteArray() {
+        byte[] result = new byte[(int) ((bitLength + 7) >>> 3)];
+        buffer().get(0, result);
+        return result;
+    }
+
+    /**
+     * Resets the stream to its initial state, keeping its memory.
+     *
+     * @throws IllegalStateException If the stream has been closed.
+     */
+    public void reset() {
+        ByteBuffer words = buffer();
+        int usedBytes = (int) bytesFor(bitLength);
+        for (int i = 0; i < usedBytes; i += 8) {
+            words.putLong(i, 0L);
+        }
+        position = 0;
+        bitLength = 0;
+    }
+
+    /**
+     * Returns true if the current position is at the end of the stream.
+     *
+     * @return True if at the end of the stream, false otherwise.
+     */
+    public boolean isEof() {
+        return position >= bitLength;
+    }
+
+    /**
+     * Releases the off-heap memory. Closing a stream more than once has no effect.
+     */
+    @Override
+    public void close() {
+        ByteBuffer current = buffer;
+        buffer = null;
+        DirectBuffers.free(current);
+    }
+}
@@ -0,0 +1,374 @@
+package com.aidanjmorgan.variablebits;
+
+import java.math.BigInteger;
+
+/**
+ * An immutable 128-bit unsigned integer held as two longs.
+ */
+public final class UInt128 implements Comparable<UInt128> {
+
+    /**
+     * The value zero.
+     */
+    public static final UInt128 ZERO = new UInt128(0L, 0L);
+
+    /**
+     * The value one.
+     */
+    public static final UInt128 ONE = new UInt128(0L, 1L);
+
+    /**
+     * The largest unsigned 128-bit value, 2^128 - 1.
+     */
+    public static final UInt128 MAX_VALUE = new UInt128(-1L, -1L);
+
+    /**
+     * The largest power of ten that fits in an unsigned 32-bit limb.
+     */
+    private static final long DECIMAL_LIMB = 1_000_000_000L;
+
+    /**
+     * The high 64 bits of the value.
+     */
+    private final long high;
+
+    /**
+     * The low 64 bits of the value.
+     */
+    private final long low;
+
+    /**
+     * Creates a UInt128 from its two halves.
+     *
+     * @param high The high 64 bits.
+     * @param low The low 64 bits.
+     */
+    public UInt128(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * Creates a UInt128 from an unsigned 64-bit value. The high bits are zero.
+     *
+     * @param low The low 64 bits.
+     */
+    public UInt128(long low) {
+        this(0L, low);
+    }
+
+    /**
+     * Gets the high 64 bits of the value.
+     *
+     * @return The high 64 bits.
+     */
+    public long getHigh() {
+        return high;
+    }
+
+    /**
+     * Gets the low 64 bits of the value.
+     *
+     * @return The low 64 bits.
+     */
+    public long getLow() {
+        return low;
+    }
+
+    /**
+     * Adds another value to this one, wrapping modulo 2^128.
+     *
+     * @param other The value to add.
+     * @return The sum.
+     */
+    public UInt128 add(UInt128 other) {
+        long sumLow = low + other.low;
+        long carry = Long.compareUnsigned(sumLow, low) < 0 ? 1L : 0L;
+        return new UInt128(high + other.high + carry, sumLow);
+    }
+
+    /**
+     * Subtracts another value from this one, wrapping modulo 2^128.
+     *
+     * @param other The value to subtract.
+     * @return The difference.
+     */
+    public UInt128 subtract(UInt128 other) {
+        long borrow = Long.compareUnsigned(low, other.low) < 0 ? 1L : 0L;
+        return new UInt128(high - other.high - borrow, low - other.low);
+    }
+
+    /**
+     * Computes the bitwise AND of this value and another.
+     *
+     * @param other The other value.
+     * @return The bitwise AND.
+     */
+    public UInt128 and(UInt128 other) {
+        return new UInt128(high & other.high, low & other.low);
+    }
+
+    /**
+     * Computes the bitwise OR of this value and another.
+     *
+     * @param other The other value.
+     * @return The bitwise OR.
+     */
+    public UInt128 or(UInt128 other) {
+        return new UInt128(high | other.high, low | other.low);
+    }
+
+    /**
+     * Computes the bitwise XOR of this value and another.
+     *
+     * @param other The other value.
+     * @return The bitwise XOR.
+     */
+    public UInt128 xor(UInt128 other) {
+        return new UInt128(high ^ other.high, low ^ other.low);
+    }
+
+    /**
+     * Computes the bitwise complement of this value.
+     *
+     * @return The bitwise complement.
+     */
+    public UInt128 not() {
+        return new UInt128(~high, ~low);
+    }
+
+    /**
+     * Shifts this value left. As with the shift operators on long, only the low seven bits of
+     * the distance are used.
+     *
+     * @param distance The number of bits to shift by.
+     * @return The shifted value.
+     */
+    public UInt128 shiftLeft(int distance) {
+        int n = distance & 127;
+        if (n == 0) {
+            return this;
+        } else if (n < 64) {
+            return new UInt128((high << n) | (low >>> (64 - n)), low << n);
+        } else {
+            return new UInt128(low << (n - 64), 0L);
+        }
+    }
+
+    /**
+     * Shifts this value right, filling with zeros. As with the shift operators on long, only the
+     * low seven bits of the distance are used.
+     *
+     * @param distance The number of bits to shift by.
+     * @return The shifted value.
+     */
+    public UInt128 shiftRight(int distance) {
+        int n = distance & 127;
+        if (n == 0) {
+            return this;
+        } else if (n < 64) {
+            return new UInt128(high >>> n, (low >>> n) | (high << (64 - n)));
+        } else {
+            return new UInt128(0L, high >>> (n - 64));
+        }
+    }
+
+    /**
+     * Keeps the low bits of this value and clears the rest.
+     *
+     * @param bitCount The number of low bits to keep (0-128).
+     * @return The masked value.
+     * @throws IllegalArgumentException If the bit count is out of range.
+     */
+    public UInt128 mask(int bitCount) {
+        if (bitCount < 0 || bitCount > 128) {
+            throw new IllegalArgumentException("The bit count must be between 0 and 128.");
+        }
+
+        if (bitCount == 128) {
+            return this;
+        } else if (bitCount >= 64) {
+            return new UInt128(bitCount == 64 ? 0L : high & ((1L << (bitCount - 64)) - 1), low);
+        } else {
+            return new UInt128(0L, bitCount == 0 ? 0L : low & ((1L << bitCount) - 1));
+        }
+    }
+
+    /**
+     * Tests whether a bit is set.
+     *
+     * @param index The bit index (0-127).
+     * @return True if the bit is set, false otherwise.
+     * @throws IllegalArgumentException If the index is out of range.
+     */
+    public boolean testBit(int index) {
+        if (index < 0 || index > 127) {
+            throw new IllegalArgumentException("The bit index must be between 0 and 127.");
+        }
+
+        return index < 64 ? ((low >>> index) & 1) != 0 : ((high >>> (index - 64)) & 1) != 0;
+    }
+
+    /**
+     * Gets the number of bits needed to represent this value, zero for the value zero.
+     *
+     * @return The bit length (0-128).
+     */
+    public int bitLength() {
+        return high != 0 ? 128 - Long.numberOfLeadingZeros(high) : 64 - Long.numberOfLeadingZeros(low);
+    }
+
+    /**
+     * Compares this value with another as unsigned 128-bit integers.
+     *
+     * @param other The other value.
+     * @return A negative number, zero or a positive number as this value is less than, equal to
+     *         or greater than the other.
+     */
+    @Override
+    public int compareTo(UInt128 other) {
+        int result = Long.compareUnsigned(high, other.high);
+        return result != 0 ? result : Long.compareUnsigned(low, other.low);
+    }
+
+    /**
+     * Converts this value to a BigInteger.
+     *
+     * @return The value as a non-negative BigInteger.
+     */
+    public BigInteger toBigInteger() {
+        return BitValue.unsignedBigInteger(high, low);
+    }
+
+    /**
+     * Creates a UInt128 from the low 128 bits of a BigInteger, using two's complement for
+     * negative values.
+     *
+     * @param value The BigInteger.
+     * @return A new UInt128.
+     */
+    public static UInt128 fromBigInteger(BigInteger value) {
+        return new UInt128(value.shiftRight(64).longValue(), value.longValue());
+    }
+
+    /**
+     * Converts this value to an unpadded lowercase hexadecimal string.
+     *
+     * @return The hexadecimal string.
+     */
+    public String toHexString() {
+        if (high == 0) {
+            return Long.toHexString(low);
+        }
+
+        String lowDigits = Long.toHexString(low);
+        return Long.toHexString(high) + "0".repeat(16 - lowDigits.length()) + lowDigits;
+    }
+
+    /**
+     * Parses a hexadecimal string of up to 32 digits.
+     *
+     * @param hex The hexadecimal string.
+     * @return A new UInt128.
+     * @throws NumberFormatException If the string is empty, too long or not hexadecimal.
+     */
+    public static UInt128 parseHex(String hex) {
+        int length = hex.length();
+        if (length == 0 || length > 32) {
+            throw new NumberFormatException("Expected 1 to 32 hexadecimal digits: \"" + hex + "\"");
+        }
+
+        // The low 16 digits form the low half and anything before them the high half
+        int split = Math.max(0, length - 16);
+        long highBits = split == 0 ? 0L : Long.parseUnsignedLong(hex.substring(0, split), 16);
+        long lowBits = Long.parseUnsignedLong(hex.substring(split), 16);
+        return new UInt128(highBits, lowBits);
+    }
+
+    /**
+     * Parses an unsigned decimal string.
+     *
+     * @param decimal The decimal string.
+     * @return A new UInt128.
+     * @throws NumberFormatException If the string is not a decimal number or exceeds 128 bits.
+     */
+    public static UInt128 parse(String decimal) {
+        int length = decimal.length();
+        if (length == 0) {
+            throw new NumberFormatException("Empty decimal string");
+        }
+
+        // Accumulate as four 32-bit limbs, most significant first
+        long[] limbs = new long[4];
+        for (int i = 0; i < length; i++) {
+            int digit = Character.digit(decimal.charAt(i), 10);
+            if (digit < 0) {
+                throw new NumberFormatException("Invalid decimal string: \"" + decimal + "\"");
+            }
+
+            long carry = digit;
+            for (int j = 3; j >= 0; j--) {
+                long product = limbs[j] * 10 + carry;
+                limbs[j] = product & 0xFFFFFFFFL;
+                carry = product >>> 32;
+            }
+            if (carry != 0) {
+                throw new NumberFormatException("Value exceeds 128 bits: \"" + decimal + "\"");
+            }
+        }
+
+        return new UInt128((limbs[0] << 32) | limbs[1], (limbs[2] << 32) | limbs[3]);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof UInt128)) {
+            return false;
+        }
+        UInt128 other = (UInt128) obj;
+        return high == other.high && low == other.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(high) + Long.hashCode(low);
+    }
+
+    /**
+     * Converts this value to an unsigned decimal string.
+     *
+     * @return The decimal string.
+     */
+    @Override
+    public String toString() {
+        if (high == 0) {
+            return Long.toUnsignedString(low);
+        }
+
+        // Divide the four 32-bit limbs by 10^9 repeatedly, collecting nine digits at a time
+        long[] limbs = { high >>> 32, high & 0xFFFFFFFFL, low >>> 32, low & 0xFFFFFFFFL };
+        StringBuilder digits = new StringBuilder(40);
+        boolean zero;
+        do {
+            long remainder = 0;
+            zero = true;
+            for (int i = 0; i < 4; i++) {
+                long dividend = (remainder << 32) | limbs[i];
+                limbs[i] = dividend / DECIMAL_LIMB;
+                remainder = dividend % DECIMAL_LIMB;
+                zero &= limbs[i] == 0;
+            }
+
+            String chunk = Long.toString(remainder);
+            digits.insert(0, chunk);
+            if (!zero) {
+                digits.insert(0, "0".repeat(9 - chunk.length()));
+            }
+        } while (!zero);
+
+        return digits.toString();
+    }
+}
@@ -0,0 +1,125 @@
+#!/usr/bin/env python3
+"""Generates BitPacking.java, the width-specialised block pack/unpack kernels.
+
+A block is 64 values of the same width W. Packed LSB-first, a block is
+exactly W 64-bit words, with value j occupying bits [j * W, (j + 1) * W) of
+the block. Each kernel is fully unrolled with constant shifts and masks.
+
+Usage (from variable-streams/java):
+
+    python3 src/main/python/gen_bit_packing.py
+"""
+
+import os
+
+BLOCK_SIZE = 64
+OUTPUT = os.path.join(os.path.dirname(__file__), '..', 'java', 'com', 'aidanjmorgan',
+                      'variablebits', 'BitPacking.java')
+
+HEADER = '''// This file has been automatically generated by src/main/python/gen_bit_packing.py, DO NOT EDIT
+
+package com.aidanjmorgan.variablebits;
+
+/**
+ * Width-specialised kernels that pack and unpack blocks of 64 values in the LSB-first layout.
+ * A block of 64 values that are each {@code bitCount} bits wide occupies exactly
+ * {@code bitCount} 64-bit words, value {@code j} in bits {@code [j * bitCount, (j + 1) * bitCount)}.
+ */
+final class BitPacking {
+
+    /**
+     * The number of values in a block.
+     */
+    static final int BLOCK_SIZE = %d;
+
+    private BitPacking() {
+    }
+''' % BLOCK_SIZE
+
+
+def mask(width):
+    return '0x%XL' % ((1 << width) - 1)
+
+
+def dispatch(name, params, args, doc):
+    lines = [doc,
+             '    static void %s(%s, int bitCount) {' % (name, params),
+             '        switch (bitCount) {']
+    for width in range(1, 65):
+        lines.append('            case %d: %s%d(%s); break;' % (width, name, width, args))
+    lines.append('            default: throw BitStreamException.invalidBitCount();')
+    lines.append('        }')
+    lines.append('    }')
+    return '\n'.join(lines) + '\n'
+
+
+def unpack(width):
+    lines = ['    private static void unpack%d(long[] words, int wordOffset, long[] values, int valueOffset) {' % width]
+    for k in range(width):
+        lines.append('        final long w%d = words[wordOffset + %d];' % (k, k))
+    for j in range(BLOCK_SIZE):
+        start = j * width
+        word, shift = start >> 6, start & 63
+        if width == 64:
+            expr = 'w%d' % word
+        elif shift + width < 64:
+            expr = '(w%d >>> %d) & %s' % (word, shift, mask(width)) if shift else 'w%d & %s' % (word, mask(width))
+        elif shift + width == 64:
+            expr = 'w%d >>> %d' % (word, shift)
+        else:
+            expr = '((w%d >>> %d) | (w%d << %d)) & %s' % (word, shift, word + 1, 64 - shift, mask(width))
+        lines.append('        values[valueOffset + %d] = %s;' % (j, expr))
+    lines.append('    }')
+    return '\n'.join(lines) + '\n'
+
+
+def pack(width):
+    terms = [[] for _ in range(width)]
+    for j in range(BLOCK_SIZE):
+        value = 'values[valueOffset + %d]' % j if width == 64 else '(values[valueOffset + %d] & %s)' % (j, mask(width))
+        start = j * width
+        word, shift = start >> 6, start & 63
+        terms[word].append('(%s << %d)' % (value, shift) if shift else value)
+        if shift + width > 64:
+            terms[word + 1].append('(%s >>> %d)' % (value, 64 - shift))
+    lines = ['    private static void pack%d(long[] values, int valueOffset, long[] words, int wordOffset) {' % width]
+    for k in range(width):
+        lines.append('        words[wordOffset + %d] = %s;' % (k, '\n                | '.join(terms[k])))
+    lines.append('    }')
+    return '\n'.join(lines) + '\n'
+
+
+def main():
+    parts = [HEADER]
+    parts.append(dispatch('unpack', 'long[] words, int wordOffset, long[] values, int valueOffset',
+                          'words, wordOffset, values, valueOffset', '''\
+    /**
+     * Unpacks a block of 64 values.
+     *
+     * @param words The packed block, {@code bitCount} words starting at {@code wordOffset}.
+     * @param wordOffset The index of the first packed word.
+     * @param values The array to unpack into, 64 values starting at {@code valueOffset}.
+     * @param valueOffset The index of the first value.
+     * @param bitCount The number of bits in each value (1-64).
+     */'''))
+    parts.append(dispatch('pack', 'long[] values, int valueOffset, long[] words, int wordOffset',
+                          'values, valueOffset, words, wordOffset', '''\
+    /**
+     * Packs a block of 64 values. Bits above {@code bitCount} in each value are ignored.
+     *
+     * @param values The values to pack, 64 values starting at {@code valueOffset}.
+     * @param valueOffset The index of the first value.
+     * @param words The array to pack into, {@code bitCount} words starting at {@code wordOffset}.
+     * @param wordOffset The index of the first packed word.
+     * @param bitCount The number of bits in each value (1-64).
+     */'''))
+    for width in range(1, 65):
+        parts.append(unpack(width))
+    for width in range(1, 65):
+        parts.append(pack(width))
+    with open(OUTPUT, 'w') as f:
+        f.write('\n'.join(parts) + '}\n')
+
+
+if __name__ == '__main__':
+    main()
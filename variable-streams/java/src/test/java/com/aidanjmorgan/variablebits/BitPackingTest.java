@@ -0,0 +1,98 @@
+package com.aidanjmorgan.variablebits;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the generated BitPacking kernels and the bulk paths that use them.
+ */
+public class BitPackingTest {
+
+    @Test
+    @DisplayName("Test kernels match the single-value layout for every width")
+    public void testKernelsMatchLayout() {
+        Random random = new Random(17);
+
+        for (int bitCount = 1; bitCount <= 64; bitCount++) {
+            long[] values = new long[BitPacking.BLOCK_SIZE];
+            BitStream bitStream = new BitStream();
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextLong();
+                bitStream.writeBits(values[i], (byte)bitCount);
+            }
+
+            // Pack with garbage above the width and compare with the single-value layout
+            long[] words = new long[bitCount + 2];
+            BitPacking.pack(values, 0, words, 1, bitCount);
+            ByteBuffer expected = ByteBuffer.wrap(bitStream.toByteArray()).order(ByteOrder.LITTLE_ENDIAN);
+            for (int k = 0; k < bitCount; k++) {
+                assertEquals(expected.getLong(), words[k + 1], "Word " + k + " for " + bitCount + " bits");
+            }
+
+            // Unpack and compare with the masked values
+            long[] unpacked = new long[BitPacking.BLOCK_SIZE + 1];
+            BitPacking.unpack(words, 1, unpacked, 1, bitCount);
+            long mask = bitCount == 64 ? -1L : (1L << bitCount) - 1;
+            for (int i = 0; i < values.length; i++) {
+                assertEquals(values[i] & mask, unpacked[i + 1], "Value " + i + " for " + bitCount + " bits");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test word-aligned bulk round trip through BitStream")
+    public void testAlignedBitStreamRoundTrip() {
+        Random random = new Random(19);
+
+        for (byte bitCount = 1; bitCount <= 64; bitCount++) {
+            long[] values = new long[1000];
+            long mask = bitCount == 64 ? -1L : (1L << bitCount) - 1;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextLong() & mask;
+            }
+
+            BitStream bitStream = new BitStream();
+            bitStream.writeBits(values, 0, values.length, bitCount);
+            bitStream.setPosition(0);
+
+            long[] actual = new long[values.length];
+            bitStream.readBits(actual, 0, actual.length, bitCount);
+            assertArrayEquals(values, actual, "Mismatch for " + bitCount + " bits");
+        }
+    }
+
+    @Test
+    @DisplayName("Test bulk round trip through the writer and reader")
+    public void testReaderWriterRoundTrip() throws IOException {
+        Random random = new Random(23);
+
+        for (byte bitCount = 1; bitCount <= 32; bitCount++) {
+            int[] values = new int[1000];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = (int)(random.nextLong() & ((1L << bitCount) - 1));
+            }
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            try (BitStreamWriter writer = new BitStreamWriter(outputStream)) {
+                writer.writeBits(0b10L, (byte)2);
+                writer.writeBits(values, 0, values.length, bitCount);
+            }
+
+            try (BitStreamReader reader = new BitStreamReader(new ByteArrayInputStream(outputStream.toByteArray()))) {
+                assertEquals(0b10L, reader.readBits((byte)2));
+                int[] actual = new int[values.length];
+                reader.readBits(actual, 0, actual.length, bitCount);
+                assertArrayEquals(values, actual, "Mismatch for " + bitCount + " bits");
+            }
+        }
+    }
+}
@@ -1,4 +1,4 @@
-package com.variablebits;
+package com.aidanjmorgan.variablebits;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -22,9 +22,9 @@ public class BitStreamIntegrationTest {
         
         // Write various bit patterns
         try (BitStreamWriter writer = new BitStreamWriter(outputStream)) {
-            writer.writeBits(0b101, 3);
-            writer.writeBits(0b11110000, 8);
-            writer.writeBits(0xABCD, 16);
+            writer.writeBits(0b101, (byte)3);
+            writer.writeBits(0b11110000, (byte)8);
+            writer.writeBits(0xABCD, (byte)16);
             
             // Flush to ensure all bits are written
             writer.flush();
@@ -38,11 +38,15 @@ public class BitStreamIntegrationTest {
         
         // Read and verify the bit patterns
         try (BitStreamReader reader = new BitStreamReader(inputStream)) {
-            assertEquals(0b101, reader.readBits(3));
-            assertEquals(0b11110000, reader.readBits(8));
-            assertEquals(0xABCD, reader.readBits(16));
+            assertEquals(0b101, reader.readBits((byte)3));
+            assertEquals(0b11110000, reader.readBits((byte)8));
+            assertEquals(0xABCD, reader.readBits((byte)16));
             
-            // We've read all the bits, so we should be at the end of the stream
+            // Flush padded the final byte with zeros
+            assertEquals(0, reader.readBits((byte)5));
+            
+            // We've read all the bits, so the next read reaches the end of the stream
+            assertThrows(BitStreamException.class, () -> reader.readBits((byte)1));
             assertTrue(reader.isEof());
         }
     }
@@ -60,8 +64,8 @@ public class BitStreamIntegrationTest {
             }
             
             // Write some non-byte-aligned bits
-            writer.writeBits(0b101, 3);
-            writer.writeBits(0b01010, 5);
+            writer.writeBits(0b101, (byte)3);
+            writer.writeBits(0b01010, (byte)5);
             
             // Write more data
             for (int i = 0; i < 100; i++) {
@@ -82,19 +86,20 @@ public class BitStreamIntegrationTest {
         try (BitStreamReader reader = new BitStreamReader(inputStream)) {
             // Read the first 1000 bytes
             for (int i = 0; i < 1000; i++) {
-                assertEquals(i % 256, reader.readBits(8));
+                assertEquals(i % 256, reader.readBits((byte)8));
             }
             
             // Read the non-byte-aligned bits
-            assertEquals(0b101, reader.readBits(3));
-            assertEquals(0b01010, reader.readBits(5));
+            assertEquals(0b101, reader.readBits((byte)3));
+            assertEquals(0b01010, reader.readBits((byte)5));
             
             // Read the remaining 100 bytes
             for (int i = 0; i < 100; i++) {
-                assertEquals(i % 256, reader.readBits(8));
+                assertEquals(i % 256, reader.readBits((byte)8));
             }
             
-            // We've read all the bits, so we should be at the end of the stream
+            // We've read all the bits, so the next read reaches the end of the stream
+            assertThrows(BitStreamException.class, () -> reader.readBits((byte)1));
             assertTrue(reader.isEof());
         }
     }
@@ -142,7 +147,8 @@ public class BitStreamIntegrationTest {
             assertEquals(u16Value.getBitCount(), readU16Value.getBitCount());
             assertEquals(u32Value.getBitCount(), readU32Value.getBitCount());
             
-            // We've read all the bits, so we should be at the end of the stream
+            // We've read all the bits, so the next read reaches the end of the stream
+            assertThrows(BitStreamException.class, () -> reader.readBits((byte)1));
             assertTrue(reader.isEof());
         }
     }
@@ -159,8 +165,8 @@ public class BitStreamIntegrationTest {
         
         // Write 128-bit values
         try (BitStreamWriter writer = new BitStreamWriter(outputStream)) {
-            writer.writeBitsU128(value1, (byte)128);
-            writer.writeBitsU128(value2, (byte)128);
+            writer.writeU128(value1, (byte)128);
+            writer.writeU128(value2, (byte)128);
             
             // Flush to ensure all bits are written
             writer.flush();
@@ -174,8 +180,8 @@ public class BitStreamIntegrationTest {
         
         // Read and verify the 128-bit values
         try (BitStreamReader reader = new BitStreamReader(inputStream)) {
-            UInt128 readValue1 = reader.readBitsU128((byte)128);
-            UInt128 readValue2 = reader.readBitsU128((byte)128);
+            UInt128 readValue1 = reader.readU128((byte)128);
+            UInt128 readValue2 = reader.readU128((byte)128);
             
             // Verify the values
             assertEquals(value1.getHigh(), readValue1.getHigh());
@@ -183,7 +189,8 @@ public class BitStreamIntegrationTest {
             assertEquals(value2.getHigh(), readValue2.getHigh());
             assertEquals(value2.getLow(), readValue2.getLow());
             
-            // We've read all the bits, so we should be at the end of the stream
+            // We've read all the bits, so the next read reaches the end of the stream
+            assertThrows(BitStreamException.class, () -> reader.readBits((byte)1));
             assertTrue(reader.isEof());
         }
     }
@@ -219,13 +226,13 @@ public class BitStreamIntegrationTest {
         
         // Write various bit patterns with non-byte-aligned operations
         try (BitStreamWriter writer = new BitStreamWriter(outputStream)) {
-            writer.writeBits(0b1, 1);
-            writer.writeBits(0b10, 2);
-            writer.writeBits(0b100, 3);
-            writer.writeBits(0b1000, 4);
-            writer.writeBits(0b10000, 5);
-            writer.writeBits(0b100000, 6);
-            writer.writeBits(0b1000000, 7);
+            writer.writeBits(0b1, (byte)1);
+            writer.writeBits(0b10, (byte)2);
+            writer.writeBits(0b100, (byte)3);
+            writer.writeBits(0b1000, (byte)4);
+            writer.writeBits(0b10000, (byte)5);
+            writer.writeBits(0b100000, (byte)6);
+            writer.writeBits(0b1000000, (byte)7);
             
             // Flush to ensure all bits are written
             writer.flush();
@@ -239,15 +246,19 @@ public class BitStreamIntegrationTest {
         
         // Read and verify the bit patterns
         try (BitStreamReader reader = new BitStreamReader(inputStream)) {
-            assertEquals(0b1, reader.readBits(1));
-            assertEquals(0b10, reader.readBits(2));
-            assertEquals(0b100, reader.readBits(3));
-            assertEquals(0b1000, reader.readBits(4));
-            assertEquals(0b10000, reader.readBits(5));
-            assertEquals(0b100000, reader.readBits(6));
-            assertEquals(0b1000000, reader.readBits(7));
-            
-            // We've read all the bits, so we should be at the end of the stream
+            assertEquals(0b1, reader.readBits((byte)1));
+            assertEquals(0b10, reader.readBits((byte)2));
+            assertEquals(0b100, reader.readBits((byte)3));
+            assertEquals(0b1000, reader.readBits((byte)4));
+            assertEquals(0b10000, reader.readBits((byte)5));
+            assertEquals(0b100000, reader.readBits((byte)6));
+            assertEquals(0b1000000, reader.readBits((byte)7));
+            
+            // Flush padded the final byte with zeros
+            assertEquals(0, reader.readBits((byte)4));
+            
+            // We've read all the bits, so the next read reaches the end of the stream
+            assertThrows(BitStreamException.class, () -> reader.readBits((byte)1));
             assertTrue(reader.isEof());
         }
     }
@@ -1,10 +1,23 @@
-package com.variablebits;
+package com.aidanjmorgan.variablebits;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.Pipe;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -28,14 +41,15 @@ public class BitStreamReaderTest {
         
         // Create a BitStreamReader with the input stream
         try (BitStreamReader reader = new BitStreamReader(inputStream)) {
-            // Read bits
-            assertEquals(0b1, reader.readBits(1));
-            assertEquals(0b010, reader.readBits(3));
-            assertEquals(0b1010, reader.readBits(4));
-            assertEquals(0b11110000, reader.readBits(8));
-            assertEquals(0b00001111, reader.readBits(8));
+            // Read bits, least significant bit first
+            assertEquals(0b0, reader.readBits((byte)1));
+            assertEquals(0b101, reader.readBits((byte)3));
+            assertEquals(0b1010, reader.readBits((byte)4));
+            assertEquals(0b11110000, reader.readBits((byte)8));
+            assertEquals(0b00001111, reader.readBits((byte)8));
             
-            // We've read all the bits, so we should be at the end of the stream
+            // We've read all the bits, so the next read reaches the end of the stream
+            assertThrows(BitStreamException.class, () -> reader.readBits((byte)1));
             assertTrue(reader.isEof());
         }
     }
@@ -49,7 +63,7 @@ public class BitStreamReaderTest {
             data[i] = (byte)(i % 256);
         }
         
-        // Set the 1000th byte to contain the 3-bit value 0b101 followed by the first 5 bits of 0b01010
+        // Set the 1000th byte to contain the 3-bit value 0b010 followed by the 5-bit value 0b10101
         data[1000] = (byte)0b10101010;
         
         // Set the remaining bytes
@@ -64,19 +78,20 @@ public class BitStreamReaderTest {
         try (BitStreamReader reader = new BitStreamReader(inputStream, 1024)) {
             // Read a large amount of data
             for (int i = 0; i < 1000; i++) {
-                assertEquals(i % 256, reader.readBits(8));
+                assertEquals(i % 256, reader.readBits((byte)8));
             }
             
             // Read some non-byte-aligned bits
-            assertEquals(0b101, reader.readBits(3));
-            assertEquals(0b01010, reader.readBits(5));
+            assertEquals(0b010, reader.readBits((byte)3));
+            assertEquals(0b10101, reader.readBits((byte)5));
             
             // Read more data
             for (int i = 0; i < 100; i++) {
-                assertEquals(i % 256, reader.readBits(8));
+                assertEquals(i % 256, reader.readBits((byte)8));
             }
             
-            // We've read all the bits, so we should be at the end of the stream
+            // We've read all the bits, so the next read reaches the end of the stream
+            assertThrows(BitStreamException.class, () -> reader.readBits((byte)1));
             assertTrue(reader.isEof());
         }
     }
@@ -119,14 +134,14 @@ public class BitStreamReaderTest {
         BitStreamReader reader = new BitStreamReader(inputStream);
         
         // Read 8 bits (the entire stream)
-        assertEquals(1, reader.readBits(8));
+        assertEquals(1, reader.readBits((byte)8));
         
         // Trying to read more should throw an exception
-        assertThrows(BitStreamException.class, () -> reader.readBits(1));
+        assertThrows(BitStreamException.class, () -> reader.readBits((byte)1));
         
         // Verify the error type
         try {
-            reader.readBits(1);
+            reader.readBits((byte)1);
             fail("Expected BitStreamException");
         } catch (BitStreamException e) {
             assertEquals(BitStreamException.BitStreamErrorType.END_OF_STREAM, e.getErrorType());
@@ -213,8 +228,8 @@ public class BitStreamReaderTest {
         // Create a BitStreamReader with the input stream
         try (BitStreamReader reader = new BitStreamReader(inputStream)) {
             // Read 128-bit values
-            UInt128 value1 = reader.readBitsU128((byte)128);
-            UInt128 value2 = reader.readBitsU128((byte)128);
+            UInt128 value1 = reader.readU128((byte)128);
+            UInt128 value2 = reader.readU128((byte)128);
             
             // Verify the values
             assertEquals(0x1234567890ABCDEFL, value1.getHigh());
@@ -258,9 +273,9 @@ public class BitStreamReaderTest {
         // Create a BitStreamReader with the input stream
         try (BitStreamReader reader = new BitStreamReader(inputStream)) {
             // Read partial 128-bit values
-            UInt128 value1 = reader.readBitsU128((byte)64);
-            UInt128 value2 = reader.readBitsU128((byte)32);
-            UInt128 value3 = reader.readBitsU128((byte)24);
+            UInt128 value1 = reader.readU128((byte)64);
+            UInt128 value2 = reader.readU128((byte)32);
+            UInt128 value3 = reader.readU128((byte)24);
             
             // Verify the values
             assertEquals(0L, value1.getHigh());
@@ -273,4 +288,365 @@ public class BitStreamReaderTest {
             assertEquals(0x654321L, value3.getLow());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test random widths round trip across reader buffer refills")
+    public void testRandomWidthsAcrossRefills() throws IOException {
+        Random random = new Random(7);
+        long[] values = new long[4000];
+        byte[] widths = new byte[values.length];
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (BitStreamWriter writer = new BitStreamWriter(outputStream)) {
+            for (int i = 0; i < values.length; i++) {
+                widths[i] = (byte)(random.nextInt(64) + 1);
+                values[i] = widths[i] == 64 ? random.nextLong() : random.nextLong() & ((1L << widths[i]) - 1);
+                writer.writeBits(values[i], widths[i]);
+            }
+            writer.flush();
+        }
+
+        byte[] data = outputStream.toByteArray();
+
+        // Small capacities force values to straddle buffer refills
+        for (int capacity : new int[] { 1, 3, 8, 13, 4096 }) {
+            try (BitStreamReader reader = new BitStreamReader(new ByteArrayInputStream(data), capacity)) {
+                for (int i = 0; i < values.length; i++) {
+                    assertEquals(values[i], reader.readBits(widths[i]), "Mismatch at value " + i + ", capacity " + capacity);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test end of stream is reported by the reader")
+    public void testReaderEndOfStream() throws IOException {
+        byte[] data = new byte[] { (byte)0xFF, (byte)0x81, 0x01 };
+
+        try (BitStreamReader reader = new BitStreamReader(new ByteArrayInputStream(data))) {
+            assertEquals(0xFFL, reader.readBits((byte)8));
+            assertEquals(0x181L, reader.readBits((byte)9));
+            assertFalse(reader.isEof());
+
+            BitStreamException e = assertThrows(BitStreamException.class, () -> reader.readBits((byte)8));
+            assertEquals(BitStreamException.BitStreamErrorType.END_OF_STREAM, e.getErrorType());
+            assertTrue(reader.isEof());
+        }
+    }
+
+    @Test
+    @DisplayName("Test reader bulk reads of every width match single reads")
+    public void testReaderBulkRead() throws IOException {
+        Random random = new Random(3);
+
+        for (byte bitCount = 1; bitCount <= 64; bitCount++) {
+            long[] expected = new long[300];
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            try (BitStreamWriter writer = new BitStreamWriter(outputStream)) {
+                writer.writeBits(0b11L, (byte)2);
+                for (int i = 0; i < expected.length; i++) {
+                    expected[i] = bitCount == 64 ? random.nextLong() : random.nextLong() & ((1L << bitCount) - 1);
+                    writer.writeBits(expected[i], bitCount);
+                }
+            }
+            byte[] data = outputStream.toByteArray();
+
+            try (BitStreamReader reader = new BitStreamReader(new ByteArrayInputStream(data), 16)) {
+                assertEquals(0b11L, reader.readBits((byte)2));
+                long[] longs = new long[expected.length];
+                reader.readBits(longs, 0, 100, bitCount);
+                reader.readBits(longs, 100, 200, bitCount);
+                assertArrayEquals(expected, longs, "Mismatch for " + bitCount + " bits");
+            }
+
+            if (bitCount <= 32) {
+                try (BitStreamReader reader = new BitStreamReader(new ByteArrayInputStream(data), 16)) {
+                    reader.readBits((byte)2);
+                    int[] ints = new int[expected.length];
+                    reader.readBits(ints, 0, ints.length, bitCount);
+                    for (int i = 0; i < expected.length; i++) {
+                        assertEquals((int)expected[i], ints[i], "Mismatch for " + bitCount + " bits");
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test reader bulk read reports end of stream")
+    public void testReaderBulkReadEndOfStream() throws IOException {
+        try (BitStreamReader reader = new BitStreamReader(new ByteArrayInputStream(new byte[3]))) {
+            assertThrows(BitStreamException.class, () -> reader.readBits(new short[2], 0, 2, (byte)13));
+            assertThrows(BitStreamException.class, () -> reader.readBits(new byte[1], 0, 1, (byte)9));
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.readBits(new int[1], 0, 2, (byte)1));
+        }
+    }
+
+    @Test
+    @DisplayName("Test reader tryReadBits stops at the end of stream without consuming")
+    public void testReaderTryReadBits() throws IOException {
+        Random random = new Random(13);
+        byte[] data = new byte[61];
+        random.nextBytes(data);
+        BitStream expected = new BitStream(data);
+
+        for (int capacity : new int[] { 1, 3, 8, 13, 4096 }) {
+            expected.setPosition(0);
+            try (BitStreamReader reader = new BitStreamReader(new ByteArrayInputStream(data), capacity)) {
+                long[] value = new long[1];
+                while (true) {
+                    byte bitCount = (byte)(random.nextInt(64) + 1);
+                    if (!reader.tryReadBits(bitCount, v -> value[0] = v)) {
+                        // Nothing was consumed, so the remaining bits can still be read
+                        assertTrue(expected.remainingBits() < bitCount);
+                        assertEquals(expected.remainingBits(), reader.bitsBuffered());
+                        break;
+                    }
+                    assertEquals(expected.readBits(bitCount), value[0], "Mismatch for capacity " + capacity);
+                }
+
+                int remaining = (int) expected.remainingBits();
+                if (remaining > 0) {
+                    assertTrue(reader.tryReadBits((byte)remaining, v -> value[0] = v));
+                    assertEquals(expected.readBits((byte)remaining), value[0]);
+                }
+                assertEquals(0, reader.bitsBuffered());
+                assertFalse(reader.tryReadBits((byte)1, v -> fail("No bits should be read")));
+                assertTrue(reader.isEof());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test reader tryReadBits can be retried after more data arrives")
+    public void testReaderTryReadBitsRetry() throws IOException {
+        for (BitOrder bitOrder : BitOrder.values()) {
+            BitStream expected = new BitStream(bitOrder);
+            expected.writeBits(0x123456789ABCDEFL, (byte)60);
+            expected.writeBits(0x2AL, (byte)7);
+            expected.writeBits(0x155555L, (byte)21);
+            byte[] data = expected.toByteArray();
+            expected.setPosition(0);
+
+            FrameInputStream input = new FrameInputStream();
+            try (BitStreamReader reader = new BitStreamReader(input, 4, bitOrder)) {
+                long[] value = new long[1];
+
+                // Nothing has arrived yet, and then only part of the first value
+                assertFalse(reader.tryReadBits((byte)60, v -> value[0] = v));
+                input.add(Arrays.copyOfRange(data, 0, 5));
+                assertFalse(reader.tryReadBits((byte)60, v -> value[0] = v));
+
+                // A source with no bytes ready yet is not the end of the stream either
+                input.add(new byte[0]);
+                input.add(Arrays.copyOfRange(data, 5, 8));
+                assertFalse(reader.tryReadBits((byte)60, v -> value[0] = v));
+                assertTrue(reader.tryReadBits((byte)60, v -> value[0] = v), bitOrder.toString());
+                assertEquals(expected.readBits((byte)60), value[0]);
+
+                assertFalse(reader.tryReadBits((byte)7, v -> value[0] = v));
+                input.add(Arrays.copyOfRange(data, 8, data.length));
+                assertTrue(reader.tryReadBits((byte)7, v -> value[0] = v));
+                assertEquals(expected.readBits((byte)7), value[0]);
+                assertTrue(reader.tryReadBits((byte)21, v -> value[0] = v));
+                assertEquals(expected.readBits((byte)21), value[0]);
+
+                assertFalse(reader.tryReadBits((byte)8, v -> value[0] = v));
+                assertTrue(reader.isEof());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test reader peekBits and consume match BitStream across buffer refills")
+    public void testReaderPeekAndConsume() throws IOException {
+        Random random = new Random(21);
+        byte[] data = new byte[500];
+        random.nextBytes(data);
+
+        for (int capacity : new int[] { 1, 3, 8, 13, 4096 }) {
+            BitStream expected = new BitStream(data);
+            try (BitStreamReader reader = new BitStreamReader(new ByteArrayInputStream(data), capacity)) {
+                while (expected.remainingBits() >= 64) {
+                    byte peekCount = (byte)(random.nextInt(64) + 1);
+                    byte consumeCount = (byte)(random.nextInt(peekCount) + 1);
+
+                    assertEquals(expected.peekBits(peekCount), reader.peekBits(peekCount), "Mismatch for capacity " + capacity);
+                    assertEquals(expected.peekBits(peekCount), reader.peekBits(peekCount), "Mismatch for capacity " + capacity);
+                    expected.consume(consumeCount);
+                    reader.consume(consumeCount);
+                }
+
+                int remaining = (int) expected.remainingBits();
+                assertThrows(BitStreamException.class, () -> reader.peekBits((byte)(remaining + 1)));
+                if (remaining > 0) {
+                    assertEquals(expected.peekBits((byte)remaining), reader.peekBits((byte)remaining));
+                    assertEquals(expected.readBits((byte)remaining), reader.readBits((byte)remaining));
+                }
+                assertTrue(reader.isEof());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test reader skipBits matches BitStream across buffer refills")
+    public void testReaderSkipBits() throws IOException {
+        Random random = new Random(31);
+        byte[] data = new byte[20000];
+        random.nextBytes(data);
+
+        for (int capacity : new int[] { 1, 3, 8, 13, 4096 }) {
+            BitStream expected = new BitStream(data);
+            try (BitStreamReader reader = new BitStreamReader(new ByteArrayInputStream(data), capacity)) {
+                while (true) {
+                    long skip = random.nextInt(4) == 0 ? random.nextInt(20000) : random.nextInt(70);
+                    byte bitCount = (byte)(random.nextInt(64) + 1);
+                    if (expected.remainingBits() < skip + bitCount) {
+                        break;
+                    }
+
+                    reader.skipBits(skip);
+                    expected.setPosition(expected.getPosition() + (int) skip);
+                    assertEquals(expected.readBits(bitCount), reader.readBits(bitCount), "Mismatch for capacity " + capacity);
+                }
+
+                long remaining = expected.remainingBits();
+                reader.skipBits(0);
+                BitStreamException e = assertThrows(BitStreamException.class, () -> reader.skipBits(remaining + 1));
+                assertEquals(BitStreamException.BitStreamErrorType.END_OF_STREAM, e.getErrorType());
+                assertTrue(reader.isEof());
+            }
+        }
+
+        BitStreamReader reader = new BitStreamReader(new ByteArrayInputStream(data));
+        assertThrows(BitStreamException.class, () -> reader.skipBits(-1));
+    }
+
+    @Test
+    @DisplayName("Test reading from seekable and non-seekable channels")
+    public void testChannelReader(@TempDir Path tempDir) throws IOException {
+        Random random = new Random(24);
+        byte[] data = new byte[50000];
+        random.nextBytes(data);
+        Path file = Files.write(tempDir.resolve("bits.bin"), data);
+
+        for (BitOrder bitOrder : BitOrder.values()) {
+            for (boolean seekable : new boolean[] { true, false }) {
+                for (int capacity : new int[] { 1, 13, 4096 }) {
+                    String context = bitOrder + ", seekable " + seekable + ", capacity " + capacity;
+                    BitStream expected = new BitStream(data, bitOrder);
+                    ReadableByteChannel channel = seekable
+                            ? FileChannel.open(file)
+                            : Channels.newChannel(new ByteArrayInputStream(data));
+
+                    try (BitStreamReader reader = new BitStreamReader(channel, capacity, bitOrder)) {
+                        while (true) {
+                            int op = random.nextInt(4);
+                            if (op == 0) {
+                                long skip = random.nextInt(4) == 0 ? random.nextInt(40000) : random.nextInt(70);
+                                if (expected.remainingBits() < skip) {
+                                    break;
+                                }
+                                reader.skipBits(skip);
+                                expected.setPosition(expected.getPositionLong() + skip);
+                            } else if (op == 1) {
+                                int len = random.nextInt(4) == 0 ? random.nextInt(6000) : random.nextInt(20);
+                                if (expected.remainingBits() < 8L * len) {
+                                    break;
+                                }
+                                byte[] actual = new byte[len];
+                                byte[] wanted = new byte[len];
+                                reader.readBytes(actual, 0, len);
+                                expected.readBytes(wanted, 0, len);
+                                assertArrayEquals(wanted, actual, context);
+                            } else {
+                                byte bitCount = (byte)(random.nextInt(64) + 1);
+                                if (expected.remainingBits() < bitCount) {
+                                    break;
+                                }
+                                assertEquals(expected.readBits(bitCount), reader.readBits(bitCount), context);
+                            }
+                        }
+
+                        long remaining = expected.remainingBits();
+                        assertThrows(BitStreamException.class, () -> reader.skipBits(remaining + 8 * 5000L + 1), context);
+                        assertTrue(reader.isEof());
+                    }
+                    assertFalse(channel.isOpen());
+                }
+            }
+
+            // Whole direct buffers are transferred to a writer
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            try (BitStreamReader reader = new BitStreamReader(FileChannel.open(file), 1024, bitOrder);
+                 BitStreamWriter writer = new BitStreamWriter(output, 256, bitOrder)) {
+                writer.writeBits(reader.readBits((byte)3), (byte)3);
+                writer.transferFrom(reader, 8L * data.length - 3);
+            }
+            assertArrayEquals(data, output.toByteArray(), bitOrder.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Test a non-blocking channel with no bytes ready is not the end of stream")
+    public void testNonBlockingChannelReader() throws IOException {
+        Pipe pipe = Pipe.open();
+        pipe.source().configureBlocking(false);
+
+        try (BitStreamReader reader = new BitStreamReader(pipe.source(), 16);
+             Pipe.SinkChannel sink = pipe.sink()) {
+            long[] value = new long[1];
+            assertFalse(reader.tryReadBits((byte)8, v -> value[0] = v));
+            assertFalse(reader.isEof());
+
+            sink.write(ByteBuffer.wrap(new byte[] { 0x12, 0x34, 0x56 }));
+            assertTrue(reader.tryReadBits((byte)24, v -> value[0] = v));
+            assertEquals(0x563412L, value[0]);
+
+            BitStreamException e = assertThrows(BitStreamException.class, () -> reader.readBits((byte)8));
+            assertEquals(BitStreamException.BitStreamErrorType.END_OF_STREAM, e.getErrorType());
+            assertFalse(reader.isEof());
+
+            sink.write(ByteBuffer.wrap(new byte[] { 0x78 }));
+            assertEquals(0x78L, reader.readBits((byte)8));
+
+            sink.close();
+            assertFalse(reader.tryReadBits((byte)1, v -> fail("No bits should be read")));
+            assertTrue(reader.isEof());
+        }
+    }
+
+    /**
+     * An input stream fed in frames, which reports the end of the stream whenever it has no
+     * frame and returns no bytes for an empty frame.
+     */
+    private static final class FrameInputStream extends InputStream {
+
+        private final ArrayDeque<byte[]> frames = new ArrayDeque<>();
+
+        void add(byte[] frame) {
+            frames.add(frame);
+        }
+
+        @Override
+        public int read() {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) <= 0 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            byte[] frame = frames.poll();
+            if (frame == null) {
+                return -1;
+            }
+
+            int n = Math.min(len, frame.length);
+            System.arraycopy(frame, 0, b, off, n);
+            if (n < frame.length) {
+                frames.addFirst(Arrays.copyOfRange(frame, n, frame.length));
+            }
+            return n;
+        }
+    }
+}
@@ -0,0 +1,550 @@
+package com.aidanjmorgan.variablebits;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the BitStream class.
+ */
+public class BitStreamTest {
+
+    @Test
+    @DisplayName("Test basic in-memory round trip")
+    public void testBasicRoundTrip() {
+        BitStream bitStream = new BitStream();
+
+        // Write bits
+        bitStream.writeBits(0b101L, (byte)3);
+        bitStream.writeBits(0b11110000L, (byte)8);
+        bitStream.writeBits(0xABCDL, (byte)16);
+        bitStream.writeBits(-1L, (byte)64);
+
+        assertEquals(91, bitStream.getLength());
+        assertEquals(91, bitStream.getPosition());
+        assertEquals(0, bitStream.remainingBits());
+
+        // Reset the position to the beginning and read the bits back
+        bitStream.setPosition(0);
+        assertEquals(91, bitStream.remainingBits());
+        assertEquals(0b101L, bitStream.readBits((byte)3));
+        assertEquals(0b11110000L, bitStream.readBits((byte)8));
+        assertEquals(80, bitStream.remainingBits());
+        assertEquals(0xABCDL, bitStream.readBits((byte)16));
+        assertEquals(-1L, bitStream.readBits((byte)64));
+        assertTrue(bitStream.isEof());
+    }
+
+    @Test
+    @DisplayName("Test LSB-first byte layout")
+    public void testByteLayout() {
+        BitStream bitStream = new BitStream();
+
+        bitStream.writeBits(0b1L, (byte)1);
+        bitStream.writeBits(0b010L, (byte)3);
+        bitStream.writeBits(0b1010L, (byte)4);
+        bitStream.writeBits(0b11110000L, (byte)8);
+        bitStream.writeBits(0b101L, (byte)3);
+
+        assertArrayEquals(new byte[] { (byte)0b10100101, (byte)0b11110000, (byte)0b00000101 },
+                bitStream.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Test reading from an existing byte array")
+    public void testFromByteArray() {
+        byte[] data = new byte[19];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte)(i * 37 + 11);
+        }
+
+        BitStream bitStream = new BitStream(data);
+        assertEquals(data.length * 8, bitStream.getLength());
+        assertArrayEquals(data, bitStream.toByteArray());
+
+        // Read the bytes back one at a time
+        for (byte b : data) {
+            assertEquals(b & 0xFFL, bitStream.readBits((byte)8));
+        }
+        assertThrows(BitStreamException.class, () -> bitStream.readBits((byte)1));
+    }
+
+    @Test
+    @DisplayName("Test overwriting bits in the middle of the stream")
+    public void testOverwrite() {
+        BitStream bitStream = new BitStream();
+        bitStream.writeBits(-1L, (byte)64);
+        bitStream.writeBits(-1L, (byte)64);
+
+        // Overwrite a value that straddles the word boundary
+        bitStream.setPosition(60);
+        bitStream.writeBits(0L, (byte)8);
+
+        assertEquals(128, bitStream.getLength());
+        bitStream.setPosition(0);
+        assertEquals(0x0FFFFFFFFFFFFFFFL, bitStream.readBits((byte)64));
+        assertEquals(0xFFFFFFFFFFFFFFF0L, bitStream.readBits((byte)64));
+    }
+
+    @Test
+    @DisplayName("Test random widths round trip and match the byte-at-a-time layout")
+    public void testRandomRoundTrip() {
+        Random random = new Random(42);
+        BitStream bitStream = new BitStream();
+        long[] values = new long[5000];
+        byte[] widths = new byte[values.length];
+        byte[] expected = new byte[values.length * 8];
+        int bit = 0;
+
+        for (int i = 0; i < values.length; i++) {
+            widths[i] = (byte)(random.nextInt(64) + 1);
+            values[i] = widths[i] == 64 ? random.nextLong() : random.nextLong() & ((1L << widths[i]) - 1);
+            bitStream.writeBits(values[i], widths[i]);
+
+            // Build the expected layout one bit at a time
+            for (int j = 0; j < widths[i]; j++, bit++) {
+                if (((values[i] >>> j) & 1) != 0) {
+                    expected[bit >>> 3] |= (byte)(1 << (bit & 7));
+                }
+            }
+        }
+
+        byte[] actual = bitStream.toByteArray();
+        assertEquals((bit + 7) / 8, actual.length);
+        for (int i = 0; i < actual.length; i++) {
+            assertEquals(expected[i], actual[i], "Mismatch at byte " + i);
+        }
+
+        bitStream.setPosition(0);
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(values[i], bitStream.readBits(widths[i]), "Mismatch at value " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Test reset clears previously written bits")
+    public void testReset() {
+        BitStream bitStream = new BitStream();
+        bitStream.writeBits(-1L, (byte)64);
+        bitStream.reset();
+
+        assertTrue(bitStream.isEmpty());
+        bitStream.writeBits(0b1L, (byte)1);
+        assertArrayEquals(new byte[] { 0b1 }, bitStream.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Test bulk reads of every width match single reads")
+    public void testBulkRead() {
+        Random random = new Random(5);
+
+        for (byte bitCount = 1; bitCount <= 64; bitCount++) {
+            BitStream bitStream = new BitStream();
+            bitStream.writeBits(0b101L, (byte)3);
+            long[] expected = new long[100];
+            for (int i = 0; i < expected.length; i++) {
+                expected[i] = bitCount == 64 ? random.nextLong() : random.nextLong() & ((1L << bitCount) - 1);
+                bitStream.writeBits(expected[i], bitCount);
+            }
+
+            bitStream.setPosition(3);
+            long[] longs = new long[expected.length + 2];
+            bitStream.readBits(longs, 1, expected.length, bitCount);
+            assertTrue(bitStream.isEof());
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals(expected[i], longs[i + 1], "Mismatch for " + bitCount + " bits");
+            }
+
+            if (bitCount <= 32) {
+                bitStream.setPosition(3);
+                int[] ints = new int[expected.length];
+                bitStream.readBits(ints, 0, ints.length, bitCount);
+                for (int i = 0; i < expected.length; i++) {
+                    assertEquals((int)expected[i], ints[i], "Mismatch for " + bitCount + " bits");
+                }
+            }
+            if (bitCount <= 16) {
+                bitStream.setPosition(3);
+                short[] shorts = new short[expected.length];
+                bitStream.readBits(shorts, 0, shorts.length, bitCount);
+                for (int i = 0; i < expected.length; i++) {
+                    assertEquals((short)expected[i], shorts[i], "Mismatch for " + bitCount + " bits");
+                }
+            }
+            if (bitCount <= 8) {
+                bitStream.setPosition(3);
+                byte[] bytes = new byte[expected.length];
+                bitStream.readBits(bytes, 0, bytes.length, bitCount);
+                for (int i = 0; i < expected.length; i++) {
+                    assertEquals((byte)expected[i], bytes[i], "Mismatch for " + bitCount + " bits");
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test bulk read argument validation")
+    public void testBulkReadValidation() {
+        BitStream bitStream = new BitStream(new byte[4]);
+
+        assertThrows(BitStreamException.class, () -> bitStream.readBits(new int[1], 0, 1, (byte)33));
+        assertThrows(BitStreamException.class, () -> bitStream.readBits(new byte[1], 0, 1, (byte)9));
+        assertThrows(IndexOutOfBoundsException.class, () -> bitStream.readBits(new long[2], 1, 2, (byte)8));
+
+        // A read past the end fails without moving the position
+        BitStreamException e = assertThrows(BitStreamException.class,
+                () -> bitStream.readBits(new long[5], 0, 5, (byte)7));
+        assertEquals(BitStreamException.BitStreamErrorType.END_OF_STREAM, e.getErrorType());
+        assertEquals(0, bitStream.getPosition());
+    }
+
+    @Test
+    @DisplayName("Test bulk writes of every width match single writes")
+    public void testBulkWrite() {
+        Random random = new Random(9);
+
+        for (byte bitCount = 1; bitCount <= 64; bitCount++) {
+            long[] values = new long[100];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextLong();
+            }
+
+            BitStream expected = new BitStream();
+            expected.writeBits(0b101L, (byte)3);
+            for (long value : values) {
+                expected.writeBits(value, bitCount);
+            }
+
+            BitStream actual = new BitStream();
+            actual.writeBits(0b101L, (byte)3);
+            actual.writeBits(values, 0, 40, bitCount);
+            actual.writeBits(values, 40, 60, bitCount);
+            assertEquals(expected.getLength(), actual.getLength());
+            assertArrayEquals(expected.toByteArray(), actual.toByteArray(), "Mismatch for " + bitCount + " bits");
+
+            if (bitCount <= 32) {
+                int[] ints = new int[values.length];
+                for (int i = 0; i < ints.length; i++) {
+                    ints[i] = (int)values[i];
+                }
+                BitStream fromInts = new BitStream();
+                fromInts.writeBits(0b101L, (byte)3);
+                fromInts.writeBits(ints, 0, ints.length, bitCount);
+                assertArrayEquals(expected.toByteArray(), fromInts.toByteArray(), "Mismatch for " + bitCount + " bits");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test bulk write over existing bits preserves its neighbours")
+    public void testBulkOverwrite() {
+        BitStream bitStream = new BitStream();
+        bitStream.writeBits(-1L, (byte)64);
+        bitStream.writeBits(-1L, (byte)64);
+
+        bitStream.setPosition(5);
+        bitStream.writeBits(new short[] { 0, 0, 0 }, 0, 3, (byte)13);
+
+        assertEquals(128, bitStream.getLength());
+        assertEquals(44, bitStream.getPosition());
+        bitStream.setPosition(0);
+        assertEquals(0b11111L, bitStream.readBits((byte)5));
+        assertEquals(0L, bitStream.readBits((byte)39));
+        assertEquals((1L << 20) - 1, bitStream.readBits((byte)20));
+    }
+
+    @Test
+    @DisplayName("Test end of stream exceptions are created per throw by default")
+    public void testEndOfStreamException() {
+        BitStream bitStream = new BitStream(new byte[1]);
+        bitStream.readBits((byte)8);
+
+        BitStreamException first = assertThrows(BitStreamException.class, () -> bitStream.readBits((byte)1));
+        BitStreamException second = assertThrows(BitStreamException.class, () -> bitStream.readBits((byte)1));
+        assertEquals(BitStreamException.BitStreamErrorType.END_OF_STREAM, first.getErrorType());
+        assertNotSame(first, second);
+        assertTrue(first.getStackTrace().length > 0);
+    }
+
+    @Test
+    @DisplayName("Test peekBits does not move the position and consume does")
+    public void testPeekAndConsume() {
+        BitStream bitStream = new BitStream();
+        bitStream.writeBits(0b101L, (byte)3);
+        bitStream.writeBits(0xFEDCBA9876543210L, (byte)64);
+        bitStream.setPosition(0);
+
+        assertEquals(0b101L, bitStream.peekBits((byte)3));
+        assertEquals(0b0101L, bitStream.peekBits((byte)4));
+        assertEquals(0, bitStream.getPosition());
+
+        bitStream.consume((byte)3);
+        assertEquals(3, bitStream.getPosition());
+        assertEquals(0xFEDCBA9876543210L, bitStream.peekBits((byte)64));
+        assertThrows(BitStreamException.class, () -> bitStream.peekBits((byte)65));
+        assertThrows(BitStreamException.class, () -> bitStream.consume((byte)0));
+
+        bitStream.consume((byte)60);
+        assertEquals(0xFL, bitStream.peekBits((byte)4));
+        assertThrows(BitStreamException.class, () -> bitStream.peekBits((byte)5));
+        assertThrows(BitStreamException.class, () -> bitStream.consume((byte)5));
+        assertEquals(63, bitStream.getPosition());
+    }
+
+    @Test
+    @DisplayName("Test MSB-first byte layout")
+    public void testMsbFirstByteLayout() {
+        BitStream bitStream = new BitStream(BitOrder.MSB_FIRST);
+
+        bitStream.writeBits(0b1L, (byte)1);
+        bitStream.writeBits(0b010L, (byte)3);
+        bitStream.writeBits(0b1010L, (byte)4);
+        bitStream.writeBits(0b11110000L, (byte)8);
+        bitStream.writeBits(0b101L, (byte)3);
+
+        assertEquals(BitOrder.MSB_FIRST, bitStream.getBitOrder());
+        assertArrayEquals(new byte[] { (byte)0b10101010, (byte)0b11110000, (byte)0b10100000 },
+                bitStream.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Test MSB-first random widths round trip and match the byte-at-a-time layout")
+    public void testMsbFirstRandomRoundTrip() {
+        Random random = new Random(16);
+        BitStream bitStream = new BitStream(BitOrder.MSB_FIRST);
+        long[] values = new long[5000];
+        byte[] widths = new byte[values.length];
+        byte[] expected = new byte[values.length * 8];
+        int bit = 0;
+
+        for (int i = 0; i < values.length; i++) {
+            widths[i] = (byte)(random.nextInt(64) + 1);
+            values[i] = widths[i] == 64 ? random.nextLong() : random.nextLong() & ((1L << widths[i]) - 1);
+            bitStream.writeBits(values[i], widths[i]);
+
+            // Build the expected layout one bit at a time, most significant bit first
+            for (int j = widths[i] - 1; j >= 0; j--, bit++) {
+                if (((values[i] >>> j) & 1) != 0) {
+                    expected[bit >>> 3] |= (byte)(0x80 >>> (bit & 7));
+                }
+            }
+        }
+
+        byte[] actual = bitStream.toByteArray();
+        assertEquals((bit + 7) / 8, actual.length);
+        for (int i = 0; i < actual.length; i++) {
+            assertEquals(expected[i], actual[i], "Mismatch at byte " + i);
+        }
+
+        // Read back from the same stream, and from a stream built from the bytes
+        BitStream fromBytes = new BitStream(actual, BitOrder.MSB_FIRST);
+        bitStream.setPosition(0);
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(values[i], bitStream.peekBits(widths[i]), "Mismatch at value " + i);
+            assertEquals(values[i], bitStream.readBits(widths[i]), "Mismatch at value " + i);
+            assertEquals(values[i], fromBytes.readBits(widths[i]), "Mismatch at value " + i);
+        }
+
+        // Overwrite a value in the middle and check its neighbours survive
+        bitStream.setPosition(61);
+        bitStream.writeBits(0L, (byte)7);
+        bitStream.setPosition(0);
+        BitStream reference = new BitStream(actual, BitOrder.MSB_FIRST);
+        assertEquals(reference.readBits((byte)61), bitStream.readBits((byte)61));
+        assertEquals(0L, bitStream.readBits((byte)7));
+        reference.setPosition(68);
+        assertEquals(reference.readBits((byte)64), bitStream.readBits((byte)64));
+    }
+
+    @Test
+    @DisplayName("Test MSB-first bulk reads and writes match single values")
+    public void testMsbFirstBulk() {
+        Random random = new Random(17);
+
+        for (byte bitCount = 1; bitCount <= 64; bitCount++) {
+            long[] values = new long[100];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = bitCount == 64 ? random.nextLong() : random.nextLong() & ((1L << bitCount) - 1);
+            }
+
+            BitStream expected = new BitStream(BitOrder.MSB_FIRST);
+            expected.writeBits(0b101L, (byte)3);
+            for (long value : values) {
+                expected.writeBits(value, bitCount);
+            }
+
+            BitStream actual = new BitStream(BitOrder.MSB_FIRST);
+            actual.writeBits(0b101L, (byte)3);
+            actual.writeBits(values, 0, values.length, bitCount);
+            assertArrayEquals(expected.toByteArray(), actual.toByteArray(), "Mismatch for " + bitCount + " bits");
+
+            long[] read = new long[values.length];
+            actual.setPosition(3);
+            actual.readBits(read, 0, read.length, bitCount);
+            assertArrayEquals(values, read, "Mismatch for " + bitCount + " bits");
+        }
+    }
+
+    @Test
+    @DisplayName("Test 128-bit values are written high part first in MSB-first order")
+    public void testMsbFirstU128() {
+        UInt128 value = UInt128.parseHex("0123456789ABCDEFFEDCBA9876543210");
+        BitStream bitStream = new BitStream(BitOrder.MSB_FIRST);
+        bitStream.writeU128(value, (byte)128);
+        bitStream.writeU128(value, (byte)100);
+
+        assertArrayEquals(new byte[] { 0x01, 0x23, 0x45, 0x67, (byte)0x89, (byte)0xAB, (byte)0xCD, (byte)0xEF,
+                        (byte)0xFE, (byte)0xDC, (byte)0xBA, (byte)0x98, 0x76, 0x54, 0x32, 0x10 },
+                Arrays.copyOf(bitStream.toByteArray(), 16));
+
+        bitStream.setPosition(0);
+        assertEquals(value, bitStream.readU128((byte)128));
+        assertEquals(BitValue.newUInt128Value(value, (byte)100), bitStream.readBitValue((byte)100));
+    }
+
+    @Test
+    @DisplayName("Test readBytes and writeBytes match 8-bit reads and writes at any alignment")
+    public void testReadAndWriteBytes() {
+        Random random = new Random(18);
+        byte[] payload = new byte[101];
+        random.nextBytes(payload);
+
+        for (BitOrder bitOrder : BitOrder.values()) {
+            for (int lead = 0; lead <= 64; lead += 5) {
+                BitStream expected = new BitStream(bitOrder);
+                BitStream actual = new BitStream(bitOrder);
+                if (lead > 0) {
+                    expected.writeBits(-1L, (byte)lead);
+                    actual.writeBits(-1L, (byte)lead);
+                }
+                for (byte b : payload) {
+                    expected.writeBits(b, (byte)8);
+                }
+                expected.writeBits(0b101L, (byte)3);
+                actual.writeBytes(payload, 0, payload.length);
+                actual.writeBits(0b101L, (byte)3);
+                assertArrayEquals(expected.toByteArray(), actual.toByteArray(), "Mismatch for " + bitOrder + ", lead " + lead);
+
+                byte[] read = new byte[payload.length + 2];
+                actual.setPosition(lead);
+                actual.readBytes(read, 1, payload.length);
+                assertArrayEquals(payload, Arrays.copyOfRange(read, 1, payload.length + 1));
+                assertEquals(0b101L, actual.readBits((byte)3));
+
+                actual.setPosition(lead);
+                assertThrows(BitStreamException.class, () -> actual.readBytes(new byte[payload.length + 1], 0, payload.length + 1));
+                assertEquals(lead, actual.getPosition());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test appending streams and ranges of streams at any bit offset")
+    public void testAppend() {
+        Random random = new Random(20);
+
+        for (BitOrder bitOrder : BitOrder.values()) {
+            BitStream source = new BitStream(bitOrder);
+            for (int i = 0; i < 40; i++) {
+                source.writeBits(random.nextLong(), (byte)(random.nextInt(64) + 1));
+            }
+
+            for (int trial = 0; trial < 200; trial++) {
+                int lead = random.nextInt(130);
+                int from = random.nextInt(source.getLength());
+                int length = random.nextInt(source.getLength() - from + 1);
+
+                BitStream expected = new BitStream(bitOrder);
+                BitStream actual = new BitStream(bitOrder);
+                for (int bits = lead; bits > 0; bits -= 64) {
+                    long value = random.nextLong();
+                    expected.writeBits(value, (byte)Math.min(bits, 64));
+                    actual.writeBits(value, (byte)Math.min(bits, 64));
+                }
+                source.setPosition(from);
+                for (int bits = length; bits > 0; bits -= 64) {
+                    expected.writeBits(source.readBits((byte)Math.min(bits, 64)), (byte)Math.min(bits, 64));
+                }
+
+                actual.setPosition(0);
+                actual.append(source, from, length);
+                assertEquals(expected.getLength(), actual.getLength());
+                assertEquals(actual.getLength(), actual.getPosition());
+                assertArrayEquals(expected.toByteArray(), actual.toByteArray(), "Mismatch for " + bitOrder + ", trial " + trial);
+            }
+
+            // Appending a stream to itself doubles it
+            BitStream doubled = new BitStream(bitOrder);
+            doubled.writeBits(0b10110L, (byte)5);
+            doubled.append(doubled);
+            doubled.setPosition(0);
+            assertEquals(10, doubled.getLength());
+            assertEquals(doubled.readBits((byte)5), doubled.readBits((byte)5));
+        }
+
+        BitStream lsb = new BitStream();
+        BitStream msb = new BitStream(BitOrder.MSB_FIRST);
+        msb.writeBits(1L, (byte)1);
+        assertThrows(IllegalArgumentException.class, () -> lsb.append(msb));
+        assertThrows(IndexOutOfBoundsException.class, () -> msb.append(new BitStream(BitOrder.MSB_FIRST), 0, 1));
+    }
+
+    @Test
+    @DisplayName("Test long positions and streams spanning several storage chunks")
+    public void testLongPositionsAcrossChunks() {
+        Random random = new Random(22);
+        byte[] payload = new byte[3 << 20];
+        random.nextBytes(payload);
+
+        for (BitOrder bitOrder : BitOrder.values()) {
+            // Byte copies at an unaligned position cross every chunk boundary
+            BitStream stream = new BitStream(bitOrder);
+            stream.writeBits(0b101L, (byte)3);
+            stream.writeBytes(payload, 0, payload.length);
+            assertEquals(3 + 8L * payload.length, stream.getLengthLong());
+            assertEquals(stream.getLengthLong(), stream.getPositionLong());
+            assertEquals(stream.getLength(), stream.getPosition());
+
+            stream.setPosition(3L);
+            byte[] read = new byte[payload.length];
+            stream.readBytes(read, 0, read.length);
+            assertArrayEquals(payload, read, bitOrder.toString());
+
+            // Blocks and single values that straddle the first chunk boundary
+            long boundary = 1L << 23;
+            long[] values = new long[200];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextLong() & 0xFFFFF;
+            }
+            for (long start : new long[] { boundary - 64 * 5, boundary - 64 * 5 + 7 }) {
+                stream.setPosition(start);
+                stream.writeBits(values, 0, values.length, (byte)20);
+                long[] decoded = new long[values.length];
+                stream.setPosition(start);
+                stream.readBits(decoded, 0, decoded.length, (byte)20);
+                assertArrayEquals(values, decoded, bitOrder + ", start " + start);
+
+                stream.setPosition(start);
+                for (long value : values) {
+                    assertEquals(value, stream.readBits((byte)20));
+                }
+            }
+
+            BitStream copy = new BitStream(stream.toByteArray(), bitOrder);
+            assertArrayEquals(stream.toByteArray(), copy.toByteArray());
+
+            stream.reset();
+            assertEquals(0L, stream.getLengthLong());
+            stream.writeBytes(payload, 0, 16);
+            assertArrayEquals(Arrays.copyOf(payload, 16), stream.toByteArray());
+        }
+
+        BitStream stream = new BitStream();
+        assertThrows(IllegalArgumentException.class, () -> stream.setPosition(-1L));
+        assertThrows(BitStreamException.class, () -> stream.setPosition(1L));
+    }
+}
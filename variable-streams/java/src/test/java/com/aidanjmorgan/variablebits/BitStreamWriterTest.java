@@ -3,6 +3,7 @@ package com.aidanjmorgan.variablebits;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -11,6 +12,15 @@ import java.io.ByteArrayInputStream;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
 
 /**
  * Tests for the BitStreamWriter class.
@@ -245,8 +255,9 @@ public class BitStreamWriterTest {
         }
         
         // Test 128-bit values
-        for (byte bitCount = 65; bitCount <= 128; bitCount++) {
-            java.math.BigInteger testValue = java.math.BigInteger.ONE.shiftLeft(bitCount - 1).or(java.math.BigInteger.ONE); // Set MSB and LSB
+        for (int bits = 65; bits <= 128; bits++) {
+            byte bitCount = (byte)bits; // 128 is passed as (byte)128
+            java.math.BigInteger testValue = java.math.BigInteger.ONE.shiftLeft(bits - 1).or(java.math.BigInteger.ONE); // Set MSB and LSB
             
             ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
             try (BitStreamWriter writer = new BitStreamWriter(outputStream)) {
@@ -258,7 +269,7 @@ public class BitStreamWriterTest {
             ByteArrayInputStream inputStream = new ByteArrayInputStream(data);
             try (BitStreamReader reader = new BitStreamReader(inputStream)) {
                 java.math.BigInteger readValue = reader.readBitsU128(bitCount);
-                assertEquals(testValue, readValue, "Failed for " + bitCount + " bits");
+                assertEquals(testValue, readValue, "Failed for " + bits + " bits");
             }
         }
     }
@@ -284,4 +295,361 @@ public class BitStreamWriterTest {
             assertEquals(0b1010L, readValue);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test writer output matches BitStream for any buffer capacity")
+    public void testWriterMatchesBitStream() throws IOException {
+        Random random = new Random(11);
+        BitStream expected = new BitStream();
+        long[] values = new long[3000];
+        byte[] widths = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            widths[i] = (byte)(random.nextInt(64) + 1);
+            values[i] = random.nextLong();
+            expected.writeBits(values[i], widths[i]);
+        }
+
+        for (int capacity : new int[] { 1, 5, 8, 9, 4096 }) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            try (BitStreamWriter writer = new BitStreamWriter(outputStream, capacity)) {
+                for (int i = 0; i < values.length; i++) {
+                    writer.writeBits(values[i], widths[i]);
+                }
+            }
+            assertArrayEquals(expected.toByteArray(), outputStream.toByteArray(), "Mismatch for capacity " + capacity);
+        }
+    }
+
+    @Test
+    @DisplayName("Test flush pads the final partial byte and starts a new byte")
+    public void testFlushPartialByte() throws IOException {
+        try (BitStreamWriter writer = new BitStreamWriter(outputStream)) {
+            writer.writeBits(0b101L, (byte)3);
+            writer.flush();
+            writer.writeBits(0b11L, (byte)2);
+            writer.flush();
+        }
+
+        assertArrayEquals(new byte[] { 0b101, 0b11 }, outputStream.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Test writer bulk writes of every width match single writes")
+    public void testWriterBulkWrite() throws IOException {
+        Random random = new Random(13);
+
+        for (byte bitCount = 1; bitCount <= 64; bitCount++) {
+            long[] values = new long[200];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextLong();
+            }
+
+            ByteArrayOutputStream expected = new ByteArrayOutputStream();
+            try (BitStreamWriter writer = new BitStreamWriter(expected, 32)) {
+                writer.writeBits(0b1L, (byte)1);
+                for (long value : values) {
+                    writer.writeBits(value, bitCount);
+                }
+            }
+
+            ByteArrayOutputStream actual = new ByteArrayOutputStream();
+            try (BitStreamWriter writer = new BitStreamWriter(actual, 32)) {
+                writer.writeBits(0b1L, (byte)1);
+                writer.writeBits(values, 0, values.length, bitCount);
+            }
+            assertArrayEquals(expected.toByteArray(), actual.toByteArray(), "Mismatch for " + bitCount + " bits");
+
+            if (bitCount <= 8) {
+                byte[] bytes = new byte[values.length];
+                for (int i = 0; i < bytes.length; i++) {
+                    bytes[i] = (byte)values[i];
+                }
+                ByteArrayOutputStream fromBytes = new ByteArrayOutputStream();
+                try (BitStreamWriter writer = new BitStreamWriter(fromBytes, 32)) {
+                    writer.writeBits(0b1L, (byte)1);
+                    writer.writeBits(bytes, 0, bytes.length, bitCount);
+                }
+                assertArrayEquals(expected.toByteArray(), fromBytes.toByteArray(), "Mismatch for " + bitCount + " bits");
+            }
+        }
+
+        BitStreamWriter writer = new BitStreamWriter(outputStream);
+        assertThrows(BitStreamException.class, () -> writer.writeBits(new short[1], 0, 1, (byte)17));
+        assertThrows(IndexOutOfBoundsException.class, () -> writer.writeBits(new int[1], 1, 1, (byte)1));
+    }
+
+    @Test
+    @DisplayName("Test MSB-first writer and reader match BitStream for any buffer capacity")
+    public void testMsbFirstWriterAndReader() throws IOException {
+        Random random = new Random(23);
+        BitStream expected = new BitStream(BitOrder.MSB_FIRST);
+        long[] values = new long[3000];
+        byte[] widths = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            widths[i] = (byte)(random.nextInt(64) + 1);
+            values[i] = widths[i] == 64 ? random.nextLong() : random.nextLong() & ((1L << widths[i]) - 1);
+            expected.writeBits(values[i], widths[i]);
+        }
+        int[] column = new int[200];
+        for (int i = 0; i < column.length; i++) {
+            column[i] = random.nextInt(1 << 12);
+            expected.writeBits(column[i], (byte)12);
+        }
+        UInt128 wide = UInt128.parseHex("0123456789ABCDEFFEDCBA9876543210");
+        expected.writeU128(wide, (byte)100);
+
+        for (int capacity : new int[] { 1, 3, 8, 13, 4096 }) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            try (BitStreamWriter writer = new BitStreamWriter(output, capacity, BitOrder.MSB_FIRST)) {
+                assertEquals(BitOrder.MSB_FIRST, writer.getBitOrder());
+                for (int i = 0; i < values.length; i++) {
+                    writer.writeBits(values[i], widths[i]);
+                }
+                writer.writeBits(column, 0, column.length, (byte)12);
+                writer.writeU128(wide, (byte)100);
+            }
+            byte[] data = output.toByteArray();
+            assertArrayEquals(expected.toByteArray(), data, "Mismatch for capacity " + capacity);
+
+            try (BitStreamReader reader = new BitStreamReader(new ByteArrayInputStream(data), capacity, BitOrder.MSB_FIRST)) {
+                for (int i = 0; i < values.length; i++) {
+                    if (i % 3 == 0) {
+                        assertEquals(values[i], reader.peekBits(widths[i]), "Mismatch at value " + i + ", capacity " + capacity);
+                        reader.consume(widths[i]);
+                    } else if (i % 3 == 1) {
+                        reader.skipBits(widths[i]);
+                    } else {
+                        assertEquals(values[i], reader.readBits(widths[i]), "Mismatch at value " + i + ", capacity " + capacity);
+                    }
+                }
+                int[] read = new int[column.length];
+                reader.readBits(read, 0, read.length, (byte)12);
+                assertArrayEquals(column, read);
+                assertEquals(wide.mask(100), reader.readU128((byte)100));
+                assertFalse(reader.tryReadBits((byte)8, v -> fail("No bits should be read")));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test reader and writer byte copies match BitStream at any alignment")
+    public void testReadAndWriteBytes() throws IOException {
+        Random random = new Random(19);
+        byte[] small = new byte[37];
+        byte[] large = new byte[10000];
+        random.nextBytes(small);
+        random.nextBytes(large);
+
+        for (BitOrder bitOrder : BitOrder.values()) {
+            for (int lead : new int[] { 0, 3, 8, 13, 64 }) {
+                BitStream expected = new BitStream(bitOrder);
+                if (lead > 0) {
+                    expected.writeBits(0x5A5A5A5A5A5A5A5AL, (byte)lead);
+                }
+                expected.writeBytes(small, 0, small.length);
+                expected.writeBits(0b1011L, (byte)4);
+                expected.writeBits(0b1011L, (byte)(12 - lead % 8));
+                expected.writeBytes(large, 0, large.length);
+                expected.writeBits(0b101L, (byte)3);
+                expected.writeBytes(large, 0, large.length);
+                expected.writeBytes(small, 0, small.length);
+                byte[] bytes = expected.toByteArray();
+
+                for (int capacity : new int[] { 1, 13, 4096 }) {
+                    ByteArrayOutputStream output = new ByteArrayOutputStream();
+                    try (BitStreamWriter writer = new BitStreamWriter(output, capacity, bitOrder)) {
+                        if (lead > 0) {
+                            writer.writeBits(0x5A5A5A5A5A5A5A5AL, (byte)lead);
+                        }
+                        writer.writeBytes(small, 0, small.length);
+                        writer.writeBits(0b1011L, (byte)4);
+                        writer.writeBits(0b1011L, (byte)(12 - lead % 8));
+                        writer.writeBytes(large, 0, large.length);
+                        writer.writeBits(0b101L, (byte)3);
+                        writer.writeBytes(large, 0, large.length);
+                        writer.writeBytes(small, 0, small.length);
+                    }
+                    String context = bitOrder + ", lead " + lead + ", capacity " + capacity;
+                    assertArrayEquals(bytes, output.toByteArray(), context);
+
+                    try (BitStreamReader reader = new BitStreamReader(new ByteArrayInputStream(bytes), capacity, bitOrder)) {
+                        byte[] read = new byte[large.length];
+                        if (lead > 0) {
+                            reader.readBits((byte)lead);
+                        }
+                        reader.readBytes(read, 0, small.length);
+                        assertArrayEquals(small, Arrays.copyOf(read, small.length), context);
+                        reader.readBits((byte)4);
+                        reader.readBits((byte)(12 - lead % 8));
+                        reader.readBytes(read, 0, large.length);
+                        assertArrayEquals(large, read, context);
+                        assertEquals(0b101L, reader.readBits((byte)3));
+                        reader.readBytes(read, 0, large.length);
+                        assertArrayEquals(large, read, context);
+                        reader.readBytes(read, 0, small.length);
+                        assertArrayEquals(small, Arrays.copyOf(read, small.length), context);
+                        assertThrows(BitStreamException.class, () -> reader.readBytes(read, 0, 1));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test transferring bits from a reader to a writer at matching and differing offsets")
+    public void testTransferFrom() throws IOException {
+        Random random = new Random(21);
+
+        for (BitOrder bitOrder : BitOrder.values()) {
+            BitStream source = new BitStream(bitOrder);
+            byte[] payload = new byte[20000];
+            random.nextBytes(payload);
+            source.writeBytes(payload, 0, payload.length);
+            byte[] sourceBytes = source.toByteArray();
+
+            for (int trial = 0; trial < 60; trial++) {
+                int skip = random.nextInt(200);
+                int lead = trial % 3 == 0 ? skip % 8 : random.nextInt(200);
+                int length = trial % 2 == 0 ? random.nextInt(source.getLength() - skip) : random.nextInt(300);
+                int capacity = new int[] { 1, 13, 4096 }[trial % 3];
+
+                BitStream expected = new BitStream(bitOrder);
+                for (int bits = lead; bits > 0; bits -= 64) {
+                    expected.writeBits(-1L, (byte)Math.min(bits, 64));
+                }
+                expected.append(source, skip, length);
+
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                try (BitStreamReader reader = new BitStreamReader(new ByteArrayInputStream(sourceBytes), capacity, bitOrder);
+                     BitStreamWriter writer = new BitStreamWriter(output, capacity, bitOrder)) {
+                    reader.skipBits(skip);
+                    for (int bits = lead; bits > 0; bits -= 64) {
+                        writer.writeBits(-1L, (byte)Math.min(bits, 64));
+                    }
+                    writer.transferFrom(reader, length);
+                }
+                assertArrayEquals(expected.toByteArray(), output.toByteArray(),
+                        bitOrder + ", skip " + skip + ", lead " + lead + ", length " + length + ", capacity " + capacity);
+            }
+
+            try (BitStreamReader reader = new BitStreamReader(new ByteArrayInputStream(sourceBytes), bitOrder);
+                 BitStreamWriter writer = new BitStreamWriter(new ByteArrayOutputStream(), bitOrder)) {
+                assertThrows(BitStreamException.class, () -> writer.transferFrom(reader, source.getLength() + 1L));
+            }
+        }
+
+        BitStreamReader reader = new BitStreamReader(new ByteArrayInputStream(new byte[1]), BitOrder.MSB_FIRST);
+        BitStreamWriter writer = new BitStreamWriter(new ByteArrayOutputStream());
+        assertThrows(IllegalArgumentException.class, () -> writer.transferFrom(reader, 1));
+    }
+
+    @Test
+    @DisplayName("Test writing to gathering channels")
+    public void testChannelWriter(@TempDir Path tempDir) throws IOException {
+        Random random = new Random(25);
+        byte[] payload = new byte[9000];
+        random.nextBytes(payload);
+
+        for (BitOrder bitOrder : BitOrder.values()) {
+            for (int capacity : new int[] { 1, 13, 4096 }) {
+                String context = bitOrder + ", capacity " + capacity;
+                BitStream expected = new BitStream(bitOrder);
+                Path file = tempDir.resolve(bitOrder + "-" + capacity + ".bin");
+                CountingChannel channel = new CountingChannel(FileChannel.open(file,
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING), 100);
+
+                try (BitStreamWriter writer = new BitStreamWriter(channel, capacity, bitOrder)) {
+                    for (int i = 0; i < 3000; i++) {
+                        int op = random.nextInt(20);
+                        if (op == 0) {
+                            int len = random.nextInt(3) == 0 ? payload.length : random.nextInt(30);
+                            expected.writeBytes(payload, 0, len);
+                            writer.writeBytes(payload, 0, len);
+                        } else if (op == 1) {
+                            // Flushing pads to a byte boundary
+                            writer.flush();
+                            int pad = (int) (-expected.getLengthLong() & 7);
+                            if (pad > 0) {
+                                expected.writeBits(0L, (byte) pad);
+                            }
+                        } else {
+                            byte bitCount = (byte)(random.nextInt(64) + 1);
+                            long value = random.nextLong();
+                            expected.writeBits(value, bitCount);
+                            writer.writeBits(value, bitCount);
+                        }
+                    }
+                }
+                assertFalse(channel.isOpen());
+                assertArrayEquals(expected.toByteArray(), Files.readAllBytes(file), context);
+            }
+        }
+
+        // A full ring goes out in a single gathering write
+        CountingChannel channel = new CountingChannel(Channels.newChannel(new ByteArrayOutputStream()), Integer.MAX_VALUE);
+        BitStreamWriter writer = new BitStreamWriter(channel, 64);
+        for (int i = 0; i < 16 * 8; i++) {
+            writer.writeBits(i, (byte)64);
+        }
+        assertEquals(0, channel.gatheringWrites);
+        writer.writeBits(1L, (byte)1);
+        writer.writeBits(-1L, (byte)64);
+        assertEquals(1, channel.gatheringWrites);
+        writer.flush();
+        assertEquals(2, channel.gatheringWrites);
+    }
+
+    /**
+     * A gathering channel that counts gathering writes and can limit the bytes written per call,
+     * so callers have to cope with partial writes.
+     */
+    private static final class CountingChannel implements GatheringByteChannel {
+
+        private final java.nio.channels.WritableByteChannel target;
+
+        private final int maxWrite;
+
+        private int gatheringWrites;
+
+        CountingChannel(java.nio.channels.WritableByteChannel target, int maxWrite) {
+            this.target = target;
+            this.maxWrite = maxWrite;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            gatheringWrites++;
+            long written = 0;
+            for (int i = offset; i < offset + length && written < maxWrite; i++) {
+                while (srcs[i].hasRemaining() && written < maxWrite) {
+                    written += write(srcs[i]);
+                }
+            }
+            return written;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs) throws IOException {
+            return write(srcs, 0, srcs.length);
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            ByteBuffer slice = src.slice();
+            slice.limit(Math.min(slice.remaining(), maxWrite));
+            int written = target.write(slice);
+            src.position(src.position() + written);
+            return written;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return target.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            target.close();
+        }
+    }
+}
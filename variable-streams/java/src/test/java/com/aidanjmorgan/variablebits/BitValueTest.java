@@ -0,0 +1,121 @@
+package com.aidanjmorgan.variablebits;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigInteger;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the BitValue class.
+ */
+public class BitValueTest {
+
+    @Test
+    @DisplayName("Test values are held in the type that fits the bit count")
+    public void testNarrowValues() {
+        BitValue u8Value = BitValue.newValue(0xAA, (byte)8);
+        assertEquals(0xAAL, u8Value.toUInt64());
+        assertEquals((byte)0xAA, u8Value.toInt64());
+        assertEquals(BigInteger.valueOf(0xAA), u8Value.toUnsignedBigInteger());
+        assertEquals(BigInteger.valueOf((byte)0xAA), u8Value.toBigInteger());
+
+        BitValue u12Value = BitValue.newValue(0xFFFF, (byte)12);
+        assertEquals(0xFFFL, u12Value.toUInt64());
+        assertEquals(0xFFFL, u12Value.toInt64());
+
+        BitValue i16Value = BitValue.newSignedValue(-1000, (byte)16);
+        assertEquals(-1000L, i16Value.toInt64());
+        assertEquals(0xFFFFL & -1000, i16Value.toUInt64());
+        assertTrue(i16Value.isSigned());
+
+        BitValue u64Value = BitValue.newValue(-1L, (byte)64);
+        assertEquals(-1L, u64Value.toUInt64());
+        assertEquals(BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE), u64Value.toUnsignedBigInteger());
+    }
+
+    @Test
+    @DisplayName("Test values wider than 64 bits")
+    public void testWideValues() {
+        BigInteger value = new BigInteger("1234567890ABCDEFFEDCBA0987654321", 16);
+
+        BitValue u100Value = BitValue.newBigIntegerValue(value, (byte)100, false);
+        BigInteger masked = value.and(BigInteger.ONE.shiftLeft(100).subtract(BigInteger.ONE));
+        assertEquals(masked, u100Value.toUnsignedBigInteger());
+        assertEquals(masked, u100Value.toBigInteger());
+        assertEquals(0xFEDCBA0987654321L, u100Value.toUInt64());
+        assertFalse(u100Value.isSigned());
+
+        BitValue i100Value = BitValue.newBigIntegerValue(BigInteger.valueOf(-5), (byte)100, true);
+        assertEquals(BigInteger.valueOf(-5), i100Value.toBigInteger());
+        assertEquals(-5L, i100Value.toInt64());
+        assertTrue(i100Value.isSigned());
+
+        BitValue narrowed = BitValue.newBigIntegerValue(BigInteger.valueOf(0x1FF), (byte)8, false);
+        assertEquals(BitValue.newValue(0xFF, (byte)8), narrowed);
+    }
+
+    @Test
+    @DisplayName("Test equality and hash codes match the boxed representation")
+    public void testEqualsAndHashCode() {
+        assertEquals(BitValue.newValue(0xFF, (byte)8), BitValue.fromByte((byte)-1));
+        assertEquals(BitValue.newValue(5, (byte)8), BitValue.newSignedValue(5, (byte)8));
+        assertNotEquals(BitValue.newValue(5, (byte)8), BitValue.newValue(5, (byte)9));
+        assertNotEquals(BitValue.newValue(5, (byte)8), BitValue.newValue(6, (byte)8));
+
+        assertEquals(Objects.hash((byte)-86, (byte)8), BitValue.newValue(0xAA, (byte)8).hashCode());
+        assertEquals(Objects.hash((short)-1000, (byte)16), BitValue.newSignedValue(-1000, (byte)16).hashCode());
+        assertEquals(Objects.hash(0xDDEEFF, (byte)24), BitValue.newValue(0xDDEEFF, (byte)24).hashCode());
+        assertEquals(Objects.hash(-2L, (byte)64), BitValue.fromLong(-2L).hashCode());
+
+        BigInteger value = new BigInteger("1234567890ABCDEF1234", 16);
+        assertEquals(Objects.hash(value, (byte)100), BitValue.newBigIntegerValue(value, (byte)100, false).hashCode());
+        assertEquals("-86 (8 bits, signed)", BitValue.newValue(0xAA, (byte)8).toString());
+    }
+
+    @Test
+    @DisplayName("Test wide values round trip through BitStream without BigInteger")
+    public void testWideRoundTrip() {
+        BigInteger value = new BigInteger("1234567890ABCDEFFEDCBA0987654321", 16);
+        BitValue expected = BitValue.newBigIntegerValue(value, (byte)100, false);
+
+        BitStream bitStream = new BitStream();
+        bitStream.writeBitValue(expected, null);
+        bitStream.setPosition(0);
+
+        assertEquals(expected, bitStream.readBitValue((byte)100));
+    }
+
+    @Test
+    @DisplayName("Test reading into a reusable holder matches readBitValue")
+    public void testMutableBitValue() throws Exception {
+        byte[] widths = { 3, 8, 12, 16, 31, 32, 33, 64, 65, 100, (byte)128 };
+        Random random = new Random(11);
+        byte[] data = new byte[200];
+        random.nextBytes(data);
+
+        BitStream expected = new BitStream(data);
+        BitStream actual = new BitStream(data);
+        BitStreamReader reader = new BitStreamReader(new ByteArrayInputStream(data));
+        MutableBitValue holder = new MutableBitValue();
+
+        for (byte width : widths) {
+            BitValue value = expected.readBitValue(width);
+
+            assertSame(holder, actual.readBitValue(width, holder));
+            assertEquals(width, holder.getBitCount());
+            assertEquals(value.toUInt64(), holder.toUInt64());
+            assertEquals(value.toInt64(), holder.toInt64());
+            assertEquals(value.toUnsignedBigInteger(), holder.toUnsignedBigInteger());
+            assertEquals(value.toUInt128(), holder.toUInt128());
+            assertEquals(value, holder.toBitValue());
+
+            reader.readBitValue(width, holder);
+            assertEquals(value, holder.toBitValue());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.aidanjmorgan.variablebits;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the MappedBitStream class.
+ */
+public class MappedBitStreamTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Test random reads across region boundaries against BitStream")
+    public void testRandomReads() throws IOException {
+        Random random = new Random(24);
+        byte[] bytes = new byte[20003];
+        random.nextBytes(bytes);
+        Path file = Files.write(tempDir.resolve("bits.bin"), bytes);
+
+        for (BitOrder bitOrder : BitOrder.values()) {
+            BitStream expected = new BitStream(bytes, bitOrder);
+
+            // Small regions so that reads cross many boundaries
+            try (MappedBitStream stream = new MappedBitStream(file, bitOrder, 10)) {
+                assertEquals(8L * bytes.length, stream.getLengthLong());
+
+                for (int i = 0; i < 20000; i++) {
+                    byte bitCount = (byte)(random.nextInt(64) + 1);
+                    long position = (long) (random.nextDouble() * (stream.getLengthLong() - bitCount + 1));
+                    if (i % 10 == 0) {
+                        position = stream.getLengthLong() - bitCount;
+                    }
+
+                    stream.setPosition(position);
+                    expected.setPosition(position);
+                    assertEquals(expected.readBits(bitCount), stream.readBits(bitCount),
+                            bitOrder + ", position " + position + ", bits " + bitCount);
+                    assertEquals(position + bitCount, stream.getPositionLong());
+                }
+
+                // Sequential reads to the end
+                stream.setPosition(0);
+                expected.setPosition(0);
+                while (stream.remainingBits() >= 37) {
+                    assertEquals(expected.readBits((byte)37), stream.readBits((byte)37));
+                }
+                assertThrows(BitStreamException.class, () -> stream.readBits((byte)37));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test opening, empty files and reading after close")
+    public void testOpenAndClose() throws IOException {
+        Path empty = Files.write(tempDir.resolve("empty.bin"), new byte[0]);
+        try (MappedBitStream stream = new MappedBitStream(empty)) {
+            assertTrue(stream.isEof());
+            assertThrows(BitStreamException.class, () -> stream.readBits((byte)1));
+        }
+
+        Path file = Files.write(tempDir.resolve("one.bin"), new byte[] { (byte)0xA5 });
+        MappedBitStream stream = new MappedBitStream(file, BitOrder.MSB_FIRST);
+        assertEquals(0b101L, stream.readBits((byte)3));
+        stream.close();
+        stream.close();
+        assertThrows(IllegalStateException.class, () -> stream.readBits((byte)1));
+
+        assertThrows(BitStreamException.class, () -> new MappedBitStream(tempDir.resolve("missing.bin")));
+    }
+}
@@ -0,0 +1,71 @@
+package com.aidanjmorgan.variablebits;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the MappedBitStreamWriter class.
+ */
+public class MappedBitStreamWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Test writing across window moves against BitStream")
+    public void testMatchesBitStream() throws IOException {
+        Random random = new Random(25);
+
+        for (BitOrder bitOrder : BitOrder.values()) {
+            Path file = tempDir.resolve(bitOrder + ".bin");
+            BitStream expected = new BitStream(bitOrder);
+
+            // Small windows so that the writer moves its window many times
+            try (MappedBitStreamWriter writer = new MappedBitStreamWriter(file, bitOrder, 64)) {
+                for (int i = 0; i < 3000; i++) {
+                    byte bitCount = (byte)(random.nextInt(64) + 1);
+                    long value = random.nextLong();
+                    expected.writeBits(value, bitCount);
+                    writer.writeBits(value, bitCount);
+
+                    // A forced file holds every bit so far, and writing carries on unaligned
+                    if (i % 500 == 499) {
+                        writer.force();
+                        byte[] bytes = expected.toByteArray();
+                        assertArrayEquals(bytes, Arrays.copyOf(Files.readAllBytes(file), bytes.length));
+                    }
+                }
+                assertEquals(expected.getLengthLong(), writer.getLengthLong());
+            }
+
+            // Closing truncates the file to the bytes written
+            assertArrayEquals(expected.toByteArray(), Files.readAllBytes(file), bitOrder.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Test empty files and writing after close")
+    public void testClose() throws IOException {
+        Path file = tempDir.resolve("empty.bin");
+        new MappedBitStreamWriter(file).close();
+        assertEquals(0, Files.size(file));
+
+        MappedBitStreamWriter writer = new MappedBitStreamWriter(file, BitOrder.MSB_FIRST);
+        writer.writeBits(0b101L, (byte)3);
+        writer.close();
+        writer.close();
+        assertArrayEquals(new byte[] { (byte)0xA0 }, Files.readAllBytes(file));
+
+        assertThrows(IllegalStateException.class, () -> writer.writeBits(1L, (byte)1));
+        assertThrows(IllegalStateException.class, writer::force);
+    }
+}
@@ -0,0 +1,81 @@
+package com.aidanjmorgan.variablebits;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the OffHeapBitStream class.
+ */
+public class OffHeapBitStreamTest {
+
+    @Test
+    @DisplayName("Test that the off-heap stream matches BitStream in both bit orders")
+    public void testMatchesBitStream() {
+        Random random = new Random(23);
+
+        for (BitOrder bitOrder : BitOrder.values()) {
+            BitStream expected = new BitStream(bitOrder);
+            long[] values = new long[5000];
+            byte[] widths = new byte[values.length];
+
+            try (OffHeapBitStream stream = new OffHeapBitStream(bitOrder)) {
+                for (int i = 0; i < values.length; i++) {
+                    widths[i] = (byte)(random.nextInt(64) + 1);
+                    values[i] = random.nextLong();
+                    expected.writeBits(values[i], widths[i]);
+                    stream.writeBits(values[i], widths[i]);
+                }
+                assertEquals(expected.getLengthLong(), stream.getLengthLong());
+                assertArrayEquals(expected.toByteArray(), stream.toByteArray(), bitOrder.toString());
+
+                stream.setPosition(0);
+                for (int i = 0; i < values.length; i++) {
+                    long mask = widths[i] == 64 ? -1L : (1L << widths[i]) - 1;
+                    assertEquals(values[i] & mask, stream.peekBits(widths[i]));
+                    if (i % 2 == 0) {
+                        stream.consume(widths[i]);
+                    } else {
+                        assertEquals(values[i] & mask, stream.readBits(widths[i]));
+                    }
+                }
+                assertTrue(stream.isEof());
+                assertThrows(BitStreamException.class, () -> stream.readBits((byte)1));
+                assertThrows(BitStreamException.class, () -> stream.consume((byte)1));
+
+                // Overwriting in the middle keeps the bits on either side
+                stream.setPosition(101);
+                stream.writeBits(0, (byte)50);
+                expected.setPosition(101);
+                expected.writeBits(0, (byte)50);
+                assertArrayEquals(expected.toByteArray(), stream.toByteArray());
+
+                OffHeapBitStream copy = new OffHeapBitStream(expected.toByteArray(), bitOrder);
+                assertArrayEquals(expected.toByteArray(), copy.toByteArray());
+                copy.close();
+
+                stream.reset();
+                assertTrue(stream.isEmpty());
+                stream.writeBits(0b101L, (byte)3);
+                assertEquals(1, stream.toByteArray().length);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test that a closed stream cannot be used")
+    public void testClose() {
+        OffHeapBitStream stream = new OffHeapBitStream(1 << 20, BitOrder.LSB_FIRST);
+        stream.writeBits(42L, (byte)8);
+        stream.close();
+        stream.close();
+
+        stream.setPosition(0);
+        assertThrows(IllegalStateException.class, () -> stream.readBits((byte)8));
+        assertThrows(IllegalStateException.class, () -> stream.writeBits(1L, (byte)1));
+        assertThrows(IllegalStateException.class, stream::toByteArray);
+    }
+}
@@ -0,0 +1,110 @@
+package com.aidanjmorgan.variablebits;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the UInt128 class.
+ */
+public class UInt128Test {
+
+    private static final BigInteger MOD = BigInteger.ONE.shiftLeft(128);
+
+    @Test
+    @DisplayName("Test arithmetic, bitwise and shift operations against BigInteger")
+    public void testOperationsMatchBigInteger() {
+        Random random = new Random(128);
+
+        for (int i = 0; i < 1000; i++) {
+            UInt128 a = new UInt128(random.nextLong(), random.nextLong());
+            UInt128 b = new UInt128(i % 3 == 0 ? 0L : random.nextLong(), random.nextLong());
+            BigInteger bigA = a.toBigInteger();
+            BigInteger bigB = b.toBigInteger();
+            int distance = random.nextInt(128);
+
+            assertEquals(bigA.add(bigB).mod(MOD), a.add(b).toBigInteger());
+            assertEquals(bigA.subtract(bigB).mod(MOD), a.subtract(b).toBigInteger());
+            assertEquals(bigA.and(bigB), a.and(b).toBigInteger());
+            assertEquals(bigA.or(bigB), a.or(b).toBigInteger());
+            assertEquals(bigA.xor(bigB), a.xor(b).toBigInteger());
+            assertEquals(MOD.subtract(BigInteger.ONE).subtract(bigA), a.not().toBigInteger());
+            assertEquals(bigA.shiftLeft(distance).mod(MOD), a.shiftLeft(distance).toBigInteger());
+            assertEquals(bigA.shiftRight(distance), a.shiftRight(distance).toBigInteger());
+            assertEquals(bigA.mod(BigInteger.ONE.shiftLeft(distance)), a.mask(distance).toBigInteger());
+            assertEquals(bigA.testBit(distance), a.testBit(distance));
+            assertEquals(bigA.bitLength(), a.bitLength());
+            assertEquals(Integer.signum(bigA.compareTo(bigB)), Integer.signum(a.compareTo(b)));
+            assertEquals(a, UInt128.fromBigInteger(bigA));
+        }
+
+        UInt128 value = new UInt128(0xFFL << 8, 0L);
+        assertTrue(value.testBit(72));
+        assertThrows(IllegalArgumentException.class, () -> value.testBit(128));
+        assertThrows(IllegalArgumentException.class, () -> value.testBit(200));
+        assertThrows(IllegalArgumentException.class, () -> value.testBit(-1));
+        assertThrows(IllegalArgumentException.class, () -> value.mask(129));
+    }
+
+    @Test
+    @DisplayName("Test decimal and hexadecimal conversion")
+    public void testStringConversion() {
+        Random random = new Random(7);
+
+        for (int i = 0; i < 1000; i++) {
+            UInt128 value = new UInt128(i % 4 == 0 ? 0L : random.nextLong(), random.nextLong())
+                    .shiftRight(random.nextInt(128));
+            BigInteger big = value.toBigInteger();
+
+            assertEquals(big.toString(), value.toString());
+            assertEquals(big.toString(16), value.toHexString());
+            assertEquals(value, UInt128.parse(big.toString()));
+            assertEquals(value, UInt128.parseHex(big.toString(16)));
+        }
+
+        assertEquals("340282366920938463463374607431768211455", UInt128.MAX_VALUE.toString());
+        assertEquals("ffffffffffffffffffffffffffffffff", UInt128.MAX_VALUE.toHexString());
+        assertEquals("0", UInt128.ZERO.toString());
+        assertEquals(new UInt128(0x1234567890ABCDEFL, 0xFEDCBA0987654321L),
+                UInt128.parseHex("1234567890ABCDEFFEDCBA0987654321"));
+
+        assertThrows(NumberFormatException.class, () -> UInt128.parse("340282366920938463463374607431768211456"));
+        assertThrows(NumberFormatException.class, () -> UInt128.parse("-1"));
+        assertThrows(NumberFormatException.class, () -> UInt128.parseHex("1" + "0".repeat(32)));
+    }
+
+    @Test
+    @DisplayName("Test 128-bit values round trip through every stream type")
+    public void testStreamRoundTrip() throws Exception {
+        UInt128 value = UInt128.parseHex("0123456789ABCDEFFEDCBA9876543210");
+
+        BitStream bitStream = new BitStream();
+        bitStream.writeU128(value, (byte)128);
+        bitStream.writeU128(value, (byte)100);
+        bitStream.writeU128(value, (byte)12);
+        bitStream.setPosition(0);
+        assertEquals(value, bitStream.readU128((byte)128));
+        assertEquals(value.mask(100), bitStream.readU128((byte)100));
+        assertEquals(value.mask(12), bitStream.readU128((byte)12));
+
+        java.io.ByteArrayOutputStream outputStream = new java.io.ByteArrayOutputStream();
+        try (BitStreamWriter writer = new BitStreamWriter(outputStream)) {
+            writer.writeU128(value, (byte)3);
+            writer.writeU128(value, (byte)128);
+            writer.writeU128(value, (byte)65);
+        }
+        try (BitStreamReader reader = new BitStreamReader(new java.io.ByteArrayInputStream(outputStream.toByteArray()))) {
+            assertEquals(value.mask(3), reader.readU128((byte)3));
+            assertEquals(value, reader.readU128((byte)128));
+            assertEquals(value.mask(65), reader.readU128((byte)65));
+            assertEquals(BitValue.newUInt128Value(value, (byte)128), BitValue.newBigIntegerValue(value.toBigInteger(), (byte)128, false));
+        }
+
+        assertThrows(BitStreamException.class, () -> bitStream.readU128((byte)0));
+        assertThrows(BitStreamException.class, () -> bitStream.writeU128(value, (byte)-127));
+    }
+}
@@ -0,0 +1,45 @@
+package com.aidanjmorgan.variablebits;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests for the Vector API block unpacking kernels.
+ */
+public class VectorBitPackingTest {
+
+    @Test
+    @DisplayName("Test vector kernels match the scalar kernels for every width")
+    public void testMatchesScalarKernels() {
+        BitPackingBackend.Kernel kernel = BitPackingBackend.loadVectorKernel();
+        assumeTrue(kernel != null, "The vector kernels were not built or jdk.incubator.vector is not available");
+        Random random = new Random(29);
+
+        for (int bitCount = 1; bitCount <= BitPackingBackend.VECTOR_MAX_BIT_COUNT; bitCount++) {
+            // Pack the block followed by garbage padding, which must not leak into the values
+            long[] values = new long[BitPacking.BLOCK_SIZE];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextLong();
+            }
+            long[] words = new long[bitCount + kernel.padding()];
+            for (int i = 0; i < words.length; i++) {
+                words[i] = random.nextLong();
+            }
+            BitPacking.pack(values, 0, words, 0, bitCount);
+
+            long[] expected = new long[BitPacking.BLOCK_SIZE];
+            long[] actual = new long[BitPacking.BLOCK_SIZE + 3];
+            BitPacking.unpack(words, 0, expected, 0, bitCount);
+            kernel.unpack(words, 0, actual, 3, bitCount);
+
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals(expected[i], actual[i + 3], "Value " + i + " for " + bitCount + " bits");
+            }
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.aidanjmorgan.variablebits;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Block unpacking for widths up to 32 bits using the incubating JDK Vector API. The values of
+ * one vector of lanes always lie within one vector's worth of consecutive words, so each step
+ * loads those words once, shuffles the word each value starts in (and the following word, for
+ * values that straddle two words) into its lane, then shifts and masks with per-lane counts.
+ *
+ * <p>This class lives in its own source set, compiled only by the {@code vector} build profile,
+ * so the library itself does not depend on the incubator module. {@link BitPackingBackend}
+ * loads it reflectively, and only when the {@code jdk.incubator.vector} module is present.
+ */
+final class VectorBitPacking implements BitPackingBackend.Kernel {
+
+    /**
+     * The widest value the vector kernels handle.
+     */
+    static final int MAX_BIT_COUNT = BitPackingBackend.VECTOR_MAX_BIT_COUNT;
+
+    /**
+     * The preferred species for longs on this platform.
+     */
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    /**
+     * The number of lanes, and so the number of values unpacked per step.
+     */
+    private static final int LANES = SPECIES.length();
+
+    /**
+     * The number of steps per block.
+     */
+    private static final int STEPS = BitPacking.BLOCK_SIZE / LANES;
+
+    /**
+     * Per-width, per-step index of the first word loaded.
+     */
+    private static final int[][] BASE = new int[MAX_BIT_COUNT + 1][];
+
+    /**
+     * Per-width, per-step shuffle that moves the word each value starts in into its lane.
+     */
+    private static final VectorShuffle<Long>[][] LOW_SHUFFLE = newShuffles();
+
+    /**
+     * Per-width, per-step shuffle that moves the word each value ends in into its lane.
+     */
+    private static final VectorShuffle<Long>[][] HIGH_SHUFFLE = newShuffles();
+
+    /**
+     * Per-width right shift that moves each value down from its first word.
+     */
+    private static final long[][] LOW_SHIFT = new long[MAX_BIT_COUNT + 1][];
+
+    /**
+     * Per-width left shift that moves the rest of a straddling value up from its second word.
+     */
+    private static final long[][] HIGH_SHIFT = new long[MAX_BIT_COUNT + 1][];
+
+    /**
+     * Per-width mask that keeps the second word only for values that straddle two words.
+     */
+    private static final long[][] HIGH_MASK = new long[MAX_BIT_COUNT + 1][];
+
+    static {
+        for (int bitCount = 1; bitCount <= MAX_BIT_COUNT; bitCount++) {
+            BASE[bitCount] = new int[STEPS];
+            LOW_SHUFFLE[bitCount] = newShuffleRow();
+            HIGH_SHUFFLE[bitCount] = newShuffleRow();
+            LOW_SHIFT[bitCount] = new long[BitPacking.BLOCK_SIZE];
+            HIGH_SHIFT[bitCount] = new long[BitPacking.BLOCK_SIZE];
+            HIGH_MASK[bitCount] = new long[BitPacking.BLOCK_SIZE];
+
+            for (int step = 0; step < STEPS; step++) {
+                int base = (step * LANES * bitCount) >>> 6;
+                int[] lowLanes = new int[LANES];
+                int[] highLanes = new int[LANES];
+
+                for (int lane = 0; lane < LANES; lane++) {
+                    int j = step * LANES + lane;
+                    int start = j * bitCount;
+                    int shift = start & 63;
+                    boolean straddles = shift + bitCount > 64;
+
+                    lowLanes[lane] = (start >>> 6) - base;
+                    highLanes[lane] = straddles ? lowLanes[lane] + 1 : lowLanes[lane];
+                    LOW_SHIFT[bitCount][j] = shift;
+                    HIGH_SHIFT[bitCount][j] = straddles ? 64 - shift : 0;
+                    HIGH_MASK[bitCount][j] = straddles ? -1L : 0L;
+                }
+
+                BASE[bitCount][step] = base;
+                LOW_SHUFFLE[bitCount][step] = VectorShuffle.fromArray(SPECIES, lowLanes, 0);
+                HIGH_SHUFFLE[bitCount][step] = VectorShuffle.fromArray(SPECIES, highLanes, 0);
+            }
+        }
+    }
+
+    /**
+     * Creates the kernel, called reflectively by {@link BitPackingBackend}.
+     */
+    VectorBitPacking() {
+    }
+
+    @SuppressWarnings("unchecked")
+    private static VectorShuffle<Long>[][] newShuffles() {
+        return new VectorShuffle[MAX_BIT_COUNT + 1][];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static VectorShuffle<Long>[] newShuffleRow() {
+        return new VectorShuffle[STEPS];
+    }
+
+    /**
+     * Returns whether the vector kernels are worth using on this platform, which requires at
+     * least four long lanes.
+     *
+     * @return True if the vector kernels should be used.
+     */
+    @Override
+    public boolean isProfitable() {
+        return LANES >= 4;
+    }
+
+    /**
+     * Returns the number of words the kernels may load past the end of a block. The lanes
+     * loaded from there are never used, but they must lie within the array.
+     *
+     * @return The number of words of padding required after a block.
+     */
+    @Override
+    public int padding() {
+        return LANES;
+    }
+
+    /**
+     * Unpacks a block of 64 values. The array must hold {@link #padding()} words after the block.
+     *
+     * @param words The packed block, {@code bitCount} words starting at {@code wordOffset}.
+     * @param wordOffset The index of the first packed word.
+     * @param values The array to unpack into, 64 values starting at {@code valueOffset}.
+     * @param valueOffset The index of the first value.
+     * @param bitCount The number of bits in each value (1-32).
+     */
+    @Override
+    public void unpack(long[] words, int wordOffset, long[] values, int valueOffset, int bitCount) {
+        int[] base = BASE[bitCount];
+        VectorShuffle<Long>[] lowShuffle = LOW_SHUFFLE[bitCount];
+        VectorShuffle<Long>[] highShuffle = HIGH_SHUFFLE[bitCount];
+        long[] lowShift = LOW_SHIFT[bitCount];
+        long[] highShift = HIGH_SHIFT[bitCount];
+        long[] highMask = HIGH_MASK[bitCount];
+        long mask = (1L << bitCount) - 1;
+
+        for (int step = 0, j = 0; step < STEPS; step++, j += LANES) {
+            LongVector loaded = LongVector.fromArray(SPECIES, words, wordOffset + base[step]);
+
+            LongVector low = loaded.rearrange(lowShuffle[step])
+                    .lanewise(VectorOperators.LSHR, LongVector.fromArray(SPECIES, lowShift, j));
+            LongVector high = loaded.rearrange(highShuffle[step])
+                    .lanewise(VectorOperators.LSHL, LongVector.fromArray(SPECIES, highShift, j))
+                    .and(LongVector.fromArray(SPECIES, highMask, j));
+
+            low.or(high).and(mask).intoArray(values, valueOffset + j);
+        }
+    }
+}